@@ -10,6 +10,7 @@ import dev.typr.foundations.dsl.Dialect
 import dev.typr.foundations.Fragment
 import java.sql.Connection
 import java.util.Optional
+import java.util.stream.Stream
 
 /**
  * Kotlin facade for SQL SELECT queries with type-safe operations.
@@ -105,6 +106,28 @@ class SelectBuilder<Fields, Row> internal constructor(
         return javaBuilder.toList(connection)
     }
 
+    /**
+     * Execute the query and return the results as a lazy stream, fetching [fetchSize] rows at a time.
+     * The stream holds the statement open and must be closed, e.g. with `use`.
+     */
+    fun stream(connection: Connection, fetchSize: Int = JavaSelectBuilder.DEFAULT_FETCH_SIZE): Stream<Row> {
+        return javaBuilder.stream(connection, fetchSize)
+    }
+
+    /**
+     * Execute the query and pass each row to [action] as it is read, without collecting the results.
+     */
+    fun forEach(connection: Connection, action: (Row) -> Unit) {
+        javaBuilder.forEach(connection) { row -> action(row) }
+    }
+
+    /**
+     * Execute the query and combine the rows into one value as they are read, without collecting the results.
+     */
+    fun <A> fold(connection: Connection, initial: A, f: (A, Row) -> A): A {
+        return javaBuilder.fold(connection, initial) { acc, row -> f(acc, row) }
+    }
+
     /**
      * Execute a count query.
      */
@@ -308,6 +331,20 @@ class MultisetSelectBuilder<Fields1, Fields2, Row1, Row2> internal constructor(
         }
     }
 
+    fun stream(connection: Connection, fetchSize: Int = JavaSelectBuilder.DEFAULT_FETCH_SIZE): Stream<Pair<Row1, List<Row2>>> {
+        return javaBuilder.stream(connection, fetchSize).map { javaTuple ->
+            Pair(javaTuple._1(), javaTuple._2().toList())
+        }
+    }
+
+    fun forEach(connection: Connection, action: (Pair<Row1, List<Row2>>) -> Unit) {
+        stream(connection).use { rows -> rows.forEachOrdered { row -> action(row) } }
+    }
+
+    fun <A> fold(connection: Connection, initial: A, f: (A, Pair<Row1, List<Row2>>) -> A): A {
+        return stream(connection).use { rows -> rows.iterator().asSequence().fold(initial, f) }
+    }
+
     fun count(connection: Connection): Int {
         return javaBuilder.count(connection)
     }
@@ -352,6 +389,20 @@ class LeftJoinSelectBuilder<Fields1, Fields2, Row1, Row2>(
         }
     }
 
+    fun stream(connection: Connection, fetchSize: Int = JavaSelectBuilder.DEFAULT_FETCH_SIZE): Stream<Pair<Row1, Row2?>> {
+        return javaBuilder.stream(connection, fetchSize).map { javaTuple ->
+            Pair(javaTuple._1(), javaTuple._2().orElse(null))
+        }
+    }
+
+    fun forEach(connection: Connection, action: (Pair<Row1, Row2?>) -> Unit) {
+        stream(connection).use { rows -> rows.forEachOrdered { row -> action(row) } }
+    }
+
+    fun <A> fold(connection: Connection, initial: A, f: (A, Pair<Row1, Row2?>) -> A): A {
+        return stream(connection).use { rows -> rows.iterator().asSequence().fold(initial, f) }
+    }
+
     fun count(connection: Connection): Int {
         return javaBuilder.count(connection)
     }
@@ -75,6 +75,19 @@ class UpdateBuilder<Fields, Row> internal constructor(
         return javaBuilder.executeReturning(connection)
     }
 
+    /**
+     * Update many rows, each to its own values, matched by their ID fields.
+     * The rows are written with one statement per chunk instead of one per row.
+     * Example: updateMany(rows.iterator(), { p -> listOf(p.listprice(), p.modifieddate()) }, c)
+     */
+    fun updateMany(
+        rows: Iterator<Row>,
+        fields: (Fields) -> List<SqlExpr.FieldLike<*, Row>>,
+        connection: Connection
+    ): Int {
+        return javaBuilder.updateMany(rows, { f -> fields(f).map { it.underlying } }, connection)
+    }
+
     /**
      * Get the SQL for debugging purposes. Returns null if backed by a mock repository.
      */
@@ -82,6 +95,13 @@ class UpdateBuilder<Fields, Row> internal constructor(
         return javaBuilder.sql().orElse(null)
     }
 
+    /**
+     * Get the SQL updateMany writes the rows with, for debugging purposes. Returns null if backed by a mock repository.
+     */
+    fun updateManySql(rows: List<Row>, fields: (Fields) -> List<SqlExpr.FieldLike<*, Row>>): Fragment? {
+        return javaBuilder.updateManySql(rows, { f -> fields(f).map { it.underlying } }).orElse(null)
+    }
+
     companion object {
         /**
          * Create an UpdateBuilder for a table.
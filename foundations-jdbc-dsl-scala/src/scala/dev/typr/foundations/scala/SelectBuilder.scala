@@ -27,6 +27,16 @@ sealed trait SelectBuilder[Fields, Row] {
   def limit(limit: Int): SelectBuilder[Fields, Row]
 
   def toList(using connection: Connection): List[Row]
+
+  /** Execute the query and return the results as a lazy stream, fetching `fetchSize` rows at a time. The stream holds the statement open and must be closed. */
+  def stream(fetchSize: Int = dsl.SelectBuilder.DEFAULT_FETCH_SIZE)(using connection: Connection): java.util.stream.Stream[Row]
+
+  /** Execute the query and pass each row to `action` as it is read, without collecting the results. */
+  def forEach(action: Row => Unit)(using connection: Connection): Unit
+
+  /** Execute the query and combine the rows into one value as they are read, without collecting the results. */
+  def fold[A](initial: A)(f: (A, Row) => A)(using connection: Connection): A
+
   def count(using connection: Connection): Int
   def sql(): Option[Fragment]
 
@@ -158,6 +168,18 @@ object SelectBuilder {
       javaBuilder.toList(connection).asScala.toList.map(rowBij.from)
     }
 
+    def stream(fetchSize: Int)(using connection: Connection): java.util.stream.Stream[ScalaRow] = {
+      javaBuilder.stream(connection, fetchSize).map(row => rowBij.from(row))
+    }
+
+    def forEach(action: ScalaRow => Unit)(using connection: Connection): Unit = {
+      javaBuilder.forEach(connection, row => action(rowBij.from(row)))
+    }
+
+    def fold[A](initial: A)(f: (A, ScalaRow) => A)(using connection: Connection): A = {
+      javaBuilder.fold(connection, initial, (acc: A, row: JavaRow) => f(acc, rowBij.from(row)))
+    }
+
     def count(using connection: Connection): Int = {
       javaBuilder.count(connection)
     }
@@ -53,9 +53,26 @@ class UpdateBuilder[Fields, Row] private[scala] (
     javaBuilder.executeReturning(connection).asScala.toList
   }
 
+  def updateMany(rows: Iterator[Row], fields: Fields => List[SqlExpr.FieldLike[?, Row]])(using connection: Connection): Int = {
+    javaBuilder.updateMany(
+      rows.asJava,
+      (f: Fields) => fields(f).map(field => field.underlying: dsl.SqlExpr.FieldLike[?, Row]).asJava,
+      connection
+    )
+  }
+
   def sql(): Option[Fragment] = {
     javaBuilder.sql().toScala
   }
+
+  def updateManySql(rows: List[Row], fields: Fields => List[SqlExpr.FieldLike[?, Row]]): Option[Fragment] = {
+    javaBuilder
+      .updateManySql(
+        rows.asJava,
+        (f: Fields) => fields(f).map(field => field.underlying: dsl.SqlExpr.FieldLike[?, Row]).asJava
+      )
+      .toScala
+  }
 }
 
 object UpdateBuilder {
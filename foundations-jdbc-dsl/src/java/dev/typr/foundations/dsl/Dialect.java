@@ -33,12 +33,22 @@ public interface Dialect {
    * ONLY
    */
   default String limitClause(int n) {
-    return "LIMIT " + n;
+    return limitClause(Fragment.lit(Integer.toString(n))).render();
   }
 
   /** Generate SQL fragment for OFFSET clause. PostgreSQL/MariaDB: OFFSET n Oracle: OFFSET n ROWS */
   default String offsetClause(int n) {
-    return "OFFSET " + n;
+    return offsetClause(Fragment.lit(Integer.toString(n))).render();
+  }
+
+  /** LIMIT clause around a row count, which may be a literal or a parameter. */
+  default Fragment limitClause(Fragment n) {
+    return Fragment.lit("LIMIT ").append(n);
+  }
+
+  /** OFFSET clause around a row count, which may be a literal or a parameter. */
+  default Fragment offsetClause(Fragment n) {
+    return Fragment.lit("OFFSET ").append(n);
   }
 
   /**
@@ -52,8 +62,8 @@ public interface Dialect {
    * @param subquery the base subquery fragment (after WHERE, before ORDER BY/OFFSET/LIMIT)
    * @param alias the table alias for column references
    * @param queryIsAlreadyOrdered true if the query already has an ORDER BY clause
-   * @param limit optional limit value
-   * @param offset optional offset value
+   * @param limit optional limit, a literal or a parameter
+   * @param offset optional offset, a literal or a parameter
    * @param fields list of fields (used to find ID column for default ORDER BY when needed)
    * @return the subquery with OFFSET, LIMIT (and possibly ORDER BY) appended
    */
@@ -61,18 +71,18 @@ public interface Dialect {
       Fragment subquery,
       String alias,
       boolean queryIsAlreadyOrdered,
-      java.util.Optional<Integer> limit,
-      java.util.Optional<Integer> offset,
+      java.util.Optional<Fragment> limit,
+      java.util.Optional<Fragment> offset,
       java.util.List<? extends SqlExpr.FieldLike<?, ?>> fields) {
 
     // Add OFFSET if present
     if (offset.isPresent()) {
-      subquery = subquery.append(Fragment.lit(" " + offsetClause(offset.get())));
+      subquery = subquery.append(Fragment.lit(" ")).append(offsetClause(offset.get()));
     }
 
     // Add LIMIT if present
     if (limit.isPresent()) {
-      subquery = subquery.append(Fragment.lit(" " + limitClause(limit.get())));
+      subquery = subquery.append(Fragment.lit(" ")).append(limitClause(limit.get()));
     }
 
     return subquery;
@@ -164,6 +174,18 @@ public interface Dialect {
     return true;
   }
 
+  /**
+   * Whether a list of values can be bound as one array parameter, as in {@code col = ANY(?)}.
+   * PostgreSQL and DuckDB support this. Other dialects bind an IN list with one parameter per
+   * value, and pad the list to a {@link dev.typr.foundations.InList#bucketSize bucket size} so that
+   * lists of similar lengths share a statement.
+   *
+   * @return true if array parameters are supported
+   */
+  default boolean supportsArrayBinds() {
+    return false;
+  }
+
   /**
    * Render a tuple IN expression with literal values. Chooses between native tuple IN syntax and
    * EXISTS pattern based on dialect support and nullability.
@@ -303,6 +325,87 @@ public interface Dialect {
         .append(Fragment.lit(")"));
   }
 
+  /**
+   * The most bind parameters one statement may have. Statements with parameters for every row, such
+   * as {@link UpdateBuilder#updateMany}, are split into chunks which stay below it.
+   *
+   * @return the parameter limit of the database
+   */
+  default int maxBindParameters() {
+    return Short.MAX_VALUE;
+  }
+
+  /**
+   * Render an UPDATE which gives each of many rows its own values, in one statement. The rows are a
+   * derived table {@code v} with columns {@code c1, c2, ...}: the key values of a row, then its new
+   * values. The table's rows are matched to them by {@code matches} and updated by {@code
+   * assignments}, which refer to those columns as {@code v.c1, v.c2, ...}.
+   *
+   * <p>Renders {@code UPDATE t SET ... FROM (VALUES ...) AS v(c1, ...) WHERE ...}. Dialects without
+   * UPDATE ... FROM render a join or a MERGE instead.
+   *
+   * @param tableName the table to update
+   * @param rows the rows of v (already rendered)
+   * @param matches the conditions matching a row of the table to a row of v (already rendered)
+   * @param assignments the SET assignments (already rendered)
+   * @param filter an additional condition on the rows to update
+   * @return Fragment for the complete statement
+   */
+  default Fragment renderUpdateFromValues(
+      String tableName,
+      List<List<Fragment>> rows,
+      List<Fragment> matches,
+      List<Fragment> assignments,
+      java.util.Optional<Fragment> filter) {
+    Fragment where = Fragment.and(matches);
+    if (filter.isPresent()) {
+      where = where.append(Fragment.lit(" AND ")).append(Fragment.parentheses(filter.get()));
+    }
+    return Fragment.lit("UPDATE " + tableName + " SET ")
+        .append(Fragment.comma(assignments))
+        .append(Fragment.lit(" FROM ("))
+        .append(valuesRows(rows))
+        .append(Fragment.lit(") AS v(" + valuesColumns(rows.get(0).size()) + ") WHERE "))
+        .append(where);
+  }
+
+  /** {@code VALUES (?, ?), (?, ?)} for the rows of a derived table. */
+  private static Fragment valuesRows(List<List<Fragment>> rows) {
+    List<Fragment> valueRows = new ArrayList<>();
+    for (List<Fragment> row : rows) {
+      valueRows.add(Fragment.parentheses(Fragment.comma(row)));
+    }
+    return Fragment.lit("VALUES ").append(Fragment.comma(valueRows));
+  }
+
+  /**
+   * {@code SELECT ? AS c1, ? AS c2 UNION ALL SELECT ?, ?} for the rows of a derived table, for
+   * dialects which cannot name the columns of VALUES. {@code from} follows each SELECT.
+   */
+  private static Fragment selectRows(List<List<Fragment>> rows, String from) {
+    List<Fragment> selects = new ArrayList<>();
+    for (List<Fragment> row : rows) {
+      List<Fragment> values = new ArrayList<>();
+      for (int i = 0; i < row.size(); i++) {
+        values.add(
+            selects.isEmpty() ? row.get(i).append(Fragment.lit(" AS c" + (i + 1))) : row.get(i));
+      }
+      selects.add(
+          Fragment.lit("SELECT ").append(Fragment.comma(values)).append(Fragment.lit(from)));
+    }
+    return Fragment.join(selects, Fragment.lit(" UNION ALL "));
+  }
+
+  /** {@code c1, c2, ...}, the column names of a derived table. */
+  private static String valuesColumns(int numCols) {
+    StringBuilder colAliases = new StringBuilder();
+    for (int i = 0; i < numCols; i++) {
+      if (i > 0) colAliases.append(", ");
+      colAliases.append("c").append(i + 1);
+    }
+    return colAliases.toString();
+  }
+
   /**
    * Quote a table name for SQL, handling schema.table format and special characters. Each part is
    * quoted if it contains special characters or is not already quoted.
@@ -412,6 +515,11 @@ public interface Dialect {
               .append(Fragment.comma(rightCols))
               .append(Fragment.lit("))"));
         }
+
+        @Override
+        public boolean supportsArrayBinds() {
+          return true;
+        }
       };
 
   /** MariaDB dialect - uses backticks for identifiers and CAST() for casts. */
@@ -492,21 +600,44 @@ public interface Dialect {
             Fragment subquery,
             String alias,
             boolean queryIsAlreadyOrdered,
-            java.util.Optional<Integer> limit,
-            java.util.Optional<Integer> offset,
+            java.util.Optional<Fragment> limit,
+            java.util.Optional<Fragment> offset,
             java.util.List<? extends SqlExpr.FieldLike<?, ?>> fields) {
 
           // MariaDB uses LIMIT before OFFSET: LIMIT n OFFSET m
           if (limit.isPresent()) {
-            subquery = subquery.append(Fragment.lit(" " + limitClause(limit.get())));
+            subquery = subquery.append(Fragment.lit(" ")).append(limitClause(limit.get()));
           }
 
           if (offset.isPresent()) {
-            subquery = subquery.append(Fragment.lit(" " + offsetClause(offset.get())));
+            subquery = subquery.append(Fragment.lit(" ")).append(offsetClause(offset.get()));
           }
 
           return subquery;
         }
+
+        @Override
+        public int maxBindParameters() {
+          return 65535;
+        }
+
+        @Override
+        public Fragment renderUpdateFromValues(
+            String tableName,
+            List<List<Fragment>> rows,
+            List<Fragment> matches,
+            List<Fragment> assignments,
+            java.util.Optional<Fragment> filter) {
+          // MariaDB: UPDATE t JOIN (SELECT ... UNION ALL ...) AS v ON ... SET ...
+          Fragment update =
+              Fragment.lit("UPDATE " + tableName + " JOIN (")
+                  .append(selectRows(rows, ""))
+                  .append(Fragment.lit(") AS v ON "))
+                  .append(Fragment.and(matches))
+                  .append(Fragment.lit(" SET "))
+                  .append(Fragment.comma(assignments));
+          return filter.map(f -> update.append(Fragment.lit(" WHERE ")).append(f)).orElse(update);
+        }
       };
 
   /**
@@ -564,6 +695,11 @@ public interface Dialect {
           return false;
         }
 
+        @Override
+        public boolean supportsArrayBinds() {
+          return true;
+        }
+
         // DuckDB doesn't support tuple IS NOT DISTINCT FROM, uses default column-by-column
       };
 
@@ -596,15 +732,15 @@ public interface Dialect {
         }
 
         @Override
-        public String limitClause(int n) {
+        public Fragment limitClause(Fragment n) {
           // Oracle 12c+ syntax
-          return "FETCH FIRST " + n + " ROWS ONLY";
+          return Fragment.lit("FETCH FIRST ").append(n).append(Fragment.lit(" ROWS ONLY"));
         }
 
         @Override
-        public String offsetClause(int n) {
+        public Fragment offsetClause(Fragment n) {
           // Oracle 12c+ syntax
-          return "OFFSET " + n + " ROWS";
+          return Fragment.lit("OFFSET ").append(n).append(Fragment.lit(" ROWS"));
         }
 
         @Override
@@ -628,6 +764,29 @@ public interface Dialect {
               .append(Fragment.lit(", 1, 0) = 0)"));
         }
 
+        @Override
+        public int maxBindParameters() {
+          return 65535;
+        }
+
+        @Override
+        public Fragment renderUpdateFromValues(
+            String tableName,
+            List<List<Fragment>> rows,
+            List<Fragment> matches,
+            List<Fragment> assignments,
+            java.util.Optional<Fragment> filter) {
+          // Oracle has no UPDATE ... FROM: MERGE INTO t USING (SELECT ... FROM dual ...) v
+          Fragment merge =
+              Fragment.lit("MERGE INTO " + tableName + " USING (")
+                  .append(selectRows(rows, " FROM dual"))
+                  .append(Fragment.lit(") v ON ("))
+                  .append(Fragment.and(matches))
+                  .append(Fragment.lit(") WHEN MATCHED THEN UPDATE SET "))
+                  .append(Fragment.comma(assignments));
+          return filter.map(f -> merge.append(Fragment.lit(" WHERE ")).append(f)).orElse(merge);
+        }
+
         // Oracle uses default column-by-column for tuples
       };
 
@@ -659,15 +818,15 @@ public interface Dialect {
         }
 
         @Override
-        public String limitClause(int n) {
+        public Fragment limitClause(Fragment n) {
           // SQL Server uses FETCH NEXT syntax (requires ORDER BY and OFFSET in query)
-          return "FETCH NEXT " + n + " ROWS ONLY";
+          return Fragment.lit("FETCH NEXT ").append(n).append(Fragment.lit(" ROWS ONLY"));
         }
 
         @Override
-        public String offsetClause(int n) {
+        public Fragment offsetClause(Fragment n) {
           // SQL Server uses OFFSET with ROWS
-          return "OFFSET " + n + " ROWS";
+          return Fragment.lit("OFFSET ").append(n).append(Fragment.lit(" ROWS"));
         }
 
         @Override
@@ -675,8 +834,8 @@ public interface Dialect {
             Fragment subquery,
             String alias,
             boolean queryIsAlreadyOrdered,
-            java.util.Optional<Integer> limit,
-            java.util.Optional<Integer> offset,
+            java.util.Optional<Fragment> limit,
+            java.util.Optional<Fragment> offset,
             java.util.List<? extends SqlExpr.FieldLike<?, ?>> fields) {
 
           // SQL Server requires ORDER BY for OFFSET...FETCH syntax
@@ -691,13 +850,13 @@ public interface Dialect {
 
           // SQL Server requires OFFSET when using FETCH, default to 0 if only limit specified
           if (offset.isPresent()) {
-            subquery = subquery.append(Fragment.lit(" " + offsetClause(offset.get())));
+            subquery = subquery.append(Fragment.lit(" ")).append(offsetClause(offset.get()));
           } else if (limit.isPresent()) {
-            subquery = subquery.append(Fragment.lit(" " + offsetClause(0)));
+            subquery = subquery.append(Fragment.lit(" ")).append(offsetClause(Fragment.lit("0")));
           }
 
           if (limit.isPresent()) {
-            subquery = subquery.append(Fragment.lit(" " + limitClause(limit.get())));
+            subquery = subquery.append(Fragment.lit(" ")).append(limitClause(limit.get()));
           }
 
           return subquery;
@@ -745,6 +904,30 @@ public interface Dialect {
           return false;
         }
 
+        @Override
+        public int maxBindParameters() {
+          // The limit is 2100, which the driver's own parameters for sp_prepexec count against too
+          return 2000;
+        }
+
+        @Override
+        public Fragment renderUpdateFromValues(
+            String tableName,
+            List<List<Fragment>> rows,
+            List<Fragment> matches,
+            List<Fragment> assignments,
+            java.util.Optional<Fragment> filter) {
+          // SQL Server: UPDATE t SET ... FROM t JOIN (VALUES ...) AS v(...) ON ...
+          Fragment update =
+              Fragment.lit("UPDATE " + tableName + " SET ")
+                  .append(Fragment.comma(assignments))
+                  .append(Fragment.lit(" FROM " + tableName + " JOIN ("))
+                  .append(valuesRows(rows))
+                  .append(Fragment.lit(") AS v(" + valuesColumns(rows.get(0).size()) + ") ON "))
+                  .append(Fragment.and(matches));
+          return filter.map(f -> update.append(Fragment.lit(" WHERE ")).append(f)).orElse(update);
+        }
+
         // SQL Server uses default column-by-column for tuples
       };
 
@@ -779,15 +962,15 @@ public interface Dialect {
         }
 
         @Override
-        public String limitClause(int n) {
+        public Fragment limitClause(Fragment n) {
           // DB2 uses FETCH FIRST syntax
-          return "FETCH FIRST " + n + " ROWS ONLY";
+          return Fragment.lit("FETCH FIRST ").append(n).append(Fragment.lit(" ROWS ONLY"));
         }
 
         @Override
-        public String offsetClause(int n) {
+        public Fragment offsetClause(Fragment n) {
           // DB2 uses OFFSET with ROWS
-          return "OFFSET " + n + " ROWS";
+          return Fragment.lit("OFFSET ").append(n).append(Fragment.lit(" ROWS"));
         }
 
         @Override
@@ -817,6 +1000,28 @@ public interface Dialect {
           return false;
         }
 
+        @Override
+        public Fragment renderUpdateFromValues(
+            String tableName,
+            List<List<Fragment>> rows,
+            List<Fragment> matches,
+            List<Fragment> assignments,
+            java.util.Optional<Fragment> filter) {
+          // DB2 has no UPDATE ... FROM: MERGE INTO t USING (VALUES ...) AS v(...)
+          Fragment merge =
+              Fragment.lit("MERGE INTO " + tableName + " USING (")
+                  .append(valuesRows(rows))
+                  .append(Fragment.lit(") AS v(" + valuesColumns(rows.get(0).size()) + ") ON "))
+                  .append(Fragment.and(matches))
+                  .append(Fragment.lit(" WHEN MATCHED"));
+          if (filter.isPresent()) {
+            merge = merge.append(Fragment.lit(" AND ")).append(filter.get());
+          }
+          return merge
+              .append(Fragment.lit(" THEN UPDATE SET "))
+              .append(Fragment.comma(assignments));
+        }
+
         // DB2 uses default column-by-column for tuples
       };
 }
@@ -8,6 +8,7 @@ import java.sql.Connection;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Mock implementation of GroupedBuilder for in-memory testing.
@@ -144,6 +145,11 @@ public class GroupedBuilderMock<Fields, Row> implements GroupedBuilder<Fields, R
       return SelectBuilderMock.applyParams(structure(), results, params);
     }
 
+    @Override
+    public Stream<NewRow> stream(Connection connection, int fetchSize) {
+      return toList(connection).stream();
+    }
+
     @Override
     public int count(Connection connection) {
       return toList(connection).size();
@@ -242,6 +242,11 @@ public class GroupedBuilderSql<Fields, Row> implements GroupedBuilder<Fields, Ro
       return new GroupedBuilderSql<>(this, groupKeys);
     }
 
+    @Override
+    protected Fragment countSql() {
+      return SelectBuilderSql.wrapInCount(getSqlAndRowParser()._1());
+    }
+
     @Override
     protected Tuple.Tuple2<Fragment, RowParser<NewRow>> getSqlAndRowParser() {
       RenderCtx ctx = RenderCtx.from(source, dialect());
@@ -406,8 +411,8 @@ public class GroupedBuilderSql<Fields, Row> implements GroupedBuilder<Fields, Ro
                   subquery,
                   simple.alias(),
                   simple.orderByFragment().isPresent(),
-                  simple.limit(),
-                  simple.offset(),
+                  SelectBuilderSql.literalCount(simple.limit()),
+                  SelectBuilderSql.literalCount(simple.offset()),
                   SelectBuilderSql.extractFields(simple.columns()));
 
           yield subquery.append(Fragment.lit(") ")).append(Fragment.lit(simple.alias()));
@@ -0,0 +1,142 @@
+package dev.typr.foundations.dsl;
+
+import dev.typr.foundations.Transactor;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads all rows of a query page by page with keyset pagination. The first page is ordered by the
+ * order keys, and every following page seeks past the key values of the last row read, so each page
+ * costs the same however far into the table the scan is. With OFFSET, page {@code n} would read and
+ * discard {@code n * pageSize} rows.
+ *
+ * <p>Each page is fetched with {@link Transactor#execute}, in a transaction of its own. A long scan
+ * therefore never holds one snapshot open, and a page which fails with a retryable error is retried
+ * according to the transactor's retry policy.
+ *
+ * <p>Created with {@link SelectBuilder#scan}.
+ */
+final class KeysetScan<Fields, Row> implements Iterator<Row> {
+  private final SelectBuilder<Fields, Row> query;
+  private final Transactor tx;
+  private final List<Function<Fields, SortOrder<?>>> orderKeys;
+  private final int pageSize;
+
+  private Iterator<Row> page = Collections.emptyIterator();
+  private Row lastRow;
+  private boolean lastPage;
+
+  private KeysetScan(
+      SelectBuilder<Fields, Row> query,
+      Transactor tx,
+      List<Function<Fields, SortOrder<?>>> orderKeys,
+      int pageSize) {
+    this.query = query;
+    this.tx = tx;
+    this.orderKeys = orderKeys;
+    this.pageSize = pageSize;
+  }
+
+  static <Fields, Row> Stream<Row> stream(
+      SelectBuilder<Fields, Row> query,
+      Transactor tx,
+      List<Function<Fields, SortOrder<?>>> orderKeys,
+      int pageSize) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("pageSize must be positive, got " + pageSize);
+    }
+    if (orderKeys.isEmpty()) {
+      throw new IllegalArgumentException("scan requires at least one order key");
+    }
+    SelectParams<Fields, Row> params = query.params();
+    if (!params.orderBy().isEmpty() || params.limit().isPresent() || params.offset().isPresent()) {
+      throw new IllegalArgumentException(
+          "scan sets the order and limit of the query itself. Remove orderBy, seek, limit and"
+              + " offset from the query");
+    }
+    Fields fields = query.structure().fields();
+    for (Function<Fields, SortOrder<?>> key : orderKeys) {
+      SqlExpr<?> expr = key.apply(fields).expr();
+      if (!(expr instanceof SqlExpr.FieldLike<?, ?>)) {
+        throw new IllegalArgumentException("scan order keys must be columns, got " + expr);
+      }
+    }
+    KeysetScan<Fields, Row> scan = new KeysetScan<>(query, tx, List.copyOf(orderKeys), pageSize);
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(scan, Spliterator.ORDERED | Spliterator.NONNULL),
+        false);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!page.hasNext()) {
+      if (lastPage) {
+        return false;
+      }
+      List<Row> rows = fetchPage();
+      lastPage = rows.size() < pageSize;
+      if (rows.isEmpty()) {
+        return false;
+      }
+      lastRow = rows.getLast();
+      page = rows.iterator();
+    }
+    return true;
+  }
+
+  @Override
+  public Row next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return page.next();
+  }
+
+  private List<Row> fetchPage() {
+    SelectBuilder<Fields, Row> pageQuery = query;
+    for (Function<Fields, SortOrder<?>> key : orderKeys) {
+      pageQuery = lastRow == null ? orderBy(pageQuery, key) : seekPast(pageQuery, key, lastRow);
+    }
+    SelectBuilder<Fields, Row> limited = pageQuery.limit(pageSize);
+    try {
+      return tx.execute(limited::toList);
+    } catch (SQLException e) {
+      throw new RuntimeException("Failed to fetch page of keyset scan", e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <Fields, Row, T> SelectBuilder<Fields, Row> orderBy(
+      SelectBuilder<Fields, Row> query, Function<Fields, SortOrder<?>> key) {
+    return query.orderBy((Function<Fields, SortOrder<T>>) (Function<Fields, ?>) key);
+  }
+
+  /** Order by {@code key}, keeping only rows after the value {@code row} has for it. */
+  @SuppressWarnings("unchecked")
+  private static <Fields, Row, T> SelectBuilder<Fields, Row> seekPast(
+      SelectBuilder<Fields, Row> query, Function<Fields, SortOrder<?>> key, Row row) {
+    Function<Fields, SortOrder<T>> orderFunc =
+        (Function<Fields, SortOrder<T>>) (Function<Fields, ?>) key;
+    Structure<Fields, Row> structure = query.structure();
+    SqlExpr.FieldLike<T, ?> field =
+        (SqlExpr.FieldLike<T, ?>) orderFunc.apply(structure.fields()).expr();
+    T value =
+        structure
+            .untypedGetFieldValue(field, row)
+            .orElseThrow(
+                () ->
+                    new IllegalStateException(
+                        "Cannot scan past a null value of order key "
+                            + field.column()
+                            + ". Use non-nullable columns as scan keys"));
+    return query.seek(orderFunc, new SqlExpr.ConstReq<>(value, field.dbType()));
+  }
+}
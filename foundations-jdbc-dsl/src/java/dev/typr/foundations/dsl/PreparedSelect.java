@@ -0,0 +1,222 @@
+package dev.typr.foundations.dsl;
+
+import dev.typr.foundations.DbType;
+import dev.typr.foundations.Fragment;
+import dev.typr.foundations.RowParser;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A query which is built and rendered once, and executed many times with different parameter
+ * values. Parameters are {@link SqlExpr.Param} expressions used in place of constants.
+ *
+ * <p>Created with {@link SelectBuilder#prepare}:
+ *
+ * <pre>{@code
+ * var customerId = new SqlExpr.Param<>("customerId", CustomerId.pgType);
+ * PreparedSelect<CustomerId, OrderRow> ordersOf =
+ *     orderRepo.select().where(o -> o.customerId().isEqual(customerId)).prepare(customerId);
+ *
+ * List<OrderRow> orders = ordersOf.toList(c, new CustomerId(42));
+ * }</pre>
+ *
+ * <p>The SQL and row parser are kept, so an execution only binds values. For a query executed
+ * repeatedly on the same connection, {@link #open} also keeps the {@link PreparedStatement}.
+ *
+ * @param <P> the parameter values: the value of a single parameter, or a tuple of values
+ * @param <Row> the row type
+ */
+public final class PreparedSelect<P, Row> {
+  private final List<SqlExpr.Param<?>> params;
+  private final Function<P, Object[]> values;
+  // The rendered statement split at parameters: a fixed fragment, or null where parameter
+  // paramIndexes[i] goes
+  private final Fragment[] parts;
+  private final int[] paramIndexes;
+  private final String sql;
+  private final RowParser<Row> rowParser;
+
+  private PreparedSelect(
+      List<SqlExpr.Param<?>> params,
+      Function<P, Object[]> values,
+      Fragment[] parts,
+      int[] paramIndexes,
+      String sql,
+      RowParser<Row> rowParser) {
+    this.params = params;
+    this.values = values;
+    this.parts = parts;
+    this.paramIndexes = paramIndexes;
+    this.sql = sql;
+    this.rowParser = rowParser;
+  }
+
+  static <P, Row> PreparedSelect<P, Row> of(
+      SelectBuilder<?, Row> builder, List<SqlExpr.Param<?>> params, Function<P, Object[]> values) {
+    if (!(builder instanceof SelectBuilderSql<?, Row> sqlBuilder)) {
+      throw new UnsupportedOperationException("prepare requires a SQL-backed SelectBuilder");
+    }
+    for (int i = 0; i < params.size(); i++) {
+      if (params.indexOf(params.get(i)) != i) {
+        throw new IllegalArgumentException(
+            "Param " + params.get(i).name() + " is passed to prepare more than once");
+      }
+    }
+    var sqlAndParser = sqlBuilder.getSqlAndRowParser();
+    Fragment fragment = sqlAndParser._1();
+
+    List<Fragment> parts = new ArrayList<>();
+    List<Integer> paramIndexes = new ArrayList<>();
+    boolean[] used = new boolean[params.size()];
+    split(fragment, params, used, parts, paramIndexes);
+    for (int i = 0; i < params.size(); i++) {
+      if (!used[i]) {
+        throw new IllegalArgumentException(
+            "Param " + params.get(i).name() + " is not used in the query");
+      }
+    }
+    return new PreparedSelect<>(
+        List.copyOf(params),
+        values,
+        parts.toArray(Fragment[]::new),
+        paramIndexes.stream().mapToInt(Integer::intValue).toArray(),
+        fragment.render(),
+        sqlAndParser._2());
+  }
+
+  private static void split(
+      Fragment fragment,
+      List<SqlExpr.Param<?>> params,
+      boolean[] used,
+      List<Fragment> parts,
+      List<Integer> paramIndexes) {
+    switch (fragment) {
+      case Fragment.Append append -> {
+        split(append.a(), params, used, parts, paramIndexes);
+        split(append.b(), params, used, parts, paramIndexes);
+      }
+      case Fragment.Concat concat -> {
+        for (Fragment frag : concat.frags()) {
+          split(frag, params, used, parts, paramIndexes);
+        }
+      }
+      case Fragment.Value<?> value when value.value() instanceof SqlExpr.Param<?> param -> {
+        int index = params.indexOf(param);
+        if (index < 0) {
+          throw new IllegalArgumentException(
+              "Param " + param.name() + " is used in the query but not passed to prepare");
+        }
+        used[index] = true;
+        parts.add(null);
+        paramIndexes.add(index);
+      }
+      default -> {
+        parts.add(fragment);
+        paramIndexes.add(-1);
+      }
+    }
+  }
+
+  /** The parameters, in the order their values are given. */
+  public List<SqlExpr.Param<?>> params() {
+    return params;
+  }
+
+  /** The row parser for the query results. */
+  public RowParser<Row> rowParser() {
+    return rowParser;
+  }
+
+  /** The SQL with the given parameter values bound. */
+  @SuppressWarnings("unchecked")
+  public Fragment sql(P paramValues) {
+    Object[] bound = values.apply(paramValues);
+    List<Fragment> result = new ArrayList<>(parts.length);
+    for (int i = 0; i < parts.length; i++) {
+      int index = paramIndexes[i];
+      result.add(
+          index < 0
+              ? parts[i]
+              : Fragment.value(bound[index], (DbType<Object>) params.get(index).dbType()));
+    }
+    return new Fragment.Concat(result);
+  }
+
+  /** Execute the query with the given parameter values. */
+  public List<Row> toList(Connection connection, P paramValues) {
+    try (PreparedStatement ps = connection.prepareStatement(sql)) {
+      return execute(ps, paramValues);
+    } catch (SQLException e) {
+      throw new RuntimeException("Failed to execute query: " + sql, e);
+    }
+  }
+
+  /**
+   * Prepare the statement on a connection, for executing the query repeatedly without preparing it
+   * again. The returned statement must be closed, and is only valid while the connection is open.
+   */
+  public Statement<P, Row> open(Connection connection) {
+    try {
+      return new Statement<>(this, connection.prepareStatement(sql));
+    } catch (SQLException e) {
+      throw new RuntimeException("Failed to prepare query: " + sql, e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Row> execute(PreparedStatement ps, P paramValues) throws SQLException {
+    Object[] bound = values.apply(paramValues);
+    AtomicInteger idx = new AtomicInteger(1);
+    for (int i = 0; i < parts.length; i++) {
+      int index = paramIndexes[i];
+      if (index < 0) {
+        parts[i].set(ps, idx);
+      } else {
+        DbType<Object> dbType = (DbType<Object>) params.get(index).dbType();
+        dbType.write().set(ps, idx.getAndIncrement(), bound[index]);
+      }
+    }
+    try (ResultSet rs = ps.executeQuery()) {
+      List<Row> results = new ArrayList<>();
+      while (rs.next()) {
+        results.add(rowParser.parse(rs));
+      }
+      return results;
+    }
+  }
+
+  /** A {@link PreparedSelect} prepared on one connection. */
+  public static final class Statement<P, Row> implements AutoCloseable {
+    private final PreparedSelect<P, Row> query;
+    private final PreparedStatement ps;
+
+    private Statement(PreparedSelect<P, Row> query, PreparedStatement ps) {
+      this.query = query;
+      this.ps = ps;
+    }
+
+    /** Execute the query with the given parameter values. */
+    public List<Row> toList(P paramValues) {
+      try {
+        return query.execute(ps, paramValues);
+      } catch (SQLException e) {
+        throw new RuntimeException("Failed to execute query: " + query.sql, e);
+      }
+    }
+
+    @Override
+    public void close() {
+      try {
+        ps.close();
+      } catch (SQLException e) {
+        throw new RuntimeException("Failed to close statement", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,469 @@
+package dev.typr.foundations.dsl;
+
+import dev.typr.foundations.Fragment;
+import dev.typr.foundations.dsl.SelectBuilderSql.ColumnTuple;
+import dev.typr.foundations.dsl.SelectBuilderSql.CompositeTableState;
+import dev.typr.foundations.dsl.SelectBuilderSql.JoinInfo;
+import dev.typr.foundations.dsl.SelectBuilderSql.Query;
+import dev.typr.foundations.dsl.SelectBuilderSql.SimpleTableState;
+import dev.typr.foundations.dsl.SelectBuilderSql.TableState;
+import dev.typr.foundations.dsl.internal.LogicalPlan;
+import dev.typr.foundations.dsl.internal.LogicalPlan.ColRef;
+import dev.typr.foundations.dsl.internal.LogicalPlan.ColumnMeta;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Expr;
+import dev.typr.foundations.dsl.internal.LogicalPlan.SourceId;
+import dev.typr.foundations.dsl.internal.PlanOptimizer;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Turns a collected {@link Query} into a {@link LogicalPlan}, optimizes it with {@link
+ * PlanOptimizer} and renders the result.
+ *
+ * <p>Sources are identified by their table alias. Predicates, sort keys and projections are kept as
+ * {@link Expr.Wrapped} expressions and rendered with the usual {@link SqlExpr#render}, so the plan
+ * only decides where each piece goes.
+ */
+final class QueryPlanner {
+  private final RenderCtx ctx;
+  private final RenderCtx joinCtx;
+  private final AtomicInteger counter;
+  private final OrderByOrSeek.ExpandResult topLevel;
+  // Counting rows: sorts which no limit depends on are left out of the plan
+  private final boolean forCount;
+  private final Map<String, String> aliasMap;
+  private final Set<SourceId> allSources = new LinkedHashSet<>();
+  private final Map<SourceId, TableState> tables = new HashMap<>();
+  private final Map<ColRef, ColumnMeta> columns = new HashMap<>();
+  private final IdentityHashMap<SqlExpr<?>, JoinInfo> joinConditions = new IdentityHashMap<>();
+  // Where the limit at the root of the plan came from, see appendPagination
+  private Object rootLimitSource;
+
+  private QueryPlanner(
+      Query<?, ?> query,
+      OrderByOrSeek.ExpandResult topLevel,
+      boolean forCount,
+      RenderCtx ctx,
+      AtomicInteger counter) {
+    List<TableState> allTables = query.allTables();
+    this.ctx = ctx;
+    this.topLevel = topLevel;
+    this.forCount = forCount;
+    this.aliasMap = SelectBuilderSql.buildFullAliasMap(allTables);
+    this.joinCtx = ctx.withJoinContext(true).withAliasToCteMap(aliasMap);
+    this.counter = counter;
+    for (TableState table : allTables) {
+      SourceId id = new SourceId(table.alias());
+      allSources.add(id);
+      tables.put(id, table);
+    }
+    for (JoinInfo join : query.joins()) {
+      joinConditions.put(join.on(), join);
+    }
+  }
+
+  /**
+   * Render a query selecting every column of every table. {@code topLevel} is the query's expanded
+   * top-level params, see {@link #expand}.
+   */
+  static Fragment render(
+      Query<?, ?> query,
+      OrderByOrSeek.ExpandResult topLevel,
+      RenderCtx ctx,
+      AtomicInteger counter) {
+    QueryPlanner planner = new QueryPlanner(query, topLevel, false, ctx, counter);
+    List<LogicalPlan.Projection> projections = new ArrayList<>();
+    for (TableState table : query.allTables()) {
+      SourceId id = new SourceId(table.alias());
+      for (ColumnMeta column : planner.columnsOf(table)) {
+        projections.add(
+            new LogicalPlan.Projection(
+                column.name(),
+                new Expr.Col(new ColRef(id, column.name())),
+                column.field().dbType()));
+      }
+    }
+    return planner.render(PlanOptimizer.optimize(planner.plan(query, projections)));
+  }
+
+  /** Render a query selecting the given expressions. */
+  static Fragment render(
+      Query<?, ?> query,
+      OrderByOrSeek.ExpandResult topLevel,
+      List<SqlExpr<?>> projectedExprs,
+      RenderCtx ctx,
+      AtomicInteger counter) {
+    QueryPlanner planner = new QueryPlanner(query, topLevel, false, ctx, counter);
+    List<LogicalPlan.Projection> projections = new ArrayList<>();
+    for (int i = 0; i < projectedExprs.size(); i++) {
+      SqlExpr<?> expr = projectedExprs.get(i);
+      projections.add(
+          new LogicalPlan.Projection("proj_" + i, planner.wrap(expr), expr.flattenedDbTypes()));
+    }
+    return planner.render(PlanOptimizer.optimize(planner.plan(query, projections)));
+  }
+
+  /**
+   * Render a query counting the rows of {@code query}. Nothing is selected, so the optimizer can
+   * drop left joins which cannot change the number of rows, and sorts are left out unless a limit
+   * depends on them. A query with a top-level limit or offset is counted in a subquery.
+   */
+  static Fragment renderCount(
+      Query<?, ?> query,
+      OrderByOrSeek.ExpandResult topLevel,
+      RenderCtx ctx,
+      AtomicInteger counter) {
+    QueryPlanner planner = new QueryPlanner(query, topLevel, true, ctx, counter);
+    return planner.render(PlanOptimizer.optimize(planner.plan(query, List.of())));
+  }
+
+  // Building the plan
+
+  private LogicalPlan plan(Query<?, ?> query, List<LogicalPlan.Projection> projections) {
+    SelectParams<?, ?> params = query.topLevelParams();
+    if (query.joins().isEmpty()
+        && query.firstTable() instanceof SimpleTableState simple
+        && params.where().isEmpty()
+        && params.limit().isEmpty()
+        && params.offset().isEmpty()) {
+      // A single table: the top-level params only repeat the table's own ORDER BY
+      rootLimitSource = simple;
+      return new LogicalPlan.Project(leaf(simple), projections);
+    }
+    rootLimitSource = topLevel;
+
+    LogicalPlan plan = leaf(query.firstTable());
+    for (JoinInfo join : query.joins()) {
+      plan =
+          new LogicalPlan.Join(
+              plan,
+              leaf(join.table()),
+              join.isLeftJoin() ? LogicalPlan.JoinType.LEFT : LogicalPlan.JoinType.INNER,
+              wrap(join.on()));
+    }
+    plan = layers(plan, topLevel.filters(), topLevel.orderBys(), params.limit(), params.offset());
+    return new LogicalPlan.Project(plan, projections);
+  }
+
+  /**
+   * Expand the top-level where, order by and seek params of a query. The where functions build new
+   * expressions on every call, so this is done once per render.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static OrderByOrSeek.ExpandResult expand(Query<?, ?> query) {
+    return OrderByOrSeek.expand(query.fields(), (SelectParams) query.topLevelParams());
+  }
+
+  private LogicalPlan leaf(TableState table) {
+    SourceId id = new SourceId(table.alias());
+    List<ColumnMeta> tableColumns = columnsOf(table);
+    for (ColumnMeta column : tableColumns) {
+      columns.put(new ColRef(id, column.name()), column);
+    }
+    if (!(table instanceof SimpleTableState simple)) {
+      return new LogicalPlan.Derived(id, tableColumns);
+    }
+    String tableName = simple.tableName();
+    int dot = tableName.lastIndexOf('.');
+    LogicalPlan scan =
+        new LogicalPlan.Scan(
+            id,
+            dot < 0 ? "" : tableName.substring(0, dot),
+            tableName.substring(dot + 1),
+            tableColumns);
+    return layers(scan, simple.filters(), simple.orderBys(), simple.limit(), simple.offset());
+  }
+
+  private LogicalPlan layers(
+      LogicalPlan plan,
+      List<SqlExpr<Boolean>> filters,
+      List<SortOrder<?>> orderBys,
+      Optional<Integer> limit,
+      Optional<Integer> offset) {
+    List<Expr> conjuncts = new ArrayList<>();
+    for (SqlExpr<Boolean> filter : filters) {
+      for (SqlExpr<?> conjunct : sqlConjuncts(filter)) {
+        conjuncts.add(wrap(conjunct));
+      }
+    }
+    Optional<Expr> predicate = PlanOptimizer.and(conjuncts);
+    if (predicate.isPresent()) {
+      plan = new LogicalPlan.Filter(plan, predicate.get());
+    }
+    boolean limited = limit.isPresent() || offset.isPresent();
+    if (!orderBys.isEmpty() && (limited || !forCount)) {
+      List<LogicalPlan.SortSpec> specs = new ArrayList<>();
+      for (SortOrder<?> order : orderBys) {
+        specs.add(
+            new LogicalPlan.SortSpec(wrap(order.expr()), order.ascending(), order.nullsFirst()));
+      }
+      plan = new LogicalPlan.Sort(plan, specs);
+    }
+    if (limited) {
+      plan =
+          new LogicalPlan.Limit(
+              plan,
+              limit.map(OptionalInt::of).orElse(OptionalInt.empty()),
+              offset.map(OptionalInt::of).orElse(OptionalInt.empty()));
+    }
+    return plan;
+  }
+
+  private List<ColumnMeta> columnsOf(TableState table) {
+    List<ColumnMeta> result = new ArrayList<>();
+    for (ColumnTuple col : table.columns()) {
+      String name =
+          switch (table) {
+            case CompositeTableState composite -> col.alias() + "_" + col.column().name();
+            default -> col.column().name();
+          };
+      result.add(
+          new ColumnMeta(
+              name, col.column(), col.column().sqlReadCast(), col.column().sqlWriteCast()));
+    }
+    return result;
+  }
+
+  private static List<SqlExpr<?>> sqlConjuncts(SqlExpr<?> expr) {
+    if (expr instanceof SqlExpr.Binary<?, ?, ?> binary && binary.op().op().equals("AND")) {
+      List<SqlExpr<?>> result = new ArrayList<>(sqlConjuncts(binary.left()));
+      result.addAll(sqlConjuncts(binary.right()));
+      return result;
+    }
+    return List.of(expr);
+  }
+
+  private Expr wrap(SqlExpr<?> expr) {
+    Set<SourceId> sources = new HashSet<>();
+    return new Expr.Wrapped(expr, collectSources(expr, sources) ? sources : allSources);
+  }
+
+  /**
+   * Collect the tables an expression references. Returns false when that cannot be known: a
+   * subquery may refer to any table in scope.
+   */
+  private boolean collectSources(SqlExpr<?> expr, Set<SourceId> sources) {
+    switch (expr) {
+      case SqlExpr.Exists<?, ?> exists -> {
+        return false;
+      }
+      case SqlExpr.Subquery<?, ?> subquery -> {
+        return false;
+      }
+      case GroupedBuilderSql.SyntheticField<?> synthetic -> {
+        sources.add(new SourceId(synthetic.tableAlias()));
+        return true;
+      }
+      case SqlExpr.FieldLike<?, ?> field -> {
+        Optional<String> alias = ctx.alias(field._path());
+        if (alias.isEmpty()) {
+          return false;
+        }
+        sources.add(new SourceId(aliasMap.getOrDefault(alias.get(), alias.get())));
+        return true;
+      }
+      default -> {
+        for (SqlExpr<?> child : expr.children()) {
+          if (!collectSources(child, sources)) {
+            return false;
+          }
+        }
+        return true;
+      }
+    }
+  }
+
+  // Rendering the plan
+
+  private Fragment render(LogicalPlan plan) {
+    if (!(plan instanceof LogicalPlan.Project project)) {
+      throw new IllegalStateException("Expected a projection at the root of " + plan);
+    }
+    LogicalPlan input = project.input();
+    boolean counting = project.projections().isEmpty();
+    Fragment sql;
+    if (counting) {
+      // The rows under a limit have to be produced before they can be counted
+      sql =
+          Fragment.lit(input instanceof LogicalPlan.Limit ? "select 1 as one" : "select count(*)");
+    } else {
+      List<Fragment> selectFragments = new ArrayList<>();
+      for (LogicalPlan.Projection projection : project.projections()) {
+        selectFragments.add(renderExpr(projection.expr(), joinCtx));
+      }
+      sql = Fragment.lit("select ").append(Fragment.comma(selectFragments));
+    }
+
+    Optional<LogicalPlan.Limit> limit = Optional.empty();
+    Optional<LogicalPlan.Sort> sort = Optional.empty();
+    Optional<LogicalPlan.Filter> filter = Optional.empty();
+    if (input instanceof LogicalPlan.Limit l) {
+      limit = Optional.of(l);
+      input = l.input();
+    }
+    if (input instanceof LogicalPlan.Sort s) {
+      sort = Optional.of(s);
+      input = s.input();
+    }
+    if (input instanceof LogicalPlan.Filter f) {
+      filter = Optional.of(f);
+      input = f.input();
+    }
+
+    sql = sql.append(Fragment.lit("\nfrom ")).append(renderFrom(input));
+    if (filter.isPresent()) {
+      sql =
+          sql.append(Fragment.lit("\nwhere "))
+              .append(renderExpr(filter.get().predicate(), joinCtx));
+    }
+    if (sort.isPresent()) {
+      sql = sql.append(Fragment.lit("\norder by ")).append(renderSort(sort.get(), joinCtx));
+    }
+    if (limit.isPresent()) {
+      LogicalPlan first = input;
+      while (first instanceof LogicalPlan.Join join) {
+        first = join.left();
+      }
+      sql = appendPagination(sql, first, sort.isPresent(), limit.get(), rootLimitSource);
+      if (counting) {
+        sql = SelectBuilderSql.wrapInCount(sql);
+      }
+    }
+    return sql;
+  }
+
+  private Fragment renderFrom(LogicalPlan plan) {
+    if (plan instanceof LogicalPlan.Join join) {
+      return renderFrom(join.left())
+          .append(
+              Fragment.lit(
+                  "\n" + (join.type() == LogicalPlan.JoinType.LEFT ? "left join" : "join") + " "))
+          .append(renderLeaf(join.right()))
+          .append(Fragment.lit("\n  on "))
+          .append(renderExpr(join.on(), joinCtx));
+    }
+    return renderLeaf(plan);
+  }
+
+  /** A bare scan is a table reference; a scan under a filter, sort or limit is a subquery. */
+  private Fragment renderLeaf(LogicalPlan plan) {
+    Dialect dialect = ctx.dialect();
+    if (plan instanceof LogicalPlan.Derived derived) {
+      return SelectBuilderSql.renderSourceRef(tables.get(derived.id()), dialect, counter);
+    }
+    if (plan instanceof LogicalPlan.Scan scan) {
+      return Fragment.lit(tableName(scan) + " " + scan.id().id());
+    }
+
+    LogicalPlan input = plan;
+    Optional<LogicalPlan.Limit> limit = Optional.empty();
+    Optional<LogicalPlan.Sort> sort = Optional.empty();
+    Optional<LogicalPlan.Filter> filter = Optional.empty();
+    if (input instanceof LogicalPlan.Limit l) {
+      limit = Optional.of(l);
+      input = l.input();
+    }
+    if (input instanceof LogicalPlan.Sort s) {
+      sort = Optional.of(s);
+      input = s.input();
+    }
+    if (input instanceof LogicalPlan.Filter f) {
+      filter = Optional.of(f);
+      input = f.input();
+    }
+    if (!(input instanceof LogicalPlan.Scan scan)) {
+      throw new IllegalStateException("Cannot render " + plan + " as a table reference");
+    }
+
+    // Inside the subquery the alias names the table itself
+    String alias = scan.id().id();
+    Fragment subquery = Fragment.lit("(select * from " + tableName(scan) + " " + alias);
+    if (filter.isPresent()) {
+      subquery =
+          subquery
+              .append(Fragment.lit(" where "))
+              .append(renderExpr(filter.get().predicate(), ctx));
+    }
+    if (sort.isPresent()) {
+      subquery = subquery.append(Fragment.lit(" order by ")).append(renderSort(sort.get(), ctx));
+    }
+    if (limit.isPresent()) {
+      subquery =
+          appendPagination(subquery, scan, sort.isPresent(), limit.get(), tables.get(scan.id()));
+    }
+    return subquery.append(Fragment.lit(") " + alias));
+  }
+
+  /**
+   * Append a limit and offset, bound as parameters so that queries which only differ in their
+   * pagination share a statement. {@code source} is the table state or top-level params they came
+   * from, which the {@link RenderCache} binds them from.
+   */
+  private Fragment appendPagination(
+      Fragment sql, LogicalPlan first, boolean isOrdered, LogicalPlan.Limit limit, Object source) {
+    List<SqlExpr.FieldLike<?, ?>> fields = new ArrayList<>();
+    if (first instanceof LogicalPlan.Scan scan) {
+      scan.columns().forEach(column -> fields.add(column.field()));
+    }
+    String alias = first.allSources().iterator().next().id();
+    return ctx.dialect()
+        .appendPaginationClauses(
+            sql,
+            alias,
+            isOrdered,
+            countParam(source, 0, limit.limit()),
+            countParam(source, 1, limit.offset()),
+            fields);
+  }
+
+  private Optional<Fragment> countParam(Object source, int element, OptionalInt count) {
+    if (count.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(ctx.value(source, element, (long) count.getAsInt(), GenericDbTypes.int8));
+  }
+
+  private String tableName(LogicalPlan.Scan scan) {
+    String name =
+        scan.schemaName().isEmpty() ? scan.tableName() : scan.schemaName() + "." + scan.tableName();
+    return ctx.dialect().quoteTableName(name);
+  }
+
+  private Fragment renderSort(LogicalPlan.Sort sort, RenderCtx renderCtx) {
+    List<Fragment> fragments = new ArrayList<>();
+    for (LogicalPlan.SortSpec spec : sort.specs()) {
+      SqlExpr<?> expr = ((Expr.Wrapped) spec.expr()).expr();
+      fragments.add(
+          new SortOrder<>(expr, spec.ascending(), spec.nullsFirst()).render(renderCtx, counter));
+    }
+    return Fragment.comma(fragments);
+  }
+
+  private Fragment renderExpr(Expr expr, RenderCtx renderCtx) {
+    return switch (expr) {
+      case Expr.Wrapped wrapped -> {
+        JoinInfo join = joinConditions.get(wrapped.expr());
+        yield join != null
+            ? join.onCondition().apply(renderCtx, counter)
+            : wrapped.expr().render(renderCtx, counter);
+      }
+      case Expr.BinOp binOp ->
+          Fragment.lit("(")
+              .append(renderExpr(binOp.left(), renderCtx))
+              .append(Fragment.lit(" " + binOp.op() + " "))
+              .append(renderExpr(binOp.right(), renderCtx))
+              .append(Fragment.lit(")"));
+      case Expr.Col col -> {
+        ColumnMeta column = columns.get(col.ref());
+        boolean isTable = tables.get(col.ref().source()) instanceof SimpleTableState;
+        Fragment baseRef =
+            Fragment.lit(
+                col.ref().source().id()
+                    + "."
+                    + (isTable ? ctx.dialect().quoteIdent(column.name()) : column.name()));
+        yield column.readCast().map(cast -> ctx.dialect().typeCast(baseRef, cast)).orElse(baseRef);
+      }
+      default -> throw new IllegalStateException("Cannot render " + expr);
+    };
+  }
+}
@@ -0,0 +1,361 @@
+package dev.typr.foundations.dsl;
+
+import dev.typr.foundations.DbType;
+import dev.typr.foundations.Fragment;
+import dev.typr.foundations.dsl.SelectBuilderSql.ColumnTuple;
+import dev.typr.foundations.dsl.SelectBuilderSql.CompositeTableState;
+import dev.typr.foundations.dsl.SelectBuilderSql.JoinInfo;
+import dev.typr.foundations.dsl.SelectBuilderSql.Query;
+import dev.typr.foundations.dsl.SelectBuilderSql.SimpleTableState;
+import dev.typr.foundations.dsl.SelectBuilderSql.TableState;
+import java.util.*;
+
+/**
+ * Caches rendered SELECT statements by query shape.
+ *
+ * <p>The shape of a collected {@link Query} is its tables, joins, expression trees and the SQL
+ * types they render, with every constant replaced by a parameter slot. LIMIT and OFFSET are bound
+ * as parameters too, so only their presence is part of the shape. Queries of the same shape render
+ * to the same SQL, so once a shape has been rendered the statement is rebuilt from the cached SQL
+ * text by binding the constants of the current query, and planning and rendering are skipped. Row
+ * parsers are not cached: they depend on the types and bijections of the query itself.
+ *
+ * <p>At most {@link #MAX_SHAPES} shapes are kept, and the least recently used shape is evicted to
+ * make room for a new one.
+ *
+ * <p>Queries with subqueries ({@link SqlExpr.Subquery}, {@link SqlExpr.Exists}) or joined grouped
+ * queries are rendered every time.
+ */
+final class RenderCache {
+
+  /** Upper bound on the number of cached shapes. */
+  static final int MAX_SHAPES = 1024;
+
+  // Access ordered, so the eldest entry is the least recently used one
+  private static final Map<List<Object>, Entry> entries =
+      Collections.synchronizedMap(
+          new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, Entry> eldest) {
+              return size() > MAX_SHAPES;
+            }
+          });
+
+  private RenderCache() {}
+
+  /** SQL text around each parameter, and the slot each parameter binds. */
+  private record Entry(String[] chunks, int[] slots) {}
+
+  /** The SQL type of a {@link DbType}, which is all of it that ends up in the rendered SQL. */
+  private record TypeKey(Class<?> kind, String sqlType, boolean renderTypeCast) {}
+
+  /**
+   * Compute the shape of a query. {@code projectedExprs} are the selected expressions, or empty
+   * when every column is selected.
+   */
+  static Shape shape(Dialect dialect, Query<?, ?> query, List<SqlExpr<?>> projectedExprs) {
+    Shape shape = new Shape(dialect, QueryPlanner.expand(query));
+    shape.key.add(dialect);
+    shape.query(query);
+
+    SelectParams<?, ?> params = query.topLevelParams();
+    shape.key.add(params.where().size());
+    shape.pagination(shape.topLevel, params.limit(), params.offset());
+    shape.exprs(shape.topLevel.filters());
+    shape.sortOrders(shape.topLevel.orderBys());
+    shape.exprs(projectedExprs);
+    return shape;
+  }
+
+  /** The shape of one query, with the constant found for each slot. */
+  static final class Shape {
+    private final Dialect dialect;
+    private final OrderByOrSeek.ExpandResult topLevel;
+    private final List<Object> key = new ArrayList<>();
+    private final List<Object> values = new ArrayList<>();
+    private final List<DbType<?>> types = new ArrayList<>();
+    private final IdentityHashMap<Object, Integer> firstSlot = new IdentityHashMap<>();
+    private boolean cacheable = true;
+    // Inside a composite table, whose tables are rendered with literal LIMIT and OFFSET
+    private boolean literalPagination = false;
+
+    private Shape(Dialect dialect, OrderByOrSeek.ExpandResult topLevel) {
+      this.dialect = dialect;
+      this.topLevel = topLevel;
+    }
+
+    /** The expanded top-level params, to be passed on to {@link QueryPlanner}. */
+    OrderByOrSeek.ExpandResult topLevel() {
+      return topLevel;
+    }
+
+    /** Rebuild the statement from the cache with this query's constants, if the shape is cached. */
+    @SuppressWarnings("unchecked")
+    Optional<Fragment> lookup() {
+      Entry entry = cacheable ? entries.get(key) : null;
+      if (entry == null) {
+        return Optional.empty();
+      }
+      List<Fragment> parts = new ArrayList<>(entry.slots().length * 2 + 1);
+      for (int i = 0; i < entry.slots().length; i++) {
+        int slot = entry.slots()[i];
+        parts.add(Fragment.lit(entry.chunks()[i]));
+        parts.add(Fragment.value(values.get(slot), (DbType<Object>) types.get(slot)));
+      }
+      parts.add(Fragment.lit(entry.chunks()[entry.slots().length]));
+      return Optional.of(new Fragment.Concat(parts));
+    }
+
+    /**
+     * Cache a statement rendered for this shape. {@code boundValues} must be the map the rendering
+     * context recorded parameters in; the statement is not cached if any parameter is missing.
+     */
+    void store(Fragment sql, IdentityHashMap<Fragment, RenderCtx.BoundValue> boundValues) {
+      if (!cacheable) {
+        return;
+      }
+      List<String> chunks = new ArrayList<>();
+      List<Integer> slots = new ArrayList<>();
+      StringBuilder sb = new StringBuilder();
+      if (!split(sql, boundValues, sb, chunks, slots)) {
+        return;
+      }
+      chunks.add(sb.toString());
+      entries.putIfAbsent(
+          key,
+          new Entry(
+              chunks.toArray(String[]::new), slots.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    private boolean split(
+        Fragment fragment,
+        IdentityHashMap<Fragment, RenderCtx.BoundValue> boundValues,
+        StringBuilder sb,
+        List<String> chunks,
+        List<Integer> slots) {
+      return switch (fragment) {
+        case Fragment.Literal literal -> {
+          literal.render(sb);
+          yield true;
+        }
+        case Fragment.Append append ->
+            split(append.a(), boundValues, sb, chunks, slots)
+                && split(append.b(), boundValues, sb, chunks, slots);
+        case Fragment.Concat concat -> {
+          for (Fragment frag : concat.frags()) {
+            if (!split(frag, boundValues, sb, chunks, slots)) {
+              yield false;
+            }
+          }
+          yield true;
+        }
+        case Fragment.Value<?> value -> {
+          // A parameter which did not come from a constant of this shape cannot be rebound
+          RenderCtx.BoundValue bound = boundValues.get(value);
+          Integer first = bound == null ? null : firstSlot.get(bound.source());
+          if (first == null) {
+            yield false;
+          }
+          chunks.add(sb.toString());
+          sb.setLength(0);
+          slots.add(first + bound.element());
+          yield true;
+        }
+      };
+    }
+
+    // Walking the query. Every part that affects the rendered SQL or the row parser goes into the
+    // key, and lists are prefixed with their size so the key stays unambiguous.
+
+    private void query(Query<?, ?> query) {
+      key.add(query.fields().getClass());
+      table(query.firstTable());
+      key.add(query.joins().size());
+      for (JoinInfo join : query.joins()) {
+        key.add(join.isLeftJoin());
+        table(join.table());
+        expr(join.on());
+      }
+    }
+
+    private void table(TableState table) {
+      switch (table) {
+        case SimpleTableState simple -> {
+          key.add(simple.tableName());
+          columns(simple.alias(), simple.columns());
+          exprs(simple.filters());
+          sortOrders(simple.orderBys());
+          if (literalPagination) {
+            key.add(simple.limit());
+            key.add(simple.offset());
+          } else {
+            pagination(simple, simple.limit(), simple.offset());
+          }
+        }
+        case CompositeTableState composite -> {
+          columns(composite.alias(), composite.columns());
+          boolean outer = literalPagination;
+          literalPagination = true;
+          query(composite.innerQuery());
+          literalPagination = outer;
+        }
+        default -> cacheable = false;
+      }
+    }
+
+    private void columns(String alias, List<ColumnTuple> columns) {
+      key.add(alias);
+      key.add(columns.size());
+      for (ColumnTuple column : columns) {
+        key.add(column.alias());
+        expr(column.column());
+      }
+    }
+
+    /** LIMIT and OFFSET bound as parameters, see {@code QueryPlanner#appendPagination}. */
+    private void pagination(Object source, Optional<Integer> limit, Optional<Integer> offset) {
+      key.add(limit.isPresent());
+      key.add(offset.isPresent());
+      slot(source, limit.map(Long::valueOf).orElse(null), GenericDbTypes.int8);
+      slot(source, offset.map(Long::valueOf).orElse(null), GenericDbTypes.int8);
+    }
+
+    private void sortOrders(List<SortOrder<?>> orderBys) {
+      key.add(orderBys.size());
+      for (SortOrder<?> order : orderBys) {
+        key.add(order.ascending());
+        key.add(order.nullsFirst());
+        expr(order.expr());
+      }
+    }
+
+    private void exprs(List<? extends SqlExpr<?>> exprs) {
+      key.add(exprs.size());
+      for (SqlExpr<?> expr : exprs) {
+        expr(expr);
+      }
+    }
+
+    private void expr(SqlExpr<?> expr) {
+      if (!cacheable) {
+        return;
+      }
+      key.add(expr.getClass());
+      switch (expr) {
+        case SqlExpr.ConstReq<?> c -> {
+          type(c.dbType());
+          slot(c, c.value(), c.dbType());
+        }
+        case SqlExpr.ConstOpt<?> c -> {
+          key.add(c.value().isPresent());
+          type(c.dbType());
+          slot(c, c.value().orElse(null), c.dbType());
+        }
+        case SqlExpr.ConstTuple<?> c -> constTuple(c);
+        case SqlExpr.Param<?> param -> {
+          type(param.dbType());
+          slot(param, param, param.dbType());
+        }
+        case SqlExpr.FieldLike<?, ?> field -> {
+          key.add(field._path());
+          key.add(field.column());
+          key.add(field.sqlReadCast());
+          key.add(field.sqlWriteCast());
+          type(field.dbType());
+          if (field instanceof GroupedBuilderSql.SyntheticField<?> synthetic) {
+            key.add(synthetic.tableAlias());
+          }
+        }
+        case SqlExpr.In<?, ?> in -> {
+          // A long list is one array parameter whatever the number of values
+          Optional<SqlExpr.In.ArrayBind> array = in.arrayBind(dialect);
+          if (array.isPresent()) {
+            type(array.get().elementType());
+            expr(in.lhs());
+            slot(in, array.get().values(), array.get().arrayType());
+          } else {
+            exprs(in.children());
+          }
+        }
+        case SqlExpr.Subquery<?, ?> subquery -> cacheable = false;
+        case SqlExpr.Exists<?, ?> exists -> cacheable = false;
+        default -> {
+          attributes(expr);
+          exprs(expr.children());
+        }
+      }
+    }
+
+    /** The parts of an expression other than its children which end up in the SQL. */
+    private void attributes(SqlExpr<?> expr) {
+      switch (expr) {
+        case SqlExpr.Apply1<?, ?> apply -> {
+          key.add(apply.f().name());
+          type(apply.f().outputType());
+        }
+        case SqlExpr.Apply2<?, ?, ?> apply -> {
+          key.add(apply.f().name());
+          type(apply.f().outputType());
+        }
+        case SqlExpr.Apply3<?, ?, ?, ?> apply -> {
+          key.add(apply.f().name());
+          type(apply.f().outputType());
+        }
+        case SqlExpr.Binary<?, ?, ?> binary -> {
+          key.add(binary.op().op());
+          type(binary.op().outputType());
+        }
+        case SqlExpr.Between<?> between -> key.add(between.negated());
+        case SqlExpr.ArrayIndex<?> arrayIndex -> type(arrayIndex.elementType());
+        case SqlExpr.IncludeIf<?> includeIf -> type(includeIf.optionalDbType());
+        case SqlExpr.Sum<?, ?> sum -> type(sum.resultType());
+        case SqlExpr.Min<?> min -> type(min.resultType());
+        case SqlExpr.Max<?> max -> type(max.resultType());
+        case SqlExpr.ArrayAgg<?> arrayAgg -> type(arrayAgg.arrayType());
+        case SqlExpr.JsonAgg<?> jsonAgg -> type(jsonAgg.jsonType());
+        case SqlExpr.StringAgg stringAgg ->
+            slot(stringAgg, stringAgg.delimiter(), GenericDbTypes.text);
+        default -> {}
+      }
+    }
+
+    /**
+     * A tuple has a slot per flattened element, as rendered by {@link SqlExpr.ConstTuple#render},
+     * followed by a slot per top-level element, as rendered for a tuple IN.
+     */
+    private void constTuple(SqlExpr.ConstTuple<?> tuple) {
+      Object[] flattened = tuple.flattenedValues();
+      Object[] elements = tuple.value().asArray();
+      tuple.dbTypes().forEach(this::type);
+      key.add(flattened.length);
+      key.add(elements.length);
+      firstSlot.putIfAbsent(tuple, values.size());
+      for (int i = 0; i < flattened.length; i++) {
+        Object value = flattened[i] instanceof Optional<?> opt ? opt.orElse(null) : flattened[i];
+        key.add(value != null);
+        values.add(value);
+        types.add(tuple.dbTypes().get(i));
+      }
+      for (int i = 0; i < elements.length; i++) {
+        values.add(elements[i]);
+        types.add(tuple.dbTypes().get(i));
+      }
+    }
+
+    /**
+     * Types are keyed by what they render rather than by instance: {@link DbType#to} creates a new
+     * instance for every bijection, as the Kotlin and Scala wrappers do for every column.
+     */
+    private void type(DbType<?> type) {
+      key.add(
+          new TypeKey(
+              type.getClass(), type.typename().sqlType(), type.typename().renderTypeCast()));
+    }
+
+    private void slot(Object source, Object value, DbType<?> type) {
+      firstSlot.putIfAbsent(source, values.size());
+      values.add(value);
+      types.add(type);
+    }
+  }
+}
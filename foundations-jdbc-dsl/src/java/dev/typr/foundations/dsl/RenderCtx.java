@@ -1,5 +1,7 @@
 package dev.typr.foundations.dsl;
 
+import dev.typr.foundations.DbType;
+import dev.typr.foundations.Fragment;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -21,11 +23,22 @@ public record RenderCtx(
     Map<String, String> aliasToCteMap,
     // Map from projected SqlExpr (by identity) to column reference (e.g., "projected.proj_0")
     // Used when rendering correlation predicates that reference projected columns
-    IdentityHashMap<SqlExpr<?>, String> projectedExprMap) {
+    IdentityHashMap<SqlExpr<?>, String> projectedExprMap,
+    // Map from each rendered parameter (by identity) to the constant it was rendered from.
+    // Only set while rendering a statement for the render cache
+    IdentityHashMap<Fragment, BoundValue> boundValues) {
+
+  /**
+   * The constant a rendered parameter came from. {@code source} is a constant expression, or the
+   * table state or top-level params a LIMIT and OFFSET came from. {@code element} is the position
+   * within a {@link SqlExpr.ConstTuple}, 0 for a limit and 1 for an offset, and 0 otherwise.
+   */
+  public record BoundValue(Object source, int element) {}
 
   /** Create a copy of this context with join context flag set. */
   public RenderCtx withJoinContext(boolean joinContext) {
-    return new RenderCtx(aliasMap, dialect, joinContext, aliasToCteMap, projectedExprMap);
+    return new RenderCtx(
+        aliasMap, dialect, joinContext, aliasToCteMap, projectedExprMap, boundValues);
   }
 
   /**
@@ -33,7 +46,8 @@ public record RenderCtx(
    * to the CTE name that actually contains those columns.
    */
   public RenderCtx withAliasToCteMap(Map<String, String> aliasToCteMap) {
-    return new RenderCtx(aliasMap, dialect, inJoinContext, aliasToCteMap, projectedExprMap);
+    return new RenderCtx(
+        aliasMap, dialect, inJoinContext, aliasToCteMap, projectedExprMap, boundValues);
   }
 
   /**
@@ -41,7 +55,26 @@ public record RenderCtx(
    * predicates that reference projected columns.
    */
   public RenderCtx withProjectedExprMap(IdentityHashMap<SqlExpr<?>, String> projectedExprMap) {
-    return new RenderCtx(aliasMap, dialect, inJoinContext, aliasToCteMap, projectedExprMap);
+    return new RenderCtx(
+        aliasMap, dialect, inJoinContext, aliasToCteMap, projectedExprMap, boundValues);
+  }
+
+  /** Create a copy of this context which records where each rendered parameter came from. */
+  public RenderCtx withBoundValues(IdentityHashMap<Fragment, BoundValue> boundValues) {
+    return new RenderCtx(
+        aliasMap, dialect, inJoinContext, aliasToCteMap, projectedExprMap, boundValues);
+  }
+
+  /**
+   * Render a parameter for a constant expression. {@code element} is the position within a {@link
+   * SqlExpr.ConstTuple}, and 0 for other constants.
+   */
+  public <A> Fragment value(Object source, int element, A value, DbType<A> type) {
+    Fragment fragment = Fragment.value(value, type);
+    if (boundValues != null) {
+      boundValues.put(fragment, new BoundValue(source, element));
+    }
+    return fragment;
   }
 
   /**
@@ -65,13 +98,13 @@ public record RenderCtx(
 
   /** Create a simple RenderCtx with just a dialect (no alias map). */
   public static RenderCtx of(Dialect dialect) {
-    return new RenderCtx(Map.of(), dialect, false, Map.of(), null);
+    return new RenderCtx(Map.of(), dialect, false, Map.of(), null, null);
   }
 
   /** Create context from a SelectBuilder. */
   public static RenderCtx from(SelectBuilder<?, ?> builder, Dialect dialect) {
     if (!(builder instanceof SelectBuilderSql<?, ?> sqlBuilder)) {
-      return new RenderCtx(Map.of(), dialect, false, Map.of(), null);
+      return new RenderCtx(Map.of(), dialect, false, Map.of(), null, null);
     }
     return fromSql(sqlBuilder, dialect);
   }
@@ -102,7 +135,7 @@ public record RenderCtx(
       }
     }
 
-    return new RenderCtx(aliasMap, dialect, false, Map.of(), null);
+    return new RenderCtx(aliasMap, dialect, false, Map.of(), null, null);
   }
 
   private static List<PathAndName> findPathsAndTableNames(SelectBuilderSql<?, ?> builder) {
@@ -196,7 +229,7 @@ public record RenderCtx(
     Map<List<Path>, String> aliasMap = new HashMap<>();
     aliasMap.put(parentPath, parentAlias);
     aliasMap.put(childPath, childAlias);
-    return new RenderCtx(aliasMap, dialect, true, Map.of(), null);
+    return new RenderCtx(aliasMap, dialect, true, Map.of(), null, null);
   }
 
   /**
@@ -210,7 +243,7 @@ public record RenderCtx(
       Dialect dialect) {
     Map<List<Path>, String> aliasMap = new HashMap<>();
     aliasMap.put(childPath, childAlias);
-    return new RenderCtx(aliasMap, dialect, true, Map.of(), projectedExprMap);
+    return new RenderCtx(aliasMap, dialect, true, Map.of(), projectedExprMap, null);
   }
 
   // Internal record to hold path and table name pairs
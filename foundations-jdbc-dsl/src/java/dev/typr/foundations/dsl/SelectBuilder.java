@@ -2,12 +2,16 @@ package dev.typr.foundations.dsl;
 
 import dev.typr.foundations.Fragment;
 import dev.typr.foundations.RowParser;
+import dev.typr.foundations.Transactor;
 import dev.typr.foundations.Tuple;
 import java.sql.Connection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /** Builder for SQL SELECT queries with type-safe operations. */
 public interface SelectBuilder<Fields, Row> {
@@ -98,12 +102,106 @@ public interface SelectBuilder<Fields, Row> {
   /** Execute the query and return the results as a list. */
   List<Row> toList(Connection connection);
 
+  /**
+   * Execute the query and return the results as a lazy stream, fetching {@code fetchSize} rows from
+   * the database at a time. A fetch size of 0 leaves it to the driver.
+   *
+   * <p>The stream holds the statement and result set open, and must be closed:
+   *
+   * <pre>{@code
+   * try (Stream<OrderRow> orders = orderRepo.select().stream(c, 500)) {
+   *   orders.forEach(writer::write);
+   * }
+   * }</pre>
+   *
+   * <p>Whether rows are actually fetched in batches depends on the driver. PostgreSQL for instance
+   * only uses a cursor when autocommit is off, and MySQL/MariaDB need {@code useCursorFetch=true}.
+   */
+  Stream<Row> stream(Connection connection, int fetchSize);
+
+  /**
+   * Execute the query and pass each row to {@code action} as it is read, without collecting the
+   * results. Rows are fetched {@link #DEFAULT_FETCH_SIZE} at a time.
+   */
+  default void forEach(Connection connection, Consumer<Row> action) {
+    try (Stream<Row> rows = stream(connection, DEFAULT_FETCH_SIZE)) {
+      rows.forEachOrdered(action);
+    }
+  }
+
+  /**
+   * Execute the query and combine the rows into one value as they are read, without collecting the
+   * results. Rows are fetched {@link #DEFAULT_FETCH_SIZE} at a time.
+   */
+  default <A> A fold(Connection connection, A initial, BiFunction<A, Row, A> f) {
+    A acc = initial;
+    try (Stream<Row> rows = stream(connection, DEFAULT_FETCH_SIZE)) {
+      Iterator<Row> it = rows.iterator();
+      while (it.hasNext()) {
+        acc = f.apply(acc, it.next());
+      }
+    }
+    return acc;
+  }
+
+  /**
+   * Read all rows of this query page by page, with keyset pagination over {@code orderKeys}. Pages
+   * are fetched lazily as the stream is consumed, each with a query which seeks past the last row
+   * of the previous page, in a transaction of its own on {@code tx}.
+   *
+   * <pre>{@code
+   * personRepo.select()
+   *     .where(p -> p.modifieddate().lessThan(cutoff))
+   *     .scan(tx, List.of(p -> p.businessentityid().asc()), 10_000)
+   *     .forEach(backfill::process);
+   * }</pre>
+   *
+   * <p>The order keys must be columns which together identify a row, such as the primary key, and
+   * must not be null. The query must not have an order, limit or offset of its own.
+   */
+  default Stream<Row> scan(
+      Transactor tx, List<Function<Fields, SortOrder<?>>> orderKeys, int pageSize) {
+    return KeysetScan.stream(this, tx, orderKeys, pageSize);
+  }
+
+  /** Fetch size used by {@link #forEach} and {@link #fold}. */
+  int DEFAULT_FETCH_SIZE = 1000;
+
   /** Execute a count query. */
   int count(Connection connection);
 
+  /**
+   * Estimate the number of rows from the database's statistics, without running the query. This is
+   * much cheaper than {@link #count} for large tables, but may be far off, for instance right after
+   * a bulk load or for selective filters. Databases without usable estimates count exactly.
+   */
+  default long estimateCount(Connection connection) {
+    return count(connection);
+  }
+
   /** Return SQL for debugging. Empty if backed by a mock repository. */
   Optional<Fragment> sql();
 
+  /**
+   * Render this query once, for executing it many times with different values for {@code param}.
+   * See {@link PreparedSelect}. Requires a SQL-backed SelectBuilder.
+   */
+  default <P> PreparedSelect<P, Row> prepare(SqlExpr.Param<P> param) {
+    return PreparedSelect.of(this, List.of(param), value -> new Object[] {value});
+  }
+
+  /** Render this query once, for executing it many times with two parameters. */
+  default <P1, P2> PreparedSelect<Tuple.Tuple2<P1, P2>, Row> prepare(
+      SqlExpr.Param<P1> param1, SqlExpr.Param<P2> param2) {
+    return PreparedSelect.of(this, List.of(param1, param2), Tuple.Tuple2::asArray);
+  }
+
+  /** Render this query once, for executing it many times with three parameters. */
+  default <P1, P2, P3> PreparedSelect<Tuple.Tuple3<P1, P2, P3>, Row> prepare(
+      SqlExpr.Param<P1> param1, SqlExpr.Param<P2> param2, SqlExpr.Param<P3> param3) {
+    return PreparedSelect.of(this, List.of(param1, param2, param3), Tuple.Tuple3::asArray);
+  }
+
   /** Join using a foreign key relationship. */
   default <Fields2, Row2>
       SelectBuilder<Tuple.Tuple2<Fields, Fields2>, Tuple.Tuple2<Row, Row2>> joinFk(
@@ -154,6 +252,33 @@ public interface SelectBuilder<Fields, Row> {
           SelectBuilder<Fields2, Row2> other,
           Function<Tuple.Tuple2<Fields, Fields2>, SqlExpr<Boolean>> pred);
 
+  /**
+   * One-to-many query which runs as separate queries instead of a correlated subquery: first this
+   * query, then {@code other} restricted with {@code childKey IN (...)} to the keys of the parent
+   * rows, in chunks. Children are matched to their parent in memory.
+   *
+   * <p>Example:
+   *
+   * <pre>{@code
+   * person.prefetchOn(email, p -> p.id(), e -> e.personId()).toList(c)
+   * // Returns List<Tuple.Tuple2<PersonRow, List<EmailRow>>>
+   * }</pre>
+   *
+   * <p>Prefer this over {@link #multisetOn} when there are many parent rows, or when the database
+   * is slow at JSON aggregation.
+   *
+   * @param other The child query (the "many" side)
+   * @param parentKey the key of a parent row
+   * @param childKey the key of a child row, matching {@code parentKey}
+   * @return a PrefetchBuilder, run with {@link PrefetchBuilder#toList}
+   */
+  default <Fields2, Row2, K> PrefetchBuilder<Row, Row2> prefetchOn(
+      SelectBuilder<Fields2, Row2> other,
+      Function<Fields, SqlExpr<K>> parentKey,
+      Function<Fields2, SqlExpr<K>> childKey) {
+    return PrefetchBuilder.of(this, parentKey, other, childKey);
+  }
+
   /**
    * Join and aggregate the right side into a typed list (one-to-many relationship).
    *
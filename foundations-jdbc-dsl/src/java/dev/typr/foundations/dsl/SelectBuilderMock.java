@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /** Mock implementation of SelectBuilder for testing without a database. */
 public class SelectBuilderMock<Fields, Row> implements SelectBuilder<Fields, Row> {
@@ -55,6 +56,11 @@ public class SelectBuilderMock<Fields, Row> implements SelectBuilder<Fields, Row
     return applyParams(structure, allRowsSupplier.get(), params);
   }
 
+  @Override
+  public Stream<Row> stream(Connection connection, int fetchSize) {
+    return toList(connection).stream();
+  }
+
   @Override
   public int count(Connection connection) {
     return toList(connection).size();
@@ -11,8 +11,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * SQL implementation of SelectBuilder that generates and executes SQL queries.
@@ -41,133 +46,25 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
   /** Collect all tables from this builder into a Query structure. */
   public abstract Query<Fields, Row> collectQuery(RenderCtx ctx, AtomicInteger counter);
 
-  /** Get the lazy SQL and row parser. */
+  /**
+   * Get the lazy SQL and row parser. Statements are cached by query shape, see {@link RenderCache}.
+   */
   protected Tuple.Tuple2<Fragment, RowParser<Row>> getSqlAndRowParser() {
-    RenderCtx ctx = RenderCtx.from(this, dialect());
+    IdentityHashMap<Fragment, RenderCtx.BoundValue> boundValues = new IdentityHashMap<>();
+    RenderCtx ctx = RenderCtx.from(this, dialect()).withBoundValues(boundValues);
     AtomicInteger counter = new AtomicInteger(0);
     Query<Fields, Row> query = collectQuery(ctx, counter);
 
-    Fragment sql = renderQuery(query, ctx, counter);
-    return Tuple.of(sql, query.rowParser().apply(1));
-  }
-
-  /**
-   * Render a complete query with SELECT, FROM, JOINs, WHERE, ORDER BY, LIMIT.
-   *
-   * <p>Strategy: - Simple tables: direct table reference (schema.table alias) - Tables with
-   * WHERE/ORDER BY/LIMIT: inline subquery (SELECT * FROM table WHERE ...) alias - Composite tables
-   * (queries with joins): inline subquery with aliased columns to avoid duplicates
-   */
-  private Fragment renderQuery(Query<Fields, Row> query, RenderCtx ctx, AtomicInteger counter) {
-    Dialect dialect = ctx.dialect();
-    List<TableState> allTables = query.allTables();
-
-    RenderCtx joinCtx = ctx.withJoinContext(true).withAliasToCteMap(buildFullAliasMap(allTables));
-
-    // SELECT: list all columns, applying read casts
-    List<Fragment> colFragments = new ArrayList<>();
-    for (TableState table : allTables) {
-      switch (table) {
-        case CompositeTableState composite -> {
-          // CTE columns: cteAlias.innerAlias_column
-          for (ColumnTuple col : composite.columns()) {
-            String uniqueColName = col.alias() + "_" + col.column().name();
-            Fragment baseRef = Fragment.lit(table.alias() + "." + uniqueColName);
-            Fragment colRef =
-                col.column()
-                    .sqlReadCast()
-                    .map(cast -> dialect.typeCast(baseRef, cast))
-                    .orElse(baseRef);
-            colFragments.add(colRef);
-          }
-        }
-        case GroupedTableState grouped -> {
-          // Grouped table columns: tableAlias.col_N (just the column name, no prefix)
-          for (ColumnTuple col : grouped.columns()) {
-            Fragment baseRef = Fragment.lit(table.alias() + "." + col.column().name());
-            Fragment colRef =
-                col.column()
-                    .sqlReadCast()
-                    .map(cast -> dialect.typeCast(baseRef, cast))
-                    .orElse(baseRef);
-            colFragments.add(colRef);
-          }
-        }
-        default -> {
-          // Simple tables: alias."column"
-          for (ColumnTuple col : table.columns()) {
-            Fragment baseRef =
-                Fragment.lit(table.alias() + "." + dialect.quoteIdent(col.column().name()));
-            Fragment colRef =
-                col.column()
-                    .sqlReadCast()
-                    .map(cast -> dialect.typeCast(baseRef, cast))
-                    .orElse(baseRef);
-            colFragments.add(colRef);
-          }
-        }
-      }
+    RenderCache.Shape shape = RenderCache.shape(dialect(), query, List.of());
+    Optional<Fragment> cached = shape.lookup();
+    Fragment sql;
+    if (cached.isPresent()) {
+      sql = cached.get();
+    } else {
+      sql = QueryPlanner.render(query, shape.topLevel(), ctx, counter);
+      shape.store(sql, boundValues);
     }
-    Fragment select = Fragment.lit("select ").append(Fragment.comma(colFragments));
-
-    // FROM: first table
-    Fragment from =
-        Fragment.lit("\nfrom ").append(renderTableRef(query.firstTable(), dialect, counter));
-
-    // JOINs
-    Fragment joins = Fragment.empty();
-    for (JoinInfo join : query.joins()) {
-      String joinType = join.isLeftJoin() ? "left join" : "join";
-      joins =
-          joins
-              .append(Fragment.lit("\n" + joinType + " "))
-              .append(renderTableRef(join.table(), dialect, counter))
-              .append(Fragment.lit("\n  on "))
-              .append(join.onCondition().apply(joinCtx, counter));
-    }
-
-    // Top-level WHERE, ORDER BY, LIMIT, OFFSET
-    Fragment whereFrag = Fragment.empty();
-    Fragment orderByFrag = Fragment.empty();
-    Fragment limitFrag = Fragment.empty();
-    Fragment offsetFrag = Fragment.empty();
-
-    SelectParams<Fields, Row> params = query.topLevelParams();
-    var expanded = OrderByOrSeek.expand(query.fields(), params);
-
-    // WHERE
-    whereFrag =
-        expanded
-            .combinedFilter()
-            .map(combined -> Fragment.lit("\nwhere ").append(combined.render(joinCtx, counter)))
-            .orElse(Fragment.empty());
-
-    // ORDER BY
-    if (!expanded.orderBys().isEmpty()) {
-      List<Fragment> orderFragments = new ArrayList<>();
-      for (SortOrder<?> order : expanded.orderBys()) {
-        orderFragments.add(order.render(joinCtx, counter));
-      }
-      orderByFrag = Fragment.lit("\norder by ").append(Fragment.comma(orderFragments));
-    }
-
-    // OFFSET
-    if (params.offset().isPresent()) {
-      offsetFrag = Fragment.lit("\n" + dialect.offsetClause(params.offset().get()));
-    }
-
-    // LIMIT
-    if (params.limit().isPresent()) {
-      limitFrag = Fragment.lit("\n" + dialect.limitClause(params.limit().get()));
-    }
-
-    return select
-        .append(from)
-        .append(joins)
-        .append(whereFrag)
-        .append(orderByFrag)
-        .append(offsetFrag)
-        .append(limitFrag);
+    return Tuple.of(sql, query.rowParser().apply(1));
   }
 
   /**
@@ -178,7 +75,7 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
    *
    * <p>This allows the outer SELECT to reference columns uniformly as t0.t0_col1.
    */
-  private Fragment renderTableRef(TableState table, Dialect dialect, AtomicInteger counter) {
+  static Fragment renderSourceRef(TableState table, Dialect dialect, AtomicInteger counter) {
     return switch (table) {
       case CompositeTableState composite -> {
         Query<?, ?> innerQuery = composite.innerQuery();
@@ -211,7 +108,7 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
         // FROM first table
         Fragment from =
             Fragment.lit(" from ")
-                .append(renderTableRef(innerQuery.firstTable(), dialect, counter));
+                .append(renderSourceRef(innerQuery.firstTable(), dialect, counter));
 
         // JOINs
         Fragment joins = Fragment.empty();
@@ -220,7 +117,7 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
           joins =
               joins
                   .append(Fragment.lit(joinType))
-                  .append(renderTableRef(join.table(), dialect, counter))
+                  .append(renderSourceRef(join.table(), dialect, counter))
                   .append(Fragment.lit(" on "))
                   .append(join.onCondition().apply(innerCtx, counter));
         }
@@ -267,14 +164,14 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
                 subquery,
                 simple.alias(),
                 simple.orderByFragment().isPresent(),
-                simple.limit(),
-                simple.offset(),
+                literalCount(simple.limit()),
+                literalCount(simple.offset()),
                 extractFields(simple.columns()));
 
         yield subquery.append(Fragment.lit(") ")).append(Fragment.lit(simple.alias()));
       }
       case GroupedTableState grouped ->
-          renderGroupedTableRef(grouped, dialect, counter, this::renderTableRef);
+          renderGroupedTableRef(grouped, dialect, counter, SelectBuilderSql::renderSourceRef);
       case ProjectedTableState projected ->
           throw new IllegalStateException(
               "ProjectedTableState should not appear in standard query rendering");
@@ -401,11 +298,71 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
   }
 
   @Override
-  public int count(Connection connection) {
+  public Stream<Row> stream(Connection connection, int fetchSize) {
+    if (fetchSize < 0) {
+      throw new IllegalArgumentException("fetchSize must be non-negative, got " + fetchSize);
+    }
     Tuple.Tuple2<Fragment, RowParser<Row>> sqlAndParser = getSqlAndRowParser();
     Fragment frag = sqlAndParser._1();
-    Fragment countQuery =
-        Fragment.lit("select count(*) from (").append(frag).append(Fragment.lit(") subq"));
+    RowParser<Row> rowParser = sqlAndParser._2();
+    String sql = frag.render();
+
+    PreparedStatement ps = null;
+    try {
+      ps =
+          connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      ps.setFetchSize(fetchSize);
+      frag.set(ps);
+      ResultSet rs = ps.executeQuery();
+      PreparedStatement statement = ps;
+      Spliterator<Row> rows =
+          new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Row> action) {
+              try {
+                if (!rs.next()) {
+                  return false;
+                }
+                action.accept(rowParser.parse(rs));
+                return true;
+              } catch (SQLException e) {
+                throw new RuntimeException("Failed to read query results: " + sql, e);
+              }
+            }
+          };
+      return StreamSupport.stream(rows, false)
+          .onClose(
+              () -> {
+                // Closing the statement also closes its result set
+                try {
+                  statement.close();
+                } catch (SQLException e) {
+                  throw new RuntimeException("Failed to close statement", e);
+                }
+              });
+    } catch (SQLException e) {
+      closeAfterFailure(ps, e);
+      throw new RuntimeException("Failed to execute query: " + sql, e);
+    } catch (RuntimeException | Error e) {
+      // Binding a value or the driver can fail with an unchecked exception too
+      closeAfterFailure(ps, e);
+      throw e;
+    }
+  }
+
+  private static void closeAfterFailure(PreparedStatement ps, Throwable failure) {
+    if (ps != null) {
+      try {
+        ps.close();
+      } catch (SQLException suppressed) {
+        failure.addSuppressed(suppressed);
+      }
+    }
+  }
+
+  @Override
+  public int count(Connection connection) {
+    Fragment countQuery = countSql();
 
     try (PreparedStatement ps = connection.prepareStatement(countQuery.render())) {
       countQuery.set(ps);
@@ -420,6 +377,76 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
     }
   }
 
+  /**
+   * SQL counting the rows of this query. Columns, sorts and left joins which cannot change the
+   * number of rows are left out, see {@link QueryPlanner#renderCount}.
+   */
+  protected Fragment countSql() {
+    RenderCtx ctx = RenderCtx.from(this, dialect());
+    AtomicInteger counter = new AtomicInteger(0);
+    Query<Fields, Row> query = collectQuery(ctx, counter);
+    return QueryPlanner.renderCount(query, QueryPlanner.expand(query), ctx, counter);
+  }
+
+  /** Count the rows of a rendered query by wrapping it. */
+  static Fragment wrapInCount(Fragment query) {
+    return Fragment.lit("select count(*) from (").append(query).append(Fragment.lit(") subq"));
+  }
+
+  /**
+   * On PostgreSQL, an unfiltered table is estimated from {@code pg_class.reltuples}, and any other
+   * query from the row estimate of {@code EXPLAIN}. Other databases count exactly.
+   */
+  @Override
+  public long estimateCount(Connection connection) {
+    if (dialect() != Dialect.POSTGRESQL) {
+      return count(connection);
+    }
+    if (this instanceof Relation<Fields, Row> relation
+        && relation.params().where().isEmpty()
+        && relation.params().limit().isEmpty()
+        && relation.params().offset().isEmpty()) {
+      // reltuples is -1 for a table which has never been vacuumed or analyzed, and 0 before
+      // PostgreSQL 14. An empty table is cheap to count exactly as well
+      long reltuples =
+          queryLong(
+              connection,
+              Fragment.lit("select reltuples::bigint from pg_class where oid = ")
+                  .append(Fragment.value(relation.name(), GenericDbTypes.text))
+                  .append(Fragment.lit("::regclass")));
+      return reltuples > 0 ? reltuples : count(connection);
+    }
+    Fragment explain = Fragment.lit("explain ").append(getSqlAndRowParser()._1());
+    try (PreparedStatement ps = connection.prepareStatement(explain.render())) {
+      explain.set(ps);
+      try (ResultSet rs = ps.executeQuery()) {
+        // The first line describes the top plan node: "Seq Scan on ... (cost=... rows=N width=...)"
+        if (rs.next()) {
+          Matcher rows = EXPLAIN_ROWS.matcher(rs.getString(1));
+          if (rows.find()) {
+            return Long.parseLong(rows.group(1));
+          }
+        }
+      }
+    } catch (SQLException e) {
+      throw new RuntimeException("Failed to execute query: " + explain.render(), e);
+    }
+    return count(connection);
+  }
+
+  private static final Pattern EXPLAIN_ROWS = Pattern.compile(" rows=(\\d+)");
+
+  private static long queryLong(Connection connection, Fragment query) {
+    try (PreparedStatement ps = connection.prepareStatement(query.render())) {
+      query.set(ps);
+      try (ResultSet rs = ps.executeQuery()) {
+        return rs.next() ? rs.getLong(1) : -1;
+      }
+    } catch (SQLException e) {
+      throw new RuntimeException("Failed to execute query: " + query.render(), e);
+    }
+  }
+
   @Override
   public Optional<Fragment> sql() {
     return Optional.of(getSqlAndRowParser()._1());
@@ -530,6 +557,11 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
     return columns.stream().map(ColumnTuple::column).collect(Collectors.toList());
   }
 
+  /** A row count rendered as a literal, for LIMIT and OFFSET outside of {@link QueryPlanner}. */
+  static Optional<Fragment> literalCount(Optional<Integer> n) {
+    return n.map(value -> Fragment.lit(Integer.toString(value)));
+  }
+
   /** State for a single table in the query. */
   sealed interface TableState
       permits SimpleTableState, CompositeTableState, ProjectedTableState, GroupedTableState {
@@ -545,8 +577,9 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
       String tableName,
       String alias,
       List<ColumnTuple> columns,
-      Optional<Fragment> whereFragment,
-      Optional<Fragment> orderByFragment,
+      RenderedClauses clauses,
+      List<SqlExpr<Boolean>> filters,
+      List<SortOrder<?>> orderBys,
       Optional<Integer> limit,
       Optional<Integer> offset)
       implements TableState {
@@ -554,6 +587,58 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
     public boolean isComposite() {
       return false;
     }
+
+    /** The table's WHERE clause, rendered on first use. */
+    Optional<Fragment> whereFragment() {
+      return clauses.where();
+    }
+
+    /** The table's ORDER BY clause, rendered on first use. */
+    Optional<Fragment> orderByFragment() {
+      return clauses.orderBy();
+    }
+  }
+
+  /**
+   * The WHERE and ORDER BY clauses of a {@link SimpleTableState}. {@link QueryPlanner} renders
+   * filters and sort orders from the expressions, so these are only rendered for the tables
+   * rendered by {@link #renderSourceRef}, and not at all for a statement found in the {@link
+   * RenderCache}.
+   */
+  static final class RenderedClauses {
+    private final OrderByOrSeek.ExpandResult expanded;
+    private final RenderCtx ctx;
+    private final AtomicInteger counter;
+    private Optional<Fragment> where;
+    private Optional<Fragment> orderBy;
+
+    RenderedClauses(OrderByOrSeek.ExpandResult expanded, RenderCtx ctx, AtomicInteger counter) {
+      this.expanded = expanded;
+      this.ctx = ctx;
+      this.counter = counter;
+    }
+
+    Optional<Fragment> where() {
+      if (where == null) {
+        where = expanded.combinedFilter().map(combined -> combined.render(ctx, counter));
+      }
+      return where;
+    }
+
+    Optional<Fragment> orderBy() {
+      if (orderBy == null) {
+        if (expanded.orderBys().isEmpty()) {
+          orderBy = Optional.empty();
+        } else {
+          List<Fragment> orderFragments = new ArrayList<>();
+          for (SortOrder<?> order : expanded.orderBys()) {
+            orderFragments.add(order.render(ctx, counter));
+          }
+          orderBy = Optional.of(Fragment.comma(orderFragments));
+        }
+      }
+      return orderBy;
+    }
   }
 
   /**
@@ -591,8 +676,12 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
     }
   }
 
-  /** Information about a join. */
-  record JoinInfo(TableState table, boolean isLeftJoin, OnConditionRenderer onCondition) {}
+  /**
+   * Information about a join. {@code on} is the join condition as written; {@code onCondition}
+   * renders it, remapping aliases when the joined table is composite.
+   */
+  record JoinInfo(
+      TableState table, boolean isLeftJoin, SqlExpr<Boolean> on, OnConditionRenderer onCondition) {}
 
   /** Functional interface for rendering ON conditions. */
   @FunctionalInterface
@@ -714,28 +803,17 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
               .map(c -> new ColumnTuple(alias, c))
               .collect(Collectors.toList());
 
-      // Render WHERE, ORDER BY for this table
+      // WHERE and ORDER BY are rendered when the table is, see RenderedClauses
       var expanded = OrderByOrSeek.expand(structure.fields(), params);
 
-      Optional<Fragment> whereFragment =
-          expanded.combinedFilter().map(combined -> combined.render(ctx, counter));
-
-      Optional<Fragment> orderByFragment = Optional.empty();
-      if (!expanded.orderBys().isEmpty()) {
-        List<Fragment> orderFragments = new ArrayList<>();
-        for (SortOrder<?> order : expanded.orderBys()) {
-          orderFragments.add(order.render(ctx, counter));
-        }
-        orderByFragment = Optional.of(Fragment.comma(orderFragments));
-      }
-
       SimpleTableState tableState =
           new SimpleTableState(
               tableName,
               alias,
               columns,
-              whereFragment,
-              orderByFragment,
+              new RenderedClauses(expanded, ctx, counter),
+              expanded.filters(),
+              expanded.orderBys(),
               params.limit(),
               params.offset());
 
@@ -831,15 +909,15 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
       List<JoinInfo> allJoins = new ArrayList<>(leftQuery.joins());
 
       // ON condition renderer
-      OnConditionRenderer onRenderer =
-          (joinCtx, cnt) -> pred.apply(newStructure.fields()).render(joinCtx, cnt);
+      SqlExpr<Boolean> on = pred.apply(newStructure.fields());
+      OnConditionRenderer onRenderer = on::render;
 
       // If the right side has its own joins, we cannot flatten them because the ON condition
       // might reference columns from any table in the right side. Instead, mark it as a
       // "composite" table that needs special rendering.
       if (rightQuery.joins().isEmpty()) {
         // Simple case: right side is a single table
-        allJoins.add(new JoinInfo(rightQuery.firstTable(), isLeftJoin, onRenderer));
+        allJoins.add(new JoinInfo(rightQuery.firstTable(), isLeftJoin, on, onRenderer));
       } else {
         // Complex case: right side has joins - create a composite table state
         // that represents the entire right query as a single joined unit
@@ -855,11 +933,11 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
                 remappedAliasMap.put(table.alias(), compositeAlias);
               }
               RenderCtx remappedCtx = joinCtx.withAliasToCteMap(remappedAliasMap);
-              return pred.apply(newStructure.fields()).render(remappedCtx, cnt);
+              return on.render(remappedCtx, cnt);
             };
 
         TableState compositeTable = createCompositeTableState(rightQuery, ctx);
-        allJoins.add(new JoinInfo(compositeTable, isLeftJoin, remappedOnRenderer));
+        allJoins.add(new JoinInfo(compositeTable, isLeftJoin, on, remappedOnRenderer));
       }
 
       // Create combined row parser
@@ -975,13 +1053,13 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
       List<JoinInfo> allJoins = new ArrayList<>(leftQuery.joins());
 
       // Add right table as left join
-      OnConditionRenderer onRenderer =
-          (joinCtx, cnt) -> pred.apply(joinedStructure.fields()).render(joinCtx, cnt);
+      SqlExpr<Boolean> on = pred.apply(joinedStructure.fields());
+      OnConditionRenderer onRenderer = on::render;
 
       // If the right side has its own joins, we cannot flatten them
       if (rightQuery.joins().isEmpty()) {
         // Simple case: right side is a single table
-        allJoins.add(new JoinInfo(rightQuery.firstTable(), true, onRenderer));
+        allJoins.add(new JoinInfo(rightQuery.firstTable(), true, on, onRenderer));
       } else {
         // Complex case: right side has joins
         String compositeAlias = rightQuery.firstTable().alias();
@@ -994,11 +1072,11 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
                 remappedAliasMap.put(table.alias(), compositeAlias);
               }
               RenderCtx remappedCtx = joinCtx.withAliasToCteMap(remappedAliasMap);
-              return pred.apply(joinedStructure.fields()).render(remappedCtx, cnt);
+              return on.render(remappedCtx, cnt);
             };
 
         TableState compositeTable = createCompositeTableState(rightQuery, ctx);
-        allJoins.add(new JoinInfo(compositeTable, true, remappedOnRenderer));
+        allJoins.add(new JoinInfo(compositeTable, true, on, remappedOnRenderer));
       }
 
       // Create combined row parser for left join
@@ -1133,74 +1211,12 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
 
     @Override
     protected Tuple.Tuple2<Fragment, RowParser<NewRow>> getSqlAndRowParser() {
-      // Optimized SQL generation: push down projections to avoid selecting unnecessary columns
-      RenderCtx ctx = RenderCtx.from(underlying, dialect());
+      // Select only the projected expressions; the planner can then drop unused left joins
+      IdentityHashMap<Fragment, RenderCtx.BoundValue> boundValues = new IdentityHashMap<>();
+      RenderCtx ctx = RenderCtx.from(underlying, dialect()).withBoundValues(boundValues);
       AtomicInteger counter = new AtomicInteger(0);
       Query<Fields, Row> underlyingQuery = underlying.collectQuery(ctx, counter);
 
-      Dialect dialect = ctx.dialect();
-      List<TableState> allTables = underlyingQuery.allTables();
-
-      RenderCtx joinCtx =
-          ctx.withJoinContext(true).withAliasToCteMap(buildSimpleAliasMap(allTables));
-
-      // SELECT the projected expressions (both column references and computed expressions)
-      List<Fragment> selectFragments = new ArrayList<>();
-      for (SqlExpr<?> expr : projectedExprs) {
-        // Render the expression - works for both FieldLike and computed expressions
-        Fragment exprFrag = expr.render(joinCtx, counter);
-        selectFragments.add(exprFrag);
-      }
-      Fragment select = Fragment.lit("select ").append(Fragment.comma(selectFragments));
-
-      // FROM: render the first table
-      Fragment from =
-          Fragment.lit("\nfrom ")
-              .append(renderTableRefOptimized(underlyingQuery.firstTable(), dialect, counter));
-
-      // JOINs
-      Fragment joins = Fragment.empty();
-      for (JoinInfo join : underlyingQuery.joins()) {
-        String joinType = join.isLeftJoin() ? " left join " : " join ";
-        joins =
-            joins
-                .append(Fragment.lit("\n" + joinType))
-                .append(renderTableRefOptimized(join.table(), dialect, counter))
-                .append(Fragment.lit(" on "))
-                .append(join.onCondition().apply(joinCtx, counter));
-      }
-
-      // WHERE, ORDER BY, LIMIT, OFFSET from underlying params
-      Fragment whereFrag = Fragment.empty();
-      Fragment orderByFrag = Fragment.empty();
-      Fragment limitFrag = Fragment.empty();
-      Fragment offsetFrag = Fragment.empty();
-
-      SelectParams<Fields, Row> underlyingParams = underlyingQuery.topLevelParams();
-      var expanded = OrderByOrSeek.expand(underlyingQuery.fields(), underlyingParams);
-
-      whereFrag =
-          expanded
-              .combinedFilter()
-              .map(combined -> Fragment.lit("\nwhere ").append(combined.render(joinCtx, counter)))
-              .orElse(Fragment.empty());
-
-      if (!expanded.orderBys().isEmpty()) {
-        List<Fragment> orderFragments = new ArrayList<>();
-        for (SortOrder<?> order : expanded.orderBys()) {
-          orderFragments.add(order.render(joinCtx, counter));
-        }
-        orderByFrag = Fragment.lit("\norder by ").append(Fragment.comma(orderFragments));
-      }
-
-      if (underlyingParams.offset().isPresent()) {
-        offsetFrag = Fragment.lit("\noffset " + underlyingParams.offset().get());
-      }
-
-      if (underlyingParams.limit().isPresent()) {
-        limitFrag = Fragment.lit("\nlimit " + underlyingParams.limit().get());
-      }
-
       // Handle params on the projected query itself
       if (!params.where().isEmpty()
           || !params.orderBy().isEmpty()
@@ -1209,116 +1225,47 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
         // TODO: Apply params from the projected query
       }
 
-      return Tuple.of(
-          select
-              .append(from)
-              .append(joins)
-              .append(whereFrag)
-              .append(orderByFrag)
-              .append(offsetFrag)
-              .append(limitFrag),
-          buildRowParser());
+      RenderCache.Shape shape = RenderCache.shape(dialect(), underlyingQuery, projectedExprs);
+      Optional<Fragment> cached = shape.lookup();
+      Fragment sql;
+      if (cached.isPresent()) {
+        sql = cached.get();
+      } else {
+        sql = QueryPlanner.render(underlyingQuery, shape.topLevel(), projectedExprs, ctx, counter);
+        shape.store(sql, boundValues);
+      }
+      return Tuple.of(sql, buildRowParser());
     }
 
-    /**
-     * Render a table reference for optimized projection queries. For simple tables with WHERE
-     * clauses, use a subquery to preserve filtering.
-     */
-    private Fragment renderTableRefOptimized(
-        TableState table, Dialect dialect, AtomicInteger counter) {
-      return switch (table) {
-        case SimpleTableState simple -> {
-          boolean needsSubquery =
-              simple.whereFragment().isPresent()
-                  || simple.orderByFragment().isPresent()
-                  || simple.limit().isPresent()
-                  || simple.offset().isPresent();
-
-          if (!needsSubquery) {
-            yield Fragment.lit(dialect.quoteTableName(simple.tableName()) + " " + simple.alias());
-          }
-
-          // Build subquery to preserve filtering
-          Fragment subquery =
-              Fragment.lit("(SELECT * FROM ")
-                  .append(Fragment.lit(dialect.quoteTableName(simple.tableName())))
-                  .append(Fragment.lit(" "))
-                  .append(Fragment.lit(simple.alias()));
-
-          if (simple.whereFragment().isPresent()) {
-            subquery =
-                subquery.append(Fragment.lit(" WHERE ")).append(simple.whereFragment().get());
-          }
-          if (simple.orderByFragment().isPresent()) {
-            subquery =
-                subquery.append(Fragment.lit(" ORDER BY ")).append(simple.orderByFragment().get());
-          }
-          if (simple.offset().isPresent()) {
-            subquery = subquery.append(Fragment.lit(" OFFSET " + simple.offset().get()));
-          }
-          if (simple.limit().isPresent()) {
-            subquery = subquery.append(Fragment.lit(" LIMIT " + simple.limit().get()));
-          }
-
-          yield subquery.append(Fragment.lit(") ")).append(Fragment.lit(simple.alias()));
-        }
-        case CompositeTableState composite -> {
-          // For composite (joined) tables, we need to render as a subquery
-          Query<?, ?> innerQuery = composite.innerQuery();
-          List<TableState> innerTables = innerQuery.allTables();
-
-          Map<String, String> innerAliasMap = new HashMap<>();
-          for (TableState table1 : innerTables) {
-            innerAliasMap.put(table1.alias(), table1.alias());
-          }
-          RenderCtx innerCtx =
-              composite.renderCtx().withJoinContext(true).withAliasToCteMap(innerAliasMap);
-
-          // SELECT only columns from the composite that are needed
-          List<Fragment> colFragments = new ArrayList<>();
-          for (TableState table1 : innerTables) {
-            for (ColumnTuple col : table1.columns()) {
-              String uniqueAlias = table1.alias() + "_" + col.column().name();
-              Fragment colRef =
-                  Fragment.lit(
-                      table1.alias()
-                          + "."
-                          + dialect.quoteIdent(col.column().name())
-                          + " AS "
-                          + uniqueAlias);
-              colFragments.add(colRef);
-            }
-          }
-          Fragment select = Fragment.lit("SELECT ").append(Fragment.comma(colFragments));
-          Fragment from =
-              Fragment.lit(" FROM ")
-                  .append(renderTableRefOptimized(innerQuery.firstTable(), dialect, counter));
-
-          Fragment joins = Fragment.empty();
-          for (JoinInfo join : innerQuery.joins()) {
-            String joinType = join.isLeftJoin() ? " LEFT JOIN " : " JOIN ";
-            joins =
-                joins
-                    .append(Fragment.lit(joinType))
-                    .append(renderTableRefOptimized(join.table(), dialect, counter))
-                    .append(Fragment.lit(" ON "))
-                    .append(join.onCondition().apply(innerCtx, counter));
-          }
-
-          yield Fragment.interpolate(
-              Fragment.lit("("),
-              select,
-              from,
-              joins,
-              Fragment.lit(") "),
-              Fragment.lit(innerTables.getFirst().alias()));
-        }
-        case GroupedTableState grouped -> // Delegate to the standard grouped table rendering
-            SelectBuilderSql.renderGroupedTableRef(
-                grouped, dialect, counter, this::renderTableRefOptimized);
-        case ProjectedTableState projected ->
-            throw new IllegalStateException(
-                "ProjectedTableState should not appear in underlying query");
+    @Override
+    protected Fragment countSql() {
+      // An aggregating projection has one row, so it is counted as it is
+      if (projectedExprs.stream().anyMatch(ProjectedSelectBuilder::aggregates)) {
+        return wrapInCount(getSqlAndRowParser()._1());
+      }
+      // Otherwise a projection has as many rows as the query it projects, and its own params are
+      // not applied, see getSqlAndRowParser
+      return underlying.countSql();
+    }
+
+    /** Whether an expression aggregates the rows of the query. A subquery aggregates its own. */
+    private static boolean aggregates(SqlExpr<?> expr) {
+      return switch (expr) {
+        case SqlExpr.CountStar countStar -> true;
+        case SqlExpr.Count<?> count -> true;
+        case SqlExpr.CountDistinct<?> countDistinct -> true;
+        case SqlExpr.Sum<?, ?> sum -> true;
+        case SqlExpr.Avg<?> avg -> true;
+        case SqlExpr.Min<?> min -> true;
+        case SqlExpr.Max<?> max -> true;
+        case SqlExpr.StringAgg stringAgg -> true;
+        case SqlExpr.ArrayAgg<?> arrayAgg -> true;
+        case SqlExpr.JsonAgg<?> jsonAgg -> true;
+        case SqlExpr.BoolAnd boolAnd -> true;
+        case SqlExpr.BoolOr boolOr -> true;
+        case SqlExpr.Subquery<?, ?> subquery -> false;
+        case SqlExpr.Exists<?, ?> exists -> false;
+        default -> expr.children().stream().anyMatch(ProjectedSelectBuilder::aggregates);
       };
     }
 
@@ -1443,7 +1390,7 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
    *
    * <pre>
    * SELECT p.*,
-   *        (SELECT json_agg(jsonb_build_object('id', e.id, 'email', e.email))
+   *        (SELECT json_agg(json_build_array(e.id, e.email))
    *         FROM emails e WHERE e.person_id = p.id) as child_data
    * FROM persons p
    * </pre>
@@ -1720,12 +1667,26 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
       return Tuple.of(sql, rowParser);
     }
 
+    @Override
+    protected Fragment countSql() {
+      // One row per parent row, so unless this query filters or limits the parents itself, it has
+      // as many rows as the parent query and the child subquery need not run at all
+      if (params.where().isEmpty() && params.limit().isEmpty() && params.offset().isEmpty()) {
+        return parentBuilder.countSql();
+      }
+      return wrapInCount(getSqlAndRowParser()._1());
+    }
+
     /**
-     * Build the correlated subquery that produces JSON for the child rows.
+     * Build the correlated subquery that produces JSON for the child rows. Each child row is a
+     * positional JSON array in column order, which {@link RowParser#parseJsonArray} reads without
+     * needing column names, so the payload does not repeat them for every row.
      *
-     * <p>PostgreSQL: (SELECT COALESCE(json_agg(jsonb_build_object(...)), '[]'::json) FROM ...)
+     * <p>PostgreSQL: (SELECT COALESCE(json_agg(json_build_array(...)), '[]'::json) FROM ...)
      *
-     * <p>MariaDB: (SELECT COALESCE(JSON_ARRAYAGG(JSON_OBJECT(...)), JSON_ARRAY()) FROM ...)
+     * <p>MariaDB: (SELECT COALESCE(JSON_ARRAYAGG(JSON_ARRAY(...)), JSON_ARRAY()) FROM ...)
+     *
+     * <p>DuckDB: (SELECT COALESCE(json_group_array(json_array(...)), '[]') FROM ...)
      */
     private Fragment buildMultisetSubquery(
         Query<Fields1, Row1> parentQuery,
@@ -1738,39 +1699,47 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
       List<TableState> parentTables = parentQuery.allTables();
       List<TableState> childTables = childQuery.allTables();
 
-      // Build the JSON object construction for all child columns
-      List<Fragment> jsonFields = new ArrayList<>();
+      // The JSON array elements for all child columns, in RowParser column order
+      List<Fragment> jsonElements = new ArrayList<>();
       for (TableState table : childTables) {
         for (ColumnTuple col : table.columns()) {
           String colName = col.column().column();
-          Fragment colRef = Fragment.lit(table.alias() + "." + dialect.quoteIdent(colName));
-          // Add key-value pair: 'column_name', column_value
-          jsonFields.add(Fragment.lit("'" + colName + "'"));
-          jsonFields.add(colRef);
+          jsonElements.add(Fragment.lit(table.alias() + "." + dialect.quoteIdent(colName)));
         }
       }
 
       // Build JSON aggregation based on dialect
       Fragment jsonAgg;
       if (dialect == Dialect.MARIADB) {
-        // MariaDB: JSON_ARRAYAGG(JSON_OBJECT('key1', val1, 'key2', val2, ...))
-        Fragment jsonObject =
-            Fragment.lit("JSON_OBJECT(")
-                .append(Fragment.comma(jsonFields))
+        // MariaDB: JSON_ARRAYAGG(JSON_ARRAY(val1, val2, ...))
+        Fragment jsonArray =
+            Fragment.lit("JSON_ARRAY(")
+                .append(Fragment.comma(jsonElements))
                 .append(Fragment.lit(")"));
         jsonAgg =
             Fragment.lit("COALESCE(JSON_ARRAYAGG(")
-                .append(jsonObject)
+                .append(jsonArray)
                 .append(Fragment.lit("), JSON_ARRAY())"));
+      } else if (dialect == Dialect.DUCKDB) {
+        // DuckDB: json_group_array(json_array(val1, val2, ...))
+        Fragment jsonArray =
+            Fragment.lit("json_array(")
+                .append(Fragment.comma(jsonElements))
+                .append(Fragment.lit(")"));
+        jsonAgg =
+            Fragment.lit("COALESCE(json_group_array(")
+                .append(jsonArray)
+                .append(Fragment.lit("), '[]')"));
       } else {
-        // PostgreSQL: json_agg(jsonb_build_object('key1', val1, 'key2', val2, ...))
-        Fragment jsonObject =
-            Fragment.lit("jsonb_build_object(")
-                .append(Fragment.comma(jsonFields))
+        // PostgreSQL: json_agg(json_build_array(val1, val2, ...)). json rather than jsonb, so the
+        // server does not build binary objects only to serialize them again
+        Fragment jsonArray =
+            Fragment.lit("json_build_array(")
+                .append(Fragment.comma(jsonElements))
                 .append(Fragment.lit(")"));
         jsonAgg =
             Fragment.lit("COALESCE(json_agg(")
-                .append(jsonObject)
+                .append(jsonArray)
                 .append(Fragment.lit("), '[]'::json)"));
       }
 
@@ -2149,11 +2118,26 @@ public abstract class SelectBuilderSql<Fields, Row> implements SelectBuilder<Fie
       return results;
     }
 
+    @Override
+    public Stream<Row> stream(Connection connection, int fetchSize) {
+      return outer.stream(connection, fetchSize).map(bijection::underlying);
+    }
+
     @Override
     public int count(Connection connection) {
       return outer.count(connection);
     }
 
+    @Override
+    protected Fragment countSql() {
+      return outer.countSql();
+    }
+
+    @Override
+    public long estimateCount(Connection connection) {
+      return outer.estimateCount(connection);
+    }
+
     @Override
     public Optional<Fragment> sql() {
       return outer.sql();
@@ -1,8 +1,12 @@
 package dev.typr.foundations.dsl;
 
 import dev.typr.foundations.DbType;
+import dev.typr.foundations.DuckDbType;
 import dev.typr.foundations.Either;
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
+import dev.typr.foundations.PgRead;
+import dev.typr.foundations.PgType;
 import dev.typr.foundations.Tuple;
 import dev.typr.foundations.data.Json;
 import java.math.BigDecimal;
@@ -33,6 +37,7 @@ public sealed interface SqlExpr<T>
         SqlExpr.RowExpr,
         SqlExpr.Exists,
         SqlExpr.IncludeIf,
+        SqlExpr.Param,
         // Aggregate functions
         SqlExpr.CountStar,
         SqlExpr.Count,
@@ -682,7 +687,7 @@ public sealed interface SqlExpr<T>
   record ConstReq<T>(T value, DbType<T> dbType) implements Const<T> {
     @Override
     public Fragment render(RenderCtx ctx, AtomicInteger counter) {
-      return Fragment.value(value(), dbType());
+      return ctx.value(this, 0, value(), dbType());
     }
 
     @Override
@@ -694,7 +699,9 @@ public sealed interface SqlExpr<T>
   record ConstOpt<T>(Optional<T> value, DbType<T> dbType) implements Const<T> {
     @Override
     public Fragment render(RenderCtx ctx, AtomicInteger counter) {
-      return value().<Fragment>map(v -> Fragment.value(v, dbType())).orElse(Fragment.lit("NULL"));
+      return value()
+          .<Fragment>map(v -> ctx.value(this, 0, v, dbType()))
+          .orElse(Fragment.lit("NULL"));
     }
 
     @Override
@@ -708,6 +715,40 @@ public sealed interface SqlExpr<T>
     }
   }
 
+  /**
+   * A parameter whose value is supplied when a prepared query is executed, see {@link
+   * SelectBuilder#prepare(Param)}. Renders as a bind parameter like a constant. Queries containing
+   * parameters can only be executed through {@link PreparedSelect}.
+   *
+   * <p>Parameters are compared by identity, so two parameters with the same name and type are still
+   * bound separately.
+   *
+   * @param name identifies the parameter in error messages
+   */
+  record Param<T>(String name, DbType<T> dbType) implements SqlExpr<T> {
+    @Override
+    @SuppressWarnings("unchecked")
+    public Fragment render(RenderCtx ctx, AtomicInteger counter) {
+      // The parameter itself stands in for its value until PreparedSelect binds it
+      return ctx.value(this, 0, (T) this, dbType());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return this == other;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(this);
+    }
+
+    @Override
+    public List<SqlExpr<?>> children() {
+      return List.of();
+    }
+  }
+
   // Function applications
   record Apply1<T1, O>(SqlFunction1<T1, O> f, SqlExpr<T1> arg1) implements SqlExpr<O> {
     @Override
@@ -910,6 +951,48 @@ public sealed interface SqlExpr<T>
    * types that extend the tuple type.
    */
   record In<T, V extends T>(SqlExpr<T> lhs, SqlExpr<List<V>> rhs) implements SqlExpr<Boolean> {
+    /**
+     * Lists of more constants than this are bound as a single array parameter on PostgreSQL and
+     * DuckDB, {@code lhs = ANY(?)}, instead of one parameter per value. The SQL then stays the same
+     * whatever the number of values.
+     */
+    public static final int ARRAY_BIND_THRESHOLD = 32;
+
+    /** The values of an IN list bound as one array, see {@link #ARRAY_BIND_THRESHOLD}. */
+    record ArrayBind(Object[] values, DbType<?> elementType, DbType<Object[]> arrayType) {}
+
+    /** How this IN list is bound as an array in {@code dialect}, if it is. */
+    @SuppressWarnings("unchecked")
+    Optional<ArrayBind> arrayBind(Dialect dialect) {
+      if (!dialect.supportsArrayBinds()) {
+        return Optional.empty();
+      }
+      if (unwrapUnderlying(lhs()) instanceof TupleExpr<?>
+          || !(unwrapUnderlying(rhs()) instanceof Rows<?> rows)
+          || rows.rows().size() <= ARRAY_BIND_THRESHOLD) {
+        return Optional.empty();
+      }
+      Object[] values = new Object[rows.rows().size()];
+      for (int i = 0; i < values.length; i++) {
+        if (!(unwrapUnderlying(rows.rows().get(i)) instanceof ConstReq<?> constant)) {
+          return Optional.empty();
+        }
+        values[i] = constant.value();
+      }
+      DbType<?> elementType = rows.rows().getFirst().dbType();
+      DbType<Object[]> arrayType =
+          switch (elementType) {
+            case PgType<?> pgType ->
+                ((PgType<Object>) pgType)
+                    .array(PgRead.massageJdbcArrayTo(Object[].class), Object[]::new);
+            case DuckDbType<?> duckDbType -> ((DuckDbType<Object>) duckDbType).array();
+            default -> null;
+          };
+      if (arrayType == null) {
+        return Optional.empty();
+      }
+      return Optional.of(new ArrayBind(values, elementType, arrayType));
+    }
 
     @Override
     public DbType<Boolean> dbType() {
@@ -940,6 +1023,7 @@ public sealed interface SqlExpr<T>
           for (SqlExpr<?> row : rows.rows()) {
             rhsRows.add(renderTupleRow(row, ctx, counter));
           }
+          padToBucket(rhsRows, ctx.dialect());
           return ctx.dialect().renderTupleIn(lhsCols, rhsRows, hasNullable);
         }
 
@@ -961,20 +1045,55 @@ public sealed interface SqlExpr<T>
         return Fragment.lit("1=0");
       }
 
-      Fragment rhsFrag = rhs().render(ctx, counter);
+      Optional<ArrayBind> array = arrayBind(ctx.dialect());
+      if (array.isPresent()) {
+        return lhsFrag
+            .append(Fragment.lit(" = ANY("))
+            .append(ctx.value(this, 0, array.get().values(), array.get().arrayType()))
+            .append(Fragment.lit(")"));
+      }
+
+      Fragment rhsFrag;
+      if (unwrappedRhs instanceof Rows<?> rows) {
+        List<Fragment> values = new ArrayList<>();
+        for (SqlExpr<?> row : rows.rows()) {
+          values.add(row.render(ctx, counter));
+        }
+        padToBucket(values, ctx.dialect());
+        rhsFrag = Fragment.comma(values);
+      } else {
+        rhsFrag = rhs().render(ctx, counter);
+      }
       return lhsFrag.append(Fragment.lit(" IN (")).append(rhsFrag).append(Fragment.lit(")"));
     }
 
+    /**
+     * Without array binds, pad a rendered list to its {@link InList#bucketSize} by repeating the
+     * last value, so lists of similar lengths render to the same SQL. The repeated fragments bind
+     * the same constant, which keeps the statement cacheable by {@link RenderCache}.
+     */
+    private static <A> void padToBucket(List<A> rendered, Dialect dialect) {
+      if (dialect.supportsArrayBinds()) {
+        return;
+      }
+      A last = rendered.getLast();
+      for (int i = rendered.size(); i < InList.bucketSize(rendered.size()); i++) {
+        rendered.add(last);
+      }
+    }
+
     /** Render a tuple row (ConstTuple or similar) to a list of column fragments. */
     private List<Fragment> renderTupleRow(SqlExpr<?> row, RenderCtx ctx, AtomicInteger counter) {
       SqlExpr<?> unwrapped = unwrapUnderlying(row);
       if (unwrapped instanceof ConstTuple<?> constTuple) {
         Object[] arr = constTuple.value().asArray();
+        // Elements are numbered after the flattened ones ConstTuple.render binds
+        int element = ctx.boundValues() == null ? 0 : constTuple.flattenedValues().length;
         List<Fragment> cols = new ArrayList<>();
         for (int i = 0; i < arr.length; i++) {
           @SuppressWarnings("unchecked")
           DbType<Object> dbType = (DbType<Object>) constTuple.dbTypes().get(i);
-          cols.add(Fragment.value(arr[i], dbType));
+          cols.add(ctx.value(constTuple, element + i, arr[i], dbType));
         }
         return cols;
       }
@@ -1102,7 +1221,7 @@ public sealed interface SqlExpr<T>
     @SuppressWarnings("unchecked")
     public Fragment render(RenderCtx ctx, AtomicInteger counter) {
       // Flatten nested tuples to match flattenedDbTypes()
-      Object[] arr = flattenTupleValues(value);
+      Object[] arr = flattenedValues();
       List<Fragment> parts = new ArrayList<>();
       for (int i = 0; i < arr.length; i++) {
         Object val = arr[i];
@@ -1114,7 +1233,7 @@ public sealed interface SqlExpr<T>
           if (opt.isEmpty()) {
             parts.add(Fragment.lit("NULL"));
           } else {
-            parts.add(Fragment.value(opt.get(), dbType));
+            parts.add(ctx.value(this, i, opt.get(), dbType));
           }
         } else if (val instanceof Tuple) {
           // This should never happen if flattenTupleValues works correctly
@@ -1129,12 +1248,17 @@ public sealed interface SqlExpr<T>
                   + val.getClass().getName()
                   + ")");
         } else {
-          parts.add(Fragment.value(val, dbType));
+          parts.add(ctx.value(this, i, val, dbType));
         }
       }
       return Fragment.lit("(").append(Fragment.comma(parts)).append(Fragment.lit(")"));
     }
 
+    /** The element values, with nested tuples flattened to match the dbTypes. */
+    Object[] flattenedValues() {
+      return flattenTupleValues(value);
+    }
+
     /** Recursively flatten nested Tuple values to match flattenedDbTypes(). */
     private static Object[] flattenTupleValues(Tuple tuple) {
       List<Object> flat = new ArrayList<>();
@@ -1487,13 +1611,13 @@ public sealed interface SqlExpr<T>
         return Fragment.lit("GROUP_CONCAT(")
             .append(expr.render(ctx, counter))
             .append(Fragment.lit(" SEPARATOR "))
-            .append(Fragment.value(delimiter, GenericDbTypes.text))
+            .append(ctx.value(this, 0, delimiter, GenericDbTypes.text))
             .append(Fragment.lit(")"));
       } else {
         return Fragment.lit("STRING_AGG(")
             .append(expr.render(ctx, counter))
             .append(Fragment.lit(", "))
-            .append(Fragment.value(delimiter, GenericDbTypes.text))
+            .append(ctx.value(this, 0, delimiter, GenericDbTypes.text))
             .append(Fragment.lit(")"));
       }
     }
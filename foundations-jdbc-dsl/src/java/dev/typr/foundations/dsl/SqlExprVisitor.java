@@ -146,6 +146,9 @@ public interface SqlExprVisitor<T, Row, Result> {
           throw new UnsupportedOperationException("Rows cannot be evaluated directly");
       case SqlExpr.ConstTuple<?> constTuple ->
           throw new UnsupportedOperationException("ConstTuple cannot be evaluated directly");
+      case SqlExpr.Param<?> param ->
+          throw new UnsupportedOperationException(
+              "Param " + param.name() + " has no value outside a PreparedSelect");
       case SqlExpr.Between<?> between -> visitDefault((SqlExpr<T>) between);
     };
   }
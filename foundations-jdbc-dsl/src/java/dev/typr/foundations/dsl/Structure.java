@@ -39,12 +39,13 @@ public interface Structure<Fields, Row> {
   /**
    * Evaluate a SQL expression against a row, returning the computed value.
    *
-   * <p><b>Mock-only:</b> This method is only used by {@link SelectBuilderMock} for in-memory query
-   * evaluation. It provides a visitor-based interpreter for all SqlExpr types, allowing mock
-   * repositories to filter, sort, and project rows without a database.
+   * <p>This method is used by {@link SelectBuilderMock} for in-memory query evaluation, and by
+   * {@link PrefetchBuilder} to read join keys from fetched rows. It provides a visitor-based
+   * interpreter for all SqlExpr types, allowing mock repositories to filter, sort, and project rows
+   * without a database.
    *
-   * <p>{@link SelectBuilderSql} does not use this method - it renders expressions to SQL strings
-   * instead.
+   * <p>{@link SelectBuilderSql} does not use this method to build queries - it renders expressions
+   * to SQL strings instead.
    *
    * <p>It's up to you to ensure that the Row in field is the same type as row.
    */
@@ -4,6 +4,7 @@ import dev.typr.foundations.DbType;
 import dev.typr.foundations.Fragment;
 import dev.typr.foundations.RowParser;
 import java.sql.Connection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -65,6 +66,41 @@ public interface UpdateBuilder<Fields, Row> {
   /** Execute the update and return the updated rows (using RETURNING clause). */
   List<Row> executeReturning(Connection connection);
 
+  /**
+   * Update many rows, each to its own values. Every row is matched by its ID fields, and its values
+   * for {@code fields} are written to the matching row of the table. The rows are sent as one
+   * derived table per statement, {@code UPDATE t SET ... FROM (VALUES ...) v WHERE t.id = v.id}, or
+   * the equivalent join or MERGE on databases without UPDATE ... FROM, instead of one UPDATE per
+   * row. They are split into as many statements as the database's parameter limit requires.
+   *
+   * <p>Any SET and WHERE clauses of this builder apply to every row as well, but a field cannot be
+   * both in {@code fields} and set by this builder. When a row occurs more than once, the last
+   * occurrence wins, as if the rows were updated one by one, and the row is counted once.
+   *
+   * <pre>{@code
+   * productRepo.update()
+   *     .updateMany(repricedRows.iterator(), p -> List.of(p.listprice(), p.modifieddate()), c);
+   * }</pre>
+   *
+   * @param rows The rows to write
+   * @param fields The fields to update. ID fields cannot be updated.
+   * @return the number of rows updated
+   */
+  int updateMany(
+      Iterator<Row> rows,
+      Function<Fields, List<SqlExpr.FieldLike<?, Row>>> fields,
+      Connection connection);
+
   /** Get the SQL for debugging purposes. Returns empty if backed by a mock repository. */
   Optional<Fragment> sql();
+
+  /**
+   * Get the SQL {@link #updateMany} writes {@code rows} with, for debugging purposes. The rows are
+   * rendered as one statement, whatever the database's parameter limit. Returns empty if backed by
+   * a mock repository.
+   *
+   * @throws IllegalArgumentException if {@code rows} is empty
+   */
+  Optional<Fragment> updateManySql(
+      List<Row> rows, Function<Fields, List<SqlExpr.FieldLike<?, Row>>> fields);
 }
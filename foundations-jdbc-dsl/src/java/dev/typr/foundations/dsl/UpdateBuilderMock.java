@@ -5,7 +5,10 @@ import dev.typr.foundations.Either;
 import dev.typr.foundations.Fragment;
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -160,11 +163,80 @@ public class UpdateBuilderMock<Fields, Row> implements UpdateBuilder<Fields, Row
     return updatedRows;
   }
 
+  @Override
+  public int updateMany(
+      Iterator<Row> rows,
+      Function<Fields, List<SqlExpr.FieldLike<?, Row>>> fields,
+      Connection connection) {
+    Fields structureFields = structure.fields();
+    UpdateMany<Fields, Row> updateMany =
+        UpdateMany.of(structure, fields.apply(structureFields), params);
+
+    // Index the rows by key, the last occurrence of a key winning like in the SQL implementation
+    Map<List<Optional<?>>, Row> newRows = new HashMap<>();
+    rows.forEachRemaining(row -> newRows.put(updateMany.keyOf(row), row));
+
+    List<Row> allRows = new ArrayList<>(allRowsSupplier.get());
+    int updated = 0;
+
+    for (int i = 0; i < allRows.size(); i++) {
+      Row row = allRows.get(i);
+      Row newRow = newRows.get(updateMany.keyOf(row));
+      if (newRow == null) {
+        continue;
+      }
+
+      // Check WHERE clauses
+      boolean matches = true;
+      for (Function<Fields, SqlExpr<Boolean>> whereFunc : params.where()) {
+        SqlExpr<Boolean> condition = whereFunc.apply(structureFields);
+        Boolean result = structure.untypedEval(condition, row).orElse(false);
+        if (!result) {
+          matches = false;
+          break;
+        }
+      }
+
+      if (matches) {
+        // Copy the updated fields from the new row, then apply the setters
+        Row updatedRow = row;
+        for (SqlExpr.FieldLike<?, Row> field : updateMany.columns) {
+          updatedRow = copyField(field, newRow, updatedRow);
+        }
+        for (UpdateParams.Setter<Fields, ?, Row> setter : params.setters()) {
+          updatedRow = applySetter(setter, structureFields, updatedRow);
+        }
+
+        allRows.set(i, updatedRow);
+        updated++;
+      }
+    }
+
+    return updated;
+  }
+
   @Override
   public Optional<Fragment> sql() {
     return Optional.empty(); // Mock doesn't generate SQL
   }
 
+  @Override
+  public Optional<Fragment> updateManySql(
+      List<Row> rows, Function<Fields, List<SqlExpr.FieldLike<?, Row>>> fields) {
+    return Optional.empty(); // Mock doesn't generate SQL
+  }
+
+  /** Copy the value {@code from} has for {@code field} to {@code to}. */
+  private <T> Row copyField(SqlExpr.FieldLike<T, Row> field, Row from, Row to) {
+    return field
+        .set(to, structure.untypedGetFieldValue(field, from))
+        .fold(
+            error -> {
+              throw new RuntimeException("Failed to set field '" + field.column() + "': " + error);
+            },
+            updatedRow -> updatedRow);
+  }
+
   /**
    * Apply a setter to update a field value. Uses the generated field accessor's set method - no
    * reflection needed! This follows the same pattern as the Scala implementation.
@@ -8,6 +8,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -109,23 +110,134 @@ public record UpdateBuilderSql<Fields, Row>(
     }
   }
 
+  @Override
+  public int updateMany(
+      Iterator<Row> rows,
+      Function<Fields, List<SqlExpr.FieldLike<?, Row>>> fields,
+      Connection connection) {
+    UpdateMany<Fields, Row> updateMany =
+        UpdateMany.of(structure, fields.apply(structure.fields()), params);
+    // Render the clauses shared by every row once, to see how many parameters they leave for rows
+    Fragment shared =
+        Fragment.comma(renderSetters(new AtomicInteger(0)))
+            .append(renderWhere(new AtomicInteger(0)).orElse(Fragment.empty()));
+    int maxParams = renderCtx.dialect().maxBindParameters() - countValues(shared);
+    int chunkSize =
+        Math.max(1, Math.min(UpdateMany.MAX_ROWS, maxParams / updateMany.paramsPerRow()));
+
+    int updated = 0;
+    List<Row> distinct = updateMany.distinct(rows);
+    for (int from = 0; from < distinct.size(); from += chunkSize) {
+      List<Row> chunk = distinct.subList(from, Math.min(distinct.size(), from + chunkSize));
+      Fragment query = mkUpdateManySql(updateMany, chunk);
+      try (PreparedStatement ps = connection.prepareStatement(query.render())) {
+        query.set(ps);
+        updated += ps.executeUpdate();
+      } catch (SQLException e) {
+        throw new RuntimeException("Failed to execute update: " + query.render(), e);
+      }
+    }
+    return updated;
+  }
+
   @Override
   public Optional<Fragment> sql() {
     return Optional.of(mkSql());
   }
 
+  @Override
+  public Optional<Fragment> updateManySql(
+      List<Row> rows, Function<Fields, List<SqlExpr.FieldLike<?, Row>>> fields) {
+    if (rows.isEmpty()) {
+      throw new IllegalArgumentException("updateManySql requires at least one row");
+    }
+    UpdateMany<Fields, Row> updateMany =
+        UpdateMany.of(structure, fields.apply(structure.fields()), params);
+    return Optional.of(mkUpdateManySql(updateMany, updateMany.distinct(rows.iterator())));
+  }
+
   private Fragment mkSql() {
     if (params.setters().isEmpty()) {
       throw new IllegalStateException("Cannot update without any SET clauses");
     }
 
     AtomicInteger counter = new AtomicInteger(0);
-    Fields fields = structure.fields();
 
     // Build UPDATE clause
     Fragment update = Fragment.lit("UPDATE " + tableName + " SET ");
+    update = update.append(Fragment.comma(renderSetters(counter)));
+
+    // Build WHERE clause
+    Optional<Fragment> where = renderWhere(counter);
+    if (where.isPresent()) {
+      update = update.append(Fragment.lit(" WHERE ")).append(where.get());
+    }
+
+    return update;
+  }
+
+  /**
+   * The statement writing {@code rows}. They become the rows of a derived table {@code v}, whose
+   * columns hold the key values and then the new values of each row.
+   */
+  private Fragment mkUpdateManySql(UpdateMany<Fields, Row> updateMany, List<Row> rows) {
+    AtomicInteger counter = new AtomicInteger(0);
+    Dialect dialect = renderCtx.dialect();
+    List<SqlExpr.FieldLike<?, Row>> columns = new ArrayList<>(updateMany.keys);
+    columns.addAll(updateMany.columns);
+
+    List<List<Fragment>> values = new ArrayList<>();
+    for (Row row : rows) {
+      List<Fragment> rowValues = new ArrayList<>(columns.size());
+      for (SqlExpr.FieldLike<?, Row> column : columns) {
+        rowValues.add(encodeValue(updateMany.structure, column, row));
+      }
+      values.add(rowValues);
+    }
 
-    // Build SET clauses
+    List<Fragment> matches = new ArrayList<>();
+    List<Fragment> assignments = new ArrayList<>();
+    for (int i = 0; i < columns.size(); i++) {
+      SqlExpr.FieldLike<?, Row> column = columns.get(i);
+      Fragment valueRef = Fragment.lit("v.c" + (i + 1));
+      Fragment castedValue =
+          column
+              .sqlWriteCast()
+              .<Fragment>map(cast -> dialect.typeCast(valueRef, cast))
+              .orElse(valueRef);
+      Fragment columnRef = column.render(renderCtx, counter).append(Fragment.lit(" = "));
+      if (i < updateMany.keys.size()) {
+        matches.add(columnRef.append(castedValue));
+      } else {
+        assignments.add(columnRef.append(castedValue));
+      }
+    }
+    assignments.addAll(renderSetters(counter));
+
+    return dialect.renderUpdateFromValues(
+        tableName, values, matches, assignments, renderWhere(counter));
+  }
+
+  /** The number of parameters in {@code fragment}. */
+  private static int countValues(Fragment fragment) {
+    return switch (fragment) {
+      case Fragment.Append append -> countValues(append.a()) + countValues(append.b());
+      case Fragment.Concat concat ->
+          concat.frags().stream().mapToInt(UpdateBuilderSql::countValues).sum();
+      case Fragment.Value<?> value -> 1;
+      case Fragment.Literal literal -> 0;
+    };
+  }
+
+  /** The value {@code row} has for {@code field}, as a parameter. */
+  private static <Row, T> Fragment encodeValue(
+      Structure<?, Row> structure, SqlExpr.FieldLike<T, Row> field, Row row) {
+    return Fragment.encode(field.dbType().opt(), structure.untypedGetFieldValue(field, row));
+  }
+
+  /** The SET assignments of this builder. */
+  private List<Fragment> renderSetters(AtomicInteger counter) {
+    Fields fields = structure.fields();
     List<Fragment> setFragments = new ArrayList<>();
     Dialect dialect = renderCtx.dialect();
     for (UpdateParams.Setter<Fields, ?, Row> setter : params.setters()) {
@@ -146,24 +258,24 @@ public record UpdateBuilderSql<Fields, Row>(
           column.render(renderCtx, counter).append(Fragment.lit(" = ")).append(castedValue);
       setFragments.add(setFragment);
     }
+    return setFragments;
+  }
 
-    update = update.append(Fragment.comma(setFragments));
-
-    // Build WHERE clause
-    if (!params.where().isEmpty()) {
-      List<SqlExpr<Boolean>> filters = new ArrayList<>();
-      for (Function<Fields, SqlExpr<Boolean>> whereFunc : params.where()) {
-        filters.add(whereFunc.apply(fields));
-      }
-
-      SqlExpr<Boolean> combined = filters.get(0);
-      for (int i = 1; i < filters.size(); i++) {
-        combined = combined.and(filters.get(i), Bijection.asBool());
-      }
-
-      update = update.append(Fragment.lit(" WHERE ")).append(combined.render(renderCtx, counter));
+  /** The WHERE clauses of this builder, combined with AND, if there are any. */
+  private Optional<Fragment> renderWhere(AtomicInteger counter) {
+    if (params.where().isEmpty()) {
+      return Optional.empty();
+    }
+    Fields fields = structure.fields();
+    List<SqlExpr<Boolean>> filters = new ArrayList<>();
+    for (Function<Fields, SqlExpr<Boolean>> whereFunc : params.where()) {
+      filters.add(whereFunc.apply(fields));
     }
 
-    return update;
+    SqlExpr<Boolean> combined = filters.get(0);
+    for (int i = 1; i < filters.size(); i++) {
+      combined = combined.and(filters.get(i), Bijection.asBool());
+    }
+    return Optional.of(combined.render(renderCtx, counter));
   }
 }
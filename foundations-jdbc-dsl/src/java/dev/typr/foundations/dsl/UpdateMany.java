@@ -0,0 +1,101 @@
+package dev.typr.foundations.dsl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The rows and columns of an {@link UpdateBuilder#updateMany}: the ID fields which match each row
+ * to a row of the table, and the fields it updates.
+ */
+final class UpdateMany<Fields, Row> {
+  /**
+   * The most rows written by one statement. Larger statements take longer to parse and plan, and
+   * send no fewer bytes. Full chunks all have the same SQL text, so a database which caches plans
+   * by statement text plans it once.
+   */
+  static final int MAX_ROWS = 1000;
+
+  final Structure<Fields, Row> structure;
+  final List<SqlExpr.FieldLike<?, Row>> keys;
+  final List<SqlExpr.FieldLike<?, Row>> columns;
+
+  private UpdateMany(
+      Structure<Fields, Row> structure,
+      List<SqlExpr.FieldLike<?, Row>> keys,
+      List<SqlExpr.FieldLike<?, Row>> columns) {
+    this.structure = structure;
+    this.keys = keys;
+    this.columns = columns;
+  }
+
+  /**
+   * @param columns the fields each row writes
+   * @param params the SET and WHERE clauses of the builder, which apply to every row. A field
+   *     cannot be both written by the rows and set by the builder.
+   */
+  @SuppressWarnings("unchecked")
+  static <Fields, Row> UpdateMany<Fields, Row> of(
+      Structure<Fields, Row> structure,
+      List<SqlExpr.FieldLike<?, Row>> columns,
+      UpdateParams<Fields, Row> params) {
+    if (columns.isEmpty()) {
+      throw new IllegalArgumentException("updateMany requires at least one field to update");
+    }
+    for (SqlExpr.FieldLike<?, Row> column : columns) {
+      if (!(column instanceof SqlExpr.FieldLikeNotId<?, ?>)) {
+        throw new IllegalArgumentException("Cannot update ID fields");
+      }
+    }
+    for (UpdateParams.Setter<Fields, ?, Row> setter : params.setters()) {
+      String setColumn = setter.column().apply(structure.fields()).column();
+      for (SqlExpr.FieldLike<?, Row> column : columns) {
+        if (column.column().equals(setColumn)) {
+          throw new IllegalArgumentException(
+              "Field '"
+                  + setColumn
+                  + "' is both written by updateMany and set by the builder, remove it from one"
+                  + " of them");
+        }
+      }
+    }
+    List<SqlExpr.FieldLike<?, Row>> keys = new ArrayList<>();
+    for (SqlExpr.FieldLike<?, ?> field : structure.allFields()) {
+      if (field instanceof SqlExpr.IdField<?, ?>) {
+        keys.add((SqlExpr.FieldLike<?, Row>) field);
+      }
+    }
+    if (keys.isEmpty()) {
+      throw new IllegalArgumentException(
+          "updateMany matches rows by their ID fields, and this table has none");
+    }
+    return new UpdateMany<>(structure, List.copyOf(keys), List.copyOf(columns));
+  }
+
+  /** The number of parameters each row binds: its key values and its new values. */
+  int paramsPerRow() {
+    return keys.size() + columns.size();
+  }
+
+  /**
+   * The rows with distinct keys. A later row with the key of an earlier one replaces it, so that
+   * every row of the table is written, and counted, once.
+   */
+  List<Row> distinct(Iterator<Row> rows) {
+    Map<List<Optional<?>>, Row> distinct = new LinkedHashMap<>();
+    rows.forEachRemaining(row -> distinct.put(keyOf(row), row));
+    return new ArrayList<>(distinct.values());
+  }
+
+  /** The values of the ID fields of {@code row}. */
+  List<Optional<?>> keyOf(Row row) {
+    List<Optional<?>> key = new ArrayList<>(keys.size());
+    for (SqlExpr.FieldLike<?, Row> field : keys) {
+      key.add(structure.untypedGetFieldValue(field, row));
+    }
+    return key;
+  }
+}
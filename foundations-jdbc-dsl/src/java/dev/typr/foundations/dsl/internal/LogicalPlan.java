@@ -114,6 +114,22 @@ public sealed interface LogicalPlan {
     }
   }
 
+  /**
+   * A derived table the optimizer does not look into, such as a grouped query or a join rendered as
+   * a subquery. Columns are named as the derived table exposes them.
+   */
+  record Derived(SourceId id, List<ColumnMeta> columns) implements LogicalPlan {
+    @Override
+    public Set<SourceId> allSources() {
+      return Set.of(id);
+    }
+
+    @Override
+    public Map<SourceId, List<ColumnMeta>> outputSchema() {
+      return Map.of(id, columns);
+    }
+  }
+
   /** A join of two plans. */
   record Join(LogicalPlan left, LogicalPlan right, JoinType type, Expr on) implements LogicalPlan {
     @Override
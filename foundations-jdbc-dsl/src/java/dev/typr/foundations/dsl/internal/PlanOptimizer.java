@@ -0,0 +1,450 @@
+package dev.typr.foundations.dsl.internal;
+
+import dev.typr.foundations.dsl.SqlExpr;
+import dev.typr.foundations.dsl.internal.LogicalPlan.ColumnMeta;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Derived;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Expr;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Filter;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Join;
+import dev.typr.foundations.dsl.internal.LogicalPlan.JoinType;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Limit;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Project;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Projection;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Scan;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Sort;
+import dev.typr.foundations.dsl.internal.LogicalPlan.SortSpec;
+import dev.typr.foundations.dsl.internal.LogicalPlan.SourceId;
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * Rewrites a {@link LogicalPlan} before it is rendered.
+ *
+ * <p>The passes expect the shape SelectBuilderSql builds: {@code Project(Limit?(Sort?(Filter?(
+ * core))))}, where the core is a tree of {@link Join}s over leaves, and a leaf is either a {@link
+ * Derived} table or a {@link Scan} under its own optional filter, sort and limit. Plans of any
+ * other shape are returned unchanged.
+ *
+ * <p>A leaf that is a bare scan renders as a plain table reference, anything else as a subquery.
+ * The passes leave as many bare scans as they can, since derived tables keep planners such as
+ * MariaDB's and DB2's from reordering the joins and using indexes across them.
+ */
+public final class PlanOptimizer {
+  private PlanOptimizer() {}
+
+  /** Run all passes. */
+  public static LogicalPlan optimize(LogicalPlan plan) {
+    return flattenSubqueries(eliminateLeftJoins(pushDownPredicates(plan)));
+  }
+
+  /**
+   * Move conjuncts of the top-level filter which reference a single table onto the scan of that
+   * table. Tables on the nullable side of an outer join and tables under a limit are skipped, since
+   * filtering them earlier would change the result.
+   */
+  public static LogicalPlan pushDownPredicates(LogicalPlan plan) {
+    Layers root = Layers.peel(plan);
+    if (!(root.core() instanceof Join) || root.filters().isEmpty()) {
+      return plan;
+    }
+    Set<SourceId> nullable = nullSupplying(root.core());
+    Map<SourceId, LogicalPlan> leaves = leaves(root.core());
+
+    Map<SourceId, List<Expr>> pushed = new HashMap<>();
+    List<Expr> remaining = new ArrayList<>();
+    for (Expr conjunct : root.filters()) {
+      Set<SourceId> sources = conjunct.sources();
+      SourceId source = sources.size() == 1 ? sources.iterator().next() : null;
+      if (source != null
+          && !nullable.contains(source)
+          && leaves.containsKey(source)
+          && isFilterableScan(leaves.get(source))) {
+        pushed.computeIfAbsent(source, s -> new ArrayList<>()).add(conjunct);
+      } else {
+        remaining.add(conjunct);
+      }
+    }
+    if (pushed.isEmpty()) {
+      return plan;
+    }
+
+    LogicalPlan core =
+        mapLeaves(
+            root.core(),
+            leaf -> {
+              List<Expr> predicates = pushed.get(leafId(leaf));
+              if (predicates == null) {
+                return leaf;
+              }
+              Layers layers = Layers.peel(leaf);
+              List<Expr> filters = new ArrayList<>(layers.filters());
+              filters.addAll(predicates);
+              return layers.withFilters(filters).build();
+            });
+    return root.withFilters(remaining).withCore(core).build();
+  }
+
+  /**
+   * Drop left joins which cannot change the result: the joined table is a scan, none of its columns
+   * are used outside the join condition, and the condition binds every primary key column of the
+   * table, so there is at most one match per row.
+   */
+  public static LogicalPlan eliminateLeftJoins(LogicalPlan plan) {
+    Layers root = Layers.peel(plan);
+    if (root.projections().isEmpty() || !(root.core() instanceof Join)) {
+      return plan;
+    }
+    Set<SourceId> used = new HashSet<>();
+    for (Projection projection : root.projections().get()) {
+      used.addAll(projection.expr().sources());
+    }
+    root.sort().ifPresent(specs -> specs.forEach(spec -> used.addAll(spec.expr().sources())));
+    root.filters().forEach(filter -> used.addAll(filter.sources()));
+
+    LogicalPlan core = root.core();
+    Join removable;
+    while ((removable = findRemovableJoin(core, core, used)) != null) {
+      Join join = removable;
+      core = replaceJoin(core, join, join.left());
+    }
+    if (core == root.core()) {
+      return plan;
+    }
+    return root.withCore(core).build();
+  }
+
+  /**
+   * Render scans with a filter as plain table references. The filter of a table which is always
+   * present moves to the top-level filter; the filter of the right side of a left join moves into
+   * the join condition. A sort without a limit has no effect inside a join and is dropped, except
+   * on the first table where it becomes the top-level sort when there is none.
+   */
+  public static LogicalPlan flattenSubqueries(LogicalPlan plan) {
+    Layers root = Layers.peel(plan);
+    if (!(root.core() instanceof Join)) {
+      return plan;
+    }
+    Set<SourceId> nullable = nullSupplying(root.core());
+    List<Expr> hoisted = new ArrayList<>();
+    LogicalPlan core = flattenJoin(root.core(), nullable, hoisted);
+
+    Layers result = root.withCore(core);
+    LogicalPlan first = firstLeaf(root.core());
+    Layers firstLayers = Layers.peel(first);
+    if (root.sort().isEmpty() && firstLayers.limit().isEmpty() && firstLayers.sort().isPresent()) {
+      result = result.withSort(firstLayers.sort());
+    }
+    if (!hoisted.isEmpty()) {
+      hoisted.addAll(root.filters());
+      result = result.withFilters(hoisted);
+    }
+    return result.build();
+  }
+
+  private static LogicalPlan flattenJoin(
+      LogicalPlan node, Set<SourceId> nullable, List<Expr> hoisted) {
+    if (node instanceof Join join) {
+      LogicalPlan left = flattenJoin(join.left(), nullable, hoisted);
+      LogicalPlan right = join.right();
+      Expr on = join.on();
+      if (!(right instanceof Join)) {
+        Layers layers = withoutUselessSort(Layers.peel(right));
+        SourceId id = leafId(right);
+        if (isFlattenable(layers, id)) {
+          if (join.type() == JoinType.LEFT && nullable.contains(id)) {
+            List<Expr> conditions = new ArrayList<>();
+            conditions.add(on);
+            conditions.addAll(layers.filters());
+            on = and(conditions).orElseThrow();
+            layers = layers.withFilters(List.of());
+          } else if (!nullable.contains(id)) {
+            hoisted.addAll(layers.filters());
+            layers = layers.withFilters(List.of());
+          }
+        }
+        right = layers.build();
+      } else {
+        right = flattenJoin(right, nullable, hoisted);
+      }
+      return new Join(left, right, join.type(), on);
+    }
+    Layers layers = withoutUselessSort(Layers.peel(node));
+    SourceId id = leafId(node);
+    if (isFlattenable(layers, id) && !nullable.contains(id)) {
+      hoisted.addAll(layers.filters());
+      layers = layers.withFilters(List.of());
+    }
+    return layers.build();
+  }
+
+  private static Layers withoutUselessSort(Layers leaf) {
+    return leaf.limit().isEmpty() ? leaf.withSort(Optional.empty()) : leaf;
+  }
+
+  /**
+   * A leaf filter can leave its scan when nothing limits the scan and every conjunct is known to
+   * reference only that scan. Conjuncts with subqueries report all sources and stay where they are,
+   * so that names inside the subquery keep resolving against the same scope.
+   */
+  private static boolean isFlattenable(Layers leaf, SourceId id) {
+    if (leaf.limit().isPresent() || !(leaf.core() instanceof Scan) || leaf.filters().isEmpty()) {
+      return false;
+    }
+    for (Expr filter : leaf.filters()) {
+      if (!filter.sources().equals(Set.of(id))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isFilterableScan(LogicalPlan leaf) {
+    Layers layers = Layers.peel(leaf);
+    return layers.limit().isEmpty() && layers.core() instanceof Scan;
+  }
+
+  private static Join findRemovableJoin(LogicalPlan node, LogicalPlan core, Set<SourceId> used) {
+    if (!(node instanceof Join join)) {
+      return null;
+    }
+    if (join.type() == JoinType.LEFT
+        && !(join.right() instanceof Join)
+        && Layers.peel(join.right()).core() instanceof Scan scan) {
+      Set<SourceId> usedElsewhere = new HashSet<>(used);
+      collectJoinConditionSources(core, join, usedElsewhere);
+      if (!usedElsewhere.contains(scan.id()) && bindsPrimaryKey(join.on(), scan)) {
+        return join;
+      }
+    }
+    Join inLeft = findRemovableJoin(join.left(), core, used);
+    return inLeft != null ? inLeft : findRemovableJoin(join.right(), core, used);
+  }
+
+  private static void collectJoinConditionSources(
+      LogicalPlan node, Join except, Set<SourceId> sources) {
+    if (node instanceof Join join) {
+      if (join != except) {
+        sources.addAll(join.on().sources());
+      }
+      collectJoinConditionSources(join.left(), except, sources);
+      collectJoinConditionSources(join.right(), except, sources);
+    } else {
+      // a leaf's own filter is about that leaf, but a subquery in it may reference anything
+      Set<SourceId> leafSources = new HashSet<>();
+      Layers layers = Layers.peel(node);
+      layers.filters().forEach(filter -> leafSources.addAll(filter.sources()));
+      layers
+          .sort()
+          .ifPresent(specs -> specs.forEach(spec -> leafSources.addAll(spec.expr().sources())));
+      leafSources.remove(leafId(node));
+      sources.addAll(leafSources);
+    }
+  }
+
+  private static boolean bindsPrimaryKey(Expr on, Scan scan) {
+    Set<String> keyColumns = new HashSet<>();
+    for (ColumnMeta column : scan.columns()) {
+      if (column.field() instanceof SqlExpr.IdField<?, ?>) {
+        keyColumns.add(column.name());
+      }
+    }
+    if (keyColumns.isEmpty()) {
+      return false;
+    }
+    Set<String> bound = new HashSet<>();
+    for (Expr conjunct : conjuncts(on)) {
+      if (conjunct instanceof Expr.Wrapped wrapped) {
+        for (SqlExpr<?> condition : sqlConjuncts(wrapped.expr())) {
+          boundColumn(condition, scan).ifPresent(bound::add);
+        }
+      }
+    }
+    return bound.containsAll(keyColumns);
+  }
+
+  /** The column of {@code scan} which {@code condition} equates to a value from elsewhere. */
+  private static Optional<String> boundColumn(SqlExpr<?> condition, Scan scan) {
+    if (condition instanceof SqlExpr.Binary<?, ?, ?> binary && binary.op().op().equals("=")) {
+      if (binary.left() instanceof SqlExpr.FieldLike<?, ?> field
+          && !references(binary.right(), scan)) {
+        Optional<String> column = columnOf(field, scan);
+        if (column.isPresent()) {
+          return column;
+        }
+      }
+      if (binary.right() instanceof SqlExpr.FieldLike<?, ?> field
+          && !references(binary.left(), scan)) {
+        return columnOf(field, scan);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static boolean references(SqlExpr<?> expr, Scan scan) {
+    return switch (expr) {
+      case SqlExpr.Exists<?, ?> exists -> true;
+      case SqlExpr.Subquery<?, ?> subquery -> true;
+      case SqlExpr.FieldLike<?, ?> field -> columnOf(field, scan).isPresent();
+      default -> expr.children().stream().anyMatch(child -> references(child, scan));
+    };
+  }
+
+  private static Optional<String> columnOf(SqlExpr.FieldLike<?, ?> field, Scan scan) {
+    for (ColumnMeta column : scan.columns()) {
+      if (column.field()._path().equals(field._path())
+          && column.field().column().equals(field.column())) {
+        return Optional.of(column.name());
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static List<SqlExpr<?>> sqlConjuncts(SqlExpr<?> expr) {
+    if (expr instanceof SqlExpr.Binary<?, ?, ?> binary && binary.op().op().equals("AND")) {
+      List<SqlExpr<?>> result = new ArrayList<>(sqlConjuncts(binary.left()));
+      result.addAll(sqlConjuncts(binary.right()));
+      return result;
+    }
+    return List.of(expr);
+  }
+
+  /** Split an expression on AND. */
+  public static List<Expr> conjuncts(Expr expr) {
+    if (expr instanceof Expr.BinOp binOp && binOp.op().equals("AND")) {
+      List<Expr> result = new ArrayList<>(conjuncts(binOp.left()));
+      result.addAll(conjuncts(binOp.right()));
+      return result;
+    }
+    return List.of(expr);
+  }
+
+  /** Combine expressions with AND, left to right. */
+  public static Optional<Expr> and(List<Expr> exprs) {
+    Expr result = null;
+    for (Expr expr : exprs) {
+      result = result == null ? expr : new Expr.BinOp(result, "AND", expr);
+    }
+    return Optional.ofNullable(result);
+  }
+
+  /** Sources which may be null-extended by an outer join. */
+  private static Set<SourceId> nullSupplying(LogicalPlan node) {
+    Set<SourceId> result = new HashSet<>();
+    if (node instanceof Join join) {
+      result.addAll(nullSupplying(join.left()));
+      result.addAll(nullSupplying(join.right()));
+      if (join.type() == JoinType.LEFT || join.type() == JoinType.FULL) {
+        result.addAll(join.right().allSources());
+      }
+      if (join.type() == JoinType.RIGHT || join.type() == JoinType.FULL) {
+        result.addAll(join.left().allSources());
+      }
+    }
+    return result;
+  }
+
+  private static Map<SourceId, LogicalPlan> leaves(LogicalPlan core) {
+    Map<SourceId, LogicalPlan> result = new HashMap<>();
+    mapLeaves(
+        core,
+        leaf -> {
+          result.put(leafId(leaf), leaf);
+          return leaf;
+        });
+    return result;
+  }
+
+  private static LogicalPlan firstLeaf(LogicalPlan core) {
+    return core instanceof Join join ? firstLeaf(join.left()) : core;
+  }
+
+  private static SourceId leafId(LogicalPlan leaf) {
+    Set<SourceId> sources = leaf.allSources();
+    return sources.size() == 1 ? sources.iterator().next() : null;
+  }
+
+  private static LogicalPlan mapLeaves(LogicalPlan node, UnaryOperator<LogicalPlan> f) {
+    if (node instanceof Join join) {
+      return new Join(
+          mapLeaves(join.left(), f), mapLeaves(join.right(), f), join.type(), join.on());
+    }
+    return f.apply(node);
+  }
+
+  private static LogicalPlan replaceJoin(LogicalPlan node, Join target, LogicalPlan replacement) {
+    if (node == target) {
+      return replacement;
+    }
+    if (node instanceof Join join) {
+      return new Join(
+          replaceJoin(join.left(), target, replacement),
+          replaceJoin(join.right(), target, replacement),
+          join.type(),
+          join.on());
+    }
+    return node;
+  }
+
+  /** A plan split into its optional project, limit, sort and filter layers over a core. */
+  private record Layers(
+      Optional<List<Projection>> projections,
+      Optional<Limit> limit,
+      Optional<List<SortSpec>> sort,
+      List<Expr> filters,
+      LogicalPlan core) {
+
+    static Layers peel(LogicalPlan plan) {
+      Optional<List<Projection>> projections = Optional.empty();
+      Optional<Limit> limit = Optional.empty();
+      Optional<List<SortSpec>> sort = Optional.empty();
+      List<Expr> filters = new ArrayList<>();
+      if (plan instanceof Project project) {
+        projections = Optional.of(project.projections());
+        plan = project.input();
+      }
+      if (plan instanceof Limit l) {
+        limit = Optional.of(l);
+        plan = l.input();
+      }
+      if (plan instanceof Sort s) {
+        sort = Optional.of(s.specs());
+        plan = s.input();
+      }
+      if (plan instanceof Filter filter) {
+        filters.addAll(conjuncts(filter.predicate()));
+        plan = filter.input();
+      }
+      return new Layers(projections, limit, sort, filters, plan);
+    }
+
+    Layers withFilters(List<Expr> newFilters) {
+      return new Layers(projections, limit, sort, newFilters, core);
+    }
+
+    Layers withSort(Optional<List<SortSpec>> newSort) {
+      return new Layers(projections, limit, newSort, filters, core);
+    }
+
+    Layers withCore(LogicalPlan newCore) {
+      return new Layers(projections, limit, sort, filters, newCore);
+    }
+
+    LogicalPlan build() {
+      LogicalPlan plan = core;
+      Optional<Expr> predicate = and(filters);
+      if (predicate.isPresent()) {
+        plan = new Filter(plan, predicate.get());
+      }
+      if (sort.isPresent()) {
+        plan = new Sort(plan, sort.get());
+      }
+      if (limit.isPresent()) {
+        plan = new Limit(plan, limit.get().limit(), limit.get().offset());
+      }
+      if (projections.isPresent()) {
+        plan = new Project(plan, projections.get());
+      }
+      return plan;
+    }
+  }
+}
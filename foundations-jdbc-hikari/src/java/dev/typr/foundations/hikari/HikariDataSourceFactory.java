@@ -4,6 +4,8 @@ import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import dev.typr.foundations.connect.ConnectionSettings;
 import dev.typr.foundations.connect.DatabaseConfig;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Factory for creating PooledDataSource instances.
@@ -39,6 +41,38 @@ public final class HikariDataSourceFactory {
    */
   public static PooledDataSource create(
       DatabaseConfig config, ConnectionSettings settings, PoolConfig pool) {
+    return create(config, settings, pool, pool.poolName());
+  }
+
+  /**
+   * Create one PooledDataSource per shard, all with the same connection settings and pool
+   * configuration. Pools are named {@code <poolName>-shard-<n>}, or {@code shard-<n>} when the pool
+   * configuration has no name.
+   *
+   * <p>Pass the result to {@code ShardedConnectionSource.of} together with a shard function.
+   *
+   * @param shards database configuration for each shard, in shard order
+   * @param settings connection settings (isolation, autoCommit, readOnly, etc.)
+   * @param pool pool configuration, applied to each shard's pool
+   * @return one configured PooledDataSource per shard
+   */
+  public static List<PooledDataSource> createShards(
+      List<? extends DatabaseConfig> shards, ConnectionSettings settings, PoolConfig pool) {
+    List<PooledDataSource> ret = new ArrayList<>(shards.size());
+    try {
+      for (int i = 0; i < shards.size(); i++) {
+        String poolName = (pool.poolName() != null ? pool.poolName() + "-" : "") + "shard-" + i;
+        ret.add(create(shards.get(i), settings, pool, poolName));
+      }
+    } catch (RuntimeException e) {
+      ret.forEach(PooledDataSource::close);
+      throw e;
+    }
+    return ret;
+  }
+
+  private static PooledDataSource create(
+      DatabaseConfig config, ConnectionSettings settings, PoolConfig pool, String poolName) {
     HikariConfig hikari = new HikariConfig();
 
     // Connection settings from DatabaseConfig
@@ -87,8 +121,8 @@ public final class HikariDataSourceFactory {
     }
 
     // Pool naming
-    if (pool.poolName() != null) {
-      hikari.setPoolName(pool.poolName());
+    if (poolName != null) {
+      hikari.setPoolName(poolName);
     }
 
     // Advanced
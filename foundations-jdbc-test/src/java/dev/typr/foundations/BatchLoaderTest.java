@@ -0,0 +1,105 @@
+package dev.typr.foundations;
+
+import static org.junit.Assert.*;
+
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+/**
+ * Tests for BatchLoader request coalescing. Uses an in-memory DuckDB connection for the transactor
+ * and a fake {@code selectByIdsTracked} which records how it was called.
+ */
+public class BatchLoaderTest {
+
+  private static Transactor duckDbTransactor() {
+    return new Transactor(
+        () -> DriverManager.getConnection("jdbc:duckdb:"), Transactor.defaultStrategy());
+  }
+
+  @Test
+  public void testConcurrentLoadsAreCoalesced() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    var loader =
+        BatchLoader.<Integer, String>tracked(
+                duckDbTransactor(),
+                (ids, conn) -> {
+                  calls.incrementAndGet();
+                  Map<Integer, String> ret = new HashMap<>();
+                  for (Integer id : ids) {
+                    if (id % 10 != 0) ret.put(id, "row-" + id);
+                  }
+                  return ret;
+                },
+                Integer[]::new)
+            .window(Duration.ofMillis(50))
+            .build();
+
+    List<CompletableFuture<Optional<String>>> futures = new ArrayList<>();
+    for (int i = 1; i <= 100; i++) {
+      futures.add(loader.load(i));
+    }
+    for (int i = 1; i <= 100; i++) {
+      Optional<String> expected = i % 10 == 0 ? Optional.empty() : Optional.of("row-" + i);
+      assertEquals(expected, futures.get(i - 1).get());
+    }
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void testMaxBatchSizeSplitsBatches() {
+    List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    var loader =
+        BatchLoader.<Integer, Integer>of(
+                duckDbTransactor(),
+                (ids, conn) -> {
+                  batchSizes.add(ids.length);
+                  return List.of(ids);
+                },
+                row -> row,
+                Integer[]::new)
+            .maxBatchSize(10)
+            .window(Duration.ofSeconds(10))
+            .build();
+
+    var result = loader.loadMany(IntStream.range(0, 25).boxed().toList());
+    loader.flush();
+    assertEquals(25, result.join().size());
+    assertEquals(List.of(10, 10, 5), batchSizes.stream().sorted((a, b) -> b - a).toList());
+  }
+
+  @Test
+  public void testDuplicateKeysShareOneFuture() {
+    var loader =
+        BatchLoader.<Integer, Integer>of(
+                duckDbTransactor(), (ids, conn) -> List.of(ids), row -> row, Integer[]::new)
+            .build();
+    assertSame(loader.load(1), loader.load(1));
+  }
+
+  @Test
+  public void testFailureCompletesEveryCaller() {
+    var loader =
+        BatchLoader.<Integer, Integer>of(
+                duckDbTransactor(),
+                (ids, conn) -> {
+                  throw new IllegalStateException("boom");
+                },
+                row -> row,
+                Integer[]::new)
+            .build();
+    var other = loader.load(2);
+    assertThrows(IllegalStateException.class, () -> loader.get(1));
+    assertThrows(CompletionException.class, other::join);
+  }
+}
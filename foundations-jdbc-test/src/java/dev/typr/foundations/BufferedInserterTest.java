@@ -0,0 +1,263 @@
+package dev.typr.foundations;
+
+import static org.junit.Assert.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+/** Tests for BufferedInserter, writing to a list inside in-memory DuckDB transactions. */
+public class BufferedInserterTest {
+
+  private static final Transactor tx =
+      new Transactor(
+          () -> DriverManager.getConnection("jdbc:duckdb:"), Transactor.defaultStrategy());
+
+  @Test
+  public void testFlushesOnSize() throws Exception {
+    List<List<Integer>> flushes = Collections.synchronizedList(new ArrayList<>());
+    try (var inserter =
+        BufferedInserter.<Integer>builder(tx, (rows, conn) -> flushes.add(List.copyOf(rows)))
+            .flushSize(10)
+            .flushInterval(Duration.ofHours(1))
+            .build()) {
+      for (int i = 0; i < 10; i++) {
+        inserter.add(i);
+      }
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (inserter.stats().flushes() == 0 && System.nanoTime() < deadline) {
+        Thread.sleep(1);
+      }
+      assertEquals(List.of(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)), flushes);
+      assertEquals(10, inserter.stats().rowsWritten());
+    }
+  }
+
+  @Test
+  public void testCloseWritesRemainingRows() throws Exception {
+    List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+    var inserter =
+        BufferedInserter.<Integer>builder(tx, (rows, conn) -> written.addAll(rows))
+            .flushSize(1_000)
+            .flushInterval(Duration.ofHours(1))
+            .build();
+    inserter.add(1);
+    inserter.add(2);
+    inserter.close();
+    assertEquals(List.of(1, 2), written);
+    assertFalse(inserter.offer(3));
+    assertThrows(IllegalStateException.class, () -> inserter.add(3));
+  }
+
+  @Test
+  public void testOfferFailsWhenFull() throws Exception {
+    var writing = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    try (var inserter =
+        BufferedInserter.<Integer>builder(
+                tx,
+                (rows, conn) -> {
+                  writing.countDown();
+                  try {
+                    release.await();
+                  } catch (InterruptedException e) {
+                    throw new SQLException(e);
+                  }
+                })
+            .flushSize(2)
+            .capacity(2)
+            .build()) {
+      assertTrue(inserter.offer(1));
+      assertTrue(inserter.offer(2));
+      assertTrue(writing.await(10, TimeUnit.SECONDS));
+      // both rows are being written, so there is no space until that flush is done
+      assertFalse(inserter.offer(3));
+      release.countDown();
+      assertTrue(inserter.offer(3, Duration.ofSeconds(10)));
+    }
+  }
+
+  @Test
+  public void testFailedFlushIsReported() throws Exception {
+    List<Integer> failed = Collections.synchronizedList(new ArrayList<>());
+    var inserter =
+        BufferedInserter.<Integer>builder(
+                tx,
+                (rows, conn) -> {
+                  throw new SQLException("boom");
+                })
+            .onFailure((rows, e) -> failed.addAll(rows))
+            .build();
+    inserter.add(1);
+    inserter.flush();
+    var stats = inserter.stats();
+    assertEquals(1, stats.failures());
+    assertEquals(1, stats.rowsFailed());
+    assertEquals("boom", stats.lastFailure().getMessage());
+    assertEquals(List.of(1), failed);
+    inserter.close();
+  }
+
+  @Test
+  public void testThrowingFailureHandlerDoesNotStopFlusher() throws Exception {
+    List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+    try (var inserter =
+        BufferedInserter.<Integer>builder(
+                tx,
+                (rows, conn) -> {
+                  if (rows.contains(1)) throw new SQLException("boom");
+                  written.addAll(rows);
+                })
+            .flushSize(1)
+            .capacity(1)
+            .onFailure(
+                (rows, e) -> {
+                  throw new IllegalStateException("handler failed");
+                })
+            .build()) {
+      inserter.add(1);
+      // only succeeds if the flusher survived the handler and freed the space
+      assertTrue(inserter.offer(2, Duration.ofSeconds(10)));
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (written.isEmpty() && System.nanoTime() < deadline) {
+        Thread.sleep(1);
+      }
+      assertEquals(List.of(2), written);
+      var lastFailure = inserter.stats().lastFailure();
+      assertEquals("handler failed", lastFailure.getMessage());
+      assertEquals("boom", lastFailure.getSuppressed()[0].getMessage());
+    }
+  }
+
+  @Test
+  public void testErrorInFlushReleasesSpace() throws Exception {
+    var fail = new AtomicBoolean(true);
+    List<Integer> failed = Collections.synchronizedList(new ArrayList<>());
+    try (var inserter =
+        BufferedInserter.<Integer>builder(
+                tx,
+                (rows, conn) -> {
+                  if (fail.getAndSet(false)) throw new AssertionError("error");
+                })
+            .flushSize(2)
+            .capacity(2)
+            .flushInterval(Duration.ofHours(1))
+            .onFailure((rows, e) -> failed.addAll(rows))
+            .build()) {
+      inserter.add(1);
+      assertThrows(AssertionError.class, inserter::flush);
+      var stats = inserter.stats();
+      assertEquals(1, stats.failures());
+      assertEquals(1, stats.rowsFailed());
+      assertEquals("error", stats.lastFailure().getMessage());
+      assertEquals(List.of(1), failed);
+      assertTrue(inserter.offer(2));
+      assertTrue(inserter.offer(3));
+    }
+  }
+
+  @Test
+  public void testErrorDoesNotStopFlusher() throws Exception {
+    List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+    try (var inserter =
+        BufferedInserter.<Integer>builder(
+                tx,
+                (rows, conn) -> {
+                  if (rows.contains(1)) throw new LinkageError("driver");
+                  written.addAll(rows);
+                })
+            .flushSize(1)
+            .capacity(1)
+            .build()) {
+      inserter.add(1);
+      // only succeeds if the background flusher survived the error and freed the space
+      assertTrue(inserter.offer(2, Duration.ofSeconds(10)));
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (written.isEmpty() && System.nanoTime() < deadline) {
+        Thread.sleep(1);
+      }
+      assertEquals(List.of(2), written);
+      assertEquals(1, inserter.stats().failures());
+    }
+  }
+
+  /** Generated repos where upsertBatch returns nothing, like on DB2. */
+  private static final class VoidUpsertRepo {
+    final List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+
+    public void upsertBatch(Iterator<Integer> unsaved, Connection c) {
+      unsaved.forEachRemaining(written::add);
+    }
+  }
+
+  /** Generated repos where upsertBatch returns the upserted rows. */
+  private static final class ReturningUpsertRepo {
+    final List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+
+    public List<Integer> upsertBatch(Iterator<Integer> unsaved, Connection c) {
+      List<Integer> rows = new ArrayList<>();
+      unsaved.forEachRemaining(rows::add);
+      written.addAll(rows);
+      return rows;
+    }
+  }
+
+  @Test
+  public void testUpsertBatchTakesVoidAndReturningMethods() throws Exception {
+    var voidRepo = new VoidUpsertRepo();
+    try (var inserter = BufferedInserter.upsertBatch(tx, voidRepo::upsertBatch).build()) {
+      inserter.add(1);
+      inserter.add(2);
+    }
+    assertEquals(List.of(1, 2), voidRepo.written);
+
+    var returningRepo = new ReturningUpsertRepo();
+    try (var inserter = BufferedInserter.upsertBatch(tx, returningRepo::upsertBatch).build()) {
+      inserter.add(3);
+    }
+    assertEquals(List.of(3), returningRepo.written);
+  }
+
+  @Test
+  public void testNoAcceptedRowIsLostOnClose() throws Exception {
+    for (int round = 0; round < 20; round++) {
+      List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+      var accepted = new AtomicInteger();
+      var inserter =
+          BufferedInserter.<Integer>builder(tx, (rows, conn) -> written.addAll(rows))
+              .flushSize(50)
+              .capacity(100)
+              .build();
+      var producers = new ArrayList<Thread>();
+      for (int p = 0; p < 4; p++) {
+        producers.add(
+            Thread.ofVirtual()
+                .start(
+                    () -> {
+                      try {
+                        for (int i = 0; ; i++) {
+                          inserter.add(i);
+                          accepted.incrementAndGet();
+                        }
+                      } catch (IllegalStateException | InterruptedException closed) {
+                        // stop producing
+                      }
+                    }));
+      }
+      Thread.sleep(5);
+      inserter.close();
+      for (Thread t : producers) t.join();
+      assertEquals(accepted.get(), written.size());
+    }
+  }
+}
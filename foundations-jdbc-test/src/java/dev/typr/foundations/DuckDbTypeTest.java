@@ -263,6 +263,15 @@ public class DuckDbTypeTest {
               .noIdentity(),
           new DuckDbTypeAndExample<>(DuckDbTypes.listDouble, List.of(1.5, 2.5, 3.14159))
               .noIdentity(),
+          new DuckDbTypeAndExample<>(DuckDbTypes.listIntegerUnboxed, new int[] {1, -2, 3})
+              .noIdentity(),
+          new DuckDbTypeAndExample<>(DuckDbTypes.listIntegerUnboxed, new int[] {}).noIdentity(),
+          new DuckDbTypeAndExample<>(DuckDbTypes.listBigintUnboxed, new long[] {1L, 9999999999L})
+              .noIdentity(),
+          new DuckDbTypeAndExample<>(DuckDbTypes.listFloatUnboxed, new float[] {1.5f, -2.5f})
+              .noIdentity(),
+          new DuckDbTypeAndExample<>(DuckDbTypes.listDoubleUnboxed, new double[] {1.5, 3.14159})
+              .noIdentity(),
           new DuckDbTypeAndExample<>(DuckDbTypes.listVarchar, List.of("hello", "world"))
               .noIdentity(),
           new DuckDbTypeAndExample<>(DuckDbTypes.listVarchar, List.of("quote'test", "back\\slash"))
@@ -549,6 +558,23 @@ public class DuckDbTypeTest {
     System.out.println("=====================================");
   }
 
+  @Test
+  public void testUnboxedListRejectsNullElements() {
+    withConnection(
+        conn -> {
+          try (var ps = conn.prepareStatement("SELECT [1, NULL, 3]::INTEGER[]");
+              var rs = ps.executeQuery()) {
+            rs.next();
+            try {
+              DuckDbTypes.listIntegerUnboxed.read().read(rs, 1);
+              throw new RuntimeException("expected a NULL element to be rejected");
+            } catch (SQLException expected) {
+              return null;
+            }
+          }
+        });
+  }
+
   static <A> void testJsonRoundtrip(DuckDbTypeAndExample<A> t) {
     try {
       DuckDbJson<A> jsonCodec = t.type.duckDbJson();
@@ -754,6 +780,10 @@ public class DuckDbTypeTest {
     if (expected instanceof Object[]) {
       return Arrays.deepEquals((Object[]) actual, (Object[]) expected);
     }
+    // Primitive arrays
+    if (expected.getClass().isArray()) {
+      return java.util.Objects.deepEquals(actual, expected);
+    }
     // BigDecimal: compare by value, not scale
     if (expected instanceof BigDecimal && actual instanceof BigDecimal) {
       return ((BigDecimal) actual).compareTo((BigDecimal) expected) == 0;
@@ -791,6 +821,10 @@ public class DuckDbTypeTest {
     if (a instanceof Object[]) {
       return Arrays.deepToString((Object[]) a);
     }
+    if (a.getClass().isArray()) {
+      String wrapped = Arrays.deepToString(new Object[] {a});
+      return wrapped.substring(1, wrapped.length() - 1);
+    }
     return a.toString();
   }
 
@@ -0,0 +1,99 @@
+package dev.typr.foundations;
+
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.Test;
+
+/**
+ * Tests for GroupCommitTransactor, using a file-backed DuckDB shared by all connections. DuckDB has
+ * no savepoints, so failures are isolated by rolling back and replaying the rest of the batch.
+ */
+public class GroupCommitTransactorTest {
+
+  private static SqlSupplier<Connection> sharedDuckDb() throws Exception {
+    String url = "jdbc:duckdb:" + Files.createTempDirectory("group-commit").resolve("db.duckdb");
+    try (Connection conn = DriverManager.getConnection(url)) {
+      Fragment.lit("create table events (id integer primary key, name text)").update().run(conn);
+    }
+    return () -> DriverManager.getConnection(url);
+  }
+
+  private static SqlFunction<Connection, Integer> insert(int id) {
+    return conn ->
+        Fragment.lit("insert into events values (" + id + ", 'event " + id + "')")
+            .update()
+            .run(conn);
+  }
+
+  private static int count(SqlSupplier<Connection> connect) throws SQLException {
+    try (Connection conn = connect.get()) {
+      return Fragment.lit("select count(*) from events")
+          .query(
+              rs -> {
+                rs.next();
+                return rs.getInt(1);
+              })
+          .run(conn);
+    }
+  }
+
+  @Test
+  public void testOperationsShareCommits() throws Exception {
+    var connect = sharedDuckDb();
+    try (var groupCommit =
+        GroupCommitTransactor.builder(connect).maxWait(Duration.ofMillis(50)).build()) {
+      List<CompletableFuture<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < 50; i++) {
+        futures.add(groupCommit.submit(insert(i)));
+      }
+      for (var future : futures) {
+        assertEquals(Integer.valueOf(1), future.join());
+      }
+      assertEquals(50, groupCommit.operationsCommitted());
+      assertTrue(groupCommit.batchesCommitted() < 50);
+    }
+    assertEquals(50, count(connect));
+  }
+
+  @Test
+  public void testFailureOnlyFailsItsOwnCaller() throws Exception {
+    var connect = sharedDuckDb();
+    try (var groupCommit =
+        GroupCommitTransactor.builder(connect).maxWait(Duration.ofMillis(50)).build()) {
+      var first = groupCommit.submit(insert(1));
+      var duplicate = groupCommit.submit(insert(1));
+      var last = groupCommit.submit(insert(2));
+
+      assertEquals(Integer.valueOf(1), first.join());
+      var e = assertThrows(CompletionException.class, duplicate::join);
+      assertTrue(e.getCause() instanceof SQLException);
+      assertEquals(Integer.valueOf(1), last.join());
+    }
+    assertEquals(2, count(connect));
+  }
+
+  @Test
+  public void testExecuteRethrowsSqlException() throws Exception {
+    var connect = sharedDuckDb();
+    try (var groupCommit = GroupCommitTransactor.builder(connect).workers(2).build()) {
+      assertEquals(Integer.valueOf(1), groupCommit.execute(insert(1)));
+      assertThrows(SQLException.class, () -> groupCommit.execute(insert(1)));
+    }
+  }
+
+  @Test
+  public void testSubmitAfterCloseFails() throws Exception {
+    var groupCommit = GroupCommitTransactor.builder(sharedDuckDb()).build();
+    groupCommit.close();
+    assertThrows(CompletionException.class, () -> groupCommit.submit(insert(1)).join());
+  }
+}
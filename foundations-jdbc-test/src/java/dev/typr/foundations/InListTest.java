@@ -0,0 +1,57 @@
+package dev.typr.foundations;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import org.junit.Test;
+
+/** Tests for padding and chunking of IN lists. */
+public class InListTest {
+
+  @Test
+  public void testBucketSizeIsNextPowerOfTwo() {
+    assertEquals(0, InList.bucketSize(0));
+    assertEquals(1, InList.bucketSize(1));
+    assertEquals(2, InList.bucketSize(2));
+    assertEquals(4, InList.bucketSize(3));
+    assertEquals(4, InList.bucketSize(4));
+    assertEquals(8, InList.bucketSize(5));
+    assertEquals(InList.MAX_CHUNK, InList.bucketSize(InList.MAX_CHUNK - 1));
+    assertEquals(InList.MAX_CHUNK, InList.bucketSize(InList.MAX_CHUNK));
+    assertEquals(InList.MAX_CHUNK + 1, InList.bucketSize(InList.MAX_CHUNK + 1));
+  }
+
+  @Test
+  public void testPadRepeatsLastValue() {
+    assertArrayEquals(new String[] {"a", "b", "c", "c"}, InList.pad(new String[] {"a", "b", "c"}));
+    String[] full = {"a", "b"};
+    assertSame(full, InList.pad(full));
+  }
+
+  @Test
+  public void testChunksDropDuplicatesAndPadEachChunk() {
+    Integer[] values = new Integer[InList.MAX_CHUNK + 3];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i;
+    }
+    Integer[][] chunks = InList.chunks(values);
+    assertEquals(2, chunks.length);
+    assertEquals(InList.MAX_CHUNK, chunks[0].length);
+    assertArrayEquals(
+        new Integer[] {
+          InList.MAX_CHUNK, InList.MAX_CHUNK + 1, InList.MAX_CHUNK + 2, InList.MAX_CHUNK + 2
+        },
+        chunks[1]);
+
+    assertArrayEquals(new Integer[][] {{1, 2}}, InList.chunks(new Integer[] {1, 2, 1, 2}));
+    assertEquals(0, InList.chunks(new Integer[0]).length);
+  }
+
+  @Test
+  public void testDistinctChunksDropDuplicatesWithoutPadding() {
+    assertEquals(
+        List.of(List.of(1, 2), List.of(3)), InList.distinctChunks(new Integer[] {1, 2, 1, 3}, 2));
+    assertEquals(List.of(List.of(1, 2, 3)), InList.distinctChunks(new Integer[] {1, 2, 3}, 3));
+    assertEquals(List.of(), InList.distinctChunks(new Integer[0], 2));
+  }
+}
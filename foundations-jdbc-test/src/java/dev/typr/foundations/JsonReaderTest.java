@@ -0,0 +1,93 @@
+package dev.typr.foundations;
+
+import static org.junit.Assert.*;
+
+import dev.typr.foundations.data.JsonReader;
+import dev.typr.foundations.data.JsonValue;
+import java.util.List;
+import java.util.Optional;
+import org.junit.Test;
+
+/** Tests for the streaming JSON reader and the MULTISET decoding built on it. */
+public class JsonReaderTest {
+
+  record Email(Integer id, Optional<String> email) {}
+
+  private static final RowParser<Email> emailParser =
+      RowParsers.of(
+          PgTypes.int4,
+          PgTypes.text.opt(),
+          Email::new,
+          email -> new Object[] {email.id(), email.email()});
+
+  @Test
+  public void testReadsTokens() {
+    var reader =
+        new JsonReader(" {\"a\": [1, -2.5e3, \"x\\\"y\\u0041\"], \"b\": null, \"c\": true} ");
+    assertEquals(JsonReader.Token.BEGIN_OBJECT, reader.peek());
+    reader.beginObject();
+    assertEquals("a", reader.nextName());
+    reader.beginArray();
+    assertEquals("1", reader.nextNumber());
+    assertEquals("-2.5e3", reader.nextNumber());
+    assertEquals("x\"yA", reader.nextString());
+    assertFalse(reader.hasNext());
+    reader.endArray();
+    assertEquals("b", reader.nextName());
+    reader.nextNull();
+    assertEquals("c", reader.nextName());
+    assertTrue(reader.nextBoolean());
+    reader.endObject();
+    reader.endDocument();
+  }
+
+  @Test
+  public void testReadValueMatchesTreeParser() {
+    String json = "[{\"k\":[1,{\"n\":null}],\"s\":\"\\n\"},[],{}]";
+    assertEquals(JsonValue.parse(json), new JsonReader(json).readValue());
+  }
+
+  @Test
+  public void testSkipValue() {
+    var reader = new JsonReader("[{\"skip\":[1,[2,{\"x\":3}]]},4]");
+    reader.beginArray();
+    reader.skipValue();
+    assertEquals("4", reader.nextNumber());
+    reader.endArray();
+  }
+
+  @Test
+  public void testRejectsMalformedJson() {
+    assertThrows(IllegalArgumentException.class, () -> new JsonReader("[1 2]").readValue());
+    assertThrows(IllegalArgumentException.class, () -> new JsonReader("{\"a\" 1}").readValue());
+    var trailing = new JsonReader("[1] x");
+    trailing.readValue();
+    assertThrows(IllegalArgumentException.class, trailing::endDocument);
+  }
+
+  @Test
+  public void testParseJsonArrayOfArrays() {
+    List<Email> rows =
+        emailParser.parseJsonArray("[[1,\"a@b.c\"],[2,null]]", List.of("id", "email"));
+    assertEquals(List.of(new Email(1, Optional.of("a@b.c")), new Email(2, Optional.empty())), rows);
+  }
+
+  @Test
+  public void testParseJsonArrayOfObjects() {
+    List<Email> rows =
+        emailParser.parseJsonArray(
+            "[{\"email\":\"a@b.c\",\"extra\":{\"x\":[1]},\"id\":1},{\"id\":2}]",
+            List.of("id", "email"));
+    assertEquals(new Email(1, Optional.of("a@b.c")), rows.get(0));
+    assertEquals(2, rows.get(1).id().intValue());
+  }
+
+  @Test
+  public void testNestedRowCodecs() {
+    DbJson<List<Email>> codec = DbJsonRow.jsonArray(emailParser).list();
+    String json = "[[1,\"a@b.c\"],[2,null]]";
+    assertEquals(codec.fromJson(JsonValue.parse(json)), codec.fromJson(new JsonReader(json)));
+    assertThrows(
+        IllegalArgumentException.class, () -> codec.fromJson(new JsonReader("[[1,\"x\",3]]")));
+  }
+}
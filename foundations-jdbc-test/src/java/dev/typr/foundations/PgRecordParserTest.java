@@ -1,5 +1,6 @@
 package dev.typr.foundations;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.Test;
@@ -291,6 +292,82 @@ public class PgRecordParserTest {
         "(a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11)", List.of("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11"));
   }
 
+  @Test
+  public void testCursorDecodesInPlace() {
+    String input = "(42,t,2024-01-31,\"2024-01-31 13:45:00.5\",,\"say \"\"hi\"\"\")";
+    PgRecordParser.Cursor cursor = PgRecordParser.cursor(input);
+    cursor.next();
+    assertEqual(cursor.intValue(), 42);
+    assertEqual(cursor.decode(PgCompositeText.int8), 42L);
+    cursor.next();
+    assertEqual(cursor.booleanValue(), true);
+    cursor.next();
+    assertEqual(cursor.decode(PgCompositeText.date), java.time.LocalDate.of(2024, 1, 31));
+    cursor.next();
+    assertEqual(
+        cursor.decode(PgCompositeText.timestamp),
+        java.time.LocalDateTime.of(2024, 1, 31, 13, 45, 0, 500_000_000));
+    cursor.next();
+    assertEqual(cursor.isNull(), true);
+    assertEqual(cursor.decode(PgCompositeText.int4), null);
+    cursor.next();
+    assertEqual(cursor.stringValue(), "say \"hi\"");
+    assertEqual(cursor.next(), false);
+  }
+
+  @Test
+  public void testCursorNestedRecordAndArray() {
+    String input = "(1,\"(\"\"a,b\"\",2)\",\"{1,NULL,3}\",\"{\"\"(x,1)\"\",\"\"(y,2)\"\"}\")";
+    PgRecordParser.Cursor cursor = PgRecordParser.cursor(input);
+    cursor.next();
+    cursor.next();
+    PgRecordParser.Cursor nested = cursor.record();
+    nested.next();
+    assertEqual(nested.stringValue(), "a,b");
+    nested.next();
+    assertEqual(nested.intValue(), 2);
+    assertEqual(nested.next(), false);
+
+    cursor.next();
+    assertEqual(
+        Arrays.asList(cursor.decode(PgCompositeText.int4.array(Integer[]::new))),
+        Arrays.asList(1, null, 3));
+
+    cursor.next();
+    PgRecordParser.Cursor elements = cursor.array(',');
+    List<String> names = new ArrayList<>();
+    while (elements.next()) {
+      PgRecordParser.Cursor element = elements.record();
+      element.next();
+      names.add(element.stringValue());
+    }
+    assertEqual(names, List.of("x", "y"));
+  }
+
+  @Test
+  public void testArrayCursorMatchesParseArray() {
+    for (String input :
+        List.of(
+            "{}",
+            "{a,b,c}",
+            "{a,NULL,null,}",
+            "{\"with space\",\"quote \\\" and \\\\ backslash\",\"\"}",
+            "{\"(1,a)\",\"(2,\\\"b c\\\")\"}")) {
+      List<String> viaCursor = new ArrayList<>();
+      PgRecordParser.Cursor cursor = PgRecordParser.arrayCursor(input, ',');
+      while (cursor.next()) {
+        viaCursor.add(cursor.stringValue());
+      }
+      assertEqual(viaCursor, PgRecordParser.parseArray(input));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCursorUnterminatedQuote() {
+    PgRecordParser.Cursor cursor = PgRecordParser.cursor("(1,\"hello)");
+    while (cursor.next()) {}
+  }
+
   @Test(expected = IllegalArgumentException.class)
   public void testInvalidNoParentheses() {
     PgRecordParser.parse("hello,world");
@@ -334,6 +411,21 @@ public class PgRecordParserTest {
               + "\nActual:   "
               + formatList(actual));
     }
+    // The cursor must agree with the list-based parser
+    List<String> viaCursor = new ArrayList<>();
+    PgRecordParser.Cursor cursor = PgRecordParser.cursor(input);
+    while (cursor.next()) {
+      viaCursor.add(cursor.stringValue());
+    }
+    if (!listsEqual(viaCursor, expected)) {
+      throw new AssertionError(
+          "Cursor mismatch for input: "
+              + input
+              + "\nExpected: "
+              + formatList(expected)
+              + "\nActual:   "
+              + formatList(viaCursor));
+    }
   }
 
   private void assertEqual(Object actual, Object expected) {
@@ -1,5 +1,7 @@
 package dev.typr.foundations;
 
+import static org.junit.Assert.assertThrows;
+
 import java.sql.*;
 import java.util.List;
 import org.junit.Test;
@@ -1070,8 +1072,197 @@ public class PgStructTest {
         });
   }
 
+  @Test
+  public void testBinaryNestedRecord() {
+    byte[] address = binaryRecord(text("1 Main St"), text("Oslo"), null, text("NO"));
+    byte[] contact = binaryRecord(text("a@b.no"), text("+47 1234"), address);
+
+    ContactInfo decoded =
+        contactInfoType.pgCompositeText().decodeBinary(contact, 0, contact.length);
+
+    assertEqual(
+        decoded,
+        new ContactInfo("a@b.no", "+47 1234", new Address("1 Main St", "Oslo", null, "NO")));
+    assertEqual(contactInfoStruct.supportsBinary(), true);
+  }
+
+  @Test
+  public void testBinaryArrayOfRecords() {
+    byte[] array =
+        binaryArray(binaryRecord(float8(1.5), float8(-2.0)), null, binaryRecord(float8(0.0), null));
+
+    Point2D[] decoded =
+        point2dType.pgCompositeText().array(Point2D[]::new).decodeBinary(array, 0, array.length);
+
+    assertEqual(decoded.length, 3);
+    assertEqual(decoded[0], new Point2D(1.5, -2.0));
+    assertEqual(decoded[1], null);
+    assertEqual(decoded[2], new Point2D(0.0, null));
+  }
+
+  @Test
+  public void testBinaryScalars() {
+    // -12345.678 is base-10000 digits [1, 2345, 6780] with weight 1, negative, display scale 3
+    byte[] numeric =
+        java.nio.ByteBuffer.allocate(14)
+            .putShort((short) 3)
+            .putShort((short) 1)
+            .putShort((short) 0x4000)
+            .putShort((short) 3)
+            .putShort((short) 1)
+            .putShort((short) 2345)
+            .putShort((short) 6780)
+            .array();
+    assertEqual(
+        PgCompositeText.numeric.decodeBinary(numeric, 0, numeric.length),
+        new java.math.BigDecimal("-12345.678"));
+
+    // 2000-01-02 00:00:01.5 is 86401.5 seconds after the PostgreSQL epoch
+    byte[] timestamp = java.nio.ByteBuffer.allocate(8).putLong(86_401_500_000L).array();
+    assertEqual(
+        PgCompositeText.timestamp.decodeBinary(timestamp, 0, 8),
+        java.time.LocalDateTime.of(2000, 1, 2, 0, 0, 1, 500_000_000));
+    assertEqual(
+        PgCompositeText.date.decodeBinary(java.nio.ByteBuffer.allocate(4).putInt(-1).array(), 0, 4),
+        java.time.LocalDate.of(1999, 12, 31));
+
+    // Types with a binary format of their own are only decoded from text
+    assertEqual(PgTypes.jsonb.pgCompositeText().supportsBinary(), false);
+    assertEqual(PgTypes.inet.pgCompositeText().supportsBinary(), false);
+  }
+
+  @Test
+  public void testUnboxedArrays() {
+    // text format: quoted and unquoted elements alike
+    assertEqual(
+        java.util.Arrays.toString(PgCompositeText.intArrayUnboxed.decode("{1,\"-3\"}")), "[1, -3]");
+    assertEqual(
+        java.util.Arrays.toString(PgCompositeText.doubleArrayUnboxed.decode("{1.5, -2e3}")),
+        "[1.5, -2000.0]");
+    assertEqual(
+        java.util.Arrays.toString(PgCompositeText.boolArrayUnboxed.decode("{t,f}")),
+        "[true, false]");
+    assertEqual(PgCompositeText.longArrayUnboxed.decode("{}").length, 0);
+    // a primitive array cannot hold NULL
+    assertThrows(
+        IllegalArgumentException.class, () -> PgCompositeText.intArrayUnboxed.decode("{1,NULL}"));
+    assertThrows(
+        IllegalArgumentException.class, () -> PgCompositeText.boolArrayUnboxed.decode("{NULL}"));
+
+    // binary format
+    byte[] ints =
+        binaryArray(
+            java.nio.ByteBuffer.allocate(4).putInt(7).array(),
+            java.nio.ByteBuffer.allocate(4).putInt(-1).array());
+    assertEqual(
+        java.util.Arrays.toString(
+            PgCompositeText.intArrayUnboxed.decodeBinary(ints, 0, ints.length)),
+        "[7, -1]");
+    byte[] withNull = binaryArray(java.nio.ByteBuffer.allocate(4).putInt(7).array(), null);
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PgCompositeText.intArrayUnboxed.decodeBinary(withNull, 0, withNull.length));
+    byte[] doubles = binaryArray(float8(0.25), float8(-4.0));
+    assertEqual(
+        java.util.Arrays.toString(
+            PgCompositeText.doubleArrayUnboxed.decodeBinary(doubles, 0, doubles.length)),
+        "[0.25, -4.0]");
+    // an empty array has no dimensions
+    byte[] empty = java.nio.ByteBuffer.allocate(12).array();
+    assertEqual(PgCompositeText.longArrayUnboxed.decodeBinary(empty, 0, empty.length).length, 0);
+  }
+
+  @Test
+  public void testBinaryTransferFromDatabase() {
+    String oids =
+        withConnection(
+            conn -> {
+              try (PreparedStatement ps =
+                      conn.prepareStatement(
+                          "SELECT 'contact_info'::regtype::oid, 'address'::regtype::oid,"
+                              + " 'address[]'::regtype::oid");
+                  ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getLong(1) + "," + rs.getLong(2) + "," + rs.getLong(3);
+              }
+            });
+
+    var props = new java.util.Properties();
+    props.setProperty("user", "postgres");
+    props.setProperty("password", "password");
+    props.setProperty("binaryTransferEnable", oids);
+    // binary results are only requested for server-prepared statements
+    props.setProperty("prepareThreshold", "-1");
+    PgType<Address[]> addressArrayType =
+        addressType.array(
+            PgRead.readCompositeArray(addressType.pgCompositeText(), Address[]::new),
+            Address[]::new);
+
+    try (Connection conn =
+            DriverManager.getConnection("jdbc:postgresql://localhost:6432/Adventureworks", props);
+        PreparedStatement ps =
+            conn.prepareStatement(
+                "SELECT full_contact, ARRAY[simple_address, NULL] FROM composite_test WHERE id ="
+                    + " 1");
+        ResultSet rs = ps.executeQuery()) {
+      rs.next();
+      assertEqual(PgBinary.isBinary(rs, 1), true);
+      assertEqual(PgBinary.isBinary(rs, 2), true);
+
+      ContactInfo contact = contactInfoType.read().read(rs, 1);
+      assertEqual(contact.email(), "test@example.com");
+      assertEqual(contact.address().street(), "456 Oak Ave");
+
+      Address[] addresses = addressArrayType.read().read(rs, 2);
+      assertEqual(addresses.length, 2);
+      assertEqual(addresses[0].street(), "123 Main St");
+      assertEqual(addresses[1], null);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   // Helper methods
 
+  private static byte[] text(String value) {
+    return value.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+  }
+
+  private static byte[] float8(double value) {
+    return java.nio.ByteBuffer.allocate(8).putDouble(value).array();
+  }
+
+  /** A record in binary format. Field OIDs are not checked when decoding, so they are left 0. */
+  private static byte[] binaryRecord(byte[]... fields) {
+    var out = new java.io.ByteArrayOutputStream();
+    writeInt(out, fields.length);
+    for (byte[] field : fields) {
+      writeInt(out, 0);
+      writeInt(out, field == null ? -1 : field.length);
+      if (field != null) out.writeBytes(field);
+    }
+    return out.toByteArray();
+  }
+
+  /** A one-dimensional array in binary format. */
+  private static byte[] binaryArray(byte[]... elements) {
+    var out = new java.io.ByteArrayOutputStream();
+    writeInt(out, 1); // ndim
+    writeInt(out, 1); // has nulls
+    writeInt(out, 0); // element OID
+    writeInt(out, elements.length);
+    writeInt(out, 1); // lower bound
+    for (byte[] element : elements) {
+      writeInt(out, element == null ? -1 : element.length);
+      if (element != null) out.writeBytes(element);
+    }
+    return out.toByteArray();
+  }
+
+  private static void writeInt(java.io.ByteArrayOutputStream out, int value) {
+    out.writeBytes(java.nio.ByteBuffer.allocate(4).putInt(value).array());
+  }
+
   private void assertEqual(Object actual, Object expected) {
     if (expected == null && actual == null) return;
     if (expected == null || actual == null || !expected.equals(actual)) {
@@ -245,6 +245,17 @@ public class PgTypeTest {
               PgTypes.vector, new Vector(new float[] {0.0f, 0.0f, 0.0f})), // Edge case: zero vector
           new PgTypeAndExample<>(
               PgTypes.vectorArray, new Vector[] {new Vector(new float[] {1.0f, 2.0f, 3.0f})}),
+          new PgTypeAndExample<>(PgTypes.halfvec, new HalfVector(new float[] {1.0f, -2.5f, 3.0f})),
+          new PgTypeAndExample<>(
+              PgTypes.halfvecArray, new HalfVector[] {new HalfVector(new float[] {0.5f, 2.0f})}),
+          new PgTypeAndExample<>(
+              PgTypes.sparsevec, new SparseVector(5, new int[] {0, 3}, new float[] {1.5f, -2.0f})),
+          new PgTypeAndExample<>(
+              PgTypes.sparsevec,
+              new SparseVector(3, new int[] {}, new float[] {})), // Edge case: all zeros
+          new PgTypeAndExample<>(
+              PgTypes.sparsevecArray,
+              new SparseVector[] {new SparseVector(4, new int[] {1}, new float[] {7.0f})}),
 
           // ==================== Identifier Types ====================
           new PgTypeAndExample<>(PgTypes.name, "my_table_name"),
@@ -852,6 +863,19 @@ public class PgTypeTest {
                 + format(decoded)
                 + "'");
       }
+
+      // The streaming read path used for MULTISET results must agree with the tree path
+      A streamed = jsonCodec.fromJson(new JsonReader(encoded));
+      if (t.hasIdentity && !areEqual(streamed, original)) {
+        throw new RuntimeException(
+            "Streaming JSON read failed for "
+                + t.type.typename().sqlType()
+                + ": expected '"
+                + format(original)
+                + "' but got '"
+                + format(streamed)
+                + "'");
+      }
     } catch (Exception e) {
       throw new RuntimeException(
           "JSON roundtrip test failed for " + t.type.typename().sqlType(), e);
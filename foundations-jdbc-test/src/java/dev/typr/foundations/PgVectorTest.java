@@ -0,0 +1,270 @@
+package dev.typr.foundations;
+
+import dev.typr.foundations.data.HalfVector;
+import dev.typr.foundations.data.SparseVector;
+import dev.typr.foundations.data.Vector;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/** Tests for the text and binary codecs of the pgvector types. */
+public class PgVectorTest {
+
+  @Test
+  public void testParseText() {
+    assertEqual(Vector.parse("[1,2.5,-3]"), new Vector(new float[] {1f, 2.5f, -3f}));
+    assertEqual(Vector.parse(" [ 1 , 2 ] "), new Vector(new float[] {1f, 2f}));
+    assertEqual(Vector.parse("[]"), new Vector(new float[0]));
+    assertEqual(Vector.parse("[1e-3,2E2]"), new Vector(new float[] {0.001f, 200f}));
+    assertEqual(
+        Vector.parse("x[0.5,1]y", 1, 8), new Vector(new float[] {0.5f, 1f})); // span of a record
+    assertEqual(HalfVector.parse("[0.5,-1]"), new HalfVector(new float[] {0.5f, -1f}));
+
+    assertEqual(
+        SparseVector.parse("{1:1.5,3:-2}/5"),
+        new SparseVector(5, new int[] {0, 2}, new float[] {1.5f, -2f}));
+    assertEqual(SparseVector.parse("{}/3"), new SparseVector(3, new int[0], new float[0]));
+    assertEqual(
+        new SparseVector(5, new int[] {0, 2}, new float[] {1.5f, -2f}).value(), "{1:1.5,3:-2.0}/5");
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void testParseInvalidElement() {
+    Vector.parse("[1,abc]");
+  }
+
+  @Test
+  public void testParseMatchesFloatParseFloat() {
+    // the fast path must round exactly like Float.parseFloat
+    Random random = new Random(42);
+    for (int i = 0; i < 100_000; i++) {
+      String element =
+          switch (i % 4) {
+            case 0 -> Float.toString(random.nextFloat() * 2 - 1);
+            case 1 -> Float.toString((float) random.nextGaussian());
+            case 2 -> String.format(java.util.Locale.ROOT, "%.6f", random.nextFloat() * 100);
+            default -> (random.nextInt(2_000_000) - 1_000_000) + "e-" + random.nextInt(12);
+          };
+      float expected = Float.parseFloat(element);
+      float actual = Vector.parse("[" + element + "]").values()[0];
+      if (Float.floatToIntBits(expected) != Float.floatToIntBits(actual)) {
+        throw new AssertionError(element + ": expected " + expected + ", got " + actual);
+      }
+    }
+  }
+
+  @Test
+  public void testTextRoundtrip() {
+    float[] values = new float[1536];
+    Random random = new Random(7);
+    for (int i = 0; i < values.length; i++) {
+      values[i] = (float) random.nextGaussian();
+    }
+    Vector vector = new Vector(values);
+    assertEqual(Vector.parse(vector.value()), vector);
+  }
+
+  @Test
+  public void testBinaryFormats() {
+    // vector: dim, unused, float4 elements
+    byte[] vector =
+        ByteBuffer.allocate(12)
+            .putShort((short) 2)
+            .putShort((short) 0)
+            .putFloat(1.5f)
+            .putFloat(-2f)
+            .array();
+    assertEqual(Vector.fromBinary(vector, 0, 12), new Vector(new float[] {1.5f, -2f}));
+    assertEqual(toBinary(new Vector(new float[] {1.5f, -2f})), vector);
+
+    // halfvec: dim, unused, binary16 elements (0x3e00 = 1.5, 0xc000 = -2)
+    byte[] halfvec =
+        ByteBuffer.allocate(8)
+            .putShort((short) 2)
+            .putShort((short) 0)
+            .putShort((short) 0x3e00)
+            .putShort((short) 0xc000)
+            .array();
+    assertEqual(HalfVector.fromBinary(halfvec, 0, 8), new HalfVector(new float[] {1.5f, -2f}));
+    assertEqual(toBinary(new HalfVector(new float[] {1.5f, -2f})), halfvec);
+
+    // sparsevec: dim, nnz, unused, indices, values
+    byte[] sparsevec =
+        ByteBuffer.allocate(28)
+            .putInt(5)
+            .putInt(2)
+            .putInt(0)
+            .putInt(0)
+            .putInt(2)
+            .putFloat(1.5f)
+            .putFloat(-2f)
+            .array();
+    SparseVector sparse = new SparseVector(5, new int[] {0, 2}, new float[] {1.5f, -2f});
+    assertEqual(SparseVector.fromBinary(sparsevec, 0, 28), sparse);
+    assertEqual(toBinary(sparse), sparsevec);
+
+    // decoding through the codecs, as PgRead does for columns received in binary
+    assertEqual(PgTypes.vector.pgCompositeText().supportsBinary(), true);
+    assertEqual(
+        PgTypes.sparsevec.pgCompositeText().decodeBinary(sparsevec, 0, sparsevec.length), sparse);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBinaryLengthMismatch() {
+    Vector.fromBinary(ByteBuffer.allocate(8).putShort((short) 2).array(), 0, 8);
+  }
+
+  @Test
+  public void testBinaryParameter() throws SQLException {
+    var vector = new Vector(new float[] {1f, 2f});
+    var object =
+        new PgBinary.BinaryObject<>(
+            "vector", vector, Vector::binaryLength, Vector::writeBinary, Vector::value);
+    assertEqual(object.getType(), "vector");
+    assertEqual(object.lengthInBytes(), 12);
+    byte[] bytes = new byte[14];
+    object.toBytes(bytes, 2);
+    assertEqual(Vector.fromBinary(bytes, 2, 12), vector);
+    // the text is only for drivers which do not send the type in binary
+    assertEqual(object.getValue(), "[1.0,2.0]");
+    assertEqual(object.isNull(), false);
+  }
+
+  @Test
+  public void testCopyText() {
+    var sb = new StringBuilder();
+    PgText.textVector.unsafeEncode(new Vector(new float[] {1f, 2f}), sb);
+    sb.append('\t');
+    PgTypes.sparsevecArray
+        .pgText()
+        .unsafeEncode(
+            new SparseVector[] {new SparseVector(2, new int[] {1}, new float[] {3f})}, sb);
+    assertEqual(sb.toString(), "[1.0,2.0]\t{\"{2:3.0}/2\"}");
+  }
+
+  @Test
+  public void testCopyBinaryWriter() {
+    var out = new PgCopyBinaryWriter(0);
+    out.header();
+    out.startRow(3).int8(7L).vector(new Vector(new float[] {1f})).nullField();
+    out.trailer();
+
+    ByteBuffer expected =
+        ByteBuffer.allocate(11 + 8 + 2 + 4 + 8 + 4 + 8 + 4 + 2)
+            .put(new byte[] {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0})
+            .putInt(0)
+            .putInt(0)
+            .putShort((short) 3)
+            .putInt(8)
+            .putLong(7L)
+            .putInt(8)
+            .putShort((short) 1)
+            .putShort((short) 0)
+            .putFloat(1f)
+            .putInt(-1)
+            .putShort((short) -1);
+    assertEqual(Arrays.copyOf(out.buffer(), out.size()), expected.array());
+  }
+
+  @Test
+  public void testBinaryTransferAndCopyFromDatabase() throws SQLException {
+    String url = "jdbc:postgresql://localhost:6432/Adventureworks";
+    String oids;
+    try (Connection conn = DriverManager.getConnection(url, "postgres", "password");
+        ResultSet rs =
+            conn.createStatement()
+                .executeQuery(
+                    "SELECT 'vector'::regtype::oid, 'halfvec'::regtype::oid,"
+                        + " 'sparsevec'::regtype::oid")) {
+      rs.next();
+      oids = rs.getLong(1) + "," + rs.getLong(2) + "," + rs.getLong(3);
+    }
+
+    var props = new java.util.Properties();
+    props.setProperty("user", "postgres");
+    props.setProperty("password", "password");
+    props.setProperty("binaryTransferEnable", oids);
+    props.setProperty("prepareThreshold", "-1");
+    try (Connection conn = DriverManager.getConnection(url, props)) {
+      conn.setAutoCommit(false);
+      conn.createStatement()
+          .execute(
+              "create temp table embedding_test (id int8, v vector(3), h halfvec(3),"
+                  + " s sparsevec(3))");
+
+      var rows =
+          List.of(
+              new Object[] {
+                1L,
+                new Vector(new float[] {1f, 2f, 3f}),
+                new HalfVector(new float[] {0.5f, 1f, 1.5f}),
+                new SparseVector(3, new int[] {1}, new float[] {4f})
+              },
+              new Object[] {2L, new Vector(new float[] {-1f, 0f, 1f}), null, null});
+      long copied =
+          streamingInsert.insertBinary(
+              "COPY embedding_test (id, v, h, s) FROM STDIN (FORMAT binary)",
+              1,
+              rows.iterator(),
+              conn,
+              (row, out) ->
+                  out.startRow(4)
+                      .int8((Long) row[0])
+                      .vector((Vector) row[1])
+                      .halfvec((HalfVector) row[2])
+                      .sparsevec((SparseVector) row[3]));
+      assertEqual(copied, 2L);
+
+      try (PreparedStatement ps =
+          conn.prepareStatement("SELECT v, h, s FROM embedding_test WHERE v = ? ORDER BY id")) {
+        PgTypes.vector.write().set(ps, 1, new Vector(new float[] {1f, 2f, 3f}));
+        try (ResultSet rs = ps.executeQuery()) {
+          rs.next();
+          assertEqual(PgBinary.isBinary(rs, 1), true);
+          assertEqual(PgTypes.vector.read().read(rs, 1), new Vector(new float[] {1f, 2f, 3f}));
+          assertEqual(
+              PgTypes.halfvec.read().read(rs, 2), new HalfVector(new float[] {0.5f, 1f, 1.5f}));
+          assertEqual(
+              PgTypes.sparsevec.read().read(rs, 3),
+              new SparseVector(3, new int[] {1}, new float[] {4f}));
+        }
+      }
+      conn.rollback();
+    }
+  }
+
+  private static byte[] toBinary(Vector v) {
+    byte[] bytes = new byte[v.binaryLength()];
+    v.writeBinary(bytes, 0);
+    return bytes;
+  }
+
+  private static byte[] toBinary(HalfVector v) {
+    byte[] bytes = new byte[v.binaryLength()];
+    v.writeBinary(bytes, 0);
+    return bytes;
+  }
+
+  private static byte[] toBinary(SparseVector v) {
+    byte[] bytes = new byte[v.binaryLength()];
+    v.writeBinary(bytes, 0);
+    return bytes;
+  }
+
+  private void assertEqual(Object actual, Object expected) {
+    boolean equal =
+        actual instanceof byte[] a && expected instanceof byte[] e
+            ? Arrays.equals(a, e)
+            : java.util.Objects.equals(actual, expected);
+    if (!equal) {
+      throw new AssertionError("Expected: " + expected + ", Actual: " + actual);
+    }
+  }
+}
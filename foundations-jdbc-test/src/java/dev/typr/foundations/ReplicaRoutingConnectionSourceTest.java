@@ -0,0 +1,99 @@
+package dev.typr.foundations;
+
+import static org.junit.Assert.*;
+
+import dev.typr.foundations.connect.ConnectionSource;
+import dev.typr.foundations.connect.ReplicaRoutingConnectionSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+/**
+ * Tests for routing read-only transactors to replicas. Each "database" is an in-memory DuckDB
+ * connection source which counts how often it was used.
+ */
+public class ReplicaRoutingConnectionSourceTest {
+
+  static final class CountingSource implements ConnectionSource {
+    final AtomicInteger connections = new AtomicInteger();
+    volatile boolean down = false;
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      if (down) throw new SQLException("down");
+      connections.incrementAndGet();
+      return DriverManager.getConnection("jdbc:duckdb:");
+    }
+  }
+
+  @Test
+  public void testReadOnlyStrategyIsRoutedToReplica() throws SQLException {
+    var primary = new CountingSource();
+    var replica = new CountingSource();
+    var ds = ReplicaRoutingConnectionSource.builder(primary).replica(replica).build();
+
+    ds.transactor().execute(conn -> 1);
+    assertEquals(1, primary.connections.get());
+    assertEquals(0, replica.connections.get());
+
+    ds.transactor(Transactor.readOnlyStrategy()).execute(conn -> 1);
+    ds.executeRead(conn -> 1);
+    assertEquals(1, primary.connections.get());
+    assertEquals(2, replica.connections.get());
+    assertEquals(0, ds.replicas().get(0).inFlight());
+  }
+
+  @Test
+  public void testRoundRobinSpreadsReads() throws SQLException {
+    var a = new CountingSource();
+    var b = new CountingSource();
+    var ds =
+        ReplicaRoutingConnectionSource.builder(new CountingSource())
+            .replica(a)
+            .replica(b)
+            .selector(ReplicaRoutingConnectionSource.Selector.roundRobin())
+            .build();
+    for (int i = 0; i < 10; i++) ds.executeRead(conn -> 1);
+    assertEquals(5, a.connections.get());
+    assertEquals(5, b.connections.get());
+  }
+
+  @Test
+  public void testFallbackToPrimary() throws SQLException {
+    var primary = new CountingSource();
+    var replica = new CountingSource();
+    replica.down = true;
+    var ds = ReplicaRoutingConnectionSource.builder(primary).replica(replica).build();
+    ds.executeRead(conn -> 1);
+    assertEquals(1, primary.connections.get());
+    assertEquals(1, ds.replicas().get(0).failures());
+
+    var strict =
+        ReplicaRoutingConnectionSource.builder(primary)
+            .replica(replica)
+            .fallbackToPrimary(false)
+            .build();
+    assertThrows(SQLException.class, () -> strict.executeRead(conn -> 1));
+  }
+
+  @Test
+  public void testLaggingReplicaIsSkipped() throws SQLException {
+    var primary = new CountingSource();
+    var replica = new CountingSource();
+    var ds =
+        ReplicaRoutingConnectionSource.builder(primary)
+            .replica(replica)
+            .maxReplicationLag(Duration.ofSeconds(1), conn -> Duration.ofSeconds(30))
+            .lagCheckInterval(Duration.ofHours(1))
+            .build();
+    ds.executeRead(conn -> 1);
+    ds.executeRead(conn -> 1);
+    assertTrue(ds.replicas().get(0).lagging());
+    // probed once, then skipped until the next lag check is due
+    assertEquals(1, replica.connections.get());
+    assertEquals(2, primary.connections.get());
+  }
+}
@@ -0,0 +1,94 @@
+package dev.typr.foundations;
+
+import static org.junit.Assert.*;
+
+import dev.typr.foundations.connect.ConnectionSource;
+import dev.typr.foundations.connect.ShardedConnectionSource;
+import dev.typr.foundations.connect.ShardedConnectionSource.ShardFunction;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+/** Tests for shard routing and scatter-gather execution. Every shard is an in-memory DuckDB. */
+public class ShardedTransactorTest {
+
+  private static ShardedConnectionSource<Integer> fourShards() {
+    List<ConnectionSource> shards = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      shards.add(() -> DriverManager.getConnection("jdbc:duckdb:"));
+    }
+    return ShardedConnectionSource.of(shards, ShardFunction.modulo(Integer::longValue));
+  }
+
+  @Test
+  public void testExecuteRoutesByKey() throws SQLException {
+    var shards = fourShards();
+    assertEquals(3, shards.shardFor(7));
+    assertEquals(0, shards.shardFor(-4));
+    assertEquals(Integer.valueOf(42), shards.transactor().execute(7, conn -> 42));
+  }
+
+  @Test
+  public void testExecuteGroupedCallsOncePerShard() throws SQLException {
+    var tx = fourShards().transactor();
+    List<List<Integer>> calls = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> ids = IntStream.range(0, 10).boxed().toList();
+
+    List<Integer> rows =
+        tx.executeGrouped(
+            ids,
+            Integer[]::new,
+            (shardIds, conn) -> {
+              calls.add(List.of(shardIds));
+              return List.of(shardIds);
+            });
+
+    assertEquals(4, calls.size());
+    for (List<Integer> call : calls) {
+      assertTrue(call.stream().allMatch(id -> id % 4 == call.get(0) % 4));
+    }
+    // concatenated in shard order
+    assertEquals(List.of(0, 4, 8, 1, 5, 9, 2, 6, 3, 7), rows);
+  }
+
+  @Test
+  public void testExecuteOnAllRunsInParallel() throws SQLException {
+    var tx = fourShards().transactor();
+    var allStarted = new CountDownLatch(4);
+    List<Boolean> results =
+        tx.executeOnAll(
+            conn -> {
+              allStarted.countDown();
+              try {
+                // only succeeds if all four shards are running at the same time
+                return allStarted.await(10, TimeUnit.SECONDS);
+              } catch (InterruptedException e) {
+                throw new SQLException(e);
+              }
+            });
+    assertEquals(List.of(true, true, true, true), results);
+  }
+
+  @Test
+  public void testFailureOnOneShardFailsTheFanOut() {
+    var tx = fourShards().transactor();
+    IllegalStateException e =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                tx.executeGrouped(
+                    List.of(1, 2, 3),
+                    Integer[]::new,
+                    (shardIds, conn) -> {
+                      if (shardIds[0] == 2) throw new IllegalStateException("shard 2");
+                      return List.of(shardIds);
+                    }));
+    assertEquals("shard 2", e.getMessage());
+  }
+}
@@ -0,0 +1,124 @@
+package dev.typr.foundations;
+
+import static org.junit.Assert.*;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+/** Tests for SingleFlight deduplication of identical in-flight queries. */
+public class SingleFlightTest {
+
+  @Test
+  public void testKeyIncludesSqlAndParams() {
+    Fragment a =
+        Fragment.interpolate(
+            Fragment.lit("select * from t where id = ANY("),
+            Fragment.encode(PgTypes.int4Array, new Integer[] {1, 2, 3}),
+            Fragment.lit(")"));
+    Fragment b =
+        Fragment.interpolate(
+            Fragment.lit("select * from t where id = ANY("),
+            Fragment.encode(PgTypes.int4Array, new Integer[] {1, 2, 3}),
+            Fragment.lit(")"));
+    Fragment c =
+        Fragment.interpolate(
+            Fragment.lit("select * from t where id = ANY("),
+            Fragment.encode(PgTypes.int4Array, new Integer[] {1, 2, 4}),
+            Fragment.lit(")"));
+
+    assertEquals(SingleFlight.Key.of(a), SingleFlight.Key.of(b));
+    assertEquals(SingleFlight.Key.of(a).hashCode(), SingleFlight.Key.of(b).hashCode());
+    assertNotEquals(SingleFlight.Key.of(a), SingleFlight.Key.of(c));
+  }
+
+  @Test
+  public void testKeyIncludesParserAndTypes() {
+    Fragment query = Fragment.lit("select 1");
+    RowParser<Integer> ints = RowParsers.of(PgTypes.int4, i -> i, i -> new Object[] {i});
+    RowParser<String> texts = RowParsers.of(PgTypes.text, s -> s, s -> new Object[] {s});
+
+    assertEquals(
+        SingleFlight.Key.of(query.query(ints.all())), SingleFlight.Key.of(query.query(ints.all())));
+    assertNotEquals(
+        SingleFlight.Key.of(query.query(ints.all())),
+        SingleFlight.Key.of(query.query(texts.all())));
+    assertNotEquals(
+        SingleFlight.Key.of(query.query(ints.all())),
+        SingleFlight.Key.of(query.query(ints.first())));
+
+    Fragment param =
+        Fragment.interpolate(Fragment.lit("select "), Fragment.encode(PgTypes.int4, 1));
+    assertEquals(List.of(PgTypes.int4), SingleFlight.Key.of(param).types());
+  }
+
+  @Test
+  public void testReentrantCallDoesNotWaitForItself() throws Exception {
+    var singleFlight = new SingleFlight();
+    String result =
+        singleFlight.execute(
+            "key", () -> "outer " + singleFlight.<String>execute("key", () -> "inner"));
+    assertEquals("outer inner", result);
+    assertEquals(0, singleFlight.inFlightCount());
+  }
+
+  @Test
+  public void testConcurrentCallersShareOneExecution() throws Exception {
+    var singleFlight = new SingleFlight();
+    var executions = new AtomicInteger();
+    var release = new CountDownLatch(1);
+    var threads = new ArrayList<Thread>();
+    var seen = new AtomicInteger();
+
+    for (int i = 0; i < 20; i++) {
+      threads.add(
+          Thread.ofVirtual()
+              .start(
+                  () -> {
+                    try {
+                      String result =
+                          singleFlight.execute(
+                              "key",
+                              () -> {
+                                executions.incrementAndGet();
+                                try {
+                                  release.await();
+                                } catch (InterruptedException e) {
+                                  throw new SQLException(e);
+                                }
+                                return "value";
+                              });
+                      if (result.equals("value")) seen.incrementAndGet();
+                    } catch (SQLException e) {
+                      throw new RuntimeException(e);
+                    }
+                  }));
+    }
+    // give every caller time to join the in-flight execution
+    Thread.sleep(200);
+    assertEquals(1, singleFlight.inFlightCount());
+    release.countDown();
+    for (Thread t : threads) t.join();
+
+    assertEquals(1, executions.get());
+    assertEquals(20, seen.get());
+    assertEquals(0, singleFlight.inFlightCount());
+  }
+
+  @Test
+  public void testExceptionIsSharedAndKeyIsReleased() throws Exception {
+    var singleFlight = new SingleFlight();
+    assertThrows(
+        SQLException.class,
+        () ->
+            singleFlight.execute(
+                "key",
+                () -> {
+                  throw new SQLException("boom");
+                }));
+    assertEquals(Integer.valueOf(1), singleFlight.execute("key", () -> 1));
+  }
+}
@@ -0,0 +1,177 @@
+package dev.typr.foundations;
+
+import static org.junit.Assert.*;
+
+import dev.typr.foundations.connect.DatabaseKind;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+/** Tests for Transactor execution helpers, using in-memory DuckDB connections. */
+public class TransactorTest {
+
+  private static Transactor duckDb() {
+    return duckDb(new AtomicInteger());
+  }
+
+  /** A transactor counting the connections it opens in {@code connections}. */
+  private static Transactor duckDb(AtomicInteger connections) {
+    return new Transactor(
+        () -> {
+          connections.incrementAndGet();
+          return DriverManager.getConnection("jdbc:duckdb:");
+        },
+        Transactor.defaultStrategy());
+  }
+
+  private static <T> Operation.Query<T> select(String sql, ResultSetParser<T> parser) {
+    return Fragment.lit(sql).query(parser);
+  }
+
+  private static Operation.Query<Integer> selectInt(int value) {
+    return select(
+        "select " + value,
+        rs -> {
+          rs.next();
+          return rs.getInt(1);
+        });
+  }
+
+  @Test
+  public void testParallelReturnsTypedResults() throws SQLException {
+    var tx = duckDb();
+    var result =
+        tx.parallel(
+            selectInt(1),
+            select(
+                "select 'two'",
+                rs -> {
+                  rs.next();
+                  return rs.getString(1);
+                }));
+    assertEquals(Integer.valueOf(1), result._1());
+    assertEquals("two", result._2());
+  }
+
+  @Test
+  public void testExecuteAllRunsConcurrentlyOnSeparateConnections() throws SQLException {
+    var connections = new AtomicInteger();
+    var tx = duckDb(connections);
+    var allStarted = new CountDownLatch(3);
+    Operation.Query<Boolean> op =
+        select(
+            "select 1",
+            rs -> {
+              allStarted.countDown();
+              try {
+                return allStarted.await(10, TimeUnit.SECONDS);
+              } catch (InterruptedException e) {
+                throw new SQLException(e);
+              }
+            });
+    assertEquals(List.of(true, true, true), tx.executeAll(List.of(op, op, op)));
+    assertEquals(3, connections.get());
+  }
+
+  @Test
+  public void testExecuteAllKeepsNullResults() throws SQLException {
+    var tx = duckDb();
+    Operation.Query<String> nothing = select("select 1", rs -> null);
+    assertEquals(Collections.singletonList(null), tx.executeAll(List.of(nothing)));
+    assertEquals(Arrays.asList(null, null), tx.executeAll(List.of(nothing, nothing)));
+    var result = tx.parallel(nothing, selectInt(2));
+    assertNull(result._1());
+    assertEquals(Integer.valueOf(2), result._2());
+  }
+
+  @Test
+  public void testExecuteAllPropagatesFailure() {
+    var tx = duckDb();
+    assertThrows(
+        SQLException.class,
+        () -> tx.executeAll(List.of(selectInt(1), select("select * from missing", rs -> 0)), 1));
+  }
+
+  private static RetryPolicy fastRetry(int maxAttempts) {
+    return RetryPolicy.builder(DatabaseKind.POSTGRESQL)
+        .maxAttempts(maxAttempts)
+        .initialBackoff(Duration.ofMillis(1))
+        .build();
+  }
+
+  @Test
+  public void testRetriesSerializationFailure() throws SQLException {
+    var retry = fastRetry(5);
+    var tx = duckDb().withRetry(retry);
+    var attempts = new AtomicInteger();
+    int result =
+        tx.execute(
+            conn -> {
+              if (attempts.incrementAndGet() < 3) {
+                // as thrown by runUnchecked
+                throw new RuntimeException(new SQLException("could not serialize", "40001"));
+              }
+              return 42;
+            });
+    assertEquals(42, result);
+    assertEquals(3, attempts.get());
+    assertEquals(2, retry.stats().retries());
+    assertEquals(1, retry.stats().recovered());
+  }
+
+  @Test
+  public void testGivesUpAfterMaxAttempts() {
+    var retry = fastRetry(3);
+    var tx = duckDb().withRetry(retry);
+    var attempts = new AtomicInteger();
+    assertThrows(
+        SQLException.class,
+        () ->
+            tx.execute(
+                conn -> {
+                  attempts.incrementAndGet();
+                  throw new SQLException("deadlock detected", "40P01");
+                }));
+    assertEquals(3, attempts.get());
+    assertEquals(1, retry.stats().exhausted());
+  }
+
+  @Test
+  public void testDoesNotRetryOtherErrors() {
+    var tx = duckDb().withRetry(fastRetry(5));
+    var attempts = new AtomicInteger();
+    assertThrows(
+        SQLException.class,
+        () ->
+            tx.execute(
+                conn -> {
+                  attempts.incrementAndGet();
+                  throw new SQLException("duplicate key", "23505");
+                }));
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  public void testRetryClassificationPerDatabase() {
+    var mariaDeadlock = new SQLException("Deadlock found", "40001", 1213);
+    var sqlServerVictim = new SQLException("deadlock victim", "40001", 1205);
+    var oracleSerialize = new SQLException("ORA-08177", "72000", 8177);
+    assertTrue(RetryPolicy.forKind(DatabaseKind.MARIADB).isRetryable(mariaDeadlock));
+    assertTrue(
+        RetryPolicy.forKind(DatabaseKind.MARIADB)
+            .isRetryable(new SQLException("Deadlock", "HY000", 1213)));
+    assertTrue(RetryPolicy.forKind(DatabaseKind.SQLSERVER).isRetryable(sqlServerVictim));
+    assertTrue(RetryPolicy.forKind(DatabaseKind.ORACLE).isRetryable(oracleSerialize));
+    assertFalse(
+        RetryPolicy.forKind(DatabaseKind.ORACLE)
+            .isRetryable(new SQLException("unique constraint", "23000", 1)));
+    assertFalse(RetryPolicy.none().isRetryable(mariaDeadlock));
+  }
+}
@@ -0,0 +1,275 @@
+package dev.typr.foundations;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Coalesces concurrent single-key lookups into one batched lookup, in the style of DataLoader.
+ *
+ * <p>Keys passed to {@link #load} are collected for a short window (or until {@code maxBatchSize}
+ * distinct keys are pending), and then fetched with a single call to a generated repo's {@code
+ * selectByIdsTracked} (or {@code selectByIds}) inside one {@link Transactor#execute}. Each caller
+ * gets its own future, completed with the row for its key, or empty if there was none. Callers
+ * asking for the same key in the same window share one future.
+ *
+ * <p>Batches are dispatched on virtual threads, and all waiting uses {@link ReentrantLock} and
+ * {@link CompletableFuture}, so callers running on virtual threads are never pinned.
+ *
+ * <pre>{@code
+ * var loader = BatchLoader.tracked(tx, repo::selectByIdsTracked, StateprovinceId[]::new)
+ *     .maxBatchSize(500)
+ *     .window(Duration.ofMillis(2))
+ *     .build();
+ *
+ * // from many threads at once
+ * Optional<StateprovinceRow> row = loader.get(id);
+ * }</pre>
+ *
+ * @param <Id> the key type
+ * @param <Row> the row type
+ */
+public final class BatchLoader<Id, Row> {
+  private final Transactor transactor;
+  private final BiFunction<Id[], Connection, Map<Id, Row>> fetch;
+  private final IntFunction<Id[]> newArray;
+  private final int maxBatchSize;
+  private final Duration window;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private LinkedHashMap<Id, CompletableFuture<Optional<Row>>> pending = new LinkedHashMap<>();
+
+  private BatchLoader(Builder<Id, Row> b) {
+    this.transactor = b.transactor;
+    this.fetch = b.fetch;
+    this.newArray = b.newArray;
+    this.maxBatchSize = b.maxBatchSize;
+    this.window = b.window;
+  }
+
+  /**
+   * Start building a loader backed by a generated repo's {@code selectByIdsTracked}.
+   *
+   * @param transactor the transactor each batch is executed with
+   * @param selectByIdsTracked fetches the rows for the given ids, keyed by id
+   * @param newArray creates an id array, typically {@code MyId[]::new}
+   */
+  public static <Id, Row> Builder<Id, Row> tracked(
+      Transactor transactor,
+      BiFunction<Id[], Connection, Map<Id, Row>> selectByIdsTracked,
+      IntFunction<Id[]> newArray) {
+    return new Builder<>(transactor, selectByIdsTracked, newArray);
+  }
+
+  /**
+   * Start building a loader backed by a generated repo's {@code selectByIds}.
+   *
+   * @param transactor the transactor each batch is executed with
+   * @param selectByIds fetches the rows for the given ids
+   * @param idOf extracts the id from a row
+   * @param newArray creates an id array, typically {@code MyId[]::new}
+   */
+  public static <Id, Row> Builder<Id, Row> of(
+      Transactor transactor,
+      BiFunction<Id[], Connection, List<Row>> selectByIds,
+      Function<Row, Id> idOf,
+      IntFunction<Id[]> newArray) {
+    return new Builder<>(
+        transactor,
+        (ids, conn) -> {
+          Map<Id, Row> ret = new HashMap<>();
+          selectByIds.apply(ids, conn).forEach(row -> ret.put(idOf.apply(row), row));
+          return ret;
+        },
+        newArray);
+  }
+
+  /**
+   * Request the row for {@code id}. The returned future completes once the batch the key ended up
+   * in has been fetched.
+   *
+   * @param id the key to load
+   * @return a future with the row, or empty if no row has that key
+   */
+  public CompletableFuture<Optional<Row>> load(Id id) {
+    LinkedHashMap<Id, CompletableFuture<Optional<Row>>> full = null;
+    CompletableFuture<Optional<Row>> future;
+    lock.lock();
+    try {
+      future = pending.get(id);
+      if (future == null) {
+        future = new CompletableFuture<>();
+        if (pending.isEmpty()) {
+          scheduleWindow(pending);
+        }
+        pending.put(id, future);
+        if (pending.size() >= maxBatchSize) {
+          full = pending;
+          pending = new LinkedHashMap<>();
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (full != null) {
+      dispatchAsync(full);
+    }
+    return future;
+  }
+
+  /**
+   * Request the rows for several keys. They may be spread over more than one batch.
+   *
+   * @param ids the keys to load
+   * @return a future with the rows that were found, keyed by id
+   */
+  public CompletableFuture<Map<Id, Row>> loadMany(Collection<Id> ids) {
+    List<Id> keys = new ArrayList<>(ids);
+    List<CompletableFuture<Optional<Row>>> futures = new ArrayList<>(keys.size());
+    for (Id id : keys) {
+      futures.add(load(id));
+    }
+    return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+        .thenApply(
+            ignored -> {
+              Map<Id, Row> ret = new LinkedHashMap<>();
+              for (int i = 0; i < keys.size(); i++) {
+                Id id = keys.get(i);
+                futures.get(i).join().ifPresent(row -> ret.put(id, row));
+              }
+              return ret;
+            });
+  }
+
+  /**
+   * Load the row for {@code id} and wait for it.
+   *
+   * @param id the key to load
+   * @return the row, or empty if no row has that key
+   */
+  public Optional<Row> get(Id id) {
+    try {
+      return load(id).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException re) {
+        throw re;
+      }
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  /** Dispatch the keys collected so far without waiting for the window to elapse. */
+  public void flush() {
+    LinkedHashMap<Id, CompletableFuture<Optional<Row>>> batch;
+    lock.lock();
+    try {
+      if (pending.isEmpty()) {
+        return;
+      }
+      batch = pending;
+      pending = new LinkedHashMap<>();
+    } finally {
+      lock.unlock();
+    }
+    dispatchAsync(batch);
+  }
+
+  private void scheduleWindow(LinkedHashMap<Id, CompletableFuture<Optional<Row>>> batch) {
+    Thread.ofVirtual()
+        .name("typr-batch-loader-window")
+        .start(
+            () -> {
+              try {
+                Thread.sleep(window);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              lock.lock();
+              try {
+                // the batch may already have been dispatched because it filled up or was flushed
+                if (pending != batch) {
+                  return;
+                }
+                pending = new LinkedHashMap<>();
+              } finally {
+                lock.unlock();
+              }
+              dispatch(batch);
+            });
+  }
+
+  private void dispatchAsync(LinkedHashMap<Id, CompletableFuture<Optional<Row>>> batch) {
+    Thread.ofVirtual().name("typr-batch-loader").start(() -> dispatch(batch));
+  }
+
+  private void dispatch(LinkedHashMap<Id, CompletableFuture<Optional<Row>>> batch) {
+    Id[] ids = batch.keySet().toArray(newArray.apply(batch.size()));
+    try {
+      Map<Id, Row> found = transactor.execute(conn -> fetch.apply(ids, conn));
+      batch.forEach((id, future) -> future.complete(Optional.ofNullable(found.get(id))));
+    } catch (Throwable th) {
+      batch.values().forEach(future -> future.completeExceptionally(th));
+    }
+  }
+
+  /** Builder for {@link BatchLoader}. */
+  public static final class Builder<Id, Row> {
+    private final Transactor transactor;
+    private final BiFunction<Id[], Connection, Map<Id, Row>> fetch;
+    private final IntFunction<Id[]> newArray;
+    private int maxBatchSize = 500;
+    private Duration window = Duration.ofMillis(1);
+
+    private Builder(
+        Transactor transactor,
+        BiFunction<Id[], Connection, Map<Id, Row>> fetch,
+        IntFunction<Id[]> newArray) {
+      this.transactor = transactor;
+      this.fetch = fetch;
+      this.newArray = newArray;
+    }
+
+    /**
+     * Maximum number of distinct keys per batch. A batch is dispatched as soon as it is full.
+     * Default: 500.
+     *
+     * @param maxBatchSize maximum keys per batch
+     * @return this builder
+     */
+    public Builder<Id, Row> maxBatchSize(int maxBatchSize) {
+      if (maxBatchSize < 1) {
+        throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+      }
+      this.maxBatchSize = maxBatchSize;
+      return this;
+    }
+
+    /**
+     * How long to collect keys after the first key of a batch arrives. Default: 1 millisecond.
+     *
+     * @param window collection window
+     * @return this builder
+     */
+    public Builder<Id, Row> window(Duration window) {
+      this.window = window;
+      return this;
+    }
+
+    /** Build the BatchLoader. */
+    public BatchLoader<Id, Row> build() {
+      return new BatchLoader<>(this);
+    }
+  }
+}
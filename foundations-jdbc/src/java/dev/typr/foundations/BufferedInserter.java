@@ -0,0 +1,406 @@
+package dev.typr.foundations;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for high-rate ingestion. Rows are accepted from any number of producer
+ * threads, and written in bulk by a background virtual thread through a generated repo's {@code
+ * insertStreaming} (COPY) or {@code upsertBatch}.
+ *
+ * <p>A flush happens when {@code flushSize} rows are buffered, or {@code flushInterval} after the
+ * previous flush, whichever comes first. Producers never take a lock. At most {@code capacity} rows
+ * are buffered or being written at any time; when the buffer is full, {@link #add} blocks until a
+ * flush frees up space, and {@link #offer} gives up.
+ *
+ * <p>A failed flush does not stop the inserter. The rows of the failed flush are handed to the
+ * failure handler, which may log them, park them somewhere, or {@link #offer} them again.
+ *
+ * <pre>{@code
+ * try (var inserter = BufferedInserter.insertStreaming(tx, eventRepo::insertStreaming)
+ *         .flushSize(5_000)
+ *         .flushInterval(Duration.ofMillis(200))
+ *         .onFailure((rows, e) -> log.error("lost {} events", rows.size(), e))
+ *         .build()) {
+ *   // from many threads
+ *   inserter.add(event);
+ * }
+ * }</pre>
+ *
+ * @param <Row> the row type
+ */
+public final class BufferedInserter<Row> implements AutoCloseable {
+  private final Transactor tx;
+  private final SqlBiConsumer<List<Row>, Connection> write;
+  private final int flushSize;
+  private final long flushIntervalNanos;
+  private final FailureHandler<Row> onFailure;
+
+  private final ConcurrentLinkedQueue<Row> buffer = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger buffered = new AtomicInteger();
+  private final Semaphore space;
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final Thread flusher;
+  private volatile boolean closed = false;
+
+  private final AtomicLong flushes = new AtomicLong();
+  private final AtomicLong rowsWritten = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+  private final AtomicLong rowsFailed = new AtomicLong();
+  private final AtomicLong totalFlushNanos = new AtomicLong();
+  private final AtomicLong maxFlushNanos = new AtomicLong();
+  private final AtomicReference<Throwable> lastFailure = new AtomicReference<>();
+
+  private BufferedInserter(Builder<Row> b) {
+    this.tx = b.tx;
+    this.write = b.write;
+    this.flushSize = b.flushSize;
+    this.flushIntervalNanos = b.flushInterval.toNanos();
+    this.onFailure = b.onFailure;
+    this.space = new Semaphore(Math.max(b.capacity, b.flushSize));
+    this.flusher = Thread.ofVirtual().name("typr-buffered-inserter").start(this::run);
+  }
+
+  /**
+   * Buffer rows for a generated {@code insertStreaming} method, which writes them with COPY.
+   *
+   * @param <Row> the row type
+   * @param tx runs each flush in its own transaction
+   * @param insertStreaming typically {@code repo::insertStreaming}
+   * @return a builder
+   */
+  public static <Row> Builder<Row> insertStreaming(
+      Transactor tx, StreamingInsert<Row> insertStreaming) {
+    return new Builder<>(
+        tx,
+        (rows, conn) -> {
+          insertStreaming.insertStreaming(rows.iterator(), rows.size(), conn);
+        });
+  }
+
+  /**
+   * Buffer rows for a generated {@code upsertBatch} method.
+   *
+   * @param <Row> the row type
+   * @param tx runs each flush in its own transaction
+   * @param upsertBatch typically {@code repo::upsertBatch}, whether it returns the rows or nothing
+   * @return a builder
+   */
+  public static <Row> Builder<Row> upsertBatch(
+      Transactor tx, SqlBiConsumer<Iterator<Row>, Connection> upsertBatch) {
+    return new Builder<>(tx, (rows, conn) -> upsertBatch.apply(rows.iterator(), conn));
+  }
+
+  /**
+   * Buffer rows for any bulk write.
+   *
+   * @param <Row> the row type
+   * @param tx runs each flush in its own transaction
+   * @param write writes one flush worth of rows
+   * @return a builder
+   */
+  public static <Row> Builder<Row> builder(
+      Transactor tx, SqlBiConsumer<List<Row>, Connection> write) {
+    return new Builder<>(tx, write);
+  }
+
+  /**
+   * Buffer a row, waiting for space if the buffer is full.
+   *
+   * @param row the row to insert
+   * @throws InterruptedException if interrupted while waiting for space
+   * @throws IllegalStateException if the inserter is closed
+   */
+  public void add(Row row) throws InterruptedException {
+    ensureOpen();
+    space.acquire();
+    enqueue(row);
+  }
+
+  /**
+   * Buffer a row if there is space.
+   *
+   * @param row the row to insert
+   * @return false if the buffer is full or the inserter is closed
+   */
+  public boolean offer(Row row) {
+    if (closed || !space.tryAcquire()) {
+      return false;
+    }
+    enqueue(row);
+    return true;
+  }
+
+  /**
+   * Buffer a row, waiting up to {@code timeout} for space if the buffer is full.
+   *
+   * @param row the row to insert
+   * @param timeout how long to wait for space
+   * @return false if no space became available in time, or the inserter is closed
+   * @throws InterruptedException if interrupted while waiting for space
+   */
+  public boolean offer(Row row, Duration timeout) throws InterruptedException {
+    if (closed || !space.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+      return false;
+    }
+    enqueue(row);
+    return true;
+  }
+
+  /** Write everything buffered so far on the calling thread, and wait for it to finish. */
+  public void flush() {
+    while (buffered.get() > 0) {
+      flushOnce();
+    }
+  }
+
+  /** Number of rows buffered and not yet handed to a flush. */
+  public int buffered() {
+    return buffered.get();
+  }
+
+  /** A snapshot of flush statistics. */
+  public Stats stats() {
+    long count = flushes.get();
+    return new Stats(
+        count,
+        rowsWritten.get(),
+        failures.get(),
+        rowsFailed.get(),
+        Duration.ofNanos(count == 0 ? 0 : totalFlushNanos.get() / count),
+        Duration.ofNanos(maxFlushNanos.get()),
+        lastFailure.get());
+  }
+
+  /** Stop accepting rows, write what is buffered, and stop the background thread. */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    LockSupport.unpark(flusher);
+    try {
+      flusher.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("BufferedInserter is closed");
+    }
+  }
+
+  private void enqueue(Row row) {
+    buffer.add(row);
+    if (buffered.incrementAndGet() == flushSize) {
+      LockSupport.unpark(flusher);
+    }
+    if (closed) {
+      // close() may have done its final flush after we passed the closed check, write it here
+      flush();
+    }
+  }
+
+  private void run() {
+    long nextFlush = System.nanoTime() + flushIntervalNanos;
+    while (!closed) {
+      long wait = nextFlush - System.nanoTime();
+      if (wait > 0 && buffered.get() < flushSize) {
+        LockSupport.parkNanos(this, wait);
+        continue;
+      }
+      try {
+        flushOnce();
+      } catch (Error e) {
+        // already counted and handed to the failure handler; the flusher must keep running, or
+        // producers would wait forever
+      }
+      nextFlush = System.nanoTime() + flushIntervalNanos;
+    }
+  }
+
+  private void flushOnce() {
+    flushLock.lock();
+    try {
+      List<Row> rows = new ArrayList<>(Math.min(buffered.get(), flushSize));
+      Row row;
+      while (rows.size() < flushSize && (row = buffer.poll()) != null) {
+        rows.add(row);
+      }
+      if (rows.isEmpty()) {
+        return;
+      }
+      buffered.addAndGet(-rows.size());
+      long start = System.nanoTime();
+      boolean released = false;
+      try {
+        tx.execute(
+            conn -> {
+              write.apply(rows, conn);
+              return null;
+            });
+        long elapsed = System.nanoTime() - start;
+        flushes.incrementAndGet();
+        rowsWritten.addAndGet(rows.size());
+        totalFlushNanos.addAndGet(elapsed);
+        maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+      } catch (Exception | Error e) {
+        failures.incrementAndGet();
+        rowsFailed.addAndGet(rows.size());
+        lastFailure.set(e);
+        // free the space first, so that the handler can offer the rows again
+        space.release(rows.size());
+        released = true;
+        try {
+          onFailure.onFailure(rows, e);
+        } catch (RuntimeException | Error handlerFailure) {
+          // a throwing handler must not stop the flusher, or producers would wait forever
+          handlerFailure.addSuppressed(e);
+          lastFailure.set(handlerFailure);
+        }
+        if (e instanceof Error error) {
+          throw error;
+        }
+      } finally {
+        if (!released) {
+          space.release(rows.size());
+        }
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * The signature of generated {@code insertStreaming} methods.
+   *
+   * @param <Row> the row type
+   */
+  @FunctionalInterface
+  public interface StreamingInsert<Row> {
+    Long insertStreaming(Iterator<Row> unsaved, Integer batchSize, Connection c);
+  }
+
+  /**
+   * Called with the rows of a flush which failed.
+   *
+   * @param <Row> the row type
+   */
+  @FunctionalInterface
+  public interface FailureHandler<Row> {
+    void onFailure(List<Row> rows, Throwable e);
+  }
+
+  /**
+   * Flush statistics.
+   *
+   * @param flushes successful flushes
+   * @param rowsWritten rows written by successful flushes
+   * @param failures failed flushes
+   * @param rowsFailed rows in failed flushes
+   * @param averageFlushLatency average duration of a successful flush, including the commit
+   * @param maxFlushLatency longest successful flush
+   * @param lastFailure the exception of the most recent failed flush, or of the failure handler if
+   *     it threw while handling it, or null
+   */
+  public record Stats(
+      long flushes,
+      long rowsWritten,
+      long failures,
+      long rowsFailed,
+      Duration averageFlushLatency,
+      Duration maxFlushLatency,
+      Throwable lastFailure) {}
+
+  /**
+   * Builder for BufferedInserter.
+   *
+   * @param <Row> the row type
+   */
+  public static final class Builder<Row> {
+    private final Transactor tx;
+    private final SqlBiConsumer<List<Row>, Connection> write;
+    private int flushSize = 1_000;
+    private Duration flushInterval = Duration.ofMillis(100);
+    private int capacity = 10_000;
+    private FailureHandler<Row> onFailure = (rows, e) -> {};
+
+    private Builder(Transactor tx, SqlBiConsumer<List<Row>, Connection> write) {
+      this.tx = tx;
+      this.write = write;
+    }
+
+    /**
+     * Number of buffered rows which triggers a flush, and the most rows written by one flush.
+     * Default: 1000.
+     *
+     * @param flushSize rows per flush
+     * @return this builder
+     */
+    public Builder<Row> flushSize(int flushSize) {
+      if (flushSize < 1) {
+        throw new IllegalArgumentException("flushSize must be positive: " + flushSize);
+      }
+      this.flushSize = flushSize;
+      return this;
+    }
+
+    /**
+     * Maximum time between flushes while rows are buffered. Default: 100ms.
+     *
+     * @param flushInterval time between flushes
+     * @return this builder
+     */
+    public Builder<Row> flushInterval(Duration flushInterval) {
+      this.flushInterval = flushInterval;
+      return this;
+    }
+
+    /**
+     * Maximum number of rows buffered or being written before producers are held back. Raised to
+     * {@code flushSize} if smaller. Default: 10000.
+     *
+     * @param capacity maximum unwritten rows
+     * @return this builder
+     */
+    public Builder<Row> capacity(int capacity) {
+      if (capacity < 1) {
+        throw new IllegalArgumentException("capacity must be positive: " + capacity);
+      }
+      this.capacity = capacity;
+      return this;
+    }
+
+    /**
+     * Called with the rows of each failed flush. Default: drop them; failures are still counted in
+     * {@link BufferedInserter#stats()}.
+     *
+     * @param onFailure failure handler
+     * @return this builder
+     */
+    public Builder<Row> onFailure(FailureHandler<Row> onFailure) {
+      this.onFailure = onFailure;
+      return this;
+    }
+
+    /** Build the BufferedInserter and start its background flusher. */
+    public BufferedInserter<Row> build() {
+      return new BufferedInserter<>(this);
+    }
+  }
+}
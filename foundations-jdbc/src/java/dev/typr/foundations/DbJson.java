@@ -1,5 +1,6 @@
 package dev.typr.foundations;
 
+import dev.typr.foundations.data.JsonReader;
 import dev.typr.foundations.data.JsonValue;
 
 /**
@@ -27,6 +28,21 @@ public interface DbJson<A> {
    */
   A fromJson(JsonValue json);
 
+  /**
+   * Read the next value from a streaming reader. Used when decoding large documents, such as
+   * MULTISET results, so that no {@link JsonValue} tree is built for the whole document.
+   *
+   * <p>The default materializes just this one value and delegates to {@link #fromJson(JsonValue)}.
+   * Codecs for common scalars and for containers override it to decode tokens directly.
+   *
+   * @param reader positioned at the value
+   * @return The parsed value
+   * @throws IllegalArgumentException if the JSON cannot be parsed
+   */
+  default A fromJson(JsonReader reader) {
+    return fromJson(reader.readValue());
+  }
+
   /** Create an optional version of this JSON codec. */
   default DbJson<java.util.Optional<A>> opt() {
     DbJson<A> self = this;
@@ -43,6 +59,15 @@ public interface DbJson<A> {
         }
         return java.util.Optional.of(self.fromJson(json));
       }
+
+      @Override
+      public java.util.Optional<A> fromJson(JsonReader reader) {
+        if (reader.peek() == JsonReader.Token.NULL) {
+          reader.nextNull();
+          return java.util.Optional.empty();
+        }
+        return java.util.Optional.of(self.fromJson(reader));
+      }
     };
   }
 
@@ -71,6 +96,17 @@ public interface DbJson<A> {
         }
         return result;
       }
+
+      @Override
+      public A[] fromJson(JsonReader reader) {
+        java.util.List<A> elements = new java.util.ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+          elements.add(self.fromJson(reader));
+        }
+        reader.endArray();
+        return elements.toArray(arrayFactory.apply(elements.size()));
+      }
     };
   }
 
@@ -102,6 +138,21 @@ public interface DbJson<A> {
         }
         return result;
       }
+
+      @Override
+      public java.util.List<A> fromJson(JsonReader reader) {
+        if (reader.peek() == JsonReader.Token.NULL) {
+          reader.nextNull();
+          return java.util.List.of();
+        }
+        java.util.List<A> result = new java.util.ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+          result.add(self.fromJson(reader));
+        }
+        reader.endArray();
+        return result;
+      }
     };
   }
 
@@ -122,6 +173,15 @@ public interface DbJson<A> {
           throw new RuntimeException(e);
         }
       }
+
+      @Override
+      public B fromJson(JsonReader reader) {
+        try {
+          return f.apply(self.fromJson(reader));
+        } catch (java.sql.SQLException e) {
+          throw new RuntimeException(e);
+        }
+      }
     };
   }
 }
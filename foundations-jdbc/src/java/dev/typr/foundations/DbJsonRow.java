@@ -1,5 +1,6 @@
 package dev.typr.foundations;
 
+import dev.typr.foundations.data.JsonReader;
 import dev.typr.foundations.data.JsonValue;
 import java.util.ArrayList;
 import java.util.List;
@@ -115,6 +116,29 @@ public final class DbJsonRow {
       }
       return rowParser.decode().apply(values);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Row fromJson(JsonReader reader) {
+      int columnCount = rowParser.columns().size();
+      Object[] values = new Object[columnCount];
+      reader.beginArray();
+      int i = 0;
+      while (reader.hasNext()) {
+        if (i == columnCount) {
+          throw new IllegalArgumentException(
+              "JSON array has more values than column count " + columnCount);
+        }
+        DbJson<Object> jsonCodec = (DbJson<Object>) rowParser.columns().get(i).json();
+        values[i++] = jsonCodec.fromJson(reader);
+      }
+      reader.endArray();
+      if (i != columnCount) {
+        throw new IllegalArgumentException(
+            "JSON array size " + i + " doesn't match column count " + columnCount);
+      }
+      return rowParser.decode().apply(values);
+    }
   }
 
   /** Object encoding: rows become JSON objects like {"col1": val1, "col2": val2, ...} */
@@ -153,5 +177,23 @@ public final class DbJsonRow {
       }
       return rowParser.decode().apply(values);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Row fromJson(JsonReader reader) {
+      Object[] values = new Object[rowParser.columns().size()];
+      reader.beginObject();
+      while (reader.hasNext()) {
+        int i = columnNames.indexOf(reader.nextName());
+        if (i < 0 || reader.peek() == JsonReader.Token.NULL) {
+          reader.skipValue();
+        } else {
+          DbJson<Object> jsonCodec = (DbJson<Object>) rowParser.columns().get(i).json();
+          values[i] = jsonCodec.fromJson(reader);
+        }
+      }
+      reader.endObject();
+      return rowParser.decode().apply(values);
+    }
   }
 }
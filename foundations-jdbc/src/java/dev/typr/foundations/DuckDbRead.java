@@ -281,6 +281,70 @@ public sealed interface DuckDbRead<A> extends DbRead<A>
         });
   }
 
+  // Unboxed (primitive) list readers. The DuckDB driver boxes every list element when it builds
+  // the java.sql.Array, and offers no primitive access to them, so these readers cannot avoid the
+  // boxing. They only skip collecting the elements into a List first. A NULL element cannot be
+  // represented in a primitive array, so it is an error.
+  DuckDbRead<int[]> readIntArrayUnboxed =
+      of(
+          (rs, idx) -> {
+            Object[] elements = listElements(rs, idx);
+            if (elements == null) return null;
+            int[] result = new int[elements.length];
+            for (int i = 0; i < elements.length; i++) {
+              result[i] = notNull(elements[i]).intValue();
+            }
+            return result;
+          });
+
+  DuckDbRead<long[]> readLongArrayUnboxed =
+      of(
+          (rs, idx) -> {
+            Object[] elements = listElements(rs, idx);
+            if (elements == null) return null;
+            long[] result = new long[elements.length];
+            for (int i = 0; i < elements.length; i++) {
+              result[i] = notNull(elements[i]).longValue();
+            }
+            return result;
+          });
+
+  DuckDbRead<float[]> readFloatArrayUnboxed =
+      of(
+          (rs, idx) -> {
+            Object[] elements = listElements(rs, idx);
+            if (elements == null) return null;
+            float[] result = new float[elements.length];
+            for (int i = 0; i < elements.length; i++) {
+              result[i] = notNull(elements[i]).floatValue();
+            }
+            return result;
+          });
+
+  DuckDbRead<double[]> readDoubleArrayUnboxed =
+      of(
+          (rs, idx) -> {
+            Object[] elements = listElements(rs, idx);
+            if (elements == null) return null;
+            double[] result = new double[elements.length];
+            for (int i = 0; i < elements.length; i++) {
+              result[i] = notNull(elements[i]).doubleValue();
+            }
+            return result;
+          });
+
+  private static Object[] listElements(ResultSet rs, int idx) throws SQLException {
+    java.sql.Array arr = rs.getArray(idx);
+    return arr == null ? null : (Object[]) arr.getArray();
+  }
+
+  private static Number notNull(Object element) throws SQLException {
+    if (element == null) {
+      throw new SQLException("NULL element in a list read as a primitive array");
+    }
+    return (Number) element;
+  }
+
   /**
    * Read a STRUCT column. DuckDB returns org.duckdb.DuckDBStruct which implements java.sql.Struct.
    * Returns a Map of field names to values.
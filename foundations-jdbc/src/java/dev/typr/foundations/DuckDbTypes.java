@@ -432,6 +432,33 @@ public interface DuckDbTypes {
   /** LIST&lt;DOUBLE&gt; - native JNI support */
   DuckDbType<java.util.List<Double>> listDouble = double_.listNative(Double.class, Double[]::new);
 
+  // Primitive array variants of the numeric lists. Reads skip the intermediate List; a NULL element
+  // is an error.
+
+  /** LIST&lt;INTEGER&gt; as int[] */
+  DuckDbType<int[]> listIntegerUnboxed =
+      listInteger
+          .bimap(DuckDbTypes::unboxInts, DuckDbTypes::boxInts)
+          .withRead(DuckDbRead.readIntArrayUnboxed);
+
+  /** LIST&lt;BIGINT&gt; as long[] */
+  DuckDbType<long[]> listBigintUnboxed =
+      listBigint
+          .bimap(DuckDbTypes::unboxLongs, DuckDbTypes::boxLongs)
+          .withRead(DuckDbRead.readLongArrayUnboxed);
+
+  /** LIST&lt;FLOAT&gt; as float[] */
+  DuckDbType<float[]> listFloatUnboxed =
+      listFloat
+          .bimap(DuckDbTypes::unboxFloats, DuckDbTypes::boxFloats)
+          .withRead(DuckDbRead.readFloatArrayUnboxed);
+
+  /** LIST&lt;DOUBLE&gt; as double[] */
+  DuckDbType<double[]> listDoubleUnboxed =
+      listDouble
+          .bimap(DuckDbTypes::unboxDoubles, DuckDbTypes::boxDoubles)
+          .withRead(DuckDbRead.readDoubleArrayUnboxed);
+
   /** LIST&lt;VARCHAR&gt; - native JNI support */
   DuckDbType<java.util.List<String>> listVarchar = varchar.listNative(String.class, String[]::new);
 
@@ -541,4 +568,64 @@ public interface DuckDbTypes {
       }
     };
   }
+
+  private static int[] unboxInts(java.util.List<Integer> list) {
+    int[] result = new int[list.size()];
+    for (int i = 0; i < result.length; i++) {
+      Integer value = list.get(i);
+      if (value != null) result[i] = value;
+    }
+    return result;
+  }
+
+  private static java.util.List<Integer> boxInts(int[] array) {
+    java.util.List<Integer> result = new java.util.ArrayList<>(array.length);
+    for (int value : array) result.add(value);
+    return result;
+  }
+
+  private static long[] unboxLongs(java.util.List<Long> list) {
+    long[] result = new long[list.size()];
+    for (int i = 0; i < result.length; i++) {
+      Long value = list.get(i);
+      if (value != null) result[i] = value;
+    }
+    return result;
+  }
+
+  private static java.util.List<Long> boxLongs(long[] array) {
+    java.util.List<Long> result = new java.util.ArrayList<>(array.length);
+    for (long value : array) result.add(value);
+    return result;
+  }
+
+  private static float[] unboxFloats(java.util.List<Float> list) {
+    float[] result = new float[list.size()];
+    for (int i = 0; i < result.length; i++) {
+      Float value = list.get(i);
+      if (value != null) result[i] = value;
+    }
+    return result;
+  }
+
+  private static java.util.List<Float> boxFloats(float[] array) {
+    java.util.List<Float> result = new java.util.ArrayList<>(array.length);
+    for (float value : array) result.add(value);
+    return result;
+  }
+
+  private static double[] unboxDoubles(java.util.List<Double> list) {
+    double[] result = new double[list.size()];
+    for (int i = 0; i < result.length; i++) {
+      Double value = list.get(i);
+      if (value != null) result[i] = value;
+    }
+    return result;
+  }
+
+  private static java.util.List<Double> boxDoubles(double[] array) {
+    java.util.List<Double> result = new java.util.ArrayList<>(array.length);
+    for (double value : array) result.add(value);
+    return result;
+  }
 }
@@ -0,0 +1,346 @@
+package dev.typr.foundations;
+
+import dev.typr.foundations.connect.ConnectionSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Savepoint;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs many small write operations submitted from many threads in shared transactions, so that they
+ * pay for one commit (and one fsync) per batch instead of one each.
+ *
+ * <p>Operations are queued, and a background virtual thread takes everything which is queued (up to
+ * {@code maxBatchSize}), runs it on one connection in one transaction, and commits once. Each
+ * operation runs under its own savepoint, so a failing operation is rolled back on its own and only
+ * its caller sees the failure. On databases without savepoints the transaction is rolled back and
+ * the remaining operations are replayed without the failed one. Each caller's future completes
+ * after the commit of its batch.
+ *
+ * <p>Operations must only depend on their own data: they share a transaction with unrelated
+ * operations, and may be replayed.
+ *
+ * <pre>{@code
+ * var groupCommit = GroupCommitTransactor.builder(ds).maxBatchSize(200).build();
+ *
+ * // from many threads at once
+ * EventRow inserted = groupCommit.execute(conn -> eventRepo.insert(row, conn));
+ * }</pre>
+ */
+public final class GroupCommitTransactor implements AutoCloseable {
+  private final SqlSupplier<Connection> connect;
+  private final int maxBatchSize;
+  private final Duration maxWait;
+  private final LinkedBlockingQueue<Pending<?>> queue = new LinkedBlockingQueue<>();
+  private final List<Thread> workers = new ArrayList<>();
+  private final AtomicLong batchesCommitted = new AtomicLong();
+  private final AtomicLong operationsCommitted = new AtomicLong();
+  private volatile boolean closed = false;
+
+  /** Queued once per worker on close, so that each worker finishes its batch and stops. */
+  private static final Pending<Void> STOP = new Pending<>(conn -> null);
+
+  private GroupCommitTransactor(Builder b) {
+    this.connect = b.connect;
+    this.maxBatchSize = b.maxBatchSize;
+    this.maxWait = b.maxWait;
+    for (int i = 0; i < b.workers; i++) {
+      workers.add(Thread.ofVirtual().name("typr-group-commit-" + i).start(this::work));
+    }
+  }
+
+  /**
+   * Start building a group-commit transactor on a connection source.
+   *
+   * @param source where batch connections come from
+   * @return a new builder
+   */
+  public static Builder builder(ConnectionSource source) {
+    return new Builder(source::getConnection);
+  }
+
+  /**
+   * Start building a group-commit transactor on a connection supplier.
+   *
+   * @param connect where batch connections come from
+   * @return a new builder
+   */
+  public static Builder builder(SqlSupplier<Connection> connect) {
+    return new Builder(connect);
+  }
+
+  /**
+   * Queue an operation for the next batch.
+   *
+   * @param <T> the result type
+   * @param operation the operation to run inside a shared transaction
+   * @return a future which completes once the operation has been committed, or has failed
+   */
+  public <T> CompletableFuture<T> submit(SqlFunction<Connection, T> operation) {
+    Pending<T> pending = new Pending<>(operation);
+    if (closed) {
+      pending.future.completeExceptionally(new SQLException("GroupCommitTransactor is closed"));
+      return pending.future;
+    }
+    queue.add(pending);
+    if (closed && queue.remove(pending)) {
+      // lost a race with close(), which may already have drained the queue
+      pending.future.completeExceptionally(new SQLException("GroupCommitTransactor is closed"));
+    }
+    return pending.future;
+  }
+
+  /**
+   * Queue an Operation for the next batch.
+   *
+   * @param <T> the result type
+   * @param op the Operation to run inside a shared transaction
+   * @return a future which completes once the operation has been committed, or has failed
+   */
+  public <T> CompletableFuture<T> submit(Operation<T> op) {
+    return submit(op::run);
+  }
+
+  /**
+   * Run an operation in the next batch and wait for its commit.
+   *
+   * @param <T> the result type
+   * @param operation the operation to run inside a shared transaction
+   * @return the operation result
+   * @throws SQLException if the operation or the commit of its batch failed
+   */
+  public <T> T execute(SqlFunction<Connection, T> operation) throws SQLException {
+    try {
+      return submit(operation).join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof SQLException sqlException) {
+        throw sqlException;
+      } else if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Run an Operation in the next batch and wait for its commit.
+   *
+   * @param <T> the result type
+   * @param op the Operation to run inside a shared transaction
+   * @return the operation result
+   * @throws SQLException if the operation or the commit of its batch failed
+   */
+  public <T> T execute(Operation<T> op) throws SQLException {
+    return execute(op::run);
+  }
+
+  /** Number of batches committed so far. */
+  public long batchesCommitted() {
+    return batchesCommitted.get();
+  }
+
+  /** Number of operations committed so far. */
+  public long operationsCommitted() {
+    return operationsCommitted.get();
+  }
+
+  /** Stop the background workers. Operations still queued fail. */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    workers.forEach(worker -> queue.add(STOP));
+    for (Thread worker : workers) {
+      try {
+        worker.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    SQLException closedException = new SQLException("GroupCommitTransactor is closed");
+    Pending<?> pending;
+    while ((pending = queue.poll()) != null) {
+      if (pending != STOP) {
+        pending.future.completeExceptionally(closedException);
+      }
+    }
+  }
+
+  private void work() {
+    List<Pending<?>> batch = new ArrayList<>(maxBatchSize);
+    boolean stop = false;
+    while (!stop) {
+      try {
+        batch.add(queue.take());
+        queue.drainTo(batch, maxBatchSize - batch.size());
+        if (!maxWait.isZero() && !batch.contains(STOP)) {
+          long deadline = System.nanoTime() + maxWait.toNanos();
+          while (batch.size() < maxBatchSize) {
+            Pending<?> next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next == null) {
+              break;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            if (next == STOP) {
+              break;
+            }
+          }
+        }
+      } catch (InterruptedException e) {
+        stop = true;
+      }
+      int stops = 0;
+      for (var it = batch.iterator(); it.hasNext(); ) {
+        if (it.next() == STOP) {
+          it.remove();
+          stops++;
+        }
+      }
+      if (stops > 0) {
+        stop = true;
+        // the other workers' markers were drained into this batch; hand them back
+        for (int i = 1; i < stops; i++) {
+          queue.add(STOP);
+        }
+      }
+      if (!batch.isEmpty()) {
+        runBatch(batch);
+        batch.clear();
+      }
+    }
+  }
+
+  private void runBatch(List<Pending<?>> batch) {
+    List<Pending<?>> live = new ArrayList<>(batch);
+    try (Connection conn = connect.get()) {
+      conn.setAutoCommit(false);
+      boolean savepoints = conn.getMetaData().supportsSavepoints();
+      boolean replay = true;
+      while (replay) {
+        replay = false;
+        for (Pending<?> pending : live) {
+          Savepoint savepoint = savepoints ? conn.setSavepoint() : null;
+          try {
+            pending.run(conn);
+            if (savepoint != null) {
+              releaseSavepoint(conn, savepoint);
+            }
+          } catch (SQLException | RuntimeException e) {
+            pending.future.completeExceptionally(e);
+            if (savepoint != null) {
+              conn.rollback(savepoint);
+            } else {
+              // without savepoints the whole transaction is lost, so start over without this one
+              conn.rollback();
+              replay = true;
+              break;
+            }
+          }
+        }
+        live.removeIf(pending -> pending.future.isDone());
+      }
+      conn.commit();
+      batchesCommitted.incrementAndGet();
+      operationsCommitted.addAndGet(live.size());
+      live.forEach(Pending::complete);
+    } catch (SQLException | RuntimeException | Error e) {
+      live.forEach(pending -> pending.future.completeExceptionally(e));
+    }
+  }
+
+  private static void releaseSavepoint(Connection conn, Savepoint savepoint) throws SQLException {
+    try {
+      conn.releaseSavepoint(savepoint);
+    } catch (SQLFeatureNotSupportedException ignored) {
+    }
+  }
+
+  private static final class Pending<T> {
+    final SqlFunction<Connection, T> operation;
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    T result;
+
+    Pending(SqlFunction<Connection, T> operation) {
+      this.operation = operation;
+    }
+
+    void run(Connection conn) throws SQLException {
+      result = operation.apply(conn);
+    }
+
+    void complete() {
+      future.complete(result);
+    }
+  }
+
+  /** Builder for GroupCommitTransactor. */
+  public static final class Builder {
+    private final SqlSupplier<Connection> connect;
+    private int maxBatchSize = 100;
+    private Duration maxWait = Duration.ZERO;
+    private int workers = 1;
+
+    private Builder(SqlSupplier<Connection> connect) {
+      this.connect = connect;
+    }
+
+    /**
+     * Maximum number of operations committed together. Default: 100.
+     *
+     * @param maxBatchSize maximum operations per transaction
+     * @return this builder
+     */
+    public Builder maxBatchSize(int maxBatchSize) {
+      if (maxBatchSize < 1) {
+        throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+      }
+      this.maxBatchSize = maxBatchSize;
+      return this;
+    }
+
+    /**
+     * How long a worker waits for more operations before running a batch which is not full.
+     * Default: zero, so a batch holds whatever was queued while the previous batch committed.
+     *
+     * @param maxWait maximum time to wait for a batch to fill up
+     * @return this builder
+     */
+    public Builder maxWait(Duration maxWait) {
+      this.maxWait = maxWait;
+      return this;
+    }
+
+    /**
+     * Number of batches which may be in progress at the same time, each on its own connection.
+     * Default: 1.
+     *
+     * @param workers number of concurrent batches
+     * @return this builder
+     */
+    public Builder workers(int workers) {
+      if (workers < 1) {
+        throw new IllegalArgumentException("workers must be positive: " + workers);
+      }
+      this.workers = workers;
+      return this;
+    }
+
+    /** Build the GroupCommitTransactor and start its workers. */
+    public GroupCommitTransactor build() {
+      return new GroupCommitTransactor(this);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package dev.typr.foundations;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Sizes IN lists for databases without array parameters (MariaDB, Oracle, SQL Server, DB2), where
+ * {@code col in (?, ?, ...)} has one placeholder per value.
+ *
+ * <p>A statement for every distinct list length would defeat both the server's and the driver's
+ * statement caches. Lists are therefore padded up to the next power of two by repeating the last
+ * value, which does not change the result of the IN, so a query is only ever prepared for a handful
+ * of lengths. Lists longer than {@link #MAX_CHUNK} are split into chunks, executed one by one. This
+ * also keeps statements under Oracle's limit of 1000 values in an IN list and SQL Server's limit of
+ * 2100 parameters.
+ *
+ * <p>Used by the generated {@code selectByIds} and {@code deleteByIds} methods:
+ *
+ * <pre>{@code
+ * for (var chunk : InList.chunks(ids)) {
+ *   // select or delete ... where id in (chunk)
+ * }
+ * }</pre>
+ */
+public final class InList {
+  /** The maximum number of values in one IN list. A power of two, so chunks are full buckets. */
+  public static final int MAX_CHUNK = 512;
+
+  private InList() {}
+
+  /**
+   * The number of values an IN list of {@code n} values is padded to: the next power of two, or
+   * {@code n} itself for lists longer than {@link #MAX_CHUNK}.
+   */
+  public static int bucketSize(int n) {
+    if (n <= 1 || n > MAX_CHUNK) {
+      return n;
+    }
+    return Integer.highestOneBit(n - 1) << 1;
+  }
+
+  /**
+   * Split {@code values} into chunks of at most {@link #MAX_CHUNK} distinct values, each padded to
+   * its {@link #bucketSize} by repeating its last value. Duplicate values are dropped first, so a
+   * row is not selected once per chunk it is asked for in. An empty array gives no chunks.
+   */
+  public static <T> T[][] chunks(T[] values) {
+    T[] distinct = new LinkedHashSet<>(Arrays.asList(values)).toArray(Arrays.copyOf(values, 0));
+    int numChunks = (distinct.length + MAX_CHUNK - 1) / MAX_CHUNK;
+    @SuppressWarnings("unchecked")
+    T[][] chunks = (T[][]) Array.newInstance(values.getClass(), numChunks);
+    for (int i = 0; i < numChunks; i++) {
+      int from = i * MAX_CHUNK;
+      int to = Math.min(from + MAX_CHUNK, distinct.length);
+      chunks[i] = pad(Arrays.copyOfRange(distinct, from, to));
+    }
+    return chunks;
+  }
+
+  /**
+   * Split {@code values} into lists of at most {@code size} distinct values, unpadded. For lists
+   * bound as one collection parameter, such as Oracle's {@code SYS.ODCINUMBERLIST}, which holds a
+   * limited number of elements. An empty array gives no chunks.
+   */
+  public static <T> List<List<T>> distinctChunks(T[] values, int size) {
+    List<T> distinct = List.copyOf(new LinkedHashSet<>(Arrays.asList(values)));
+    int numChunks = (distinct.size() + size - 1) / size;
+    List<List<T>> chunks = new ArrayList<>(numChunks);
+    for (int i = 0; i < numChunks; i++) {
+      chunks.add(distinct.subList(i * size, Math.min((i + 1) * size, distinct.size())));
+    }
+    return chunks;
+  }
+
+  /** Pad {@code values} to its {@link #bucketSize} by repeating the last value. */
+  public static <T> T[] pad(T[] values) {
+    int size = bucketSize(values.length);
+    if (size == values.length) {
+      return values;
+    }
+    T[] padded = Arrays.copyOf(values, size);
+    Arrays.fill(padded, values.length, size, values[values.length - 1]);
+    return padded;
+  }
+}
@@ -6,6 +6,7 @@ import dev.typr.foundations.data.OracleIntervalYM;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -537,6 +538,23 @@ public interface OracleTypes {
   //
   // Code generation will create specific types for each user-defined type
 
+  // Built-in collection types, for binding a list of keys as one parameter:
+  //   where id in (select column_value from table(cast(? as SYS.ODCINUMBERLIST)))
+  // The SQL text is the same for any number of keys, and no types need to be created.
+
+  /** Maximum number of elements in {@link #numberList} and {@link #varchar2List} */
+  int ODCI_LIST_MAX_SIZE = 32767;
+
+  /** SYS.ODCINUMBERLIST - built-in VARRAY(32767) OF NUMBER, for a list of numeric keys */
+  static <T> OracleType<List<T>> numberList(OracleType<T> elementType) {
+    return OracleVArray.of("SYS.ODCINUMBERLIST", ODCI_LIST_MAX_SIZE, elementType);
+  }
+
+  /** SYS.ODCIVARCHAR2LIST - built-in VARRAY(32767) OF VARCHAR2(4000), for a list of string keys */
+  static <T> OracleType<List<T>> varchar2List(OracleType<T> elementType) {
+    return OracleVArray.of("SYS.ODCIVARCHAR2LIST", ODCI_LIST_MAX_SIZE, elementType);
+  }
+
   // ═══════════════════════════════════════════════════════════════════════════
   // Any Types (Dynamic typing - rarely used directly)
   // ═══════════════════════════════════════════════════════════════════════════
@@ -0,0 +1,350 @@
+package dev.typr.foundations;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import org.postgresql.PGResultSetMetaData;
+import org.postgresql.util.PGBinaryObject;
+import org.postgresql.util.PGobject;
+
+/**
+ * Decoders for the PostgreSQL binary wire format (the output of the types' {@code send} functions).
+ *
+ * <p>The server sends a column in binary when pgjdbc asks for it, which it does for the OIDs
+ * enabled with {@code binaryTransferEnable}. For a composite type, every field inside the record is
+ * then in binary as well, so each field codec needs a binary decoder; see {@link
+ * PgCompositeText#withBinary}.
+ *
+ * <p>All integers on the wire are big-endian. Dates and times count from 2000-01-01, in days or
+ * microseconds.
+ */
+final class PgBinary {
+  private PgBinary() {}
+
+  private static final LocalDate PG_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+  private static final LocalDateTime PG_EPOCH = PG_EPOCH_DATE.atStartOfDay();
+  private static final long PG_EPOCH_SECONDS = 946_684_800L;
+
+  private static final int NUMERIC_NEG = 0x4000;
+
+  /** ndim, has-nulls flag, element OID, and size and lower bound of the single dimension. */
+  private static final int ARRAY_HEADER = 20;
+
+  private static final BigInteger NBASE = BigInteger.valueOf(10_000);
+
+  /**
+   * Whether column {@code idx} of the current result set arrived in binary format. Always false for
+   * result sets which do not come from pgjdbc.
+   */
+  static boolean isBinary(ResultSet rs, int idx) throws SQLException {
+    var metaData = rs.getMetaData();
+    return metaData.isWrapperFor(PGResultSetMetaData.class)
+        && metaData.unwrap(PGResultSetMetaData.class).getFormat(idx) == 1;
+  }
+
+  static int int4(byte[] b, int off) {
+    return ((b[off] & 0xff) << 24)
+        | ((b[off + 1] & 0xff) << 16)
+        | ((b[off + 2] & 0xff) << 8)
+        | (b[off + 3] & 0xff);
+  }
+
+  static short int2(byte[] b, int off) {
+    return (short) (((b[off] & 0xff) << 8) | (b[off + 1] & 0xff));
+  }
+
+  static long int8(byte[] b, int off) {
+    return ((long) int4(b, off) << 32) | (int4(b, off + 4) & 0xffffffffL);
+  }
+
+  static Boolean bool(byte[] b, int off, int len) {
+    return b[off] != 0;
+  }
+
+  static Short int2(byte[] b, int off, int len) {
+    return int2(b, off);
+  }
+
+  static Integer int4(byte[] b, int off, int len) {
+    return int4(b, off);
+  }
+
+  static Long int8(byte[] b, int off, int len) {
+    return int8(b, off);
+  }
+
+  static Float float4(byte[] b, int off, int len) {
+    return Float.intBitsToFloat(int4(b, off));
+  }
+
+  static Double float8(byte[] b, int off, int len) {
+    return Double.longBitsToDouble(int8(b, off));
+  }
+
+  /** text, varchar, bpchar, name, xml and enum labels: the characters, UTF-8 encoded. */
+  static String text(byte[] b, int off, int len) {
+    return new String(b, off, len, StandardCharsets.UTF_8);
+  }
+
+  static byte[] bytea(byte[] b, int off, int len) {
+    return Arrays.copyOfRange(b, off, off + len);
+  }
+
+  static UUID uuid(byte[] b, int off, int len) {
+    return new UUID(int8(b, off), int8(b, off + 8));
+  }
+
+  /** Days since 2000-01-01. */
+  static LocalDate date(byte[] b, int off, int len) {
+    return PG_EPOCH_DATE.plusDays(int4(b, off));
+  }
+
+  /** Microseconds since midnight. */
+  static LocalTime time(byte[] b, int off, int len) {
+    return LocalTime.ofNanoOfDay(int8(b, off) * 1_000L);
+  }
+
+  /** Microseconds since 2000-01-01 00:00. */
+  static LocalDateTime timestamp(byte[] b, int off, int len) {
+    long micros = int8(b, off);
+    return PG_EPOCH
+        .plusSeconds(Math.floorDiv(micros, 1_000_000L))
+        .plusNanos(Math.floorMod(micros, 1_000_000L) * 1_000L);
+  }
+
+  /** Microseconds since 2000-01-01 00:00 UTC. */
+  static Instant timestamptz(byte[] b, int off, int len) {
+    long micros = int8(b, off);
+    return Instant.ofEpochSecond(
+        PG_EPOCH_SECONDS + Math.floorDiv(micros, 1_000_000L),
+        Math.floorMod(micros, 1_000_000L) * 1_000L);
+  }
+
+  /**
+   * numeric: ndigits, weight, sign and display scale as int16, followed by ndigits base-10000
+   * digits, the first of which is multiplied by 10000^weight.
+   */
+  static BigDecimal numeric(byte[] b, int off, int len) {
+    int ndigits = int2(b, off);
+    int weight = int2(b, off + 2);
+    int sign = int2(b, off + 4) & 0xffff;
+    int dscale = int2(b, off + 6);
+    if (sign != 0 && sign != NUMERIC_NEG) {
+      throw new IllegalArgumentException("Cannot decode special numeric value (NaN or infinity)");
+    }
+    if (ndigits == 0) {
+      return BigDecimal.ZERO.setScale(dscale);
+    }
+    BigInteger unscaled = BigInteger.ZERO;
+    long chunk = 0;
+    int inChunk = 0;
+    for (int i = 0; i < ndigits; i++) {
+      // accumulate four base-10000 digits in a long before touching the BigInteger
+      chunk = chunk * 10_000 + int2(b, off + 8 + 2 * i);
+      if (++inChunk == 4 || i == ndigits - 1) {
+        unscaled = unscaled.multiply(NBASE.pow(inChunk)).add(BigInteger.valueOf(chunk));
+        chunk = 0;
+        inChunk = 0;
+      }
+    }
+    BigDecimal value = new BigDecimal(unscaled).scaleByPowerOfTen(4 * (weight - ndigits + 1));
+    if (sign == NUMERIC_NEG) {
+      value = value.negate();
+    }
+    return value.setScale(dscale, RoundingMode.UNNECESSARY);
+  }
+
+  /**
+   * Binary array: ndim, has-nulls flag and element OID as int32, then size and lower bound per
+   * dimension, then each element as an int32 length (-1 for NULL) followed by its bytes.
+   * Multi-dimensional arrays are not supported, as in the text format.
+   */
+  static <A> List<A> array(
+      byte[] b, int off, int len, PgCompositeText.BinaryDecoder<A> elementDecoder) {
+    int size = arraySize(b, off);
+    int p = off + ARRAY_HEADER;
+    List<A> elements = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      int elementLen = int4(b, p);
+      p += 4;
+      if (elementLen < 0) {
+        elements.add(null);
+      } else {
+        elements.add(elementDecoder.decode(b, p, elementLen));
+        p += elementLen;
+      }
+    }
+    return elements;
+  }
+
+  // Arrays of fixed-size elements, decoded straight into primitive arrays. A primitive array has no
+  // way to represent a NULL element, so one is an error, like in the text format decoders of
+  // PgCompositeText.
+
+  static boolean[] boolArray(byte[] b, int off, int len) {
+    boolean[] result = new boolean[arraySize(b, off)];
+    int p = off + ARRAY_HEADER;
+    for (int i = 0; i < result.length; i++) {
+      notNullElement(b, p, 1);
+      p += 4;
+      result[i] = b[p] != 0;
+      p += 1;
+    }
+    return result;
+  }
+
+  static short[] shortArray(byte[] b, int off, int len) {
+    short[] result = new short[arraySize(b, off)];
+    int p = off + ARRAY_HEADER;
+    for (int i = 0; i < result.length; i++) {
+      notNullElement(b, p, 2);
+      p += 4;
+      result[i] = int2(b, p);
+      p += 2;
+    }
+    return result;
+  }
+
+  static int[] intArray(byte[] b, int off, int len) {
+    int[] result = new int[arraySize(b, off)];
+    int p = off + ARRAY_HEADER;
+    for (int i = 0; i < result.length; i++) {
+      notNullElement(b, p, 4);
+      p += 4;
+      result[i] = int4(b, p);
+      p += 4;
+    }
+    return result;
+  }
+
+  static long[] longArray(byte[] b, int off, int len) {
+    long[] result = new long[arraySize(b, off)];
+    int p = off + ARRAY_HEADER;
+    for (int i = 0; i < result.length; i++) {
+      notNullElement(b, p, 8);
+      p += 4;
+      result[i] = int8(b, p);
+      p += 8;
+    }
+    return result;
+  }
+
+  static float[] floatArray(byte[] b, int off, int len) {
+    float[] result = new float[arraySize(b, off)];
+    int p = off + ARRAY_HEADER;
+    for (int i = 0; i < result.length; i++) {
+      notNullElement(b, p, 4);
+      p += 4;
+      result[i] = Float.intBitsToFloat(int4(b, p));
+      p += 4;
+    }
+    return result;
+  }
+
+  static double[] doubleArray(byte[] b, int off, int len) {
+    double[] result = new double[arraySize(b, off)];
+    int p = off + ARRAY_HEADER;
+    for (int i = 0; i < result.length; i++) {
+      notNullElement(b, p, 8);
+      p += 4;
+      result[i] = Double.longBitsToDouble(int8(b, p));
+      p += 8;
+    }
+    return result;
+  }
+
+  /**
+   * A parameter of an extension type which can send itself in binary. pgjdbc does so when the
+   * type's OID is listed in {@code binaryTransferEnable}; otherwise it sends the text, which is
+   * only built in that case.
+   */
+  static final class BinaryObject<A> extends PGobject implements PGBinaryObject {
+    private final transient A a;
+    private final transient ToIntFunction<A> binaryLength;
+    private final transient PgWrite.BinaryWriter<A> writeBinary;
+    private final transient Function<A, String> toText;
+
+    BinaryObject(
+        String sqlType,
+        A a,
+        ToIntFunction<A> binaryLength,
+        PgWrite.BinaryWriter<A> writeBinary,
+        Function<A, String> toText) {
+      this.type = sqlType;
+      this.a = a;
+      this.binaryLength = binaryLength;
+      this.writeBinary = writeBinary;
+      this.toText = toText;
+    }
+
+    @Override
+    public String getValue() {
+      if (value == null) {
+        value = toText.apply(a);
+      }
+      return value;
+    }
+
+    @Override
+    public boolean isNull() {
+      return false;
+    }
+
+    @Override
+    public int lengthInBytes() {
+      return binaryLength.applyAsInt(a);
+    }
+
+    @Override
+    public void toBytes(byte[] bytes, int offset) {
+      writeBinary.write(a, bytes, offset);
+    }
+
+    @Override
+    public void setByteValue(byte[] value, int offset) throws SQLException {
+      throw new SQLException("BinaryObject is only used to send parameters");
+    }
+  }
+
+  /** Size of a one-dimensional binary array. Its elements start at {@link #ARRAY_HEADER}. */
+  private static int arraySize(byte[] b, int off) {
+    int ndim = int4(b, off);
+    if (ndim == 0) {
+      return 0;
+    }
+    if (ndim != 1) {
+      throw new IllegalArgumentException("Multi-dimensional arrays are not supported: " + ndim);
+    }
+    return int4(b, off + 12);
+  }
+
+  /** Check that the element at {@code p} is not NULL and has {@code expected} bytes. */
+  private static void notNullElement(byte[] b, int p, int expected) {
+    if (elementLength(b, p, expected) < 0) {
+      throw new IllegalArgumentException("NULL element in an array read as a primitive array");
+    }
+  }
+
+  /** Length of the element at {@code p}: -1 for NULL, otherwise it must be {@code expected}. */
+  private static int elementLength(byte[] b, int p, int expected) {
+    int elementLen = int4(b, p);
+    if (elementLen >= 0 && elementLen != expected) {
+      throw new IllegalArgumentException(
+          "Expected " + expected + "-byte array elements, got " + elementLen + " bytes");
+    }
+    return elementLen;
+  }
+}
@@ -1,11 +1,19 @@
 package dev.typr.foundations;
 
+import dev.typr.foundations.data.HalfVector;
 import dev.typr.foundations.data.Money;
+import dev.typr.foundations.data.SparseVector;
+import dev.typr.foundations.data.Vector;
 import java.math.BigDecimal;
+import java.nio.CharBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.OffsetTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +45,69 @@ public abstract class PgCompositeText<A> {
   /** Decode a value from its text representation. */
   public abstract A decode(String text);
 
+  /**
+   * Decode a value from {@code text[start, end)}, typically a field span found by {@link
+   * PgRecordParser.Cursor}. Codecs which can parse a CharSequence directly override this to avoid
+   * copying the span into a String.
+   */
+  public A decode(CharSequence text, int start, int end) {
+    return decode(text.subSequence(start, end).toString());
+  }
+
+  /**
+   * Whether this codec can decode the binary wire format with {@link #decodeBinary}. Composites are
+   * only read in binary when all their fields can be.
+   */
+  public boolean supportsBinary() {
+    return false;
+  }
+
+  /**
+   * Decode a value from its binary wire format, found at {@code bytes[offset, offset + length)}.
+   *
+   * @throws UnsupportedOperationException if {@link #supportsBinary()} is false
+   */
+  public A decodeBinary(byte[] bytes, int offset, int length) {
+    throw new UnsupportedOperationException("No binary decoder for this type");
+  }
+
+  /** Decodes a value from the binary wire format. */
+  @FunctionalInterface
+  public interface BinaryDecoder<A> {
+    A decode(byte[] bytes, int offset, int length);
+  }
+
+  /** A copy of this codec which also decodes the binary wire format. */
+  public PgCompositeText<A> withBinary(BinaryDecoder<A> binaryDecoder) {
+    var self = this;
+    return new PgCompositeText<>() {
+      @Override
+      public Optional<String> encode(A value) {
+        return self.encode(value);
+      }
+
+      @Override
+      public A decode(String text) {
+        return self.decode(text);
+      }
+
+      @Override
+      public A decode(CharSequence text, int start, int end) {
+        return self.decode(text, start, end);
+      }
+
+      @Override
+      public boolean supportsBinary() {
+        return true;
+      }
+
+      @Override
+      public A decodeBinary(byte[] bytes, int offset, int length) {
+        return binaryDecoder.decode(bytes, offset, length);
+      }
+    };
+  }
+
   /** Create an array version of this codec with comma delimiter. */
   public PgCompositeText<A[]> array(IntFunction<A[]> arrayFactory) {
     return array(arrayFactory, ',');
@@ -63,13 +134,28 @@ public abstract class PgCompositeText<A> {
 
       @Override
       public A[] decode(String text) {
-        List<String> elements = PgRecordParser.parseArray(text, delimiter);
-        A[] result = arrayFactory.apply(elements.size());
-        for (int i = 0; i < elements.size(); i++) {
-          String elem = elements.get(i);
-          result[i] = elem == null ? null : self.decode(elem);
+        return decode(text, 0, text.length());
+      }
+
+      @Override
+      public A[] decode(CharSequence text, int start, int end) {
+        PgRecordParser.Cursor cursor = PgRecordParser.arrayCursor(text, start, end, delimiter);
+        List<A> elements = new ArrayList<>();
+        while (cursor.next()) {
+          elements.add(cursor.decode(self));
         }
-        return result;
+        return elements.toArray(arrayFactory.apply(elements.size()));
+      }
+
+      @Override
+      public boolean supportsBinary() {
+        return self.supportsBinary();
+      }
+
+      @Override
+      public A[] decodeBinary(byte[] bytes, int offset, int length) {
+        List<A> elements = PgBinary.array(bytes, offset, length, self::decodeBinary);
+        return elements.toArray(arrayFactory.apply(elements.size()));
       }
     };
   }
@@ -87,6 +173,21 @@ public abstract class PgCompositeText<A> {
       public B decode(String text) {
         return f.apply(self.decode(text));
       }
+
+      @Override
+      public B decode(CharSequence text, int start, int end) {
+        return f.apply(self.decode(text, start, end));
+      }
+
+      @Override
+      public boolean supportsBinary() {
+        return self.supportsBinary();
+      }
+
+      @Override
+      public B decodeBinary(byte[] bytes, int offset, int length) {
+        return f.apply(self.decodeBinary(bytes, offset, length));
+      }
     };
   }
 
@@ -106,6 +207,21 @@ public abstract class PgCompositeText<A> {
         }
         return Optional.of(self.decode(text));
       }
+
+      @Override
+      public Optional<A> decode(CharSequence text, int start, int end) {
+        return Optional.of(self.decode(text, start, end));
+      }
+
+      @Override
+      public boolean supportsBinary() {
+        return self.supportsBinary();
+      }
+
+      @Override
+      public Optional<A> decodeBinary(byte[] bytes, int offset, int length) {
+        return Optional.of(self.decodeBinary(bytes, offset, length));
+      }
     };
   }
 
@@ -125,37 +241,149 @@ public abstract class PgCompositeText<A> {
     };
   }
 
+  /** Decodes a value from a span of a larger text. */
+  @FunctionalInterface
+  public interface SpanDecoder<A> {
+    A decode(CharSequence text, int start, int end);
+  }
+
+  /**
+   * Create a PgCompositeText from encode and decode functions, and a decoder which parses values in
+   * place from field spans.
+   */
+  public static <A> PgCompositeText<A> of(
+      Function<A, String> encoder, Function<String, A> decoder, SpanDecoder<A> spanDecoder) {
+    return new PgCompositeText<>() {
+      @Override
+      public Optional<String> encode(A value) {
+        return Optional.of(encoder.apply(value));
+      }
+
+      @Override
+      public A decode(String text) {
+        return decoder.apply(text);
+      }
+
+      @Override
+      public A decode(CharSequence text, int start, int end) {
+        return spanDecoder.decode(text, start, end);
+      }
+    };
+  }
+
   // ========================================================================
   // Standard instances
   // ========================================================================
 
-  /** String: identity encoding/decoding. */
-  public static final PgCompositeText<String> text = of(Function.identity(), Function.identity());
+  /**
+   * String: identity encoding/decoding. Decodes the binary format of text, varchar, bpchar, name
+   * and enums, which is the UTF-8 encoded characters.
+   */
+  public static final PgCompositeText<String> text =
+      of(Function.<String>identity(), Function.identity()).withBinary(PgBinary::text);
+
+  /**
+   * String in text format only, for types which are represented as strings but have a binary format
+   * of their own (json, jsonb, inet, ...).
+   */
+  public static final PgCompositeText<String> textOnly =
+      of(Function.identity(), Function.identity());
 
   /** Integer: toString/parseInt. */
-  public static final PgCompositeText<Integer> int4 = of(Object::toString, Integer::parseInt);
+  public static final PgCompositeText<Integer> int4 =
+      of(Object::toString, Integer::parseInt, (t, s, e) -> Integer.parseInt(t, s, e, 10))
+          .withBinary(PgBinary::int4);
 
   /** Short: toString/parseShort. */
-  public static final PgCompositeText<Short> int2 = of(Object::toString, Short::parseShort);
+  public static final PgCompositeText<Short> int2 =
+      of(Object::toString, Short::parseShort, PgCompositeText::parseShort)
+          .withBinary(PgBinary::int2);
 
   /** Long: toString/parseLong. */
-  public static final PgCompositeText<Long> int8 = of(Object::toString, Long::parseLong);
+  public static final PgCompositeText<Long> int8 =
+      of(Object::toString, Long::parseLong, (t, s, e) -> Long.parseLong(t, s, e, 10))
+          .withBinary(PgBinary::int8);
 
   /** Float: toString/parseFloat. */
-  public static final PgCompositeText<Float> float4 = of(Object::toString, Float::parseFloat);
+  public static final PgCompositeText<Float> float4 =
+      of(Object::toString, Float::parseFloat).withBinary(PgBinary::float4);
 
   /** Double: toString/parseDouble. */
-  public static final PgCompositeText<Double> float8 = of(Object::toString, Double::parseDouble);
+  public static final PgCompositeText<Double> float8 =
+      of(Object::toString, Double::parseDouble).withBinary(PgBinary::float8);
 
   /** BigDecimal: toString/new BigDecimal. */
-  public static final PgCompositeText<BigDecimal> numeric = of(Object::toString, BigDecimal::new);
+  public static final PgCompositeText<BigDecimal> numeric =
+      of(Object::toString, BigDecimal::new).withBinary(PgBinary::numeric);
 
   /** Boolean: t/f format. */
   public static final PgCompositeText<Boolean> bool =
-      of(b -> b ? "t" : "f", text -> text.equals("t") || text.equals("true") || text.equals("1"));
+      of(
+              b -> b ? "t" : "f",
+              text -> text.equals("t") || text.equals("true") || text.equals("1"),
+              (t, s, e) ->
+                  (e - s == 1 && (t.charAt(s) == 't' || t.charAt(s) == '1'))
+                      || (e - s == 4
+                          && t.charAt(s) == 't'
+                          && t.charAt(s + 1) == 'r'
+                          && t.charAt(s + 2) == 'u'
+                          && t.charAt(s + 3) == 'e'))
+          .withBinary(PgBinary::bool);
+
+  /** LocalDate: ISO format, e.g. 2024-01-31. */
+  public static final PgCompositeText<LocalDate> date =
+      of(
+              LocalDate::toString,
+              LocalDate::parse,
+              (t, s, e) -> LocalDate.parse(CharBuffer.wrap(t, s, e)))
+          .withBinary(PgBinary::date);
+
+  /** LocalTime: ISO format, e.g. 13:45:00.123. */
+  public static final PgCompositeText<LocalTime> time =
+      of(
+              LocalTime::toString,
+              LocalTime::parse,
+              (t, s, e) -> LocalTime.parse(CharBuffer.wrap(t, s, e)))
+          .withBinary(PgBinary::time);
+
+  private static final DateTimeFormatter TIMESTAMP =
+      new DateTimeFormatterBuilder()
+          .parseCaseInsensitive()
+          .append(DateTimeFormatter.ISO_LOCAL_DATE)
+          .optionalStart()
+          .appendLiteral(' ')
+          .optionalEnd()
+          .optionalStart()
+          .appendLiteral('T')
+          .optionalEnd()
+          .append(DateTimeFormatter.ISO_LOCAL_TIME)
+          .toFormatter();
+
+  /** LocalDateTime: ISO format with a space instead of 'T', e.g. 2024-01-31 13:45:00. */
+  public static final PgCompositeText<LocalDateTime> timestamp =
+      of(
+              t -> t.toString().replace('T', ' '),
+              text -> LocalDateTime.parse(text.replace(' ', 'T')),
+              (t, s, e) -> LocalDateTime.parse(CharBuffer.wrap(t, s, e), TIMESTAMP))
+          .withBinary(PgBinary::timestamp);
 
   /** UUID: toString/fromString. */
-  public static final PgCompositeText<UUID> uuid = of(Object::toString, UUID::fromString);
+  public static final PgCompositeText<UUID> uuid =
+      of(Object::toString, UUID::fromString).withBinary(PgBinary::uuid);
+
+  /** pgvector vector: {@code [1,2,3]}, or its binary format. */
+  public static final PgCompositeText<Vector> vector =
+      of(Vector::value, Vector::parse, Vector::parse).withBinary(Vector::fromBinary);
+
+  /** pgvector halfvec: {@code [1,2,3]}, or its binary format. */
+  public static final PgCompositeText<HalfVector> halfvec =
+      of(HalfVector::value, HalfVector::parse, HalfVector::parse)
+          .withBinary(HalfVector::fromBinary);
+
+  /** pgvector sparsevec: {@code {1:1,3:2}/5}, or its binary format. */
+  public static final PgCompositeText<SparseVector> sparsevec =
+      of(SparseVector::value, SparseVector::parse, SparseVector::parse)
+          .withBinary(SparseVector::fromBinary);
 
   /**
    * Money: PostgreSQL returns money with currency symbol (e.g., "$42.22"). We encode as plain
@@ -392,6 +620,16 @@ public abstract class PgCompositeText<A> {
           }
           return result;
         }
+
+        @Override
+        public boolean supportsBinary() {
+          return true;
+        }
+
+        @Override
+        public byte[] decodeBinary(byte[] bytes, int offset, int length) {
+          return PgBinary.bytea(bytes, offset, length);
+        }
       };
 
   /**
@@ -547,15 +785,31 @@ public abstract class PgCompositeText<A> {
 
         @Override
         public boolean[] decode(String text) {
-          List<String> elements = PgRecordParser.parseArray(text);
-          boolean[] result = new boolean[elements.size()];
-          for (int i = 0; i < elements.size(); i++) {
-            String elem = elements.get(i);
-            result[i] =
-                elem != null && (elem.equals("t") || elem.equals("true") || elem.equals("1"));
+          return decode(text, 0, text.length());
+        }
+
+        @Override
+        public boolean[] decode(CharSequence text, int start, int end) {
+          boolean[] result = new boolean[countElements(text, start, end)];
+          PgRecordParser.Cursor cursor = PgRecordParser.arrayCursor(text, start, end, ',');
+          for (int i = 0; cursor.next(); i++) {
+            if (cursor.isNull()) {
+              throw nullElement();
+            }
+            result[i] = cursor.booleanValue();
           }
           return result;
         }
+
+        @Override
+        public boolean supportsBinary() {
+          return true;
+        }
+
+        @Override
+        public boolean[] decodeBinary(byte[] bytes, int offset, int length) {
+          return PgBinary.boolArray(bytes, offset, length);
+        }
       };
 
   /** Unboxed short array: format {1,2,3}. */
@@ -575,14 +829,31 @@ public abstract class PgCompositeText<A> {
 
         @Override
         public short[] decode(String text) {
-          List<String> elements = PgRecordParser.parseArray(text);
-          short[] result = new short[elements.size()];
-          for (int i = 0; i < elements.size(); i++) {
-            String elem = elements.get(i);
-            result[i] = elem == null ? 0 : Short.parseShort(elem);
+          return decode(text, 0, text.length());
+        }
+
+        @Override
+        public short[] decode(CharSequence text, int start, int end) {
+          short[] result = new short[countElements(text, start, end)];
+          PgRecordParser.Cursor cursor = PgRecordParser.arrayCursor(text, start, end, ',');
+          for (int i = 0; cursor.next(); i++) {
+            if (cursor.isNull()) {
+              throw nullElement();
+            }
+            result[i] = cursor.shortValue();
           }
           return result;
         }
+
+        @Override
+        public boolean supportsBinary() {
+          return true;
+        }
+
+        @Override
+        public short[] decodeBinary(byte[] bytes, int offset, int length) {
+          return PgBinary.shortArray(bytes, offset, length);
+        }
       };
 
   /** Unboxed int array: format {1,2,3}. */
@@ -602,14 +873,31 @@ public abstract class PgCompositeText<A> {
 
         @Override
         public int[] decode(String text) {
-          List<String> elements = PgRecordParser.parseArray(text);
-          int[] result = new int[elements.size()];
-          for (int i = 0; i < elements.size(); i++) {
-            String elem = elements.get(i);
-            result[i] = elem == null ? 0 : Integer.parseInt(elem);
+          return decode(text, 0, text.length());
+        }
+
+        @Override
+        public int[] decode(CharSequence text, int start, int end) {
+          int[] result = new int[countElements(text, start, end)];
+          PgRecordParser.Cursor cursor = PgRecordParser.arrayCursor(text, start, end, ',');
+          for (int i = 0; cursor.next(); i++) {
+            if (cursor.isNull()) {
+              throw nullElement();
+            }
+            result[i] = cursor.intValue();
           }
           return result;
         }
+
+        @Override
+        public boolean supportsBinary() {
+          return true;
+        }
+
+        @Override
+        public int[] decodeBinary(byte[] bytes, int offset, int length) {
+          return PgBinary.intArray(bytes, offset, length);
+        }
       };
 
   /** Unboxed long array: format {1,2,3}. */
@@ -629,14 +917,31 @@ public abstract class PgCompositeText<A> {
 
         @Override
         public long[] decode(String text) {
-          List<String> elements = PgRecordParser.parseArray(text);
-          long[] result = new long[elements.size()];
-          for (int i = 0; i < elements.size(); i++) {
-            String elem = elements.get(i);
-            result[i] = elem == null ? 0L : Long.parseLong(elem);
+          return decode(text, 0, text.length());
+        }
+
+        @Override
+        public long[] decode(CharSequence text, int start, int end) {
+          long[] result = new long[countElements(text, start, end)];
+          PgRecordParser.Cursor cursor = PgRecordParser.arrayCursor(text, start, end, ',');
+          for (int i = 0; cursor.next(); i++) {
+            if (cursor.isNull()) {
+              throw nullElement();
+            }
+            result[i] = cursor.longValue();
           }
           return result;
         }
+
+        @Override
+        public boolean supportsBinary() {
+          return true;
+        }
+
+        @Override
+        public long[] decodeBinary(byte[] bytes, int offset, int length) {
+          return PgBinary.longArray(bytes, offset, length);
+        }
       };
 
   /** Unboxed float array: format {1.0,2.0,3.0}. */
@@ -656,14 +961,31 @@ public abstract class PgCompositeText<A> {
 
         @Override
         public float[] decode(String text) {
-          List<String> elements = PgRecordParser.parseArray(text);
-          float[] result = new float[elements.size()];
-          for (int i = 0; i < elements.size(); i++) {
-            String elem = elements.get(i);
-            result[i] = elem == null ? 0.0f : Float.parseFloat(elem);
+          return decode(text, 0, text.length());
+        }
+
+        @Override
+        public float[] decode(CharSequence text, int start, int end) {
+          float[] result = new float[countElements(text, start, end)];
+          PgRecordParser.Cursor cursor = PgRecordParser.arrayCursor(text, start, end, ',');
+          for (int i = 0; cursor.next(); i++) {
+            if (cursor.isNull()) {
+              throw nullElement();
+            }
+            result[i] = cursor.floatValue();
           }
           return result;
         }
+
+        @Override
+        public boolean supportsBinary() {
+          return true;
+        }
+
+        @Override
+        public float[] decodeBinary(byte[] bytes, int offset, int length) {
+          return PgBinary.floatArray(bytes, offset, length);
+        }
       };
 
   /** Unboxed double array: format {1.0,2.0,3.0}. */
@@ -683,16 +1005,57 @@ public abstract class PgCompositeText<A> {
 
         @Override
         public double[] decode(String text) {
-          List<String> elements = PgRecordParser.parseArray(text);
-          double[] result = new double[elements.size()];
-          for (int i = 0; i < elements.size(); i++) {
-            String elem = elements.get(i);
-            result[i] = elem == null ? 0.0 : Double.parseDouble(elem);
+          return decode(text, 0, text.length());
+        }
+
+        @Override
+        public double[] decode(CharSequence text, int start, int end) {
+          double[] result = new double[countElements(text, start, end)];
+          PgRecordParser.Cursor cursor = PgRecordParser.arrayCursor(text, start, end, ',');
+          for (int i = 0; cursor.next(); i++) {
+            if (cursor.isNull()) {
+              throw nullElement();
+            }
+            result[i] = cursor.doubleValue();
           }
           return result;
         }
+
+        @Override
+        public boolean supportsBinary() {
+          return true;
+        }
+
+        @Override
+        public double[] decodeBinary(byte[] bytes, int offset, int length) {
+          return PgBinary.doubleArray(bytes, offset, length);
+        }
       };
 
+  /** Number of elements in the array at {@code text[start, end)}, found without decoding them. */
+  private static int countElements(CharSequence text, int start, int end) {
+    PgRecordParser.Cursor cursor = PgRecordParser.arrayCursor(text, start, end, ',');
+    int count = 0;
+    while (cursor.next()) {
+      count++;
+    }
+    return count;
+  }
+
+  /** A primitive array cannot hold NULL, so reading one into it would lose data. */
+  private static IllegalArgumentException nullElement() {
+    return new IllegalArgumentException("NULL element in an array read as a primitive array");
+  }
+
+  private static short parseShort(CharSequence text, int start, int end) {
+    int value = Integer.parseInt(text, start, end, 10);
+    if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+      throw new NumberFormatException(
+          "Value out of range for short: " + text.subSequence(start, end));
+    }
+    return (short) value;
+  }
+
   /** Codec that throws on encode/decode - for unsupported types. */
   public static <A> PgCompositeText<A> notSupported() {
     return new PgCompositeText<>() {
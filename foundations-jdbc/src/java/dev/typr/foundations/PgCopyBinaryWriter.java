@@ -0,0 +1,196 @@
+package dev.typr.foundations;
+
+import dev.typr.foundations.data.HalfVector;
+import dev.typr.foundations.data.SparseVector;
+import dev.typr.foundations.data.Vector;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Encodes rows for {@code COPY ... FROM STDIN (FORMAT binary)}. Used with {@link
+ * streamingInsert#insertBinary}, which writes the file header and trailer and flushes the buffer.
+ *
+ * <p>Each row starts with {@link #startRow} and is followed by exactly that many fields, in the
+ * column order of the COPY command. Every field must be written in the binary format of its column
+ * type; there is no conversion on the server. This is the cheapest way to bulk-load pgvector
+ * embeddings, which are copied as raw floats instead of being formatted and parsed as text.
+ *
+ * <pre>{@code
+ * streamingInsert.insertBinary(
+ *     "COPY item_embedding(item_id, embedding) FROM STDIN (FORMAT binary)",
+ *     1000,
+ *     items.iterator(),
+ *     c,
+ *     (item, out) -> out.startRow(2).int8(item.id()).vector(item.embedding()));
+ * }</pre>
+ */
+public final class PgCopyBinaryWriter {
+  private static final byte[] SIGNATURE = {
+    'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0
+  };
+
+  private byte[] buf;
+  private int size;
+
+  PgCopyBinaryWriter(int initialCapacity) {
+    this.buf = new byte[Math.max(initialCapacity, 64)];
+  }
+
+  /** Start a row with {@code fieldCount} fields. */
+  public PgCopyBinaryWriter startRow(int fieldCount) {
+    putInt2(fieldCount);
+    return this;
+  }
+
+  /** A NULL field. */
+  public PgCopyBinaryWriter nullField() {
+    putInt4(-1);
+    return this;
+  }
+
+  public PgCopyBinaryWriter bool(boolean value) {
+    putInt4(1);
+    ensure(1);
+    buf[size++] = (byte) (value ? 1 : 0);
+    return this;
+  }
+
+  public PgCopyBinaryWriter int2(short value) {
+    putInt4(2);
+    putInt2(value);
+    return this;
+  }
+
+  public PgCopyBinaryWriter int4(int value) {
+    putInt4(4);
+    putInt4(value);
+    return this;
+  }
+
+  public PgCopyBinaryWriter int8(long value) {
+    putInt4(8);
+    putInt8(value);
+    return this;
+  }
+
+  public PgCopyBinaryWriter float4(float value) {
+    putInt4(4);
+    putInt4(Float.floatToIntBits(value));
+    return this;
+  }
+
+  public PgCopyBinaryWriter float8(double value) {
+    putInt4(8);
+    putInt8(Double.doubleToLongBits(value));
+    return this;
+  }
+
+  /** text, varchar, bpchar and enum labels. Null writes a NULL field. */
+  public PgCopyBinaryWriter text(String value) {
+    return value == null ? nullField() : bytea(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Null writes a NULL field. */
+  public PgCopyBinaryWriter bytea(byte[] value) {
+    if (value == null) return nullField();
+    putInt4(value.length);
+    ensure(value.length);
+    System.arraycopy(value, 0, buf, size, value.length);
+    size += value.length;
+    return this;
+  }
+
+  /** Null writes a NULL field. */
+  public PgCopyBinaryWriter uuid(UUID value) {
+    if (value == null) return nullField();
+    putInt4(16);
+    putInt8(value.getMostSignificantBits());
+    putInt8(value.getLeastSignificantBits());
+    return this;
+  }
+
+  /** pgvector vector. Null writes a NULL field. */
+  public PgCopyBinaryWriter vector(Vector value) {
+    if (value == null) return nullField();
+    int length = value.binaryLength();
+    putInt4(length);
+    ensure(length);
+    value.writeBinary(buf, size);
+    size += length;
+    return this;
+  }
+
+  /** pgvector halfvec. Null writes a NULL field. */
+  public PgCopyBinaryWriter halfvec(HalfVector value) {
+    if (value == null) return nullField();
+    int length = value.binaryLength();
+    putInt4(length);
+    ensure(length);
+    value.writeBinary(buf, size);
+    size += length;
+    return this;
+  }
+
+  /** pgvector sparsevec. Null writes a NULL field. */
+  public PgCopyBinaryWriter sparsevec(SparseVector value) {
+    if (value == null) return nullField();
+    int length = value.binaryLength();
+    putInt4(length);
+    ensure(length);
+    value.writeBinary(buf, size);
+    size += length;
+    return this;
+  }
+
+  /** Signature, flags and header extension length. */
+  void header() {
+    ensure(SIGNATURE.length);
+    System.arraycopy(SIGNATURE, 0, buf, size, SIGNATURE.length);
+    size += SIGNATURE.length;
+    putInt4(0);
+    putInt4(0);
+  }
+
+  /** A field count of -1 ends the data. */
+  void trailer() {
+    putInt2((short) -1);
+  }
+
+  byte[] buffer() {
+    return buf;
+  }
+
+  int size() {
+    return size;
+  }
+
+  void reset() {
+    size = 0;
+  }
+
+  private void putInt2(int value) {
+    ensure(2);
+    buf[size++] = (byte) (value >>> 8);
+    buf[size++] = (byte) value;
+  }
+
+  private void putInt4(int value) {
+    ensure(4);
+    buf[size++] = (byte) (value >>> 24);
+    buf[size++] = (byte) (value >>> 16);
+    buf[size++] = (byte) (value >>> 8);
+    buf[size++] = (byte) value;
+  }
+
+  private void putInt8(long value) {
+    putInt4((int) (value >>> 32));
+    putInt4((int) value);
+  }
+
+  private void ensure(int extra) {
+    if (size + extra > buf.length) {
+      buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + extra));
+    }
+  }
+}
@@ -34,6 +34,15 @@ public interface PgJson<A> extends DbJson<A> {
         }
         return Optional.of(self.fromJson(json));
       }
+
+      @Override
+      public Optional<A> fromJson(JsonReader reader) {
+        if (reader.peek() == JsonReader.Token.NULL) {
+          reader.nextNull();
+          return Optional.empty();
+        }
+        return Optional.of(self.fromJson(reader));
+      }
     };
   }
 
@@ -61,6 +70,17 @@ public interface PgJson<A> extends DbJson<A> {
         }
         return result;
       }
+
+      @Override
+      public A[] fromJson(JsonReader reader) {
+        List<A> elements = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+          elements.add(self.fromJson(reader));
+        }
+        reader.endArray();
+        return elements.toArray(arrayFactory.apply(elements.size()));
+      }
     };
   }
 
@@ -80,6 +100,15 @@ public interface PgJson<A> extends DbJson<A> {
           throw new RuntimeException(e);
         }
       }
+
+      @Override
+      public B fromJson(JsonReader reader) {
+        try {
+          return f.apply(self.fromJson(reader));
+        } catch (java.sql.SQLException e) {
+          throw new RuntimeException(e);
+        }
+      }
     };
   }
 
@@ -97,6 +126,11 @@ public interface PgJson<A> extends DbJson<A> {
           throw new IllegalArgumentException(
               "Expected boolean, got: " + json.getClass().getSimpleName());
         }
+
+        @Override
+        public Boolean fromJson(JsonReader reader) {
+          return reader.nextBoolean();
+        }
       };
 
   PgJson<Short> int2 =
@@ -112,6 +146,11 @@ public interface PgJson<A> extends DbJson<A> {
           throw new IllegalArgumentException(
               "Expected number, got: " + json.getClass().getSimpleName());
         }
+
+        @Override
+        public Short fromJson(JsonReader reader) {
+          return Short.parseShort(reader.nextNumber());
+        }
       };
 
   PgJson<Integer> int4 =
@@ -127,6 +166,11 @@ public interface PgJson<A> extends DbJson<A> {
           throw new IllegalArgumentException(
               "Expected number, got: " + json.getClass().getSimpleName());
         }
+
+        @Override
+        public Integer fromJson(JsonReader reader) {
+          return Integer.parseInt(reader.nextNumber());
+        }
       };
 
   PgJson<Long> int8 =
@@ -142,6 +186,11 @@ public interface PgJson<A> extends DbJson<A> {
           throw new IllegalArgumentException(
               "Expected number, got: " + json.getClass().getSimpleName());
         }
+
+        @Override
+        public Long fromJson(JsonReader reader) {
+          return Long.parseLong(reader.nextNumber());
+        }
       };
 
   PgJson<Float> float4 =
@@ -157,6 +206,11 @@ public interface PgJson<A> extends DbJson<A> {
           throw new IllegalArgumentException(
               "Expected number, got: " + json.getClass().getSimpleName());
         }
+
+        @Override
+        public Float fromJson(JsonReader reader) {
+          return Float.parseFloat(reader.nextNumber());
+        }
       };
 
   PgJson<Double> float8 =
@@ -172,6 +226,11 @@ public interface PgJson<A> extends DbJson<A> {
           throw new IllegalArgumentException(
               "Expected number, got: " + json.getClass().getSimpleName());
         }
+
+        @Override
+        public Double fromJson(JsonReader reader) {
+          return Double.parseDouble(reader.nextNumber());
+        }
       };
 
   PgJson<BigDecimal> numeric =
@@ -187,6 +246,11 @@ public interface PgJson<A> extends DbJson<A> {
           throw new IllegalArgumentException(
               "Expected number, got: " + json.getClass().getSimpleName());
         }
+
+        @Override
+        public BigDecimal fromJson(JsonReader reader) {
+          return new BigDecimal(reader.nextNumber());
+        }
       };
 
   PgJson<String> text =
@@ -202,6 +266,11 @@ public interface PgJson<A> extends DbJson<A> {
           throw new IllegalArgumentException(
               "Expected string, got: " + json.getClass().getSimpleName());
         }
+
+        @Override
+        public String fromJson(JsonReader reader) {
+          return reader.nextString();
+        }
       };
 
   PgJson<byte[]> bytea =
@@ -247,6 +316,11 @@ public interface PgJson<A> extends DbJson<A> {
           throw new IllegalArgumentException(
               "Expected string for date, got: " + json.getClass().getSimpleName());
         }
+
+        @Override
+        public LocalDate fromJson(JsonReader reader) {
+          return LocalDate.parse(reader.nextString());
+        }
       };
 
   PgJson<LocalTime> time =
@@ -306,6 +380,11 @@ public interface PgJson<A> extends DbJson<A> {
           throw new IllegalArgumentException(
               "Expected string for timestamptz, got: " + json.getClass().getSimpleName());
         }
+
+        @Override
+        public Instant fromJson(JsonReader reader) {
+          return Instant.parse(reader.nextString());
+        }
       };
 
   PgJson<OffsetTime> timetz =
@@ -357,6 +436,11 @@ public interface PgJson<A> extends DbJson<A> {
           throw new IllegalArgumentException(
               "Expected string for uuid, got: " + json.getClass().getSimpleName());
         }
+
+        @Override
+        public UUID fromJson(JsonReader reader) {
+          return UUID.fromString(reader.nextString());
+        }
       };
 
   // JSON types (pass-through)
@@ -606,6 +690,8 @@ public interface PgJson<A> extends DbJson<A> {
         }
       };
   PgJson<Vector> vector = text.bimap(Vector::parse, Vector::value);
+  PgJson<HalfVector> halfvec = text.bimap(HalfVector::parse, HalfVector::value);
+  PgJson<SparseVector> sparsevec = text.bimap(SparseVector::parse, SparseVector::value);
   // PostgreSQL returns int2vector as JSON array, not string
   PgJson<Int2Vector> int2vector =
       new PgJson<>() {
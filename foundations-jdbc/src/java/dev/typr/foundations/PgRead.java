@@ -203,8 +203,11 @@ public sealed interface PgRead<A> extends DbRead<A>
 
   /**
    * Create a reader for arrays of composite types. PostgreSQL returns composite arrays as a string
-   * in array format, e.g., {"(field1,field2)","(field3,field4)"}. We parse this using
-   * PgRecordParser.parseArray and decode each element with the composite's text decoder.
+   * in array format, e.g., {"(field1,field2)","(field3,field4)"}. We walk it with a {@link
+   * PgRecordParser.Cursor} and decode each element in place with the composite's text decoder.
+   *
+   * <p>If the array arrives in binary format (its OID is listed in {@code binaryTransferEnable}),
+   * the elements are decoded from the binary records instead.
    *
    * @param decoder the composite text decoder for the element type
    * @param arrayFactory factory to create arrays of the element type
@@ -212,16 +215,28 @@ public sealed interface PgRead<A> extends DbRead<A>
    */
   static <T> PgRead<T[]> readCompositeArray(
       PgCompositeText<T> decoder, IntFunction<T[]> arrayFactory) {
-    return readString.map(
-        arrayText -> {
+    return of(
+        (rs, idx) -> {
+          if (PgBinary.isBinary(rs, idx)) {
+            byte[] bytes = rs.getBytes(idx);
+            if (bytes == null) return null;
+            if (!decoder.supportsBinary()) {
+              throw new SQLException(
+                  "Composite array arrived in binary format, but an element field has no binary"
+                      + " decoder. Remove its OID from binaryTransferEnable.");
+            }
+            java.util.List<T> elements =
+                PgBinary.array(bytes, 0, bytes.length, decoder::decodeBinary);
+            return elements.toArray(arrayFactory.apply(elements.size()));
+          }
+          String arrayText = rs.getString(idx);
           if (arrayText == null) return null;
-          java.util.List<String> elements = PgRecordParser.parseArray(arrayText);
-          T[] array = arrayFactory.apply(elements.size());
-          for (int i = 0; i < elements.size(); i++) {
-            String elementText = elements.get(i);
-            array[i] = elementText == null ? null : decoder.decode(elementText);
+          PgRecordParser.Cursor cursor = PgRecordParser.arrayCursor(arrayText, ',');
+          java.util.List<T> elements = new java.util.ArrayList<>();
+          while (cursor.next()) {
+            elements.add(cursor.decode(decoder));
           }
-          return array;
+          return elements.toArray(arrayFactory.apply(elements.size()));
         });
   }
 
@@ -284,13 +299,32 @@ public sealed interface PgRead<A> extends DbRead<A>
   PgRead<Short> readShort = of(ResultSet::getShort);
   PgRead<Short[]> readShortArray = PgRead.massageJdbcArrayTo(Short[].class);
 
-  // Unboxed (primitive) array readers - convert from boxed arrays returned by JDBC
-  PgRead<boolean[]> readBooleanArrayUnboxed = readBooleanArray.map(Impl::unboxBooleanArray);
-  PgRead<short[]> readShortArrayUnboxed = readShortArray.map(Impl::unboxShortArray);
-  PgRead<int[]> readIntArrayUnboxed = readIntegerArray.map(Impl::unboxIntArray);
-  PgRead<long[]> readLongArrayUnboxed = readLongArray.map(Impl::unboxLongArray);
-  PgRead<float[]> readFloatArrayUnboxed = readFloatArray.map(Impl::unboxFloatArray);
-  PgRead<double[]> readDoubleArrayUnboxed = readDoubleArray.map(Impl::unboxDoubleArray);
+  // Unboxed (primitive) array readers - decode the wire format straight into the primitive array,
+  // without the boxed array the driver would build. A NULL element is an error.
+  PgRead<boolean[]> readBooleanArrayUnboxed = readTextOrBinary(PgCompositeText.boolArrayUnboxed);
+  PgRead<short[]> readShortArrayUnboxed = readTextOrBinary(PgCompositeText.shortArrayUnboxed);
+  PgRead<int[]> readIntArrayUnboxed = readTextOrBinary(PgCompositeText.intArrayUnboxed);
+  PgRead<long[]> readLongArrayUnboxed = readTextOrBinary(PgCompositeText.longArrayUnboxed);
+  PgRead<float[]> readFloatArrayUnboxed = readTextOrBinary(PgCompositeText.floatArrayUnboxed);
+  PgRead<double[]> readDoubleArrayUnboxed = readTextOrBinary(PgCompositeText.doubleArrayUnboxed);
+
+  /**
+   * Read a column with a codec which decodes both wire formats: the binary format when the driver
+   * received the column in binary, and the text format otherwise. pgjdbc asks for binary for
+   * builtin array types once a statement is server-prepared, and for extension types such as
+   * pgvector's when their OIDs are listed in {@code binaryTransferEnable}.
+   */
+  static <A> PgRead<A> readTextOrBinary(PgCompositeText<A> codec) {
+    return of(
+        (rs, idx) -> {
+          if (PgBinary.isBinary(rs, idx)) {
+            byte[] bytes = rs.getBytes(idx);
+            return bytes == null ? null : codec.decodeBinary(bytes, 0, bytes.length);
+          }
+          String text = rs.getString(idx);
+          return text == null ? null : codec.decode(text);
+        });
+  }
 
   PgRead<UUID> readUUID = readString.map(UUID::fromString);
   PgRead<Money[]> readMoneyArray =
@@ -343,61 +377,6 @@ public sealed interface PgRead<A> extends DbRead<A>
       return ret;
     }
 
-    // Unboxing methods - convert boxed arrays to primitive arrays
-    static boolean[] unboxBooleanArray(Boolean[] boxed) {
-      if (boxed == null) return null;
-      boolean[] unboxed = new boolean[boxed.length];
-      for (int i = 0; i < boxed.length; i++) {
-        unboxed[i] = boxed[i];
-      }
-      return unboxed;
-    }
-
-    static short[] unboxShortArray(Short[] boxed) {
-      if (boxed == null) return null;
-      short[] unboxed = new short[boxed.length];
-      for (int i = 0; i < boxed.length; i++) {
-        unboxed[i] = boxed[i];
-      }
-      return unboxed;
-    }
-
-    static int[] unboxIntArray(Integer[] boxed) {
-      if (boxed == null) return null;
-      int[] unboxed = new int[boxed.length];
-      for (int i = 0; i < boxed.length; i++) {
-        unboxed[i] = boxed[i];
-      }
-      return unboxed;
-    }
-
-    static long[] unboxLongArray(Long[] boxed) {
-      if (boxed == null) return null;
-      long[] unboxed = new long[boxed.length];
-      for (int i = 0; i < boxed.length; i++) {
-        unboxed[i] = boxed[i];
-      }
-      return unboxed;
-    }
-
-    static float[] unboxFloatArray(Float[] boxed) {
-      if (boxed == null) return null;
-      float[] unboxed = new float[boxed.length];
-      for (int i = 0; i < boxed.length; i++) {
-        unboxed[i] = boxed[i];
-      }
-      return unboxed;
-    }
-
-    static double[] unboxDoubleArray(Double[] boxed) {
-      if (boxed == null) return null;
-      double[] unboxed = new double[boxed.length];
-      for (int i = 0; i < boxed.length; i++) {
-        unboxed[i] = boxed[i];
-      }
-      return unboxed;
-    }
-
     // Boxing methods - convert primitive arrays to boxed arrays
     static Boolean[] boxBooleanArray(boolean[] unboxed) {
       if (unboxed == null) return null;
@@ -34,6 +34,361 @@ import java.util.List;
 public final class PgRecordParser {
   private PgRecordParser() {}
 
+  /**
+   * Open a cursor over the fields of a composite value. Unlike {@link #parse(String)}, the cursor
+   * does not copy field values out of the input: see {@link Cursor}.
+   *
+   * @param input the composite value, e.g., "(val1,val2,...)"
+   * @return a cursor positioned before the first field
+   * @throws IllegalArgumentException if the input is not enclosed in parentheses
+   */
+  public static Cursor cursor(CharSequence input) {
+    return cursor(input, 0, input.length());
+  }
+
+  /**
+   * Open a cursor over the fields of a composite value which occupies {@code input[start, end)}.
+   *
+   * @param input text containing the composite value
+   * @param start index of the first character of the value
+   * @param end index after the last character of the value
+   * @return a cursor positioned before the first field
+   * @throws IllegalArgumentException if the value is not enclosed in parentheses
+   */
+  public static Cursor cursor(CharSequence input, int start, int end) {
+    return new Cursor(input, start, end, '(', ')', ',', false);
+  }
+
+  /**
+   * Open a cursor over the elements of an array value, e.g., "{val1,val2,...}".
+   *
+   * @param input the array value
+   * @param delimiter the element delimiter character (typically ',' or ';')
+   * @return a cursor positioned before the first element
+   * @throws IllegalArgumentException if the input is not enclosed in braces
+   */
+  public static Cursor arrayCursor(CharSequence input, char delimiter) {
+    return arrayCursor(input, 0, input.length(), delimiter);
+  }
+
+  /**
+   * Open a cursor over the elements of an array value which occupies {@code input[start, end)}.
+   *
+   * @param input text containing the array value
+   * @param start index of the first character of the value
+   * @param end index after the last character of the value
+   * @param delimiter the element delimiter character (typically ',' or ';')
+   * @return a cursor positioned before the first element
+   * @throws IllegalArgumentException if the value is not enclosed in braces
+   */
+  public static Cursor arrayCursor(CharSequence input, int start, int end, char delimiter) {
+    return new Cursor(input, start, end, '{', '}', delimiter, true);
+  }
+
+  /**
+   * Forward-only cursor over the fields of a composite value or the elements of an array value.
+   *
+   * <p>Each call to {@link #next()} finds the span of the next field in the input, without
+   * allocating. Values are decoded straight from that span with {@link #decode(PgCompositeText)} or
+   * the primitive accessors, and nested composites and arrays are walked with {@link #record()} and
+   * {@link #array(char)} over the same input. Only quoted values which contain escape sequences are
+   * copied, to unescape them.
+   *
+   * <p>Accepts the same input as {@link #parse(String)} and {@link #parseArray(String, char)}.
+   *
+   * <pre>{@code
+   * var cursor = PgRecordParser.cursor("(42,\"(a,b)\",)");
+   * cursor.next();
+   * int id = cursor.intValue();             // 42
+   * cursor.next();
+   * var nested = cursor.record();           // cursor over (a,b)
+   * cursor.next();
+   * boolean missing = cursor.isNull();      // true
+   * }</pre>
+   */
+  public static final class Cursor {
+    private final CharSequence input;
+    private final int contentEnd;
+    private final char delimiter;
+    private final boolean array;
+    private int pos;
+    private boolean done;
+
+    private int fieldStart;
+    private int fieldEnd;
+    private boolean fieldNull;
+    private boolean fieldEscaped;
+    private String unescaped;
+
+    private Cursor(
+        CharSequence input,
+        int start,
+        int end,
+        char open,
+        char close,
+        char delimiter,
+        boolean array) {
+      if (input == null) {
+        throw new IllegalArgumentException("Input cannot be null");
+      }
+      while (start < end && Character.isWhitespace(input.charAt(start))) {
+        start++;
+      }
+      while (end > start && Character.isWhitespace(input.charAt(end - 1))) {
+        end--;
+      }
+      if (start == end) {
+        throw new IllegalArgumentException("Input cannot be empty");
+      }
+      if (end - start < 2 || input.charAt(start) != open || input.charAt(end - 1) != close) {
+        throw new IllegalArgumentException(
+            (array
+                    ? "Array value must be enclosed in braces: "
+                    : "Composite value must be enclosed in parentheses: ")
+                + input.subSequence(start, end));
+      }
+      this.input = input;
+      this.pos = start + 1;
+      this.contentEnd = end - 1;
+      this.delimiter = delimiter;
+      this.array = array;
+      // () and {} have no fields
+      this.done = pos == contentEnd;
+    }
+
+    /**
+     * Move to the next field.
+     *
+     * @return false if there are no more fields
+     * @throws IllegalArgumentException if the input is malformed
+     */
+    public boolean next() {
+      if (done) {
+        return false;
+      }
+      fieldEscaped = false;
+      unescaped = null;
+      int p = pos;
+      if (p == contentEnd || input.charAt(p) == delimiter) {
+        fieldNull = true;
+        fieldStart = p;
+        fieldEnd = p;
+      } else if (input.charAt(p) == '"') {
+        fieldNull = false;
+        fieldStart = p + 1;
+        fieldEnd = scanQuoted(p);
+        p = fieldEnd + 1;
+      } else {
+        while (p < contentEnd && input.charAt(p) != delimiter) {
+          p++;
+        }
+        fieldStart = pos;
+        fieldEnd = p;
+        fieldNull = array && p - pos == 4 && regionEqualsIgnoreCase(pos, "NULL");
+      }
+      if (p == contentEnd) {
+        done = true;
+      } else if (input.charAt(p) != delimiter) {
+        throw new IllegalArgumentException(
+            "Expected '"
+                + delimiter
+                + "' at position "
+                + p
+                + " in: "
+                + input.subSequence(pos, contentEnd));
+      } else {
+        pos = p + 1;
+      }
+      return true;
+    }
+
+    /** Whether the current field is SQL NULL. */
+    public boolean isNull() {
+      return fieldNull;
+    }
+
+    /**
+     * Decode the current field with a composite text codec, in place where the value needs no
+     * unescaping.
+     *
+     * @param codec the codec of the field type
+     * @return the decoded value, or null for SQL NULL
+     */
+    public <A> A decode(PgCompositeText<A> codec) {
+      if (fieldNull) {
+        return null;
+      }
+      if (fieldEscaped) {
+        return codec.decode(unescaped());
+      }
+      return codec.decode(input, fieldStart, fieldEnd);
+    }
+
+    /** The current field as a string, or null for SQL NULL. */
+    public String stringValue() {
+      if (fieldNull) {
+        return null;
+      }
+      if (fieldEscaped) {
+        return unescaped();
+      }
+      return input.subSequence(fieldStart, fieldEnd).toString();
+    }
+
+    /** The current field as an int. */
+    public int intValue() {
+      requireValue();
+      return fieldEscaped
+          ? Integer.parseInt(unescaped())
+          : Integer.parseInt(input, fieldStart, fieldEnd, 10);
+    }
+
+    /** The current field as a short. */
+    public short shortValue() {
+      int value = intValue();
+      if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+        throw new NumberFormatException("Value out of range for short: " + value);
+      }
+      return (short) value;
+    }
+
+    /** The current field as a long. */
+    public long longValue() {
+      requireValue();
+      return fieldEscaped
+          ? Long.parseLong(unescaped())
+          : Long.parseLong(input, fieldStart, fieldEnd, 10);
+    }
+
+    /** The current field as a float. */
+    public float floatValue() {
+      requireValue();
+      return Float.parseFloat(stringValue());
+    }
+
+    /** The current field as a double. */
+    public double doubleValue() {
+      requireValue();
+      return Double.parseDouble(stringValue());
+    }
+
+    /** The current field as a boolean, accepting t/true/1 as true. */
+    public boolean booleanValue() {
+      requireValue();
+      if (fieldEscaped) {
+        String s = unescaped();
+        return s.equals("t") || s.equals("true") || s.equals("1");
+      }
+      int len = fieldEnd - fieldStart;
+      char c = input.charAt(fieldStart);
+      return (len == 1 && (c == 't' || c == '1')) || (len == 4 && regionEquals(fieldStart, "true"));
+    }
+
+    /** A cursor over the current field, which holds a nested composite value. */
+    public Cursor record() {
+      requireValue();
+      if (fieldEscaped) {
+        return cursor(unescaped());
+      }
+      return cursor(input, fieldStart, fieldEnd);
+    }
+
+    /**
+     * A cursor over the current field, which holds an array value.
+     *
+     * @param delimiter the element delimiter character (typically ',' or ';')
+     */
+    public Cursor array(char delimiter) {
+      requireValue();
+      if (fieldEscaped) {
+        return arrayCursor(unescaped(), delimiter);
+      }
+      return arrayCursor(input, fieldStart, fieldEnd, delimiter);
+    }
+
+    /**
+     * Find the closing quote of a quoted field, noting whether the field contains escapes.
+     *
+     * @param start the position of the opening quote
+     * @return the position of the closing quote
+     */
+    private int scanQuoted(int start) {
+      int p = start + 1;
+      while (p < contentEnd) {
+        char c = input.charAt(p);
+        if (c == '"') {
+          if (!array && p + 1 < contentEnd && input.charAt(p + 1) == '"') {
+            // Doubled quote inside a composite field
+            fieldEscaped = true;
+            p += 2;
+          } else {
+            return p;
+          }
+        } else if (c == '\\' && p + 1 < contentEnd) {
+          // Arrays escape any character with a backslash; composites only double backslashes
+          if (array || input.charAt(p + 1) == '\\') {
+            fieldEscaped = true;
+            p += 2;
+          } else {
+            p++;
+          }
+        } else {
+          p++;
+        }
+      }
+      throw new IllegalArgumentException(
+          "Unterminated quoted "
+              + (array ? "array element" : "field")
+              + " starting at position "
+              + start);
+    }
+
+    /** Unescape the current quoted field, with the same rules as the list-based parsers. */
+    private String unescaped() {
+      if (unescaped == null) {
+        StringBuilder sb = new StringBuilder(fieldEnd - fieldStart);
+        int p = fieldStart;
+        while (p < fieldEnd) {
+          char c = input.charAt(p);
+          if (c == '"'
+              || (c == '\\' && p + 1 < fieldEnd && (array || input.charAt(p + 1) == '\\'))) {
+            sb.append(input.charAt(p + 1));
+            p += 2;
+          } else {
+            sb.append(c);
+            p++;
+          }
+        }
+        unescaped = sb.toString();
+      }
+      return unescaped;
+    }
+
+    private void requireValue() {
+      if (fieldNull) {
+        throw new IllegalStateException("Field is NULL");
+      }
+    }
+
+    private boolean regionEquals(int start, String s) {
+      for (int i = 0; i < s.length(); i++) {
+        if (input.charAt(start + i) != s.charAt(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean regionEqualsIgnoreCase(int start, String s) {
+      for (int i = 0; i < s.length(); i++) {
+        if (Character.toUpperCase(input.charAt(start + i)) != s.charAt(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
   /**
    * Parse a PostgreSQL composite type text representation into a list of field values.
    *
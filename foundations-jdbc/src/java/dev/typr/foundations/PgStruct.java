@@ -19,6 +19,13 @@ import org.postgresql.util.PGobject;
  * class provides the machinery to read/write composite types via JDBC using the PostgreSQL text
  * format.
  *
+ * <p>Composites and arrays of composites can also be read in the binary format, which needs no
+ * quoting or escaping and is smaller on the wire. The server sends them in binary when the OID of
+ * the type (and of its array type) is listed in the {@code binaryTransferEnable} connection
+ * property, e.g. the result of {@code SELECT 'line_item'::regtype::oid}. This requires every field
+ * type to have a binary decoder (see {@link #supportsBinary()}); reads fall back to the text format
+ * whenever the server sends text.
+ *
  * @param <A> the Java type representing this composite (typically a generated record)
  */
 public record PgStruct<A>(
@@ -53,12 +60,17 @@ public record PgStruct<A>(
     PgRead<A> pgRead =
         PgRead.of(
             (rs, idx) -> {
+              if (PgBinary.isBinary(rs, idx)) {
+                byte[] bytes = rs.getBytes(idx);
+                if (bytes == null) return null;
+                return parseFromBinary(bytes, 0, bytes.length);
+              }
               Object obj = rs.getObject(idx);
               if (obj == null) return null;
               if (obj instanceof PGobject pgObj) {
                 String textValue = pgObj.getValue();
                 if (textValue == null) return null;
-                return parseFromText(textValue);
+                return parseFromText(textValue, 0, textValue.length());
               }
               throw new SQLException(
                   "Expected PGobject for composite type, got: " + obj.getClass());
@@ -103,8 +115,27 @@ public record PgStruct<A>(
 
           @Override
           public A decode(String text) {
+            return decode(text, 0, text.length());
+          }
+
+          @Override
+          public A decode(CharSequence text, int start, int end) {
             try {
-              return self.parseFromText(text);
+              return self.parseFromText(text, start, end);
+            } catch (SQLException e) {
+              throw new RuntimeException("Failed to parse composite type", e);
+            }
+          }
+
+          @Override
+          public boolean supportsBinary() {
+            return self.supportsBinary();
+          }
+
+          @Override
+          public A decodeBinary(byte[] bytes, int offset, int length) {
+            try {
+              return self.parseFromBinary(bytes, offset, length);
             } catch (SQLException e) {
               throw new RuntimeException("Failed to parse composite type", e);
             }
@@ -119,36 +150,80 @@ public record PgStruct<A>(
     return asType().opt();
   }
 
-  /** Parse a composite value from PostgreSQL text format. */
-  private A parseFromText(String text) throws SQLException {
-    List<String> parsedFields = PgRecordParser.parse(text);
+  /**
+   * Parse a composite value from PostgreSQL text format, found at {@code text[start, end)}. Fields
+   * are decoded in place, and nested composites and arrays are parsed from the same text.
+   */
+  private A parseFromText(CharSequence text, int start, int end) throws SQLException {
+    PgRecordParser.Cursor cursor = PgRecordParser.cursor(text, start, end);
+    Object[] fieldValues = new Object[fields.size()];
+    int count = 0;
+    while (cursor.next()) {
+      if (count < fields.size()) {
+        fieldValues[count] = cursor.decode(fields.get(count).type().pgCompositeText());
+      }
+      count++;
+    }
 
-    if (parsedFields.size() != fields.size()) {
+    if (count != fields.size()) {
       throw new SQLException(
           "Field count mismatch: expected "
               + fields.size()
               + " but got "
-              + parsedFields.size()
+              + count
               + " in: "
-              + text);
-    }
-
-    Object[] fieldValues = new Object[fields.size()];
-    for (int i = 0; i < fields.size(); i++) {
-      Field<A, ?> field = fields.get(i);
-      String rawValue = parsedFields.get(i);
-      fieldValues[i] = parseFieldValue(field, rawValue);
+              + text.subSequence(start, end));
     }
 
     return reader.read(fieldValues);
   }
 
-  /** Parse a single field value from text. */
-  private <F> F parseFieldValue(Field<A, F> field, String rawValue) {
-    if (rawValue == null) {
-      return null;
+  /** Whether every field can be decoded from the binary format, so that this composite can be. */
+  public boolean supportsBinary() {
+    for (Field<A, ?> field : fields) {
+      if (!field.type().pgCompositeText().supportsBinary()) {
+        return false;
+      }
     }
-    return field.type().pgCompositeText().decode(rawValue);
+    return true;
+  }
+
+  /**
+   * Parse a composite value from PostgreSQL binary format: the field count as int32, then per field
+   * its type OID and length as int32 (length -1 for NULL), followed by the field's own binary
+   * value.
+   */
+  private A parseFromBinary(byte[] bytes, int offset, int length) throws SQLException {
+    int count = PgBinary.int4(bytes, offset);
+    if (count != fields.size()) {
+      throw new SQLException(
+          "Field count mismatch: expected "
+              + fields.size()
+              + " but got "
+              + count
+              + " in binary "
+              + typename.sqlType());
+    }
+    Object[] fieldValues = new Object[count];
+    int p = offset + 4;
+    for (int i = 0; i < count; i++) {
+      int fieldLength = PgBinary.int4(bytes, p + 4);
+      p += 8;
+      if (fieldLength >= 0) {
+        PgCompositeText<?> codec = fields.get(i).type().pgCompositeText();
+        if (!codec.supportsBinary()) {
+          throw new SQLException(
+              "Field '"
+                  + fields.get(i).name()
+                  + "' of "
+                  + typename.sqlType()
+                  + " has no binary decoder. Remove the type's OID from binaryTransferEnable.");
+        }
+        fieldValues[i] = codec.decodeBinary(bytes, p, fieldLength);
+        p += fieldLength;
+      }
+    }
+    return reader.read(fieldValues);
   }
 
   /** Encode a composite value to PostgreSQL text format. */
@@ -1,5 +1,8 @@
 package dev.typr.foundations;
 
+import dev.typr.foundations.data.HalfVector;
+import dev.typr.foundations.data.SparseVector;
+import dev.typr.foundations.data.Vector;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Map;
@@ -119,6 +122,33 @@ public abstract class PgText<A> implements DbText<A> {
             }
           });
 
+  // pgvector types have nothing to escape, so they are appended in place. Inside arrays they are
+  // quoted, as they contain commas.
+  public static final PgText<Vector> textVector =
+      instance(
+          Vector::appendTo,
+          (v, sb) -> {
+            sb.append('"');
+            v.appendTo(sb);
+            sb.append('"');
+          });
+  public static final PgText<HalfVector> textHalfVector =
+      instance(
+          HalfVector::appendTo,
+          (v, sb) -> {
+            sb.append('"');
+            v.appendTo(sb);
+            sb.append('"');
+          });
+  public static final PgText<SparseVector> textSparseVector =
+      instance(
+          SparseVector::appendTo,
+          (v, sb) -> {
+            sb.append('"');
+            v.appendTo(sb);
+            sb.append('"');
+          });
+
   public static <T extends PGobject> PgText<T> textPGobject() {
     return PgText.textString.contramap(
         x -> {
@@ -111,8 +111,9 @@ public interface PgTypes {
           PgText.instance(
               (t, sb) -> sb.append(t.atOffset(ZoneOffset.UTC).toString().replace('T', ' '))),
           PgCompositeText.of(
-              t -> t.atOffset(ZoneOffset.UTC).toString().replace('T', ' '),
-              text -> OffsetDateTime.parse(text.replace(' ', 'T')).toInstant()),
+                  t -> t.atOffset(ZoneOffset.UTC).toString().replace('T', ' '),
+                  text -> OffsetDateTime.parse(text.replace(' ', 'T')).toInstant())
+              .withBinary(PgBinary::timestamptz),
           PgJson.timestamptz);
   PgType<Instant[]> timestamptzArray = timestamptz.array(PgRead.readInstantArray, Instant[]::new);
   PgType<Int2Vector> int2vector =
@@ -149,7 +150,7 @@ public interface PgTypes {
           PgRead.readLocalDate,
           PgWrite.passObjectToJdbc(),
           PgText.instance((d, sb) -> sb.append(d.toString())),
-          PgCompositeText.of(LocalDate::toString, LocalDate::parse),
+          PgCompositeText.date,
           PgJson.date);
   PgType<LocalDateTime> timestamp =
       PgType.of(
@@ -157,9 +158,7 @@ public interface PgTypes {
           PgRead.readLocalDateTime,
           PgWrite.passObjectToJdbc(),
           PgText.instance((t, sb) -> sb.append(t.toString().replace('T', ' '))),
-          PgCompositeText.of(
-              t -> t.toString().replace('T', ' '),
-              text -> LocalDateTime.parse(text.replace(' ', 'T'))),
+          PgCompositeText.timestamp,
           PgJson.timestamp);
   PgType<LocalDateTime[]> timestampArray =
       timestamp.array(PgRead.readLocalDateTimeArray, LocalDateTime[]::new);
@@ -170,7 +169,7 @@ public interface PgTypes {
           PgRead.readLocalTime,
           PgWrite.passObjectToJdbc(),
           PgText.instance((t, sb) -> sb.append(t.toString())),
-          PgCompositeText.of(LocalTime::toString, LocalTime::parse),
+          PgCompositeText.time,
           PgJson.time);
   PgType<LocalTime[]> timeArray = time.array(PgRead.readLocalTimeArray, LocalTime[]::new);
   PgType<Long> int8 =
@@ -441,17 +440,47 @@ public interface PgTypes {
               PgJson.text)
           .bimap(Xml::new, Xml::value);
   PgType<Xml[]> xmlArray = xml.array(PgRead.pgObjectArray(Xml::new, Xml.class), Xml[]::new);
+  // pgvector types are read and written in binary when their OIDs are listed in pgjdbc's
+  // binaryTransferEnable, and in text otherwise.
   PgType<Vector> vector =
       PgType.of(
-              "vector",
-              PgRead.readString,
-              PgWrite.pgObject("vector"),
-              PgText.textString,
-              PgCompositeText.text,
-              PgJson.text)
-          .bimap(Vector::new, Vector::value);
+          "vector",
+          PgRead.readTextOrBinary(PgCompositeText.vector),
+          PgWrite.pgBinaryObject(
+              "vector", Vector::binaryLength, Vector::writeBinary, Vector::value),
+          PgText.textVector,
+          PgCompositeText.vector,
+          PgJson.vector);
   PgType<Vector[]> vectorArray =
-      vector.array(PgRead.pgObjectArray(Vector::new, Vector.class), Vector[]::new);
+      vector.array(PgRead.readCompositeArray(PgCompositeText.vector, Vector[]::new), Vector[]::new);
+  PgType<HalfVector> halfvec =
+      PgType.of(
+          "halfvec",
+          PgRead.readTextOrBinary(PgCompositeText.halfvec),
+          PgWrite.pgBinaryObject(
+              "halfvec", HalfVector::binaryLength, HalfVector::writeBinary, HalfVector::value),
+          PgText.textHalfVector,
+          PgCompositeText.halfvec,
+          PgJson.halfvec);
+  PgType<HalfVector[]> halfvecArray =
+      halfvec.array(
+          PgRead.readCompositeArray(PgCompositeText.halfvec, HalfVector[]::new), HalfVector[]::new);
+  PgType<SparseVector> sparsevec =
+      PgType.of(
+          "sparsevec",
+          PgRead.readTextOrBinary(PgCompositeText.sparsevec),
+          PgWrite.pgBinaryObject(
+              "sparsevec",
+              SparseVector::binaryLength,
+              SparseVector::writeBinary,
+              SparseVector::value),
+          PgText.textSparseVector,
+          PgCompositeText.sparsevec,
+          PgJson.sparsevec);
+  PgType<SparseVector[]> sparsevecArray =
+      sparsevec.array(
+          PgRead.readCompositeArray(PgCompositeText.sparsevec, SparseVector[]::new),
+          SparseVector[]::new);
   PgType<Unknown> unknown =
       PgType.of(
               "unknown",
@@ -522,7 +551,7 @@ public interface PgTypes {
         PgRead.pgObject(sqlType).map(constructor),
         PgWrite.pgObject(sqlType).contramap(extractor),
         PgText.textString.contramap(extractor),
-        PgCompositeText.text.bimap(
+        PgCompositeText.textOnly.bimap(
             s -> {
               try {
                 return constructor.apply(s);
@@ -7,6 +7,7 @@ import java.sql.SQLException;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import org.postgresql.util.PGobject;
 
 public sealed interface PgWrite<A> extends DbWrite<A> permits PgWrite.Instance {
@@ -79,6 +80,26 @@ public sealed interface PgWrite<A> extends DbWrite<A> permits PgWrite.Instance {
             });
   }
 
+  /** Writes the binary format of a value into a buffer which has room for it. */
+  @FunctionalInterface
+  interface BinaryWriter<A> {
+    void write(A value, byte[] dst, int offset);
+  }
+
+  /**
+   * Write an extension type with a binary format. The value is sent in binary when the type's OID
+   * is listed in pgjdbc's {@code binaryTransferEnable}, and as the text from {@code toText}
+   * otherwise.
+   */
+  static <A> PgWrite<A> pgBinaryObject(
+      String sqlType,
+      ToIntFunction<A> binaryLength,
+      BinaryWriter<A> writeBinary,
+      Function<A, String> toText) {
+    return PgWrite.<PGobject>passObjectToJdbc()
+        .contramap(a -> new PgBinary.BinaryObject<>(sqlType, a, binaryLength, writeBinary, toText));
+  }
+
   PgWrite<byte[]> writeByteArray = primitive(PreparedStatement::setObject);
 
   // Unboxed (primitive) array writers
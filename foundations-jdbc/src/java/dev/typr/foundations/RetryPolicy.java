@@ -0,0 +1,302 @@
+package dev.typr.foundations;
+
+import dev.typr.foundations.connect.DatabaseKind;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which failed transactions a {@link Transactor} runs again, and how long it waits first.
+ *
+ * <p>Under {@code SERIALIZABLE} (or {@code REPEATABLE READ}) isolation, serialization failures and
+ * deadlocks are expected, and the right response is to run the whole transaction again. The
+ * retryable errors are classified per database:
+ *
+ * <ul>
+ *   <li>PostgreSQL: SQLSTATE 40001 (serialization failure) and 40P01 (deadlock)
+ *   <li>MariaDB: error 1213 (deadlock) and SQLSTATE 40001
+ *   <li>SQL Server: error 1205 (deadlock victim) and SQLSTATE 40001
+ *   <li>Oracle: ORA-08177 (cannot serialize) and ORA-00060 (deadlock)
+ *   <li>DB2: SQLSTATE 40001 (-911) and 57033 (-913)
+ *   <li>DuckDB: transaction conflicts
+ * </ul>
+ *
+ * <p>Between attempts the transactor sleeps for a random duration between zero and an exponentially
+ * growing cap ("full jitter"), so that transactions which collided once do not collide again.
+ * Retried operations run from the start on a fresh connection, so they must not have side effects
+ * outside the transaction.
+ *
+ * <pre>{@code
+ * var tx = ds.transactor().withRetry(RetryPolicy.builder(DatabaseKind.POSTGRESQL)
+ *     .maxAttempts(10)
+ *     .build());
+ * }</pre>
+ */
+public final class RetryPolicy {
+  private static final RetryPolicy NONE = new Builder(e -> false).maxAttempts(1).build();
+
+  private final Classifier classifier;
+  private final int maxAttempts;
+  private final long initialBackoffNanos;
+  private final long maxBackoffNanos;
+  private final double multiplier;
+
+  private final AtomicLong retries = new AtomicLong();
+  private final AtomicLong recovered = new AtomicLong();
+  private final AtomicLong exhausted = new AtomicLong();
+  private final AtomicLong backoffNanos = new AtomicLong();
+
+  private RetryPolicy(Builder b) {
+    this.classifier = b.classifier;
+    this.maxAttempts = b.maxAttempts;
+    this.initialBackoffNanos = b.initialBackoff.toNanos();
+    this.maxBackoffNanos = b.maxBackoff.toNanos();
+    this.multiplier = b.multiplier;
+  }
+
+  /** Never retry. This is what a Transactor uses unless told otherwise. */
+  public static RetryPolicy none() {
+    return NONE;
+  }
+
+  /**
+   * Retry the serialization failures and deadlocks of one database, with default settings.
+   *
+   * @param kind the database
+   * @return a new retry policy
+   */
+  public static RetryPolicy forKind(DatabaseKind kind) {
+    return builder(kind).build();
+  }
+
+  /**
+   * Start building a policy which retries the serialization failures and deadlocks of one database.
+   *
+   * @param kind the database
+   * @return a new builder
+   */
+  public static Builder builder(DatabaseKind kind) {
+    return new Builder(Classifier.forKind(kind));
+  }
+
+  /**
+   * Start building a policy with a custom classification of retryable errors.
+   *
+   * @param classifier decides which errors are retryable
+   * @return a new builder
+   */
+  public static Builder builder(Classifier classifier) {
+    return new Builder(classifier);
+  }
+
+  /** Maximum number of times an operation runs, including the first. */
+  public int maxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * Whether a failure is retryable. SQLExceptions wrapped in other exceptions, as thrown by {@code
+   * runUnchecked}, are found through the cause chain.
+   *
+   * @param failure the failure of an attempt
+   * @return true if the transaction should run again
+   */
+  public boolean isRetryable(Throwable failure) {
+    for (Throwable t = failure; t != null; t = t.getCause()) {
+      if (t instanceof SQLException sqlException && classifier.isRetryable(sqlException)) {
+        return true;
+      }
+      if (t.getCause() == t) {
+        break;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Compute how long to wait after a failed attempt: a random duration between zero and {@code
+   * initialBackoff * multiplier^(attempt - 1)}, capped at {@code maxBackoff}.
+   *
+   * @param attempt the attempt which failed, starting at 1
+   * @return the time to wait before the next attempt
+   */
+  public Duration backoff(int attempt) {
+    double cap = initialBackoffNanos * Math.pow(multiplier, attempt - 1);
+    long capNanos = (long) Math.min(cap, (double) maxBackoffNanos);
+    if (capNanos <= 0) {
+      return Duration.ZERO;
+    }
+    return Duration.ofNanos(ThreadLocalRandom.current().nextLong(capNanos + 1));
+  }
+
+  /** A snapshot of how often this policy retried. Shared by all transactors using the policy. */
+  public Stats stats() {
+    return new Stats(
+        retries.get(), recovered.get(), exhausted.get(), Duration.ofNanos(backoffNanos.get()));
+  }
+
+  /**
+   * Decide whether to retry after a failed attempt, and if so wait for the backoff.
+   *
+   * @return true if the caller should make another attempt
+   */
+  boolean awaitRetry(Throwable failure, int attempt) {
+    if (maxAttempts <= 1 || !isRetryable(failure)) {
+      return false;
+    }
+    if (attempt >= maxAttempts) {
+      exhausted.incrementAndGet();
+      return false;
+    }
+    Duration wait = backoff(attempt);
+    try {
+      Thread.sleep(wait);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+    retries.incrementAndGet();
+    backoffNanos.addAndGet(wait.toNanos());
+    return true;
+  }
+
+  /** Record that an operation succeeded after one or more retries. */
+  void recordRecovered() {
+    recovered.incrementAndGet();
+  }
+
+  /**
+   * Decides whether a SQLException means the transaction failed because of contention, and may
+   * succeed if run again.
+   */
+  @FunctionalInterface
+  public interface Classifier {
+    boolean isRetryable(SQLException e);
+
+    /**
+     * Serialization failures and deadlocks of one database.
+     *
+     * @param kind the database
+     * @return a classifier for that database
+     */
+    static Classifier forKind(DatabaseKind kind) {
+      return switch (kind) {
+        case POSTGRESQL -> sqlStates("40001", "40P01");
+        case MARIADB -> sqlStates("40001").or(errorCodes(1213));
+        case SQLSERVER -> sqlStates("40001").or(errorCodes(1205));
+        case ORACLE -> errorCodes(8177, 60);
+        case DB2 -> sqlStates("40001", "57033");
+        case DUCKDB ->
+            e -> {
+              String message = e.getMessage();
+              return message != null
+                  && message.contains("TransactionContext Error")
+                  && message.toLowerCase().contains("conflict");
+            };
+      };
+    }
+
+    /** Match on SQLSTATE. */
+    static Classifier sqlStates(String... sqlStates) {
+      Set<String> states = Set.of(sqlStates);
+      return e -> e.getSQLState() != null && states.contains(e.getSQLState());
+    }
+
+    /** Match on vendor error code. */
+    static Classifier errorCodes(int... errorCodes) {
+      return e -> {
+        for (int code : errorCodes) {
+          if (e.getErrorCode() == code) {
+            return true;
+          }
+        }
+        return false;
+      };
+    }
+
+    /** Retryable if either this or {@code other} says so. */
+    default Classifier or(Classifier other) {
+      return e -> isRetryable(e) || other.isRetryable(e);
+    }
+  }
+
+  /**
+   * Retry statistics.
+   *
+   * @param retries attempts which were made because an earlier attempt failed
+   * @param recovered operations which succeeded after at least one retry
+   * @param exhausted operations which still failed with a retryable error after {@code maxAttempts}
+   * @param totalBackoff time spent sleeping between attempts
+   */
+  public record Stats(long retries, long recovered, long exhausted, Duration totalBackoff) {}
+
+  /** Builder for RetryPolicy. */
+  public static final class Builder {
+    private final Classifier classifier;
+    private int maxAttempts = 5;
+    private Duration initialBackoff = Duration.ofMillis(5);
+    private Duration maxBackoff = Duration.ofSeconds(1);
+    private double multiplier = 2.0;
+
+    private Builder(Classifier classifier) {
+      this.classifier = classifier;
+    }
+
+    /**
+     * Maximum number of times an operation runs, including the first. Default: 5.
+     *
+     * @param maxAttempts maximum attempts
+     * @return this builder
+     */
+    public Builder maxAttempts(int maxAttempts) {
+      if (maxAttempts < 1) {
+        throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+      }
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    /**
+     * Upper bound of the wait after the first failed attempt. Default: 5ms.
+     *
+     * @param initialBackoff initial backoff cap
+     * @return this builder
+     */
+    public Builder initialBackoff(Duration initialBackoff) {
+      this.initialBackoff = initialBackoff;
+      return this;
+    }
+
+    /**
+     * Upper bound of any wait between attempts. Default: 1s.
+     *
+     * @param maxBackoff maximum backoff
+     * @return this builder
+     */
+    public Builder maxBackoff(Duration maxBackoff) {
+      this.maxBackoff = maxBackoff;
+      return this;
+    }
+
+    /**
+     * Growth of the backoff cap per failed attempt. Default: 2.
+     *
+     * @param multiplier backoff multiplier
+     * @return this builder
+     */
+    public Builder multiplier(double multiplier) {
+      if (multiplier < 1.0) {
+        throw new IllegalArgumentException("multiplier must be at least 1: " + multiplier);
+      }
+      this.multiplier = multiplier;
+      return this;
+    }
+
+    /** Build the RetryPolicy. */
+    public RetryPolicy build() {
+      return new RetryPolicy(this);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package dev.typr.foundations;
 
+import dev.typr.foundations.data.JsonReader;
 import dev.typr.foundations.data.JsonValue;
 import dev.typr.foundations.dsl.Bijection;
 import java.sql.PreparedStatement;
@@ -7,7 +8,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -198,64 +202,101 @@ public record RowParser<Row>(
    *   <li>Compact array of arrays: [[val1, val2], [val3, val4], ...]
    * </ul>
    *
+   * <p>The document is read with a streaming {@link JsonReader}, and each column value is decoded
+   * straight from the tokens by its {@link DbJson}, so no {@link JsonValue} tree is built.
+   *
    * @param jsonStr JSON string from database
    * @param columnNames names of columns in order (for object format lookup)
    * @return list of parsed rows
    */
-  @SuppressWarnings("unchecked")
   public List<Row> parseJsonArray(String jsonStr, List<String> columnNames) {
     if (jsonStr == null || jsonStr.isEmpty()) {
       return List.of();
     }
 
-    JsonValue json = JsonValue.parse(jsonStr);
-    if (!(json instanceof JsonValue.JArray(List<JsonValue> values))) {
-      throw new IllegalArgumentException(
-          "Expected JSON array, got: " + json.getClass().getSimpleName());
+    JsonReader reader = new JsonReader(jsonStr);
+    if (reader.peek() != JsonReader.Token.BEGIN_ARRAY) {
+      throw new IllegalArgumentException("Expected JSON array, got: " + reader.peek());
     }
 
-    List<Row> result = new ArrayList<>(values.size());
-    for (JsonValue elem : values) {
-      Row row = parseJsonRow(elem, columnNames);
-      result.add(row);
+    Map<String, int[]> columnIndex = null;
+    List<Row> result = new ArrayList<>();
+    reader.beginArray();
+    while (reader.hasNext()) {
+      if (reader.peek() == JsonReader.Token.BEGIN_OBJECT && columnIndex == null) {
+        columnIndex = columnIndex(columnNames);
+      }
+      result.add(parseJsonRow(reader, columnIndex));
     }
+    reader.endArray();
+    reader.endDocument();
     return result;
   }
 
+  /** Column positions by name. A name may be shared by several columns. */
+  private static Map<String, int[]> columnIndex(List<String> columnNames) {
+    Map<String, int[]> index = new HashMap<>();
+    for (int i = 0; i < columnNames.size(); i++) {
+      int col = i;
+      index.merge(
+          columnNames.get(i),
+          new int[] {col},
+          (a, b) -> {
+            int[] merged = Arrays.copyOf(a, a.length + 1);
+            merged[a.length] = col;
+            return merged;
+          });
+    }
+    return index;
+  }
+
   /**
-   * Parse a single row from a JSON value. Supports both object format {"col": val} and array format
-   * [val1, val2].
+   * Parse a single row from a JSON reader. Supports both object format {"col": val} and array
+   * format [val1, val2].
    */
   @SuppressWarnings("unchecked")
-  private Row parseJsonRow(JsonValue json, List<String> columnNames) {
+  private Row parseJsonRow(JsonReader reader, Map<String, int[]> columnIndex) {
     Object[] values = new Object[columns.size()];
 
-    if (json instanceof JsonValue.JArray(List<JsonValue> values1)) {
-      // Compact array format: values in column order
-      if (values1.size() != columns.size()) {
-        throw new IllegalArgumentException(
-            "JSON array size " + values1.size() + " doesn't match column count " + columns.size());
-      }
-      for (int i = 0; i < columns.size(); i++) {
-        DbJson<Object> jsonCodec = (DbJson<Object>) columns.get(i).json();
-        values[i] = jsonCodec.fromJson(values1.get(i));
-      }
-    } else if (json instanceof JsonValue.JObject(java.util.Map<String, JsonValue> fields)) {
-      // Object format: lookup by column name
-      for (int i = 0; i < columns.size(); i++) {
-        String colName = columnNames.get(i);
-        JsonValue colValue = fields.get(colName);
-        if (colValue == null) {
-          // Column not present in JSON - use null
-          values[i] = null;
-        } else {
+    switch (reader.peek()) {
+      case BEGIN_ARRAY -> {
+        // Compact array format: values in column order
+        reader.beginArray();
+        int i = 0;
+        while (reader.hasNext()) {
+          if (i == columns.size()) {
+            throw new IllegalArgumentException(
+                "JSON array has more values than column count " + columns.size());
+          }
           DbJson<Object> jsonCodec = (DbJson<Object>) columns.get(i).json();
-          values[i] = jsonCodec.fromJson(colValue);
+          values[i++] = jsonCodec.fromJson(reader);
+        }
+        reader.endArray();
+        if (i != columns.size()) {
+          throw new IllegalArgumentException(
+              "JSON array size " + i + " doesn't match column count " + columns.size());
+        }
+      }
+      case BEGIN_OBJECT -> {
+        // Object format: lookup by column name, columns not present in JSON are null
+        reader.beginObject();
+        while (reader.hasNext()) {
+          int[] cols = columnIndex.get(reader.nextName());
+          if (cols == null) {
+            reader.skipValue();
+            continue;
+          }
+          DbJson<Object> jsonCodec = (DbJson<Object>) columns.get(cols[0]).json();
+          Object value = jsonCodec.fromJson(reader);
+          for (int col : cols) {
+            values[col] = value;
+          }
         }
+        reader.endObject();
       }
-    } else {
-      throw new IllegalArgumentException(
-          "Expected JSON object or array for row, got: " + json.getClass().getSimpleName());
+      default ->
+          throw new IllegalArgumentException(
+              "Expected JSON object or array for row, got: " + reader.peek());
     }
 
     return decode.apply(values);
@@ -0,0 +1,209 @@
+package dev.typr.foundations;
+
+import dev.typr.foundations.connect.ShardedConnectionSource;
+import dev.typr.foundations.internal.Parallel;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link Transactor} per shard of a {@link ShardedConnectionSource}.
+ *
+ * <p>Single-shard work is routed by shard key. Scatter-gather work runs on every shard (or every
+ * shard owning some of the given keys) in parallel on virtual threads, each shard in its own
+ * transaction, and the results are merged. If one shard fails, the others are cancelled.
+ *
+ * <pre>{@code
+ * var tx = shards.transactor();
+ *
+ * // single shard
+ * tx.execute(customerId, conn -> repo.selectById(customerId, conn));
+ *
+ * // ids grouped by shard, one selectByIds per shard, results concatenated
+ * List<CustomerRow> rows = tx.executeGrouped(ids, CustomerId[]::new, repo::selectByIds);
+ *
+ * // every shard
+ * List<Long> counts = tx.executeOnAll(conn -> repo.select().count(conn));
+ * }</pre>
+ *
+ * @param <K> the shard key type
+ */
+public final class ShardedTransactor<K> {
+  private final ShardedConnectionSource<K> source;
+  private final List<Transactor> shards;
+  private final int maxConcurrency;
+
+  /**
+   * Create a sharded transactor. Usually obtained via {@link ShardedConnectionSource#transactor}.
+   *
+   * @param source the sharded source, which decides which shard owns a key
+   * @param shards one transactor per shard, in shard order
+   */
+  public ShardedTransactor(ShardedConnectionSource<K> source, List<Transactor> shards) {
+    this(source, shards, Parallel.UNBOUNDED);
+  }
+
+  private ShardedTransactor(
+      ShardedConnectionSource<K> source, List<Transactor> shards, int maxConcurrency) {
+    if (shards.size() != source.shardCount()) {
+      throw new IllegalArgumentException(
+          "Expected " + source.shardCount() + " transactors, got " + shards.size());
+    }
+    this.source = source;
+    this.shards = List.copyOf(shards);
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  /**
+   * Limit how many shards are queried at the same time by fan-out methods. Default: unbounded.
+   *
+   * @param maxConcurrency maximum concurrent shard transactions
+   * @return a copy of this transactor with the limit applied
+   */
+  public ShardedTransactor<K> withMaxConcurrency(int maxConcurrency) {
+    return new ShardedTransactor<>(source, shards, maxConcurrency);
+  }
+
+  /** Get the transactor for the shard which owns {@code key}. */
+  public Transactor forKey(K key) {
+    return shards.get(source.shardFor(key));
+  }
+
+  /** Get the transactor for a shard number. */
+  public Transactor forShard(int shard) {
+    return shards.get(shard);
+  }
+
+  /**
+   * Execute an operation on the shard which owns {@code key}.
+   *
+   * @param <T> the result type
+   * @param key the shard key
+   * @param operation the operation to execute with a connection
+   * @return the operation result
+   * @throws SQLException if a database error occurs
+   */
+  public <T> T execute(K key, SqlFunction<Connection, T> operation) throws SQLException {
+    return forKey(key).execute(operation);
+  }
+
+  /**
+   * Execute an Operation on the shard which owns {@code key}.
+   *
+   * @param <T> the result type
+   * @param key the shard key
+   * @param op the Operation to execute
+   * @return the operation result
+   * @throws SQLException if a database error occurs
+   */
+  public <T> T execute(K key, Operation<T> op) throws SQLException {
+    return forKey(key).execute(op);
+  }
+
+  /**
+   * Execute an operation on every shard in parallel.
+   *
+   * @param <T> the result type
+   * @param operation the operation to execute on each shard
+   * @return the results, in shard order
+   * @throws SQLException if a database error occurs on any shard
+   */
+  public <T> List<T> executeOnAll(SqlFunction<Connection, T> operation) throws SQLException {
+    List<SqlSupplier<T>> tasks = new ArrayList<>(shards.size());
+    for (Transactor tx : shards) {
+      tasks.add(() -> tx.execute(operation));
+    }
+    return Parallel.run(tasks, maxConcurrency);
+  }
+
+  /**
+   * Execute an operation returning lists on every shard in parallel, and concatenate the results.
+   *
+   * @param <T> the element type
+   * @param operation the operation to execute on each shard
+   * @return all results, in shard order
+   * @throws SQLException if a database error occurs on any shard
+   */
+  public <T> List<T> executeOnAllConcat(SqlFunction<Connection, ? extends List<T>> operation)
+      throws SQLException {
+    return concat(executeOnAll(operation));
+  }
+
+  /**
+   * Group keys by shard and run {@code operation} once per involved shard, in parallel, with that
+   * shard's keys. Made for generated repo methods like {@code selectByIds} and {@code deleteByIds}.
+   *
+   * @param <T> the element type
+   * @param keys the shard keys
+   * @param newArray creates a key array, typically {@code MyId[]::new}
+   * @param operation runs for each shard with its keys
+   * @return all results, concatenated in shard order
+   * @throws SQLException if a database error occurs on any shard
+   */
+  public <T> List<T> executeGrouped(
+      Collection<K> keys,
+      IntFunction<K[]> newArray,
+      BiFunction<K[], Connection, ? extends List<T>> operation)
+      throws SQLException {
+    return executeGrouped(keys, Function.identity(), newArray, operation);
+  }
+
+  /**
+   * Group items by the shard owning their key and run {@code operation} once per involved shard, in
+   * parallel, with that shard's items.
+   *
+   * @param <I> the item type, such as an id which contains a shard key
+   * @param <T> the element type
+   * @param items the items
+   * @param shardKeyOf extracts the shard key from an item
+   * @param newArray creates an item array, typically {@code MyId[]::new}
+   * @param operation runs for each shard with its items
+   * @return all results, concatenated in shard order
+   * @throws SQLException if a database error occurs on any shard
+   */
+  public <I, T> List<T> executeGrouped(
+      Collection<I> items,
+      Function<I, K> shardKeyOf,
+      IntFunction<I[]> newArray,
+      BiFunction<I[], Connection, ? extends List<T>> operation)
+      throws SQLException {
+    List<List<I>> byShard = new ArrayList<>(shards.size());
+    for (int i = 0; i < shards.size(); i++) {
+      byShard.add(new ArrayList<>());
+    }
+    for (I item : items) {
+      byShard.get(source.shardFor(shardKeyOf.apply(item))).add(item);
+    }
+    List<SqlSupplier<List<T>>> tasks = new ArrayList<>();
+    for (int shard = 0; shard < shards.size(); shard++) {
+      List<I> shardItems = byShard.get(shard);
+      if (shardItems.isEmpty()) {
+        continue;
+      }
+      Transactor tx = shards.get(shard);
+      I[] array = shardItems.toArray(newArray.apply(shardItems.size()));
+      tasks.add(() -> tx.execute(conn -> operation.apply(array, conn)));
+    }
+    if (tasks.isEmpty()) {
+      return List.of();
+    }
+    return concat(Parallel.run(tasks, maxConcurrency));
+  }
+
+  private static <T> List<T> concat(List<? extends List<T>> lists) {
+    int size = 0;
+    for (List<T> list : lists) {
+      size += list.size();
+    }
+    List<T> ret = new ArrayList<>(size);
+    for (List<T> list : lists) {
+      ret.addAll(list);
+    }
+    return ret;
+  }
+}
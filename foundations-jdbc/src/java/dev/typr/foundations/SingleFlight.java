@@ -0,0 +1,188 @@
+package dev.typr.foundations;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deduplicates identical read queries which are in flight at the same time.
+ *
+ * <p>The first caller for a given {@link Key} (SQL text, bound parameter values and result parser)
+ * executes the query, and every caller which arrives while it is running waits for and shares its
+ * result, or its exception. As soon as the execution finishes the key is forgotten, so a later call
+ * runs the query again. This protects the database from a stampede of identical queries, for
+ * instance when a cache entry expires.
+ *
+ * <p>Note that all waiters receive the same result instance, so results should be treated as
+ * read-only. A call made by the thread which is already executing the same key (for instance from
+ * within the supplier) runs on its own instead of waiting for itself.
+ *
+ * <pre>{@code
+ * var singleFlight = new SingleFlight();
+ *
+ * // standalone, each leader executes on its own transaction
+ * List<ProductRow> rows = singleFlight.execute(tx, query);
+ *
+ * // combined with a result cache, keyed the same way
+ * cache.get(SingleFlight.Key.of(query), key -> singleFlight.execute(key, () -> tx.execute(query)));
+ * }</pre>
+ */
+public final class SingleFlight {
+  private final ConcurrentHashMap<Object, Flight> inFlight = new ConcurrentHashMap<>();
+
+  /** An execution in progress, and the thread running it. */
+  private record Flight(CompletableFuture<Object> result, Thread leader) {}
+
+  /**
+   * Execute {@code query} on {@code transactor}, unless an identical query is already in flight, in
+   * which case its result is shared.
+   *
+   * @param <T> the result type
+   * @param transactor the transactor used if this caller ends up executing the query
+   * @param query the query
+   * @return the query result
+   * @throws SQLException if the (shared) execution failed
+   */
+  public <T> T execute(Transactor transactor, Operation.Query<T> query) throws SQLException {
+    return execute(Key.of(query), () -> transactor.execute(query));
+  }
+
+  /**
+   * Run {@code supplier} unless another call with an equal {@code key} is in flight, in which case
+   * its result is shared.
+   *
+   * @param <T> the result type
+   * @param key identifies the computation, typically a {@link Key}
+   * @param supplier the computation
+   * @return the result
+   * @throws SQLException if the (shared) computation failed
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(Object key, SqlSupplier<T> supplier) throws SQLException {
+    Flight mine = new Flight(new CompletableFuture<>(), Thread.currentThread());
+    Flight existing = inFlight.putIfAbsent(key, mine);
+    if (existing != null) {
+      if (existing.leader() == mine.leader()) {
+        // re-entrant call, waiting for our own execution would never finish
+        return supplier.get();
+      }
+      return (T) await(existing.result());
+    }
+    try {
+      T result = supplier.get();
+      mine.result().complete(result);
+      return result;
+    } catch (SQLException | RuntimeException | Error e) {
+      mine.result().completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, mine);
+    }
+  }
+
+  /**
+   * Number of distinct computations currently in flight.
+   *
+   * @return in-flight count
+   */
+  public int inFlightCount() {
+    return inFlight.size();
+  }
+
+  private static Object await(CompletableFuture<Object> future) throws SQLException {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof SQLException sqlException) {
+        throw sqlException;
+      } else if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      } else if (cause instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Identity of a query: its rendered SQL, its parameter values and their {@link DbType}s, and the
+   * parser of its result. Array parameters (as used by {@code selectByIds}) are compared by
+   * content. Parsers are compared with {@code equals}, so {@code rowParser.all()} matches another
+   * {@code rowParser.all()} for the same {@link RowParser} instance, but not one for another row
+   * type.
+   *
+   * @param sql the rendered SQL
+   * @param params the bound parameter values, in order
+   * @param types the {@link DbType}s of the parameters, in order
+   * @param parser the result parser, or {@code null} for a bare fragment
+   */
+  public record Key(String sql, Object[] params, List<DbType<?>> types, Object parser) {
+
+    /** Build the key for a query. */
+    public static Key of(Operation.Query<?> query) {
+      return of(query.query(), query.parser());
+    }
+
+    /** Build the key for a fragment, without a parser. */
+    public static Key of(Fragment fragment) {
+      return of(fragment, null);
+    }
+
+    private static Key of(Fragment fragment, Object parser) {
+      List<Object> params = new ArrayList<>();
+      List<DbType<?>> types = new ArrayList<>();
+      collectParams(fragment, params, types);
+      return new Key(fragment.render(), params.toArray(), List.copyOf(types), parser);
+    }
+
+    private static void collectParams(Fragment fragment, List<Object> out, List<DbType<?>> types) {
+      switch (fragment) {
+        case Fragment.Literal literal -> {}
+        case Fragment.Value<?> value -> {
+          out.add(value.value());
+          types.add(value.type());
+        }
+        case Fragment.Append append -> {
+          collectParams(append.a(), out, types);
+          collectParams(append.b(), out, types);
+        }
+        case Fragment.Concat concat -> {
+          for (Fragment f : concat.frags()) {
+            collectParams(f, out, types);
+          }
+        }
+      }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Key other
+          && sql.equals(other.sql)
+          && Arrays.deepEquals(params, other.params)
+          && types.equals(other.types)
+          && Objects.equals(parser, other.parser);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(sql, Arrays.deepHashCode(params), types, parser);
+    }
+
+    @Override
+    public String toString() {
+      return "Key[sql="
+          + sql
+          + ", params="
+          + Arrays.deepToString(params)
+          + ", parser="
+          + parser
+          + "]";
+    }
+  }
+}
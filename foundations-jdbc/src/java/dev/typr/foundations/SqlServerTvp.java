@@ -0,0 +1,252 @@
+package dev.typr.foundations;
+
+import com.microsoft.sqlserver.jdbc.ISQLServerDataRecord;
+import com.microsoft.sqlserver.jdbc.ISQLServerPreparedStatement;
+import com.microsoft.sqlserver.jdbc.SQLServerMetaData;
+import dev.typr.foundations.data.JsonValue;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * SQL Server table-valued parameters: a list of rows bound as one parameter of a user-defined table
+ * type.
+ *
+ * <p>The table type must exist in the database, e.g. {@code CREATE TYPE dbo.id_list AS TABLE (id
+ * INT PRIMARY KEY)}. Any number of rows is then sent in one round trip, and the SQL text is the
+ * same whatever the number of rows, so it is compiled once:
+ *
+ * <pre>{@code
+ * SqlServerType<List<Integer>> ids = SqlServerTvp.of("dbo.id_list", "id", SqlServerTypes.int_);
+ * Fragment.interpolate(
+ *     Fragment.lit("select * from orders where id in (select id from "),
+ *     Fragment.encode(ids, List.of(1, 2, 3)),
+ *     Fragment.lit(")"));
+ * }</pre>
+ *
+ * <p>A table type with a column per column of a table gives a set-based upsert, one statement for
+ * the whole batch:
+ *
+ * <pre>{@code
+ * merge into products as t
+ * using (select * from ?) as s on t.id = s.id
+ * when matched then update set t.price = s.price
+ * when not matched then insert (id, price) values (s.id, s.price);
+ * }</pre>
+ *
+ * <p>Each column value is the one its {@link SqlServerWrite} passes to the driver, see {@link
+ * SqlServerWrite#jdbcValue}, so a value reaches the table type in the same form it would have as an
+ * ordinary parameter. DECIMAL columns are sent with the precision and scale of the column's type
+ * name, or with ones that fit the values when it has none, and the driver rounds each value to that
+ * scale. String and binary columns are sent as NVARCHAR(4000) and VARBINARY(8000), or as (MAX) when
+ * the type name or the longest value needs more, and the server applies the lengths the table type
+ * declares. Table-valued parameters are input only, and the returned types cannot read values.
+ */
+public final class SqlServerTvp {
+  private SqlServerTvp() {}
+
+  /** One column of a table type: its name, its type, and how to get its value from a row. */
+  public record Column<Row, T>(String name, SqlServerType<T> type, Function<Row, T> get) {
+    Object jdbcValue(Row row) {
+      return type.write().jdbcValue(get.apply(row));
+    }
+  }
+
+  public static <Row, T> Column<Row, T> column(
+      String name, SqlServerType<T> type, Function<Row, T> get) {
+    return new Column<>(name, type, get);
+  }
+
+  /**
+   * A table-valued parameter of a single-column table type, such as a list of keys.
+   *
+   * @param tableTypeName The name of the table type (e.g. "dbo.id_list")
+   * @param columnName The name of its column
+   * @param elementType The type of its column
+   */
+  public static <T> SqlServerType<List<T>> of(
+      String tableTypeName, String columnName, SqlServerType<T> elementType) {
+    return of(tableTypeName, List.of(column(columnName, elementType, Function.<T>identity())));
+  }
+
+  /**
+   * A table-valued parameter of a table type with the given columns, in the order the table type
+   * declares them.
+   */
+  public static <Row> SqlServerType<List<Row>> of(
+      String tableTypeName, List<Column<Row, ?>> columns) {
+    if (columns.isEmpty()) {
+      throw new IllegalArgumentException("table type " + tableTypeName + " must have columns");
+    }
+    List<Column<Row, ?>> cols = List.copyOf(columns);
+    SqlServerRead<List<Row>> read =
+        SqlServerRead.of(
+            (rs, idx) -> {
+              throw new SQLException(
+                  "Cannot read table-valued parameter type "
+                      + tableTypeName
+                      + " from a result set");
+            });
+    SqlServerWrite<List<Row>> write =
+        SqlServerWrite.primitive(
+            (ps, idx, rows) ->
+                ps.unwrap(ISQLServerPreparedStatement.class)
+                    .setStructured(idx, tableTypeName, records(cols, rows)));
+    SqlServerText<List<Row>> text =
+        SqlServerText.instance(
+            (rows, sb) -> {
+              throw new UnsupportedOperationException(
+                  "Cannot encode table-valued parameter type " + tableTypeName + " as text");
+            });
+    return SqlServerType.of(SqlServerTypename.of(tableTypeName), read, write, text, json(cols));
+  }
+
+  /** The rows as the driver sends them, one column per {@link Column}. */
+  static <Row> ISQLServerDataRecord records(List<Column<Row, ?>> columns, List<Row> rows) {
+    List<Object[]> values = new ArrayList<>(rows.size());
+    for (Row row : rows) {
+      Object[] rowValues = new Object[columns.size()];
+      for (int i = 0; i < rowValues.length; i++) {
+        rowValues[i] = columns.get(i).jdbcValue(row);
+      }
+      values.add(rowValues);
+    }
+    SQLServerMetaData[] metaData = new SQLServerMetaData[columns.size()];
+    for (int i = 0; i < metaData.length; i++) {
+      metaData[i] = metaData(columns.get(i), values, i);
+    }
+    return new Records(metaData, values);
+  }
+
+  private static SQLServerMetaData metaData(Column<?, ?> column, List<Object[]> values, int index) {
+    SqlServerTypename<?> typename = column.type().typename();
+    while (typename instanceof SqlServerTypename.Opt<?> opt) {
+      typename = opt.of();
+    }
+    String sqlType = typename.sqlTypeNoPrecision().toUpperCase();
+    boolean max = sqlType.endsWith("(MAX)");
+    if (max) {
+      sqlType = sqlType.substring(0, sqlType.length() - "(MAX)".length());
+    }
+    int jdbcType = SqlServerWrite.getSqlTypeForTypename(sqlType);
+    return switch (jdbcType) {
+      case Types.DECIMAL ->
+          switch (typename) {
+            case SqlServerTypename.WithPrecScale<?> t ->
+                new SQLServerMetaData(column.name(), jdbcType, t.precision(), t.scale());
+            case SqlServerTypename.WithPrec<?> t ->
+                new SQLServerMetaData(column.name(), jdbcType, t.precision(), 0);
+            default -> decimalMetaData(column.name(), values, index);
+          };
+      case Types.CHAR,
+          Types.VARCHAR,
+          Types.NCHAR,
+          Types.NVARCHAR,
+          Types.BINARY,
+          Types.VARBINARY -> {
+        // The driver only uses the length to choose between NVARCHAR(4000) or VARBINARY(8000)
+        // and (MAX)
+        int length =
+            max
+                ? Integer.MAX_VALUE
+                : typename instanceof SqlServerTypename.WithPrec<?> t
+                    ? t.precision()
+                    : longest(values, index);
+        yield new SQLServerMetaData(column.name(), jdbcType, length, 0);
+      }
+      default -> new SQLServerMetaData(column.name(), jdbcType);
+    };
+  }
+
+  /** DECIMAL precision and scale which hold all the values of an untyped column. */
+  private static SQLServerMetaData decimalMetaData(String name, List<Object[]> values, int index) {
+    int integerDigits = 1;
+    int scale = 0;
+    for (Object[] row : values) {
+      if (row[index] instanceof BigDecimal value) {
+        BigDecimal d = value.scale() < 0 ? value.setScale(0) : value;
+        integerDigits = Math.max(integerDigits, d.precision() - d.scale());
+        scale = Math.max(scale, d.scale());
+      }
+    }
+    int precision = Math.min(MAX_DECIMAL_PRECISION, integerDigits + scale);
+    return new SQLServerMetaData(name, Types.DECIMAL, precision, Math.min(scale, precision));
+  }
+
+  private static final int MAX_DECIMAL_PRECISION = 38;
+
+  /** The length of the longest string or binary value of a column, at least 1. */
+  private static int longest(List<Object[]> values, int index) {
+    int longest = 1;
+    for (Object[] row : values) {
+      if (row[index] instanceof String value) {
+        longest = Math.max(longest, value.length());
+      } else if (row[index] instanceof byte[] value) {
+        longest = Math.max(longest, value.length);
+      }
+    }
+    return longest;
+  }
+
+  /** Rows with their column metadata, read once by the driver. */
+  private static final class Records implements ISQLServerDataRecord {
+    private final SQLServerMetaData[] metaData;
+    private final List<Object[]> rows;
+    private int current = -1;
+
+    Records(SQLServerMetaData[] metaData, List<Object[]> rows) {
+      this.metaData = metaData;
+      this.rows = rows;
+    }
+
+    @Override
+    public SQLServerMetaData getColumnMetaData(int column) {
+      // columns are numbered from 1
+      return metaData[column - 1];
+    }
+
+    @Override
+    public int getColumnCount() {
+      return metaData.length;
+    }
+
+    @Override
+    public Object[] getRowData() {
+      return rows.get(current);
+    }
+
+    @Override
+    public boolean next() {
+      current++;
+      return current < rows.size();
+    }
+  }
+
+  private static <Row> SqlServerJson<List<Row>> json(List<Column<Row, ?>> columns) {
+    return SqlServerJson.instance(
+        rows -> {
+          List<JsonValue> values = new ArrayList<>(rows.size());
+          for (Row row : rows) {
+            Map<String, JsonValue> fields = new LinkedHashMap<>();
+            for (Column<Row, ?> column : columns) {
+              fields.put(column.name(), toJson(column, row));
+            }
+            values.add(new JsonValue.JObject(fields));
+          }
+          return new JsonValue.JArray(values);
+        },
+        json -> {
+          throw new UnsupportedOperationException(
+              "Table-valued parameters are input only and cannot be read from JSON");
+        });
+  }
+
+  private static <Row, T> JsonValue toJson(Column<Row, T> column, Row row) {
+    return column.type().sqlServerJson().toJson(column.get().apply(row));
+  }
+}
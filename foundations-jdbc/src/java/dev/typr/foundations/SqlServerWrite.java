@@ -20,6 +20,12 @@ import java.util.function.Function;
 public sealed interface SqlServerWrite<A> extends DbWrite<A> permits SqlServerWrite.Instance {
   void set(PreparedStatement ps, int idx, A a) throws SQLException;
 
+  /**
+   * The value {@link #set} passes to the driver for {@code a}, for binds which take plain values
+   * rather than a statement, like the rows of a table-valued parameter.
+   */
+  Object jdbcValue(A a);
+
   SqlServerWrite<Optional<A>> opt(SqlServerTypename<A> typename);
 
   <B> SqlServerWrite<B> contramap(Function<B, A> f);
@@ -29,12 +35,18 @@ public sealed interface SqlServerWrite<A> extends DbWrite<A> permits SqlServerWr
     void set(PreparedStatement ps, int index, A a) throws SQLException;
   }
 
-  record Instance<A, U>(RawWriter<U> rawWriter, Function<A, U> f) implements SqlServerWrite<A> {
+  record Instance<A, U>(RawWriter<U> rawWriter, Function<U, Object> toJdbc, Function<A, U> f)
+      implements SqlServerWrite<A> {
     @Override
     public void set(PreparedStatement ps, int index, A a) throws SQLException {
       rawWriter.set(ps, index, f.apply(a));
     }
 
+    @Override
+    public Object jdbcValue(A a) {
+      return toJdbc.apply(f.apply(a));
+    }
+
     @Override
     public SqlServerWrite<Optional<A>> opt(SqlServerTypename<A> typename) {
       // SQL Server requires the actual SQL type for setNull(), not java.sql.Types.NULL
@@ -45,17 +57,26 @@ public sealed interface SqlServerWrite<A> extends DbWrite<A> permits SqlServerWr
             if (u == null) ps.setNull(index, sqlType);
             else set(ps, index, u);
           },
+          u -> u == null ? null : jdbcValue(u),
           a -> a.orElse(null));
     }
 
     @Override
     public <B> SqlServerWrite<B> contramap(Function<B, A> f) {
-      return new Instance<>(rawWriter, f.andThen(this.f));
+      return new Instance<>(rawWriter, toJdbc, f.andThen(this.f));
     }
   }
 
   static <A> SqlServerWrite<A> primitive(RawWriter<A> rawWriter) {
-    return new Instance<>(rawWriter, Function.identity());
+    return primitive(rawWriter, a -> a);
+  }
+
+  /**
+   * A writer whose raw writer converts the value before passing it to the driver, as {@code toJdbc}
+   * does.
+   */
+  static <A> SqlServerWrite<A> primitive(RawWriter<A> rawWriter, Function<A, Object> toJdbc) {
+    return new Instance<>(rawWriter, toJdbc, Function.identity());
   }
 
   static <A> SqlServerWrite<A> passObjectToJdbc() {
@@ -125,7 +146,8 @@ public sealed interface SqlServerWrite<A> extends DbWrite<A> permits SqlServerWr
   // ==================== Special Type Writers ====================
 
   // UNIQUEIDENTIFIER (UUID/GUID)
-  SqlServerWrite<UUID> writeUUID = primitive((ps, idx, uuid) -> ps.setString(idx, uuid.toString()));
+  SqlServerWrite<UUID> writeUUID =
+      primitive((ps, idx, uuid) -> ps.setString(idx, uuid.toString()), UUID::toString);
 
   // XML
   SqlServerWrite<dev.typr.foundations.data.Xml> writeXml =
@@ -134,7 +156,8 @@ public sealed interface SqlServerWrite<A> extends DbWrite<A> permits SqlServerWr
             java.sql.SQLXML sqlxml = ps.getConnection().createSQLXML();
             sqlxml.setString(xml.value());
             ps.setSQLXML(idx, sqlxml);
-          });
+          },
+          dev.typr.foundations.data.Xml::value);
 
   // JSON - SQL Server stores JSON as NVARCHAR
   SqlServerWrite<dev.typr.foundations.data.Json> writeJson =
@@ -1,7 +1,11 @@
 package dev.typr.foundations;
 
+import dev.typr.foundations.internal.Parallel;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
 /**
@@ -17,11 +21,37 @@ import java.util.function.Consumer;
  * var tx = ds.transactor(Transactor.testStrategy());
  * tx.execute(conn -> repo.selectAll(conn));
  * }</pre>
+ *
+ * @param connect where connections come from
+ * @param strategy how transactions are set up, finished and cleaned up
+ * @param retry which failed transactions are run again, see {@link #withRetry(RetryPolicy)}
  */
-public record Transactor(SqlSupplier<Connection> connect, Strategy strategy) {
+public record Transactor(SqlSupplier<Connection> connect, Strategy strategy, RetryPolicy retry) {
+
+  public Transactor(SqlSupplier<Connection> connect, Strategy strategy) {
+    this(connect, strategy, RetryPolicy.none());
+  }
+
+  /**
+   * A copy of this transactor which runs a transaction again, on a fresh connection and after a
+   * jittered backoff, when it fails with an error the policy classifies as retryable, such as a
+   * serialization failure or a deadlock.
+   *
+   * <pre>{@code
+   * var tx = ds.transactor().withRetry(RetryPolicy.forKind(DatabaseKind.POSTGRESQL));
+   * }</pre>
+   *
+   * @param retry the retry policy
+   * @return a retrying transactor
+   */
+  public Transactor withRetry(RetryPolicy retry) {
+    return new Transactor(connect, strategy, retry);
+  }
 
   /**
-   * Execute an operation with full strategy lifecycle.
+   * Execute an operation with full strategy lifecycle. If the operation or its commit fails with an
+   * error which the {@link #retry() retry policy} considers retryable, the whole transaction is run
+   * again.
    *
    * @param <T> the result type
    * @param operation the operation to execute with a connection
@@ -29,6 +59,22 @@ public record Transactor(SqlSupplier<Connection> connect, Strategy strategy) {
    * @throws SQLException if a database error occurs
    */
   public <T> T execute(SqlFunction<Connection, T> operation) throws SQLException {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        T result = executeOnce(operation);
+        if (attempt > 1) {
+          retry.recordRecovered();
+        }
+        return result;
+      } catch (SQLException | RuntimeException e) {
+        if (!retry.awaitRetry(e, attempt)) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  private <T> T executeOnce(SqlFunction<Connection, T> operation) throws SQLException {
     Connection conn = connect.get();
     try {
       strategy.before().apply(conn);
@@ -55,6 +101,94 @@ public record Transactor(SqlSupplier<Connection> connect, Strategy strategy) {
     return execute(op::run);
   }
 
+  /**
+   * Execute independent operations concurrently, each on its own connection and with the full
+   * strategy lifecycle, using virtual threads. If one operation fails, the others are cancelled and
+   * the first failure is rethrown.
+   *
+   * <p>Because every operation runs in a separate transaction, this is meant for independent reads.
+   * Total latency becomes that of the slowest operation rather than the sum of all of them.
+   *
+   * @param <T> the common result type
+   * @param ops the operations to execute
+   * @return the results, in the same order as {@code ops}
+   * @throws SQLException if a database error occurs
+   */
+  public <T> List<T> executeAll(List<? extends Operation<? extends T>> ops) throws SQLException {
+    return executeAll(ops, Parallel.UNBOUNDED);
+  }
+
+  /**
+   * Execute independent operations concurrently, with at most {@code maxConcurrency} of them (and
+   * therefore connections) in use at the same time. See {@link #executeAll(List)}.
+   *
+   * @param <T> the common result type
+   * @param ops the operations to execute
+   * @param maxConcurrency maximum number of operations running at the same time
+   * @return the results, in the same order as {@code ops}
+   * @throws SQLException if a database error occurs
+   */
+  public <T> List<T> executeAll(List<? extends Operation<? extends T>> ops, int maxConcurrency)
+      throws SQLException {
+    List<SqlSupplier<? extends T>> tasks = new ArrayList<>(ops.size());
+    for (Operation<? extends T> op : ops) {
+      tasks.add(() -> execute(op));
+    }
+    return Parallel.run(tasks, maxConcurrency);
+  }
+
+  /**
+   * Execute two independent operations concurrently. See {@link #executeAll(List)}.
+   *
+   * @return both results
+   * @throws SQLException if a database error occurs
+   */
+  @SuppressWarnings("unchecked")
+  public <A, B> Tuple.Tuple2<A, B> parallel(Operation<A> a, Operation<B> b) throws SQLException {
+    List<Object> r = executeAll(List.of(a, b));
+    return Tuple.of((A) r.get(0), (B) r.get(1));
+  }
+
+  /**
+   * Execute three independent operations concurrently. See {@link #executeAll(List)}.
+   *
+   * @return all results
+   * @throws SQLException if a database error occurs
+   */
+  @SuppressWarnings("unchecked")
+  public <A, B, C> Tuple.Tuple3<A, B, C> parallel(Operation<A> a, Operation<B> b, Operation<C> c)
+      throws SQLException {
+    List<Object> r = executeAll(List.of(a, b, c));
+    return Tuple.of((A) r.get(0), (B) r.get(1), (C) r.get(2));
+  }
+
+  /**
+   * Execute four independent operations concurrently. See {@link #executeAll(List)}.
+   *
+   * @return all results
+   * @throws SQLException if a database error occurs
+   */
+  @SuppressWarnings("unchecked")
+  public <A, B, C, D> Tuple.Tuple4<A, B, C, D> parallel(
+      Operation<A> a, Operation<B> b, Operation<C> c, Operation<D> d) throws SQLException {
+    List<Object> r = executeAll(List.of(a, b, c, d));
+    return Tuple.of((A) r.get(0), (B) r.get(1), (C) r.get(2), (D) r.get(3));
+  }
+
+  /**
+   * Execute five independent operations concurrently. See {@link #executeAll(List)}.
+   *
+   * @return all results
+   * @throws SQLException if a database error occurs
+   */
+  @SuppressWarnings("unchecked")
+  public <A, B, C, D, E> Tuple.Tuple5<A, B, C, D, E> parallel(
+      Operation<A> a, Operation<B> b, Operation<C> c, Operation<D> d, Operation<E> e)
+      throws SQLException {
+    List<Object> r = executeAll(List.of(a, b, c, d, e));
+    return Tuple.of((A) r.get(0), (B) r.get(1), (C) r.get(2), (D) r.get(3), (E) r.get(4));
+  }
+
   /**
    * Execute a void operation with full strategy lifecycle.
    *
@@ -136,6 +270,26 @@ public record Transactor(SqlSupplier<Connection> connect, Strategy strategy) {
         });
   }
 
+  /**
+   * Strategy for read-only transactions. Marks the strategy as {@link Strategy#readOnly()
+   * read-only} so that routing connection sources (such as {@link
+   * dev.typr.foundations.connect.ReplicaRoutingConnectionSource}) can send it to a replica.
+   *
+   * <p>Behavior:
+   *
+   * <ul>
+   *   <li>before: setAutoCommit(false), setReadOnly(true) where supported
+   *   <li>after: commit()
+   *   <li>oops: no-op (caller handles exceptions)
+   *   <li>always: close()
+   * </ul>
+   *
+   * @return a strategy for read-only transactions
+   */
+  public static Strategy readOnlyStrategy() {
+    return defaultStrategy().asReadOnly();
+  }
+
   /**
    * Strategy for testing: always rollback instead of commit.
    *
@@ -163,10 +317,41 @@ public record Transactor(SqlSupplier<Connection> connect, Strategy strategy) {
    * @param after a program to run on success
    * @param oops a program to run on failure (catch)
    * @param always a program to run in all cases (finally)
+   * @param readOnly whether the transaction only reads, which lets it be routed to a replica
    */
   public record Strategy(
       SqlConsumer<Connection> before,
       SqlConsumer<Connection> after,
       Consumer<Throwable> oops,
-      SqlConsumer<Connection> always) {}
+      SqlConsumer<Connection> always,
+      boolean readOnly) {
+
+    public Strategy(
+        SqlConsumer<Connection> before,
+        SqlConsumer<Connection> after,
+        Consumer<Throwable> oops,
+        SqlConsumer<Connection> always) {
+      this(before, after, oops, always, false);
+    }
+
+    /**
+     * A copy of this strategy which is marked read-only and also sets the connection read-only
+     * before running. The read-only flag is only a hint, so drivers which do not support it (like
+     * DuckDB) are left alone.
+     */
+    public Strategy asReadOnly() {
+      return new Strategy(
+          conn -> {
+            before.apply(conn);
+            try {
+              conn.setReadOnly(true);
+            } catch (SQLFeatureNotSupportedException ignored) {
+            }
+          },
+          after,
+          oops,
+          always,
+          true);
+    }
+  }
 }
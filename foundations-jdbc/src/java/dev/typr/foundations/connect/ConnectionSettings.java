@@ -31,6 +31,17 @@ public record ConnectionSettings(
   public static final ConnectionSettings EMPTY =
       new ConnectionSettings(null, null, null, null, null, null);
 
+  /**
+   * Copy these settings with a different read-only mode.
+   *
+   * @param readOnly read-only mode
+   * @return new settings
+   */
+  public ConnectionSettings withReadOnly(boolean readOnly) {
+    return new ConnectionSettings(
+        transactionIsolation, autoCommit, readOnly, catalog, schema, connectionInitSql);
+  }
+
   /** Create a builder for ConnectionSettings. */
   public static Builder builder() {
     return new Builder();
@@ -16,6 +16,7 @@ import java.sql.SQLException;
  * <ul>
  *   <li>{@link SimpleDataSource} - Non-pooled connections via DriverManager
  *   <li>{@code PooledDataSource} - Pooled connections via HikariCP (in foundations-jdbc-hikari)
+ *   <li>{@link ReplicaRoutingConnectionSource} - Routes read-only work to replicas of a primary
  * </ul>
  *
  * <p>Example usage:
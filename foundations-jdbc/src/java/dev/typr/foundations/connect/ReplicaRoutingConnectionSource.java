@@ -0,0 +1,492 @@
+package dev.typr.foundations.connect;
+
+import dev.typr.foundations.Operation;
+import dev.typr.foundations.SqlFunction;
+import dev.typr.foundations.Transactor;
+import dev.typr.foundations.Transactor.Strategy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A connection source which routes read-only work to replicas and everything else to a primary.
+ *
+ * <p>{@link #getConnection()} and transactors with a regular strategy use the primary. Transactors
+ * created with a {@link Strategy#readOnly() read-only} strategy (see {@link
+ * Transactor#readOnlyStrategy()}), as well as calls to {@link #executeRead}, use a replica chosen
+ * by the configured {@link Selector}. If no replica can serve the request (connection failure or
+ * too much replication lag), the primary is used instead, unless primary fallback is disabled.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * var ds = ReplicaRoutingConnectionSource.builder(primaryPool)
+ *     .replica(replicaPool1)
+ *     .replica(replicaPool2)
+ *     .selector(ReplicaRoutingConnectionSource.Selector.leastInFlight())
+ *     .maxReplicationLag(Duration.ofSeconds(5), ReplicaRoutingConnectionSource.LagProbe.POSTGRESQL)
+ *     .build();
+ *
+ * var writes = ds.transactor();
+ * var reads = ds.transactor(Transactor.readOnlyStrategy());
+ * var rows = ds.executeRead(conn -> repo.selectAll(conn));
+ * }</pre>
+ */
+public final class ReplicaRoutingConnectionSource implements ConnectionSource {
+
+  private final ConnectionSource primary;
+  private final List<Replica> replicas;
+  private final Selector selector;
+  private final Duration maxReplicationLag;
+  private final LagProbe lagProbe;
+  private final Duration lagCheckInterval;
+  private final boolean fallbackToPrimary;
+
+  // leased replica connections, so load and latency can be tracked when the transactor releases
+  // them
+  private final ConcurrentHashMap<Connection, Lease> leases = new ConcurrentHashMap<>();
+
+  private ReplicaRoutingConnectionSource(Builder b) {
+    this.primary = b.primary;
+    this.replicas = List.copyOf(b.replicas);
+    this.selector = b.selector;
+    this.maxReplicationLag = b.maxReplicationLag;
+    this.lagProbe = b.lagProbe;
+    this.lagCheckInterval = b.lagCheckInterval;
+    this.fallbackToPrimary = b.fallbackToPrimary;
+  }
+
+  /**
+   * Start building a routing source around a primary.
+   *
+   * @param primary the connection source for the primary
+   * @return a new builder
+   */
+  public static Builder builder(ConnectionSource primary) {
+    return new Builder(primary);
+  }
+
+  /**
+   * Create a non-pooled routing source from database configurations. Replicas get {@code settings}
+   * with {@link ConnectionSettings#readOnly() readOnly} forced on.
+   *
+   * @param primary primary database configuration
+   * @param replicas replica database configurations
+   * @param settings connection settings
+   * @return a new routing source with default routing options
+   */
+  public static ReplicaRoutingConnectionSource create(
+      DatabaseConfig primary,
+      List<? extends DatabaseConfig> replicas,
+      ConnectionSettings settings) {
+    Builder builder = builder(SimpleDataSource.create(primary, settings));
+    ConnectionSettings replicaSettings = settings.withReadOnly(true);
+    for (DatabaseConfig replica : replicas) {
+      builder.replica(SimpleDataSource.create(replica, replicaSettings));
+    }
+    return builder.build();
+  }
+
+  /** Get a connection to the primary. */
+  @Override
+  public Connection getConnection() throws SQLException {
+    return primary.getConnection();
+  }
+
+  /**
+   * Get a connection to a replica, or to the primary if no replica is usable and fallback is
+   * enabled. Callers must close the connection.
+   *
+   * @return a connection suitable for read-only work
+   * @throws SQLException if no connection could be obtained
+   */
+  public Connection getReadConnection() throws SQLException {
+    return acquireRead().conn;
+  }
+
+  private Lease acquireRead() throws SQLException {
+    List<Replica> candidates = new ArrayList<>(replicas.size());
+    for (Replica replica : replicas) {
+      if (!replica.lagging || lagCheckDue(replica)) {
+        candidates.add(replica);
+      }
+    }
+    SQLException lastFailure = null;
+    while (!candidates.isEmpty()) {
+      Replica replica = selector.select(candidates);
+      candidates.remove(replica);
+      Connection conn;
+      try {
+        conn = replica.source.getConnection();
+      } catch (SQLException e) {
+        replica.failures.incrementAndGet();
+        lastFailure = e;
+        continue;
+      }
+      if (lagCheckDue(replica)) {
+        try {
+          checkLag(replica, conn);
+        } catch (SQLException e) {
+          replica.failures.incrementAndGet();
+          lastFailure = e;
+          conn.close();
+          continue;
+        }
+        if (replica.lagging) {
+          conn.close();
+          continue;
+        }
+      }
+      return new Lease(replica, conn, System.nanoTime());
+    }
+    if (fallbackToPrimary || replicas.isEmpty()) {
+      return new Lease(null, primary.getConnection(), System.nanoTime());
+    }
+    throw new SQLException("No replica available for read-only work", lastFailure);
+  }
+
+  /**
+   * Create a Transactor. Read-only strategies are routed to a replica, all others to the primary.
+   *
+   * @param strategy the transaction management strategy
+   * @return a Transactor for the primary or for the replicas
+   */
+  @Override
+  public Transactor transactor(Strategy strategy) {
+    if (!strategy.readOnly()) {
+      return ConnectionSource.super.transactor(strategy);
+    }
+    Strategy tracked =
+        new Strategy(
+            strategy.before(),
+            strategy.after(),
+            strategy.oops(),
+            conn -> {
+              release(conn);
+              strategy.always().apply(conn);
+            },
+            true);
+    return new Transactor(
+        () -> {
+          Lease lease = acquireRead();
+          if (lease.replica != null) {
+            lease.replica.inFlight.incrementAndGet();
+            leases.put(lease.conn, lease);
+          }
+          return lease.conn;
+        },
+        tracked);
+  }
+
+  /**
+   * Create a Transactor for read-only work with {@link Transactor#readOnlyStrategy()}.
+   *
+   * @return a Transactor which uses the replicas
+   */
+  public Transactor readTransactor() {
+    return transactor(Transactor.readOnlyStrategy());
+  }
+
+  /**
+   * Execute a read-only operation on a replica.
+   *
+   * @param <T> the result type
+   * @param operation the operation to execute with a connection
+   * @return the operation result
+   * @throws SQLException if a database error occurs
+   */
+  public <T> T executeRead(SqlFunction<Connection, T> operation) throws SQLException {
+    return readTransactor().execute(operation);
+  }
+
+  /**
+   * Execute a read-only Operation on a replica.
+   *
+   * @param <T> the result type
+   * @param op the Operation to execute
+   * @return the operation result
+   * @throws SQLException if a database error occurs
+   */
+  public <T> T executeRead(Operation<T> op) throws SQLException {
+    return readTransactor().execute(op);
+  }
+
+  /** Get the primary connection source. */
+  public ConnectionSource primary() {
+    return primary;
+  }
+
+  /** Get the replicas, with their current load, latency and lag statistics. */
+  public List<Replica> replicas() {
+    return replicas;
+  }
+
+  private boolean lagCheckDue(Replica replica) {
+    return maxReplicationLag != null
+        && (!replica.lagChecked
+            || System.nanoTime() - replica.lastLagCheckNanos >= lagCheckInterval.toNanos());
+  }
+
+  private void checkLag(Replica replica, Connection conn) throws SQLException {
+    Duration lag = lagProbe.lag(conn);
+    replica.lag = lag;
+    replica.lagging = lag.compareTo(maxReplicationLag) > 0;
+    replica.lastLagCheckNanos = System.nanoTime();
+    replica.lagChecked = true;
+  }
+
+  private void release(Connection conn) {
+    Lease lease = leases.remove(conn);
+    if (lease != null) {
+      lease.replica.inFlight.decrementAndGet();
+      lease.replica.recordLatency(System.nanoTime() - lease.startNanos);
+    }
+  }
+
+  /** A connection and the replica it came from, or {@code null} for the primary. */
+  private record Lease(Replica replica, Connection conn, long startNanos) {}
+
+  /** A replica together with the statistics used for routing. */
+  public static final class Replica {
+    private final ConnectionSource source;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private volatile double averageLatencyNanos = 0;
+    private volatile Duration lag = Duration.ZERO;
+    private volatile boolean lagging = false;
+    private volatile boolean lagChecked = false;
+    private volatile long lastLagCheckNanos = 0;
+
+    private Replica(ConnectionSource source) {
+      this.source = source;
+    }
+
+    private void recordLatency(long nanos) {
+      // exponentially weighted moving average, so routing follows recent behaviour
+      double current = averageLatencyNanos;
+      averageLatencyNanos = current == 0 ? nanos : current * 0.8 + nanos * 0.2;
+    }
+
+    /** The connection source for this replica. */
+    public ConnectionSource source() {
+      return source;
+    }
+
+    /** Number of transactions currently running on this replica. */
+    public int inFlight() {
+      return inFlight.get();
+    }
+
+    /** Number of failed attempts to obtain a connection or check lag. */
+    public int failures() {
+      return failures.get();
+    }
+
+    /** Moving average of transaction duration on this replica. */
+    public Duration averageLatency() {
+      return Duration.ofNanos((long) averageLatencyNanos);
+    }
+
+    /** Replication lag as of the last check. */
+    public Duration lag() {
+      return lag;
+    }
+
+    /** Whether the last lag check found this replica too far behind. */
+    public boolean lagging() {
+      return lagging;
+    }
+  }
+
+  /** Chooses which replica serves the next read. */
+  @FunctionalInterface
+  public interface Selector {
+    /**
+     * Select a replica.
+     *
+     * @param candidates the usable replicas, never empty
+     * @return one of the candidates
+     */
+    Replica select(List<Replica> candidates);
+
+    /** Cycle through the replicas. */
+    static Selector roundRobin() {
+      AtomicInteger next = new AtomicInteger();
+      return candidates -> candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    /** Pick the replica with the fewest transactions in flight. */
+    static Selector leastInFlight() {
+      return candidates -> {
+        Replica best = candidates.get(0);
+        for (Replica candidate : candidates) {
+          if (candidate.inFlight() < best.inFlight()) {
+            best = candidate;
+          }
+        }
+        return best;
+      };
+    }
+
+    /** Pick the replica with the lowest average transaction latency. */
+    static Selector lowestLatency() {
+      return candidates -> {
+        Replica best = candidates.get(0);
+        for (Replica candidate : candidates) {
+          if (candidate.averageLatencyNanos < best.averageLatencyNanos) {
+            best = candidate;
+          }
+        }
+        return best;
+      };
+    }
+  }
+
+  /** Measures how far a replica is behind its primary. */
+  @FunctionalInterface
+  public interface LagProbe {
+    /**
+     * Measure replication lag using a connection to the replica.
+     *
+     * @param conn a connection to the replica
+     * @return the replication lag
+     * @throws SQLException if the lag could not be determined
+     */
+    Duration lag(Connection conn) throws SQLException;
+
+    /** PostgreSQL streaming replication: time since the last replayed transaction. */
+    LagProbe POSTGRESQL =
+        conn ->
+            querySeconds(
+                conn,
+                "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0"
+                    + " else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()),"
+                    + " 0) end");
+
+    /** MariaDB replication: {@code Seconds_Behind_Master} from {@code SHOW REPLICA STATUS}. */
+    LagProbe MARIADB =
+        conn -> {
+          try (Statement stmt = conn.createStatement();
+              ResultSet rs = stmt.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+              return Duration.ZERO;
+            }
+            long seconds = rs.getLong("Seconds_Behind_Master");
+            if (rs.wasNull()) {
+              // replication is not running
+              return Duration.ofSeconds(Long.MAX_VALUE);
+            }
+            return Duration.ofSeconds(seconds);
+          }
+        };
+
+    /**
+     * Get the built-in probe for a database kind.
+     *
+     * @param kind the database kind
+     * @return the probe
+     * @throws UnsupportedOperationException if there is no built-in probe for the database
+     */
+    static LagProbe forKind(DatabaseKind kind) {
+      return switch (kind) {
+        case POSTGRESQL -> POSTGRESQL;
+        case MARIADB -> MARIADB;
+        default ->
+            throw new UnsupportedOperationException(
+                "No built-in replication lag probe for " + kind + ", provide a LagProbe");
+      };
+    }
+
+    private static Duration querySeconds(Connection conn, String sql) throws SQLException {
+      try (Statement stmt = conn.createStatement();
+          ResultSet rs = stmt.executeQuery(sql)) {
+        rs.next();
+        return Duration.ofMillis((long) (rs.getDouble(1) * 1000));
+      }
+    }
+  }
+
+  /** Builder for ReplicaRoutingConnectionSource. */
+  public static final class Builder {
+    private final ConnectionSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private Selector selector = Selector.leastInFlight();
+    private Duration maxReplicationLag = null;
+    private LagProbe lagProbe = null;
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+    private boolean fallbackToPrimary = true;
+
+    private Builder(ConnectionSource primary) {
+      this.primary = primary;
+    }
+
+    /**
+     * Add a replica. Replica sources would normally be created with {@link
+     * ConnectionSettings#readOnly()} set.
+     *
+     * @param replica connection source for the replica
+     * @return this builder
+     */
+    public Builder replica(ConnectionSource replica) {
+      replicas.add(new Replica(replica));
+      return this;
+    }
+
+    /**
+     * Set how replicas are chosen. Default: {@link Selector#leastInFlight()}.
+     *
+     * @param selector replica selector
+     * @return this builder
+     */
+    public Builder selector(Selector selector) {
+      this.selector = selector;
+      return this;
+    }
+
+    /**
+     * Skip replicas which are more than {@code maxReplicationLag} behind. Default: no lag checks.
+     *
+     * @param maxReplicationLag the maximum tolerated lag
+     * @param lagProbe how to measure lag, see {@link LagProbe#forKind}
+     * @return this builder
+     */
+    public Builder maxReplicationLag(Duration maxReplicationLag, LagProbe lagProbe) {
+      this.maxReplicationLag = maxReplicationLag;
+      this.lagProbe = lagProbe;
+      return this;
+    }
+
+    /**
+     * How often each replica's lag is re-checked. Default: 1 second.
+     *
+     * @param lagCheckInterval interval between lag checks
+     * @return this builder
+     */
+    public Builder lagCheckInterval(Duration lagCheckInterval) {
+      this.lagCheckInterval = lagCheckInterval;
+      return this;
+    }
+
+    /**
+     * Whether reads go to the primary when no replica is usable. Default: true.
+     *
+     * @param fallbackToPrimary primary fallback
+     * @return this builder
+     */
+    public Builder fallbackToPrimary(boolean fallbackToPrimary) {
+      this.fallbackToPrimary = fallbackToPrimary;
+      return this;
+    }
+
+    /** Build the ReplicaRoutingConnectionSource. */
+    public ReplicaRoutingConnectionSource build() {
+      return new ReplicaRoutingConnectionSource(this);
+    }
+  }
+}
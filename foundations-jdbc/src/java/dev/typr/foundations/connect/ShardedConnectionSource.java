@@ -0,0 +1,204 @@
+package dev.typr.foundations.connect;
+
+import dev.typr.foundations.ShardedTransactor;
+import dev.typr.foundations.Transactor;
+import dev.typr.foundations.Transactor.Strategy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Connection sources for a horizontally partitioned database, one per shard, together with the
+ * function which maps a shard key to a shard.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * var shards = ShardedConnectionSource.of(
+ *     HikariDataSourceFactory.createShards(configs, settings, PoolConfig.defaults()),
+ *     ShardFunction.<CustomerId>hash());
+ *
+ * var tx = shards.transactor();
+ * var customer = tx.execute(customerId, conn -> repo.selectById(customerId, conn));
+ * }</pre>
+ *
+ * @param <K> the shard key type
+ */
+public final class ShardedConnectionSource<K> implements AutoCloseable {
+
+  private final List<ConnectionSource> shards;
+  private final ShardFunction<K> shardFunction;
+
+  private ShardedConnectionSource(List<ConnectionSource> shards, ShardFunction<K> shardFunction) {
+    if (shards.isEmpty()) {
+      throw new IllegalArgumentException("At least one shard is required");
+    }
+    this.shards = shards;
+    this.shardFunction = shardFunction;
+  }
+
+  /**
+   * Create a sharded source. The position of a source in {@code shards} is its shard number.
+   *
+   * @param shards one connection source per shard
+   * @param shardFunction maps shard keys to shard numbers
+   * @return a new sharded source
+   */
+  public static <K> ShardedConnectionSource<K> of(
+      List<? extends ConnectionSource> shards, ShardFunction<K> shardFunction) {
+    return new ShardedConnectionSource<>(List.copyOf(shards), shardFunction);
+  }
+
+  /**
+   * Create a non-pooled sharded source from database configurations.
+   *
+   * @param shards one database configuration per shard
+   * @param settings connection settings applied to every shard
+   * @param shardFunction maps shard keys to shard numbers
+   * @return a new sharded source
+   */
+  public static <K> ShardedConnectionSource<K> create(
+      List<? extends DatabaseConfig> shards,
+      ConnectionSettings settings,
+      ShardFunction<K> shardFunction) {
+    List<ConnectionSource> sources = new ArrayList<>(shards.size());
+    for (DatabaseConfig config : shards) {
+      sources.add(SimpleDataSource.create(config, settings));
+    }
+    return new ShardedConnectionSource<>(List.copyOf(sources), shardFunction);
+  }
+
+  /** Number of shards. */
+  public int shardCount() {
+    return shards.size();
+  }
+
+  /**
+   * Find the shard number for a key.
+   *
+   * @param key the shard key
+   * @return a shard number between 0 and {@link #shardCount()} (exclusive)
+   */
+  public int shardFor(K key) {
+    int shard = shardFunction.shardFor(key, shards.size());
+    if (shard < 0 || shard >= shards.size()) {
+      throw new IllegalStateException(
+          "Shard function returned " + shard + " for " + key + ", expected 0.." + shards.size());
+    }
+    return shard;
+  }
+
+  /** Get the connection source for a shard number. */
+  public ConnectionSource shard(int shard) {
+    return shards.get(shard);
+  }
+
+  /** Get the connection source for the shard which owns {@code key}. */
+  public ConnectionSource shardOf(K key) {
+    return shards.get(shardFor(key));
+  }
+
+  /** Get all shard connection sources, in shard order. */
+  public List<ConnectionSource> shards() {
+    return shards;
+  }
+
+  /**
+   * Get a connection to the shard which owns {@code key}.
+   *
+   * @param key the shard key
+   * @return a configured database connection
+   * @throws SQLException if unable to get a connection
+   */
+  public Connection getConnection(K key) throws SQLException {
+    return shardOf(key).getConnection();
+  }
+
+  /**
+   * Create a ShardedTransactor with the default strategy.
+   *
+   * @return a ShardedTransactor for manual transaction management
+   */
+  public ShardedTransactor<K> transactor() {
+    return transactor(Transactor.defaultStrategy());
+  }
+
+  /**
+   * Create a ShardedTransactor with a custom strategy, used for every shard.
+   *
+   * @param strategy the transaction management strategy
+   * @return a ShardedTransactor
+   */
+  public ShardedTransactor<K> transactor(Strategy strategy) {
+    List<Transactor> transactors = new ArrayList<>(shards.size());
+    for (ConnectionSource shard : shards) {
+      transactors.add(shard.transactor(strategy));
+    }
+    return new ShardedTransactor<>(this, transactors);
+  }
+
+  /** Close every shard source which holds resources, such as connection pools. */
+  @Override
+  public void close() throws Exception {
+    Exception first = null;
+    for (ConnectionSource shard : shards) {
+      if (shard instanceof AutoCloseable closeable) {
+        try {
+          closeable.close();
+        } catch (Exception e) {
+          if (first == null) first = e;
+          else first.addSuppressed(e);
+        }
+      }
+    }
+    if (first != null) {
+      throw first;
+    }
+  }
+
+  /**
+   * Maps a shard key to a shard number.
+   *
+   * @param <K> the shard key type
+   */
+  @FunctionalInterface
+  public interface ShardFunction<K> {
+    /**
+     * Find the shard for a key.
+     *
+     * @param key the shard key
+     * @param shardCount the number of shards
+     * @return a shard number between 0 and {@code shardCount} (exclusive)
+     */
+    int shardFor(K key, int shardCount);
+
+    /**
+     * Shard by {@link Object#hashCode()} modulo the shard count. Only suitable for keys with a
+     * stable hash code, such as strings, numbers, UUIDs and records of those.
+     */
+    static <K> ShardFunction<K> hash() {
+      return (key, shardCount) -> Math.floorMod(key.hashCode(), shardCount);
+    }
+
+    /**
+     * Shard by a numeric value extracted from the key, modulo the shard count.
+     *
+     * @param value extracts a number from the key, such as a tenant id
+     */
+    static <K> ShardFunction<K> modulo(ToLongFunction<K> value) {
+      return (key, shardCount) -> (int) Math.floorMod(value.applyAsLong(key), (long) shardCount);
+    }
+
+    /**
+     * Use a shard number stored in, or computed directly from, the key.
+     *
+     * @param shard extracts the shard number from the key
+     */
+    static <K> ShardFunction<K> explicit(ToIntFunction<K> shard) {
+      return (key, shardCount) -> shard.applyAsInt(key);
+    }
+  }
+}
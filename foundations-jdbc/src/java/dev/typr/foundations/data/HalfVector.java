@@ -0,0 +1,75 @@
+package dev.typr.foundations.data;
+
+import java.util.Arrays;
+
+/**
+ * pgvector {@code halfvec}: half-precision floats, held as floats in Java. Values are rounded to
+ * half precision when they are sent to the database.
+ */
+public record HalfVector(float[] values) {
+  public static HalfVector parse(String value) {
+    return parse(value, 0, value.length());
+  }
+
+  /** Parse the pgvector text format, {@code [1,2.5,3]}, from a span of a larger text. */
+  public static HalfVector parse(CharSequence text, int start, int end) {
+    return new HalfVector(VectorFormat.parseFloats(text, start, end));
+  }
+
+  /**
+   * Decode the pgvector binary format: the dimension count and an unused int16, followed by the
+   * elements as IEEE 754 binary16, all big-endian.
+   */
+  public static HalfVector fromBinary(byte[] b, int off, int len) {
+    int dim = VectorFormat.int2(b, off);
+    VectorFormat.checkLength(4 + 2 * dim, len, "halfvec");
+    float[] values = new float[dim];
+    for (int i = 0, p = off + 4; i < dim; i++, p += 2) {
+      values[i] = Float.float16ToFloat((short) VectorFormat.int2(b, p));
+    }
+    return new HalfVector(values);
+  }
+
+  /** Size of the binary format of this vector. */
+  public int binaryLength() {
+    return 4 + 2 * values.length;
+  }
+
+  /** Write the binary format of this vector into {@code dst}, which has room for it. */
+  public void writeBinary(byte[] dst, int off) {
+    VectorFormat.putInt2(dst, off, values.length);
+    VectorFormat.putInt2(dst, off + 2, 0);
+    for (int i = 0, p = off + 4; i < values.length; i++, p += 2) {
+      VectorFormat.putInt2(dst, p, Float.floatToFloat16(values[i]));
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj instanceof HalfVector other) {
+      return Arrays.equals(values, other.values);
+    }
+    return false;
+  }
+
+  /** Returns the vector in pgvector format: [1,2.5,3] */
+  public String value() {
+    var sb = new StringBuilder(2 + values.length * 8);
+    appendTo(sb);
+    return sb.toString();
+  }
+
+  /** Append the vector in pgvector format. */
+  public void appendTo(StringBuilder sb) {
+    VectorFormat.appendFloats(values, sb);
+  }
+
+  public HalfVector(String value) {
+    this(HalfVector.parse(value).values);
+  }
+}
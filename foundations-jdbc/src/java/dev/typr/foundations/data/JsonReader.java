@@ -0,0 +1,404 @@
+package dev.typr.foundations.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pull reader for JSON text. Walks a JSON document token by token without building a {@link
+ * JsonValue} tree, so that large documents such as MULTISET results can be decoded straight into
+ * rows. Separators ({@code ,} and {@code :}) are handled by the reader.
+ *
+ * <pre>{@code
+ * var reader = new JsonReader("[[1,\"a\"],[2,\"b\"]]");
+ * reader.beginArray();
+ * while (reader.hasNext()) {
+ *   reader.beginArray();
+ *   int id = Integer.parseInt(reader.nextNumber());
+ *   String name = reader.nextString();
+ *   reader.endArray();
+ * }
+ * reader.endArray();
+ * }</pre>
+ *
+ * <p>Accepts the same input as {@link JsonValue#parse(String)}, including the leading zeros DB2
+ * produces for negative decimals.
+ */
+public final class JsonReader {
+
+  /** The kind of the next token in the document. */
+  public enum Token {
+    BEGIN_ARRAY,
+    END_ARRAY,
+    BEGIN_OBJECT,
+    END_OBJECT,
+    NAME,
+    STRING,
+    NUMBER,
+    BOOLEAN,
+    NULL,
+    END_DOCUMENT
+  }
+
+  private static final int EMPTY_ARRAY = 1;
+  private static final int NONEMPTY_ARRAY = 2;
+  private static final int EMPTY_OBJECT = 3;
+  private static final int DANGLING_NAME = 4;
+  private static final int NONEMPTY_OBJECT = 5;
+  private static final int EMPTY_DOCUMENT = 6;
+  private static final int NONEMPTY_DOCUMENT = 7;
+
+  private final String json;
+  private int pos = 0;
+  private int[] stack = new int[16];
+  private int depth = 1;
+  private Token peeked;
+
+  public JsonReader(String json) {
+    if (json == null || json.isEmpty()) {
+      throw new IllegalArgumentException("Empty JSON string");
+    }
+    this.json = json;
+    this.stack[0] = EMPTY_DOCUMENT;
+  }
+
+  /** The kind of the next token, without consuming it. */
+  public Token peek() {
+    if (peeked == null) {
+      peeked = doPeek();
+    }
+    return peeked;
+  }
+
+  /** Whether the current array or object has another element. */
+  public boolean hasNext() {
+    Token t = peek();
+    return t != Token.END_ARRAY && t != Token.END_OBJECT && t != Token.END_DOCUMENT;
+  }
+
+  /** Consume the start of an array. */
+  public void beginArray() {
+    expect(Token.BEGIN_ARRAY);
+    pos++;
+    push(EMPTY_ARRAY);
+    peeked = null;
+  }
+
+  /** Consume the end of the current array. */
+  public void endArray() {
+    expect(Token.END_ARRAY);
+    pos++;
+    depth--;
+    peeked = null;
+  }
+
+  /** Consume the start of an object. */
+  public void beginObject() {
+    expect(Token.BEGIN_OBJECT);
+    pos++;
+    push(EMPTY_OBJECT);
+    peeked = null;
+  }
+
+  /** Consume the end of the current object. */
+  public void endObject() {
+    expect(Token.END_OBJECT);
+    pos++;
+    depth--;
+    peeked = null;
+  }
+
+  /** Consume an object key. */
+  public String nextName() {
+    expect(Token.NAME);
+    peeked = null;
+    return readString();
+  }
+
+  /** Consume a string value. */
+  public String nextString() {
+    expect(Token.STRING);
+    peeked = null;
+    return readString();
+  }
+
+  /** Consume a number value, returned as its JSON text to keep full precision. */
+  public String nextNumber() {
+    expect(Token.NUMBER);
+    peeked = null;
+    int start = pos;
+    if (json.charAt(pos) == '-') {
+      pos++;
+    }
+    skipDigits();
+    if (pos < json.length() && json.charAt(pos) == '.') {
+      pos++;
+      skipDigits();
+    }
+    if (pos < json.length() && (json.charAt(pos) == 'e' || json.charAt(pos) == 'E')) {
+      pos++;
+      if (pos < json.length() && (json.charAt(pos) == '+' || json.charAt(pos) == '-')) {
+        pos++;
+      }
+      skipDigits();
+    }
+    return json.substring(start, pos);
+  }
+
+  /** Consume a boolean value. */
+  public boolean nextBoolean() {
+    expect(Token.BOOLEAN);
+    peeked = null;
+    if (json.charAt(pos) == 't') {
+      literal("true");
+      return true;
+    }
+    literal("false");
+    return false;
+  }
+
+  /** Consume a null value. */
+  public void nextNull() {
+    expect(Token.NULL);
+    peeked = null;
+    literal("null");
+  }
+
+  /** Consume the next value, including everything nested in it, without decoding it. */
+  public void skipValue() {
+    int nesting = 0;
+    do {
+      switch (peek()) {
+        case BEGIN_ARRAY -> {
+          beginArray();
+          nesting++;
+        }
+        case BEGIN_OBJECT -> {
+          beginObject();
+          nesting++;
+        }
+        case END_ARRAY -> {
+          endArray();
+          nesting--;
+        }
+        case END_OBJECT -> {
+          endObject();
+          nesting--;
+        }
+        case NAME -> nextName();
+        case STRING -> nextString();
+        case NUMBER -> nextNumber();
+        case BOOLEAN -> nextBoolean();
+        case NULL -> nextNull();
+        case END_DOCUMENT -> throw new IllegalArgumentException("Unexpected end of JSON");
+      }
+    } while (nesting > 0);
+  }
+
+  /**
+   * Consume the next value as a {@link JsonValue} tree. Used for values whose codec has no
+   * streaming decoder; only that value is materialized.
+   */
+  public JsonValue readValue() {
+    return switch (peek()) {
+      case NULL -> {
+        nextNull();
+        yield JsonValue.JNull.INSTANCE;
+      }
+      case BOOLEAN -> JsonValue.JBool.of(nextBoolean());
+      case NUMBER -> new JsonValue.JNumber(nextNumber());
+      case STRING -> new JsonValue.JString(nextString());
+      case BEGIN_ARRAY -> {
+        beginArray();
+        List<JsonValue> values = new ArrayList<>();
+        while (hasNext()) {
+          values.add(readValue());
+        }
+        endArray();
+        yield new JsonValue.JArray(values);
+      }
+      case BEGIN_OBJECT -> {
+        beginObject();
+        Map<String, JsonValue> fields = new LinkedHashMap<>();
+        while (hasNext()) {
+          String name = nextName();
+          fields.put(name, readValue());
+        }
+        endObject();
+        yield new JsonValue.JObject(fields);
+      }
+      default -> throw unexpected("a value");
+    };
+  }
+
+  /** Fail unless the whole document has been consumed. */
+  public void endDocument() {
+    expect(Token.END_DOCUMENT);
+  }
+
+  private Token doPeek() {
+    int scope = stack[depth - 1];
+    switch (scope) {
+      case EMPTY_ARRAY -> {
+        stack[depth - 1] = NONEMPTY_ARRAY;
+        if (nextNonWhitespace() == ']') {
+          return Token.END_ARRAY;
+        }
+      }
+      case NONEMPTY_ARRAY -> {
+        char c = nextNonWhitespace();
+        if (c == ']') {
+          return Token.END_ARRAY;
+        } else if (c != ',') {
+          throw new IllegalArgumentException("Expected ',' or ']' in array at position " + pos);
+        }
+        pos++;
+      }
+      case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+        stack[depth - 1] = DANGLING_NAME;
+        char c = nextNonWhitespace();
+        if (c == '}') {
+          return Token.END_OBJECT;
+        }
+        if (scope == NONEMPTY_OBJECT) {
+          if (c != ',') {
+            throw new IllegalArgumentException("Expected ',' or '}' in object at position " + pos);
+          }
+          pos++;
+          c = nextNonWhitespace();
+        }
+        if (c != '"') {
+          throw new IllegalArgumentException("Expected string key in object at position " + pos);
+        }
+        return Token.NAME;
+      }
+      case DANGLING_NAME -> {
+        stack[depth - 1] = NONEMPTY_OBJECT;
+        if (nextNonWhitespace() != ':') {
+          throw new IllegalArgumentException("Expected ':' after object key at position " + pos);
+        }
+        pos++;
+      }
+      case EMPTY_DOCUMENT -> stack[depth - 1] = NONEMPTY_DOCUMENT;
+      default -> {
+        skipWhitespace();
+        if (pos < json.length()) {
+          throw new IllegalArgumentException(
+              "Unexpected content after JSON value at position " + pos);
+        }
+        return Token.END_DOCUMENT;
+      }
+    }
+    char c = nextNonWhitespace();
+    return switch (c) {
+      case '[' -> Token.BEGIN_ARRAY;
+      case '{' -> Token.BEGIN_OBJECT;
+      case '"' -> Token.STRING;
+      case 't', 'f' -> Token.BOOLEAN;
+      case 'n' -> Token.NULL;
+      case '-', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> Token.NUMBER;
+      default ->
+          throw new IllegalArgumentException("Unexpected character '" + c + "' at position " + pos);
+    };
+  }
+
+  private String readString() {
+    pos++; // opening quote
+    int start = pos;
+    // fast path: no escapes, so the value is a plain substring
+    while (pos < json.length()) {
+      char c = json.charAt(pos);
+      if (c == '"') {
+        return json.substring(start, pos++);
+      } else if (c == '\\') {
+        break;
+      }
+      pos++;
+    }
+    StringBuilder sb = new StringBuilder(pos - start + 16);
+    sb.append(json, start, pos);
+    while (pos < json.length()) {
+      char c = json.charAt(pos);
+      if (c == '"') {
+        pos++;
+        return sb.toString();
+      } else if (c == '\\') {
+        pos++;
+        if (pos >= json.length()) {
+          throw new IllegalArgumentException("Unexpected end of string escape");
+        }
+        char escaped = json.charAt(pos);
+        switch (escaped) {
+          case '"' -> sb.append('"');
+          case '\\' -> sb.append('\\');
+          case '/' -> sb.append('/');
+          case 'b' -> sb.append('\b');
+          case 'f' -> sb.append('\f');
+          case 'n' -> sb.append('\n');
+          case 'r' -> sb.append('\r');
+          case 't' -> sb.append('\t');
+          case 'u' -> {
+            if (pos + 4 >= json.length()) {
+              throw new IllegalArgumentException("Incomplete unicode escape");
+            }
+            sb.append((char) Integer.parseInt(json, pos + 1, pos + 5, 16));
+            pos += 4;
+          }
+          default -> throw new IllegalArgumentException("Invalid escape character: " + escaped);
+        }
+        pos++;
+      } else {
+        sb.append(c);
+        pos++;
+      }
+    }
+    throw new IllegalArgumentException("Unterminated string");
+  }
+
+  private void expect(Token expected) {
+    if (peek() != expected) {
+      throw unexpected(expected.toString());
+    }
+  }
+
+  private IllegalArgumentException unexpected(String expected) {
+    return new IllegalArgumentException(
+        "Expected " + expected + ", got " + peek() + " at position " + pos);
+  }
+
+  private void literal(String s) {
+    if (!json.regionMatches(pos, s, 0, s.length())) {
+      throw new IllegalArgumentException("Expected '" + s + "' at position " + pos);
+    }
+    pos += s.length();
+  }
+
+  private void push(int scope) {
+    if (depth == stack.length) {
+      stack = Arrays.copyOf(stack, depth * 2);
+    }
+    stack[depth++] = scope;
+  }
+
+  private char nextNonWhitespace() {
+    skipWhitespace();
+    if (pos >= json.length()) {
+      throw new IllegalArgumentException("Unexpected end of JSON");
+    }
+    return json.charAt(pos);
+  }
+
+  private void skipWhitespace() {
+    while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+      pos++;
+    }
+  }
+
+  private void skipDigits() {
+    while (pos < json.length() && Character.isDigit(json.charAt(pos))) {
+      pos++;
+    }
+  }
+}
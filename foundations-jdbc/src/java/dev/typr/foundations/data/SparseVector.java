@@ -0,0 +1,132 @@
+package dev.typr.foundations.data;
+
+import java.util.Arrays;
+
+/**
+ * pgvector {@code sparsevec}: the non-zero elements of a vector with {@code dimensions} elements.
+ *
+ * <p>{@code indices} are zero-based and ascending, and {@code values} holds the element at each
+ * index. The text format uses one-based indices: {@code {1:1.5,3:2}/5}.
+ */
+public record SparseVector(int dimensions, int[] indices, float[] values) {
+  public SparseVector {
+    if (indices.length != values.length) {
+      throw new IllegalArgumentException(
+          "sparsevec has " + indices.length + " indices but " + values.length + " values");
+    }
+  }
+
+  public static SparseVector parse(String value) {
+    return parse(value, 0, value.length());
+  }
+
+  /** Parse the pgvector text format, {@code {1:1.5,3:2}/5}, from a span of a larger text. */
+  public static SparseVector parse(CharSequence text, int start, int end) {
+    int close = VectorFormat.indexOf(text, start, end, '}');
+    int open = VectorFormat.indexOf(text, start, close, '{');
+    int slash = VectorFormat.indexOf(text, close, end, '/');
+    if (open == close || close == end || slash == end) {
+      throw new IllegalArgumentException(
+          "Invalid sparsevec: '" + text.subSequence(start, end) + "'");
+    }
+    int dimensions = VectorFormat.parseInt(text, slash + 1, end);
+    if (VectorFormat.isBlank(text, open + 1, close)) {
+      return new SparseVector(dimensions, new int[0], new float[0]);
+    }
+    int nnz = VectorFormat.count(text, open + 1, close, ',') + 1;
+    int[] indices = new int[nnz];
+    float[] values = new float[nnz];
+    int elementStart = open + 1;
+    for (int i = 0; i < nnz; i++) {
+      int elementEnd = VectorFormat.indexOf(text, elementStart, close, ',');
+      int colon = VectorFormat.indexOf(text, elementStart, elementEnd, ':');
+      if (colon == elementEnd) {
+        throw new IllegalArgumentException(
+            "Invalid sparsevec element: '" + text.subSequence(elementStart, elementEnd) + "'");
+      }
+      indices[i] = VectorFormat.parseInt(text, elementStart, colon) - 1;
+      values[i] = VectorFormat.parseFloat(text, colon + 1, elementEnd);
+      elementStart = elementEnd + 1;
+    }
+    return new SparseVector(dimensions, indices, values);
+  }
+
+  /**
+   * Decode the pgvector binary format: dimensions, number of non-zero elements and an unused int32,
+   * followed by the zero-based indices as int32 and the values as float4, all big-endian.
+   */
+  public static SparseVector fromBinary(byte[] b, int off, int len) {
+    int dimensions = VectorFormat.int4(b, off);
+    int nnz = VectorFormat.int4(b, off + 4);
+    VectorFormat.checkLength(12 + 8 * nnz, len, "sparsevec");
+    int[] indices = new int[nnz];
+    float[] values = new float[nnz];
+    int indexStart = off + 12;
+    int valueStart = indexStart + 4 * nnz;
+    for (int i = 0; i < nnz; i++) {
+      indices[i] = VectorFormat.int4(b, indexStart + 4 * i);
+      values[i] = Float.intBitsToFloat(VectorFormat.int4(b, valueStart + 4 * i));
+    }
+    return new SparseVector(dimensions, indices, values);
+  }
+
+  /** Size of the binary format of this vector. */
+  public int binaryLength() {
+    return 12 + 8 * indices.length;
+  }
+
+  /** Write the binary format of this vector into {@code dst}, which has room for it. */
+  public void writeBinary(byte[] dst, int off) {
+    VectorFormat.putInt4(dst, off, dimensions);
+    VectorFormat.putInt4(dst, off + 4, indices.length);
+    VectorFormat.putInt4(dst, off + 8, 0);
+    int indexStart = off + 12;
+    int valueStart = indexStart + 4 * indices.length;
+    for (int i = 0; i < indices.length; i++) {
+      VectorFormat.putInt4(dst, indexStart + 4 * i, indices[i]);
+      VectorFormat.putInt4(dst, valueStart + 4 * i, Float.floatToIntBits(values[i]));
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * dimensions + Arrays.hashCode(indices)) + Arrays.hashCode(values);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj instanceof SparseVector other) {
+      return dimensions == other.dimensions
+          && Arrays.equals(indices, other.indices)
+          && Arrays.equals(values, other.values);
+    }
+    return false;
+  }
+
+  /** Returns the vector in pgvector format: {1:1.5,3:2.0}/5 */
+  public String value() {
+    var sb = new StringBuilder(8 + indices.length * 16);
+    appendTo(sb);
+    return sb.toString();
+  }
+
+  /** Append the vector in pgvector format. */
+  public void appendTo(StringBuilder sb) {
+    sb.append('{');
+    for (int i = 0; i < indices.length; i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append(indices[i] + 1).append(':').append(values[i]);
+    }
+    sb.append("}/").append(dimensions);
+  }
+
+  public SparseVector(String value) {
+    this(SparseVector.parse(value));
+  }
+
+  private SparseVector(SparseVector parsed) {
+    this(parsed.dimensions, parsed.indices, parsed.values);
+  }
+}
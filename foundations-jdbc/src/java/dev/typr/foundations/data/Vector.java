@@ -2,22 +2,48 @@ package dev.typr.foundations.data;
 
 import java.util.Arrays;
 
+/**
+ * pgvector {@code vector}: single-precision floats.
+ *
+ * <p>The values array is used as is, without copying, by the decoders that create it and the
+ * encoders that read it.
+ */
 public record Vector(float[] values) {
   public static Vector parse(String value) {
-    // Handle pgvector format: "[1.0,2.2,3.3]"
-    var trimmed = value.trim();
-    if (trimmed.startsWith("[") && trimmed.endsWith("]")) {
-      trimmed = trimmed.substring(1, trimmed.length() - 1);
-    }
-    if (trimmed.isEmpty()) {
-      return new Vector(new float[0]);
+    return parse(value, 0, value.length());
+  }
+
+  /** Parse the pgvector text format, {@code [1.0,2.2,3.3]}, from a span of a larger text. */
+  public static Vector parse(CharSequence text, int start, int end) {
+    return new Vector(VectorFormat.parseFloats(text, start, end));
+  }
+
+  /**
+   * Decode the pgvector binary format: the dimension count and an unused int16, followed by the
+   * elements as float4, all big-endian.
+   */
+  public static Vector fromBinary(byte[] b, int off, int len) {
+    int dim = VectorFormat.int2(b, off);
+    VectorFormat.checkLength(4 + 4 * dim, len, "vector");
+    float[] values = new float[dim];
+    for (int i = 0, p = off + 4; i < dim; i++, p += 4) {
+      values[i] = Float.intBitsToFloat(VectorFormat.int4(b, p));
     }
-    var parts = trimmed.split(",");
-    var ret = new float[parts.length];
-    for (var i = 0; i < parts.length; i++) {
-      ret[i] = Float.parseFloat(parts[i].trim());
+    return new Vector(values);
+  }
+
+  /** Size of the binary format of this vector. */
+  public int binaryLength() {
+    return 4 + 4 * values.length;
+  }
+
+  /** Write the binary format of this vector into {@code dst}, which has room for it. */
+  public void writeBinary(byte[] dst, int off) {
+    VectorFormat.putInt2(dst, off, values.length);
+    VectorFormat.putInt2(dst, off + 2, 0);
+    for (int i = 0, p = off + 4; i < values.length; i++, p += 4) {
+      VectorFormat.putInt4(dst, p, Float.floatToIntBits(values[i]));
     }
-    return new Vector(ret);
   }
 
   @Override
@@ -35,17 +61,16 @@ public record Vector(float[] values) {
 
   /** Returns the vector in pgvector format: [1.0,2.2,3.3] */
   public String value() {
-    var sb = new StringBuilder("[");
-    for (var i = 0; i < values.length; i++) {
-      if (i > 0) {
-        sb.append(",");
-      }
-      sb.append(values[i]);
-    }
-    sb.append("]");
+    var sb = new StringBuilder(2 + values.length * 12);
+    appendTo(sb);
     return sb.toString();
   }
 
+  /** Append the vector in pgvector format. */
+  public void appendTo(StringBuilder sb) {
+    VectorFormat.appendFloats(values, sb);
+  }
+
   public Vector(String value) {
     this(Vector.parse(value).values);
   }
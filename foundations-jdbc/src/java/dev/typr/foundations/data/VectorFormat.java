@@ -0,0 +1,184 @@
+package dev.typr.foundations.data;
+
+/**
+ * Text and binary helpers shared by the pgvector types {@link Vector}, {@link HalfVector} and
+ * {@link SparseVector}.
+ *
+ * <p>Text elements are parsed in place, without splitting the text into strings first. Numbers with
+ * few significant digits, which is what pgvector prints for most embeddings, take a fast path which
+ * is exact: both the integer mantissa and the power of ten are exact floats, so a single float
+ * multiplication or division rounds correctly. Everything else goes to {@link Float#parseFloat}.
+ */
+final class VectorFormat {
+  private VectorFormat() {}
+
+  private static final float[] POWERS_OF_TEN = {
+    1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+  };
+
+  /** Largest mantissa for which every integer up to it is an exact float. */
+  private static final long MAX_EXACT_MANTISSA = 1L << 24;
+
+  /** Parse {@code [1,2.5,3]} into a float array of exactly the right size. */
+  static float[] parseFloats(CharSequence text, int start, int end) {
+    while (start < end && Character.isWhitespace(text.charAt(start))) start++;
+    while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+    if (start < end && text.charAt(start) == '[' && text.charAt(end - 1) == ']') {
+      start++;
+      end--;
+    }
+    if (isBlank(text, start, end)) {
+      return new float[0];
+    }
+    float[] values = new float[count(text, start, end, ',') + 1];
+    int elementStart = start;
+    for (int i = 0; i < values.length; i++) {
+      int elementEnd = indexOf(text, elementStart, end, ',');
+      values[i] = parseFloat(text, elementStart, elementEnd);
+      elementStart = elementEnd + 1;
+    }
+    return values;
+  }
+
+  /** Append {@code [1.0,2.5,3.0]}. */
+  static void appendFloats(float[] values, StringBuilder sb) {
+    sb.append('[');
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append(values[i]);
+    }
+    sb.append(']');
+  }
+
+  /** Parse one float from a span, ignoring surrounding whitespace. */
+  static float parseFloat(CharSequence text, int start, int end) {
+    while (start < end && Character.isWhitespace(text.charAt(start))) start++;
+    while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+
+    int p = start;
+    boolean negative = false;
+    if (p < end && (text.charAt(p) == '-' || text.charAt(p) == '+')) {
+      negative = text.charAt(p) == '-';
+      p++;
+    }
+    long mantissa = 0;
+    int digits = 0;
+    int exponent = 0;
+    boolean sawDot = false;
+    for (; p < end; p++) {
+      char c = text.charAt(p);
+      if (c >= '0' && c <= '9') {
+        if (mantissa > MAX_EXACT_MANTISSA) {
+          return slowParse(text, start, end);
+        }
+        mantissa = mantissa * 10 + (c - '0');
+        digits++;
+        if (sawDot) exponent--;
+      } else if (c == '.' && !sawDot) {
+        sawDot = true;
+      } else {
+        break;
+      }
+    }
+    if (p < end && (text.charAt(p) == 'e' || text.charAt(p) == 'E')) {
+      p++;
+      boolean negativeExponent = false;
+      if (p < end && (text.charAt(p) == '-' || text.charAt(p) == '+')) {
+        negativeExponent = text.charAt(p) == '-';
+        p++;
+      }
+      int explicit = 0;
+      int exponentDigits = 0;
+      for (; p < end && exponentDigits < 4; p++, exponentDigits++) {
+        char c = text.charAt(p);
+        if (c < '0' || c > '9') break;
+        explicit = explicit * 10 + (c - '0');
+      }
+      if (exponentDigits == 0) {
+        return slowParse(text, start, end);
+      }
+      exponent += negativeExponent ? -explicit : explicit;
+    }
+    if (p != end || digits == 0 || mantissa > MAX_EXACT_MANTISSA) {
+      return slowParse(text, start, end);
+    }
+    float value;
+    if (exponent == 0) {
+      value = mantissa;
+    } else if (exponent > 0 && exponent < POWERS_OF_TEN.length) {
+      value = mantissa * POWERS_OF_TEN[exponent];
+    } else if (exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+      value = mantissa / POWERS_OF_TEN[-exponent];
+    } else {
+      return slowParse(text, start, end);
+    }
+    return negative ? -value : value;
+  }
+
+  private static float slowParse(CharSequence text, int start, int end) {
+    return Float.parseFloat(text.subSequence(start, end).toString());
+  }
+
+  static int parseInt(CharSequence text, int start, int end) {
+    while (start < end && Character.isWhitespace(text.charAt(start))) start++;
+    while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+    return Integer.parseInt(text, start, end, 10);
+  }
+
+  static boolean isBlank(CharSequence text, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (!Character.isWhitespace(text.charAt(i))) return false;
+    }
+    return true;
+  }
+
+  static int count(CharSequence text, int start, int end, char c) {
+    int n = 0;
+    for (int i = start; i < end; i++) {
+      if (text.charAt(i) == c) n++;
+    }
+    return n;
+  }
+
+  /** Index of {@code c} in the span, or {@code end} if it does not occur. */
+  static int indexOf(CharSequence text, int start, int end, char c) {
+    for (int i = start; i < end; i++) {
+      if (text.charAt(i) == c) return i;
+    }
+    return end;
+  }
+
+  // Big-endian binary helpers
+
+  static int int2(byte[] b, int off) {
+    return (short) (((b[off] & 0xff) << 8) | (b[off + 1] & 0xff));
+  }
+
+  static int int4(byte[] b, int off) {
+    return ((b[off] & 0xff) << 24)
+        | ((b[off + 1] & 0xff) << 16)
+        | ((b[off + 2] & 0xff) << 8)
+        | (b[off + 3] & 0xff);
+  }
+
+  static void putInt2(byte[] b, int off, int value) {
+    b[off] = (byte) (value >>> 8);
+    b[off + 1] = (byte) value;
+  }
+
+  static void putInt4(byte[] b, int off, int value) {
+    b[off] = (byte) (value >>> 24);
+    b[off + 1] = (byte) (value >>> 16);
+    b[off + 2] = (byte) (value >>> 8);
+    b[off + 3] = (byte) value;
+  }
+
+  static void checkLength(int expected, int actual, String typeName) {
+    if (expected != actual) {
+      throw new IllegalArgumentException(
+          "Invalid binary " + typeName + ": expected " + expected + " bytes, got " + actual);
+    }
+  }
+}
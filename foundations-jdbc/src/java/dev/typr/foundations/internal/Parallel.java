@@ -0,0 +1,90 @@
+package dev.typr.foundations.internal;
+
+import dev.typr.foundations.SqlSupplier;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs independent database tasks concurrently on virtual threads, with an optional concurrency
+ * cap. If any task fails, the tasks still running are cancelled (interrupted), tasks not yet
+ * started never run, and the first failure is rethrown.
+ */
+public final class Parallel {
+  private Parallel() {} // prevent instantiation
+
+  /** No limit on concurrency. */
+  public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+  /**
+   * Run all tasks and return their results in task order.
+   *
+   * @param tasks the tasks to run
+   * @param maxConcurrency maximum number of tasks running at the same time
+   * @return the results, in the same order as {@code tasks}
+   * @throws SQLException the first failure, if a task threw an SQLException
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> List<T> run(List<? extends SqlSupplier<? extends T>> tasks, int maxConcurrency)
+      throws SQLException {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+    }
+    if (tasks.size() == 1) {
+      return Collections.singletonList(tasks.get(0).get());
+    }
+    Object[] results = new Object[tasks.size()];
+    Semaphore permits = new Semaphore(Math.min(maxConcurrency, tasks.size()));
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      ExecutorCompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+      List<Future<Void>> futures = new ArrayList<>(tasks.size());
+      for (int i = 0; i < tasks.size(); i++) {
+        int idx = i;
+        SqlSupplier<? extends T> task = tasks.get(i);
+        futures.add(
+            completion.submit(
+                () -> {
+                  permits.acquire();
+                  try {
+                    results[idx] = task.get();
+                    return null;
+                  } finally {
+                    permits.release();
+                  }
+                }));
+      }
+      try {
+        for (int i = 0; i < tasks.size(); i++) {
+          completion.take().get();
+        }
+      } catch (ExecutionException | InterruptedException | CancellationException e) {
+        futures.forEach(f -> f.cancel(true));
+        if (e instanceof InterruptedException) {
+          Thread.currentThread().interrupt();
+        }
+        throw rethrow(e instanceof ExecutionException ? e.getCause() : e);
+      }
+    }
+    return (List<T>) Arrays.asList(results);
+  }
+
+  private static SQLException rethrow(Throwable th) {
+    if (th instanceof SQLException sqlException) {
+      return sqlException;
+    } else if (th instanceof RuntimeException runtimeException) {
+      throw runtimeException;
+    } else if (th instanceof Error error) {
+      throw error;
+    }
+    return new SQLException("Parallel execution failed", th);
+  }
+}
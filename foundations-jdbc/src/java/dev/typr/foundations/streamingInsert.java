@@ -42,4 +42,54 @@ public class streamingInsert {
       throw th;
     }
   }
+
+  public static <T> long insertBinaryUnchecked(
+      String copyCommand,
+      int batchSize,
+      Iterator<T> rows,
+      Connection c,
+      SqlBiConsumer<T, PgCopyBinaryWriter> encodeRow) {
+    try {
+      return insertBinary(copyCommand, batchSize, rows, c, encodeRow);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Stream rows through {@code COPY ... FROM STDIN (FORMAT binary)}. {@code encodeRow} writes each
+   * row with a {@link PgCopyBinaryWriter}; the buffer is sent every {@code batchSize} rows and
+   * reused.
+   */
+  public static <T> long insertBinary(
+      String copyCommand,
+      int batchSize,
+      Iterator<T> rows,
+      Connection c,
+      SqlBiConsumer<T, PgCopyBinaryWriter> encodeRow)
+      throws SQLException {
+    var copyManager = c.unwrap(PGConnection.class).getCopyAPI();
+
+    var in = copyManager.copyIn(copyCommand);
+    try {
+      var out = new PgCopyBinaryWriter(64 * 1024);
+      out.header();
+      while (rows.hasNext()) {
+        for (int i = 0; i < batchSize && rows.hasNext(); i++) {
+          encodeRow.apply(rows.next(), out);
+        }
+        in.writeToCopy(out.buffer(), 0, out.size());
+        out.reset();
+      }
+      out.trailer();
+      in.writeToCopy(out.buffer(), 0, out.size());
+      return in.endCopy();
+    } catch (Throwable th) {
+      try {
+        in.cancelCopy();
+      } catch (PSQLException ignored) {
+      }
+      throw th;
+    }
+  }
 }
@@ -1,2 +1,3 @@
 select personemailaddress0."businessentityid", personemailaddress0."emailaddressid", personemailaddress0."emailaddress", personemailaddress0."rowguid", personemailaddress0."modifieddate"
-from (select * from "person"."emailaddress" personemailaddress0 where ((personemailaddress0)."businessentityid" , (personemailaddress0)."emailaddressid" ) IN ((?::int4, ?::int4), (?::int4, ?::int4))) personemailaddress0
\ No newline at end of file
+from "person"."emailaddress" personemailaddress0
+where (personemailaddress0."businessentityid" , personemailaddress0."emailaddressid" ) IN ((?::int4, ?::int4), (?::int4, ?::int4))
\ No newline at end of file
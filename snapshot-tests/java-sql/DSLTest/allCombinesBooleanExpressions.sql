@@ -1,2 +1,3 @@
 select personperson0."businessentityid", personperson0."persontype", personperson0."namestyle", personperson0."title", personperson0."firstname", personperson0."middlename", personperson0."lastname", personperson0."suffix", personperson0."emailpromotion", personperson0."additionalcontactinfo", personperson0."demographics", personperson0."rowguid", personperson0."modifieddate"
-from (select * from "person"."person" personperson0 where ((((personperson0)."persontype"  = ?::bpchar) AND ((personperson0)."firstname"  = ?::"public"."Name")) AND ((personperson0)."lastname"  = ?::"public"."Name"))) personperson0
\ No newline at end of file
+from "person"."person" personperson0
+where (((personperson0."persontype"  = ?::bpchar) AND (personperson0."firstname"  = ?::"public"."Name")) AND (personperson0."lastname"  = ?::"public"."Name"))
\ No newline at end of file
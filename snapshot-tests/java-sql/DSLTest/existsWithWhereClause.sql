@@ -1,3 +1,5 @@
 select personperson0."businessentityid", personperson0."persontype", personperson0."namestyle", personperson0."title", personperson0."firstname", personperson0."middlename", personperson0."lastname", personperson0."suffix", personperson0."emailpromotion", personperson0."additionalcontactinfo", personperson0."demographics", personperson0."rowguid", personperson0."modifieddate"
-from (select * from "person"."person" personperson0 where (((personperson0)."businessentityid"  = ?::int4) AND EXISTS (select personemailaddress0."businessentityid", personemailaddress0."emailaddressid", personemailaddress0."emailaddress", personemailaddress0."rowguid", personemailaddress0."modifieddate"
-from (select * from "person"."emailaddress" personemailaddress0 where ((personemailaddress0)."businessentityid"  = ?::int4)) personemailaddress0))) personperson0
\ No newline at end of file
+from "person"."person" personperson0
+where ((personperson0."businessentityid"  = ?::int4) AND EXISTS (select personemailaddress0."businessentityid", personemailaddress0."emailaddressid", personemailaddress0."emailaddress", personemailaddress0."rowguid", personemailaddress0."modifieddate"
+from "person"."emailaddress" personemailaddress0
+where (personemailaddress0."businessentityid"  = ?::int4)))
\ No newline at end of file
@@ -0,0 +1,4 @@
+select personperson0."businessentityid", personperson0."persontype", personperson0."namestyle", personperson0."title", personperson0."firstname", personperson0."middlename", personperson0."lastname", personperson0."suffix", personperson0."emailpromotion", personperson0."additionalcontactinfo", personperson0."demographics", personperson0."rowguid", personperson0."modifieddate"
+from "person"."person" personperson0
+where personperson0."businessentityid"  = ANY(?::int4[])
+order by personperson0."businessentityid"  ASC
\ No newline at end of file
@@ -1,3 +1,4 @@
 select personperson0."firstname" , CASE WHEN (personperson0."persontype"  = ?::bpchar) THEN personperson0."lastname"  ELSE NULL END
-from (SELECT * FROM "person"."person" personperson0 WHERE (((personperson0)."businessentityid"  = ?::int4) OR ((personperson0)."businessentityid"  = ?::int4)) ORDER BY (personperson0)."firstname"  ASC) personperson0
+from "person"."person" personperson0
+where ((personperson0."businessentityid"  = ?::int4) OR (personperson0."businessentityid"  = ?::int4))
 order by personperson0."firstname"  ASC
\ No newline at end of file
@@ -0,0 +1,3 @@
+select personperson0."firstname" , personperson0."lastname" 
+from "person"."person" personperson0
+where (personperson0."businessentityid"  = ?::int4)
\ No newline at end of file
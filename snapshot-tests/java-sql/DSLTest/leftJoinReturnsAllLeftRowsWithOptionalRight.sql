@@ -1,5 +1,6 @@
 select personperson0."businessentityid", personperson0."persontype", personperson0."namestyle", personperson0."title", personperson0."firstname", personperson0."middlename", personperson0."lastname", personperson0."suffix", personperson0."emailpromotion", personperson0."additionalcontactinfo", personperson0."demographics", personperson0."rowguid", personperson0."modifieddate", humanresourcesemployee0."businessentityid", humanresourcesemployee0."nationalidnumber", humanresourcesemployee0."loginid", humanresourcesemployee0."jobtitle", humanresourcesemployee0."birthdate", humanresourcesemployee0."maritalstatus", humanresourcesemployee0."gender", humanresourcesemployee0."hiredate", humanresourcesemployee0."salariedflag", humanresourcesemployee0."vacationhours", humanresourcesemployee0."sickleavehours", humanresourcesemployee0."currentflag", humanresourcesemployee0."rowguid", humanresourcesemployee0."modifieddate", humanresourcesemployee0."organizationnode"
-from (select * from "person"."person" personperson0 where (((personperson0)."businessentityid"  = ?::int4) OR ((personperson0)."businessentityid"  = ?::int4))) personperson0
+from "person"."person" personperson0
 left join "humanresources"."employee" humanresourcesemployee0
   on (personperson0."businessentityid"  = humanresourcesemployee0."businessentityid" )
+where ((personperson0."businessentityid"  = ?::int4) OR (personperson0."businessentityid"  = ?::int4))
 order by personperson0."firstname"  ASC
\ No newline at end of file
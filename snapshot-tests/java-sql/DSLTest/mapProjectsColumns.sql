@@ -1,2 +1,3 @@
 select personperson0."firstname" , personperson0."lastname" 
-from (SELECT * FROM "person"."person" personperson0 WHERE ((personperson0)."businessentityid"  = ?::int4)) personperson0
\ No newline at end of file
+from "person"."person" personperson0
+where (personperson0."businessentityid"  = ?::int4)
\ No newline at end of file
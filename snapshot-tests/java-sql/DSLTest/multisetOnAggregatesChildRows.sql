@@ -1,2 +1,2 @@
-select personperson0."businessentityid", personperson0."persontype", personperson0."namestyle", personperson0."title", personperson0."firstname", personperson0."middlename", personperson0."lastname", personperson0."suffix", personperson0."emailpromotion", personperson0."additionalcontactinfo", personperson0."demographics", personperson0."rowguid", personperson0."modifieddate", (SELECT COALESCE(json_agg(jsonb_build_object('businessentityid', personemailaddress0."businessentityid", 'emailaddressid', personemailaddress0."emailaddressid", 'emailaddress', personemailaddress0."emailaddress", 'rowguid', personemailaddress0."rowguid", 'modifieddate', personemailaddress0."modifieddate")), '[]'::json) FROM "person"."emailaddress" personemailaddress0 WHERE (personperson0."businessentityid"  = personemailaddress0."businessentityid" ))
+select personperson0."businessentityid", personperson0."persontype", personperson0."namestyle", personperson0."title", personperson0."firstname", personperson0."middlename", personperson0."lastname", personperson0."suffix", personperson0."emailpromotion", personperson0."additionalcontactinfo", personperson0."demographics", personperson0."rowguid", personperson0."modifieddate", (SELECT COALESCE(json_agg(json_build_array(personemailaddress0."businessentityid", personemailaddress0."emailaddressid", personemailaddress0."emailaddress", personemailaddress0."rowguid", personemailaddress0."modifieddate")), '[]'::json) FROM "person"."emailaddress" personemailaddress0 WHERE (personperson0."businessentityid"  = personemailaddress0."businessentityid" ))
 from (SELECT * FROM "person"."person" personperson0 WHERE ((personperson0)."businessentityid"  = ?::int4)) personperson0
\ No newline at end of file
@@ -0,0 +1 @@
+MERGE INTO person USING (VALUES (?::int4, ?::"public"."Name", ?::timestamp), (?::int4, ?::"public"."Name", ?::timestamp)) AS v(c1, c2, c3) ON "businessentityid"  = CAST(v.c1 AS int4) WHEN MATCHED AND ("persontype"  = ?::bpchar) THEN UPDATE SET "firstname"  = CAST(v.c2 AS varchar), "modifieddate"  = CAST(v.c3 AS timestamp)
\ No newline at end of file
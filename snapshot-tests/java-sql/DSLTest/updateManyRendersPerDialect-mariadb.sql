@@ -0,0 +1 @@
+UPDATE person JOIN (SELECT ?::int4 AS c1, ?::"public"."Name" AS c2, ?::timestamp AS c3 UNION ALL SELECT ?::int4, ?::"public"."Name", ?::timestamp) AS v ON `businessentityid`  = CAST(v.c1 AS int4) SET `firstname`  = CAST(v.c2 AS varchar), `modifieddate`  = CAST(v.c3 AS timestamp) WHERE (`persontype`  = ?::bpchar)
\ No newline at end of file
@@ -0,0 +1 @@
+MERGE INTO person USING (SELECT ?::int4 AS c1, ?::"public"."Name" AS c2, ?::timestamp AS c3 FROM dual UNION ALL SELECT ?::int4, ?::"public"."Name", ?::timestamp FROM dual) v ON ("businessentityid"  = CAST(v.c1 AS int4)) WHEN MATCHED THEN UPDATE SET "firstname"  = CAST(v.c2 AS varchar), "modifieddate"  = CAST(v.c3 AS timestamp) WHERE ("persontype"  = ?::bpchar)
\ No newline at end of file
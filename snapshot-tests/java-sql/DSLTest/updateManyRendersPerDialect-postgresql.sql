@@ -0,0 +1 @@
+UPDATE person SET "firstname"  = v.c2::varchar, "modifieddate"  = v.c3::timestamp FROM (VALUES (?::int4, ?::"public"."Name", ?::timestamp), (?::int4, ?::"public"."Name", ?::timestamp)) AS v(c1, c2, c3) WHERE "businessentityid"  = v.c1::int4 AND (("persontype"  = ?::bpchar))
\ No newline at end of file
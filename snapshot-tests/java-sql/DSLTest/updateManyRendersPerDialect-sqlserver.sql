@@ -0,0 +1 @@
+UPDATE person SET [firstname]  = CAST(v.c2 AS varchar), [modifieddate]  = CAST(v.c3 AS timestamp) FROM person JOIN (VALUES (?::int4, ?::"public"."Name", ?::timestamp), (?::int4, ?::"public"."Name", ?::timestamp)) AS v(c1, c2, c3) ON [businessentityid]  = CAST(v.c1 AS int4) WHERE ([persontype]  = ?::bpchar)
\ No newline at end of file
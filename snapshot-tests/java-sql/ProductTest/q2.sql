@@ -1,7 +1,8 @@
 select productionproduct0."productid", productionproduct0."name", productionproduct0."productnumber", productionproduct0."makeflag", productionproduct0."finishedgoodsflag", productionproduct0."color", productionproduct0."safetystocklevel", productionproduct0."reorderpoint", productionproduct0."standardcost", productionproduct0."listprice", productionproduct0."size", productionproduct0."sizeunitmeasurecode", productionproduct0."weightunitmeasurecode", productionproduct0."weight", productionproduct0."daystomanufacture", productionproduct0."productline", productionproduct0."class", productionproduct0."style", productionproduct0."productsubcategoryid", productionproduct0."productmodelid", productionproduct0."sellstartdate", productionproduct0."sellenddate", productionproduct0."discontinueddate", productionproduct0."rowguid", productionproduct0."modifieddate", productionproductmodel1."productmodelid", productionproductmodel1."name", productionproductmodel1."catalogdescription", productionproductmodel1."instructions", productionproductmodel1."rowguid", productionproductmodel1."modifieddate", productionproductmodel0."productmodelid", productionproductmodel0."name", productionproductmodel0."catalogdescription", productionproductmodel0."instructions", productionproductmodel0."rowguid", productionproductmodel0."modifieddate"
-from (select * from "production"."product" productionproduct0 where (((((productionproduct0)."productid"  IN (?::int4, ?::int4) AND (length((productionproduct0)."name" ) > ?::int4)) AND NOT ((((productionproduct0)."name"  || (productionproduct0)."color" ) LIKE ?))) AND (COALESCE((productionproduct0)."color" , ?) != ?)) AND ((productionproduct0)."modifieddate"  < ?::timestamp))) productionproduct0
-join (select * from "production"."productmodel" productionproductmodel1 where (length((productionproductmodel1)."name" ) > ?::int4)) productionproductmodel1
+from "production"."product" productionproduct0
+join "production"."productmodel" productionproductmodel1
   on (productionproduct0."productmodelid"  = productionproductmodel1."productmodelid" )
-left join (select * from "production"."productmodel" productionproductmodel0 where (length((productionproductmodel0)."name" ) > ?::int4)) productionproductmodel0
-  on ((productionproduct0."productmodelid"  = productionproductmodel0."productmodelid" ) AND ?::bool)
+left join "production"."productmodel" productionproductmodel0
+  on (((productionproduct0."productmodelid"  = productionproductmodel0."productmodelid" ) AND ?::bool) AND (length(productionproductmodel0."name" ) > ?::int4))
+where (((((productionproduct0."productid"  IN (?::int4, ?::int4) AND (length(productionproduct0."name" ) > ?::int4)) AND NOT (((productionproduct0."name"  || productionproduct0."color" ) LIKE ?))) AND (COALESCE(productionproduct0."color" , ?) != ?)) AND (productionproduct0."modifieddate"  < ?::timestamp)) AND (length(productionproductmodel1."name" ) > ?::int4))
 order by productionproductmodel0."name"  ASC, productionproduct0."color"  DESC NULLS FIRST
\ No newline at end of file
@@ -1,8 +1,8 @@
 select productionproduct0."productid", productionproduct0."name", productionproduct0."productnumber", productionproduct0."makeflag", productionproduct0."finishedgoodsflag", productionproduct0."color", productionproduct0."safetystocklevel", productionproduct0."reorderpoint", productionproduct0."standardcost", productionproduct0."listprice", productionproduct0."size", productionproduct0."sizeunitmeasurecode", productionproduct0."weightunitmeasurecode", productionproduct0."weight", productionproduct0."daystomanufacture", productionproduct0."productline", productionproduct0."class", productionproduct0."style", productionproduct0."productsubcategoryid", productionproduct0."productmodelid", productionproduct0."sellstartdate", productionproduct0."sellenddate", productionproduct0."discontinueddate", productionproduct0."rowguid", productionproduct0."modifieddate", productionunitmeasure0."unitmeasurecode", productionunitmeasure0."name", productionunitmeasure0."modifieddate", productionproductmodel0."productmodelid", productionproductmodel0."name", productionproductmodel0."catalogdescription", productionproductmodel0."instructions", productionproductmodel0."rowguid", productionproductmodel0."modifieddate"
-from (select * from "production"."product" productionproduct0 where ((((productionproduct0)."class"  = ?::bpchar) AND (((productionproduct0)."daystomanufacture"  > ?::int4) OR ((productionproduct0)."daystomanufacture"  <= ?::int4))) AND ((productionproduct0)."productline"  = ?::bpchar))) productionproduct0
-join (select * from "production"."unitmeasure" productionunitmeasure0 where ((productionunitmeasure0)."name"  LIKE ?)) productionunitmeasure0
+from "production"."product" productionproduct0
+join "production"."unitmeasure" productionunitmeasure0
   on (productionproduct0."sizeunitmeasurecode"  = productionunitmeasure0."unitmeasurecode" )
 left join "production"."productmodel" productionproductmodel0
   on (productionproduct0."productmodelid"  = productionproductmodel0."productmodelid" )
-where (productionproduct0."productmodelid"  = productionproductmodel0."productmodelid" )
+where (((((productionproduct0."class"  = ?::bpchar) AND ((productionproduct0."daystomanufacture"  > ?::int4) OR (productionproduct0."daystomanufacture"  <= ?::int4))) AND (productionproduct0."productline"  = ?::bpchar)) AND (productionunitmeasure0."name"  LIKE ?)) AND (productionproduct0."productmodelid"  = productionproductmodel0."productmodelid" ))
 order by productionproduct0."productmodelid"  ASC, productionproductmodel0."name"  DESC NULLS FIRST
\ No newline at end of file
@@ -1,4 +1,4 @@
 select productionproduct0."productid", productionproduct0."name", productionproduct0."productnumber", productionproduct0."makeflag", productionproduct0."finishedgoodsflag", productionproduct0."color", productionproduct0."safetystocklevel", productionproduct0."reorderpoint", productionproduct0."standardcost", productionproduct0."listprice", productionproduct0."size", productionproduct0."sizeunitmeasurecode", productionproduct0."weightunitmeasurecode", productionproduct0."weight", productionproduct0."daystomanufacture", productionproduct0."productline", productionproduct0."class", productionproduct0."style", productionproduct0."productsubcategoryid", productionproduct0."productmodelid", productionproduct0."sellstartdate", productionproduct0."sellenddate", productionproduct0."discontinueddate", productionproduct0."rowguid", productionproduct0."modifieddate"
-from (select * from "production"."product" productionproduct0 where ((((productionproduct0)."name"  > ?::"public"."Name") OR (((productionproduct0)."name"  = ?::"public"."Name") AND ((productionproduct0)."weight"  < ?::numeric))) OR ((((productionproduct0)."name"  = ?::"public"."Name") AND ((productionproduct0)."weight"  = ?::numeric)) AND ((productionproduct0)."listprice"  < ?::numeric))) order by (productionproduct0)."name"  ASC, (productionproduct0)."weight"  DESC NULLS FIRST, (productionproduct0)."listprice"  DESC NULLS FIRST) productionproduct0
+from "production"."product" productionproduct0
 where (((productionproduct0."name"  > ?::"public"."Name") OR ((productionproduct0."name"  = ?::"public"."Name") AND (productionproduct0."weight"  < ?::numeric))) OR (((productionproduct0."name"  = ?::"public"."Name") AND (productionproduct0."weight"  = ?::numeric)) AND (productionproduct0."listprice"  < ?::numeric)))
 order by productionproduct0."name"  ASC, productionproduct0."weight"  DESC NULLS FIRST, productionproduct0."listprice"  DESC NULLS FIRST
\ No newline at end of file
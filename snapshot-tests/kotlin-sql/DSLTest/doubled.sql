@@ -1,14 +1,15 @@
 select salessalesperson0."businessentityid", salessalesperson0."territoryid", salessalesperson0."salesquota", salessalesperson0."bonus", salessalesperson0."commissionpct", salessalesperson0."salesytd", salessalesperson0."saleslastyear", salessalesperson0."rowguid", salessalesperson0."modifieddate", humanresourcesemployee0."businessentityid", humanresourcesemployee0."nationalidnumber", humanresourcesemployee0."loginid", humanresourcesemployee0."jobtitle", humanresourcesemployee0."birthdate", humanresourcesemployee0."maritalstatus", humanresourcesemployee0."gender", humanresourcesemployee0."hiredate", humanresourcesemployee0."salariedflag", humanresourcesemployee0."vacationhours", humanresourcesemployee0."sickleavehours", humanresourcesemployee0."currentflag", humanresourcesemployee0."rowguid", humanresourcesemployee0."modifieddate", humanresourcesemployee0."organizationnode", personperson0."businessentityid", personperson0."persontype", personperson0."namestyle", personperson0."title", personperson0."firstname", personperson0."middlename", personperson0."lastname", personperson0."suffix", personperson0."emailpromotion", personperson0."additionalcontactinfo", personperson0."demographics", personperson0."rowguid", personperson0."modifieddate", personbusinessentity0."businessentityid", personbusinessentity0."rowguid", personbusinessentity0."modifieddate", personemailaddress0."businessentityid", personemailaddress0."emailaddressid", personemailaddress0."emailaddress", personemailaddress0."rowguid", personemailaddress0."modifieddate", salessalesperson2."businessentityid", salessalesperson2."territoryid", salessalesperson2."salesquota", salessalesperson2."bonus", salessalesperson2."commissionpct", salessalesperson2."salesytd", salessalesperson2."saleslastyear", salessalesperson2."rowguid", salessalesperson2."modifieddate", salessalesperson1.salessalesperson1_businessentityid, salessalesperson1.salessalesperson1_territoryid, salessalesperson1.salessalesperson1_salesquota, salessalesperson1.salessalesperson1_bonus, salessalesperson1.salessalesperson1_commissionpct, salessalesperson1.salessalesperson1_salesytd, salessalesperson1.salessalesperson1_saleslastyear, salessalesperson1.salessalesperson1_rowguid, salessalesperson1.salessalesperson1_modifieddate, salessalesperson1.humanresourcesemployee1_businessentityid, salessalesperson1.humanresourcesemployee1_nationalidnumber, salessalesperson1.humanresourcesemployee1_loginid, salessalesperson1.humanresourcesemployee1_jobtitle, salessalesperson1.humanresourcesemployee1_birthdate, salessalesperson1.humanresourcesemployee1_maritalstatus, salessalesperson1.humanresourcesemployee1_gender, salessalesperson1.humanresourcesemployee1_hiredate, salessalesperson1.humanresourcesemployee1_salariedflag, salessalesperson1.humanresourcesemployee1_vacationhours, salessalesperson1.humanresourcesemployee1_sickleavehours, salessalesperson1.humanresourcesemployee1_currentflag, salessalesperson1.humanresourcesemployee1_rowguid, salessalesperson1.humanresourcesemployee1_modifieddate, salessalesperson1.humanresourcesemployee1_organizationnode, salessalesperson1.personperson1_businessentityid, salessalesperson1.personperson1_persontype, salessalesperson1.personperson1_namestyle, salessalesperson1.personperson1_title, salessalesperson1.personperson1_firstname, salessalesperson1.personperson1_middlename, salessalesperson1.personperson1_lastname, salessalesperson1.personperson1_suffix, salessalesperson1.personperson1_emailpromotion, salessalesperson1.personperson1_additionalcontactinfo, salessalesperson1.personperson1_demographics, salessalesperson1.personperson1_rowguid, salessalesperson1.personperson1_modifieddate, salessalesperson1.personbusinessentity1_businessentityid, salessalesperson1.personbusinessentity1_rowguid, salessalesperson1.personbusinessentity1_modifieddate, salessalesperson1.personemailaddress1_businessentityid, salessalesperson1.personemailaddress1_emailaddressid, salessalesperson1.personemailaddress1_emailaddress, salessalesperson1.personemailaddress1_rowguid, salessalesperson1.personemailaddress1_modifieddate, salessalesperson1.salessalesperson3_businessentityid, salessalesperson1.salessalesperson3_territoryid, salessalesperson1.salessalesperson3_salesquota, salessalesperson1.salessalesperson3_bonus, salessalesperson1.salessalesperson3_commissionpct, salessalesperson1.salessalesperson3_salesytd, salessalesperson1.salessalesperson3_saleslastyear, salessalesperson1.salessalesperson3_rowguid, salessalesperson1.salessalesperson3_modifieddate
-from (select * from "sales"."salesperson" salessalesperson0 where ((salessalesperson0)."rowguid"  = ?::uuid)) salessalesperson0
+from "sales"."salesperson" salessalesperson0
 join "humanresources"."employee" humanresourcesemployee0
   on (salessalesperson0."businessentityid"  = humanresourcesemployee0."businessentityid" )
 join "person"."person" personperson0
   on (humanresourcesemployee0."businessentityid"  = personperson0."businessentityid" )
 join "person"."businessentity" personbusinessentity0
   on (personperson0."businessentityid"  = personbusinessentity0."businessentityid" )
-join (select * from "person"."emailaddress" personemailaddress0 order by (personemailaddress0)."rowguid"  ASC) personemailaddress0
+join "person"."emailaddress" personemailaddress0
   on (personemailaddress0."businessentityid"  = personbusinessentity0."businessentityid" )
 join "sales"."salesperson" salessalesperson2
   on (personperson0."businessentityid"  = salessalesperson2."businessentityid" )
 join (select salessalesperson1."businessentityid" AS salessalesperson1_businessentityid, salessalesperson1."territoryid" AS salessalesperson1_territoryid, salessalesperson1."salesquota" AS salessalesperson1_salesquota, salessalesperson1."bonus" AS salessalesperson1_bonus, salessalesperson1."commissionpct" AS salessalesperson1_commissionpct, salessalesperson1."salesytd" AS salessalesperson1_salesytd, salessalesperson1."saleslastyear" AS salessalesperson1_saleslastyear, salessalesperson1."rowguid" AS salessalesperson1_rowguid, salessalesperson1."modifieddate" AS salessalesperson1_modifieddate, humanresourcesemployee1."businessentityid" AS humanresourcesemployee1_businessentityid, humanresourcesemployee1."nationalidnumber" AS humanresourcesemployee1_nationalidnumber, humanresourcesemployee1."loginid" AS humanresourcesemployee1_loginid, humanresourcesemployee1."jobtitle" AS humanresourcesemployee1_jobtitle, humanresourcesemployee1."birthdate" AS humanresourcesemployee1_birthdate, humanresourcesemployee1."maritalstatus" AS humanresourcesemployee1_maritalstatus, humanresourcesemployee1."gender" AS humanresourcesemployee1_gender, humanresourcesemployee1."hiredate" AS humanresourcesemployee1_hiredate, humanresourcesemployee1."salariedflag" AS humanresourcesemployee1_salariedflag, humanresourcesemployee1."vacationhours" AS humanresourcesemployee1_vacationhours, humanresourcesemployee1."sickleavehours" AS humanresourcesemployee1_sickleavehours, humanresourcesemployee1."currentflag" AS humanresourcesemployee1_currentflag, humanresourcesemployee1."rowguid" AS humanresourcesemployee1_rowguid, humanresourcesemployee1."modifieddate" AS humanresourcesemployee1_modifieddate, humanresourcesemployee1."organizationnode" AS humanresourcesemployee1_organizationnode, personperson1."businessentityid" AS personperson1_businessentityid, personperson1."persontype" AS personperson1_persontype, personperson1."namestyle" AS personperson1_namestyle, personperson1."title" AS personperson1_title, personperson1."firstname" AS personperson1_firstname, personperson1."middlename" AS personperson1_middlename, personperson1."lastname" AS personperson1_lastname, personperson1."suffix" AS personperson1_suffix, personperson1."emailpromotion" AS personperson1_emailpromotion, personperson1."additionalcontactinfo" AS personperson1_additionalcontactinfo, personperson1."demographics" AS personperson1_demographics, personperson1."rowguid" AS personperson1_rowguid, personperson1."modifieddate" AS personperson1_modifieddate, personbusinessentity1."businessentityid" AS personbusinessentity1_businessentityid, personbusinessentity1."rowguid" AS personbusinessentity1_rowguid, personbusinessentity1."modifieddate" AS personbusinessentity1_modifieddate, personemailaddress1."businessentityid" AS personemailaddress1_businessentityid, personemailaddress1."emailaddressid" AS personemailaddress1_emailaddressid, personemailaddress1."emailaddress" AS personemailaddress1_emailaddress, personemailaddress1."rowguid" AS personemailaddress1_rowguid, personemailaddress1."modifieddate" AS personemailaddress1_modifieddate, salessalesperson3."businessentityid" AS salessalesperson3_businessentityid, salessalesperson3."territoryid" AS salessalesperson3_territoryid, salessalesperson3."salesquota" AS salessalesperson3_salesquota, salessalesperson3."bonus" AS salessalesperson3_bonus, salessalesperson3."commissionpct" AS salessalesperson3_commissionpct, salessalesperson3."salesytd" AS salessalesperson3_salesytd, salessalesperson3."saleslastyear" AS salessalesperson3_saleslastyear, salessalesperson3."rowguid" AS salessalesperson3_rowguid, salessalesperson3."modifieddate" AS salessalesperson3_modifieddate from (select * from "sales"."salesperson" salessalesperson1 where ((salessalesperson1)."rowguid"  = ?::uuid)) salessalesperson1 join "humanresources"."employee" humanresourcesemployee1 on (salessalesperson1."businessentityid"  = humanresourcesemployee1."businessentityid" ) join "person"."person" personperson1 on (humanresourcesemployee1."businessentityid"  = personperson1."businessentityid" ) join "person"."businessentity" personbusinessentity1 on (personperson1."businessentityid"  = personbusinessentity1."businessentityid" ) join (select * from "person"."emailaddress" personemailaddress1 order by (personemailaddress1)."rowguid"  ASC) personemailaddress1 on (personemailaddress1."businessentityid"  = personbusinessentity1."businessentityid" ) join "sales"."salesperson" salessalesperson3 on (personperson1."businessentityid"  = salessalesperson3."businessentityid" )) salessalesperson1
-  on (personperson0."businessentityid"  = salessalesperson1.personperson1_businessentityid )
\ No newline at end of file
+  on (personperson0."businessentityid"  = salessalesperson1.personperson1_businessentityid )
+where (salessalesperson0."rowguid"  = ?::uuid)
\ No newline at end of file
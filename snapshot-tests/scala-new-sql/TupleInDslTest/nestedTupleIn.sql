@@ -1,2 +1,3 @@
 select humanresourcesdepartment0."departmentid", humanresourcesdepartment0."name", humanresourcesdepartment0."groupname", humanresourcesdepartment0."modifieddate"
-from (select * from "humanresources"."department" humanresourcesdepartment0 where ((humanresourcesdepartment0)."name" , (humanresourcesdepartment0)."groupname" , (humanresourcesdepartment0)."departmentid" ) IN (((?::"public"."Name", ?::"public"."Name", ?::int4)), ((?::"public"."Name", ?::"public"."Name", ?::int4)))) humanresourcesdepartment0
\ No newline at end of file
+from "humanresources"."department" humanresourcesdepartment0
+where (humanresourcesdepartment0."name" , humanresourcesdepartment0."groupname" , humanresourcesdepartment0."departmentid" ) IN (((?::"public"."Name", ?::"public"."Name", ?::int4)), ((?::"public"."Name", ?::"public"."Name", ?::int4)))
\ No newline at end of file
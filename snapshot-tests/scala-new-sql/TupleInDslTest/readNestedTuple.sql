@@ -1,3 +1,4 @@
 select humanresourcesdepartment0."name" , humanresourcesdepartment0."groupname" , humanresourcesdepartment0."departmentid" 
-from (SELECT * FROM "humanresources"."department" humanresourcesdepartment0 WHERE (humanresourcesdepartment0)."name"  IN (?::"public"."Name", ?::"public"."Name", ?::"public"."Name") ORDER BY (humanresourcesdepartment0)."departmentid"  ASC) humanresourcesdepartment0
+from "humanresources"."department" humanresourcesdepartment0
+where humanresourcesdepartment0."name"  IN (?::"public"."Name", ?::"public"."Name", ?::"public"."Name")
 order by humanresourcesdepartment0."departmentid"  ASC
\ No newline at end of file
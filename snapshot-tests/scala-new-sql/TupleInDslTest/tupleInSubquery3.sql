@@ -1,3 +1,5 @@
 select humanresourcesdepartment0."departmentid", humanresourcesdepartment0."name", humanresourcesdepartment0."groupname", humanresourcesdepartment0."modifieddate"
-from (select * from "humanresources"."department" humanresourcesdepartment0 where ((humanresourcesdepartment0)."departmentid" , (humanresourcesdepartment0)."name" , (humanresourcesdepartment0)."groupname" ) IN (select humanresourcesdepartment0."departmentid" , humanresourcesdepartment0."name" , humanresourcesdepartment0."groupname" 
-from (SELECT * FROM "humanresources"."department" humanresourcesdepartment0 WHERE ((humanresourcesdepartment0)."groupname"  = ?::"public"."Name")) humanresourcesdepartment0)) humanresourcesdepartment0
\ No newline at end of file
+from "humanresources"."department" humanresourcesdepartment0
+where (humanresourcesdepartment0."departmentid" , humanresourcesdepartment0."name" , humanresourcesdepartment0."groupname" ) IN (select humanresourcesdepartment0."departmentid" , humanresourcesdepartment0."name" , humanresourcesdepartment0."groupname" 
+from "humanresources"."department" humanresourcesdepartment0
+where (humanresourcesdepartment0."groupname"  = ?::"public"."Name"))
\ No newline at end of file
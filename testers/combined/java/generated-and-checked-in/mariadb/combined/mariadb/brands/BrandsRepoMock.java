@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -164,6 +165,23 @@ public record BrandsRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<BrandsRow> rows, Connection c) {
+    var updated = new HashSet<BrandsId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.brandId())) {
+        map.put(row.brandId(), row);
+        updated.add(row.brandId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public BrandsRow upsert(BrandsRow unsaved, Connection c) {
     map.put(unsaved.brandId(), unsaved);
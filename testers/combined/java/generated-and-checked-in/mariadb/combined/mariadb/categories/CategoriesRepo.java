@@ -41,6 +41,8 @@ public interface CategoriesRepo {
 
   Boolean update(CategoriesRow row, Connection c);
 
+  Integer updateBatch(Iterator<CategoriesRow> rows, Connection c);
+
   CategoriesRow upsert(CategoriesRow unsaved, Connection c);
 
   List<CategoriesRow> upsertBatch(Iterator<CategoriesRow> unsaved, Connection c);
@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -167,6 +168,23 @@ public record CategoriesRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<CategoriesRow> rows, Connection c) {
+    var updated = new HashSet<CategoriesId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.categoryId())) {
+        map.put(row.categoryId(), row);
+        updated.add(row.categoryId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public CategoriesRow upsert(CategoriesRow unsaved, Connection c) {
     map.put(unsaved.categoryId(), unsaved);
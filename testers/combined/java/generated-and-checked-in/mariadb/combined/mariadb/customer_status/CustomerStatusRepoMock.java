@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -162,6 +163,23 @@ public record CustomerStatusRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<CustomerStatusRow> rows, Connection c) {
+    var updated = new HashSet<CustomerStatusId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.statusCode())) {
+        map.put(row.statusCode(), row);
+        updated.add(row.statusCode());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public CustomerStatusRow upsert(CustomerStatusRow unsaved, Connection c) {
     map.put(unsaved.statusCode(), unsaved);
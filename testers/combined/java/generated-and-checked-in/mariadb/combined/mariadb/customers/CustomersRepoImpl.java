@@ -11,6 +11,7 @@ import combined.mariadb.customer_status.CustomerStatusId;
 import combined.shared.FirstName;
 import combined.shared.LastName;
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -43,17 +44,24 @@ public class CustomersRepoImpl implements CustomersRepo {
 
   @Override
   public Integer deleteByIds(CustomersId[] customerIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : customerIds) {
-      fragments.add(Fragment.encode(CustomersId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(customerIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(CustomersId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `customers` where `customer_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `customers` where `customer_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -255,21 +263,27 @@ public class CustomersRepoImpl implements CustomersRepo {
 
   @Override
   public List<CustomersRow> selectByIds(CustomersId[] customerIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : customerIds) {
-      fragments.add(Fragment.encode(CustomersId.mariaType, id));
+    ArrayList<CustomersRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(customerIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(CustomersId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `customer_id`, `email`, `password_hash`, `first_name`, `last_name`,"
+                          + " `phone`, `status`, `tier`, `preferences`, `marketing_flags`, `notes`,"
+                          + " `created_at`, `updated_at`, `last_login_at` from `customers` where"
+                          + " `customer_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(CustomersRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `customer_id`, `email`, `password_hash`, `first_name`, `last_name`,"
-                    + " `phone`, `status`, `tier`, `preferences`, `marketing_flags`, `notes`,"
-                    + " `created_at`, `updated_at`, `last_login_at` from `customers` where"
-                    + " `customer_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(CustomersRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -340,6 +354,29 @@ public class CustomersRepoImpl implements CustomersRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<CustomersRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.email(),
+                    f.passwordHash(),
+                    f.firstName(),
+                    f.lastName(),
+                    f.phone(),
+                    f.status(),
+                    f.tier(),
+                    f.preferences(),
+                    f.marketingFlags(),
+                    f.notes(),
+                    f.createdAt(),
+                    f.updatedAt(),
+                    f.lastLoginAt()),
+            c);
+  }
+
   @Override
   public CustomersRow upsert(CustomersRow unsaved, Connection c) {
     return interpolate(
@@ -41,6 +41,8 @@ public interface ProductsRepo {
 
   Boolean update(ProductsRow row, Connection c);
 
+  Integer updateBatch(Iterator<ProductsRow> rows, Connection c);
+
   ProductsRow upsert(ProductsRow unsaved, Connection c);
 
   List<ProductsRow> upsertBatch(Iterator<ProductsRow> unsaved, Connection c);
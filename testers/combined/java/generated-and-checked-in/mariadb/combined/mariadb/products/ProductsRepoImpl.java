@@ -9,6 +9,7 @@ import static dev.typr.foundations.Fragment.interpolate;
 
 import combined.mariadb.brands.BrandsId;
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -41,17 +42,24 @@ public class ProductsRepoImpl implements ProductsRepo {
 
   @Override
   public Integer deleteByIds(ProductsId[] productIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : productIds) {
-      fragments.add(Fragment.encode(ProductsId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(productIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(ProductsId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `products` where `product_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `products` where `product_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -310,22 +318,28 @@ public class ProductsRepoImpl implements ProductsRepo {
 
   @Override
   public List<ProductsRow> selectByIds(ProductsId[] productIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : productIds) {
-      fragments.add(Fragment.encode(ProductsId.mariaType, id));
+    ArrayList<ProductsRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(productIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(ProductsId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `product_id`, `sku`, `brand_id`, `name`, `short_description`,"
+                          + " `full_description`, `base_price`, `cost_price`, `weight_kg`,"
+                          + " `dimensions_json`, `status`, `tax_class`, `tags`, `attributes`,"
+                          + " `seo_metadata`, `created_at`, `updated_at`, `published_at` from"
+                          + " `products` where `product_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(ProductsRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `product_id`, `sku`, `brand_id`, `name`, `short_description`,"
-                    + " `full_description`, `base_price`, `cost_price`, `weight_kg`,"
-                    + " `dimensions_json`, `status`, `tax_class`, `tags`, `attributes`,"
-                    + " `seo_metadata`, `created_at`, `updated_at`, `published_at` from `products`"
-                    + " where `product_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(ProductsRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -404,6 +418,33 @@ public class ProductsRepoImpl implements ProductsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ProductsRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.sku(),
+                    f.brandId(),
+                    f.name(),
+                    f.shortDescription(),
+                    f.fullDescription(),
+                    f.basePrice(),
+                    f.costPrice(),
+                    f.weightKg(),
+                    f.dimensionsJson(),
+                    f.status(),
+                    f.taxClass(),
+                    f.tags(),
+                    f.attributes(),
+                    f.seoMetadata(),
+                    f.createdAt(),
+                    f.updatedAt(),
+                    f.publishedAt()),
+            c);
+  }
+
   @Override
   public ProductsRow upsert(ProductsRow unsaved, Connection c) {
     return interpolate(
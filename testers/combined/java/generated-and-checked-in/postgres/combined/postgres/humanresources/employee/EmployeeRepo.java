@@ -47,6 +47,8 @@ public interface EmployeeRepo {
 
   Boolean update(EmployeeRow row, Connection c);
 
+  Integer updateBatch(Iterator<EmployeeRow> rows, Connection c);
+
   EmployeeRow upsert(EmployeeRow unsaved, Connection c);
 
   List<EmployeeRow> upsertBatch(Iterator<EmployeeRow> unsaved, Connection c);
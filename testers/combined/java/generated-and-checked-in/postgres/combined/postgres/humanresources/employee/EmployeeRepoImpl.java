@@ -359,6 +359,30 @@ public class EmployeeRepoImpl implements EmployeeRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<EmployeeRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.nationalidnumber(),
+                    f.loginid(),
+                    f.jobtitle(),
+                    f.birthdate(),
+                    f.maritalstatus(),
+                    f.gender(),
+                    f.hiredate(),
+                    f.salariedflag(),
+                    f.vacationhours(),
+                    f.sickleavehours(),
+                    f.currentflag(),
+                    f.rowguid(),
+                    f.modifieddate(),
+                    f.organizationnode()),
+            c);
+  }
+
   @Override
   public EmployeeRow upsert(EmployeeRow unsaved, Connection c) {
     return interpolate(
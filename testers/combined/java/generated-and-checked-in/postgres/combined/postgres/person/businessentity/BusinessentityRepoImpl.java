@@ -229,6 +229,11 @@ public class BusinessentityRepoImpl implements BusinessentityRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<BusinessentityRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.rowguid(), f.modifieddate()), c);
+  }
+
   @Override
   public BusinessentityRow upsert(BusinessentityRow unsaved, Connection c) {
     return interpolate(
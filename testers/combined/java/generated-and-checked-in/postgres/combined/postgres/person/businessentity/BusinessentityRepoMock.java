@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -193,6 +194,23 @@ public record BusinessentityRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<BusinessentityRow> rows, Connection c) {
+    var updated = new HashSet<BusinessentityId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.businessentityid())) {
+        map.put(row.businessentityid(), row);
+        updated.add(row.businessentityid());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public BusinessentityRow upsert(BusinessentityRow unsaved, Connection c) {
     map.put(unsaved.businessentityid(), unsaved);
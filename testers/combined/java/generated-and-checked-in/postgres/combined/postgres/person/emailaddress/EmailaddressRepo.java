@@ -46,6 +46,8 @@ public interface EmailaddressRepo {
 
   Boolean update(EmailaddressRow row, Connection c);
 
+  Integer updateBatch(Iterator<EmailaddressRow> rows, Connection c);
+
   EmailaddressRow upsert(EmailaddressRow unsaved, Connection c);
 
   List<EmailaddressRow> upsertBatch(Iterator<EmailaddressRow> unsaved, Connection c);
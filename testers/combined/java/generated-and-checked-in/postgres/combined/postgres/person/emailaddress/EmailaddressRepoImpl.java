@@ -270,6 +270,12 @@ public class EmailaddressRepoImpl implements EmailaddressRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<EmailaddressRow> rows, Connection c) {
+    return update()
+        .updateMany(rows, f -> List.of(f.emailaddress(), f.rowguid(), f.modifieddate()), c);
+  }
+
   @Override
   public EmailaddressRow upsert(EmailaddressRow unsaved, Connection c) {
     return interpolate(
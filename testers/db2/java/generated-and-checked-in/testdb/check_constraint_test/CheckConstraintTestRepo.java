@@ -38,6 +38,8 @@ public interface CheckConstraintTestRepo {
 
   Boolean update(CheckConstraintTestRow row, Connection c);
 
+  Integer updateBatch(Iterator<CheckConstraintTestRow> rows, Connection c);
+
   void upsert(CheckConstraintTestRow unsaved, Connection c);
 
   void upsertBatch(Iterator<CheckConstraintTestRow> unsaved, Connection c);
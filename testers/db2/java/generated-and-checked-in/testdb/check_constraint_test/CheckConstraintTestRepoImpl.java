@@ -9,6 +9,7 @@ import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Db2Types;
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
 import dev.typr.foundations.dsl.SelectBuilder;
@@ -41,17 +42,24 @@ public class CheckConstraintTestRepoImpl implements CheckConstraintTestRepo {
 
   @Override
   public Integer deleteByIds(CheckConstraintTestId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(CheckConstraintTestId.db2Type, id));
+    var count = 0;
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(CheckConstraintTestId.db2Type, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from \"CHECK_CONSTRAINT_TEST\" where \"ID\" in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"CHECK_CONSTRAINT_TEST\" where \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -106,19 +114,25 @@ public class CheckConstraintTestRepoImpl implements CheckConstraintTestRepo {
 
   @Override
   public List<CheckConstraintTestRow> selectByIds(CheckConstraintTestId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(CheckConstraintTestId.db2Type, id));
+    ArrayList<CheckConstraintTestRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(CheckConstraintTestId.db2Type, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select \"ID\", \"AGE\", \"STATUS\", \"PRICE\" from \"CHECK_CONSTRAINT_TEST\""
+                          + " where \"ID\" in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(CheckConstraintTestRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"ID\", \"AGE\", \"STATUS\", \"PRICE\" from \"CHECK_CONSTRAINT_TEST\" where"
-                    + " \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(CheckConstraintTestRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -158,6 +172,11 @@ public class CheckConstraintTestRepoImpl implements CheckConstraintTestRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<CheckConstraintTestRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.age(), f.status(), f.price()), c);
+  }
+
   @Override
   public void upsert(CheckConstraintTestRow unsaved, Connection c) {
     interpolate(
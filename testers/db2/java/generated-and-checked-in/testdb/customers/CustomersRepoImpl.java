@@ -9,6 +9,7 @@ import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Db2Types;
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
 import dev.typr.foundations.dsl.SelectBuilder;
@@ -40,17 +41,24 @@ public class CustomersRepoImpl implements CustomersRepo {
 
   @Override
   public Integer deleteByIds(CustomersId[] customerIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : customerIds) {
-      fragments.add(Fragment.encode(CustomersId.db2Type, id));
+    var count = 0;
+    for (var chunk : InList.chunks(customerIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(CustomersId.db2Type, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from \"CUSTOMERS\" where \"CUSTOMER_ID\" in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"CUSTOMERS\" where \"CUSTOMER_ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -147,19 +155,25 @@ public class CustomersRepoImpl implements CustomersRepo {
 
   @Override
   public List<CustomersRow> selectByIds(CustomersId[] customerIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : customerIds) {
-      fragments.add(Fragment.encode(CustomersId.db2Type, id));
+    ArrayList<CustomersRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(customerIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(CustomersId.db2Type, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select \"CUSTOMER_ID\", \"NAME\", \"EMAIL\", \"CREATED_AT\" from"
+                          + " \"CUSTOMERS\" where \"CUSTOMER_ID\" in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(CustomersRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"CUSTOMER_ID\", \"NAME\", \"EMAIL\", \"CREATED_AT\" from \"CUSTOMERS\""
-                    + " where \"CUSTOMER_ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(CustomersRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -208,6 +222,11 @@ public class CustomersRepoImpl implements CustomersRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<CustomersRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.name(), f.email(), f.createdAt()), c);
+  }
+
   @Override
   public void upsert(CustomersRow unsaved, Connection c) {
     interpolate(
@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -166,6 +167,23 @@ public record CustomersRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<CustomersRow> rows, Connection c) {
+    var updated = new HashSet<CustomersId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.customerId())) {
+        map.put(row.customerId(), row);
+        updated.add(row.customerId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public void upsert(CustomersRow unsaved, Connection c) {
     map.put(unsaved.customerId(), unsaved);
@@ -37,6 +37,8 @@ public interface Db2testRepo {
 
   Boolean update(Db2testRow row, Connection c);
 
+  Integer updateBatch(Iterator<Db2testRow> rows, Connection c);
+
   void upsert(Db2testRow unsaved, Connection c);
 
   void upsertBatch(Iterator<Db2testRow> unsaved, Connection c);
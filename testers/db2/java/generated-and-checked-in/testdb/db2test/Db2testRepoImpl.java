@@ -9,6 +9,7 @@ import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Db2Types;
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
 import dev.typr.foundations.dsl.SelectBuilder;
@@ -40,17 +41,24 @@ public class Db2testRepoImpl implements Db2testRepo {
 
   @Override
   public Integer deleteByIds(Db2testId[] intCols, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : intCols) {
-      fragments.add(Fragment.encode(Db2testId.db2Type, id));
+    var count = 0;
+    for (var chunk : InList.chunks(intCols)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(Db2testId.db2Type, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from \"DB2TEST\" where \"INT_COL\" in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"DB2TEST\" where \"INT_COL\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -163,24 +171,31 @@ public class Db2testRepoImpl implements Db2testRepo {
 
   @Override
   public List<Db2testRow> selectByIds(Db2testId[] intCols, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : intCols) {
-      fragments.add(Fragment.encode(Db2testId.db2Type, id));
+    ArrayList<Db2testRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(intCols)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(Db2testId.db2Type, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select \"SMALLINT_COL\", \"INT_COL\", \"BIGINT_COL\", \"DECIMAL_COL\","
+                          + " \"NUMERIC_COL\", \"DECFLOAT16_COL\", \"DECFLOAT34_COL\","
+                          + " \"REAL_COL\", \"DOUBLE_COL\", \"BOOL_COL\", \"CHAR_COL\","
+                          + " \"VARCHAR_COL\", \"CLOB_COL\", \"GRAPHIC_COL\", \"VARGRAPHIC_COL\","
+                          + " \"BINARY_COL\", \"VARBINARY_COL\", \"BLOB_COL\", \"DATE_COL\","
+                          + " \"TIME_COL\", \"TIMESTAMP_COL\", \"TIMESTAMP6_COL\","
+                          + " \"TIMESTAMP12_COL\", \"XML_COL\" from \"DB2TEST\" where \"INT_COL\""
+                          + " in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(Db2testRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"SMALLINT_COL\", \"INT_COL\", \"BIGINT_COL\", \"DECIMAL_COL\","
-                    + " \"NUMERIC_COL\", \"DECFLOAT16_COL\", \"DECFLOAT34_COL\", \"REAL_COL\","
-                    + " \"DOUBLE_COL\", \"BOOL_COL\", \"CHAR_COL\", \"VARCHAR_COL\", \"CLOB_COL\","
-                    + " \"GRAPHIC_COL\", \"VARGRAPHIC_COL\", \"BINARY_COL\", \"VARBINARY_COL\","
-                    + " \"BLOB_COL\", \"DATE_COL\", \"TIME_COL\", \"TIMESTAMP_COL\","
-                    + " \"TIMESTAMP6_COL\", \"TIMESTAMP12_COL\", \"XML_COL\" from \"DB2TEST\" where"
-                    + " \"INT_COL\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(Db2testRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -255,6 +270,39 @@ public class Db2testRepoImpl implements Db2testRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<Db2testRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.smallintCol(),
+                    f.bigintCol(),
+                    f.decimalCol(),
+                    f.numericCol(),
+                    f.decfloat16Col(),
+                    f.decfloat34Col(),
+                    f.realCol(),
+                    f.doubleCol(),
+                    f.boolCol(),
+                    f.charCol(),
+                    f.varcharCol(),
+                    f.clobCol(),
+                    f.graphicCol(),
+                    f.vargraphicCol(),
+                    f.binaryCol(),
+                    f.varbinaryCol(),
+                    f.blobCol(),
+                    f.dateCol(),
+                    f.timeCol(),
+                    f.timestampCol(),
+                    f.timestamp6Col(),
+                    f.timestamp12Col(),
+                    f.xmlCol()),
+            c);
+  }
+
   @Override
   public void upsert(Db2testRow unsaved, Connection c) {
     interpolate(
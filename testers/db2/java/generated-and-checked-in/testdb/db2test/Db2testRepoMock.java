@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -144,6 +145,23 @@ public record Db2testRepoMock(HashMap<Db2testId, Db2testRow> map) implements Db2
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<Db2testRow> rows, Connection c) {
+    var updated = new HashSet<Db2testId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.intCol())) {
+        map.put(row.intCol(), row);
+        updated.add(row.intCol());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public void upsert(Db2testRow unsaved, Connection c) {
     map.put(unsaved.intCol(), unsaved);
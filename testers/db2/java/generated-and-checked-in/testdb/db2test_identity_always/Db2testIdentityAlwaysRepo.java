@@ -40,6 +40,8 @@ public interface Db2testIdentityAlwaysRepo {
 
   Boolean update(Db2testIdentityAlwaysRow row, Connection c);
 
+  Integer updateBatch(Iterator<Db2testIdentityAlwaysRow> rows, Connection c);
+
   void upsert(Db2testIdentityAlwaysRow unsaved, Connection c);
 
   void upsertBatch(Iterator<Db2testIdentityAlwaysRow> unsaved, Connection c);
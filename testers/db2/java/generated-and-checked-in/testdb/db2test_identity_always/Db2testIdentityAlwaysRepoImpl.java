@@ -9,6 +9,7 @@ import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Db2Types;
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
 import dev.typr.foundations.dsl.SelectBuilder;
@@ -41,17 +42,24 @@ public class Db2testIdentityAlwaysRepoImpl implements Db2testIdentityAlwaysRepo
 
   @Override
   public Integer deleteByIds(Db2testIdentityAlwaysId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(Db2testIdentityAlwaysId.db2Type, id));
+    var count = 0;
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(Db2testIdentityAlwaysId.db2Type, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from \"DB2TEST_IDENTITY_ALWAYS\" where \"ID\" in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"DB2TEST_IDENTITY_ALWAYS\" where \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -117,18 +125,24 @@ public class Db2testIdentityAlwaysRepoImpl implements Db2testIdentityAlwaysRepo
 
   @Override
   public List<Db2testIdentityAlwaysRow> selectByIds(Db2testIdentityAlwaysId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(Db2testIdentityAlwaysId.db2Type, id));
+    ArrayList<Db2testIdentityAlwaysRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(Db2testIdentityAlwaysId.db2Type, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select \"ID\", \"NAME\" from \"DB2TEST_IDENTITY_ALWAYS\" where \"ID\" in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(Db2testIdentityAlwaysRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"ID\", \"NAME\" from \"DB2TEST_IDENTITY_ALWAYS\" where \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(Db2testIdentityAlwaysRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -164,6 +178,11 @@ public class Db2testIdentityAlwaysRepoImpl implements Db2testIdentityAlwaysRepo
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<Db2testIdentityAlwaysRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.name()), c);
+  }
+
   @Override
   public void upsert(Db2testIdentityAlwaysRow unsaved, Connection c) {
     interpolate(
@@ -40,6 +40,8 @@ public interface Db2testIdentityDefaultRepo {
 
   Boolean update(Db2testIdentityDefaultRow row, Connection c);
 
+  Integer updateBatch(Iterator<Db2testIdentityDefaultRow> rows, Connection c);
+
   void upsert(Db2testIdentityDefaultRow unsaved, Connection c);
 
   void upsertBatch(Iterator<Db2testIdentityDefaultRow> unsaved, Connection c);
@@ -9,6 +9,7 @@ import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Db2Types;
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
 import dev.typr.foundations.dsl.SelectBuilder;
@@ -41,17 +42,24 @@ public class Db2testIdentityDefaultRepoImpl implements Db2testIdentityDefaultRep
 
   @Override
   public Integer deleteByIds(Db2testIdentityDefaultId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(Db2testIdentityDefaultId.db2Type, id));
+    var count = 0;
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(Db2testIdentityDefaultId.db2Type, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from \"DB2TEST_IDENTITY_DEFAULT\" where \"ID\" in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"DB2TEST_IDENTITY_DEFAULT\" where \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -130,18 +138,25 @@ public class Db2testIdentityDefaultRepoImpl implements Db2testIdentityDefaultRep
 
   @Override
   public List<Db2testIdentityDefaultRow> selectByIds(Db2testIdentityDefaultId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(Db2testIdentityDefaultId.db2Type, id));
+    ArrayList<Db2testIdentityDefaultRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(Db2testIdentityDefaultId.db2Type, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select \"ID\", \"NAME\" from \"DB2TEST_IDENTITY_DEFAULT\" where \"ID\" in"
+                          + " ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(Db2testIdentityDefaultRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"ID\", \"NAME\" from \"DB2TEST_IDENTITY_DEFAULT\" where \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(Db2testIdentityDefaultRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -177,6 +192,11 @@ public class Db2testIdentityDefaultRepoImpl implements Db2testIdentityDefaultRep
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<Db2testIdentityDefaultRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.name()), c);
+  }
+
   @Override
   public void upsert(Db2testIdentityDefaultRow unsaved, Connection c) {
     interpolate(
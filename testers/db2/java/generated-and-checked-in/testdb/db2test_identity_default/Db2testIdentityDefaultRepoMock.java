@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -165,6 +166,23 @@ public record Db2testIdentityDefaultRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<Db2testIdentityDefaultRow> rows, Connection c) {
+    var updated = new HashSet<Db2testIdentityDefaultId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.id())) {
+        map.put(row.id(), row);
+        updated.add(row.id());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public void upsert(Db2testIdentityDefaultRow unsaved, Connection c) {
     map.put(unsaved.id(), unsaved);
@@ -44,6 +44,8 @@ public interface Db2testUniqueRepo {
 
   Boolean update(Db2testUniqueRow row, Connection c);
 
+  Integer updateBatch(Iterator<Db2testUniqueRow> rows, Connection c);
+
   void upsert(Db2testUniqueRow unsaved, Connection c);
 
   void upsertBatch(Iterator<Db2testUniqueRow> unsaved, Connection c);
@@ -9,6 +9,7 @@ import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Db2Types;
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
 import dev.typr.foundations.dsl.SelectBuilder;
@@ -40,17 +41,24 @@ public class Db2testUniqueRepoImpl implements Db2testUniqueRepo {
 
   @Override
   public Integer deleteByIds(Db2testUniqueId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(Db2testUniqueId.db2Type, id));
+    var count = 0;
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(Db2testUniqueId.db2Type, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from \"DB2TEST_UNIQUE\" where \"ID\" in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"DB2TEST_UNIQUE\" where \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -129,19 +137,25 @@ public class Db2testUniqueRepoImpl implements Db2testUniqueRepo {
 
   @Override
   public List<Db2testUniqueRow> selectByIds(Db2testUniqueId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(Db2testUniqueId.db2Type, id));
+    ArrayList<Db2testUniqueRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(Db2testUniqueId.db2Type, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select \"ID\", \"EMAIL\", \"CODE\", \"CATEGORY\" from \"DB2TEST_UNIQUE\""
+                          + " where \"ID\" in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(Db2testUniqueRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"ID\", \"EMAIL\", \"CODE\", \"CATEGORY\" from \"DB2TEST_UNIQUE\" where"
-                    + " \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(Db2testUniqueRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -210,6 +224,11 @@ public class Db2testUniqueRepoImpl implements Db2testUniqueRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<Db2testUniqueRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.email(), f.code(), f.category()), c);
+  }
+
   @Override
   public void upsert(Db2testUniqueRow unsaved, Connection c) {
     interpolate(
@@ -40,6 +40,8 @@ public interface DistinctTypeTestRepo {
 
   Boolean update(DistinctTypeTestRow row, Connection c);
 
+  Integer updateBatch(Iterator<DistinctTypeTestRow> rows, Connection c);
+
   void upsert(DistinctTypeTestRow unsaved, Connection c);
 
   void upsertBatch(Iterator<DistinctTypeTestRow> unsaved, Connection c);
@@ -8,6 +8,7 @@ package testdb.distinct_type_test;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
 import dev.typr.foundations.dsl.SelectBuilder;
@@ -42,17 +43,24 @@ public class DistinctTypeTestRepoImpl implements DistinctTypeTestRepo {
 
   @Override
   public Integer deleteByIds(DistinctTypeTestId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(DistinctTypeTestId.db2Type, id));
+    var count = 0;
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(DistinctTypeTestId.db2Type, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from \"DISTINCT_TYPE_TEST\" where \"ID\" in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"DISTINCT_TYPE_TEST\" where \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -128,19 +136,25 @@ public class DistinctTypeTestRepoImpl implements DistinctTypeTestRepo {
 
   @Override
   public List<DistinctTypeTestRow> selectByIds(DistinctTypeTestId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(DistinctTypeTestId.db2Type, id));
+    ArrayList<DistinctTypeTestRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(DistinctTypeTestId.db2Type, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select \"ID\", \"EMAIL\", \"BALANCE\" from \"DISTINCT_TYPE_TEST\" where"
+                          + " \"ID\" in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(DistinctTypeTestRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"ID\", \"EMAIL\", \"BALANCE\" from \"DISTINCT_TYPE_TEST\" where \"ID\" in"
-                    + " ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(DistinctTypeTestRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -178,6 +192,11 @@ public class DistinctTypeTestRepoImpl implements DistinctTypeTestRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<DistinctTypeTestRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.email(), f.balance()), c);
+  }
+
   @Override
   public void upsert(DistinctTypeTestRow unsaved, Connection c) {
     interpolate(
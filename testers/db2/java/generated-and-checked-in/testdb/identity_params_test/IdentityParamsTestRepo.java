@@ -40,6 +40,8 @@ public interface IdentityParamsTestRepo {
 
   Boolean update(IdentityParamsTestRow row, Connection c);
 
+  Integer updateBatch(Iterator<IdentityParamsTestRow> rows, Connection c);
+
   void upsert(IdentityParamsTestRow unsaved, Connection c);
 
   void upsertBatch(Iterator<IdentityParamsTestRow> unsaved, Connection c);
@@ -9,6 +9,7 @@ import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Db2Types;
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
 import dev.typr.foundations.dsl.SelectBuilder;
@@ -41,17 +42,24 @@ public class IdentityParamsTestRepoImpl implements IdentityParamsTestRepo {
 
   @Override
   public Integer deleteByIds(IdentityParamsTestId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(IdentityParamsTestId.db2Type, id));
+    var count = 0;
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(IdentityParamsTestId.db2Type, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from \"IDENTITY_PARAMS_TEST\" where \"ID\" in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"IDENTITY_PARAMS_TEST\" where \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -115,17 +123,24 @@ public class IdentityParamsTestRepoImpl implements IdentityParamsTestRepo {
 
   @Override
   public List<IdentityParamsTestRow> selectByIds(IdentityParamsTestId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(IdentityParamsTestId.db2Type, id));
+    ArrayList<IdentityParamsTestRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(IdentityParamsTestId.db2Type, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select \"ID\", \"NAME\" from \"IDENTITY_PARAMS_TEST\" where \"ID\" in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(IdentityParamsTestRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("select \"ID\", \"NAME\" from \"IDENTITY_PARAMS_TEST\" where \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(IdentityParamsTestRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -161,6 +176,11 @@ public class IdentityParamsTestRepoImpl implements IdentityParamsTestRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<IdentityParamsTestRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.name()), c);
+  }
+
   @Override
   public void upsert(IdentityParamsTestRow unsaved, Connection c) {
     interpolate(
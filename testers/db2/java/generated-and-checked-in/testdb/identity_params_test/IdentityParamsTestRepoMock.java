@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -162,6 +163,23 @@ public record IdentityParamsTestRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<IdentityParamsTestRow> rows, Connection c) {
+    var updated = new HashSet<IdentityParamsTestId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.id())) {
+        map.put(row.id(), row);
+        updated.add(row.id());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public void upsert(IdentityParamsTestRow unsaved, Connection c) {
     map.put(unsaved.id(), unsaved);
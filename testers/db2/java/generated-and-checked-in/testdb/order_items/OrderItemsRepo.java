@@ -37,6 +37,8 @@ public interface OrderItemsRepo {
 
   Boolean update(OrderItemsRow row, Connection c);
 
+  Integer updateBatch(Iterator<OrderItemsRow> rows, Connection c);
+
   void upsert(OrderItemsRow unsaved, Connection c);
 
   void upsertBatch(Iterator<OrderItemsRow> unsaved, Connection c);
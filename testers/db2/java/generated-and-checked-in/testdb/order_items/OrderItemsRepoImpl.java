@@ -9,6 +9,7 @@ import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Db2Types;
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
 import dev.typr.foundations.dsl.SelectBuilder;
@@ -43,23 +44,31 @@ public class OrderItemsRepoImpl implements OrderItemsRepo {
 
   @Override
   public Integer deleteByIds(OrderItemsId[] compositeIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : compositeIds) {
-      fragments.add(
-          Fragment.interpolate(
-              Fragment.lit("("),
-              Fragment.encode(OrdersId.db2Type, id.orderId()),
-              Fragment.lit(", "),
-              Fragment.encode(Db2Types.integer, id.itemNumber()),
-              Fragment.lit(")")));
+    var count = 0;
+    for (var chunk : InList.chunks(compositeIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(
+            Fragment.interpolate(
+                Fragment.lit("("),
+                Fragment.encode(OrdersId.db2Type, id.orderId()),
+                Fragment.lit(", "),
+                Fragment.encode(Db2Types.integer, id.itemNumber()),
+                Fragment.lit(")")));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit(
+                          "delete from \"ORDER_ITEMS\" where (\"ORDER_ID\", \"ITEM_NUMBER\") in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"ORDER_ITEMS\" where (\"ORDER_ID\", \"ITEM_NUMBER\") in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -119,26 +128,32 @@ public class OrderItemsRepoImpl implements OrderItemsRepo {
 
   @Override
   public List<OrderItemsRow> selectByIds(OrderItemsId[] compositeIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : compositeIds) {
-      fragments.add(
+    ArrayList<OrderItemsRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(compositeIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(
+            Fragment.interpolate(
+                Fragment.lit("("),
+                Fragment.encode(OrdersId.db2Type, id.orderId()),
+                Fragment.lit(", "),
+                Fragment.encode(Db2Types.integer, id.itemNumber()),
+                Fragment.lit(")")));
+      }
+      ;
+      result.addAll(
           Fragment.interpolate(
-              Fragment.lit("("),
-              Fragment.encode(OrdersId.db2Type, id.orderId()),
-              Fragment.lit(", "),
-              Fragment.encode(Db2Types.integer, id.itemNumber()),
-              Fragment.lit(")")));
+                  Fragment.lit(
+                      "select \"ORDER_ID\", \"ITEM_NUMBER\", \"PRODUCT_NAME\", \"QUANTITY\","
+                          + " \"UNIT_PRICE\" from \"ORDER_ITEMS\" where (\"ORDER_ID\","
+                          + " \"ITEM_NUMBER\") in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(OrderItemsRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"ORDER_ID\", \"ITEM_NUMBER\", \"PRODUCT_NAME\", \"QUANTITY\","
-                    + " \"UNIT_PRICE\" from \"ORDER_ITEMS\" where (\"ORDER_ID\", \"ITEM_NUMBER\")"
-                    + " in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(OrderItemsRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -176,6 +191,11 @@ public class OrderItemsRepoImpl implements OrderItemsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<OrderItemsRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.productName(), f.quantity(), f.unitPrice()), c);
+  }
+
   @Override
   public void upsert(OrderItemsRow unsaved, Connection c) {
     interpolate(
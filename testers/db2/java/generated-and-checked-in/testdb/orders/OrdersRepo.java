@@ -39,6 +39,8 @@ public interface OrdersRepo {
 
   Boolean update(OrdersRow row, Connection c);
 
+  Integer updateBatch(Iterator<OrdersRow> rows, Connection c);
+
   void upsert(OrdersRow unsaved, Connection c);
 
   void upsertBatch(Iterator<OrdersRow> unsaved, Connection c);
@@ -9,6 +9,7 @@ import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Db2Types;
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
 import dev.typr.foundations.dsl.SelectBuilder;
@@ -41,17 +42,24 @@ public class OrdersRepoImpl implements OrdersRepo {
 
   @Override
   public Integer deleteByIds(OrdersId[] orderIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : orderIds) {
-      fragments.add(Fragment.encode(OrdersId.db2Type, id));
+    var count = 0;
+    for (var chunk : InList.chunks(orderIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(OrdersId.db2Type, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from \"ORDERS\" where \"ORDER_ID\" in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"ORDERS\" where \"ORDER_ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -152,19 +160,25 @@ public class OrdersRepoImpl implements OrdersRepo {
 
   @Override
   public List<OrdersRow> selectByIds(OrdersId[] orderIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : orderIds) {
-      fragments.add(Fragment.encode(OrdersId.db2Type, id));
+    ArrayList<OrdersRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(orderIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(OrdersId.db2Type, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select \"ORDER_ID\", \"CUSTOMER_ID\", \"ORDER_DATE\", \"TOTAL_AMOUNT\","
+                          + " \"STATUS\" from \"ORDERS\" where \"ORDER_ID\" in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(OrdersRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"ORDER_ID\", \"CUSTOMER_ID\", \"ORDER_DATE\", \"TOTAL_AMOUNT\", \"STATUS\""
-                    + " from \"ORDERS\" where \"ORDER_ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(OrdersRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -201,6 +215,13 @@ public class OrdersRepoImpl implements OrdersRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<OrdersRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows, f -> List.of(f.customerId(), f.orderDate(), f.totalAmount(), f.status()), c);
+  }
+
   @Override
   public void upsert(OrdersRow unsaved, Connection c) {
     interpolate(
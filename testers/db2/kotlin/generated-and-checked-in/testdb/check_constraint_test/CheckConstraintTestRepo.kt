@@ -57,6 +57,11 @@ interface CheckConstraintTestRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<CheckConstraintTestRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: CheckConstraintTestRow,
     c: Connection
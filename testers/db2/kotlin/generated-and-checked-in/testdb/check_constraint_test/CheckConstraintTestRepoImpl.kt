@@ -6,6 +6,7 @@
 package testdb.check_constraint_test
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
 import dev.typr.foundations.kotlin.Fragment
@@ -32,9 +33,13 @@ class CheckConstraintTestRepoImpl() : CheckConstraintTestRepo {
     ids: Array<CheckConstraintTestId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(CheckConstraintTestId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from \"CHECK_CONSTRAINT_TEST\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(CheckConstraintTestId.db2Type, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"CHECK_CONSTRAINT_TEST\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -56,9 +61,13 @@ class CheckConstraintTestRepoImpl() : CheckConstraintTestRepo {
     ids: Array<CheckConstraintTestId>,
     c: Connection
   ): List<CheckConstraintTestRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(CheckConstraintTestId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("select \"ID\", \"AGE\", \"STATUS\", \"PRICE\" from \"CHECK_CONSTRAINT_TEST\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(CheckConstraintTestRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<CheckConstraintTestRow> = ArrayList()
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(CheckConstraintTestId.db2Type, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"ID\", \"AGE\", \"STATUS\", \"PRICE\" from \"CHECK_CONSTRAINT_TEST\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(CheckConstraintTestRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -80,6 +89,11 @@ class CheckConstraintTestRepoImpl() : CheckConstraintTestRepo {
     return Fragment.interpolate(Fragment.lit("update \"CHECK_CONSTRAINT_TEST\"\nset \"AGE\" = "), Fragment.encode(KotlinDbTypes.Db2Types.integer, row.age), Fragment.lit(",\n\"STATUS\" = "), Fragment.encode(Db2Types.varchar, row.status), Fragment.lit(",\n\"PRICE\" = "), Fragment.encode(KotlinDbTypes.Db2Types.decimal.nullable(), row.price), Fragment.lit("\nwhere \"ID\" = "), Fragment.encode(CheckConstraintTestId.db2Type, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<CheckConstraintTestRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.age(), f.status(), f.price()) }, c)
+
   override fun upsert(
     unsaved: CheckConstraintTestRow,
     c: Connection
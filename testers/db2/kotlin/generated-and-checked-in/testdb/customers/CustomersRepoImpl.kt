@@ -6,6 +6,7 @@
 package testdb.customers
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
 import dev.typr.foundations.kotlin.Fragment
@@ -31,9 +32,13 @@ class CustomersRepoImpl() : CustomersRepo {
     customerIds: Array<CustomersId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in customerIds) { fragments.add(Fragment.encode(CustomersId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from \"CUSTOMERS\" where \"CUSTOMER_ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(customerIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(CustomersId.db2Type, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"CUSTOMERS\" where \"CUSTOMER_ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -79,9 +84,13 @@ class CustomersRepoImpl() : CustomersRepo {
     customerIds: Array<CustomersId>,
     c: Connection
   ): List<CustomersRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in customerIds) { fragments.add(Fragment.encode(CustomersId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("select \"CUSTOMER_ID\", \"NAME\", \"EMAIL\", \"CREATED_AT\" from \"CUSTOMERS\" where \"CUSTOMER_ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(CustomersRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<CustomersRow> = ArrayList()
+    for (chunk in InList.chunks(customerIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(CustomersId.db2Type, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"CUSTOMER_ID\", \"NAME\", \"EMAIL\", \"CREATED_AT\" from \"CUSTOMERS\" where \"CUSTOMER_ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(CustomersRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -108,6 +117,11 @@ class CustomersRepoImpl() : CustomersRepo {
     return Fragment.interpolate(Fragment.lit("update \"CUSTOMERS\"\nset \"NAME\" = "), Fragment.encode(Db2Types.varchar, row.name), Fragment.lit(",\n\"EMAIL\" = "), Fragment.encode(Db2Types.varchar, row.email), Fragment.lit(",\n\"CREATED_AT\" = "), Fragment.encode(Db2Types.timestamp.nullable(), row.createdAt), Fragment.lit("\nwhere \"CUSTOMER_ID\" = "), Fragment.encode(CustomersId.db2Type, customerId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<CustomersRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name(), f.email(), f.createdAt()) }, c)
+
   override fun upsert(
     unsaved: CustomersRow,
     c: Connection
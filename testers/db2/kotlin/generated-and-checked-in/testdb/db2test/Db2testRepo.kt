@@ -57,6 +57,11 @@ interface Db2testRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<Db2testRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: Db2testRow,
     c: Connection
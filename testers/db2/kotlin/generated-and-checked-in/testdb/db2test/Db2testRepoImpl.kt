@@ -6,6 +6,7 @@
 package testdb.db2test
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
 import dev.typr.foundations.kotlin.Fragment
@@ -31,9 +32,13 @@ class Db2testRepoImpl() : Db2testRepo {
     intCols: Array<Db2testId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in intCols) { fragments.add(Fragment.encode(Db2testId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from \"DB2TEST\" where \"INT_COL\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(intCols)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(Db2testId.db2Type, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"DB2TEST\" where \"INT_COL\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -55,9 +60,13 @@ class Db2testRepoImpl() : Db2testRepo {
     intCols: Array<Db2testId>,
     c: Connection
   ): List<Db2testRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in intCols) { fragments.add(Fragment.encode(Db2testId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("select \"SMALLINT_COL\", \"INT_COL\", \"BIGINT_COL\", \"DECIMAL_COL\", \"NUMERIC_COL\", \"DECFLOAT16_COL\", \"DECFLOAT34_COL\", \"REAL_COL\", \"DOUBLE_COL\", \"BOOL_COL\", \"CHAR_COL\", \"VARCHAR_COL\", \"CLOB_COL\", \"GRAPHIC_COL\", \"VARGRAPHIC_COL\", \"BINARY_COL\", \"VARBINARY_COL\", \"BLOB_COL\", \"DATE_COL\", \"TIME_COL\", \"TIMESTAMP_COL\", \"TIMESTAMP6_COL\", \"TIMESTAMP12_COL\", \"XML_COL\" from \"DB2TEST\" where \"INT_COL\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(Db2testRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<Db2testRow> = ArrayList()
+    for (chunk in InList.chunks(intCols)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(Db2testId.db2Type, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"SMALLINT_COL\", \"INT_COL\", \"BIGINT_COL\", \"DECIMAL_COL\", \"NUMERIC_COL\", \"DECFLOAT16_COL\", \"DECFLOAT34_COL\", \"REAL_COL\", \"DOUBLE_COL\", \"BOOL_COL\", \"CHAR_COL\", \"VARCHAR_COL\", \"CLOB_COL\", \"GRAPHIC_COL\", \"VARGRAPHIC_COL\", \"BINARY_COL\", \"VARBINARY_COL\", \"BLOB_COL\", \"DATE_COL\", \"TIME_COL\", \"TIMESTAMP_COL\", \"TIMESTAMP6_COL\", \"TIMESTAMP12_COL\", \"XML_COL\" from \"DB2TEST\" where \"INT_COL\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(Db2testRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -79,6 +88,11 @@ class Db2testRepoImpl() : Db2testRepo {
     return Fragment.interpolate(Fragment.lit("update \"DB2TEST\"\nset \"SMALLINT_COL\" = "), Fragment.encode(KotlinDbTypes.Db2Types.smallint, row.smallintCol), Fragment.lit(",\n\"BIGINT_COL\" = "), Fragment.encode(KotlinDbTypes.Db2Types.bigint, row.bigintCol), Fragment.lit(",\n\"DECIMAL_COL\" = "), Fragment.encode(KotlinDbTypes.Db2Types.decimal, row.decimalCol), Fragment.lit(",\n\"NUMERIC_COL\" = "), Fragment.encode(KotlinDbTypes.Db2Types.decimal, row.numericCol), Fragment.lit(",\n\"DECFLOAT16_COL\" = "), Fragment.encode(KotlinDbTypes.Db2Types.decfloat, row.decfloat16Col), Fragment.lit(",\n\"DECFLOAT34_COL\" = "), Fragment.encode(KotlinDbTypes.Db2Types.decfloat, row.decfloat34Col), Fragment.lit(",\n\"REAL_COL\" = "), Fragment.encode(KotlinDbTypes.Db2Types.real, row.realCol), Fragment.lit(",\n\"DOUBLE_COL\" = "), Fragment.encode(KotlinDbTypes.Db2Types.double_, row.doubleCol), Fragment.lit(",\n\"BOOL_COL\" = "), Fragment.encode(KotlinDbTypes.Db2Types.boolean_, row.boolCol), Fragment.lit(",\n\"CHAR_COL\" = "), Fragment.encode(Db2Types.char_, row.charCol), Fragment.lit(",\n\"VARCHAR_COL\" = "), Fragment.encode(Db2Types.varchar, row.varcharCol), Fragment.lit(",\n\"CLOB_COL\" = "), Fragment.encode(Db2Types.clob, row.clobCol), Fragment.lit(",\n\"GRAPHIC_COL\" = "), Fragment.encode(Db2Types.graphic, row.graphicCol), Fragment.lit(",\n\"VARGRAPHIC_COL\" = "), Fragment.encode(Db2Types.vargraphic, row.vargraphicCol), Fragment.lit(",\n\"BINARY_COL\" = "), Fragment.encode(Db2Types.binary, row.binaryCol), Fragment.lit(",\n\"VARBINARY_COL\" = "), Fragment.encode(Db2Types.varbinary, row.varbinaryCol), Fragment.lit(",\n\"BLOB_COL\" = "), Fragment.encode(Db2Types.blob, row.blobCol), Fragment.lit(",\n\"DATE_COL\" = "), Fragment.encode(Db2Types.date, row.dateCol), Fragment.lit(",\n\"TIME_COL\" = "), Fragment.encode(Db2Types.time, row.timeCol), Fragment.lit(",\n\"TIMESTAMP_COL\" = "), Fragment.encode(Db2Types.timestamp, row.timestampCol), Fragment.lit(",\n\"TIMESTAMP6_COL\" = "), Fragment.encode(Db2Types.timestamp, row.timestamp6Col), Fragment.lit(",\n\"TIMESTAMP12_COL\" = "), Fragment.encode(Db2Types.timestamp, row.timestamp12Col), Fragment.lit(",\n\"XML_COL\" = "), Fragment.encode(Db2Types.xml, row.xmlCol), Fragment.lit("\nwhere \"INT_COL\" = "), Fragment.encode(Db2testId.db2Type, intCol), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<Db2testRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.smallintCol(), f.bigintCol(), f.decimalCol(), f.numericCol(), f.decfloat16Col(), f.decfloat34Col(), f.realCol(), f.doubleCol(), f.boolCol(), f.charCol(), f.varcharCol(), f.clobCol(), f.graphicCol(), f.vargraphicCol(), f.binaryCol(), f.varbinaryCol(), f.blobCol(), f.dateCol(), f.timeCol(), f.timestampCol(), f.timestamp6Col(), f.timestamp12Col(), f.xmlCol()) }, c)
+
   override fun upsert(
     unsaved: Db2testRow,
     c: Connection
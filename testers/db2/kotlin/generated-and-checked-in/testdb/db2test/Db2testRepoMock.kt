@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -95,6 +96,21 @@ data class Db2testRepoMock(val map: MutableMap<Db2testId, Db2testRow> = mutableM
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<Db2testRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<Db2testId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.intCol)) {
+        map[row.intCol] = row
+        updated.add(row.intCol)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: Db2testRow,
     c: Connection
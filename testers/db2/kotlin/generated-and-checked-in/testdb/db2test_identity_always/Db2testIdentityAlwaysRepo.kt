@@ -62,6 +62,11 @@ interface Db2testIdentityAlwaysRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<Db2testIdentityAlwaysRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: Db2testIdentityAlwaysRow,
     c: Connection
@@ -62,6 +62,11 @@ interface Db2testIdentityDefaultRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<Db2testIdentityDefaultRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: Db2testIdentityDefaultRow,
     c: Connection
@@ -6,6 +6,7 @@
 package testdb.db2test_identity_default
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
 import dev.typr.foundations.kotlin.Fragment
@@ -30,9 +31,13 @@ class Db2testIdentityDefaultRepoImpl() : Db2testIdentityDefaultRepo {
     ids: Array<Db2testIdentityDefaultId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(Db2testIdentityDefaultId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from \"DB2TEST_IDENTITY_DEFAULT\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(Db2testIdentityDefaultId.db2Type, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"DB2TEST_IDENTITY_DEFAULT\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -71,9 +76,13 @@ class Db2testIdentityDefaultRepoImpl() : Db2testIdentityDefaultRepo {
     ids: Array<Db2testIdentityDefaultId>,
     c: Connection
   ): List<Db2testIdentityDefaultRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(Db2testIdentityDefaultId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("select \"ID\", \"NAME\" from \"DB2TEST_IDENTITY_DEFAULT\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(Db2testIdentityDefaultRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<Db2testIdentityDefaultRow> = ArrayList()
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(Db2testIdentityDefaultId.db2Type, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"ID\", \"NAME\" from \"DB2TEST_IDENTITY_DEFAULT\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(Db2testIdentityDefaultRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -95,6 +104,11 @@ class Db2testIdentityDefaultRepoImpl() : Db2testIdentityDefaultRepo {
     return Fragment.interpolate(Fragment.lit("update \"DB2TEST_IDENTITY_DEFAULT\"\nset \"NAME\" = "), Fragment.encode(Db2Types.varchar, row.name), Fragment.lit("\nwhere \"ID\" = "), Fragment.encode(Db2testIdentityDefaultId.db2Type, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<Db2testIdentityDefaultRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name()) }, c)
+
   override fun upsert(
     unsaved: Db2testIdentityDefaultRow,
     c: Connection
@@ -73,6 +73,11 @@ interface Db2testUniqueRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<Db2testUniqueRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: Db2testUniqueRow,
     c: Connection
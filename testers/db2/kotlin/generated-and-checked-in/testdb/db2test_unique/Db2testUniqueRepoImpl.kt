@@ -6,6 +6,7 @@
 package testdb.db2test_unique
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
 import dev.typr.foundations.kotlin.Fragment
@@ -30,9 +31,13 @@ class Db2testUniqueRepoImpl() : Db2testUniqueRepo {
     ids: Array<Db2testUniqueId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(Db2testUniqueId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from \"DB2TEST_UNIQUE\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(Db2testUniqueId.db2Type, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"DB2TEST_UNIQUE\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -70,9 +75,13 @@ class Db2testUniqueRepoImpl() : Db2testUniqueRepo {
     ids: Array<Db2testUniqueId>,
     c: Connection
   ): List<Db2testUniqueRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(Db2testUniqueId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("select \"ID\", \"EMAIL\", \"CODE\", \"CATEGORY\" from \"DB2TEST_UNIQUE\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(Db2testUniqueRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<Db2testUniqueRow> = ArrayList()
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(Db2testUniqueId.db2Type, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"ID\", \"EMAIL\", \"CODE\", \"CATEGORY\" from \"DB2TEST_UNIQUE\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(Db2testUniqueRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -105,6 +114,11 @@ class Db2testUniqueRepoImpl() : Db2testUniqueRepo {
     return Fragment.interpolate(Fragment.lit("update \"DB2TEST_UNIQUE\"\nset \"EMAIL\" = "), Fragment.encode(Db2Types.varchar, row.email), Fragment.lit(",\n\"CODE\" = "), Fragment.encode(Db2Types.varchar, row.code), Fragment.lit(",\n\"CATEGORY\" = "), Fragment.encode(Db2Types.varchar, row.category), Fragment.lit("\nwhere \"ID\" = "), Fragment.encode(Db2testUniqueId.db2Type, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<Db2testUniqueRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.email(), f.code(), f.category()) }, c)
+
   override fun upsert(
     unsaved: Db2testUniqueRow,
     c: Connection
@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -114,6 +115,21 @@ data class Db2testUniqueRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<Db2testUniqueRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<Db2testUniqueId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.id)) {
+        map[row.id] = row
+        updated.add(row.id)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: Db2testUniqueRow,
     c: Connection
@@ -62,6 +62,11 @@ interface DistinctTypeTestRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<DistinctTypeTestRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: DistinctTypeTestRow,
     c: Connection
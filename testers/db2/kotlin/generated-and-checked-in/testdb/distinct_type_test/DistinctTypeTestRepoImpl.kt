@@ -5,6 +5,7 @@
  */
 package testdb.distinct_type_test
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
 import dev.typr.foundations.kotlin.Fragment
@@ -32,9 +33,13 @@ class DistinctTypeTestRepoImpl() : DistinctTypeTestRepo {
     ids: Array<DistinctTypeTestId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(DistinctTypeTestId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from \"DISTINCT_TYPE_TEST\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(DistinctTypeTestId.db2Type, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"DISTINCT_TYPE_TEST\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -70,9 +75,13 @@ class DistinctTypeTestRepoImpl() : DistinctTypeTestRepo {
     ids: Array<DistinctTypeTestId>,
     c: Connection
   ): List<DistinctTypeTestRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(DistinctTypeTestId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("select \"ID\", \"EMAIL\", \"BALANCE\" from \"DISTINCT_TYPE_TEST\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(DistinctTypeTestRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<DistinctTypeTestRow> = ArrayList()
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(DistinctTypeTestId.db2Type, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"ID\", \"EMAIL\", \"BALANCE\" from \"DISTINCT_TYPE_TEST\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(DistinctTypeTestRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -94,6 +103,11 @@ class DistinctTypeTestRepoImpl() : DistinctTypeTestRepo {
     return Fragment.interpolate(Fragment.lit("update \"DISTINCT_TYPE_TEST\"\nset \"EMAIL\" = "), Fragment.encode(EmailAddress.db2Type, row.email), Fragment.lit(",\n\"BALANCE\" = "), Fragment.encode(MoneyAmount.db2Type.nullable(), row.balance), Fragment.lit("\nwhere \"ID\" = "), Fragment.encode(DistinctTypeTestId.db2Type, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<DistinctTypeTestRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.email(), f.balance()) }, c)
+
   override fun upsert(
     unsaved: DistinctTypeTestRow,
     c: Connection
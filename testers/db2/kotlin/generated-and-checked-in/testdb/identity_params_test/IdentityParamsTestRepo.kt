@@ -62,6 +62,11 @@ interface IdentityParamsTestRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<IdentityParamsTestRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: IdentityParamsTestRow,
     c: Connection
@@ -6,6 +6,7 @@
 package testdb.identity_params_test
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
 import dev.typr.foundations.kotlin.Fragment
@@ -30,9 +31,13 @@ class IdentityParamsTestRepoImpl() : IdentityParamsTestRepo {
     ids: Array<IdentityParamsTestId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(IdentityParamsTestId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from \"IDENTITY_PARAMS_TEST\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(IdentityParamsTestId.db2Type, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"IDENTITY_PARAMS_TEST\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -66,9 +71,13 @@ class IdentityParamsTestRepoImpl() : IdentityParamsTestRepo {
     ids: Array<IdentityParamsTestId>,
     c: Connection
   ): List<IdentityParamsTestRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(IdentityParamsTestId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("select \"ID\", \"NAME\" from \"IDENTITY_PARAMS_TEST\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(IdentityParamsTestRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<IdentityParamsTestRow> = ArrayList()
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(IdentityParamsTestId.db2Type, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"ID\", \"NAME\" from \"IDENTITY_PARAMS_TEST\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(IdentityParamsTestRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -90,6 +99,11 @@ class IdentityParamsTestRepoImpl() : IdentityParamsTestRepo {
     return Fragment.interpolate(Fragment.lit("update \"IDENTITY_PARAMS_TEST\"\nset \"NAME\" = "), Fragment.encode(Db2Types.varchar, row.name), Fragment.lit("\nwhere \"ID\" = "), Fragment.encode(IdentityParamsTestId.db2Type, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<IdentityParamsTestRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name()) }, c)
+
   override fun upsert(
     unsaved: IdentityParamsTestRow,
     c: Connection
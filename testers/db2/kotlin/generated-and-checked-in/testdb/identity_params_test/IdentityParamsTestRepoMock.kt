@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -103,6 +104,21 @@ data class IdentityParamsTestRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<IdentityParamsTestRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<IdentityParamsTestId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.id)) {
+        map[row.id] = row
+        updated.add(row.id)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: IdentityParamsTestRow,
     c: Connection
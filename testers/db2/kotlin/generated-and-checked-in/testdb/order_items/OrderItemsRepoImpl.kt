@@ -6,6 +6,7 @@
 package testdb.order_items
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
 import dev.typr.foundations.kotlin.Fragment
@@ -32,9 +33,13 @@ class OrderItemsRepoImpl() : OrderItemsRepo {
     compositeIds: Array<OrderItemsId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in compositeIds) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OrdersId.db2Type, id.orderId), Fragment.lit(", "), Fragment.encode(KotlinDbTypes.Db2Types.integer, id.itemNumber), Fragment.lit(")"))) }
-    return Fragment.interpolate(Fragment.lit("delete from \"ORDER_ITEMS\" where (\"ORDER_ID\", \"ITEM_NUMBER\") in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(compositeIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OrdersId.db2Type, id.orderId), Fragment.lit(", "), Fragment.encode(KotlinDbTypes.Db2Types.integer, id.itemNumber), Fragment.lit(")"))) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"ORDER_ITEMS\" where (\"ORDER_ID\", \"ITEM_NUMBER\") in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -56,9 +61,13 @@ class OrderItemsRepoImpl() : OrderItemsRepo {
     compositeIds: Array<OrderItemsId>,
     c: Connection
   ): List<OrderItemsRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in compositeIds) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OrdersId.db2Type, id.orderId), Fragment.lit(", "), Fragment.encode(KotlinDbTypes.Db2Types.integer, id.itemNumber), Fragment.lit(")"))) }
-    return Fragment.interpolate(Fragment.lit("select \"ORDER_ID\", \"ITEM_NUMBER\", \"PRODUCT_NAME\", \"QUANTITY\", \"UNIT_PRICE\" from \"ORDER_ITEMS\" where (\"ORDER_ID\", \"ITEM_NUMBER\") in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(OrderItemsRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<OrderItemsRow> = ArrayList()
+    for (chunk in InList.chunks(compositeIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OrdersId.db2Type, id.orderId), Fragment.lit(", "), Fragment.encode(KotlinDbTypes.Db2Types.integer, id.itemNumber), Fragment.lit(")"))) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"ORDER_ID\", \"ITEM_NUMBER\", \"PRODUCT_NAME\", \"QUANTITY\", \"UNIT_PRICE\" from \"ORDER_ITEMS\" where (\"ORDER_ID\", \"ITEM_NUMBER\") in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(OrderItemsRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -80,6 +89,11 @@ class OrderItemsRepoImpl() : OrderItemsRepo {
     return Fragment.interpolate(Fragment.lit("update \"ORDER_ITEMS\"\nset \"PRODUCT_NAME\" = "), Fragment.encode(Db2Types.varchar, row.productName), Fragment.lit(",\n\"QUANTITY\" = "), Fragment.encode(KotlinDbTypes.Db2Types.integer, row.quantity), Fragment.lit(",\n\"UNIT_PRICE\" = "), Fragment.encode(KotlinDbTypes.Db2Types.decimal, row.unitPrice), Fragment.lit("\nwhere \"ORDER_ID\" = "), Fragment.encode(OrdersId.db2Type, compositeId.orderId), Fragment.lit(" AND \"ITEM_NUMBER\" = "), Fragment.encode(KotlinDbTypes.Db2Types.integer, compositeId.itemNumber), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<OrderItemsRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.productName(), f.quantity(), f.unitPrice()) }, c)
+
   override fun upsert(
     unsaved: OrderItemsRow,
     c: Connection
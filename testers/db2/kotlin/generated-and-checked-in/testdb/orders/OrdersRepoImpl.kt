@@ -6,6 +6,7 @@
 package testdb.orders
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
 import dev.typr.foundations.kotlin.Fragment
@@ -33,9 +34,13 @@ class OrdersRepoImpl() : OrdersRepo {
     orderIds: Array<OrdersId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in orderIds) { fragments.add(Fragment.encode(OrdersId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from \"ORDERS\" where \"ORDER_ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(orderIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(OrdersId.db2Type, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"ORDERS\" where \"ORDER_ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -81,9 +86,13 @@ class OrdersRepoImpl() : OrdersRepo {
     orderIds: Array<OrdersId>,
     c: Connection
   ): List<OrdersRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in orderIds) { fragments.add(Fragment.encode(OrdersId.db2Type, id)) }
-    return Fragment.interpolate(Fragment.lit("select \"ORDER_ID\", \"CUSTOMER_ID\", \"ORDER_DATE\", \"TOTAL_AMOUNT\", \"STATUS\" from \"ORDERS\" where \"ORDER_ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(OrdersRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<OrdersRow> = ArrayList()
+    for (chunk in InList.chunks(orderIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(OrdersId.db2Type, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"ORDER_ID\", \"CUSTOMER_ID\", \"ORDER_DATE\", \"TOTAL_AMOUNT\", \"STATUS\" from \"ORDERS\" where \"ORDER_ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(OrdersRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -105,6 +114,11 @@ class OrdersRepoImpl() : OrdersRepo {
     return Fragment.interpolate(Fragment.lit("update \"ORDERS\"\nset \"CUSTOMER_ID\" = "), Fragment.encode(CustomersId.db2Type, row.customerId), Fragment.lit(",\n\"ORDER_DATE\" = "), Fragment.encode(Db2Types.date, row.orderDate), Fragment.lit(",\n\"TOTAL_AMOUNT\" = "), Fragment.encode(KotlinDbTypes.Db2Types.decimal.nullable(), row.totalAmount), Fragment.lit(",\n\"STATUS\" = "), Fragment.encode(Db2Types.varchar.nullable(), row.status), Fragment.lit("\nwhere \"ORDER_ID\" = "), Fragment.encode(OrdersId.db2Type, orderId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<OrdersRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.customerId(), f.orderDate(), f.totalAmount(), f.status()) }, c)
+
   override fun upsert(
     unsaved: OrdersRow,
     c: Connection
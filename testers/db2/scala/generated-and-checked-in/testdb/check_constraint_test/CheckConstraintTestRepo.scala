@@ -33,6 +33,8 @@ trait CheckConstraintTestRepo {
 
   def update(row: CheckConstraintTestRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[CheckConstraintTestRow])(using c: Connection): Int
+
   def upsert(unsaved: CheckConstraintTestRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: Iterator[CheckConstraintTestRow])(using c: Connection): Unit
@@ -6,6 +6,7 @@
 package testdb.check_constraint_test
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
@@ -23,9 +24,9 @@ class CheckConstraintTestRepoImpl extends CheckConstraintTestRepo {
   override def deleteById(id: CheckConstraintTestId)(using c: Connection): Boolean = sql"""delete from "CHECK_CONSTRAINT_TEST" where "ID" = ${Fragment.encode(CheckConstraintTestId.db2Type, id)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[CheckConstraintTestId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(CheckConstraintTestId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "CHECK_CONSTRAINT_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(CheckConstraintTestId.db2Type, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("""delete from "CHECK_CONSTRAINT_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: CheckConstraintTestRow)(using c: Connection): CheckConstraintTestRow = {
@@ -50,9 +51,9 @@ class CheckConstraintTestRepoImpl extends CheckConstraintTestRepo {
   }
 
   override def selectByIds(ids: Array[CheckConstraintTestId])(using c: Connection): List[CheckConstraintTestRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(CheckConstraintTestId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "ID", "AGE", "STATUS", "PRICE" from "CHECK_CONSTRAINT_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(CheckConstraintTestRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[CheckConstraintTestRow] = ListBuffer()
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(CheckConstraintTestId.db2Type, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("""select "ID", "AGE", "STATUS", "PRICE" from "CHECK_CONSTRAINT_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(CheckConstraintTestRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[CheckConstraintTestId])(using c: Connection): Map[CheckConstraintTestId, CheckConstraintTestRow] = {
@@ -72,6 +73,8 @@ class CheckConstraintTestRepoImpl extends CheckConstraintTestRepo {
     where "ID" = ${Fragment.encode(CheckConstraintTestId.db2Type, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[CheckConstraintTestRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.age, f.status, f.price))(using c)
+
   override def upsert(unsaved: CheckConstraintTestRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "CHECK_CONSTRAINT_TEST" AS t
     USING (VALUES (${Fragment.encode(CheckConstraintTestId.db2Type, unsaved.id)}, ${Fragment.encode(ScalaDbTypes.Db2Types.integer, unsaved.age)}, ${Fragment.encode(Db2Types.varchar, unsaved.status)}, ${Fragment.encode(ScalaDbTypes.Db2Types.decimal.nullable, unsaved.price)})) AS s("ID", "AGE", "STATUS", "PRICE")
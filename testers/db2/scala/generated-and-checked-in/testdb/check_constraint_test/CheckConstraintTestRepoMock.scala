@@ -58,6 +58,15 @@ case class CheckConstraintTestRepoMock(map: scala.collection.mutable.Map[CheckCo
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[CheckConstraintTestRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.id)) {
+        map.put(row.id, row): @scala.annotation.nowarn
+        Some(row.id)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: CheckConstraintTestRow)(using c: Connection): Unit = map.put(unsaved.id, unsaved): @scala.annotation.nowarn
 
   override def upsertBatch(unsaved: Iterator[CheckConstraintTestRow])(using c: Connection): Unit = {
@@ -37,6 +37,8 @@ trait CustomersRepo {
 
   def update(row: CustomersRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[CustomersRow])(using c: Connection): Int
+
   def upsert(unsaved: CustomersRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: Iterator[CustomersRow])(using c: Connection): Unit
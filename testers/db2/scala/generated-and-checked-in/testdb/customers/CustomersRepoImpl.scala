@@ -6,6 +6,7 @@
 package testdb.customers
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
@@ -22,9 +23,9 @@ class CustomersRepoImpl extends CustomersRepo {
   override def deleteById(customerId: CustomersId)(using c: Connection): Boolean = sql"""delete from "CUSTOMERS" where "CUSTOMER_ID" = ${Fragment.encode(CustomersId.db2Type, customerId)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(customerIds: Array[CustomersId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    customerIds.foreach { id => fragments.addOne(Fragment.encode(CustomersId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "CUSTOMERS" where "CUSTOMER_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    customerIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(CustomersId.db2Type, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("""delete from "CUSTOMERS" where "CUSTOMER_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: CustomersRow)(using c: Connection): CustomersRow = {
@@ -72,9 +73,9 @@ class CustomersRepoImpl extends CustomersRepo {
   }
 
   override def selectByIds(customerIds: Array[CustomersId])(using c: Connection): List[CustomersRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    customerIds.foreach { id => fragments.addOne(Fragment.encode(CustomersId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "CUSTOMER_ID", "NAME", "EMAIL", "CREATED_AT" from "CUSTOMERS" where "CUSTOMER_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(CustomersRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[CustomersRow] = ListBuffer()
+    customerIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(CustomersId.db2Type, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("""select "CUSTOMER_ID", "NAME", "EMAIL", "CREATED_AT" from "CUSTOMERS" where "CUSTOMER_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(CustomersRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(customerIds: Array[CustomersId])(using c: Connection): Map[CustomersId, CustomersRow] = {
@@ -101,6 +102,8 @@ class CustomersRepoImpl extends CustomersRepo {
     where "CUSTOMER_ID" = ${Fragment.encode(CustomersId.db2Type, customerId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[CustomersRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.email, f.createdAt))(using c)
+
   override def upsert(unsaved: CustomersRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "CUSTOMERS" AS t
     USING (VALUES (${Fragment.encode(CustomersId.db2Type, unsaved.customerId)}, ${Fragment.encode(Db2Types.varchar, unsaved.name)}, ${Fragment.encode(Db2Types.varchar, unsaved.email)}, ${Fragment.encode(Db2Types.timestamp.nullable, unsaved.createdAt)})) AS s("CUSTOMER_ID", "NAME", "EMAIL", "CREATED_AT")
@@ -33,6 +33,8 @@ trait Db2testRepo {
 
   def update(row: Db2testRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[Db2testRow])(using c: Connection): Int
+
   def upsert(unsaved: Db2testRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: Iterator[Db2testRow])(using c: Connection): Unit
@@ -6,6 +6,7 @@
 package testdb.db2test
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
 import dev.typr.foundations.scala.Fragment
@@ -22,9 +23,9 @@ class Db2testRepoImpl extends Db2testRepo {
   override def deleteById(intCol: Db2testId)(using c: Connection): Boolean = sql"""delete from "DB2TEST" where "INT_COL" = ${Fragment.encode(Db2testId.db2Type, intCol)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(intCols: Array[Db2testId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    intCols.foreach { id => fragments.addOne(Fragment.encode(Db2testId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "DB2TEST" where "INT_COL" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    intCols.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(Db2testId.db2Type, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("""delete from "DB2TEST" where "INT_COL" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: Db2testRow)(using c: Connection): Db2testRow = {
@@ -49,9 +50,9 @@ class Db2testRepoImpl extends Db2testRepo {
   }
 
   override def selectByIds(intCols: Array[Db2testId])(using c: Connection): List[Db2testRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    intCols.foreach { id => fragments.addOne(Fragment.encode(Db2testId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "SMALLINT_COL", "INT_COL", "BIGINT_COL", "DECIMAL_COL", "NUMERIC_COL", "DECFLOAT16_COL", "DECFLOAT34_COL", "REAL_COL", "DOUBLE_COL", "BOOL_COL", "CHAR_COL", "VARCHAR_COL", "CLOB_COL", "GRAPHIC_COL", "VARGRAPHIC_COL", "BINARY_COL", "VARBINARY_COL", "BLOB_COL", "DATE_COL", "TIME_COL", "TIMESTAMP_COL", "TIMESTAMP6_COL", "TIMESTAMP12_COL", "XML_COL" from "DB2TEST" where "INT_COL" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(Db2testRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[Db2testRow] = ListBuffer()
+    intCols.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(Db2testId.db2Type, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("""select "SMALLINT_COL", "INT_COL", "BIGINT_COL", "DECIMAL_COL", "NUMERIC_COL", "DECFLOAT16_COL", "DECFLOAT34_COL", "REAL_COL", "DOUBLE_COL", "BOOL_COL", "CHAR_COL", "VARCHAR_COL", "CLOB_COL", "GRAPHIC_COL", "VARGRAPHIC_COL", "BINARY_COL", "VARBINARY_COL", "BLOB_COL", "DATE_COL", "TIME_COL", "TIMESTAMP_COL", "TIMESTAMP6_COL", "TIMESTAMP12_COL", "XML_COL" from "DB2TEST" where "INT_COL" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(Db2testRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(intCols: Array[Db2testId])(using c: Connection): Map[Db2testId, Db2testRow] = {
@@ -91,6 +92,8 @@ class Db2testRepoImpl extends Db2testRepo {
     where "INT_COL" = ${Fragment.encode(Db2testId.db2Type, intCol)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[Db2testRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.smallintCol, f.bigintCol, f.decimalCol, f.numericCol, f.decfloat16Col, f.decfloat34Col, f.realCol, f.doubleCol, f.boolCol, f.charCol, f.varcharCol, f.clobCol, f.graphicCol, f.vargraphicCol, f.binaryCol, f.varbinaryCol, f.blobCol, f.dateCol, f.timeCol, f.timestampCol, f.timestamp6Col, f.timestamp12Col, f.xmlCol))(using c)
+
   override def upsert(unsaved: Db2testRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "DB2TEST" AS t
     USING (VALUES (${Fragment.encode(ScalaDbTypes.Db2Types.smallint, unsaved.smallintCol)}, ${Fragment.encode(Db2testId.db2Type, unsaved.intCol)}, ${Fragment.encode(ScalaDbTypes.Db2Types.bigint, unsaved.bigintCol)}, ${Fragment.encode(ScalaDbTypes.Db2Types.decimal, unsaved.decimalCol)}, ${Fragment.encode(ScalaDbTypes.Db2Types.decimal, unsaved.numericCol)}, ${Fragment.encode(ScalaDbTypes.Db2Types.decfloat, unsaved.decfloat16Col)}, ${Fragment.encode(ScalaDbTypes.Db2Types.decfloat, unsaved.decfloat34Col)}, ${Fragment.encode(ScalaDbTypes.Db2Types.real, unsaved.realCol)}, ${Fragment.encode(ScalaDbTypes.Db2Types.double_, unsaved.doubleCol)}, ${Fragment.encode(ScalaDbTypes.Db2Types.boolean_, unsaved.boolCol)}, ${Fragment.encode(Db2Types.char_, unsaved.charCol)}, ${Fragment.encode(Db2Types.varchar, unsaved.varcharCol)}, ${Fragment.encode(Db2Types.clob, unsaved.clobCol)}, ${Fragment.encode(Db2Types.graphic, unsaved.graphicCol)}, ${Fragment.encode(Db2Types.vargraphic, unsaved.vargraphicCol)}, ${Fragment.encode(Db2Types.binary, unsaved.binaryCol)}, ${Fragment.encode(Db2Types.varbinary, unsaved.varbinaryCol)}, ${Fragment.encode(Db2Types.blob, unsaved.blobCol)}, ${Fragment.encode(Db2Types.date, unsaved.dateCol)}, ${Fragment.encode(Db2Types.time, unsaved.timeCol)}, ${Fragment.encode(Db2Types.timestamp, unsaved.timestampCol)}, ${Fragment.encode(Db2Types.timestamp, unsaved.timestamp6Col)}, ${Fragment.encode(Db2Types.timestamp, unsaved.timestamp12Col)}, ${Fragment.encode(Db2Types.xml, unsaved.xmlCol)})) AS s("SMALLINT_COL", "INT_COL", "BIGINT_COL", "DECIMAL_COL", "NUMERIC_COL", "DECFLOAT16_COL", "DECFLOAT34_COL", "REAL_COL", "DOUBLE_COL", "BOOL_COL", "CHAR_COL", "VARCHAR_COL", "CLOB_COL", "GRAPHIC_COL", "VARGRAPHIC_COL", "BINARY_COL", "VARBINARY_COL", "BLOB_COL", "DATE_COL", "TIME_COL", "TIMESTAMP_COL", "TIMESTAMP6_COL", "TIMESTAMP12_COL", "XML_COL")
@@ -58,6 +58,15 @@ case class Db2testRepoMock(map: scala.collection.mutable.Map[Db2testId, Db2testR
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[Db2testRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.intCol)) {
+        map.put(row.intCol, row): @scala.annotation.nowarn
+        Some(row.intCol)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: Db2testRow)(using c: Connection): Unit = map.put(unsaved.intCol, unsaved): @scala.annotation.nowarn
 
   override def upsertBatch(unsaved: Iterator[Db2testRow])(using c: Connection): Unit = {
@@ -35,6 +35,8 @@ trait Db2testIdentityAlwaysRepo {
 
   def update(row: Db2testIdentityAlwaysRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[Db2testIdentityAlwaysRow])(using c: Connection): Int
+
   def upsert(unsaved: Db2testIdentityAlwaysRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: Iterator[Db2testIdentityAlwaysRow])(using c: Connection): Unit
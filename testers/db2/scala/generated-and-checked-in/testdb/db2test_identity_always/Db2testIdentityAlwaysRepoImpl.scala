@@ -6,6 +6,7 @@
 package testdb.db2test_identity_always
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
 import dev.typr.foundations.scala.Fragment
@@ -21,9 +22,9 @@ class Db2testIdentityAlwaysRepoImpl extends Db2testIdentityAlwaysRepo {
   override def deleteById(id: Db2testIdentityAlwaysId)(using c: Connection): Boolean = sql"""delete from "DB2TEST_IDENTITY_ALWAYS" where "ID" = ${Fragment.encode(Db2testIdentityAlwaysId.db2Type, id)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[Db2testIdentityAlwaysId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(Db2testIdentityAlwaysId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "DB2TEST_IDENTITY_ALWAYS" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(Db2testIdentityAlwaysId.db2Type, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("""delete from "DB2TEST_IDENTITY_ALWAYS" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: Db2testIdentityAlwaysRow)(using c: Connection): Db2testIdentityAlwaysRow = {
@@ -61,9 +62,9 @@ class Db2testIdentityAlwaysRepoImpl extends Db2testIdentityAlwaysRepo {
   }
 
   override def selectByIds(ids: Array[Db2testIdentityAlwaysId])(using c: Connection): List[Db2testIdentityAlwaysRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(Db2testIdentityAlwaysId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "ID", "NAME" from "DB2TEST_IDENTITY_ALWAYS" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(Db2testIdentityAlwaysRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[Db2testIdentityAlwaysRow] = ListBuffer()
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(Db2testIdentityAlwaysId.db2Type, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("""select "ID", "NAME" from "DB2TEST_IDENTITY_ALWAYS" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(Db2testIdentityAlwaysRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[Db2testIdentityAlwaysId])(using c: Connection): Map[Db2testIdentityAlwaysId, Db2testIdentityAlwaysRow] = {
@@ -81,6 +82,8 @@ class Db2testIdentityAlwaysRepoImpl extends Db2testIdentityAlwaysRepo {
     where "ID" = ${Fragment.encode(Db2testIdentityAlwaysId.db2Type, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[Db2testIdentityAlwaysRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name))(using c)
+
   override def upsert(unsaved: Db2testIdentityAlwaysRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "DB2TEST_IDENTITY_ALWAYS" AS t
     USING (VALUES (${Fragment.encode(Db2testIdentityAlwaysId.db2Type, unsaved.id)}, ${Fragment.encode(Db2Types.varchar, unsaved.name)})) AS s("ID", "NAME")
@@ -35,6 +35,8 @@ trait Db2testIdentityDefaultRepo {
 
   def update(row: Db2testIdentityDefaultRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[Db2testIdentityDefaultRow])(using c: Connection): Int
+
   def upsert(unsaved: Db2testIdentityDefaultRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: Iterator[Db2testIdentityDefaultRow])(using c: Connection): Unit
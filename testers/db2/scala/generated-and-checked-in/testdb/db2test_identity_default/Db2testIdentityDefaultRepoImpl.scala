@@ -6,6 +6,7 @@
 package testdb.db2test_identity_default
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
 import dev.typr.foundations.scala.Fragment
@@ -21,9 +22,9 @@ class Db2testIdentityDefaultRepoImpl extends Db2testIdentityDefaultRepo {
   override def deleteById(id: Db2testIdentityDefaultId)(using c: Connection): Boolean = sql"""delete from "DB2TEST_IDENTITY_DEFAULT" where "ID" = ${Fragment.encode(Db2testIdentityDefaultId.db2Type, id)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[Db2testIdentityDefaultId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(Db2testIdentityDefaultId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "DB2TEST_IDENTITY_DEFAULT" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(Db2testIdentityDefaultId.db2Type, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("""delete from "DB2TEST_IDENTITY_DEFAULT" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: Db2testIdentityDefaultRow)(using c: Connection): Db2testIdentityDefaultRow = {
@@ -65,9 +66,9 @@ class Db2testIdentityDefaultRepoImpl extends Db2testIdentityDefaultRepo {
   }
 
   override def selectByIds(ids: Array[Db2testIdentityDefaultId])(using c: Connection): List[Db2testIdentityDefaultRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(Db2testIdentityDefaultId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "ID", "NAME" from "DB2TEST_IDENTITY_DEFAULT" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(Db2testIdentityDefaultRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[Db2testIdentityDefaultRow] = ListBuffer()
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(Db2testIdentityDefaultId.db2Type, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("""select "ID", "NAME" from "DB2TEST_IDENTITY_DEFAULT" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(Db2testIdentityDefaultRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[Db2testIdentityDefaultId])(using c: Connection): Map[Db2testIdentityDefaultId, Db2testIdentityDefaultRow] = {
@@ -85,6 +86,8 @@ class Db2testIdentityDefaultRepoImpl extends Db2testIdentityDefaultRepo {
     where "ID" = ${Fragment.encode(Db2testIdentityDefaultId.db2Type, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[Db2testIdentityDefaultRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name))(using c)
+
   override def upsert(unsaved: Db2testIdentityDefaultRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "DB2TEST_IDENTITY_DEFAULT" AS t
     USING (VALUES (${Fragment.encode(Db2testIdentityDefaultId.db2Type, unsaved.id)}, ${Fragment.encode(Db2Types.varchar, unsaved.name)})) AS s("ID", "NAME")
@@ -42,6 +42,8 @@ trait Db2testUniqueRepo {
 
   def update(row: Db2testUniqueRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[Db2testUniqueRow])(using c: Connection): Int
+
   def upsert(unsaved: Db2testUniqueRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: Iterator[Db2testUniqueRow])(using c: Connection): Unit
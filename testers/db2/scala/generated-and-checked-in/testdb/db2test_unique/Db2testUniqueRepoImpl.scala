@@ -6,6 +6,7 @@
 package testdb.db2test_unique
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
 import dev.typr.foundations.scala.Fragment
@@ -21,9 +22,9 @@ class Db2testUniqueRepoImpl extends Db2testUniqueRepo {
   override def deleteById(id: Db2testUniqueId)(using c: Connection): Boolean = sql"""delete from "DB2TEST_UNIQUE" where "ID" = ${Fragment.encode(Db2testUniqueId.db2Type, id)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[Db2testUniqueId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(Db2testUniqueId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "DB2TEST_UNIQUE" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(Db2testUniqueId.db2Type, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("""delete from "DB2TEST_UNIQUE" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: Db2testUniqueRow)(using c: Connection): Db2testUniqueRow = {
@@ -65,9 +66,9 @@ class Db2testUniqueRepoImpl extends Db2testUniqueRepo {
   }
 
   override def selectByIds(ids: Array[Db2testUniqueId])(using c: Connection): List[Db2testUniqueRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(Db2testUniqueId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "ID", "EMAIL", "CODE", "CATEGORY" from "DB2TEST_UNIQUE" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(Db2testUniqueRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[Db2testUniqueRow] = ListBuffer()
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(Db2testUniqueId.db2Type, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("""select "ID", "EMAIL", "CODE", "CATEGORY" from "DB2TEST_UNIQUE" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(Db2testUniqueRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[Db2testUniqueId])(using c: Connection): Map[Db2testUniqueId, Db2testUniqueRow] = {
@@ -104,6 +105,8 @@ class Db2testUniqueRepoImpl extends Db2testUniqueRepo {
     where "ID" = ${Fragment.encode(Db2testUniqueId.db2Type, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[Db2testUniqueRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.email, f.code, f.category))(using c)
+
   override def upsert(unsaved: Db2testUniqueRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "DB2TEST_UNIQUE" AS t
     USING (VALUES (${Fragment.encode(Db2testUniqueId.db2Type, unsaved.id)}, ${Fragment.encode(Db2Types.varchar, unsaved.email)}, ${Fragment.encode(Db2Types.varchar, unsaved.code)}, ${Fragment.encode(Db2Types.varchar, unsaved.category)})) AS s("ID", "EMAIL", "CODE", "CATEGORY")
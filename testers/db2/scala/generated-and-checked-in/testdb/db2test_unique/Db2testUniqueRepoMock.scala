@@ -70,6 +70,15 @@ case class Db2testUniqueRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[Db2testUniqueRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.id)) {
+        map.put(row.id, row): @scala.annotation.nowarn
+        Some(row.id)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: Db2testUniqueRow)(using c: Connection): Unit = map.put(unsaved.id, unsaved): @scala.annotation.nowarn
 
   override def upsertBatch(unsaved: Iterator[Db2testUniqueRow])(using c: Connection): Unit = {
@@ -35,6 +35,8 @@ trait DistinctTypeTestRepo {
 
   def update(row: DistinctTypeTestRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[DistinctTypeTestRow])(using c: Connection): Int
+
   def upsert(unsaved: DistinctTypeTestRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: Iterator[DistinctTypeTestRow])(using c: Connection): Unit
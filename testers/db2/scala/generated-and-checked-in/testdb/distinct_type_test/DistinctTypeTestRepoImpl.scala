@@ -5,6 +5,7 @@
  */
 package testdb.distinct_type_test
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
@@ -23,9 +24,9 @@ class DistinctTypeTestRepoImpl extends DistinctTypeTestRepo {
   override def deleteById(id: DistinctTypeTestId)(using c: Connection): Boolean = sql"""delete from "DISTINCT_TYPE_TEST" where "ID" = ${Fragment.encode(DistinctTypeTestId.db2Type, id)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[DistinctTypeTestId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(DistinctTypeTestId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "DISTINCT_TYPE_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(DistinctTypeTestId.db2Type, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("""delete from "DISTINCT_TYPE_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: DistinctTypeTestRow)(using c: Connection): DistinctTypeTestRow = {
@@ -65,9 +66,9 @@ class DistinctTypeTestRepoImpl extends DistinctTypeTestRepo {
   }
 
   override def selectByIds(ids: Array[DistinctTypeTestId])(using c: Connection): List[DistinctTypeTestRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(DistinctTypeTestId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "ID", "EMAIL", "BALANCE" from "DISTINCT_TYPE_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(DistinctTypeTestRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[DistinctTypeTestRow] = ListBuffer()
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(DistinctTypeTestId.db2Type, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("""select "ID", "EMAIL", "BALANCE" from "DISTINCT_TYPE_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(DistinctTypeTestRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[DistinctTypeTestId])(using c: Connection): Map[DistinctTypeTestId, DistinctTypeTestRow] = {
@@ -86,6 +87,8 @@ class DistinctTypeTestRepoImpl extends DistinctTypeTestRepo {
     where "ID" = ${Fragment.encode(DistinctTypeTestId.db2Type, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[DistinctTypeTestRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.email, f.balance))(using c)
+
   override def upsert(unsaved: DistinctTypeTestRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "DISTINCT_TYPE_TEST" AS t
     USING (VALUES (${Fragment.encode(DistinctTypeTestId.db2Type, unsaved.id)}, ${Fragment.encode(EmailAddress.db2Type, unsaved.email)}, ${Fragment.encode(MoneyAmount.db2Type.nullable, unsaved.balance)})) AS s("ID", "EMAIL", "BALANCE")
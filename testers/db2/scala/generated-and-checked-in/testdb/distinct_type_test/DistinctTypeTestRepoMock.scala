@@ -63,6 +63,15 @@ case class DistinctTypeTestRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[DistinctTypeTestRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.id)) {
+        map.put(row.id, row): @scala.annotation.nowarn
+        Some(row.id)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: DistinctTypeTestRow)(using c: Connection): Unit = map.put(unsaved.id, unsaved): @scala.annotation.nowarn
 
   override def upsertBatch(unsaved: Iterator[DistinctTypeTestRow])(using c: Connection): Unit = {
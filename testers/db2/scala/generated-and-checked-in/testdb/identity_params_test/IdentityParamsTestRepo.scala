@@ -35,6 +35,8 @@ trait IdentityParamsTestRepo {
 
   def update(row: IdentityParamsTestRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[IdentityParamsTestRow])(using c: Connection): Int
+
   def upsert(unsaved: IdentityParamsTestRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: Iterator[IdentityParamsTestRow])(using c: Connection): Unit
@@ -6,6 +6,7 @@
 package testdb.identity_params_test
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
 import dev.typr.foundations.scala.Fragment
@@ -21,9 +22,9 @@ class IdentityParamsTestRepoImpl extends IdentityParamsTestRepo {
   override def deleteById(id: IdentityParamsTestId)(using c: Connection): Boolean = sql"""delete from "IDENTITY_PARAMS_TEST" where "ID" = ${Fragment.encode(IdentityParamsTestId.db2Type, id)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[IdentityParamsTestId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(IdentityParamsTestId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "IDENTITY_PARAMS_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(IdentityParamsTestId.db2Type, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("""delete from "IDENTITY_PARAMS_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: IdentityParamsTestRow)(using c: Connection): IdentityParamsTestRow = {
@@ -61,9 +62,9 @@ class IdentityParamsTestRepoImpl extends IdentityParamsTestRepo {
   }
 
   override def selectByIds(ids: Array[IdentityParamsTestId])(using c: Connection): List[IdentityParamsTestRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(IdentityParamsTestId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "ID", "NAME" from "IDENTITY_PARAMS_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(IdentityParamsTestRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[IdentityParamsTestRow] = ListBuffer()
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(IdentityParamsTestId.db2Type, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("""select "ID", "NAME" from "IDENTITY_PARAMS_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(IdentityParamsTestRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[IdentityParamsTestId])(using c: Connection): Map[IdentityParamsTestId, IdentityParamsTestRow] = {
@@ -81,6 +82,8 @@ class IdentityParamsTestRepoImpl extends IdentityParamsTestRepo {
     where "ID" = ${Fragment.encode(IdentityParamsTestId.db2Type, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[IdentityParamsTestRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name))(using c)
+
   override def upsert(unsaved: IdentityParamsTestRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "IDENTITY_PARAMS_TEST" AS t
     USING (VALUES (${Fragment.encode(IdentityParamsTestId.db2Type, unsaved.id)}, ${Fragment.encode(Db2Types.varchar, unsaved.name)})) AS s("ID", "NAME")
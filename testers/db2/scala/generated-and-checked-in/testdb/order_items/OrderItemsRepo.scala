@@ -33,6 +33,8 @@ trait OrderItemsRepo {
 
   def update(row: OrderItemsRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[OrderItemsRow])(using c: Connection): Int
+
   def upsert(unsaved: OrderItemsRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: Iterator[OrderItemsRow])(using c: Connection): Unit
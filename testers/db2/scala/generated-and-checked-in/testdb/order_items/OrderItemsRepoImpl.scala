@@ -6,6 +6,7 @@
 package testdb.order_items
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
 import dev.typr.foundations.scala.Fragment
@@ -23,9 +24,9 @@ class OrderItemsRepoImpl extends OrderItemsRepo {
   override def deleteById(compositeId: OrderItemsId)(using c: Connection): Boolean = sql"""delete from "ORDER_ITEMS" where "ORDER_ID" = ${Fragment.encode(OrdersId.db2Type, compositeId.orderId)} AND "ITEM_NUMBER" = ${Fragment.encode(ScalaDbTypes.Db2Types.integer, compositeId.itemNumber)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(compositeIds: Array[OrderItemsId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    compositeIds.foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OrdersId.db2Type, id.orderId), Fragment.lit(", "), Fragment.encode(ScalaDbTypes.Db2Types.integer, id.itemNumber), Fragment.lit(")"))): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "ORDER_ITEMS" where ("ORDER_ID", "ITEM_NUMBER") in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    compositeIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OrdersId.db2Type, id.orderId), Fragment.lit(", "), Fragment.encode(ScalaDbTypes.Db2Types.integer, id.itemNumber), Fragment.lit(")"))): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("""delete from "ORDER_ITEMS" where ("ORDER_ID", "ITEM_NUMBER") in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: OrderItemsRow)(using c: Connection): OrderItemsRow = {
@@ -50,9 +51,9 @@ class OrderItemsRepoImpl extends OrderItemsRepo {
   }
 
   override def selectByIds(compositeIds: Array[OrderItemsId])(using c: Connection): List[OrderItemsRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    compositeIds.foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OrdersId.db2Type, id.orderId), Fragment.lit(", "), Fragment.encode(ScalaDbTypes.Db2Types.integer, id.itemNumber), Fragment.lit(")"))): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "ORDER_ID", "ITEM_NUMBER", "PRODUCT_NAME", "QUANTITY", "UNIT_PRICE" from "ORDER_ITEMS" where ("ORDER_ID", "ITEM_NUMBER") in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(OrderItemsRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[OrderItemsRow] = ListBuffer()
+    compositeIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OrdersId.db2Type, id.orderId), Fragment.lit(", "), Fragment.encode(ScalaDbTypes.Db2Types.integer, id.itemNumber), Fragment.lit(")"))): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("""select "ORDER_ID", "ITEM_NUMBER", "PRODUCT_NAME", "QUANTITY", "UNIT_PRICE" from "ORDER_ITEMS" where ("ORDER_ID", "ITEM_NUMBER") in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(OrderItemsRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(compositeIds: Array[OrderItemsId])(using c: Connection): Map[OrderItemsId, OrderItemsRow] = {
@@ -72,6 +73,8 @@ class OrderItemsRepoImpl extends OrderItemsRepo {
     where "ORDER_ID" = ${Fragment.encode(OrdersId.db2Type, compositeId.orderId)} AND "ITEM_NUMBER" = ${Fragment.encode(ScalaDbTypes.Db2Types.integer, compositeId.itemNumber)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[OrderItemsRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.productName, f.quantity, f.unitPrice))(using c)
+
   override def upsert(unsaved: OrderItemsRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "ORDER_ITEMS" AS t
     USING (VALUES (${Fragment.encode(OrdersId.db2Type, unsaved.orderId)}, ${Fragment.encode(ScalaDbTypes.Db2Types.integer, unsaved.itemNumber)}, ${Fragment.encode(Db2Types.varchar, unsaved.productName)}, ${Fragment.encode(ScalaDbTypes.Db2Types.integer, unsaved.quantity)}, ${Fragment.encode(ScalaDbTypes.Db2Types.decimal, unsaved.unitPrice)})) AS s("ORDER_ID", "ITEM_NUMBER", "PRODUCT_NAME", "QUANTITY", "UNIT_PRICE")
@@ -58,6 +58,15 @@ case class OrderItemsRepoMock(map: scala.collection.mutable.Map[OrderItemsId, Or
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[OrderItemsRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.compositeId)) {
+        map.put(row.compositeId, row): @scala.annotation.nowarn
+        Some(row.compositeId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: OrderItemsRow)(using c: Connection): Unit = map.put(unsaved.compositeId, unsaved): @scala.annotation.nowarn
 
   override def upsertBatch(unsaved: Iterator[OrderItemsRow])(using c: Connection): Unit = {
@@ -35,6 +35,8 @@ trait OrdersRepo {
 
   def update(row: OrdersRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[OrdersRow])(using c: Connection): Int
+
   def upsert(unsaved: OrdersRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: Iterator[OrdersRow])(using c: Connection): Unit
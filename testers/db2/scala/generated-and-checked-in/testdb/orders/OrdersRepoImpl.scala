@@ -6,6 +6,7 @@
 package testdb.orders
 
 import dev.typr.foundations.Db2Types
+import dev.typr.foundations.InList
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
@@ -24,9 +25,9 @@ class OrdersRepoImpl extends OrdersRepo {
   override def deleteById(orderId: OrdersId)(using c: Connection): Boolean = sql"""delete from "ORDERS" where "ORDER_ID" = ${Fragment.encode(OrdersId.db2Type, orderId)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(orderIds: Array[OrdersId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    orderIds.foreach { id => fragments.addOne(Fragment.encode(OrdersId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "ORDERS" where "ORDER_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    orderIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(OrdersId.db2Type, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("""delete from "ORDERS" where "ORDER_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: OrdersRow)(using c: Connection): OrdersRow = {
@@ -74,9 +75,9 @@ class OrdersRepoImpl extends OrdersRepo {
   }
 
   override def selectByIds(orderIds: Array[OrdersId])(using c: Connection): List[OrdersRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    orderIds.foreach { id => fragments.addOne(Fragment.encode(OrdersId.db2Type, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "ORDER_ID", "CUSTOMER_ID", "ORDER_DATE", "TOTAL_AMOUNT", "STATUS" from "ORDERS" where "ORDER_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(OrdersRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[OrdersRow] = ListBuffer()
+    orderIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(OrdersId.db2Type, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("""select "ORDER_ID", "CUSTOMER_ID", "ORDER_DATE", "TOTAL_AMOUNT", "STATUS" from "ORDERS" where "ORDER_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(OrdersRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(orderIds: Array[OrdersId])(using c: Connection): Map[OrdersId, OrdersRow] = {
@@ -97,6 +98,8 @@ class OrdersRepoImpl extends OrdersRepo {
     where "ORDER_ID" = ${Fragment.encode(OrdersId.db2Type, orderId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[OrdersRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.customerId, f.orderDate, f.totalAmount, f.status))(using c)
+
   override def upsert(unsaved: OrdersRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "ORDERS" AS t
     USING (VALUES (${Fragment.encode(OrdersId.db2Type, unsaved.orderId)}, ${Fragment.encode(CustomersId.db2Type, unsaved.customerId)}, ${Fragment.encode(Db2Types.date, unsaved.orderDate)}, ${Fragment.encode(ScalaDbTypes.Db2Types.decimal.nullable, unsaved.totalAmount)}, ${Fragment.encode(Db2Types.varchar.nullable, unsaved.status)})) AS s("ORDER_ID", "CUSTOMER_ID", "ORDER_DATE", "TOTAL_AMOUNT", "STATUS")
@@ -37,6 +37,8 @@ public interface AllScalarTypesRepo {
 
   Boolean update(AllScalarTypesRow row, Connection c);
 
+  Integer updateBatch(Iterator<AllScalarTypesRow> rows, Connection c);
+
   AllScalarTypesRow upsert(AllScalarTypesRow unsaved, Connection c);
 
   List<AllScalarTypesRow> upsertBatch(Iterator<AllScalarTypesRow> unsaved, Connection c);
@@ -265,6 +265,41 @@ public class AllScalarTypesRepoImpl implements AllScalarTypesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<AllScalarTypesRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.colTinyint(),
+                    f.colSmallint(),
+                    f.colInteger(),
+                    f.colBigint(),
+                    f.colHugeint(),
+                    f.colUtinyint(),
+                    f.colUsmallint(),
+                    f.colUinteger(),
+                    f.colUbigint(),
+                    f.colFloat(),
+                    f.colDouble(),
+                    f.colDecimal(),
+                    f.colBoolean(),
+                    f.colVarchar(),
+                    f.colText(),
+                    f.colBlob(),
+                    f.colDate(),
+                    f.colTime(),
+                    f.colTimestamp(),
+                    f.colTimestamptz(),
+                    f.colInterval(),
+                    f.colUuid(),
+                    f.colJson(),
+                    f.colMood(),
+                    f.colNotNull()),
+            c);
+  }
+
   @Override
   public AllScalarTypesRow upsert(AllScalarTypesRow unsaved, Connection c) {
     return interpolate(
@@ -200,6 +200,12 @@ public class CustomersRepoImpl implements CustomersRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<CustomersRow> rows, Connection c) {
+    return update()
+        .updateMany(rows, f -> List.of(f.name(), f.email(), f.createdAt(), f.priority()), c);
+  }
+
   @Override
   public CustomersRow upsert(CustomersRow unsaved, Connection c) {
     return interpolate(
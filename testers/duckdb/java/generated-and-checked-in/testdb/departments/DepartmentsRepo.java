@@ -37,6 +37,8 @@ public interface DepartmentsRepo {
 
   Boolean update(DepartmentsRow row, Connection c);
 
+  Integer updateBatch(Iterator<DepartmentsRow> rows, Connection c);
+
   DepartmentsRow upsert(DepartmentsRow unsaved, Connection c);
 
   List<DepartmentsRow> upsertBatch(Iterator<DepartmentsRow> unsaved, Connection c);
@@ -173,6 +173,11 @@ public class DepartmentsRepoImpl implements DepartmentsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<DepartmentsRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.deptName(), f.budget()), c);
+  }
+
   @Override
   public DepartmentsRow upsert(DepartmentsRow unsaved, Connection c) {
     return interpolate(
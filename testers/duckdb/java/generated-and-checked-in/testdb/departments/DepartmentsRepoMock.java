@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -146,6 +147,23 @@ public record DepartmentsRepoMock(HashMap<DepartmentsId, DepartmentsRow> map)
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<DepartmentsRow> rows, Connection c) {
+    var updated = new HashSet<DepartmentsId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.compositeId())) {
+        map.put(row.compositeId(), row);
+        updated.add(row.compositeId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public DepartmentsRow upsert(DepartmentsRow unsaved, Connection c) {
     map.put(unsaved.compositeId(), unsaved);
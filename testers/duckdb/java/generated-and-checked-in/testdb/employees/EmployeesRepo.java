@@ -39,6 +39,8 @@ public interface EmployeesRepo {
 
   Boolean update(EmployeesRow row, Connection c);
 
+  Integer updateBatch(Iterator<EmployeesRow> rows, Connection c);
+
   EmployeesRow upsert(EmployeesRow unsaved, Connection c);
 
   List<EmployeesRow> upsertBatch(Iterator<EmployeesRow> unsaved, Connection c);
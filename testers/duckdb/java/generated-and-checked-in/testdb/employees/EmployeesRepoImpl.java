@@ -238,6 +238,15 @@ public class EmployeesRepoImpl implements EmployeesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<EmployeesRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f -> List.of(f.deptCode(), f.deptRegion(), f.empName(), f.salary(), f.hireDate()),
+            c);
+  }
+
   @Override
   public EmployeesRow upsert(EmployeesRow unsaved, Connection c) {
     return interpolate(
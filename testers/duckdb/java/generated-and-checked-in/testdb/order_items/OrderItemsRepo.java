@@ -39,6 +39,8 @@ public interface OrderItemsRepo {
 
   Boolean update(OrderItemsRow row, Connection c);
 
+  Integer updateBatch(Iterator<OrderItemsRow> rows, Connection c);
+
   OrderItemsRow upsert(OrderItemsRow unsaved, Connection c);
 
   List<OrderItemsRow> upsertBatch(Iterator<OrderItemsRow> unsaved, Connection c);
@@ -210,6 +210,11 @@ public class OrderItemsRepoImpl implements OrderItemsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<OrderItemsRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.quantity(), f.unitPrice()), c);
+  }
+
   @Override
   public OrderItemsRow upsert(OrderItemsRow unsaved, Connection c) {
     return interpolate(
@@ -200,6 +200,13 @@ public class OrdersRepoImpl implements OrdersRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<OrdersRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows, f -> List.of(f.customerId(), f.orderDate(), f.totalAmount(), f.status()), c);
+  }
+
   @Override
   public OrdersRow upsert(OrdersRow unsaved, Connection c) {
     return interpolate(
@@ -37,6 +37,8 @@ public interface PrecisionTypesRepo {
 
   Boolean update(PrecisionTypesRow row, Connection c);
 
+  Integer updateBatch(Iterator<PrecisionTypesRow> rows, Connection c);
+
   PrecisionTypesRow upsert(PrecisionTypesRow unsaved, Connection c);
 
   List<PrecisionTypesRow> upsertBatch(Iterator<PrecisionTypesRow> unsaved, Connection c);
@@ -197,6 +197,27 @@ public class PrecisionTypesRepoImpl implements PrecisionTypesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<PrecisionTypesRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.string10(),
+                    f.string20(),
+                    f.string50(),
+                    f.string100(),
+                    f.string255(),
+                    f.decimal52(),
+                    f.decimal102(),
+                    f.decimal184(),
+                    f.decimal50(),
+                    f.decimal100(),
+                    f.decimal180()),
+            c);
+  }
+
   @Override
   public PrecisionTypesRow upsert(PrecisionTypesRow unsaved, Connection c) {
     return interpolate(
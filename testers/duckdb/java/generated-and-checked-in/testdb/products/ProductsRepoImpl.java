@@ -158,6 +158,11 @@ public class ProductsRepoImpl implements ProductsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ProductsRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.sku(), f.name(), f.price(), f.metadata()), c);
+  }
+
   @Override
   public ProductsRow upsert(ProductsRow unsaved, Connection c) {
     return interpolate(
@@ -3,8 +3,11 @@ package testdb;
 import static org.junit.Assert.*;
 
 import dev.typr.foundations.dsl.Bijection;
+import dev.typr.foundations.dsl.SqlExpr;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Optional;
+import java.util.Random;
 import org.junit.Test;
 import testdb.customers.*;
 import testdb.userdefined.Email;
@@ -316,6 +319,51 @@ public class DSLTest {
         });
   }
 
+  @Test
+  public void testSelectWithLongIn() {
+    DuckDbTestHelper.run(
+        c -> {
+          var c1 =
+              customersRepo.insert(
+                  new CustomersRow(
+                      new CustomersId(5550),
+                      "LongIn1",
+                      Optional.empty(),
+                      LocalDateTime.now(),
+                      Optional.empty()),
+                  c);
+          var c2 =
+              customersRepo.insert(
+                  new CustomersRow(
+                      new CustomersId(5551),
+                      "LongIn2",
+                      Optional.empty(),
+                      LocalDateTime.now(),
+                      Optional.empty()),
+                  c);
+
+          // Two existing ids among ids which do not exist, past SqlExpr.In.ARRAY_BIND_THRESHOLD
+          var ids = new CustomersId[SqlExpr.In.ARRAY_BIND_THRESHOLD + 8];
+          for (int i = 0; i < ids.length; i++) {
+            ids[i] = new CustomersId(-1 - i);
+          }
+          ids[3] = c1.customerId();
+          ids[30] = c2.customerId();
+
+          var query =
+              customersRepo
+                  .select()
+                  .where(cust -> cust.customerId().in(ids))
+                  .orderBy(cust -> cust.customerId().asc());
+          assertTrue(query.sql().orElseThrow().render().contains(" = ANY(?::INTEGER[])"));
+
+          var results = query.toList(c);
+          assertEquals(2, results.size());
+          assertEquals(c1.customerId(), results.get(0).customerId());
+          assertEquals(c2.customerId(), results.get(1).customerId());
+        });
+  }
+
   @Test
   public void testSelectWithGreaterThan() {
     DuckDbTestHelper.run(
@@ -382,4 +430,33 @@ public class DSLTest {
           assertEquals(new Email("projection@test.com"), results.get(0)._2());
         });
   }
+
+  /**
+   * Test updateBatch against the database, where it writes the rows with UPDATE ... FROM (VALUES
+   * ...): more rows than one statement takes, a row given twice, and a row which does not exist.
+   */
+  @Test
+  public void testUpdateBatchRoundTrip() {
+    DuckDbTestHelper.run(
+        c -> {
+          var testInsert = new TestInsert(new Random(0));
+          var updated = new ArrayList<CustomersRow>();
+          for (int i = 0; i < 1005; i++) {
+            updated.add(testInsert.Customers().insert(c).withName("Batch " + i));
+          }
+          // the first row again, in another statement than its first occurrence
+          var rows = new ArrayList<>(updated);
+          rows.add(updated.get(0).withName("Batch again"));
+          rows.add(updated.get(1).withCustomerId(new CustomersId(-1)));
+
+          assertEquals(Integer.valueOf(1005), customersRepo.updateBatch(rows.iterator(), c));
+          var ids = updated.stream().map(CustomersRow::customerId).toArray(CustomersId[]::new);
+          var byId = customersRepo.selectByIdsTracked(ids, c);
+          assertEquals("Batch again", byId.get(ids[0]).name());
+          for (int i = 1; i < ids.length; i++) {
+            assertEquals("Batch " + i, byId.get(ids[i]).name());
+          }
+          assertFalse(customersRepo.selectById(new CustomersId(-1), c).isPresent());
+        });
+  }
 }
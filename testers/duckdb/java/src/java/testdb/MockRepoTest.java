@@ -6,6 +6,7 @@ import dev.typr.foundations.dsl.Bijection;
 import dev.typr.foundations.dsl.MockConnection;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.junit.Test;
 import testdb.customers.*;
@@ -97,6 +98,35 @@ public class MockRepoTest {
     assertTrue(all.size() >= 3);
   }
 
+  @Test
+  public void testMockUpdateBatchCountsEachRowOnce() {
+    var c1 =
+        new CustomersRow(
+            new CustomersId(20), "User 1", Optional.empty(), LocalDateTime.now(), Optional.empty());
+    var c2 =
+        new CustomersRow(
+            new CustomersId(21), "User 2", Optional.empty(), LocalDateTime.now(), Optional.empty());
+    customersMock.insert(c1, null);
+    customersMock.insert(c2, null);
+
+    // A row given twice is counted once, the last occurrence winning, and a missing row not at all
+    var rows =
+        List.of(
+            c1.withName("First"),
+            c2.withName("Renamed 2"),
+            c1.withName("Renamed 1"),
+            c1.withCustomerId(new CustomersId(29)));
+
+    assertEquals(
+        2, customersMock.update().updateMany(rows.iterator(), c -> List.of(c.name()), null));
+    assertEquals(Integer.valueOf(2), customersMock.updateBatch(rows.iterator(), null));
+    assertEquals(
+        "Renamed 1", customersMock.selectById(new CustomersId(20), null).orElseThrow().name());
+    assertEquals(
+        "Renamed 2", customersMock.selectById(new CustomersId(21), null).orElseThrow().name());
+    assertFalse(customersMock.selectById(new CustomersId(29), null).isPresent());
+  }
+
   @Test
   public void testMockWithCompositeKey() {
     var dept =
@@ -74,6 +74,11 @@ class AllScalarTypesRepoImpl() : AllScalarTypesRepo {
     return Fragment.interpolate(Fragment.lit("update \"all_scalar_types\"\nset \"col_tinyint\" = "), Fragment.encode(KotlinDbTypes.DuckDbTypes.tinyint.nullable(), row.colTinyint), Fragment.lit(",\n\"col_smallint\" = "), Fragment.encode(KotlinDbTypes.DuckDbTypes.smallint.nullable(), row.colSmallint), Fragment.lit(",\n\"col_integer\" = "), Fragment.encode(KotlinDbTypes.DuckDbTypes.integer.nullable(), row.colInteger), Fragment.lit(",\n\"col_bigint\" = "), Fragment.encode(KotlinDbTypes.DuckDbTypes.bigint.nullable(), row.colBigint), Fragment.lit(",\n\"col_hugeint\" = "), Fragment.encode(DuckDbTypes.hugeint.nullable(), row.colHugeint), Fragment.lit(",\n\"col_utinyint\" = "), Fragment.encode(DuckDbTypes.utinyint.nullable(), row.colUtinyint), Fragment.lit(",\n\"col_usmallint\" = "), Fragment.encode(DuckDbTypes.usmallint.nullable(), row.colUsmallint), Fragment.lit(",\n\"col_uinteger\" = "), Fragment.encode(DuckDbTypes.uinteger.nullable(), row.colUinteger), Fragment.lit(",\n\"col_ubigint\" = "), Fragment.encode(DuckDbTypes.ubigint.nullable(), row.colUbigint), Fragment.lit(",\n\"col_float\" = "), Fragment.encode(KotlinDbTypes.DuckDbTypes.float_.nullable(), row.colFloat), Fragment.lit(",\n\"col_double\" = "), Fragment.encode(KotlinDbTypes.DuckDbTypes.double_.nullable(), row.colDouble), Fragment.lit(",\n\"col_decimal\" = "), Fragment.encode(DuckDbTypes.numeric.nullable(), row.colDecimal), Fragment.lit(",\n\"col_boolean\" = "), Fragment.encode(KotlinDbTypes.DuckDbTypes.boolean_.nullable(), row.colBoolean), Fragment.lit(",\n\"col_varchar\" = "), Fragment.encode(DuckDbTypes.varchar.nullable(), row.colVarchar), Fragment.lit(",\n\"col_text\" = "), Fragment.encode(DuckDbTypes.varchar.nullable(), row.colText), Fragment.lit(",\n\"col_blob\" = "), Fragment.encode(DuckDbTypes.blob.nullable(), row.colBlob), Fragment.lit(",\n\"col_date\" = "), Fragment.encode(DuckDbTypes.date.nullable(), row.colDate), Fragment.lit(",\n\"col_time\" = "), Fragment.encode(DuckDbTypes.time.nullable(), row.colTime), Fragment.lit(",\n\"col_timestamp\" = "), Fragment.encode(DuckDbTypes.timestamp.nullable(), row.colTimestamp), Fragment.lit(",\n\"col_timestamptz\" = "), Fragment.encode(DuckDbTypes.timestamptz.nullable(), row.colTimestamptz), Fragment.lit(",\n\"col_interval\" = "), Fragment.encode(DuckDbTypes.interval.nullable(), row.colInterval), Fragment.lit(",\n\"col_uuid\" = "), Fragment.encode(DuckDbTypes.uuid.nullable(), row.colUuid), Fragment.lit(",\n\"col_json\" = "), Fragment.encode(DuckDbTypes.json.nullable(), row.colJson), Fragment.lit(",\n\"col_mood\" = "), Fragment.encode(Mood.duckDbType.nullable(), row.colMood), Fragment.lit(",\n\"col_not_null\" = "), Fragment.encode(DuckDbTypes.varchar, row.colNotNull), Fragment.lit("\nwhere \"id\" = "), Fragment.encode(AllScalarTypesId.duckDbType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<AllScalarTypesRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.colTinyint(), f.colSmallint(), f.colInteger(), f.colBigint(), f.colHugeint(), f.colUtinyint(), f.colUsmallint(), f.colUinteger(), f.colUbigint(), f.colFloat(), f.colDouble(), f.colDecimal(), f.colBoolean(), f.colVarchar(), f.colText(), f.colBlob(), f.colDate(), f.colTime(), f.colTimestamp(), f.colTimestamptz(), f.colInterval(), f.colUuid(), f.colJson(), f.colMood(), f.colNotNull()) }, c)
+
   override fun upsert(
     unsaved: AllScalarTypesRow,
     c: Connection
@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -95,6 +96,21 @@ data class AllScalarTypesRepoMock(val map: MutableMap<AllScalarTypesId, AllScala
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<AllScalarTypesRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<AllScalarTypesId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.id)) {
+        map[row.id] = row
+        updated.add(row.id)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: AllScalarTypesRow,
     c: Connection
@@ -101,6 +101,11 @@ class CustomersRepoImpl() : CustomersRepo {
     return Fragment.interpolate(Fragment.lit("update \"customers\"\nset \"name\" = "), Fragment.encode(DuckDbTypes.varchar, row.name), Fragment.lit(",\n\"email\" = "), Fragment.encode(Email.duckDbType.nullable(), row.email), Fragment.lit(",\n\"created_at\" = "), Fragment.encode(DuckDbTypes.timestamp, row.createdAt), Fragment.lit(",\n\"priority\" = "), Fragment.encode(Priority.duckDbType.nullable(), row.priority), Fragment.lit("\nwhere \"customer_id\" = "), Fragment.encode(CustomersId.duckDbType, customerId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<CustomersRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name(), f.email(), f.createdAt(), f.priority()) }, c)
+
   override fun upsert(
     unsaved: CustomersRow,
     c: Connection
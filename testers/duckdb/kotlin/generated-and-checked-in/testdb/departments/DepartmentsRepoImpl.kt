@@ -79,6 +79,11 @@ class DepartmentsRepoImpl() : DepartmentsRepo {
     return Fragment.interpolate(Fragment.lit("update \"departments\"\nset \"dept_name\" = "), Fragment.encode(DuckDbTypes.varchar, row.deptName), Fragment.lit(",\n\"budget\" = "), Fragment.encode(DuckDbTypes.numeric.nullable(), row.budget), Fragment.lit("\nwhere \"dept_code\" = "), Fragment.encode(DuckDbTypes.varchar, compositeId.deptCode), Fragment.lit(" AND \"dept_region\" = "), Fragment.encode(DuckDbTypes.varchar, compositeId.deptRegion), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<DepartmentsRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.deptName(), f.budget()) }, c)
+
   override fun upsert(
     unsaved: DepartmentsRow,
     c: Connection
@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -95,6 +96,21 @@ data class DepartmentsRepoMock(val map: MutableMap<DepartmentsId, DepartmentsRow
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<DepartmentsRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<DepartmentsId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.compositeId())) {
+        map[row.compositeId()] = row
+        updated.add(row.compositeId())
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: DepartmentsRow,
     c: Connection
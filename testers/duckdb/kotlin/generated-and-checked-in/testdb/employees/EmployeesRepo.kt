@@ -62,6 +62,11 @@ interface EmployeesRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<EmployeesRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: EmployeesRow,
     c: Connection
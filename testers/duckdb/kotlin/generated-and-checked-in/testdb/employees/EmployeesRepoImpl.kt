@@ -107,6 +107,11 @@ class EmployeesRepoImpl() : EmployeesRepo {
     return Fragment.interpolate(Fragment.lit("update \"employees\"\nset \"dept_code\" = "), Fragment.encode(DuckDbTypes.varchar, row.deptCode), Fragment.lit(",\n\"dept_region\" = "), Fragment.encode(DuckDbTypes.varchar, row.deptRegion), Fragment.lit(",\n\"emp_name\" = "), Fragment.encode(DuckDbTypes.varchar, row.empName), Fragment.lit(",\n\"salary\" = "), Fragment.encode(DuckDbTypes.numeric.nullable(), row.salary), Fragment.lit(",\n\"hire_date\" = "), Fragment.encode(DuckDbTypes.date, row.hireDate), Fragment.lit("\nwhere \"emp_number\" = "), Fragment.encode(KotlinDbTypes.DuckDbTypes.integer, compositeId.empNumber), Fragment.lit(" AND \"emp_suffix\" = "), Fragment.encode(DuckDbTypes.varchar, compositeId.empSuffix), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<EmployeesRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.deptCode(), f.deptRegion(), f.empName(), f.salary(), f.hireDate()) }, c)
+
   override fun upsert(
     unsaved: EmployeesRow,
     c: Connection
@@ -100,6 +100,11 @@ class OrderItemsRepoImpl() : OrderItemsRepo {
     return Fragment.interpolate(Fragment.lit("update \"order_items\"\nset \"quantity\" = "), Fragment.encode(KotlinDbTypes.DuckDbTypes.integer, row.quantity), Fragment.lit(",\n\"unit_price\" = "), Fragment.encode(DuckDbTypes.numeric, row.unitPrice), Fragment.lit("\nwhere \"order_id\" = "), Fragment.encode(KotlinDbTypes.DuckDbTypes.integer, compositeId.orderId), Fragment.lit(" AND \"product_id\" = "), Fragment.encode(KotlinDbTypes.DuckDbTypes.integer, compositeId.productId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<OrderItemsRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.quantity(), f.unitPrice()) }, c)
+
   override fun upsert(
     unsaved: OrderItemsRow,
     c: Connection
@@ -100,6 +100,11 @@ class OrdersRepoImpl() : OrdersRepo {
     return Fragment.interpolate(Fragment.lit("update \"orders\"\nset \"customer_id\" = "), Fragment.encode(KotlinDbTypes.DuckDbTypes.integer, row.customerId), Fragment.lit(",\n\"order_date\" = "), Fragment.encode(DuckDbTypes.date, row.orderDate), Fragment.lit(",\n\"total_amount\" = "), Fragment.encode(DuckDbTypes.numeric.nullable(), row.totalAmount), Fragment.lit(",\n\"status\" = "), Fragment.encode(DuckDbTypes.varchar.nullable(), row.status), Fragment.lit("\nwhere \"order_id\" = "), Fragment.encode(OrdersId.duckDbType, orderId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<OrdersRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.customerId(), f.orderDate(), f.totalAmount(), f.status()) }, c)
+
   override fun upsert(
     unsaved: OrdersRow,
     c: Connection
@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -103,6 +104,21 @@ data class OrdersRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<OrdersRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<OrdersId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.orderId)) {
+        map[row.orderId] = row
+        updated.add(row.orderId)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: OrdersRow,
     c: Connection
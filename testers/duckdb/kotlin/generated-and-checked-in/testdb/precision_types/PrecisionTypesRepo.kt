@@ -57,6 +57,11 @@ interface PrecisionTypesRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<PrecisionTypesRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: PrecisionTypesRow,
     c: Connection
@@ -57,6 +57,11 @@ interface PrecisionTypesNullRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<PrecisionTypesNullRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: PrecisionTypesNullRow,
     c: Connection
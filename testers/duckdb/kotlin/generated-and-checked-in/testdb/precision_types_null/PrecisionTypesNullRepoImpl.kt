@@ -78,6 +78,11 @@ class PrecisionTypesNullRepoImpl() : PrecisionTypesNullRepo {
     return Fragment.interpolate(Fragment.lit("update \"precision_types_null\"\nset \"string10\" = "), Fragment.encode(DuckDbTypes.varchar.nullable(), row.string10), Fragment.lit(",\n\"string20\" = "), Fragment.encode(DuckDbTypes.varchar.nullable(), row.string20), Fragment.lit(",\n\"string50\" = "), Fragment.encode(DuckDbTypes.varchar.nullable(), row.string50), Fragment.lit(",\n\"string100\" = "), Fragment.encode(DuckDbTypes.varchar.nullable(), row.string100), Fragment.lit(",\n\"string255\" = "), Fragment.encode(DuckDbTypes.varchar.nullable(), row.string255), Fragment.lit(",\n\"decimal5_2\" = "), Fragment.encode(Decimal5_2.duckDbType.nullable(), row.decimal52), Fragment.lit(",\n\"decimal10_2\" = "), Fragment.encode(Decimal10_2.duckDbType.nullable(), row.decimal102), Fragment.lit(",\n\"decimal18_4\" = "), Fragment.encode(Decimal18_4.duckDbType.nullable(), row.decimal184), Fragment.lit(",\n\"decimal5_0\" = "), Fragment.encode(Int5.duckDbType.nullable(), row.decimal50), Fragment.lit(",\n\"decimal10_0\" = "), Fragment.encode(Int10.duckDbType.nullable(), row.decimal100), Fragment.lit(",\n\"decimal18_0\" = "), Fragment.encode(Int18.duckDbType.nullable(), row.decimal180), Fragment.lit("\nwhere \"id\" = "), Fragment.encode(PrecisionTypesNullId.duckDbType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<PrecisionTypesNullRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.string10(), f.string20(), f.string50(), f.string100(), f.string255(), f.decimal52(), f.decimal102(), f.decimal184(), f.decimal50(), f.decimal100(), f.decimal180()) }, c)
+
   override fun upsert(
     unsaved: PrecisionTypesNullRow,
     c: Connection
@@ -77,6 +77,11 @@ class ProductsRepoImpl() : ProductsRepo {
     return Fragment.interpolate(Fragment.lit("update \"products\"\nset \"sku\" = "), Fragment.encode(DuckDbTypes.varchar, row.sku), Fragment.lit(",\n\"name\" = "), Fragment.encode(DuckDbTypes.varchar, row.name), Fragment.lit(",\n\"price\" = "), Fragment.encode(DuckDbTypes.numeric, row.price), Fragment.lit(",\n\"metadata\" = "), Fragment.encode(DuckDbTypes.json.nullable(), row.metadata), Fragment.lit("\nwhere \"product_id\" = "), Fragment.encode(ProductsId.duckDbType, productId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<ProductsRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.sku(), f.name(), f.price(), f.metadata()) }, c)
+
   override fun upsert(
     unsaved: ProductsRow,
     c: Connection
@@ -97,6 +97,8 @@ class AllScalarTypesRepoImpl extends AllScalarTypesRepo {
     where "id" = ${Fragment.encode(AllScalarTypesId.duckDbType, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[AllScalarTypesRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.colTinyint, f.colSmallint, f.colInteger, f.colBigint, f.colHugeint, f.colUtinyint, f.colUsmallint, f.colUinteger, f.colUbigint, f.colFloat, f.colDouble, f.colDecimal, f.colBoolean, f.colVarchar, f.colText, f.colBlob, f.colDate, f.colTime, f.colTimestamp, f.colTimestamptz, f.colInterval, f.colUuid, f.colJson, f.colMood, f.colNotNull))(using c)
+
   override def upsert(unsaved: AllScalarTypesRow)(using c: Connection): AllScalarTypesRow = {
   sql"""INSERT INTO "all_scalar_types"("id", "col_tinyint", "col_smallint", "col_integer", "col_bigint", "col_hugeint", "col_utinyint", "col_usmallint", "col_uinteger", "col_ubigint", "col_float", "col_double", "col_decimal", "col_boolean", "col_varchar", "col_text", "col_blob", "col_date", "col_time", "col_timestamp", "col_timestamptz", "col_interval", "col_uuid", "col_json", "col_mood", "col_not_null")
     VALUES (${Fragment.encode(AllScalarTypesId.duckDbType, unsaved.id)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.tinyint.nullable, unsaved.colTinyint)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.smallint.nullable, unsaved.colSmallint)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.integer.nullable, unsaved.colInteger)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.bigint.nullable, unsaved.colBigint)}, ${Fragment.encode(DuckDbTypes.hugeint.nullable, unsaved.colHugeint)}, ${Fragment.encode(DuckDbTypes.utinyint.nullable, unsaved.colUtinyint)}, ${Fragment.encode(DuckDbTypes.usmallint.nullable, unsaved.colUsmallint)}, ${Fragment.encode(DuckDbTypes.uinteger.nullable, unsaved.colUinteger)}, ${Fragment.encode(DuckDbTypes.ubigint.nullable, unsaved.colUbigint)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.float_.nullable, unsaved.colFloat)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.double_.nullable, unsaved.colDouble)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.numeric.nullable, unsaved.colDecimal)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.boolean_.nullable, unsaved.colBoolean)}, ${Fragment.encode(DuckDbTypes.varchar.nullable, unsaved.colVarchar)}, ${Fragment.encode(DuckDbTypes.varchar.nullable, unsaved.colText)}, ${Fragment.encode(DuckDbTypes.blob.nullable, unsaved.colBlob)}, ${Fragment.encode(DuckDbTypes.date.nullable, unsaved.colDate)}, ${Fragment.encode(DuckDbTypes.time.nullable, unsaved.colTime)}, ${Fragment.encode(DuckDbTypes.timestamp.nullable, unsaved.colTimestamp)}, ${Fragment.encode(DuckDbTypes.timestamptz.nullable, unsaved.colTimestamptz)}, ${Fragment.encode(DuckDbTypes.interval.nullable, unsaved.colInterval)}, ${Fragment.encode(DuckDbTypes.uuid.nullable, unsaved.colUuid)}, ${Fragment.encode(DuckDbTypes.json.nullable, unsaved.colJson)}, ${Fragment.encode(Mood.duckDbType.nullable, unsaved.colMood)}, ${Fragment.encode(DuckDbTypes.varchar, unsaved.colNotNull)})
@@ -103,6 +103,8 @@ class CustomersRepoImpl extends CustomersRepo {
     where "customer_id" = ${Fragment.encode(CustomersId.duckDbType, customerId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[CustomersRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.email, f.createdAt, f.priority))(using c)
+
   override def upsert(unsaved: CustomersRow)(using c: Connection): CustomersRow = {
   sql"""INSERT INTO "customers"("customer_id", "name", "email", "created_at", "priority")
     VALUES (${Fragment.encode(CustomersId.duckDbType, unsaved.customerId)}, ${Fragment.encode(DuckDbTypes.varchar, unsaved.name)}, ${Fragment.encode(Email.duckDbType.nullable, unsaved.email)}, ${Fragment.encode(DuckDbTypes.timestamp, unsaved.createdAt)}, ${Fragment.encode(Priority.duckDbType.nullable, unsaved.priority)})
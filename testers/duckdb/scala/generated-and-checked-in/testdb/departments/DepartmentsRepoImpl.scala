@@ -78,6 +78,8 @@ class DepartmentsRepoImpl extends DepartmentsRepo {
     where "dept_code" = ${Fragment.encode(DuckDbTypes.varchar, compositeId.deptCode)} AND "dept_region" = ${Fragment.encode(DuckDbTypes.varchar, compositeId.deptRegion)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[DepartmentsRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.deptName, f.budget))(using c)
+
   override def upsert(unsaved: DepartmentsRow)(using c: Connection): DepartmentsRow = {
   sql"""INSERT INTO "departments"("dept_code", "dept_region", "dept_name", "budget")
     VALUES (${Fragment.encode(DuckDbTypes.varchar, unsaved.deptCode)}, ${Fragment.encode(DuckDbTypes.varchar, unsaved.deptRegion)}, ${Fragment.encode(DuckDbTypes.varchar, unsaved.deptName)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.numeric.nullable, unsaved.budget)})
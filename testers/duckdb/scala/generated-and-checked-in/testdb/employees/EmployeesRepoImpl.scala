@@ -109,6 +109,8 @@ class EmployeesRepoImpl extends EmployeesRepo {
     where "emp_number" = ${Fragment.encode(ScalaDbTypes.DuckDbTypes.integer, compositeId.empNumber)} AND "emp_suffix" = ${Fragment.encode(DuckDbTypes.varchar, compositeId.empSuffix)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[EmployeesRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.deptCode, f.deptRegion, f.empName, f.salary, f.hireDate))(using c)
+
   override def upsert(unsaved: EmployeesRow)(using c: Connection): EmployeesRow = {
   sql"""INSERT INTO "employees"("emp_number", "emp_suffix", "dept_code", "dept_region", "emp_name", "salary", "hire_date")
     VALUES (${Fragment.encode(ScalaDbTypes.DuckDbTypes.integer, unsaved.empNumber)}, ${Fragment.encode(DuckDbTypes.varchar, unsaved.empSuffix)}, ${Fragment.encode(DuckDbTypes.varchar, unsaved.deptCode)}, ${Fragment.encode(DuckDbTypes.varchar, unsaved.deptRegion)}, ${Fragment.encode(DuckDbTypes.varchar, unsaved.empName)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.numeric.nullable, unsaved.salary)}, ${Fragment.encode(DuckDbTypes.date, unsaved.hireDate)})
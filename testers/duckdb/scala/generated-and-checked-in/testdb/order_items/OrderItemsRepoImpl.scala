@@ -98,6 +98,8 @@ class OrderItemsRepoImpl extends OrderItemsRepo {
     where "order_id" = ${Fragment.encode(ScalaDbTypes.DuckDbTypes.integer, compositeId.orderId)} AND "product_id" = ${Fragment.encode(ScalaDbTypes.DuckDbTypes.integer, compositeId.productId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[OrderItemsRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.quantity, f.unitPrice))(using c)
+
   override def upsert(unsaved: OrderItemsRow)(using c: Connection): OrderItemsRow = {
   sql"""INSERT INTO "order_items"("order_id", "product_id", "quantity", "unit_price")
     VALUES (${Fragment.encode(ScalaDbTypes.DuckDbTypes.integer, unsaved.orderId)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.integer, unsaved.productId)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.integer, unsaved.quantity)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.numeric, unsaved.unitPrice)})
@@ -63,6 +63,15 @@ case class OrderItemsRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[OrderItemsRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.compositeId)) {
+        map.put(row.compositeId, row): @scala.annotation.nowarn
+        Some(row.compositeId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: OrderItemsRow)(using c: Connection): OrderItemsRow = {
     map.put(unsaved.compositeId, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -102,6 +102,8 @@ class OrdersRepoImpl extends OrdersRepo {
     where "order_id" = ${Fragment.encode(OrdersId.duckDbType, orderId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[OrdersRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.customerId, f.orderDate, f.totalAmount, f.status))(using c)
+
   override def upsert(unsaved: OrdersRow)(using c: Connection): OrdersRow = {
   sql"""INSERT INTO "orders"("order_id", "customer_id", "order_date", "total_amount", "status")
     VALUES (${Fragment.encode(OrdersId.duckDbType, unsaved.orderId)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.integer, unsaved.customerId)}, ${Fragment.encode(DuckDbTypes.date, unsaved.orderDate)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.numeric.nullable, unsaved.totalAmount)}, ${Fragment.encode(DuckDbTypes.varchar.nullable, unsaved.status)})
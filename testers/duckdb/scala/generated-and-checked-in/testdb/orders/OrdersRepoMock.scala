@@ -63,6 +63,15 @@ case class OrdersRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[OrdersRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.orderId)) {
+        map.put(row.orderId, row): @scala.annotation.nowarn
+        Some(row.orderId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: OrdersRow)(using c: Connection): OrdersRow = {
     map.put(unsaved.orderId, unsaved): @scala.annotation.nowarn
     return unsaved
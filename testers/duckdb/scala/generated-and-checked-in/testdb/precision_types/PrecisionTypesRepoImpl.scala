@@ -86,6 +86,8 @@ class PrecisionTypesRepoImpl extends PrecisionTypesRepo {
     where "id" = ${Fragment.encode(PrecisionTypesId.duckDbType, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[PrecisionTypesRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.string10, f.string20, f.string50, f.string100, f.string255, f.decimal52, f.decimal102, f.decimal184, f.decimal50, f.decimal100, f.decimal180))(using c)
+
   override def upsert(unsaved: PrecisionTypesRow)(using c: Connection): PrecisionTypesRow = {
   sql"""INSERT INTO "precision_types"("id", "string10", "string20", "string50", "string100", "string255", "decimal5_2", "decimal10_2", "decimal18_4", "decimal5_0", "decimal10_0", "decimal18_0")
     VALUES (${Fragment.encode(PrecisionTypesId.duckDbType, unsaved.id)}, ${Fragment.encode(DuckDbTypes.varchar, unsaved.string10)}, ${Fragment.encode(DuckDbTypes.varchar, unsaved.string20)}, ${Fragment.encode(DuckDbTypes.varchar, unsaved.string50)}, ${Fragment.encode(DuckDbTypes.varchar, unsaved.string100)}, ${Fragment.encode(DuckDbTypes.varchar, unsaved.string255)}, ${Fragment.encode(Decimal5_2.duckDbType, unsaved.decimal52)}, ${Fragment.encode(Decimal10_2.duckDbType, unsaved.decimal102)}, ${Fragment.encode(Decimal18_4.duckDbType, unsaved.decimal184)}, ${Fragment.encode(Int5.duckDbType, unsaved.decimal50)}, ${Fragment.encode(Int10.duckDbType, unsaved.decimal100)}, ${Fragment.encode(Int18.duckDbType, unsaved.decimal180)})
@@ -58,6 +58,15 @@ case class PrecisionTypesRepoMock(map: scala.collection.mutable.Map[PrecisionTyp
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[PrecisionTypesRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.id)) {
+        map.put(row.id, row): @scala.annotation.nowarn
+        Some(row.id)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: PrecisionTypesRow)(using c: Connection): PrecisionTypesRow = {
     map.put(unsaved.id, unsaved): @scala.annotation.nowarn
     return unsaved
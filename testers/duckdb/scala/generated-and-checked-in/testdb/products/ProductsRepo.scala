@@ -35,6 +35,8 @@ trait ProductsRepo {
 
   def update(row: ProductsRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[ProductsRow])(using c: Connection): Int
+
   def upsert(unsaved: ProductsRow)(using c: Connection): ProductsRow
 
   def upsertBatch(unsaved: Iterator[ProductsRow])(using c: Connection): List[ProductsRow]
@@ -82,6 +82,8 @@ class ProductsRepoImpl extends ProductsRepo {
     where "product_id" = ${Fragment.encode(ProductsId.duckDbType, productId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[ProductsRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.sku, f.name, f.price, f.metadata))(using c)
+
   override def upsert(unsaved: ProductsRow)(using c: Connection): ProductsRow = {
   sql"""INSERT INTO "products"("product_id", "sku", "name", "price", "metadata")
     VALUES (${Fragment.encode(ProductsId.duckDbType, unsaved.productId)}, ${Fragment.encode(DuckDbTypes.varchar, unsaved.sku)}, ${Fragment.encode(DuckDbTypes.varchar, unsaved.name)}, ${Fragment.encode(ScalaDbTypes.DuckDbTypes.numeric, unsaved.price)}, ${Fragment.encode(DuckDbTypes.json.nullable, unsaved.metadata)})
@@ -39,6 +39,8 @@ public interface AuditLogRepo {
 
   Boolean update(AuditLogRow row, Connection c);
 
+  Integer updateBatch(Iterator<AuditLogRow> rows, Connection c);
+
   AuditLogRow upsert(AuditLogRow unsaved, Connection c);
 
   List<AuditLogRow> upsertBatch(Iterator<AuditLogRow> unsaved, Connection c);
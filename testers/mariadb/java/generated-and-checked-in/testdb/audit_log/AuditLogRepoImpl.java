@@ -8,6 +8,7 @@ package testdb.audit_log;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -40,17 +41,24 @@ public class AuditLogRepoImpl implements AuditLogRepo {
 
   @Override
   public Integer deleteByIds(AuditLogId[] logIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : logIds) {
-      fragments.add(Fragment.encode(AuditLogId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(logIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(AuditLogId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `audit_log` where `log_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `audit_log` where `log_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -207,20 +215,26 @@ public class AuditLogRepoImpl implements AuditLogRepo {
 
   @Override
   public List<AuditLogRow> selectByIds(AuditLogId[] logIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : logIds) {
-      fragments.add(Fragment.encode(AuditLogId.mariaType, id));
+    ArrayList<AuditLogRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(logIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(AuditLogId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `log_id`, `table_name`, `record_id`, `action`, `old_values`,"
+                          + " `new_values`, `changed_by`, `changed_at`, `client_ip`, `session_id`"
+                          + " from `audit_log` where `log_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(AuditLogRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `log_id`, `table_name`, `record_id`, `action`, `old_values`, `new_values`,"
-                    + " `changed_by`, `changed_at`, `client_ip`, `session_id` from `audit_log`"
-                    + " where `log_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(AuditLogRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -267,6 +281,25 @@ public class AuditLogRepoImpl implements AuditLogRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<AuditLogRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.tableName(),
+                    f.recordId(),
+                    f.action(),
+                    f.oldValues(),
+                    f.newValues(),
+                    f.changedBy(),
+                    f.changedAt(),
+                    f.clientIp(),
+                    f.sessionId()),
+            c);
+  }
+
   @Override
   public AuditLogRow upsert(AuditLogRow unsaved, Connection c) {
     return interpolate(
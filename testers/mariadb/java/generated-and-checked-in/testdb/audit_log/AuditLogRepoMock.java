@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -157,6 +158,23 @@ public record AuditLogRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<AuditLogRow> rows, Connection c) {
+    var updated = new HashSet<AuditLogId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.logId())) {
+        map.put(row.logId(), row);
+        updated.add(row.logId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public AuditLogRow upsert(AuditLogRow unsaved, Connection c) {
     map.put(unsaved.logId(), unsaved);
@@ -41,6 +41,8 @@ public interface BrandsRepo {
 
   Boolean update(BrandsRow row, Connection c);
 
+  Integer updateBatch(Iterator<BrandsRow> rows, Connection c);
+
   BrandsRow upsert(BrandsRow unsaved, Connection c);
 
   List<BrandsRow> upsertBatch(Iterator<BrandsRow> unsaved, Connection c);
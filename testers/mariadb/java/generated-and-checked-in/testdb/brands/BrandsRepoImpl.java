@@ -8,6 +8,7 @@ package testdb.brands;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -41,17 +42,24 @@ public class BrandsRepoImpl implements BrandsRepo {
 
   @Override
   public Integer deleteByIds(BrandsId[] brandIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : brandIds) {
-      fragments.add(Fragment.encode(BrandsId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(brandIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(BrandsId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `brands` where `brand_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `brands` where `brand_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -177,19 +185,26 @@ public class BrandsRepoImpl implements BrandsRepo {
 
   @Override
   public List<BrandsRow> selectByIds(BrandsId[] brandIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : brandIds) {
-      fragments.add(Fragment.encode(BrandsId.mariaType, id));
+    ArrayList<BrandsRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(brandIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(BrandsId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `brand_id`, `name`, `slug`, `logo_blob`, `website_url`,"
+                          + " `country_of_origin`, `is_active` from `brands` where `brand_id` in"
+                          + " ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(BrandsRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `brand_id`, `name`, `slug`, `logo_blob`, `website_url`,"
-                    + " `country_of_origin`, `is_active` from `brands` where `brand_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(BrandsRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -244,6 +259,22 @@ public class BrandsRepoImpl implements BrandsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<BrandsRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.name(),
+                    f.slug(),
+                    f.logoBlob(),
+                    f.websiteUrl(),
+                    f.countryOfOrigin(),
+                    f.isActive()),
+            c);
+  }
+
   @Override
   public BrandsRow upsert(BrandsRow unsaved, Connection c) {
     return interpolate(
@@ -8,6 +8,7 @@ package testdb.categories;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -40,17 +41,24 @@ public class CategoriesRepoImpl implements CategoriesRepo {
 
   @Override
   public Integer deleteByIds(CategoriesId[] categoryIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : categoryIds) {
-      fragments.add(Fragment.encode(CategoriesId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(categoryIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(CategoriesId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `categories` where `category_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `categories` where `category_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -201,20 +209,26 @@ public class CategoriesRepoImpl implements CategoriesRepo {
 
   @Override
   public List<CategoriesRow> selectByIds(CategoriesId[] categoryIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : categoryIds) {
-      fragments.add(Fragment.encode(CategoriesId.mariaType, id));
+    ArrayList<CategoriesRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(categoryIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(CategoriesId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `category_id`, `parent_id`, `name`, `slug`, `description`,"
+                          + " `image_url`, `sort_order`, `is_visible`, `metadata` from `categories`"
+                          + " where `category_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(CategoriesRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `category_id`, `parent_id`, `name`, `slug`, `description`, `image_url`,"
-                    + " `sort_order`, `is_visible`, `metadata` from `categories` where"
-                    + " `category_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(CategoriesRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -274,6 +288,24 @@ public class CategoriesRepoImpl implements CategoriesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<CategoriesRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.parentId(),
+                    f.name(),
+                    f.slug(),
+                    f.description(),
+                    f.imageUrl(),
+                    f.sortOrder(),
+                    f.isVisible(),
+                    f.metadata()),
+            c);
+  }
+
   @Override
   public CategoriesRow upsert(CategoriesRow unsaved, Connection c) {
     return interpolate(
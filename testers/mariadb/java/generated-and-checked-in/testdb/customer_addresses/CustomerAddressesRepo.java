@@ -40,6 +40,8 @@ public interface CustomerAddressesRepo {
 
   Boolean update(CustomerAddressesRow row, Connection c);
 
+  Integer updateBatch(Iterator<CustomerAddressesRow> rows, Connection c);
+
   CustomerAddressesRow upsert(CustomerAddressesRow unsaved, Connection c);
 
   List<CustomerAddressesRow> upsertBatch(Iterator<CustomerAddressesRow> unsaved, Connection c);
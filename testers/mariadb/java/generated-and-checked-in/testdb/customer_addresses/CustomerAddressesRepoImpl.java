@@ -8,6 +8,7 @@ package testdb.customer_addresses;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -43,17 +44,24 @@ public class CustomerAddressesRepoImpl implements CustomerAddressesRepo {
 
   @Override
   public Integer deleteByIds(CustomerAddressesId[] addressIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : addressIds) {
-      fragments.add(Fragment.encode(CustomerAddressesId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(addressIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(CustomerAddressesId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `customer_addresses` where `address_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `customer_addresses` where `address_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -242,21 +250,28 @@ public class CustomerAddressesRepoImpl implements CustomerAddressesRepo {
 
   @Override
   public List<CustomerAddressesRow> selectByIds(CustomerAddressesId[] addressIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : addressIds) {
-      fragments.add(Fragment.encode(CustomerAddressesId.mariaType, id));
+    ArrayList<CustomerAddressesRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(addressIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(CustomerAddressesId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `address_id`, `customer_id`, `address_type`, `is_default`,"
+                          + " `recipient_name`, `street_line1`, `street_line2`, `city`,"
+                          + " `state_province`, `postal_code`, `country_code`, `location`,"
+                          + " `delivery_notes`, `created_at` from `customer_addresses` where"
+                          + " `address_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(CustomerAddressesRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `address_id`, `customer_id`, `address_type`, `is_default`,"
-                    + " `recipient_name`, `street_line1`, `street_line2`, `city`, `state_province`,"
-                    + " `postal_code`, `country_code`, `location`, `delivery_notes`, `created_at`"
-                    + " from `customer_addresses` where `address_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(CustomerAddressesRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -316,6 +331,29 @@ public class CustomerAddressesRepoImpl implements CustomerAddressesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<CustomerAddressesRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.customerId(),
+                    f.addressType(),
+                    f.isDefault(),
+                    f.recipientName(),
+                    f.streetLine1(),
+                    f.streetLine2(),
+                    f.city(),
+                    f.stateProvince(),
+                    f.postalCode(),
+                    f.countryCode(),
+                    f.location(),
+                    f.deliveryNotes(),
+                    f.createdAt()),
+            c);
+  }
+
   @Override
   public CustomerAddressesRow upsert(CustomerAddressesRow unsaved, Connection c) {
     return interpolate(
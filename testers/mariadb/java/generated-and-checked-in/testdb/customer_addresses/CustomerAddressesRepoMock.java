@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -164,6 +165,23 @@ public record CustomerAddressesRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<CustomerAddressesRow> rows, Connection c) {
+    var updated = new HashSet<CustomerAddressesId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.addressId())) {
+        map.put(row.addressId(), row);
+        updated.add(row.addressId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public CustomerAddressesRow upsert(CustomerAddressesRow unsaved, Connection c) {
     map.put(unsaved.addressId(), unsaved);
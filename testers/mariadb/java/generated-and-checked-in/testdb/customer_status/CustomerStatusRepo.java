@@ -40,6 +40,8 @@ public interface CustomerStatusRepo {
 
   Boolean update(CustomerStatusRow row, Connection c);
 
+  Integer updateBatch(Iterator<CustomerStatusRow> rows, Connection c);
+
   CustomerStatusRow upsert(CustomerStatusRow unsaved, Connection c);
 
   List<CustomerStatusRow> upsertBatch(Iterator<CustomerStatusRow> unsaved, Connection c);
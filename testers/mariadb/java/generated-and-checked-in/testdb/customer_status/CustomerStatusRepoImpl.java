@@ -8,6 +8,7 @@ package testdb.customer_status;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -41,17 +42,24 @@ public class CustomerStatusRepoImpl implements CustomerStatusRepo {
 
   @Override
   public Integer deleteByIds(CustomerStatusId[] statusCodes, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : statusCodes) {
-      fragments.add(Fragment.encode(CustomerStatusId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(statusCodes)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(CustomerStatusId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `customer_status` where `status_code` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `customer_status` where `status_code` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -136,19 +144,25 @@ public class CustomerStatusRepoImpl implements CustomerStatusRepo {
 
   @Override
   public List<CustomerStatusRow> selectByIds(CustomerStatusId[] statusCodes, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : statusCodes) {
-      fragments.add(Fragment.encode(CustomerStatusId.mariaType, id));
+    ArrayList<CustomerStatusRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(statusCodes)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(CustomerStatusId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `status_code`, `description`, `is_active` from `customer_status`"
+                          + " where `status_code` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(CustomerStatusRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `status_code`, `description`, `is_active` from `customer_status` where"
-                    + " `status_code` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(CustomerStatusRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -186,6 +200,11 @@ public class CustomerStatusRepoImpl implements CustomerStatusRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<CustomerStatusRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.description(), f.isActive()), c);
+  }
+
   @Override
   public CustomerStatusRow upsert(CustomerStatusRow unsaved, Connection c) {
     return interpolate(
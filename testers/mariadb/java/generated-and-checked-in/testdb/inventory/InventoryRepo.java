@@ -44,6 +44,8 @@ public interface InventoryRepo {
 
   Boolean update(InventoryRow row, Connection c);
 
+  Integer updateBatch(Iterator<InventoryRow> rows, Connection c);
+
   InventoryRow upsert(InventoryRow unsaved, Connection c);
 
   List<InventoryRow> upsertBatch(Iterator<InventoryRow> unsaved, Connection c);
@@ -8,6 +8,7 @@ package testdb.inventory;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -42,17 +43,24 @@ public class InventoryRepoImpl implements InventoryRepo {
 
   @Override
   public Integer deleteByIds(InventoryId[] inventoryIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : inventoryIds) {
-      fragments.add(Fragment.encode(InventoryId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(inventoryIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(InventoryId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `inventory` where `inventory_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `inventory` where `inventory_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -229,21 +237,27 @@ public class InventoryRepoImpl implements InventoryRepo {
 
   @Override
   public List<InventoryRow> selectByIds(InventoryId[] inventoryIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : inventoryIds) {
-      fragments.add(Fragment.encode(InventoryId.mariaType, id));
+    ArrayList<InventoryRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(inventoryIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(InventoryId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `inventory_id`, `product_id`, `warehouse_id`, `quantity_on_hand`,"
+                          + " `quantity_reserved`, `quantity_on_order`, `reorder_point`,"
+                          + " `reorder_quantity`, `bin_location`, `last_counted_at`, `updated_at`"
+                          + " from `inventory` where `inventory_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(InventoryRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `inventory_id`, `product_id`, `warehouse_id`, `quantity_on_hand`,"
-                    + " `quantity_reserved`, `quantity_on_order`, `reorder_point`,"
-                    + " `reorder_quantity`, `bin_location`, `last_counted_at`, `updated_at` from"
-                    + " `inventory` where `inventory_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(InventoryRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -311,6 +325,26 @@ public class InventoryRepoImpl implements InventoryRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<InventoryRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.productId(),
+                    f.warehouseId(),
+                    f.quantityOnHand(),
+                    f.quantityReserved(),
+                    f.quantityOnOrder(),
+                    f.reorderPoint(),
+                    f.reorderQuantity(),
+                    f.binLocation(),
+                    f.lastCountedAt(),
+                    f.updatedAt()),
+            c);
+  }
+
   @Override
   public InventoryRow upsert(InventoryRow unsaved, Connection c) {
     return interpolate(
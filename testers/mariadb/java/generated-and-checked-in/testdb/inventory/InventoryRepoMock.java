@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -172,6 +173,23 @@ public record InventoryRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<InventoryRow> rows, Connection c) {
+    var updated = new HashSet<InventoryId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.inventoryId())) {
+        map.put(row.inventoryId(), row);
+        updated.add(row.inventoryId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public InventoryRow upsert(InventoryRow unsaved, Connection c) {
     map.put(unsaved.inventoryId(), unsaved);
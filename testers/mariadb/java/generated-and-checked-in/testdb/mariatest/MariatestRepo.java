@@ -39,6 +39,8 @@ public interface MariatestRepo {
 
   Boolean update(MariatestRow row, Connection c);
 
+  Integer updateBatch(Iterator<MariatestRow> rows, Connection c);
+
   MariatestRow upsert(MariatestRow unsaved, Connection c);
 
   List<MariatestRow> upsertBatch(Iterator<MariatestRow> unsaved, Connection c);
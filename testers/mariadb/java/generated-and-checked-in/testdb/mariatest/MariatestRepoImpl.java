@@ -8,6 +8,7 @@ package testdb.mariatest;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -41,17 +42,24 @@ public class MariatestRepoImpl implements MariatestRepo {
 
   @Override
   public Integer deleteByIds(MariatestId[] intCols, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : intCols) {
-      fragments.add(Fragment.encode(MariatestId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(intCols)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(MariatestId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `mariatest` where `int_col` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `mariatest` where `int_col` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -375,27 +383,34 @@ public class MariatestRepoImpl implements MariatestRepo {
 
   @Override
   public List<MariatestRow> selectByIds(MariatestId[] intCols, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : intCols) {
-      fragments.add(Fragment.encode(MariatestId.mariaType, id));
+    ArrayList<MariatestRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(intCols)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(MariatestId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `tinyint_col`, `smallint_col`, `mediumint_col`, `int_col`,"
+                          + " `bigint_col`, `tinyint_u_col`, `smallint_u_col`, `mediumint_u_col`,"
+                          + " `int_u_col`, `bigint_u_col`, `decimal_col`, `numeric_col`,"
+                          + " `float_col`, `double_col`, `bool_col`, `bit_col`, `bit1_col`,"
+                          + " `char_col`, `varchar_col`, `tinytext_col`, `text_col`,"
+                          + " `mediumtext_col`, `longtext_col`, `binary_col`, `varbinary_col`,"
+                          + " `tinyblob_col`, `blob_col`, `mediumblob_col`, `longblob_col`,"
+                          + " `date_col`, `time_col`, `time_fsp_col`, `datetime_col`,"
+                          + " `datetime_fsp_col`, `timestamp_col`, `timestamp_fsp_col`, `year_col`,"
+                          + " `set_col`, `json_col`, `inet4_col`, `inet6_col` from `mariatest`"
+                          + " where `int_col` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(MariatestRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `tinyint_col`, `smallint_col`, `mediumint_col`, `int_col`, `bigint_col`,"
-                    + " `tinyint_u_col`, `smallint_u_col`, `mediumint_u_col`, `int_u_col`,"
-                    + " `bigint_u_col`, `decimal_col`, `numeric_col`, `float_col`, `double_col`,"
-                    + " `bool_col`, `bit_col`, `bit1_col`, `char_col`, `varchar_col`,"
-                    + " `tinytext_col`, `text_col`, `mediumtext_col`, `longtext_col`, `binary_col`,"
-                    + " `varbinary_col`, `tinyblob_col`, `blob_col`, `mediumblob_col`,"
-                    + " `longblob_col`, `date_col`, `time_col`, `time_fsp_col`, `datetime_col`,"
-                    + " `datetime_fsp_col`, `timestamp_col`, `timestamp_fsp_col`, `year_col`,"
-                    + " `set_col`, `json_col`, `inet4_col`, `inet6_col` from `mariatest` where"
-                    + " `int_col` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(MariatestRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -504,6 +519,56 @@ public class MariatestRepoImpl implements MariatestRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<MariatestRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.tinyintCol(),
+                    f.smallintCol(),
+                    f.mediumintCol(),
+                    f.bigintCol(),
+                    f.tinyintUCol(),
+                    f.smallintUCol(),
+                    f.mediumintUCol(),
+                    f.intUCol(),
+                    f.bigintUCol(),
+                    f.decimalCol(),
+                    f.numericCol(),
+                    f.floatCol(),
+                    f.doubleCol(),
+                    f.boolCol(),
+                    f.bitCol(),
+                    f.bit1Col(),
+                    f.charCol(),
+                    f.varcharCol(),
+                    f.tinytextCol(),
+                    f.textCol(),
+                    f.mediumtextCol(),
+                    f.longtextCol(),
+                    f.binaryCol(),
+                    f.varbinaryCol(),
+                    f.tinyblobCol(),
+                    f.blobCol(),
+                    f.mediumblobCol(),
+                    f.longblobCol(),
+                    f.dateCol(),
+                    f.timeCol(),
+                    f.timeFspCol(),
+                    f.datetimeCol(),
+                    f.datetimeFspCol(),
+                    f.timestampCol(),
+                    f.timestampFspCol(),
+                    f.yearCol(),
+                    f.setCol(),
+                    f.jsonCol(),
+                    f.inet4Col(),
+                    f.inet6Col()),
+            c);
+  }
+
   @Override
   public MariatestRow upsert(MariatestRow unsaved, Connection c) {
     return interpolate(
@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -159,6 +160,23 @@ public record MariatestRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<MariatestRow> rows, Connection c) {
+    var updated = new HashSet<MariatestId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.intCol())) {
+        map.put(row.intCol(), row);
+        updated.add(row.intCol());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public MariatestRow upsert(MariatestRow unsaved, Connection c) {
     map.put(unsaved.intCol(), unsaved);
@@ -40,6 +40,8 @@ public interface MariatestIdentityRepo {
 
   Boolean update(MariatestIdentityRow row, Connection c);
 
+  Integer updateBatch(Iterator<MariatestIdentityRow> rows, Connection c);
+
   MariatestIdentityRow upsert(MariatestIdentityRow unsaved, Connection c);
 
   List<MariatestIdentityRow> upsertBatch(Iterator<MariatestIdentityRow> unsaved, Connection c);
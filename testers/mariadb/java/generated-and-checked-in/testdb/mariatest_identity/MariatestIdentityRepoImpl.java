@@ -8,6 +8,7 @@ package testdb.mariatest_identity;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -41,17 +42,24 @@ public class MariatestIdentityRepoImpl implements MariatestIdentityRepo {
 
   @Override
   public Integer deleteByIds(MariatestIdentityId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(MariatestIdentityId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(MariatestIdentityId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `mariatest_identity` where `id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `mariatest_identity` where `id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -111,17 +119,23 @@ public class MariatestIdentityRepoImpl implements MariatestIdentityRepo {
 
   @Override
   public List<MariatestIdentityRow> selectByIds(MariatestIdentityId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(MariatestIdentityId.mariaType, id));
+    ArrayList<MariatestIdentityRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(MariatestIdentityId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit("select `id`, `name` from `mariatest_identity` where `id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(MariatestIdentityRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("select `id`, `name` from `mariatest_identity` where `id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(MariatestIdentityRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -157,6 +171,11 @@ public class MariatestIdentityRepoImpl implements MariatestIdentityRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<MariatestIdentityRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.name()), c);
+  }
+
   @Override
   public MariatestIdentityRow upsert(MariatestIdentityRow unsaved, Connection c) {
     return interpolate(
@@ -40,6 +40,8 @@ public interface MariatestSpatialRepo {
 
   Boolean update(MariatestSpatialRow row, Connection c);
 
+  Integer updateBatch(Iterator<MariatestSpatialRow> rows, Connection c);
+
   MariatestSpatialRow upsert(MariatestSpatialRow unsaved, Connection c);
 
   List<MariatestSpatialRow> upsertBatch(Iterator<MariatestSpatialRow> unsaved, Connection c);
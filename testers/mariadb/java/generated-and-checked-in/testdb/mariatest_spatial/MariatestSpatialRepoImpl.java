@@ -8,6 +8,7 @@ package testdb.mariatest_spatial;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -41,17 +42,24 @@ public class MariatestSpatialRepoImpl implements MariatestSpatialRepo {
 
   @Override
   public Integer deleteByIds(MariatestSpatialId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(MariatestSpatialId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(MariatestSpatialId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `mariatest_spatial` where `id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `mariatest_spatial` where `id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -176,20 +184,26 @@ public class MariatestSpatialRepoImpl implements MariatestSpatialRepo {
 
   @Override
   public List<MariatestSpatialRow> selectByIds(MariatestSpatialId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(MariatestSpatialId.mariaType, id));
+    ArrayList<MariatestSpatialRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(MariatestSpatialId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `id`, `geometry_col`, `point_col`, `linestring_col`, `polygon_col`,"
+                          + " `multipoint_col`, `multilinestring_col`, `multipolygon_col`,"
+                          + " `geometrycollection_col` from `mariatest_spatial` where `id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(MariatestSpatialRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `id`, `geometry_col`, `point_col`, `linestring_col`, `polygon_col`,"
-                    + " `multipoint_col`, `multilinestring_col`, `multipolygon_col`,"
-                    + " `geometrycollection_col` from `mariatest_spatial` where `id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(MariatestSpatialRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -239,6 +253,24 @@ public class MariatestSpatialRepoImpl implements MariatestSpatialRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<MariatestSpatialRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.geometryCol(),
+                    f.pointCol(),
+                    f.linestringCol(),
+                    f.polygonCol(),
+                    f.multipointCol(),
+                    f.multilinestringCol(),
+                    f.multipolygonCol(),
+                    f.geometrycollectionCol()),
+            c);
+  }
+
   @Override
   public MariatestSpatialRow upsert(MariatestSpatialRow unsaved, Connection c) {
     return interpolate(
@@ -40,6 +40,8 @@ public interface MariatestSpatialNullRepo {
 
   Boolean update(MariatestSpatialNullRow row, Connection c);
 
+  Integer updateBatch(Iterator<MariatestSpatialNullRow> rows, Connection c);
+
   MariatestSpatialNullRow upsert(MariatestSpatialNullRow unsaved, Connection c);
 
   List<MariatestSpatialNullRow> upsertBatch(
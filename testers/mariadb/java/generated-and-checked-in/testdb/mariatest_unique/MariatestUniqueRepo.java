@@ -46,6 +46,8 @@ public interface MariatestUniqueRepo {
 
   Boolean update(MariatestUniqueRow row, Connection c);
 
+  Integer updateBatch(Iterator<MariatestUniqueRow> rows, Connection c);
+
   MariatestUniqueRow upsert(MariatestUniqueRow unsaved, Connection c);
 
   List<MariatestUniqueRow> upsertBatch(Iterator<MariatestUniqueRow> unsaved, Connection c);
@@ -8,6 +8,7 @@ package testdb.mariatest_unique;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -41,17 +42,24 @@ public class MariatestUniqueRepoImpl implements MariatestUniqueRepo {
 
   @Override
   public Integer deleteByIds(MariatestUniqueId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(MariatestUniqueId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(MariatestUniqueId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `mariatest_unique` where `id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `mariatest_unique` where `id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -122,18 +130,25 @@ public class MariatestUniqueRepoImpl implements MariatestUniqueRepo {
 
   @Override
   public List<MariatestUniqueRow> selectByIds(MariatestUniqueId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(MariatestUniqueId.mariaType, id));
+    ArrayList<MariatestUniqueRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(MariatestUniqueId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `id`, `email`, `code`, `category` from `mariatest_unique` where `id`"
+                          + " in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(MariatestUniqueRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `id`, `email`, `code`, `category` from `mariatest_unique` where `id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(MariatestUniqueRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -203,6 +218,11 @@ public class MariatestUniqueRepoImpl implements MariatestUniqueRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<MariatestUniqueRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.email(), f.code(), f.category()), c);
+  }
+
   @Override
   public MariatestUniqueRow upsert(MariatestUniqueRow unsaved, Connection c) {
     return interpolate(
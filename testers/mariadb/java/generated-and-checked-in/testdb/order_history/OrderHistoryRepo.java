@@ -40,6 +40,8 @@ public interface OrderHistoryRepo {
 
   Boolean update(OrderHistoryRow row, Connection c);
 
+  Integer updateBatch(Iterator<OrderHistoryRow> rows, Connection c);
+
   OrderHistoryRow upsert(OrderHistoryRow unsaved, Connection c);
 
   List<OrderHistoryRow> upsertBatch(Iterator<OrderHistoryRow> unsaved, Connection c);
@@ -8,6 +8,7 @@ package testdb.order_history;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -41,17 +42,24 @@ public class OrderHistoryRepoImpl implements OrderHistoryRepo {
 
   @Override
   public Integer deleteByIds(OrderHistoryId[] historyIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : historyIds) {
-      fragments.add(Fragment.encode(OrderHistoryId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(historyIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(OrderHistoryId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `order_history` where `history_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `order_history` where `history_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -194,20 +202,26 @@ public class OrderHistoryRepoImpl implements OrderHistoryRepo {
 
   @Override
   public List<OrderHistoryRow> selectByIds(OrderHistoryId[] historyIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : historyIds) {
-      fragments.add(Fragment.encode(OrderHistoryId.mariaType, id));
+    ArrayList<OrderHistoryRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(historyIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(OrderHistoryId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `history_id`, `order_id`, `previous_status`, `new_status`,"
+                          + " `changed_by`, `change_reason`, `metadata`, `created_at` from"
+                          + " `order_history` where `history_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(OrderHistoryRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `history_id`, `order_id`, `previous_status`, `new_status`, `changed_by`,"
-                    + " `change_reason`, `metadata`, `created_at` from `order_history` where"
-                    + " `history_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(OrderHistoryRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -254,6 +268,23 @@ public class OrderHistoryRepoImpl implements OrderHistoryRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<OrderHistoryRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.orderId(),
+                    f.previousStatus(),
+                    f.newStatus(),
+                    f.changedBy(),
+                    f.changeReason(),
+                    f.metadata(),
+                    f.createdAt()),
+            c);
+  }
+
   @Override
   public OrderHistoryRow upsert(OrderHistoryRow unsaved, Connection c) {
     return interpolate(
@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -161,6 +162,23 @@ public record OrderHistoryRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<OrderHistoryRow> rows, Connection c) {
+    var updated = new HashSet<OrderHistoryId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.historyId())) {
+        map.put(row.historyId(), row);
+        updated.add(row.historyId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public OrderHistoryRow upsert(OrderHistoryRow unsaved, Connection c) {
     map.put(unsaved.historyId(), unsaved);
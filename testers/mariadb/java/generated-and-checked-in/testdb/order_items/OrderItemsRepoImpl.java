@@ -8,6 +8,7 @@ package testdb.order_items;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -43,17 +44,24 @@ public class OrderItemsRepoImpl implements OrderItemsRepo {
 
   @Override
   public Integer deleteByIds(OrderItemsId[] itemIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : itemIds) {
-      fragments.add(Fragment.encode(OrderItemsId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(itemIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(OrderItemsId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `order_items` where `item_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `order_items` where `item_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -221,21 +229,27 @@ public class OrderItemsRepoImpl implements OrderItemsRepo {
 
   @Override
   public List<OrderItemsRow> selectByIds(OrderItemsId[] itemIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : itemIds) {
-      fragments.add(Fragment.encode(OrderItemsId.mariaType, id));
+    ArrayList<OrderItemsRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(itemIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(OrderItemsId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `item_id`, `order_id`, `product_id`, `sku`, `product_name`,"
+                          + " `quantity`, `unit_price`, `discount_amount`, `tax_amount`,"
+                          + " `line_total`, `fulfillment_status`, `warehouse_id`, `notes` from"
+                          + " `order_items` where `item_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(OrderItemsRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `item_id`, `order_id`, `product_id`, `sku`, `product_name`, `quantity`,"
-                    + " `unit_price`, `discount_amount`, `tax_amount`, `line_total`,"
-                    + " `fulfillment_status`, `warehouse_id`, `notes` from `order_items` where"
-                    + " `item_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(OrderItemsRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -288,6 +302,28 @@ public class OrderItemsRepoImpl implements OrderItemsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<OrderItemsRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.orderId(),
+                    f.productId(),
+                    f.sku(),
+                    f.productName(),
+                    f.quantity(),
+                    f.unitPrice(),
+                    f.discountAmount(),
+                    f.taxAmount(),
+                    f.lineTotal(),
+                    f.fulfillmentStatus(),
+                    f.warehouseId(),
+                    f.notes()),
+            c);
+  }
+
   @Override
   public OrderItemsRow upsert(OrderItemsRow unsaved, Connection c) {
     return interpolate(
@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -160,6 +161,23 @@ public record OrderItemsRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<OrderItemsRow> rows, Connection c) {
+    var updated = new HashSet<OrderItemsId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.itemId())) {
+        map.put(row.itemId(), row);
+        updated.add(row.itemId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public OrderItemsRow upsert(OrderItemsRow unsaved, Connection c) {
     map.put(unsaved.itemId(), unsaved);
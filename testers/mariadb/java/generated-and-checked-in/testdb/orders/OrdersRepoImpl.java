@@ -8,6 +8,7 @@ package testdb.orders;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -43,17 +44,24 @@ public class OrdersRepoImpl implements OrdersRepo {
 
   @Override
   public Integer deleteByIds(OrdersId[] orderIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : orderIds) {
-      fragments.add(Fragment.encode(OrdersId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(orderIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(OrdersId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `orders` where `order_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `orders` where `order_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -365,23 +373,30 @@ public class OrdersRepoImpl implements OrdersRepo {
 
   @Override
   public List<OrdersRow> selectByIds(OrdersId[] orderIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : orderIds) {
-      fragments.add(Fragment.encode(OrdersId.mariaType, id));
+    ArrayList<OrdersRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(orderIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(OrdersId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `order_id`, `order_number`, `customer_id`, `order_status`,"
+                          + " `payment_status`, `shipping_address_id`, `billing_address_id`,"
+                          + " `subtotal`, `shipping_cost`, `tax_amount`, `discount_amount`,"
+                          + " `total_amount`, `currency_code`, `promotion_id`, `notes`,"
+                          + " `internal_notes`, `ip_address`, `user_agent`, `ordered_at`,"
+                          + " `confirmed_at`, `shipped_at`, `delivered_at` from `orders` where"
+                          + " `order_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(OrdersRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `order_id`, `order_number`, `customer_id`, `order_status`,"
-                    + " `payment_status`, `shipping_address_id`, `billing_address_id`, `subtotal`,"
-                    + " `shipping_cost`, `tax_amount`, `discount_amount`, `total_amount`,"
-                    + " `currency_code`, `promotion_id`, `notes`, `internal_notes`, `ip_address`,"
-                    + " `user_agent`, `ordered_at`, `confirmed_at`, `shipped_at`, `delivered_at`"
-                    + " from `orders` where `order_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(OrdersRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -469,6 +484,37 @@ public class OrdersRepoImpl implements OrdersRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<OrdersRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.orderNumber(),
+                    f.customerId(),
+                    f.orderStatus(),
+                    f.paymentStatus(),
+                    f.shippingAddressId(),
+                    f.billingAddressId(),
+                    f.subtotal(),
+                    f.shippingCost(),
+                    f.taxAmount(),
+                    f.discountAmount(),
+                    f.totalAmount(),
+                    f.currencyCode(),
+                    f.promotionId(),
+                    f.notes(),
+                    f.internalNotes(),
+                    f.ipAddress(),
+                    f.userAgent(),
+                    f.orderedAt(),
+                    f.confirmedAt(),
+                    f.shippedAt(),
+                    f.deliveredAt()),
+            c);
+  }
+
   @Override
   public OrdersRow upsert(OrdersRow unsaved, Connection c) {
     return interpolate(
@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -165,6 +166,23 @@ public record OrdersRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<OrdersRow> rows, Connection c) {
+    var updated = new HashSet<OrdersId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.orderId())) {
+        map.put(row.orderId(), row);
+        updated.add(row.orderId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public OrdersRow upsert(OrdersRow unsaved, Connection c) {
     map.put(unsaved.orderId(), unsaved);
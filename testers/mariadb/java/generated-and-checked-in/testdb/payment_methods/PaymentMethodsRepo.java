@@ -42,6 +42,8 @@ public interface PaymentMethodsRepo {
 
   Boolean update(PaymentMethodsRow row, Connection c);
 
+  Integer updateBatch(Iterator<PaymentMethodsRow> rows, Connection c);
+
   PaymentMethodsRow upsert(PaymentMethodsRow unsaved, Connection c);
 
   List<PaymentMethodsRow> upsertBatch(Iterator<PaymentMethodsRow> unsaved, Connection c);
@@ -8,6 +8,7 @@ package testdb.payment_methods;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -41,17 +42,24 @@ public class PaymentMethodsRepoImpl implements PaymentMethodsRepo {
 
   @Override
   public Integer deleteByIds(PaymentMethodsId[] methodIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : methodIds) {
-      fragments.add(Fragment.encode(PaymentMethodsId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(methodIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PaymentMethodsId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `payment_methods` where `method_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `payment_methods` where `method_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -171,19 +179,26 @@ public class PaymentMethodsRepoImpl implements PaymentMethodsRepo {
 
   @Override
   public List<PaymentMethodsRow> selectByIds(PaymentMethodsId[] methodIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : methodIds) {
-      fragments.add(Fragment.encode(PaymentMethodsId.mariaType, id));
+    ArrayList<PaymentMethodsRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(methodIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PaymentMethodsId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `method_id`, `code`, `name`, `method_type`, `processor_config`,"
+                          + " `is_active`, `sort_order` from `payment_methods` where `method_id` in"
+                          + " ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(PaymentMethodsRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `method_id`, `code`, `name`, `method_type`, `processor_config`,"
-                    + " `is_active`, `sort_order` from `payment_methods` where `method_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(PaymentMethodsRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -243,6 +258,22 @@ public class PaymentMethodsRepoImpl implements PaymentMethodsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<PaymentMethodsRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.code(),
+                    f.name(),
+                    f.methodType(),
+                    f.processorConfig(),
+                    f.isActive(),
+                    f.sortOrder()),
+            c);
+  }
+
   @Override
   public PaymentMethodsRow upsert(PaymentMethodsRow unsaved, Connection c) {
     return interpolate(
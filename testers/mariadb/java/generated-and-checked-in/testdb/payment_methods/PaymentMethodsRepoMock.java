@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -167,6 +168,23 @@ public record PaymentMethodsRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<PaymentMethodsRow> rows, Connection c) {
+    var updated = new HashSet<PaymentMethodsId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.methodId())) {
+        map.put(row.methodId(), row);
+        updated.add(row.methodId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public PaymentMethodsRow upsert(PaymentMethodsRow unsaved, Connection c) {
     map.put(unsaved.methodId(), unsaved);
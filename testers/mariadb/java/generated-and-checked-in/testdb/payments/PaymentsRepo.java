@@ -39,6 +39,8 @@ public interface PaymentsRepo {
 
   Boolean update(PaymentsRow row, Connection c);
 
+  Integer updateBatch(Iterator<PaymentsRow> rows, Connection c);
+
   PaymentsRow upsert(PaymentsRow unsaved, Connection c);
 
   List<PaymentsRow> upsertBatch(Iterator<PaymentsRow> unsaved, Connection c);
@@ -8,6 +8,7 @@ package testdb.payments;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -42,17 +43,24 @@ public class PaymentsRepoImpl implements PaymentsRepo {
 
   @Override
   public Integer deleteByIds(PaymentsId[] paymentIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : paymentIds) {
-      fragments.add(Fragment.encode(PaymentsId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(paymentIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PaymentsId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `payments` where `payment_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `payments` where `payment_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -237,21 +245,27 @@ public class PaymentsRepoImpl implements PaymentsRepo {
 
   @Override
   public List<PaymentsRow> selectByIds(PaymentsId[] paymentIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : paymentIds) {
-      fragments.add(Fragment.encode(PaymentsId.mariaType, id));
+    ArrayList<PaymentsRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(paymentIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PaymentsId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `payment_id`, `order_id`, `method_id`, `transaction_id`, `amount`,"
+                          + " `currency_code`, `status`, `processor_response`, `error_message`,"
+                          + " `ip_address`, `created_at`, `processed_at` from `payments` where"
+                          + " `payment_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(PaymentsRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `payment_id`, `order_id`, `method_id`, `transaction_id`, `amount`,"
-                    + " `currency_code`, `status`, `processor_response`, `error_message`,"
-                    + " `ip_address`, `created_at`, `processed_at` from `payments` where"
-                    + " `payment_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(PaymentsRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -302,6 +316,27 @@ public class PaymentsRepoImpl implements PaymentsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<PaymentsRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.orderId(),
+                    f.methodId(),
+                    f.transactionId(),
+                    f.amount(),
+                    f.currencyCode(),
+                    f.status(),
+                    f.processorResponse(),
+                    f.errorMessage(),
+                    f.ipAddress(),
+                    f.createdAt(),
+                    f.processedAt()),
+            c);
+  }
+
   @Override
   public PaymentsRow upsert(PaymentsRow unsaved, Connection c) {
     return interpolate(
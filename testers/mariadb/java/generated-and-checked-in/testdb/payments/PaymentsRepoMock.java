@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -159,6 +160,23 @@ public record PaymentsRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<PaymentsRow> rows, Connection c) {
+    var updated = new HashSet<PaymentsId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.paymentId())) {
+        map.put(row.paymentId(), row);
+        updated.add(row.paymentId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public PaymentsRow upsert(PaymentsRow unsaved, Connection c) {
     map.put(unsaved.paymentId(), unsaved);
@@ -8,6 +8,7 @@ package testdb.precision_types;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -58,17 +59,24 @@ public class PrecisionTypesRepoImpl implements PrecisionTypesRepo {
 
   @Override
   public Integer deleteByIds(PrecisionTypesId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(PrecisionTypesId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PrecisionTypesId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `precision_types` where `id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `precision_types` where `id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -294,22 +302,28 @@ public class PrecisionTypesRepoImpl implements PrecisionTypesRepo {
 
   @Override
   public List<PrecisionTypesRow> selectByIds(PrecisionTypesId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(PrecisionTypesId.mariaType, id));
+    ArrayList<PrecisionTypesRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PrecisionTypesId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `id`, `string10`, `string20`, `string50`, `string100`, `string255`,"
+                          + " `char10`, `decimal5_2`, `decimal10_2`, `decimal18_4`, `numeric8_2`,"
+                          + " `numeric12_4`, `binary16`, `binary32`, `binary64`, `time0`, `time3`,"
+                          + " `time6`, `datetime0`, `datetime3`, `datetime6`, `ts0`, `ts3`, `ts6`"
+                          + " from `precision_types` where `id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(PrecisionTypesRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `id`, `string10`, `string20`, `string50`, `string100`, `string255`,"
-                    + " `char10`, `decimal5_2`, `decimal10_2`, `decimal18_4`, `numeric8_2`,"
-                    + " `numeric12_4`, `binary16`, `binary32`, `binary64`, `time0`, `time3`,"
-                    + " `time6`, `datetime0`, `datetime3`, `datetime6`, `ts0`, `ts3`, `ts6` from"
-                    + " `precision_types` where `id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(PrecisionTypesRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -389,6 +403,39 @@ public class PrecisionTypesRepoImpl implements PrecisionTypesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<PrecisionTypesRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.string10(),
+                    f.string20(),
+                    f.string50(),
+                    f.string100(),
+                    f.string255(),
+                    f.char10(),
+                    f.decimal52(),
+                    f.decimal102(),
+                    f.decimal184(),
+                    f.numeric82(),
+                    f.numeric124(),
+                    f.binary16(),
+                    f.binary32(),
+                    f.binary64(),
+                    f.time0(),
+                    f.time3(),
+                    f.time6(),
+                    f.datetime0(),
+                    f.datetime3(),
+                    f.datetime6(),
+                    f.ts0(),
+                    f.ts3(),
+                    f.ts6()),
+            c);
+  }
+
   @Override
   public PrecisionTypesRow upsert(PrecisionTypesRow unsaved, Connection c) {
     return interpolate(
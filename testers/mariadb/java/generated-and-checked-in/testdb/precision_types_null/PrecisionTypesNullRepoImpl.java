@@ -8,6 +8,7 @@ package testdb.precision_types_null;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -59,17 +60,24 @@ public class PrecisionTypesNullRepoImpl implements PrecisionTypesNullRepo {
 
   @Override
   public Integer deleteByIds(PrecisionTypesNullId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(PrecisionTypesNullId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PrecisionTypesNullId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `precision_types_null` where `id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `precision_types_null` where `id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -453,22 +461,28 @@ public class PrecisionTypesNullRepoImpl implements PrecisionTypesNullRepo {
 
   @Override
   public List<PrecisionTypesNullRow> selectByIds(PrecisionTypesNullId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(PrecisionTypesNullId.mariaType, id));
+    ArrayList<PrecisionTypesNullRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PrecisionTypesNullId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `id`, `string10`, `string20`, `string50`, `string100`, `string255`,"
+                          + " `char10`, `decimal5_2`, `decimal10_2`, `decimal18_4`, `numeric8_2`,"
+                          + " `numeric12_4`, `binary16`, `binary32`, `binary64`, `time0`, `time3`,"
+                          + " `time6`, `datetime0`, `datetime3`, `datetime6`, `ts0`, `ts3`, `ts6`"
+                          + " from `precision_types_null` where `id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(PrecisionTypesNullRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `id`, `string10`, `string20`, `string50`, `string100`, `string255`,"
-                    + " `char10`, `decimal5_2`, `decimal10_2`, `decimal18_4`, `numeric8_2`,"
-                    + " `numeric12_4`, `binary16`, `binary32`, `binary64`, `time0`, `time3`,"
-                    + " `time6`, `datetime0`, `datetime3`, `datetime6`, `ts0`, `ts3`, `ts6` from"
-                    + " `precision_types_null` where `id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(PrecisionTypesNullRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -548,6 +562,39 @@ public class PrecisionTypesNullRepoImpl implements PrecisionTypesNullRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<PrecisionTypesNullRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.string10(),
+                    f.string20(),
+                    f.string50(),
+                    f.string100(),
+                    f.string255(),
+                    f.char10(),
+                    f.decimal52(),
+                    f.decimal102(),
+                    f.decimal184(),
+                    f.numeric82(),
+                    f.numeric124(),
+                    f.binary16(),
+                    f.binary32(),
+                    f.binary64(),
+                    f.time0(),
+                    f.time3(),
+                    f.time6(),
+                    f.datetime0(),
+                    f.datetime3(),
+                    f.datetime6(),
+                    f.ts0(),
+                    f.ts3(),
+                    f.ts6()),
+            c);
+  }
+
   @Override
   public PrecisionTypesNullRow upsert(PrecisionTypesNullRow unsaved, Connection c) {
     return interpolate(
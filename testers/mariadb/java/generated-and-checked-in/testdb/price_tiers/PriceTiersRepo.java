@@ -39,6 +39,8 @@ public interface PriceTiersRepo {
 
   Boolean update(PriceTiersRow row, Connection c);
 
+  Integer updateBatch(Iterator<PriceTiersRow> rows, Connection c);
+
   PriceTiersRow upsert(PriceTiersRow unsaved, Connection c);
 
   List<PriceTiersRow> upsertBatch(Iterator<PriceTiersRow> unsaved, Connection c);
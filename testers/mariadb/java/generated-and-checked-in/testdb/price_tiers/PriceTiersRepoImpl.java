@@ -8,6 +8,7 @@ package testdb.price_tiers;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -40,17 +41,24 @@ public class PriceTiersRepoImpl implements PriceTiersRepo {
 
   @Override
   public Integer deleteByIds(PriceTiersId[] tierIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : tierIds) {
-      fragments.add(Fragment.encode(PriceTiersId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(tierIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PriceTiersId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `price_tiers` where `tier_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `price_tiers` where `tier_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -145,19 +153,25 @@ public class PriceTiersRepoImpl implements PriceTiersRepo {
 
   @Override
   public List<PriceTiersRow> selectByIds(PriceTiersId[] tierIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : tierIds) {
-      fragments.add(Fragment.encode(PriceTiersId.mariaType, id));
+    ArrayList<PriceTiersRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(tierIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PriceTiersId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `tier_id`, `name`, `min_quantity`, `discount_type`, `discount_value`"
+                          + " from `price_tiers` where `tier_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(PriceTiersRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `tier_id`, `name`, `min_quantity`, `discount_type`, `discount_value` from"
-                    + " `price_tiers` where `tier_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(PriceTiersRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -194,6 +208,13 @@ public class PriceTiersRepoImpl implements PriceTiersRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<PriceTiersRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows, f -> List.of(f.name(), f.minQuantity(), f.discountType(), f.discountValue()), c);
+  }
+
   @Override
   public PriceTiersRow upsert(PriceTiersRow unsaved, Connection c) {
     return interpolate(
@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -160,6 +161,23 @@ public record PriceTiersRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<PriceTiersRow> rows, Connection c) {
+    var updated = new HashSet<PriceTiersId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.tierId())) {
+        map.put(row.tierId(), row);
+        updated.add(row.tierId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public PriceTiersRow upsert(PriceTiersRow unsaved, Connection c) {
     map.put(unsaved.tierId(), unsaved);
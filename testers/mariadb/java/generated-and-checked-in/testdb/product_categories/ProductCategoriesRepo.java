@@ -40,6 +40,8 @@ public interface ProductCategoriesRepo {
 
   Boolean update(ProductCategoriesRow row, Connection c);
 
+  Integer updateBatch(Iterator<ProductCategoriesRow> rows, Connection c);
+
   ProductCategoriesRow upsert(ProductCategoriesRow unsaved, Connection c);
 
   List<ProductCategoriesRow> upsertBatch(Iterator<ProductCategoriesRow> unsaved, Connection c);
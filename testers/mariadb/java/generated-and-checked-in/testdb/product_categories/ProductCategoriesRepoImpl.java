@@ -8,6 +8,7 @@ package testdb.product_categories;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -46,24 +47,32 @@ public class ProductCategoriesRepoImpl implements ProductCategoriesRepo {
 
   @Override
   public Integer deleteByIds(ProductCategoriesId[] compositeIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : compositeIds) {
-      fragments.add(
-          Fragment.interpolate(
-              Fragment.lit("("),
-              Fragment.encode(ProductsId.mariaType, id.productId()),
-              Fragment.lit(", "),
-              Fragment.encode(CategoriesId.mariaType, id.categoryId()),
-              Fragment.lit(")")));
+    var count = 0;
+    for (var chunk : InList.chunks(compositeIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(
+            Fragment.interpolate(
+                Fragment.lit("("),
+                Fragment.encode(ProductsId.mariaType, id.productId()),
+                Fragment.lit(", "),
+                Fragment.encode(CategoriesId.mariaType, id.categoryId()),
+                Fragment.lit(")")));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit(
+                          "delete from `product_categories` where (`product_id`, `category_id`) in"
+                              + " ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "delete from `product_categories` where (`product_id`, `category_id`) in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -165,25 +174,31 @@ public class ProductCategoriesRepoImpl implements ProductCategoriesRepo {
 
   @Override
   public List<ProductCategoriesRow> selectByIds(ProductCategoriesId[] compositeIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : compositeIds) {
-      fragments.add(
+    ArrayList<ProductCategoriesRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(compositeIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(
+            Fragment.interpolate(
+                Fragment.lit("("),
+                Fragment.encode(ProductsId.mariaType, id.productId()),
+                Fragment.lit(", "),
+                Fragment.encode(CategoriesId.mariaType, id.categoryId()),
+                Fragment.lit(")")));
+      }
+      ;
+      result.addAll(
           Fragment.interpolate(
-              Fragment.lit("("),
-              Fragment.encode(ProductsId.mariaType, id.productId()),
-              Fragment.lit(", "),
-              Fragment.encode(CategoriesId.mariaType, id.categoryId()),
-              Fragment.lit(")")));
+                  Fragment.lit(
+                      "select `product_id`, `category_id`, `is_primary`, `sort_order` from"
+                          + " `product_categories` where (`product_id`, `category_id`) in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(ProductCategoriesRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `product_id`, `category_id`, `is_primary`, `sort_order` from"
-                    + " `product_categories` where (`product_id`, `category_id`) in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(ProductCategoriesRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -223,6 +238,11 @@ public class ProductCategoriesRepoImpl implements ProductCategoriesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ProductCategoriesRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.isPrimary(), f.sortOrder()), c);
+  }
+
   @Override
   public ProductCategoriesRow upsert(ProductCategoriesRow unsaved, Connection c) {
     return interpolate(
@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -164,6 +165,23 @@ public record ProductCategoriesRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<ProductCategoriesRow> rows, Connection c) {
+    var updated = new HashSet<ProductCategoriesId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.compositeId())) {
+        map.put(row.compositeId(), row);
+        updated.add(row.compositeId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public ProductCategoriesRow upsert(ProductCategoriesRow unsaved, Connection c) {
     map.put(unsaved.compositeId(), unsaved);
@@ -40,6 +40,8 @@ public interface ProductImagesRepo {
 
   Boolean update(ProductImagesRow row, Connection c);
 
+  Integer updateBatch(Iterator<ProductImagesRow> rows, Connection c);
+
   ProductImagesRow upsert(ProductImagesRow unsaved, Connection c);
 
   List<ProductImagesRow> upsertBatch(Iterator<ProductImagesRow> unsaved, Connection c);
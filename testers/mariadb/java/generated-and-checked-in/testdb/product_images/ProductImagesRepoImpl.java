@@ -8,6 +8,7 @@ package testdb.product_images;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -42,17 +43,24 @@ public class ProductImagesRepoImpl implements ProductImagesRepo {
 
   @Override
   public Integer deleteByIds(ProductImagesId[] imageIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : imageIds) {
-      fragments.add(Fragment.encode(ProductImagesId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(imageIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(ProductImagesId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `product_images` where `image_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `product_images` where `image_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -196,20 +204,26 @@ public class ProductImagesRepoImpl implements ProductImagesRepo {
 
   @Override
   public List<ProductImagesRow> selectByIds(ProductImagesId[] imageIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : imageIds) {
-      fragments.add(Fragment.encode(ProductImagesId.mariaType, id));
+    ArrayList<ProductImagesRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(imageIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(ProductImagesId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `image_id`, `product_id`, `image_url`, `thumbnail_url`, `alt_text`,"
+                          + " `sort_order`, `is_primary`, `image_data` from `product_images` where"
+                          + " `image_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(ProductImagesRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `image_id`, `product_id`, `image_url`, `thumbnail_url`, `alt_text`,"
-                    + " `sort_order`, `is_primary`, `image_data` from `product_images` where"
-                    + " `image_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(ProductImagesRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -257,6 +271,23 @@ public class ProductImagesRepoImpl implements ProductImagesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ProductImagesRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.productId(),
+                    f.imageUrl(),
+                    f.thumbnailUrl(),
+                    f.altText(),
+                    f.sortOrder(),
+                    f.isPrimary(),
+                    f.imageData()),
+            c);
+  }
+
   @Override
   public ProductImagesRow upsert(ProductImagesRow unsaved, Connection c) {
     return interpolate(
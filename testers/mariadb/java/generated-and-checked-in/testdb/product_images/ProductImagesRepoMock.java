@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -161,6 +162,23 @@ public record ProductImagesRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<ProductImagesRow> rows, Connection c) {
+    var updated = new HashSet<ProductImagesId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.imageId())) {
+        map.put(row.imageId(), row);
+        updated.add(row.imageId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public ProductImagesRow upsert(ProductImagesRow unsaved, Connection c) {
     map.put(unsaved.imageId(), unsaved);
@@ -40,6 +40,8 @@ public interface ProductPricesRepo {
 
   Boolean update(ProductPricesRow row, Connection c);
 
+  Integer updateBatch(Iterator<ProductPricesRow> rows, Connection c);
+
   ProductPricesRow upsert(ProductPricesRow unsaved, Connection c);
 
   List<ProductPricesRow> upsertBatch(Iterator<ProductPricesRow> unsaved, Connection c);
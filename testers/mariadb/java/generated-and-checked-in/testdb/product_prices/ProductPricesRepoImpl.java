@@ -8,6 +8,7 @@ package testdb.product_prices;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -42,17 +43,24 @@ public class ProductPricesRepoImpl implements ProductPricesRepo {
 
   @Override
   public Integer deleteByIds(ProductPricesId[] priceIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : priceIds) {
-      fragments.add(Fragment.encode(ProductPricesId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(priceIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(ProductPricesId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `product_prices` where `price_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `product_prices` where `price_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -175,19 +183,26 @@ public class ProductPricesRepoImpl implements ProductPricesRepo {
 
   @Override
   public List<ProductPricesRow> selectByIds(ProductPricesId[] priceIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : priceIds) {
-      fragments.add(Fragment.encode(ProductPricesId.mariaType, id));
+    ArrayList<ProductPricesRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(priceIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(ProductPricesId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `price_id`, `product_id`, `tier_id`, `price`, `currency_code`,"
+                          + " `valid_from`, `valid_to` from `product_prices` where `price_id` in"
+                          + " ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(ProductPricesRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `price_id`, `product_id`, `tier_id`, `price`, `currency_code`,"
-                    + " `valid_from`, `valid_to` from `product_prices` where `price_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(ProductPricesRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -233,6 +248,22 @@ public class ProductPricesRepoImpl implements ProductPricesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ProductPricesRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.productId(),
+                    f.tierId(),
+                    f.price(),
+                    f.currencyCode(),
+                    f.validFrom(),
+                    f.validTo()),
+            c);
+  }
+
   @Override
   public ProductPricesRow upsert(ProductPricesRow unsaved, Connection c) {
     return interpolate(
@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -161,6 +162,23 @@ public record ProductPricesRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<ProductPricesRow> rows, Connection c) {
+    var updated = new HashSet<ProductPricesId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.priceId())) {
+        map.put(row.priceId(), row);
+        updated.add(row.priceId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public ProductPricesRow upsert(ProductPricesRow unsaved, Connection c) {
     map.put(unsaved.priceId(), unsaved);
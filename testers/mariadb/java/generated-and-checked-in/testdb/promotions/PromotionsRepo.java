@@ -41,6 +41,8 @@ public interface PromotionsRepo {
 
   Boolean update(PromotionsRow row, Connection c);
 
+  Integer updateBatch(Iterator<PromotionsRow> rows, Connection c);
+
   PromotionsRow upsert(PromotionsRow unsaved, Connection c);
 
   List<PromotionsRow> upsertBatch(Iterator<PromotionsRow> unsaved, Connection c);
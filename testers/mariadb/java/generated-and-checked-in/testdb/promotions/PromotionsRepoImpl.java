@@ -8,6 +8,7 @@ package testdb.promotions;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -42,17 +43,24 @@ public class PromotionsRepoImpl implements PromotionsRepo {
 
   @Override
   public Integer deleteByIds(PromotionsId[] promotionIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : promotionIds) {
-      fragments.add(Fragment.encode(PromotionsId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(promotionIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PromotionsId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `promotions` where `promotion_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `promotions` where `promotion_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -272,22 +280,28 @@ public class PromotionsRepoImpl implements PromotionsRepo {
 
   @Override
   public List<PromotionsRow> selectByIds(PromotionsId[] promotionIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : promotionIds) {
-      fragments.add(Fragment.encode(PromotionsId.mariaType, id));
+    ArrayList<PromotionsRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(promotionIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PromotionsId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `promotion_id`, `code`, `name`, `description`, `discount_type`,"
+                          + " `discount_value`, `min_order_amount`, `max_uses`, `uses_count`,"
+                          + " `max_uses_per_customer`, `applicable_to`, `rules_json`, `valid_from`,"
+                          + " `valid_to`, `is_active`, `created_at` from `promotions` where"
+                          + " `promotion_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(PromotionsRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `promotion_id`, `code`, `name`, `description`, `discount_type`,"
-                    + " `discount_value`, `min_order_amount`, `max_uses`, `uses_count`,"
-                    + " `max_uses_per_customer`, `applicable_to`, `rules_json`, `valid_from`,"
-                    + " `valid_to`, `is_active`, `created_at` from `promotions` where"
-                    + " `promotion_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(PromotionsRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -363,6 +377,31 @@ public class PromotionsRepoImpl implements PromotionsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<PromotionsRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.code(),
+                    f.name(),
+                    f.description(),
+                    f.discountType(),
+                    f.discountValue(),
+                    f.minOrderAmount(),
+                    f.maxUses(),
+                    f.usesCount(),
+                    f.maxUsesPerCustomer(),
+                    f.applicableTo(),
+                    f.rulesJson(),
+                    f.validFrom(),
+                    f.validTo(),
+                    f.isActive(),
+                    f.createdAt()),
+            c);
+  }
+
   @Override
   public PromotionsRow upsert(PromotionsRow unsaved, Connection c) {
     return interpolate(
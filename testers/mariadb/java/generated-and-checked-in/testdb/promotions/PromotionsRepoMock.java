@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -167,6 +168,23 @@ public record PromotionsRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<PromotionsRow> rows, Connection c) {
+    var updated = new HashSet<PromotionsId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.promotionId())) {
+        map.put(row.promotionId(), row);
+        updated.add(row.promotionId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public PromotionsRow upsert(PromotionsRow unsaved, Connection c) {
     map.put(unsaved.promotionId(), unsaved);
@@ -39,6 +39,8 @@ public interface ReviewsRepo {
 
   Boolean update(ReviewsRow row, Connection c);
 
+  Integer updateBatch(Iterator<ReviewsRow> rows, Connection c);
+
   ReviewsRow upsert(ReviewsRow unsaved, Connection c);
 
   List<ReviewsRow> upsertBatch(Iterator<ReviewsRow> unsaved, Connection c);
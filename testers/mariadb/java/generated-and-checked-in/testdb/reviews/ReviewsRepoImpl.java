@@ -8,6 +8,7 @@ package testdb.reviews;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -45,17 +46,24 @@ public class ReviewsRepoImpl implements ReviewsRepo {
 
   @Override
   public Integer deleteByIds(ReviewsId[] reviewIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : reviewIds) {
-      fragments.add(Fragment.encode(ReviewsId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(reviewIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(ReviewsId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `reviews` where `review_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `reviews` where `review_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -322,22 +330,28 @@ public class ReviewsRepoImpl implements ReviewsRepo {
 
   @Override
   public List<ReviewsRow> selectByIds(ReviewsId[] reviewIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : reviewIds) {
-      fragments.add(Fragment.encode(ReviewsId.mariaType, id));
+    ArrayList<ReviewsRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(reviewIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(ReviewsId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `review_id`, `product_id`, `customer_id`, `order_item_id`, `rating`,"
+                          + " `title`, `content`, `pros`, `cons`, `images`, `is_verified_purchase`,"
+                          + " `is_approved`, `helpful_votes`, `unhelpful_votes`, `admin_response`,"
+                          + " `responded_at`, `created_at`, `updated_at` from `reviews` where"
+                          + " `review_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(ReviewsRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `review_id`, `product_id`, `customer_id`, `order_item_id`, `rating`,"
-                    + " `title`, `content`, `pros`, `cons`, `images`, `is_verified_purchase`,"
-                    + " `is_approved`, `helpful_votes`, `unhelpful_votes`, `admin_response`,"
-                    + " `responded_at`, `created_at`, `updated_at` from `reviews` where `review_id`"
-                    + " in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(ReviewsRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -400,6 +414,33 @@ public class ReviewsRepoImpl implements ReviewsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ReviewsRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.productId(),
+                    f.customerId(),
+                    f.orderItemId(),
+                    f.rating(),
+                    f.title(),
+                    f.content(),
+                    f.pros(),
+                    f.cons(),
+                    f.images(),
+                    f.isVerifiedPurchase(),
+                    f.isApproved(),
+                    f.helpfulVotes(),
+                    f.unhelpfulVotes(),
+                    f.adminResponse(),
+                    f.respondedAt(),
+                    f.createdAt(),
+                    f.updatedAt()),
+            c);
+  }
+
   @Override
   public ReviewsRow upsert(ReviewsRow unsaved, Connection c) {
     return interpolate(
@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -159,6 +160,23 @@ public record ReviewsRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<ReviewsRow> rows, Connection c) {
+    var updated = new HashSet<ReviewsId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.reviewId())) {
+        map.put(row.reviewId(), row);
+        updated.add(row.reviewId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public ReviewsRow upsert(ReviewsRow unsaved, Connection c) {
     map.put(unsaved.reviewId(), unsaved);
@@ -39,6 +39,8 @@ public interface ShipmentsRepo {
 
   Boolean update(ShipmentsRow row, Connection c);
 
+  Integer updateBatch(Iterator<ShipmentsRow> rows, Connection c);
+
   ShipmentsRow upsert(ShipmentsRow unsaved, Connection c);
 
   List<ShipmentsRow> upsertBatch(Iterator<ShipmentsRow> unsaved, Connection c);
@@ -8,6 +8,7 @@ package testdb.shipments;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -43,17 +44,24 @@ public class ShipmentsRepoImpl implements ShipmentsRepo {
 
   @Override
   public Integer deleteByIds(ShipmentsId[] shipmentIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : shipmentIds) {
-      fragments.add(Fragment.encode(ShipmentsId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(shipmentIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(ShipmentsId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `shipments` where `shipment_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `shipments` where `shipment_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -304,22 +312,29 @@ public class ShipmentsRepoImpl implements ShipmentsRepo {
 
   @Override
   public List<ShipmentsRow> selectByIds(ShipmentsId[] shipmentIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : shipmentIds) {
-      fragments.add(Fragment.encode(ShipmentsId.mariaType, id));
+    ArrayList<ShipmentsRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(shipmentIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(ShipmentsId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `shipment_id`, `order_id`, `carrier_id`, `tracking_number`,"
+                          + " `shipping_method`, `weight_kg`, `dimensions_json`, `label_data`,"
+                          + " `status`, `estimated_delivery_date`, `actual_delivery_at`,"
+                          + " `shipping_cost`, `insurance_amount`, `origin_warehouse_id`,"
+                          + " `shipped_at`, `created_at`, `updated_at` from `shipments` where"
+                          + " `shipment_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(ShipmentsRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `shipment_id`, `order_id`, `carrier_id`, `tracking_number`,"
-                    + " `shipping_method`, `weight_kg`, `dimensions_json`, `label_data`, `status`,"
-                    + " `estimated_delivery_date`, `actual_delivery_at`, `shipping_cost`,"
-                    + " `insurance_amount`, `origin_warehouse_id`, `shipped_at`, `created_at`,"
-                    + " `updated_at` from `shipments` where `shipment_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(ShipmentsRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -381,6 +396,32 @@ public class ShipmentsRepoImpl implements ShipmentsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ShipmentsRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.orderId(),
+                    f.carrierId(),
+                    f.trackingNumber(),
+                    f.shippingMethod(),
+                    f.weightKg(),
+                    f.dimensionsJson(),
+                    f.labelData(),
+                    f.status(),
+                    f.estimatedDeliveryDate(),
+                    f.actualDeliveryAt(),
+                    f.shippingCost(),
+                    f.insuranceAmount(),
+                    f.originWarehouseId(),
+                    f.shippedAt(),
+                    f.createdAt(),
+                    f.updatedAt()),
+            c);
+  }
+
   @Override
   public ShipmentsRow upsert(ShipmentsRow unsaved, Connection c) {
     return interpolate(
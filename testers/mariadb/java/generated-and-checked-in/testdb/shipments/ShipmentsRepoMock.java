@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -160,6 +161,23 @@ public record ShipmentsRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<ShipmentsRow> rows, Connection c) {
+    var updated = new HashSet<ShipmentsId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.shipmentId())) {
+        map.put(row.shipmentId(), row);
+        updated.add(row.shipmentId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public ShipmentsRow upsert(ShipmentsRow unsaved, Connection c) {
     map.put(unsaved.shipmentId(), unsaved);
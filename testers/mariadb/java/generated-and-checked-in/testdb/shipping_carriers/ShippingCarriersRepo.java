@@ -42,6 +42,8 @@ public interface ShippingCarriersRepo {
 
   Boolean update(ShippingCarriersRow row, Connection c);
 
+  Integer updateBatch(Iterator<ShippingCarriersRow> rows, Connection c);
+
   ShippingCarriersRow upsert(ShippingCarriersRow unsaved, Connection c);
 
   List<ShippingCarriersRow> upsertBatch(Iterator<ShippingCarriersRow> unsaved, Connection c);
@@ -8,6 +8,7 @@ package testdb.shipping_carriers;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -42,17 +43,24 @@ public class ShippingCarriersRepoImpl implements ShippingCarriersRepo {
 
   @Override
   public Integer deleteByIds(ShippingCarriersId[] carrierIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : carrierIds) {
-      fragments.add(Fragment.encode(ShippingCarriersId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(carrierIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(ShippingCarriersId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `shipping_carriers` where `carrier_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `shipping_carriers` where `carrier_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -168,19 +176,25 @@ public class ShippingCarriersRepoImpl implements ShippingCarriersRepo {
 
   @Override
   public List<ShippingCarriersRow> selectByIds(ShippingCarriersId[] carrierIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : carrierIds) {
-      fragments.add(Fragment.encode(ShippingCarriersId.mariaType, id));
+    ArrayList<ShippingCarriersRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(carrierIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(ShippingCarriersId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `carrier_id`, `code`, `name`, `tracking_url_template`, `api_config`,"
+                          + " `is_active` from `shipping_carriers` where `carrier_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(ShippingCarriersRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `carrier_id`, `code`, `name`, `tracking_url_template`, `api_config`,"
-                    + " `is_active` from `shipping_carriers` where `carrier_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(ShippingCarriersRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -238,6 +252,15 @@ public class ShippingCarriersRepoImpl implements ShippingCarriersRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ShippingCarriersRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f -> List.of(f.code(), f.name(), f.trackingUrlTemplate(), f.apiConfig(), f.isActive()),
+            c);
+  }
+
   @Override
   public ShippingCarriersRow upsert(ShippingCarriersRow unsaved, Connection c) {
     return interpolate(
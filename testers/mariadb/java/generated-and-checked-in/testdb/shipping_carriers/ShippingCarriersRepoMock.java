@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -170,6 +171,23 @@ public record ShippingCarriersRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<ShippingCarriersRow> rows, Connection c) {
+    var updated = new HashSet<ShippingCarriersId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.carrierId())) {
+        map.put(row.carrierId(), row);
+        updated.add(row.carrierId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public ShippingCarriersRow upsert(ShippingCarriersRow unsaved, Connection c) {
     map.put(unsaved.carrierId(), unsaved);
@@ -41,6 +41,8 @@ public interface WarehousesRepo {
 
   Boolean update(WarehousesRow row, Connection c);
 
+  Integer updateBatch(Iterator<WarehousesRow> rows, Connection c);
+
   WarehousesRow upsert(WarehousesRow unsaved, Connection c);
 
   List<WarehousesRow> upsertBatch(Iterator<WarehousesRow> unsaved, Connection c);
@@ -8,6 +8,7 @@ package testdb.warehouses;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.MariaTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -42,17 +43,24 @@ public class WarehousesRepoImpl implements WarehousesRepo {
 
   @Override
   public Integer deleteByIds(WarehousesId[] warehouseIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : warehouseIds) {
-      fragments.add(Fragment.encode(WarehousesId.mariaType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(warehouseIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(WarehousesId.mariaType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from `warehouses` where `warehouse_id` in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from `warehouses` where `warehouse_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -200,20 +208,26 @@ public class WarehousesRepoImpl implements WarehousesRepo {
 
   @Override
   public List<WarehousesRow> selectByIds(WarehousesId[] warehouseIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : warehouseIds) {
-      fragments.add(Fragment.encode(WarehousesId.mariaType, id));
+    ArrayList<WarehousesRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(warehouseIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(WarehousesId.mariaType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select `warehouse_id`, `code`, `name`, `address`, `location`,"
+                          + " `service_area`, `timezone`, `is_active`, `contact_email`,"
+                          + " `contact_phone` from `warehouses` where `warehouse_id` in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(WarehousesRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select `warehouse_id`, `code`, `name`, `address`, `location`, `service_area`,"
-                    + " `timezone`, `is_active`, `contact_email`, `contact_phone` from `warehouses`"
-                    + " where `warehouse_id` in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(WarehousesRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -275,6 +289,25 @@ public class WarehousesRepoImpl implements WarehousesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<WarehousesRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.code(),
+                    f.name(),
+                    f.address(),
+                    f.location(),
+                    f.serviceArea(),
+                    f.timezone(),
+                    f.isActive(),
+                    f.contactEmail(),
+                    f.contactPhone()),
+            c);
+  }
+
   @Override
   public WarehousesRow upsert(WarehousesRow unsaved, Connection c) {
     return interpolate(
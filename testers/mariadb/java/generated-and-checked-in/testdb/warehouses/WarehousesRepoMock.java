@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -167,6 +168,23 @@ public record WarehousesRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<WarehousesRow> rows, Connection c) {
+    var updated = new HashSet<WarehousesId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.warehouseId())) {
+        map.put(row.warehouseId(), row);
+        updated.add(row.warehouseId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public WarehousesRow upsert(WarehousesRow unsaved, Connection c) {
     map.put(unsaved.warehouseId(), unsaved);
@@ -2,6 +2,8 @@ package testdb;
 
 import static org.junit.Assert.*;
 
+import dev.typr.foundations.InList;
+import dev.typr.foundations.data.Uint4;
 import java.math.BigDecimal;
 import java.util.Optional;
 import org.junit.Test;
@@ -124,6 +126,39 @@ public class CompositeIdTest {
         });
   }
 
+  @Test
+  public void testSelectAndDeleteByCompositeIdsInChunks() {
+    MariaDbTestHelper.run(
+        c -> {
+          var product =
+              productsRepo.insert(
+                  new ProductsRowUnsaved("SKU010", "Product", new BigDecimal("10.00")), c);
+          var category1 = categoriesRepo.insert(new CategoriesRowUnsaved("Chunk1", "chunk1"), c);
+          var category2 = categoriesRepo.insert(new CategoriesRowUnsaved("Chunk2", "chunk2"), c);
+
+          productCategoriesRepo.insert(
+              new ProductCategoriesRowUnsaved(product.productId(), category1.categoryId()), c);
+          productCategoriesRepo.insert(
+              new ProductCategoriesRowUnsaved(product.productId(), category2.categoryId()), c);
+
+          // Spans two IN list chunks, with one of the existing ids repeated
+          var ids = new ProductCategoriesId[InList.MAX_CHUNK + 10];
+          for (int i = 0; i < ids.length; i++) {
+            ids[i] =
+                new ProductCategoriesId(
+                    product.productId(), new CategoriesId(Uint4.of(1_000_000L + i)));
+          }
+          ids[0] = new ProductCategoriesId(product.productId(), category1.categoryId());
+          ids[ids.length - 2] =
+              new ProductCategoriesId(product.productId(), category2.categoryId());
+          ids[ids.length - 1] = ids[0];
+
+          assertEquals(2, productCategoriesRepo.selectByIds(ids, c).size());
+          assertEquals(2, (int) productCategoriesRepo.deleteByIds(ids, c));
+          assertEquals(0, productCategoriesRepo.selectByIds(ids, c).size());
+        });
+  }
+
   @Test
   public void testSelectByIdsTracked() {
     MariaDbTestHelper.run(
@@ -2,18 +2,25 @@ package testdb;
 
 import static org.junit.Assert.*;
 
+import dev.typr.foundations.data.Uint8;
 import dev.typr.foundations.data.maria.Inet4;
 import dev.typr.foundations.data.maria.Inet6;
 import dev.typr.foundations.dsl.Bijection;
 import java.math.BigDecimal;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.Optional;
 import java.util.Random;
 import org.junit.Test;
+import testdb.customers.CustomersId;
+import testdb.customers.CustomersRepoImpl;
+import testdb.customers.CustomersRow;
 import testdb.mariatest.*;
 import testdb.mariatest_identity.*;
 
 /** Tests for DSL (Domain-Specific Language) operations in MariaDB. */
 public class DSLTest {
+  private final CustomersRepoImpl customersRepo = new CustomersRepoImpl();
   private final MariatestRepoImpl mariatestRepo = new MariatestRepoImpl();
   private final MariatestIdentityRepoImpl identityRepo = new MariatestIdentityRepoImpl();
   private final TestInsert testInsert = new TestInsert(new Random(42));
@@ -351,4 +358,38 @@ public class DSLTest {
           assertEquals(0, afterCount);
         });
   }
+
+  /**
+   * Test updateBatch against the database, where it writes the rows with a join on a UNION ALL
+   * derived table: more rows than one statement takes, a row given twice, and a row which does not
+   * exist.
+   */
+  @Test
+  public void testUpdateBatchRoundTrip() {
+    MariaDbTestHelper.run(
+        c -> {
+          var updated = new ArrayList<CustomersRow>();
+          for (int i = 0; i < 1005; i++) {
+            updated.add(
+                testInsert
+                    .Customers(new byte[] {1})
+                    .insert(c)
+                    .withNotes(Optional.of("Batch " + i)));
+          }
+          // the first row again, in another statement than its first occurrence
+          var rows = new ArrayList<>(updated);
+          rows.add(updated.get(0).withNotes(Optional.of("Batch again")));
+          rows.add(updated.get(1).withCustomerId(new CustomersId(Uint8.of(999_999_999L))));
+
+          assertEquals(Integer.valueOf(1005), customersRepo.updateBatch(rows.iterator(), c));
+          var ids = updated.stream().map(CustomersRow::customerId).toArray(CustomersId[]::new);
+          var byId = customersRepo.selectByIdsTracked(ids, c);
+          assertEquals(Optional.of("Batch again"), byId.get(ids[0]).notes());
+          for (int i = 1; i < ids.length; i++) {
+            assertEquals(Optional.of("Batch " + i), byId.get(ids[i]).notes());
+          }
+          assertFalse(
+              customersRepo.selectById(new CustomersId(Uint8.of(999_999_999L)), c).isPresent());
+        });
+  }
 }
@@ -62,6 +62,11 @@ interface AuditLogRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<AuditLogRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: AuditLogRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.audit_log
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -31,9 +32,13 @@ class AuditLogRepoImpl() : AuditLogRepo {
     logIds: Array<AuditLogId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in logIds) { fragments.add(Fragment.encode(AuditLogId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `audit_log` where `log_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(logIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(AuditLogId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `audit_log` where `log_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -101,9 +106,13 @@ class AuditLogRepoImpl() : AuditLogRepo {
     logIds: Array<AuditLogId>,
     c: Connection
   ): List<AuditLogRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in logIds) { fragments.add(Fragment.encode(AuditLogId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `log_id`, `table_name`, `record_id`, `action`, `old_values`, `new_values`, `changed_by`, `changed_at`, `client_ip`, `session_id` from `audit_log` where `log_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(AuditLogRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<AuditLogRow> = ArrayList()
+    for (chunk in InList.chunks(logIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(AuditLogId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `log_id`, `table_name`, `record_id`, `action`, `old_values`, `new_values`, `changed_by`, `changed_at`, `client_ip`, `session_id` from `audit_log` where `log_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(AuditLogRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -125,6 +134,11 @@ class AuditLogRepoImpl() : AuditLogRepo {
     return Fragment.interpolate(Fragment.lit("update `audit_log`\nset `table_name` = "), Fragment.encode(MariaTypes.varchar, row.tableName), Fragment.lit(",\n`record_id` = "), Fragment.encode(MariaTypes.varchar, row.recordId), Fragment.lit(",\n`action` = "), Fragment.encode(MariaTypes.text, row.action), Fragment.lit(",\n`old_values` = "), Fragment.encode(MariaTypes.json.nullable(), row.oldValues), Fragment.lit(",\n`new_values` = "), Fragment.encode(MariaTypes.json.nullable(), row.newValues), Fragment.lit(",\n`changed_by` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.changedBy), Fragment.lit(",\n`changed_at` = "), Fragment.encode(MariaTypes.datetime, row.changedAt), Fragment.lit(",\n`client_ip` = "), Fragment.encode(MariaTypes.inet6.nullable(), row.clientIp), Fragment.lit(",\n`session_id` = "), Fragment.encode(MariaTypes.varbinary.nullable(), row.sessionId), Fragment.lit("\nwhere `log_id` = "), Fragment.encode(AuditLogId.mariaType, logId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<AuditLogRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.tableName(), f.recordId(), f.action(), f.oldValues(), f.newValues(), f.changedBy(), f.changedAt(), f.clientIp(), f.sessionId()) }, c)
+
   override fun upsert(
     unsaved: AuditLogRow,
     c: Connection
@@ -67,6 +67,11 @@ interface BrandsRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<BrandsRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: BrandsRow,
     c: Connection
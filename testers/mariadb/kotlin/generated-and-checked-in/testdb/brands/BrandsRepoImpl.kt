@@ -5,6 +5,7 @@
  */
 package testdb.brands
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -32,9 +33,13 @@ class BrandsRepoImpl() : BrandsRepo {
     brandIds: Array<BrandsId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in brandIds) { fragments.add(Fragment.encode(BrandsId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `brands` where `brand_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(brandIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(BrandsId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `brands` where `brand_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -90,9 +95,13 @@ class BrandsRepoImpl() : BrandsRepo {
     brandIds: Array<BrandsId>,
     c: Connection
   ): List<BrandsRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in brandIds) { fragments.add(Fragment.encode(BrandsId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `brand_id`, `name`, `slug`, `logo_blob`, `website_url`, `country_of_origin`, `is_active` from `brands` where `brand_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(BrandsRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<BrandsRow> = ArrayList()
+    for (chunk in InList.chunks(brandIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(BrandsId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `brand_id`, `name`, `slug`, `logo_blob`, `website_url`, `country_of_origin`, `is_active` from `brands` where `brand_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(BrandsRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -119,6 +128,11 @@ class BrandsRepoImpl() : BrandsRepo {
     return Fragment.interpolate(Fragment.lit("update `brands`\nset `name` = "), Fragment.encode(MariaTypes.varchar, row.name), Fragment.lit(",\n`slug` = "), Fragment.encode(MariaTypes.varchar, row.slug), Fragment.lit(",\n`logo_blob` = "), Fragment.encode(MariaTypes.mediumblob.nullable(), row.logoBlob), Fragment.lit(",\n`website_url` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.websiteUrl), Fragment.lit(",\n`country_of_origin` = "), Fragment.encode(MariaTypes.char_.nullable(), row.countryOfOrigin), Fragment.lit(",\n`is_active` = "), Fragment.encode(IsActive.mariaType, row.isActive), Fragment.lit("\nwhere `brand_id` = "), Fragment.encode(BrandsId.mariaType, brandId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<BrandsRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name(), f.slug(), f.logoBlob(), f.websiteUrl(), f.countryOfOrigin(), f.isActive()) }, c)
+
   override fun upsert(
     unsaved: BrandsRow,
     c: Connection
@@ -67,6 +67,11 @@ interface CategoriesRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<CategoriesRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: CategoriesRow,
     c: Connection
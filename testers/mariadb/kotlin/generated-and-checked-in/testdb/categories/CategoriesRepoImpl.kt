@@ -5,6 +5,7 @@
  */
 package testdb.categories
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -32,9 +33,13 @@ class CategoriesRepoImpl() : CategoriesRepo {
     categoryIds: Array<CategoriesId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in categoryIds) { fragments.add(Fragment.encode(CategoriesId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `categories` where `category_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(categoryIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(CategoriesId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `categories` where `category_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -100,9 +105,13 @@ class CategoriesRepoImpl() : CategoriesRepo {
     categoryIds: Array<CategoriesId>,
     c: Connection
   ): List<CategoriesRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in categoryIds) { fragments.add(Fragment.encode(CategoriesId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `category_id`, `parent_id`, `name`, `slug`, `description`, `image_url`, `sort_order`, `is_visible`, `metadata` from `categories` where `category_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(CategoriesRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<CategoriesRow> = ArrayList()
+    for (chunk in InList.chunks(categoryIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(CategoriesId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `category_id`, `parent_id`, `name`, `slug`, `description`, `image_url`, `sort_order`, `is_visible`, `metadata` from `categories` where `category_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(CategoriesRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -129,6 +138,11 @@ class CategoriesRepoImpl() : CategoriesRepo {
     return Fragment.interpolate(Fragment.lit("update `categories`\nset `parent_id` = "), Fragment.encode(CategoriesId.mariaType.nullable(), row.parentId), Fragment.lit(",\n`name` = "), Fragment.encode(MariaTypes.varchar, row.name), Fragment.lit(",\n`slug` = "), Fragment.encode(MariaTypes.varchar, row.slug), Fragment.lit(",\n`description` = "), Fragment.encode(MariaTypes.mediumtext.nullable(), row.description), Fragment.lit(",\n`image_url` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.imageUrl), Fragment.lit(",\n`sort_order` = "), Fragment.encode(KotlinDbTypes.MariaTypes.smallint, row.sortOrder), Fragment.lit(",\n`is_visible` = "), Fragment.encode(KotlinDbTypes.MariaTypes.bool, row.isVisible), Fragment.lit(",\n`metadata` = "), Fragment.encode(MariaTypes.json.nullable(), row.metadata), Fragment.lit("\nwhere `category_id` = "), Fragment.encode(CategoriesId.mariaType, categoryId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<CategoriesRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.parentId(), f.name(), f.slug(), f.description(), f.imageUrl(), f.sortOrder(), f.isVisible(), f.metadata()) }, c)
+
   override fun upsert(
     unsaved: CategoriesRow,
     c: Connection
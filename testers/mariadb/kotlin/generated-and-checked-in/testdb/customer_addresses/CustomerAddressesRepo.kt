@@ -62,6 +62,11 @@ interface CustomerAddressesRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<CustomerAddressesRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: CustomerAddressesRow,
     c: Connection
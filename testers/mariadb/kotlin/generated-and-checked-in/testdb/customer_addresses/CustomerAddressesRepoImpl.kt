@@ -5,6 +5,7 @@
  */
 package testdb.customer_addresses
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -33,9 +34,13 @@ class CustomerAddressesRepoImpl() : CustomerAddressesRepo {
     addressIds: Array<CustomerAddressesId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in addressIds) { fragments.add(Fragment.encode(CustomerAddressesId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `customer_addresses` where `address_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(addressIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(CustomerAddressesId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `customer_addresses` where `address_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -111,9 +116,13 @@ class CustomerAddressesRepoImpl() : CustomerAddressesRepo {
     addressIds: Array<CustomerAddressesId>,
     c: Connection
   ): List<CustomerAddressesRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in addressIds) { fragments.add(Fragment.encode(CustomerAddressesId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `address_id`, `customer_id`, `address_type`, `is_default`, `recipient_name`, `street_line1`, `street_line2`, `city`, `state_province`, `postal_code`, `country_code`, `location`, `delivery_notes`, `created_at` from `customer_addresses` where `address_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(CustomerAddressesRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<CustomerAddressesRow> = ArrayList()
+    for (chunk in InList.chunks(addressIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(CustomerAddressesId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `address_id`, `customer_id`, `address_type`, `is_default`, `recipient_name`, `street_line1`, `street_line2`, `city`, `state_province`, `postal_code`, `country_code`, `location`, `delivery_notes`, `created_at` from `customer_addresses` where `address_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(CustomerAddressesRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -135,6 +144,11 @@ class CustomerAddressesRepoImpl() : CustomerAddressesRepo {
     return Fragment.interpolate(Fragment.lit("update `customer_addresses`\nset `customer_id` = "), Fragment.encode(CustomersId.mariaType, row.customerId), Fragment.lit(",\n`address_type` = "), Fragment.encode(MariaTypes.text, row.addressType), Fragment.lit(",\n`is_default` = "), Fragment.encode(IsDefault.mariaType, row.isDefault), Fragment.lit(",\n`recipient_name` = "), Fragment.encode(MariaTypes.varchar, row.recipientName), Fragment.lit(",\n`street_line1` = "), Fragment.encode(MariaTypes.varchar, row.streetLine1), Fragment.lit(",\n`street_line2` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.streetLine2), Fragment.lit(",\n`city` = "), Fragment.encode(MariaTypes.varchar, row.city), Fragment.lit(",\n`state_province` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.stateProvince), Fragment.lit(",\n`postal_code` = "), Fragment.encode(MariaTypes.varchar, row.postalCode), Fragment.lit(",\n`country_code` = "), Fragment.encode(MariaTypes.char_, row.countryCode), Fragment.lit(",\n`location` = "), Fragment.encode(MariaTypes.point.nullable(), row.location), Fragment.lit(",\n`delivery_notes` = "), Fragment.encode(MariaTypes.tinytext.nullable(), row.deliveryNotes), Fragment.lit(",\n`created_at` = "), Fragment.encode(MariaTypes.datetime, row.createdAt), Fragment.lit("\nwhere `address_id` = "), Fragment.encode(CustomerAddressesId.mariaType, addressId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<CustomerAddressesRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.customerId(), f.addressType(), f.isDefault(), f.recipientName(), f.streetLine1(), f.streetLine2(), f.city(), f.stateProvince(), f.postalCode(), f.countryCode(), f.location(), f.deliveryNotes(), f.createdAt()) }, c)
+
   override fun upsert(
     unsaved: CustomerAddressesRow,
     c: Connection
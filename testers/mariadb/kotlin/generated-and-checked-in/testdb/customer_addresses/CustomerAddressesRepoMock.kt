@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -103,6 +104,21 @@ data class CustomerAddressesRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<CustomerAddressesRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<CustomerAddressesId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.addressId)) {
+        map[row.addressId] = row
+        updated.add(row.addressId)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: CustomerAddressesRow,
     c: Connection
@@ -62,6 +62,11 @@ interface CustomerStatusRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<CustomerStatusRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: CustomerStatusRow,
     c: Connection
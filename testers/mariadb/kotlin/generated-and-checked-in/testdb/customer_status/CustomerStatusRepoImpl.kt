@@ -5,6 +5,7 @@
  */
 package testdb.customer_status
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -31,9 +32,13 @@ class CustomerStatusRepoImpl() : CustomerStatusRepo {
     statusCodes: Array<CustomerStatusId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in statusCodes) { fragments.add(Fragment.encode(CustomerStatusId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `customer_status` where `status_code` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(statusCodes)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(CustomerStatusId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `customer_status` where `status_code` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -74,9 +79,13 @@ class CustomerStatusRepoImpl() : CustomerStatusRepo {
     statusCodes: Array<CustomerStatusId>,
     c: Connection
   ): List<CustomerStatusRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in statusCodes) { fragments.add(Fragment.encode(CustomerStatusId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `status_code`, `description`, `is_active` from `customer_status` where `status_code` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(CustomerStatusRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<CustomerStatusRow> = ArrayList()
+    for (chunk in InList.chunks(statusCodes)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(CustomerStatusId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `status_code`, `description`, `is_active` from `customer_status` where `status_code` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(CustomerStatusRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -98,6 +107,11 @@ class CustomerStatusRepoImpl() : CustomerStatusRepo {
     return Fragment.interpolate(Fragment.lit("update `customer_status`\nset `description` = "), Fragment.encode(MariaTypes.varchar, row.description), Fragment.lit(",\n`is_active` = "), Fragment.encode(IsActive.mariaType, row.isActive), Fragment.lit("\nwhere `status_code` = "), Fragment.encode(CustomerStatusId.mariaType, statusCode), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<CustomerStatusRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.description(), f.isActive()) }, c)
+
   override fun upsert(
     unsaved: CustomerStatusRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.customers
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -36,9 +37,13 @@ class CustomersRepoImpl() : CustomersRepo {
     customerIds: Array<CustomersId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in customerIds) { fragments.add(Fragment.encode(CustomersId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `customers` where `customer_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(customerIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(CustomersId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `customers` where `customer_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -123,9 +128,13 @@ class CustomersRepoImpl() : CustomersRepo {
     customerIds: Array<CustomersId>,
     c: Connection
   ): List<CustomersRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in customerIds) { fragments.add(Fragment.encode(CustomersId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `customer_id`, `email`, `password_hash`, `first_name`, `last_name`, `phone`, `status`, `tier`, `preferences`, `marketing_flags`, `notes`, `created_at`, `updated_at`, `last_login_at` from `customers` where `customer_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(CustomersRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<CustomersRow> = ArrayList()
+    for (chunk in InList.chunks(customerIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(CustomersId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `customer_id`, `email`, `password_hash`, `first_name`, `last_name`, `phone`, `status`, `tier`, `preferences`, `marketing_flags`, `notes`, `created_at`, `updated_at`, `last_login_at` from `customers` where `customer_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(CustomersRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -152,6 +161,11 @@ class CustomersRepoImpl() : CustomersRepo {
     return Fragment.interpolate(Fragment.lit("update `customers`\nset `email` = "), Fragment.encode(Email.mariaType, row.email), Fragment.lit(",\n`password_hash` = "), Fragment.encode(MariaTypes.binary, row.passwordHash), Fragment.lit(",\n`first_name` = "), Fragment.encode(FirstName.mariaType, row.firstName), Fragment.lit(",\n`last_name` = "), Fragment.encode(LastName.mariaType, row.lastName), Fragment.lit(",\n`phone` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.phone), Fragment.lit(",\n`status` = "), Fragment.encode(CustomerStatusId.mariaType, row.status), Fragment.lit(",\n`tier` = "), Fragment.encode(MariaTypes.text, row.tier), Fragment.lit(",\n`preferences` = "), Fragment.encode(MariaTypes.json.nullable(), row.preferences), Fragment.lit(",\n`marketing_flags` = "), Fragment.encode(EmailMailPushSmsSet.mariaType.nullable(), row.marketingFlags), Fragment.lit(",\n`notes` = "), Fragment.encode(MariaTypes.text.nullable(), row.notes), Fragment.lit(",\n`created_at` = "), Fragment.encode(MariaTypes.datetime, row.createdAt), Fragment.lit(",\n`updated_at` = "), Fragment.encode(MariaTypes.datetime, row.updatedAt), Fragment.lit(",\n`last_login_at` = "), Fragment.encode(MariaTypes.datetime.nullable(), row.lastLoginAt), Fragment.lit("\nwhere `customer_id` = "), Fragment.encode(CustomersId.mariaType, customerId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<CustomersRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.email(), f.passwordHash(), f.firstName(), f.lastName(), f.phone(), f.status(), f.tier(), f.preferences(), f.marketingFlags(), f.notes(), f.createdAt(), f.updatedAt(), f.lastLoginAt()) }, c)
+
   override fun upsert(
     unsaved: CustomersRow,
     c: Connection
@@ -70,6 +70,11 @@ interface InventoryRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<InventoryRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: InventoryRow,
     c: Connection
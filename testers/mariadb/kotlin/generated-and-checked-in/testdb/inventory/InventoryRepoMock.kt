@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -111,6 +112,21 @@ data class InventoryRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<InventoryRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<InventoryId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.inventoryId)) {
+        map[row.inventoryId] = row
+        updated.add(row.inventoryId)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: InventoryRow,
     c: Connection
@@ -62,6 +62,11 @@ interface MariatestRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<MariatestRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: MariatestRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.mariatest
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -32,9 +33,13 @@ class MariatestRepoImpl() : MariatestRepo {
     intCols: Array<MariatestId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in intCols) { fragments.add(Fragment.encode(MariatestId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `mariatest` where `int_col` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(intCols)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(MariatestId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `mariatest` where `int_col` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -154,9 +159,13 @@ class MariatestRepoImpl() : MariatestRepo {
     intCols: Array<MariatestId>,
     c: Connection
   ): List<MariatestRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in intCols) { fragments.add(Fragment.encode(MariatestId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `tinyint_col`, `smallint_col`, `mediumint_col`, `int_col`, `bigint_col`, `tinyint_u_col`, `smallint_u_col`, `mediumint_u_col`, `int_u_col`, `bigint_u_col`, `decimal_col`, `numeric_col`, `float_col`, `double_col`, `bool_col`, `bit_col`, `bit1_col`, `char_col`, `varchar_col`, `tinytext_col`, `text_col`, `mediumtext_col`, `longtext_col`, `binary_col`, `varbinary_col`, `tinyblob_col`, `blob_col`, `mediumblob_col`, `longblob_col`, `date_col`, `time_col`, `time_fsp_col`, `datetime_col`, `datetime_fsp_col`, `timestamp_col`, `timestamp_fsp_col`, `year_col`, `set_col`, `json_col`, `inet4_col`, `inet6_col` from `mariatest` where `int_col` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(MariatestRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<MariatestRow> = ArrayList()
+    for (chunk in InList.chunks(intCols)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(MariatestId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `tinyint_col`, `smallint_col`, `mediumint_col`, `int_col`, `bigint_col`, `tinyint_u_col`, `smallint_u_col`, `mediumint_u_col`, `int_u_col`, `bigint_u_col`, `decimal_col`, `numeric_col`, `float_col`, `double_col`, `bool_col`, `bit_col`, `bit1_col`, `char_col`, `varchar_col`, `tinytext_col`, `text_col`, `mediumtext_col`, `longtext_col`, `binary_col`, `varbinary_col`, `tinyblob_col`, `blob_col`, `mediumblob_col`, `longblob_col`, `date_col`, `time_col`, `time_fsp_col`, `datetime_col`, `datetime_fsp_col`, `timestamp_col`, `timestamp_fsp_col`, `year_col`, `set_col`, `json_col`, `inet4_col`, `inet6_col` from `mariatest` where `int_col` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(MariatestRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -178,6 +187,11 @@ class MariatestRepoImpl() : MariatestRepo {
     return Fragment.interpolate(Fragment.lit("update `mariatest`\nset `tinyint_col` = "), Fragment.encode(KotlinDbTypes.MariaTypes.tinyint, row.tinyintCol), Fragment.lit(",\n`smallint_col` = "), Fragment.encode(KotlinDbTypes.MariaTypes.smallint, row.smallintCol), Fragment.lit(",\n`mediumint_col` = "), Fragment.encode(KotlinDbTypes.MariaTypes.mediumint, row.mediumintCol), Fragment.lit(",\n`bigint_col` = "), Fragment.encode(KotlinDbTypes.MariaTypes.bigint, row.bigintCol), Fragment.lit(",\n`tinyint_u_col` = "), Fragment.encode(MariaTypes.tinyintUnsigned, row.tinyintUCol), Fragment.lit(",\n`smallint_u_col` = "), Fragment.encode(MariaTypes.smallintUnsigned, row.smallintUCol), Fragment.lit(",\n`mediumint_u_col` = "), Fragment.encode(MariaTypes.mediumintUnsigned, row.mediumintUCol), Fragment.lit(",\n`int_u_col` = "), Fragment.encode(MariaTypes.intUnsigned, row.intUCol), Fragment.lit(",\n`bigint_u_col` = "), Fragment.encode(MariaTypes.bigintUnsigned, row.bigintUCol), Fragment.lit(",\n`decimal_col` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric, row.decimalCol), Fragment.lit(",\n`numeric_col` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric, row.numericCol), Fragment.lit(",\n`float_col` = "), Fragment.encode(KotlinDbTypes.MariaTypes.float_, row.floatCol), Fragment.lit(",\n`double_col` = "), Fragment.encode(KotlinDbTypes.MariaTypes.double_, row.doubleCol), Fragment.lit(",\n`bool_col` = "), Fragment.encode(KotlinDbTypes.MariaTypes.bool, row.boolCol), Fragment.lit(",\n`bit_col` = "), Fragment.encode(MariaTypes.bit, row.bitCol), Fragment.lit(",\n`bit1_col` = "), Fragment.encode(MariaTypes.bit, row.bit1Col), Fragment.lit(",\n`char_col` = "), Fragment.encode(MariaTypes.char_, row.charCol), Fragment.lit(",\n`varchar_col` = "), Fragment.encode(MariaTypes.varchar, row.varcharCol), Fragment.lit(",\n`tinytext_col` = "), Fragment.encode(MariaTypes.tinytext, row.tinytextCol), Fragment.lit(",\n`text_col` = "), Fragment.encode(MariaTypes.text, row.textCol), Fragment.lit(",\n`mediumtext_col` = "), Fragment.encode(MariaTypes.mediumtext, row.mediumtextCol), Fragment.lit(",\n`longtext_col` = "), Fragment.encode(MariaTypes.longtext, row.longtextCol), Fragment.lit(",\n`binary_col` = "), Fragment.encode(MariaTypes.binary, row.binaryCol), Fragment.lit(",\n`varbinary_col` = "), Fragment.encode(MariaTypes.varbinary, row.varbinaryCol), Fragment.lit(",\n`tinyblob_col` = "), Fragment.encode(MariaTypes.tinyblob, row.tinyblobCol), Fragment.lit(",\n`blob_col` = "), Fragment.encode(MariaTypes.blob, row.blobCol), Fragment.lit(",\n`mediumblob_col` = "), Fragment.encode(MariaTypes.mediumblob, row.mediumblobCol), Fragment.lit(",\n`longblob_col` = "), Fragment.encode(MariaTypes.longblob, row.longblobCol), Fragment.lit(",\n`date_col` = "), Fragment.encode(MariaTypes.date, row.dateCol), Fragment.lit(",\n`time_col` = "), Fragment.encode(MariaTypes.time, row.timeCol), Fragment.lit(",\n`time_fsp_col` = "), Fragment.encode(MariaTypes.time, row.timeFspCol), Fragment.lit(",\n`datetime_col` = "), Fragment.encode(MariaTypes.datetime, row.datetimeCol), Fragment.lit(",\n`datetime_fsp_col` = "), Fragment.encode(MariaTypes.datetime, row.datetimeFspCol), Fragment.lit(",\n`timestamp_col` = "), Fragment.encode(MariaTypes.timestamp, row.timestampCol), Fragment.lit(",\n`timestamp_fsp_col` = "), Fragment.encode(MariaTypes.timestamp, row.timestampFspCol), Fragment.lit(",\n`year_col` = "), Fragment.encode(MariaTypes.year, row.yearCol), Fragment.lit(",\n`set_col` = "), Fragment.encode(XYZSet.mariaType, row.setCol), Fragment.lit(",\n`json_col` = "), Fragment.encode(MariaTypes.json, row.jsonCol), Fragment.lit(",\n`inet4_col` = "), Fragment.encode(MariaTypes.inet4, row.inet4Col), Fragment.lit(",\n`inet6_col` = "), Fragment.encode(MariaTypes.inet6, row.inet6Col), Fragment.lit("\nwhere `int_col` = "), Fragment.encode(MariatestId.mariaType, intCol), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<MariatestRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.tinyintCol(), f.smallintCol(), f.mediumintCol(), f.bigintCol(), f.tinyintUCol(), f.smallintUCol(), f.mediumintUCol(), f.intUCol(), f.bigintUCol(), f.decimalCol(), f.numericCol(), f.floatCol(), f.doubleCol(), f.boolCol(), f.bitCol(), f.bit1Col(), f.charCol(), f.varcharCol(), f.tinytextCol(), f.textCol(), f.mediumtextCol(), f.longtextCol(), f.binaryCol(), f.varbinaryCol(), f.tinyblobCol(), f.blobCol(), f.mediumblobCol(), f.longblobCol(), f.dateCol(), f.timeCol(), f.timeFspCol(), f.datetimeCol(), f.datetimeFspCol(), f.timestampCol(), f.timestampFspCol(), f.yearCol(), f.setCol(), f.jsonCol(), f.inet4Col(), f.inet6Col()) }, c)
+
   override fun upsert(
     unsaved: MariatestRow,
     c: Connection
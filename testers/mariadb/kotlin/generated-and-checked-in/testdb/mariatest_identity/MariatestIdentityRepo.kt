@@ -62,6 +62,11 @@ interface MariatestIdentityRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<MariatestIdentityRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: MariatestIdentityRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.mariatest_identity
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -30,9 +31,13 @@ class MariatestIdentityRepoImpl() : MariatestIdentityRepo {
     ids: Array<MariatestIdentityId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(MariatestIdentityId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `mariatest_identity` where `id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(MariatestIdentityId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `mariatest_identity` where `id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -66,9 +71,13 @@ class MariatestIdentityRepoImpl() : MariatestIdentityRepo {
     ids: Array<MariatestIdentityId>,
     c: Connection
   ): List<MariatestIdentityRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(MariatestIdentityId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `id`, `name` from `mariatest_identity` where `id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(MariatestIdentityRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<MariatestIdentityRow> = ArrayList()
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(MariatestIdentityId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `id`, `name` from `mariatest_identity` where `id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(MariatestIdentityRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -90,6 +99,11 @@ class MariatestIdentityRepoImpl() : MariatestIdentityRepo {
     return Fragment.interpolate(Fragment.lit("update `mariatest_identity`\nset `name` = "), Fragment.encode(MariaTypes.varchar, row.name), Fragment.lit("\nwhere `id` = "), Fragment.encode(MariatestIdentityId.mariaType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<MariatestIdentityRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name()) }, c)
+
   override fun upsert(
     unsaved: MariatestIdentityRow,
     c: Connection
@@ -62,6 +62,11 @@ interface MariatestSpatialRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<MariatestSpatialRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: MariatestSpatialRow,
     c: Connection
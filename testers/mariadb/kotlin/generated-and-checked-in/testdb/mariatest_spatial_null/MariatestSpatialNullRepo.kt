@@ -62,6 +62,11 @@ interface MariatestSpatialNullRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<MariatestSpatialNullRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: MariatestSpatialNullRow,
     c: Connection
@@ -74,6 +74,11 @@ interface MariatestUniqueRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<MariatestUniqueRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: MariatestUniqueRow,
     c: Connection
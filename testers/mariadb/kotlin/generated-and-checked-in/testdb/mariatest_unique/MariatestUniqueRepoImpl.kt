@@ -5,6 +5,7 @@
  */
 package testdb.mariatest_unique
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -31,9 +32,13 @@ class MariatestUniqueRepoImpl() : MariatestUniqueRepo {
     ids: Array<MariatestUniqueId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(MariatestUniqueId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `mariatest_unique` where `id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(MariatestUniqueId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `mariatest_unique` where `id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -71,9 +76,13 @@ class MariatestUniqueRepoImpl() : MariatestUniqueRepo {
     ids: Array<MariatestUniqueId>,
     c: Connection
   ): List<MariatestUniqueRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(MariatestUniqueId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `id`, `email`, `code`, `category` from `mariatest_unique` where `id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(MariatestUniqueRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<MariatestUniqueRow> = ArrayList()
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(MariatestUniqueId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `id`, `email`, `code`, `category` from `mariatest_unique` where `id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(MariatestUniqueRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -106,6 +115,11 @@ class MariatestUniqueRepoImpl() : MariatestUniqueRepo {
     return Fragment.interpolate(Fragment.lit("update `mariatest_unique`\nset `email` = "), Fragment.encode(Email.mariaType, row.email), Fragment.lit(",\n`code` = "), Fragment.encode(MariaTypes.varchar, row.code), Fragment.lit(",\n`category` = "), Fragment.encode(MariaTypes.varchar, row.category), Fragment.lit("\nwhere `id` = "), Fragment.encode(MariatestUniqueId.mariaType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<MariatestUniqueRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.email(), f.code(), f.category()) }, c)
+
   override fun upsert(
     unsaved: MariatestUniqueRow,
     c: Connection
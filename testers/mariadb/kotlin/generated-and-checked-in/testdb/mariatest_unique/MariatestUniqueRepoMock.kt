@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -115,6 +116,21 @@ data class MariatestUniqueRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<MariatestUniqueRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<MariatestUniqueId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.id)) {
+        map[row.id] = row
+        updated.add(row.id)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: MariatestUniqueRow,
     c: Connection
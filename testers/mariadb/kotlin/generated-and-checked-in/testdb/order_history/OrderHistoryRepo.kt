@@ -62,6 +62,11 @@ interface OrderHistoryRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<OrderHistoryRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: OrderHistoryRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.order_history
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -32,9 +33,13 @@ class OrderHistoryRepoImpl() : OrderHistoryRepo {
     historyIds: Array<OrderHistoryId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in historyIds) { fragments.add(Fragment.encode(OrderHistoryId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `order_history` where `history_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(historyIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(OrderHistoryId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `order_history` where `history_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -95,9 +100,13 @@ class OrderHistoryRepoImpl() : OrderHistoryRepo {
     historyIds: Array<OrderHistoryId>,
     c: Connection
   ): List<OrderHistoryRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in historyIds) { fragments.add(Fragment.encode(OrderHistoryId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `history_id`, `order_id`, `previous_status`, `new_status`, `changed_by`, `change_reason`, `metadata`, `created_at` from `order_history` where `history_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(OrderHistoryRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<OrderHistoryRow> = ArrayList()
+    for (chunk in InList.chunks(historyIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(OrderHistoryId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `history_id`, `order_id`, `previous_status`, `new_status`, `changed_by`, `change_reason`, `metadata`, `created_at` from `order_history` where `history_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(OrderHistoryRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -119,6 +128,11 @@ class OrderHistoryRepoImpl() : OrderHistoryRepo {
     return Fragment.interpolate(Fragment.lit("update `order_history`\nset `order_id` = "), Fragment.encode(OrdersId.mariaType, row.orderId), Fragment.lit(",\n`previous_status` = "), Fragment.encode(MariaTypes.text.nullable(), row.previousStatus), Fragment.lit(",\n`new_status` = "), Fragment.encode(MariaTypes.text, row.newStatus), Fragment.lit(",\n`changed_by` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.changedBy), Fragment.lit(",\n`change_reason` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.changeReason), Fragment.lit(",\n`metadata` = "), Fragment.encode(MariaTypes.json.nullable(), row.metadata), Fragment.lit(",\n`created_at` = "), Fragment.encode(MariaTypes.datetime, row.createdAt), Fragment.lit("\nwhere `history_id` = "), Fragment.encode(OrderHistoryId.mariaType, historyId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<OrderHistoryRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.orderId(), f.previousStatus(), f.newStatus(), f.changedBy(), f.changeReason(), f.metadata(), f.createdAt()) }, c)
+
   override fun upsert(
     unsaved: OrderHistoryRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.order_items
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -35,9 +36,13 @@ class OrderItemsRepoImpl() : OrderItemsRepo {
     itemIds: Array<OrderItemsId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in itemIds) { fragments.add(Fragment.encode(OrderItemsId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `order_items` where `item_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(itemIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(OrderItemsId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `order_items` where `item_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -108,9 +113,13 @@ class OrderItemsRepoImpl() : OrderItemsRepo {
     itemIds: Array<OrderItemsId>,
     c: Connection
   ): List<OrderItemsRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in itemIds) { fragments.add(Fragment.encode(OrderItemsId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `item_id`, `order_id`, `product_id`, `sku`, `product_name`, `quantity`, `unit_price`, `discount_amount`, `tax_amount`, `line_total`, `fulfillment_status`, `warehouse_id`, `notes` from `order_items` where `item_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(OrderItemsRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<OrderItemsRow> = ArrayList()
+    for (chunk in InList.chunks(itemIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(OrderItemsId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `item_id`, `order_id`, `product_id`, `sku`, `product_name`, `quantity`, `unit_price`, `discount_amount`, `tax_amount`, `line_total`, `fulfillment_status`, `warehouse_id`, `notes` from `order_items` where `item_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(OrderItemsRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -132,6 +141,11 @@ class OrderItemsRepoImpl() : OrderItemsRepo {
     return Fragment.interpolate(Fragment.lit("update `order_items`\nset `order_id` = "), Fragment.encode(OrdersId.mariaType, row.orderId), Fragment.lit(",\n`product_id` = "), Fragment.encode(ProductsId.mariaType, row.productId), Fragment.lit(",\n`sku` = "), Fragment.encode(MariaTypes.varchar, row.sku), Fragment.lit(",\n`product_name` = "), Fragment.encode(MariaTypes.varchar, row.productName), Fragment.lit(",\n`quantity` = "), Fragment.encode(MariaTypes.smallintUnsigned, row.quantity), Fragment.lit(",\n`unit_price` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric, row.unitPrice), Fragment.lit(",\n`discount_amount` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric, row.discountAmount), Fragment.lit(",\n`tax_amount` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric, row.taxAmount), Fragment.lit(",\n`line_total` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric, row.lineTotal), Fragment.lit(",\n`fulfillment_status` = "), Fragment.encode(MariaTypes.text, row.fulfillmentStatus), Fragment.lit(",\n`warehouse_id` = "), Fragment.encode(WarehousesId.mariaType.nullable(), row.warehouseId), Fragment.lit(",\n`notes` = "), Fragment.encode(MariaTypes.tinytext.nullable(), row.notes), Fragment.lit("\nwhere `item_id` = "), Fragment.encode(OrderItemsId.mariaType, itemId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<OrderItemsRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.orderId(), f.productId(), f.sku(), f.productName(), f.quantity(), f.unitPrice(), f.discountAmount(), f.taxAmount(), f.lineTotal(), f.fulfillmentStatus(), f.warehouseId(), f.notes()) }, c)
+
   override fun upsert(
     unsaved: OrderItemsRow,
     c: Connection
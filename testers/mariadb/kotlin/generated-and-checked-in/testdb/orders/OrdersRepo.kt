@@ -67,6 +67,11 @@ interface OrdersRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<OrdersRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: OrdersRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.orders
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -35,9 +36,13 @@ class OrdersRepoImpl() : OrdersRepo {
     orderIds: Array<OrdersId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in orderIds) { fragments.add(Fragment.encode(OrdersId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `orders` where `order_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(orderIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(OrdersId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `orders` where `order_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -162,9 +167,13 @@ class OrdersRepoImpl() : OrdersRepo {
     orderIds: Array<OrdersId>,
     c: Connection
   ): List<OrdersRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in orderIds) { fragments.add(Fragment.encode(OrdersId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `order_id`, `order_number`, `customer_id`, `order_status`, `payment_status`, `shipping_address_id`, `billing_address_id`, `subtotal`, `shipping_cost`, `tax_amount`, `discount_amount`, `total_amount`, `currency_code`, `promotion_id`, `notes`, `internal_notes`, `ip_address`, `user_agent`, `ordered_at`, `confirmed_at`, `shipped_at`, `delivered_at` from `orders` where `order_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(OrdersRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<OrdersRow> = ArrayList()
+    for (chunk in InList.chunks(orderIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(OrdersId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `order_id`, `order_number`, `customer_id`, `order_status`, `payment_status`, `shipping_address_id`, `billing_address_id`, `subtotal`, `shipping_cost`, `tax_amount`, `discount_amount`, `total_amount`, `currency_code`, `promotion_id`, `notes`, `internal_notes`, `ip_address`, `user_agent`, `ordered_at`, `confirmed_at`, `shipped_at`, `delivered_at` from `orders` where `order_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(OrdersRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -191,6 +200,11 @@ class OrdersRepoImpl() : OrdersRepo {
     return Fragment.interpolate(Fragment.lit("update `orders`\nset `order_number` = "), Fragment.encode(MariaTypes.varchar, row.orderNumber), Fragment.lit(",\n`customer_id` = "), Fragment.encode(CustomersId.mariaType, row.customerId), Fragment.lit(",\n`order_status` = "), Fragment.encode(MariaTypes.text, row.orderStatus), Fragment.lit(",\n`payment_status` = "), Fragment.encode(MariaTypes.text, row.paymentStatus), Fragment.lit(",\n`shipping_address_id` = "), Fragment.encode(CustomerAddressesId.mariaType.nullable(), row.shippingAddressId), Fragment.lit(",\n`billing_address_id` = "), Fragment.encode(CustomerAddressesId.mariaType.nullable(), row.billingAddressId), Fragment.lit(",\n`subtotal` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric, row.subtotal), Fragment.lit(",\n`shipping_cost` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric, row.shippingCost), Fragment.lit(",\n`tax_amount` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric, row.taxAmount), Fragment.lit(",\n`discount_amount` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric, row.discountAmount), Fragment.lit(",\n`total_amount` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric, row.totalAmount), Fragment.lit(",\n`currency_code` = "), Fragment.encode(MariaTypes.char_, row.currencyCode), Fragment.lit(",\n`promotion_id` = "), Fragment.encode(PromotionsId.mariaType.nullable(), row.promotionId), Fragment.lit(",\n`notes` = "), Fragment.encode(MariaTypes.text.nullable(), row.notes), Fragment.lit(",\n`internal_notes` = "), Fragment.encode(MariaTypes.mediumtext.nullable(), row.internalNotes), Fragment.lit(",\n`ip_address` = "), Fragment.encode(MariaTypes.inet6.nullable(), row.ipAddress), Fragment.lit(",\n`user_agent` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.userAgent), Fragment.lit(",\n`ordered_at` = "), Fragment.encode(MariaTypes.datetime, row.orderedAt), Fragment.lit(",\n`confirmed_at` = "), Fragment.encode(MariaTypes.datetime.nullable(), row.confirmedAt), Fragment.lit(",\n`shipped_at` = "), Fragment.encode(MariaTypes.datetime.nullable(), row.shippedAt), Fragment.lit(",\n`delivered_at` = "), Fragment.encode(MariaTypes.datetime.nullable(), row.deliveredAt), Fragment.lit("\nwhere `order_id` = "), Fragment.encode(OrdersId.mariaType, orderId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<OrdersRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.orderNumber(), f.customerId(), f.orderStatus(), f.paymentStatus(), f.shippingAddressId(), f.billingAddressId(), f.subtotal(), f.shippingCost(), f.taxAmount(), f.discountAmount(), f.totalAmount(), f.currencyCode(), f.promotionId(), f.notes(), f.internalNotes(), f.ipAddress(), f.userAgent(), f.orderedAt(), f.confirmedAt(), f.shippedAt(), f.deliveredAt()) }, c)
+
   override fun upsert(
     unsaved: OrdersRow,
     c: Connection
@@ -67,6 +67,11 @@ interface PaymentMethodsRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<PaymentMethodsRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: PaymentMethodsRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.payment_methods
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -33,9 +34,13 @@ class PaymentMethodsRepoImpl() : PaymentMethodsRepo {
     methodIds: Array<PaymentMethodsId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in methodIds) { fragments.add(Fragment.encode(PaymentMethodsId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `payment_methods` where `method_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(methodIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(PaymentMethodsId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `payment_methods` where `method_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -88,9 +93,13 @@ class PaymentMethodsRepoImpl() : PaymentMethodsRepo {
     methodIds: Array<PaymentMethodsId>,
     c: Connection
   ): List<PaymentMethodsRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in methodIds) { fragments.add(Fragment.encode(PaymentMethodsId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `method_id`, `code`, `name`, `method_type`, `processor_config`, `is_active`, `sort_order` from `payment_methods` where `method_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(PaymentMethodsRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<PaymentMethodsRow> = ArrayList()
+    for (chunk in InList.chunks(methodIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(PaymentMethodsId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `method_id`, `code`, `name`, `method_type`, `processor_config`, `is_active`, `sort_order` from `payment_methods` where `method_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(PaymentMethodsRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -117,6 +126,11 @@ class PaymentMethodsRepoImpl() : PaymentMethodsRepo {
     return Fragment.interpolate(Fragment.lit("update `payment_methods`\nset `code` = "), Fragment.encode(MariaTypes.varchar, row.code), Fragment.lit(",\n`name` = "), Fragment.encode(MariaTypes.varchar, row.name), Fragment.lit(",\n`method_type` = "), Fragment.encode(MariaTypes.text, row.methodType), Fragment.lit(",\n`processor_config` = "), Fragment.encode(MariaTypes.json.nullable(), row.processorConfig), Fragment.lit(",\n`is_active` = "), Fragment.encode(IsActive.mariaType, row.isActive), Fragment.lit(",\n`sort_order` = "), Fragment.encode(KotlinDbTypes.MariaTypes.tinyint, row.sortOrder), Fragment.lit("\nwhere `method_id` = "), Fragment.encode(PaymentMethodsId.mariaType, methodId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<PaymentMethodsRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.code(), f.name(), f.methodType(), f.processorConfig(), f.isActive(), f.sortOrder()) }, c)
+
   override fun upsert(
     unsaved: PaymentMethodsRow,
     c: Connection
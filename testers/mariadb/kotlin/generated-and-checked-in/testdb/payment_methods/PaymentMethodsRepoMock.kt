@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -108,6 +109,21 @@ data class PaymentMethodsRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<PaymentMethodsRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<PaymentMethodsId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.methodId)) {
+        map[row.methodId] = row
+        updated.add(row.methodId)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: PaymentMethodsRow,
     c: Connection
@@ -62,6 +62,11 @@ interface PaymentsRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<PaymentsRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: PaymentsRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.payments
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -34,9 +35,13 @@ class PaymentsRepoImpl() : PaymentsRepo {
     paymentIds: Array<PaymentsId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in paymentIds) { fragments.add(Fragment.encode(PaymentsId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `payments` where `payment_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(paymentIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(PaymentsId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `payments` where `payment_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -114,9 +119,13 @@ class PaymentsRepoImpl() : PaymentsRepo {
     paymentIds: Array<PaymentsId>,
     c: Connection
   ): List<PaymentsRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in paymentIds) { fragments.add(Fragment.encode(PaymentsId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `payment_id`, `order_id`, `method_id`, `transaction_id`, `amount`, `currency_code`, `status`, `processor_response`, `error_message`, `ip_address`, `created_at`, `processed_at` from `payments` where `payment_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(PaymentsRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<PaymentsRow> = ArrayList()
+    for (chunk in InList.chunks(paymentIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(PaymentsId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `payment_id`, `order_id`, `method_id`, `transaction_id`, `amount`, `currency_code`, `status`, `processor_response`, `error_message`, `ip_address`, `created_at`, `processed_at` from `payments` where `payment_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(PaymentsRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -138,6 +147,11 @@ class PaymentsRepoImpl() : PaymentsRepo {
     return Fragment.interpolate(Fragment.lit("update `payments`\nset `order_id` = "), Fragment.encode(OrdersId.mariaType, row.orderId), Fragment.lit(",\n`method_id` = "), Fragment.encode(PaymentMethodsId.mariaType, row.methodId), Fragment.lit(",\n`transaction_id` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.transactionId), Fragment.lit(",\n`amount` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric, row.amount), Fragment.lit(",\n`currency_code` = "), Fragment.encode(MariaTypes.char_, row.currencyCode), Fragment.lit(",\n`status` = "), Fragment.encode(MariaTypes.text, row.status), Fragment.lit(",\n`processor_response` = "), Fragment.encode(MariaTypes.json.nullable(), row.processorResponse), Fragment.lit(",\n`error_message` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.errorMessage), Fragment.lit(",\n`ip_address` = "), Fragment.encode(MariaTypes.inet6.nullable(), row.ipAddress), Fragment.lit(",\n`created_at` = "), Fragment.encode(MariaTypes.datetime, row.createdAt), Fragment.lit(",\n`processed_at` = "), Fragment.encode(MariaTypes.datetime.nullable(), row.processedAt), Fragment.lit("\nwhere `payment_id` = "), Fragment.encode(PaymentsId.mariaType, paymentId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<PaymentsRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.orderId(), f.methodId(), f.transactionId(), f.amount(), f.currencyCode(), f.status(), f.processorResponse(), f.errorMessage(), f.ipAddress(), f.createdAt(), f.processedAt()) }, c)
+
   override fun upsert(
     unsaved: PaymentsRow,
     c: Connection
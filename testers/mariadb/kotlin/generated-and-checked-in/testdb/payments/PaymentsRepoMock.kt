@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -103,6 +104,21 @@ data class PaymentsRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<PaymentsRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<PaymentsId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.paymentId)) {
+        map[row.paymentId] = row
+        updated.add(row.paymentId)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: PaymentsRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.precision_types
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -48,9 +49,13 @@ class PrecisionTypesRepoImpl() : PrecisionTypesRepo {
     ids: Array<PrecisionTypesId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(PrecisionTypesId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `precision_types` where `id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(PrecisionTypesId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `precision_types` where `id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -137,9 +142,13 @@ class PrecisionTypesRepoImpl() : PrecisionTypesRepo {
     ids: Array<PrecisionTypesId>,
     c: Connection
   ): List<PrecisionTypesRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(PrecisionTypesId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `id`, `string10`, `string20`, `string50`, `string100`, `string255`, `char10`, `decimal5_2`, `decimal10_2`, `decimal18_4`, `numeric8_2`, `numeric12_4`, `binary16`, `binary32`, `binary64`, `time0`, `time3`, `time6`, `datetime0`, `datetime3`, `datetime6`, `ts0`, `ts3`, `ts6` from `precision_types` where `id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(PrecisionTypesRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<PrecisionTypesRow> = ArrayList()
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(PrecisionTypesId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `id`, `string10`, `string20`, `string50`, `string100`, `string255`, `char10`, `decimal5_2`, `decimal10_2`, `decimal18_4`, `numeric8_2`, `numeric12_4`, `binary16`, `binary32`, `binary64`, `time0`, `time3`, `time6`, `datetime0`, `datetime3`, `datetime6`, `ts0`, `ts3`, `ts6` from `precision_types` where `id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(PrecisionTypesRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -161,6 +170,11 @@ class PrecisionTypesRepoImpl() : PrecisionTypesRepo {
     return Fragment.interpolate(Fragment.lit("update `precision_types`\nset `string10` = "), Fragment.encode(String10.mariaType, row.string10), Fragment.lit(",\n`string20` = "), Fragment.encode(String20.mariaType, row.string20), Fragment.lit(",\n`string50` = "), Fragment.encode(String50.mariaType, row.string50), Fragment.lit(",\n`string100` = "), Fragment.encode(String100.mariaType, row.string100), Fragment.lit(",\n`string255` = "), Fragment.encode(String255.mariaType, row.string255), Fragment.lit(",\n`char10` = "), Fragment.encode(PaddedString10.mariaType, row.char10), Fragment.lit(",\n`decimal5_2` = "), Fragment.encode(Decimal5_2.mariaType, row.decimal52), Fragment.lit(",\n`decimal10_2` = "), Fragment.encode(Decimal10_2.mariaType, row.decimal102), Fragment.lit(",\n`decimal18_4` = "), Fragment.encode(Decimal18_4.mariaType, row.decimal184), Fragment.lit(",\n`numeric8_2` = "), Fragment.encode(Decimal8_2.mariaType, row.numeric82), Fragment.lit(",\n`numeric12_4` = "), Fragment.encode(Decimal12_4.mariaType, row.numeric124), Fragment.lit(",\n`binary16` = "), Fragment.encode(Binary16.mariaType, row.binary16), Fragment.lit(",\n`binary32` = "), Fragment.encode(Binary32.mariaType, row.binary32), Fragment.lit(",\n`binary64` = "), Fragment.encode(Binary64.mariaType, row.binary64), Fragment.lit(",\n`time0` = "), Fragment.encode(MariaTypes.time, row.time0), Fragment.lit(",\n`time3` = "), Fragment.encode(LocalTime3.mariaType, row.time3), Fragment.lit(",\n`time6` = "), Fragment.encode(LocalTime6.mariaType, row.time6), Fragment.lit(",\n`datetime0` = "), Fragment.encode(MariaTypes.datetime, row.datetime0), Fragment.lit(",\n`datetime3` = "), Fragment.encode(LocalDateTime3.mariaType, row.datetime3), Fragment.lit(",\n`datetime6` = "), Fragment.encode(LocalDateTime6.mariaType, row.datetime6), Fragment.lit(",\n`ts0` = "), Fragment.encode(MariaTypes.timestamp, row.ts0), Fragment.lit(",\n`ts3` = "), Fragment.encode(LocalDateTime3.mariaType, row.ts3), Fragment.lit(",\n`ts6` = "), Fragment.encode(LocalDateTime6.mariaType, row.ts6), Fragment.lit("\nwhere `id` = "), Fragment.encode(PrecisionTypesId.mariaType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<PrecisionTypesRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.string10(), f.string20(), f.string50(), f.string100(), f.string255(), f.char10(), f.decimal52(), f.decimal102(), f.decimal184(), f.numeric82(), f.numeric124(), f.binary16(), f.binary32(), f.binary64(), f.time0(), f.time3(), f.time6(), f.datetime0(), f.datetime3(), f.datetime6(), f.ts0(), f.ts3(), f.ts6()) }, c)
+
   override fun upsert(
     unsaved: PrecisionTypesRow,
     c: Connection
@@ -62,6 +62,11 @@ interface PriceTiersRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<PriceTiersRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: PriceTiersRow,
     c: Connection
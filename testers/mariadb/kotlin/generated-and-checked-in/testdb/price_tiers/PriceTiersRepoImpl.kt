@@ -5,6 +5,7 @@
  */
 package testdb.price_tiers
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -31,9 +32,13 @@ class PriceTiersRepoImpl() : PriceTiersRepo {
     tierIds: Array<PriceTiersId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in tierIds) { fragments.add(Fragment.encode(PriceTiersId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `price_tiers` where `tier_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(tierIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(PriceTiersId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `price_tiers` where `tier_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -76,9 +81,13 @@ class PriceTiersRepoImpl() : PriceTiersRepo {
     tierIds: Array<PriceTiersId>,
     c: Connection
   ): List<PriceTiersRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in tierIds) { fragments.add(Fragment.encode(PriceTiersId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `tier_id`, `name`, `min_quantity`, `discount_type`, `discount_value` from `price_tiers` where `tier_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(PriceTiersRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<PriceTiersRow> = ArrayList()
+    for (chunk in InList.chunks(tierIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(PriceTiersId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `tier_id`, `name`, `min_quantity`, `discount_type`, `discount_value` from `price_tiers` where `tier_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(PriceTiersRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -100,6 +109,11 @@ class PriceTiersRepoImpl() : PriceTiersRepo {
     return Fragment.interpolate(Fragment.lit("update `price_tiers`\nset `name` = "), Fragment.encode(MariaTypes.varchar, row.name), Fragment.lit(",\n`min_quantity` = "), Fragment.encode(MariaTypes.intUnsigned, row.minQuantity), Fragment.lit(",\n`discount_type` = "), Fragment.encode(MariaTypes.text, row.discountType), Fragment.lit(",\n`discount_value` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric, row.discountValue), Fragment.lit("\nwhere `tier_id` = "), Fragment.encode(PriceTiersId.mariaType, tierId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<PriceTiersRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name(), f.minQuantity(), f.discountType(), f.discountValue()) }, c)
+
   override fun upsert(
     unsaved: PriceTiersRow,
     c: Connection
@@ -62,6 +62,11 @@ interface ProductCategoriesRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<ProductCategoriesRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: ProductCategoriesRow,
     c: Connection
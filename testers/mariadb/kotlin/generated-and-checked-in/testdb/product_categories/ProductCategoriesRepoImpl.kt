@@ -5,6 +5,7 @@
  */
 package testdb.product_categories
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
 import dev.typr.foundations.kotlin.Fragment
@@ -33,9 +34,13 @@ class ProductCategoriesRepoImpl() : ProductCategoriesRepo {
     compositeIds: Array<ProductCategoriesId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in compositeIds) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(ProductsId.mariaType, id.productId), Fragment.lit(", "), Fragment.encode(CategoriesId.mariaType, id.categoryId), Fragment.lit(")"))) }
-    return Fragment.interpolate(Fragment.lit("delete from `product_categories` where (`product_id`, `category_id`) in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(compositeIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(ProductsId.mariaType, id.productId), Fragment.lit(", "), Fragment.encode(CategoriesId.mariaType, id.categoryId), Fragment.lit(")"))) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `product_categories` where (`product_id`, `category_id`) in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -81,9 +86,13 @@ class ProductCategoriesRepoImpl() : ProductCategoriesRepo {
     compositeIds: Array<ProductCategoriesId>,
     c: Connection
   ): List<ProductCategoriesRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in compositeIds) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(ProductsId.mariaType, id.productId), Fragment.lit(", "), Fragment.encode(CategoriesId.mariaType, id.categoryId), Fragment.lit(")"))) }
-    return Fragment.interpolate(Fragment.lit("select `product_id`, `category_id`, `is_primary`, `sort_order` from `product_categories` where (`product_id`, `category_id`) in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ProductCategoriesRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<ProductCategoriesRow> = ArrayList()
+    for (chunk in InList.chunks(compositeIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(ProductsId.mariaType, id.productId), Fragment.lit(", "), Fragment.encode(CategoriesId.mariaType, id.categoryId), Fragment.lit(")"))) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `product_id`, `category_id`, `is_primary`, `sort_order` from `product_categories` where (`product_id`, `category_id`) in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ProductCategoriesRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -105,6 +114,11 @@ class ProductCategoriesRepoImpl() : ProductCategoriesRepo {
     return Fragment.interpolate(Fragment.lit("update `product_categories`\nset `is_primary` = "), Fragment.encode(IsPrimary.mariaType, row.isPrimary), Fragment.lit(",\n`sort_order` = "), Fragment.encode(KotlinDbTypes.MariaTypes.smallint, row.sortOrder), Fragment.lit("\nwhere `product_id` = "), Fragment.encode(ProductsId.mariaType, compositeId.productId), Fragment.lit(" AND `category_id` = "), Fragment.encode(CategoriesId.mariaType, compositeId.categoryId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<ProductCategoriesRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.isPrimary(), f.sortOrder()) }, c)
+
   override fun upsert(
     unsaved: ProductCategoriesRow,
     c: Connection
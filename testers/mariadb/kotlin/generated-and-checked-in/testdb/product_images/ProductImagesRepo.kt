@@ -62,6 +62,11 @@ interface ProductImagesRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<ProductImagesRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: ProductImagesRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.product_images
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -33,9 +34,13 @@ class ProductImagesRepoImpl() : ProductImagesRepo {
     imageIds: Array<ProductImagesId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in imageIds) { fragments.add(Fragment.encode(ProductImagesId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `product_images` where `image_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(imageIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(ProductImagesId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `product_images` where `image_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -96,9 +101,13 @@ class ProductImagesRepoImpl() : ProductImagesRepo {
     imageIds: Array<ProductImagesId>,
     c: Connection
   ): List<ProductImagesRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in imageIds) { fragments.add(Fragment.encode(ProductImagesId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `image_id`, `product_id`, `image_url`, `thumbnail_url`, `alt_text`, `sort_order`, `is_primary`, `image_data` from `product_images` where `image_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ProductImagesRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<ProductImagesRow> = ArrayList()
+    for (chunk in InList.chunks(imageIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(ProductImagesId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `image_id`, `product_id`, `image_url`, `thumbnail_url`, `alt_text`, `sort_order`, `is_primary`, `image_data` from `product_images` where `image_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ProductImagesRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -120,6 +129,11 @@ class ProductImagesRepoImpl() : ProductImagesRepo {
     return Fragment.interpolate(Fragment.lit("update `product_images`\nset `product_id` = "), Fragment.encode(ProductsId.mariaType, row.productId), Fragment.lit(",\n`image_url` = "), Fragment.encode(MariaTypes.varchar, row.imageUrl), Fragment.lit(",\n`thumbnail_url` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.thumbnailUrl), Fragment.lit(",\n`alt_text` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.altText), Fragment.lit(",\n`sort_order` = "), Fragment.encode(MariaTypes.tinyintUnsigned, row.sortOrder), Fragment.lit(",\n`is_primary` = "), Fragment.encode(IsPrimary.mariaType, row.isPrimary), Fragment.lit(",\n`image_data` = "), Fragment.encode(MariaTypes.longblob.nullable(), row.imageData), Fragment.lit("\nwhere `image_id` = "), Fragment.encode(ProductImagesId.mariaType, imageId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<ProductImagesRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.productId(), f.imageUrl(), f.thumbnailUrl(), f.altText(), f.sortOrder(), f.isPrimary(), f.imageData()) }, c)
+
   override fun upsert(
     unsaved: ProductImagesRow,
     c: Connection
@@ -62,6 +62,11 @@ interface ProductPricesRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<ProductPricesRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: ProductPricesRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.product_prices
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -34,9 +35,13 @@ class ProductPricesRepoImpl() : ProductPricesRepo {
     priceIds: Array<ProductPricesId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in priceIds) { fragments.add(Fragment.encode(ProductPricesId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `product_prices` where `price_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(priceIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(ProductPricesId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `product_prices` where `price_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -89,9 +94,13 @@ class ProductPricesRepoImpl() : ProductPricesRepo {
     priceIds: Array<ProductPricesId>,
     c: Connection
   ): List<ProductPricesRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in priceIds) { fragments.add(Fragment.encode(ProductPricesId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `price_id`, `product_id`, `tier_id`, `price`, `currency_code`, `valid_from`, `valid_to` from `product_prices` where `price_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ProductPricesRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<ProductPricesRow> = ArrayList()
+    for (chunk in InList.chunks(priceIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(ProductPricesId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `price_id`, `product_id`, `tier_id`, `price`, `currency_code`, `valid_from`, `valid_to` from `product_prices` where `price_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ProductPricesRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -113,6 +122,11 @@ class ProductPricesRepoImpl() : ProductPricesRepo {
     return Fragment.interpolate(Fragment.lit("update `product_prices`\nset `product_id` = "), Fragment.encode(ProductsId.mariaType, row.productId), Fragment.lit(",\n`tier_id` = "), Fragment.encode(PriceTiersId.mariaType.nullable(), row.tierId), Fragment.lit(",\n`price` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric, row.price), Fragment.lit(",\n`currency_code` = "), Fragment.encode(MariaTypes.char_, row.currencyCode), Fragment.lit(",\n`valid_from` = "), Fragment.encode(MariaTypes.date, row.validFrom), Fragment.lit(",\n`valid_to` = "), Fragment.encode(MariaTypes.date.nullable(), row.validTo), Fragment.lit("\nwhere `price_id` = "), Fragment.encode(ProductPricesId.mariaType, priceId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<ProductPricesRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.productId(), f.tierId(), f.price(), f.currencyCode(), f.validFrom(), f.validTo()) }, c)
+
   override fun upsert(
     unsaved: ProductPricesRow,
     c: Connection
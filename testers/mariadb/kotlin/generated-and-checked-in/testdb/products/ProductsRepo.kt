@@ -67,6 +67,11 @@ interface ProductsRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<ProductsRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: ProductsRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.products
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -34,9 +35,13 @@ class ProductsRepoImpl() : ProductsRepo {
     productIds: Array<ProductsId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in productIds) { fragments.add(Fragment.encode(ProductsId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `products` where `product_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(productIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(ProductsId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `products` where `product_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -144,9 +149,13 @@ class ProductsRepoImpl() : ProductsRepo {
     productIds: Array<ProductsId>,
     c: Connection
   ): List<ProductsRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in productIds) { fragments.add(Fragment.encode(ProductsId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `product_id`, `sku`, `brand_id`, `name`, `short_description`, `full_description`, `base_price`, `cost_price`, `weight_kg`, `dimensions_json`, `status`, `tax_class`, `tags`, `attributes`, `seo_metadata`, `created_at`, `updated_at`, `published_at` from `products` where `product_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ProductsRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<ProductsRow> = ArrayList()
+    for (chunk in InList.chunks(productIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(ProductsId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `product_id`, `sku`, `brand_id`, `name`, `short_description`, `full_description`, `base_price`, `cost_price`, `weight_kg`, `dimensions_json`, `status`, `tax_class`, `tags`, `attributes`, `seo_metadata`, `created_at`, `updated_at`, `published_at` from `products` where `product_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ProductsRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -173,6 +182,11 @@ class ProductsRepoImpl() : ProductsRepo {
     return Fragment.interpolate(Fragment.lit("update `products`\nset `sku` = "), Fragment.encode(MariaTypes.varchar, row.sku), Fragment.lit(",\n`brand_id` = "), Fragment.encode(BrandsId.mariaType.nullable(), row.brandId), Fragment.lit(",\n`name` = "), Fragment.encode(MariaTypes.varchar, row.name), Fragment.lit(",\n`short_description` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.shortDescription), Fragment.lit(",\n`full_description` = "), Fragment.encode(MariaTypes.longtext.nullable(), row.fullDescription), Fragment.lit(",\n`base_price` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric, row.basePrice), Fragment.lit(",\n`cost_price` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric.nullable(), row.costPrice), Fragment.lit(",\n`weight_kg` = "), Fragment.encode(KotlinDbTypes.MariaTypes.numeric.nullable(), row.weightKg), Fragment.lit(",\n`dimensions_json` = "), Fragment.encode(MariaTypes.json.nullable(), row.dimensionsJson), Fragment.lit(",\n`status` = "), Fragment.encode(MariaTypes.text, row.status), Fragment.lit(",\n`tax_class` = "), Fragment.encode(MariaTypes.text, row.taxClass), Fragment.lit(",\n`tags` = "), Fragment.encode(BestsellerClearanceFSet.mariaType.nullable(), row.tags), Fragment.lit(",\n`attributes` = "), Fragment.encode(MariaTypes.json.nullable(), row.attributes), Fragment.lit(",\n`seo_metadata` = "), Fragment.encode(MariaTypes.json.nullable(), row.seoMetadata), Fragment.lit(",\n`created_at` = "), Fragment.encode(MariaTypes.datetime, row.createdAt), Fragment.lit(",\n`updated_at` = "), Fragment.encode(MariaTypes.datetime, row.updatedAt), Fragment.lit(",\n`published_at` = "), Fragment.encode(MariaTypes.datetime.nullable(), row.publishedAt), Fragment.lit("\nwhere `product_id` = "), Fragment.encode(ProductsId.mariaType, productId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<ProductsRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.sku(), f.brandId(), f.name(), f.shortDescription(), f.fullDescription(), f.basePrice(), f.costPrice(), f.weightKg(), f.dimensionsJson(), f.status(), f.taxClass(), f.tags(), f.attributes(), f.seoMetadata(), f.createdAt(), f.updatedAt(), f.publishedAt()) }, c)
+
   override fun upsert(
     unsaved: ProductsRow,
     c: Connection
@@ -67,6 +67,11 @@ interface PromotionsRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<PromotionsRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: PromotionsRow,
     c: Connection
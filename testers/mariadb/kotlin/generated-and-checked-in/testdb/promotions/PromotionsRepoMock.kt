@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -108,6 +109,21 @@ data class PromotionsRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<PromotionsRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<PromotionsId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.promotionId)) {
+        map[row.promotionId] = row
+        updated.add(row.promotionId)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: PromotionsRow,
     c: Connection
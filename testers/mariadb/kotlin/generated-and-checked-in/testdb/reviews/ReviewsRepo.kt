@@ -62,6 +62,11 @@ interface ReviewsRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<ReviewsRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: ReviewsRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.reviews
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -36,9 +37,13 @@ class ReviewsRepoImpl() : ReviewsRepo {
     reviewIds: Array<ReviewsId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in reviewIds) { fragments.add(Fragment.encode(ReviewsId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `reviews` where `review_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(reviewIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(ReviewsId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `reviews` where `review_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -146,9 +151,13 @@ class ReviewsRepoImpl() : ReviewsRepo {
     reviewIds: Array<ReviewsId>,
     c: Connection
   ): List<ReviewsRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in reviewIds) { fragments.add(Fragment.encode(ReviewsId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `review_id`, `product_id`, `customer_id`, `order_item_id`, `rating`, `title`, `content`, `pros`, `cons`, `images`, `is_verified_purchase`, `is_approved`, `helpful_votes`, `unhelpful_votes`, `admin_response`, `responded_at`, `created_at`, `updated_at` from `reviews` where `review_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ReviewsRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<ReviewsRow> = ArrayList()
+    for (chunk in InList.chunks(reviewIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(ReviewsId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `review_id`, `product_id`, `customer_id`, `order_item_id`, `rating`, `title`, `content`, `pros`, `cons`, `images`, `is_verified_purchase`, `is_approved`, `helpful_votes`, `unhelpful_votes`, `admin_response`, `responded_at`, `created_at`, `updated_at` from `reviews` where `review_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ReviewsRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -170,6 +179,11 @@ class ReviewsRepoImpl() : ReviewsRepo {
     return Fragment.interpolate(Fragment.lit("update `reviews`\nset `product_id` = "), Fragment.encode(ProductsId.mariaType, row.productId), Fragment.lit(",\n`customer_id` = "), Fragment.encode(CustomersId.mariaType, row.customerId), Fragment.lit(",\n`order_item_id` = "), Fragment.encode(OrderItemsId.mariaType.nullable(), row.orderItemId), Fragment.lit(",\n`rating` = "), Fragment.encode(MariaTypes.tinyintUnsigned, row.rating), Fragment.lit(",\n`title` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.title), Fragment.lit(",\n`content` = "), Fragment.encode(MariaTypes.text.nullable(), row.content), Fragment.lit(",\n`pros` = "), Fragment.encode(MariaTypes.json.nullable(), row.pros), Fragment.lit(",\n`cons` = "), Fragment.encode(MariaTypes.json.nullable(), row.cons), Fragment.lit(",\n`images` = "), Fragment.encode(MariaTypes.json.nullable(), row.images), Fragment.lit(",\n`is_verified_purchase` = "), Fragment.encode(IsVerifiedPurchase.mariaType, row.isVerifiedPurchase), Fragment.lit(",\n`is_approved` = "), Fragment.encode(IsApproved.mariaType, row.isApproved), Fragment.lit(",\n`helpful_votes` = "), Fragment.encode(MariaTypes.intUnsigned, row.helpfulVotes), Fragment.lit(",\n`unhelpful_votes` = "), Fragment.encode(MariaTypes.intUnsigned, row.unhelpfulVotes), Fragment.lit(",\n`admin_response` = "), Fragment.encode(MariaTypes.text.nullable(), row.adminResponse), Fragment.lit(",\n`responded_at` = "), Fragment.encode(MariaTypes.datetime.nullable(), row.respondedAt), Fragment.lit(",\n`created_at` = "), Fragment.encode(MariaTypes.datetime, row.createdAt), Fragment.lit(",\n`updated_at` = "), Fragment.encode(MariaTypes.datetime, row.updatedAt), Fragment.lit("\nwhere `review_id` = "), Fragment.encode(ReviewsId.mariaType, reviewId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<ReviewsRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.productId(), f.customerId(), f.orderItemId(), f.rating(), f.title(), f.content(), f.pros(), f.cons(), f.images(), f.isVerifiedPurchase(), f.isApproved(), f.helpfulVotes(), f.unhelpfulVotes(), f.adminResponse(), f.respondedAt(), f.createdAt(), f.updatedAt()) }, c)
+
   override fun upsert(
     unsaved: ReviewsRow,
     c: Connection
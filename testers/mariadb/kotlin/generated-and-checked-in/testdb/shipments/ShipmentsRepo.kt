@@ -62,6 +62,11 @@ interface ShipmentsRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<ShipmentsRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: ShipmentsRow,
     c: Connection
@@ -67,6 +67,11 @@ interface ShippingCarriersRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<ShippingCarriersRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: ShippingCarriersRow,
     c: Connection
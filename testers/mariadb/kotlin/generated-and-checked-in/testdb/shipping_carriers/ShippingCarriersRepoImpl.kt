@@ -5,6 +5,7 @@
  */
 package testdb.shipping_carriers
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -32,9 +33,13 @@ class ShippingCarriersRepoImpl() : ShippingCarriersRepo {
     carrierIds: Array<ShippingCarriersId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in carrierIds) { fragments.add(Fragment.encode(ShippingCarriersId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `shipping_carriers` where `carrier_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(carrierIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(ShippingCarriersId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `shipping_carriers` where `carrier_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -85,9 +90,13 @@ class ShippingCarriersRepoImpl() : ShippingCarriersRepo {
     carrierIds: Array<ShippingCarriersId>,
     c: Connection
   ): List<ShippingCarriersRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in carrierIds) { fragments.add(Fragment.encode(ShippingCarriersId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `carrier_id`, `code`, `name`, `tracking_url_template`, `api_config`, `is_active` from `shipping_carriers` where `carrier_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ShippingCarriersRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<ShippingCarriersRow> = ArrayList()
+    for (chunk in InList.chunks(carrierIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(ShippingCarriersId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `carrier_id`, `code`, `name`, `tracking_url_template`, `api_config`, `is_active` from `shipping_carriers` where `carrier_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ShippingCarriersRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -114,6 +123,11 @@ class ShippingCarriersRepoImpl() : ShippingCarriersRepo {
     return Fragment.interpolate(Fragment.lit("update `shipping_carriers`\nset `code` = "), Fragment.encode(MariaTypes.varchar, row.code), Fragment.lit(",\n`name` = "), Fragment.encode(MariaTypes.varchar, row.name), Fragment.lit(",\n`tracking_url_template` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.trackingUrlTemplate), Fragment.lit(",\n`api_config` = "), Fragment.encode(MariaTypes.json.nullable(), row.apiConfig), Fragment.lit(",\n`is_active` = "), Fragment.encode(IsActive.mariaType, row.isActive), Fragment.lit("\nwhere `carrier_id` = "), Fragment.encode(ShippingCarriersId.mariaType, carrierId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<ShippingCarriersRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.code(), f.name(), f.trackingUrlTemplate(), f.apiConfig(), f.isActive()) }, c)
+
   override fun upsert(
     unsaved: ShippingCarriersRow,
     c: Connection
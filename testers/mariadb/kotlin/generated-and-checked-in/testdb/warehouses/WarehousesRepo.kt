@@ -67,6 +67,11 @@ interface WarehousesRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<WarehousesRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: WarehousesRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.warehouses
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -33,9 +34,13 @@ class WarehousesRepoImpl() : WarehousesRepo {
     warehouseIds: Array<WarehousesId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in warehouseIds) { fragments.add(Fragment.encode(WarehousesId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from `warehouses` where `warehouse_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(warehouseIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(WarehousesId.mariaType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from `warehouses` where `warehouse_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -100,9 +105,13 @@ class WarehousesRepoImpl() : WarehousesRepo {
     warehouseIds: Array<WarehousesId>,
     c: Connection
   ): List<WarehousesRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in warehouseIds) { fragments.add(Fragment.encode(WarehousesId.mariaType, id)) }
-    return Fragment.interpolate(Fragment.lit("select `warehouse_id`, `code`, `name`, `address`, `location`, `service_area`, `timezone`, `is_active`, `contact_email`, `contact_phone` from `warehouses` where `warehouse_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(WarehousesRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<WarehousesRow> = ArrayList()
+    for (chunk in InList.chunks(warehouseIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(WarehousesId.mariaType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select `warehouse_id`, `code`, `name`, `address`, `location`, `service_area`, `timezone`, `is_active`, `contact_email`, `contact_phone` from `warehouses` where `warehouse_id` in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(WarehousesRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -129,6 +138,11 @@ class WarehousesRepoImpl() : WarehousesRepo {
     return Fragment.interpolate(Fragment.lit("update `warehouses`\nset `code` = "), Fragment.encode(MariaTypes.char_, row.code), Fragment.lit(",\n`name` = "), Fragment.encode(MariaTypes.varchar, row.name), Fragment.lit(",\n`address` = "), Fragment.encode(MariaTypes.varchar, row.address), Fragment.lit(",\n`location` = "), Fragment.encode(MariaTypes.point, row.location), Fragment.lit(",\n`service_area` = "), Fragment.encode(MariaTypes.polygon.nullable(), row.serviceArea), Fragment.lit(",\n`timezone` = "), Fragment.encode(MariaTypes.varchar, row.timezone), Fragment.lit(",\n`is_active` = "), Fragment.encode(IsActive.mariaType, row.isActive), Fragment.lit(",\n`contact_email` = "), Fragment.encode(Email.mariaType.nullable(), row.contactEmail), Fragment.lit(",\n`contact_phone` = "), Fragment.encode(MariaTypes.varchar.nullable(), row.contactPhone), Fragment.lit("\nwhere `warehouse_id` = "), Fragment.encode(WarehousesId.mariaType, warehouseId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<WarehousesRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.code(), f.name(), f.address(), f.location(), f.serviceArea(), f.timezone(), f.isActive(), f.contactEmail(), f.contactPhone()) }, c)
+
   override fun upsert(
     unsaved: WarehousesRow,
     c: Connection
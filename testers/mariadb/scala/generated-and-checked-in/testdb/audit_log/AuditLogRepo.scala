@@ -35,6 +35,8 @@ trait AuditLogRepo {
 
   def update(row: AuditLogRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[AuditLogRow])(using c: Connection): Int
+
   def upsert(unsaved: AuditLogRow)(using c: Connection): AuditLogRow
 
   def upsertBatch(unsaved: Iterator[AuditLogRow])(using c: Connection): List[AuditLogRow]
@@ -5,6 +5,7 @@
  */
 package testdb.audit_log
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -22,9 +23,9 @@ class AuditLogRepoImpl extends AuditLogRepo {
   override def deleteById(logId: AuditLogId)(using c: Connection): Boolean = sql"delete from `audit_log` where `log_id` = ${Fragment.encode(AuditLogId.mariaType, logId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(logIds: Array[AuditLogId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    logIds.foreach { id => fragments.addOne(Fragment.encode(AuditLogId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `audit_log` where `log_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    logIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(AuditLogId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `audit_log` where `log_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: AuditLogRow)(using c: Connection): AuditLogRow = {
@@ -92,9 +93,9 @@ class AuditLogRepoImpl extends AuditLogRepo {
   }
 
   override def selectByIds(logIds: Array[AuditLogId])(using c: Connection): List[AuditLogRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    logIds.foreach { id => fragments.addOne(Fragment.encode(AuditLogId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `log_id`, `table_name`, `record_id`, `action`, `old_values`, `new_values`, `changed_by`, `changed_at`, `client_ip`, `session_id` from `audit_log` where `log_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(AuditLogRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[AuditLogRow] = ListBuffer()
+    logIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(AuditLogId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `log_id`, `table_name`, `record_id`, `action`, `old_values`, `new_values`, `changed_by`, `changed_at`, `client_ip`, `session_id` from `audit_log` where `log_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(AuditLogRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(logIds: Array[AuditLogId])(using c: Connection): Map[AuditLogId, AuditLogRow] = {
@@ -120,6 +121,8 @@ class AuditLogRepoImpl extends AuditLogRepo {
     where `log_id` = ${Fragment.encode(AuditLogId.mariaType, logId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[AuditLogRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.tableName, f.recordId, f.action, f.oldValues, f.newValues, f.changedBy, f.changedAt, f.clientIp, f.sessionId))(using c)
+
   override def upsert(unsaved: AuditLogRow)(using c: Connection): AuditLogRow = {
   sql"""INSERT INTO `audit_log`(`log_id`, `table_name`, `record_id`, `action`, `old_values`, `new_values`, `changed_by`, `changed_at`, `client_ip`, `session_id`)
     VALUES (${Fragment.encode(AuditLogId.mariaType, unsaved.logId)}, ${Fragment.encode(MariaTypes.varchar, unsaved.tableName)}, ${Fragment.encode(MariaTypes.varchar, unsaved.recordId)}, ${Fragment.encode(MariaTypes.text, unsaved.action)}, ${Fragment.encode(MariaTypes.json.nullable, unsaved.oldValues)}, ${Fragment.encode(MariaTypes.json.nullable, unsaved.newValues)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.changedBy)}, ${Fragment.encode(MariaTypes.datetime, unsaved.changedAt)}, ${Fragment.encode(MariaTypes.inet6.nullable, unsaved.clientIp)}, ${Fragment.encode(MariaTypes.varbinary.nullable, unsaved.sessionId)})
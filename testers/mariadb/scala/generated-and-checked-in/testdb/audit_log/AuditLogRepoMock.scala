@@ -63,6 +63,15 @@ case class AuditLogRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[AuditLogRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.logId)) {
+        map.put(row.logId, row): @scala.annotation.nowarn
+        Some(row.logId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: AuditLogRow)(using c: Connection): AuditLogRow = {
     map.put(unsaved.logId, unsaved): @scala.annotation.nowarn
     return unsaved
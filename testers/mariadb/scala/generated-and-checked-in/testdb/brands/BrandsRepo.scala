@@ -37,6 +37,8 @@ trait BrandsRepo {
 
   def update(row: BrandsRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[BrandsRow])(using c: Connection): Int
+
   def upsert(unsaved: BrandsRow)(using c: Connection): BrandsRow
 
   def upsertBatch(unsaved: Iterator[BrandsRow])(using c: Connection): List[BrandsRow]
@@ -5,6 +5,7 @@
  */
 package testdb.brands
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -23,9 +24,9 @@ class BrandsRepoImpl extends BrandsRepo {
   override def deleteById(brandId: BrandsId)(using c: Connection): Boolean = sql"delete from `brands` where `brand_id` = ${Fragment.encode(BrandsId.mariaType, brandId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(brandIds: Array[BrandsId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    brandIds.foreach { id => fragments.addOne(Fragment.encode(BrandsId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `brands` where `brand_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    brandIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(BrandsId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `brands` where `brand_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: BrandsRow)(using c: Connection): BrandsRow = {
@@ -83,9 +84,9 @@ class BrandsRepoImpl extends BrandsRepo {
   }
 
   override def selectByIds(brandIds: Array[BrandsId])(using c: Connection): List[BrandsRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    brandIds.foreach { id => fragments.addOne(Fragment.encode(BrandsId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `brand_id`, `name`, `slug`, `logo_blob`, `website_url`, `country_of_origin`, `is_active` from `brands` where `brand_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(BrandsRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[BrandsRow] = ListBuffer()
+    brandIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(BrandsId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `brand_id`, `name`, `slug`, `logo_blob`, `website_url`, `country_of_origin`, `is_active` from `brands` where `brand_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(BrandsRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(brandIds: Array[BrandsId])(using c: Connection): Map[BrandsId, BrandsRow] = {
@@ -115,6 +116,8 @@ class BrandsRepoImpl extends BrandsRepo {
     where `brand_id` = ${Fragment.encode(BrandsId.mariaType, brandId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[BrandsRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.slug, f.logoBlob, f.websiteUrl, f.countryOfOrigin, f.isActive))(using c)
+
   override def upsert(unsaved: BrandsRow)(using c: Connection): BrandsRow = {
   sql"""INSERT INTO `brands`(`brand_id`, `name`, `slug`, `logo_blob`, `website_url`, `country_of_origin`, `is_active`)
     VALUES (${Fragment.encode(BrandsId.mariaType, unsaved.brandId)}, ${Fragment.encode(MariaTypes.varchar, unsaved.name)}, ${Fragment.encode(MariaTypes.varchar, unsaved.slug)}, ${Fragment.encode(MariaTypes.mediumblob.nullable, unsaved.logoBlob)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.websiteUrl)}, ${Fragment.encode(MariaTypes.char_.nullable, unsaved.countryOfOrigin)}, ${Fragment.encode(IsActive.mariaType, unsaved.isActive)})
@@ -65,6 +65,15 @@ case class BrandsRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[BrandsRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.brandId)) {
+        map.put(row.brandId, row): @scala.annotation.nowarn
+        Some(row.brandId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: BrandsRow)(using c: Connection): BrandsRow = {
     map.put(unsaved.brandId, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -37,6 +37,8 @@ trait CategoriesRepo {
 
   def update(row: CategoriesRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[CategoriesRow])(using c: Connection): Int
+
   def upsert(unsaved: CategoriesRow)(using c: Connection): CategoriesRow
 
   def upsertBatch(unsaved: Iterator[CategoriesRow])(using c: Connection): List[CategoriesRow]
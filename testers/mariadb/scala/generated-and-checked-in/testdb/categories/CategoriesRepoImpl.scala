@@ -5,6 +5,7 @@
  */
 package testdb.categories
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -23,9 +24,9 @@ class CategoriesRepoImpl extends CategoriesRepo {
   override def deleteById(categoryId: CategoriesId)(using c: Connection): Boolean = sql"delete from `categories` where `category_id` = ${Fragment.encode(CategoriesId.mariaType, categoryId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(categoryIds: Array[CategoriesId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    categoryIds.foreach { id => fragments.addOne(Fragment.encode(CategoriesId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `categories` where `category_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    categoryIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(CategoriesId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `categories` where `category_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: CategoriesRow)(using c: Connection): CategoriesRow = {
@@ -91,9 +92,9 @@ class CategoriesRepoImpl extends CategoriesRepo {
   }
 
   override def selectByIds(categoryIds: Array[CategoriesId])(using c: Connection): List[CategoriesRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    categoryIds.foreach { id => fragments.addOne(Fragment.encode(CategoriesId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `category_id`, `parent_id`, `name`, `slug`, `description`, `image_url`, `sort_order`, `is_visible`, `metadata` from `categories` where `category_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(CategoriesRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[CategoriesRow] = ListBuffer()
+    categoryIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(CategoriesId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `category_id`, `parent_id`, `name`, `slug`, `description`, `image_url`, `sort_order`, `is_visible`, `metadata` from `categories` where `category_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(CategoriesRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(categoryIds: Array[CategoriesId])(using c: Connection): Map[CategoriesId, CategoriesRow] = {
@@ -125,6 +126,8 @@ class CategoriesRepoImpl extends CategoriesRepo {
     where `category_id` = ${Fragment.encode(CategoriesId.mariaType, categoryId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[CategoriesRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.parentId, f.name, f.slug, f.description, f.imageUrl, f.sortOrder, f.isVisible, f.metadata))(using c)
+
   override def upsert(unsaved: CategoriesRow)(using c: Connection): CategoriesRow = {
   sql"""INSERT INTO `categories`(`category_id`, `parent_id`, `name`, `slug`, `description`, `image_url`, `sort_order`, `is_visible`, `metadata`)
     VALUES (${Fragment.encode(CategoriesId.mariaType, unsaved.categoryId)}, ${Fragment.encode(CategoriesId.mariaType.nullable, unsaved.parentId)}, ${Fragment.encode(MariaTypes.varchar, unsaved.name)}, ${Fragment.encode(MariaTypes.varchar, unsaved.slug)}, ${Fragment.encode(MariaTypes.mediumtext.nullable, unsaved.description)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.imageUrl)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.smallint, unsaved.sortOrder)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.bool, unsaved.isVisible)}, ${Fragment.encode(MariaTypes.json.nullable, unsaved.metadata)})
@@ -65,6 +65,15 @@ case class CategoriesRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[CategoriesRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.categoryId)) {
+        map.put(row.categoryId, row): @scala.annotation.nowarn
+        Some(row.categoryId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: CategoriesRow)(using c: Connection): CategoriesRow = {
     map.put(unsaved.categoryId, unsaved): @scala.annotation.nowarn
     return unsaved
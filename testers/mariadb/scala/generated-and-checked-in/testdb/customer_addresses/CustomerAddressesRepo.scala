@@ -35,6 +35,8 @@ trait CustomerAddressesRepo {
 
   def update(row: CustomerAddressesRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[CustomerAddressesRow])(using c: Connection): Int
+
   def upsert(unsaved: CustomerAddressesRow)(using c: Connection): CustomerAddressesRow
 
   def upsertBatch(unsaved: Iterator[CustomerAddressesRow])(using c: Connection): List[CustomerAddressesRow]
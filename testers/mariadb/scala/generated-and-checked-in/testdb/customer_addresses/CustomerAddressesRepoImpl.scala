@@ -5,6 +5,7 @@
  */
 package testdb.customer_addresses
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -24,9 +25,9 @@ class CustomerAddressesRepoImpl extends CustomerAddressesRepo {
   override def deleteById(addressId: CustomerAddressesId)(using c: Connection): Boolean = sql"delete from `customer_addresses` where `address_id` = ${Fragment.encode(CustomerAddressesId.mariaType, addressId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(addressIds: Array[CustomerAddressesId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    addressIds.foreach { id => fragments.addOne(Fragment.encode(CustomerAddressesId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `customer_addresses` where `address_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    addressIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(CustomerAddressesId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `customer_addresses` where `address_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: CustomerAddressesRow)(using c: Connection): CustomerAddressesRow = {
@@ -102,9 +103,9 @@ class CustomerAddressesRepoImpl extends CustomerAddressesRepo {
   }
 
   override def selectByIds(addressIds: Array[CustomerAddressesId])(using c: Connection): List[CustomerAddressesRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    addressIds.foreach { id => fragments.addOne(Fragment.encode(CustomerAddressesId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `address_id`, `customer_id`, `address_type`, `is_default`, `recipient_name`, `street_line1`, `street_line2`, `city`, `state_province`, `postal_code`, `country_code`, `location`, `delivery_notes`, `created_at` from `customer_addresses` where `address_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(CustomerAddressesRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[CustomerAddressesRow] = ListBuffer()
+    addressIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(CustomerAddressesId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `address_id`, `customer_id`, `address_type`, `is_default`, `recipient_name`, `street_line1`, `street_line2`, `city`, `state_province`, `postal_code`, `country_code`, `location`, `delivery_notes`, `created_at` from `customer_addresses` where `address_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(CustomerAddressesRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(addressIds: Array[CustomerAddressesId])(using c: Connection): Map[CustomerAddressesId, CustomerAddressesRow] = {
@@ -134,6 +135,8 @@ class CustomerAddressesRepoImpl extends CustomerAddressesRepo {
     where `address_id` = ${Fragment.encode(CustomerAddressesId.mariaType, addressId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[CustomerAddressesRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.customerId, f.addressType, f.isDefault, f.recipientName, f.streetLine1, f.streetLine2, f.city, f.stateProvince, f.postalCode, f.countryCode, f.location, f.deliveryNotes, f.createdAt))(using c)
+
   override def upsert(unsaved: CustomerAddressesRow)(using c: Connection): CustomerAddressesRow = {
   sql"""INSERT INTO `customer_addresses`(`address_id`, `customer_id`, `address_type`, `is_default`, `recipient_name`, `street_line1`, `street_line2`, `city`, `state_province`, `postal_code`, `country_code`, `location`, `delivery_notes`, `created_at`)
     VALUES (${Fragment.encode(CustomerAddressesId.mariaType, unsaved.addressId)}, ${Fragment.encode(CustomersId.mariaType, unsaved.customerId)}, ${Fragment.encode(MariaTypes.text, unsaved.addressType)}, ${Fragment.encode(IsDefault.mariaType, unsaved.isDefault)}, ${Fragment.encode(MariaTypes.varchar, unsaved.recipientName)}, ${Fragment.encode(MariaTypes.varchar, unsaved.streetLine1)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.streetLine2)}, ${Fragment.encode(MariaTypes.varchar, unsaved.city)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.stateProvince)}, ${Fragment.encode(MariaTypes.varchar, unsaved.postalCode)}, ${Fragment.encode(MariaTypes.char_, unsaved.countryCode)}, ${Fragment.encode(MariaTypes.point.nullable, unsaved.location)}, ${Fragment.encode(MariaTypes.tinytext.nullable, unsaved.deliveryNotes)}, ${Fragment.encode(MariaTypes.datetime, unsaved.createdAt)})
@@ -63,6 +63,15 @@ case class CustomerAddressesRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[CustomerAddressesRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.addressId)) {
+        map.put(row.addressId, row): @scala.annotation.nowarn
+        Some(row.addressId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: CustomerAddressesRow)(using c: Connection): CustomerAddressesRow = {
     map.put(unsaved.addressId, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -35,6 +35,8 @@ trait CustomerStatusRepo {
 
   def update(row: CustomerStatusRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[CustomerStatusRow])(using c: Connection): Int
+
   def upsert(unsaved: CustomerStatusRow)(using c: Connection): CustomerStatusRow
 
   def upsertBatch(unsaved: Iterator[CustomerStatusRow])(using c: Connection): List[CustomerStatusRow]
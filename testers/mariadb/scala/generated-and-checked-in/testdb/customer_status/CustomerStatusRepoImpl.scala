@@ -5,6 +5,7 @@
  */
 package testdb.customer_status
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
@@ -22,9 +23,9 @@ class CustomerStatusRepoImpl extends CustomerStatusRepo {
   override def deleteById(statusCode: CustomerStatusId)(using c: Connection): Boolean = sql"delete from `customer_status` where `status_code` = ${Fragment.encode(CustomerStatusId.mariaType, statusCode)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(statusCodes: Array[CustomerStatusId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    statusCodes.foreach { id => fragments.addOne(Fragment.encode(CustomerStatusId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `customer_status` where `status_code` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    statusCodes.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(CustomerStatusId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `customer_status` where `status_code` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: CustomerStatusRow)(using c: Connection): CustomerStatusRow = {
@@ -70,9 +71,9 @@ class CustomerStatusRepoImpl extends CustomerStatusRepo {
   }
 
   override def selectByIds(statusCodes: Array[CustomerStatusId])(using c: Connection): List[CustomerStatusRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    statusCodes.foreach { id => fragments.addOne(Fragment.encode(CustomerStatusId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `status_code`, `description`, `is_active` from `customer_status` where `status_code` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(CustomerStatusRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[CustomerStatusRow] = ListBuffer()
+    statusCodes.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(CustomerStatusId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `status_code`, `description`, `is_active` from `customer_status` where `status_code` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(CustomerStatusRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(statusCodes: Array[CustomerStatusId])(using c: Connection): Map[CustomerStatusId, CustomerStatusRow] = {
@@ -91,6 +92,8 @@ class CustomerStatusRepoImpl extends CustomerStatusRepo {
     where `status_code` = ${Fragment.encode(CustomerStatusId.mariaType, statusCode)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[CustomerStatusRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.description, f.isActive))(using c)
+
   override def upsert(unsaved: CustomerStatusRow)(using c: Connection): CustomerStatusRow = {
   sql"""INSERT INTO `customer_status`(`status_code`, `description`, `is_active`)
     VALUES (${Fragment.encode(CustomerStatusId.mariaType, unsaved.statusCode)}, ${Fragment.encode(MariaTypes.varchar, unsaved.description)}, ${Fragment.encode(IsActive.mariaType, unsaved.isActive)})
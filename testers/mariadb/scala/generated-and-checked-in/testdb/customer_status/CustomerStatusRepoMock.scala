@@ -63,6 +63,15 @@ case class CustomerStatusRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[CustomerStatusRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.statusCode)) {
+        map.put(row.statusCode, row): @scala.annotation.nowarn
+        Some(row.statusCode)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: CustomerStatusRow)(using c: Connection): CustomerStatusRow = {
     map.put(unsaved.statusCode, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -42,6 +42,8 @@ trait InventoryRepo {
 
   def update(row: InventoryRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[InventoryRow])(using c: Connection): Int
+
   def upsert(unsaved: InventoryRow)(using c: Connection): InventoryRow
 
   def upsertBatch(unsaved: Iterator[InventoryRow])(using c: Connection): List[InventoryRow]
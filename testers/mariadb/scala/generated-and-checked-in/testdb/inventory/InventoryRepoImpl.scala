@@ -5,6 +5,7 @@
  */
 package testdb.inventory
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -25,9 +26,9 @@ class InventoryRepoImpl extends InventoryRepo {
   override def deleteById(inventoryId: InventoryId)(using c: Connection): Boolean = sql"delete from `inventory` where `inventory_id` = ${Fragment.encode(InventoryId.mariaType, inventoryId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(inventoryIds: Array[InventoryId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    inventoryIds.foreach { id => fragments.addOne(Fragment.encode(InventoryId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `inventory` where `inventory_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    inventoryIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(InventoryId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `inventory` where `inventory_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: InventoryRow)(using c: Connection): InventoryRow = {
@@ -101,9 +102,9 @@ class InventoryRepoImpl extends InventoryRepo {
   }
 
   override def selectByIds(inventoryIds: Array[InventoryId])(using c: Connection): List[InventoryRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    inventoryIds.foreach { id => fragments.addOne(Fragment.encode(InventoryId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `inventory_id`, `product_id`, `warehouse_id`, `quantity_on_hand`, `quantity_reserved`, `quantity_on_order`, `reorder_point`, `reorder_quantity`, `bin_location`, `last_counted_at`, `updated_at` from `inventory` where `inventory_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(InventoryRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[InventoryRow] = ListBuffer()
+    inventoryIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(InventoryId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `inventory_id`, `product_id`, `warehouse_id`, `quantity_on_hand`, `quantity_reserved`, `quantity_on_order`, `reorder_point`, `reorder_quantity`, `bin_location`, `last_counted_at`, `updated_at` from `inventory` where `inventory_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(InventoryRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(inventoryIds: Array[InventoryId])(using c: Connection): Map[InventoryId, InventoryRow] = {
@@ -140,6 +141,8 @@ class InventoryRepoImpl extends InventoryRepo {
     where `inventory_id` = ${Fragment.encode(InventoryId.mariaType, inventoryId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[InventoryRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.productId, f.warehouseId, f.quantityOnHand, f.quantityReserved, f.quantityOnOrder, f.reorderPoint, f.reorderQuantity, f.binLocation, f.lastCountedAt, f.updatedAt))(using c)
+
   override def upsert(unsaved: InventoryRow)(using c: Connection): InventoryRow = {
   sql"""INSERT INTO `inventory`(`inventory_id`, `product_id`, `warehouse_id`, `quantity_on_hand`, `quantity_reserved`, `quantity_on_order`, `reorder_point`, `reorder_quantity`, `bin_location`, `last_counted_at`, `updated_at`)
     VALUES (${Fragment.encode(InventoryId.mariaType, unsaved.inventoryId)}, ${Fragment.encode(ProductsId.mariaType, unsaved.productId)}, ${Fragment.encode(WarehousesId.mariaType, unsaved.warehouseId)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.int_, unsaved.quantityOnHand)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.int_, unsaved.quantityReserved)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.int_, unsaved.quantityOnOrder)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.int_, unsaved.reorderPoint)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.int_, unsaved.reorderQuantity)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.binLocation)}, ${Fragment.encode(MariaTypes.datetime.nullable, unsaved.lastCountedAt)}, ${Fragment.encode(MariaTypes.datetime, unsaved.updatedAt)})
@@ -70,6 +70,15 @@ case class InventoryRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[InventoryRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.inventoryId)) {
+        map.put(row.inventoryId, row): @scala.annotation.nowarn
+        Some(row.inventoryId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: InventoryRow)(using c: Connection): InventoryRow = {
     map.put(unsaved.inventoryId, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -35,6 +35,8 @@ trait MariatestRepo {
 
   def update(row: MariatestRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[MariatestRow])(using c: Connection): Int
+
   def upsert(unsaved: MariatestRow)(using c: Connection): MariatestRow
 
   def upsertBatch(unsaved: Iterator[MariatestRow])(using c: Connection): List[MariatestRow]
@@ -5,6 +5,7 @@
  */
 package testdb.mariatest
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
@@ -23,9 +24,9 @@ class MariatestRepoImpl extends MariatestRepo {
   override def deleteById(intCol: MariatestId)(using c: Connection): Boolean = sql"delete from `mariatest` where `int_col` = ${Fragment.encode(MariatestId.mariaType, intCol)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(intCols: Array[MariatestId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    intCols.foreach { id => fragments.addOne(Fragment.encode(MariatestId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `mariatest` where `int_col` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    intCols.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(MariatestId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `mariatest` where `int_col` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: MariatestRow)(using c: Connection): MariatestRow = {
@@ -149,9 +150,9 @@ class MariatestRepoImpl extends MariatestRepo {
   }
 
   override def selectByIds(intCols: Array[MariatestId])(using c: Connection): List[MariatestRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    intCols.foreach { id => fragments.addOne(Fragment.encode(MariatestId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `tinyint_col`, `smallint_col`, `mediumint_col`, `int_col`, `bigint_col`, `tinyint_u_col`, `smallint_u_col`, `mediumint_u_col`, `int_u_col`, `bigint_u_col`, `decimal_col`, `numeric_col`, `float_col`, `double_col`, `bool_col`, `bit_col`, `bit1_col`, `char_col`, `varchar_col`, `tinytext_col`, `text_col`, `mediumtext_col`, `longtext_col`, `binary_col`, `varbinary_col`, `tinyblob_col`, `blob_col`, `mediumblob_col`, `longblob_col`, `date_col`, `time_col`, `time_fsp_col`, `datetime_col`, `datetime_fsp_col`, `timestamp_col`, `timestamp_fsp_col`, `year_col`, `set_col`, `json_col`, `inet4_col`, `inet6_col` from `mariatest` where `int_col` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(MariatestRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[MariatestRow] = ListBuffer()
+    intCols.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(MariatestId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `tinyint_col`, `smallint_col`, `mediumint_col`, `int_col`, `bigint_col`, `tinyint_u_col`, `smallint_u_col`, `mediumint_u_col`, `int_u_col`, `bigint_u_col`, `decimal_col`, `numeric_col`, `float_col`, `double_col`, `bool_col`, `bit_col`, `bit1_col`, `char_col`, `varchar_col`, `tinytext_col`, `text_col`, `mediumtext_col`, `longtext_col`, `binary_col`, `varbinary_col`, `tinyblob_col`, `blob_col`, `mediumblob_col`, `longblob_col`, `date_col`, `time_col`, `time_fsp_col`, `datetime_col`, `datetime_fsp_col`, `timestamp_col`, `timestamp_fsp_col`, `year_col`, `set_col`, `json_col`, `inet4_col`, `inet6_col` from `mariatest` where `int_col` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(MariatestRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(intCols: Array[MariatestId])(using c: Connection): Map[MariatestId, MariatestRow] = {
@@ -208,6 +209,8 @@ class MariatestRepoImpl extends MariatestRepo {
     where `int_col` = ${Fragment.encode(MariatestId.mariaType, intCol)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[MariatestRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.tinyintCol, f.smallintCol, f.mediumintCol, f.bigintCol, f.tinyintUCol, f.smallintUCol, f.mediumintUCol, f.intUCol, f.bigintUCol, f.decimalCol, f.numericCol, f.floatCol, f.doubleCol, f.boolCol, f.bitCol, f.bit1Col, f.charCol, f.varcharCol, f.tinytextCol, f.textCol, f.mediumtextCol, f.longtextCol, f.binaryCol, f.varbinaryCol, f.tinyblobCol, f.blobCol, f.mediumblobCol, f.longblobCol, f.dateCol, f.timeCol, f.timeFspCol, f.datetimeCol, f.datetimeFspCol, f.timestampCol, f.timestampFspCol, f.yearCol, f.setCol, f.jsonCol, f.inet4Col, f.inet6Col))(using c)
+
   override def upsert(unsaved: MariatestRow)(using c: Connection): MariatestRow = {
   sql"""INSERT INTO `mariatest`(`tinyint_col`, `smallint_col`, `mediumint_col`, `int_col`, `bigint_col`, `tinyint_u_col`, `smallint_u_col`, `mediumint_u_col`, `int_u_col`, `bigint_u_col`, `decimal_col`, `numeric_col`, `float_col`, `double_col`, `bool_col`, `bit_col`, `bit1_col`, `char_col`, `varchar_col`, `tinytext_col`, `text_col`, `mediumtext_col`, `longtext_col`, `binary_col`, `varbinary_col`, `tinyblob_col`, `blob_col`, `mediumblob_col`, `longblob_col`, `date_col`, `time_col`, `time_fsp_col`, `datetime_col`, `datetime_fsp_col`, `timestamp_col`, `timestamp_fsp_col`, `year_col`, `set_col`, `json_col`, `inet4_col`, `inet6_col`)
     VALUES (${Fragment.encode(ScalaDbTypes.MariaTypes.tinyint, unsaved.tinyintCol)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.smallint, unsaved.smallintCol)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.mediumint, unsaved.mediumintCol)}, ${Fragment.encode(MariatestId.mariaType, unsaved.intCol)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.bigint, unsaved.bigintCol)}, ${Fragment.encode(MariaTypes.tinyintUnsigned, unsaved.tinyintUCol)}, ${Fragment.encode(MariaTypes.smallintUnsigned, unsaved.smallintUCol)}, ${Fragment.encode(MariaTypes.mediumintUnsigned, unsaved.mediumintUCol)}, ${Fragment.encode(MariaTypes.intUnsigned, unsaved.intUCol)}, ${Fragment.encode(MariaTypes.bigintUnsigned, unsaved.bigintUCol)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.numeric, unsaved.decimalCol)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.numeric, unsaved.numericCol)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.float_, unsaved.floatCol)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.double_, unsaved.doubleCol)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.bool, unsaved.boolCol)}, ${Fragment.encode(MariaTypes.bit, unsaved.bitCol)}, ${Fragment.encode(MariaTypes.bit, unsaved.bit1Col)}, ${Fragment.encode(MariaTypes.char_, unsaved.charCol)}, ${Fragment.encode(MariaTypes.varchar, unsaved.varcharCol)}, ${Fragment.encode(MariaTypes.tinytext, unsaved.tinytextCol)}, ${Fragment.encode(MariaTypes.text, unsaved.textCol)}, ${Fragment.encode(MariaTypes.mediumtext, unsaved.mediumtextCol)}, ${Fragment.encode(MariaTypes.longtext, unsaved.longtextCol)}, ${Fragment.encode(MariaTypes.binary, unsaved.binaryCol)}, ${Fragment.encode(MariaTypes.varbinary, unsaved.varbinaryCol)}, ${Fragment.encode(MariaTypes.tinyblob, unsaved.tinyblobCol)}, ${Fragment.encode(MariaTypes.blob, unsaved.blobCol)}, ${Fragment.encode(MariaTypes.mediumblob, unsaved.mediumblobCol)}, ${Fragment.encode(MariaTypes.longblob, unsaved.longblobCol)}, ${Fragment.encode(MariaTypes.date, unsaved.dateCol)}, ${Fragment.encode(MariaTypes.time, unsaved.timeCol)}, ${Fragment.encode(MariaTypes.time, unsaved.timeFspCol)}, ${Fragment.encode(MariaTypes.datetime, unsaved.datetimeCol)}, ${Fragment.encode(MariaTypes.datetime, unsaved.datetimeFspCol)}, ${Fragment.encode(MariaTypes.timestamp, unsaved.timestampCol)}, ${Fragment.encode(MariaTypes.timestamp, unsaved.timestampFspCol)}, ${Fragment.encode(MariaTypes.year, unsaved.yearCol)}, ${Fragment.encode(XYZSet.mariaType, unsaved.setCol)}, ${Fragment.encode(MariaTypes.json, unsaved.jsonCol)}, ${Fragment.encode(MariaTypes.inet4, unsaved.inet4Col)}, ${Fragment.encode(MariaTypes.inet6, unsaved.inet6Col)})
@@ -63,6 +63,15 @@ case class MariatestRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[MariatestRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.intCol)) {
+        map.put(row.intCol, row): @scala.annotation.nowarn
+        Some(row.intCol)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: MariatestRow)(using c: Connection): MariatestRow = {
     map.put(unsaved.intCol, unsaved): @scala.annotation.nowarn
     return unsaved
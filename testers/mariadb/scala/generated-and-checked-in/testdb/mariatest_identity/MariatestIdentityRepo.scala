@@ -35,6 +35,8 @@ trait MariatestIdentityRepo {
 
   def update(row: MariatestIdentityRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[MariatestIdentityRow])(using c: Connection): Int
+
   def upsert(unsaved: MariatestIdentityRow)(using c: Connection): MariatestIdentityRow
 
   def upsertBatch(unsaved: Iterator[MariatestIdentityRow])(using c: Connection): List[MariatestIdentityRow]
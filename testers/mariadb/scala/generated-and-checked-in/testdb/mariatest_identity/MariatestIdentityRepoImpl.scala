@@ -5,6 +5,7 @@
  */
 package testdb.mariatest_identity
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
@@ -21,9 +22,9 @@ class MariatestIdentityRepoImpl extends MariatestIdentityRepo {
   override def deleteById(id: MariatestIdentityId)(using c: Connection): Boolean = sql"delete from `mariatest_identity` where `id` = ${Fragment.encode(MariatestIdentityId.mariaType, id)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[MariatestIdentityId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(MariatestIdentityId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `mariatest_identity` where `id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(MariatestIdentityId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `mariatest_identity` where `id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: MariatestIdentityRow)(using c: Connection): MariatestIdentityRow = {
@@ -63,9 +64,9 @@ class MariatestIdentityRepoImpl extends MariatestIdentityRepo {
   }
 
   override def selectByIds(ids: Array[MariatestIdentityId])(using c: Connection): List[MariatestIdentityRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(MariatestIdentityId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `id`, `name` from `mariatest_identity` where `id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(MariatestIdentityRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[MariatestIdentityRow] = ListBuffer()
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(MariatestIdentityId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `id`, `name` from `mariatest_identity` where `id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(MariatestIdentityRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[MariatestIdentityId])(using c: Connection): Map[MariatestIdentityId, MariatestIdentityRow] = {
@@ -83,6 +84,8 @@ class MariatestIdentityRepoImpl extends MariatestIdentityRepo {
     where `id` = ${Fragment.encode(MariatestIdentityId.mariaType, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[MariatestIdentityRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name))(using c)
+
   override def upsert(unsaved: MariatestIdentityRow)(using c: Connection): MariatestIdentityRow = {
   sql"""INSERT INTO `mariatest_identity`(`id`, `name`)
     VALUES (${Fragment.encode(MariatestIdentityId.mariaType, unsaved.id)}, ${Fragment.encode(MariaTypes.varchar, unsaved.name)})
@@ -63,6 +63,15 @@ case class MariatestIdentityRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[MariatestIdentityRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.id)) {
+        map.put(row.id, row): @scala.annotation.nowarn
+        Some(row.id)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: MariatestIdentityRow)(using c: Connection): MariatestIdentityRow = {
     map.put(unsaved.id, unsaved): @scala.annotation.nowarn
     return unsaved
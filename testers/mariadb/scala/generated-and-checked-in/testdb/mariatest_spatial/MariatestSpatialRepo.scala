@@ -35,6 +35,8 @@ trait MariatestSpatialRepo {
 
   def update(row: MariatestSpatialRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[MariatestSpatialRow])(using c: Connection): Int
+
   def upsert(unsaved: MariatestSpatialRow)(using c: Connection): MariatestSpatialRow
 
   def upsertBatch(unsaved: Iterator[MariatestSpatialRow])(using c: Connection): List[MariatestSpatialRow]
@@ -63,6 +63,15 @@ case class MariatestSpatialRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[MariatestSpatialRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.id)) {
+        map.put(row.id, row): @scala.annotation.nowarn
+        Some(row.id)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: MariatestSpatialRow)(using c: Connection): MariatestSpatialRow = {
     map.put(unsaved.id, unsaved): @scala.annotation.nowarn
     return unsaved
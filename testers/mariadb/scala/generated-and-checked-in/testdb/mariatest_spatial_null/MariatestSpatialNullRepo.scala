@@ -35,6 +35,8 @@ trait MariatestSpatialNullRepo {
 
   def update(row: MariatestSpatialNullRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[MariatestSpatialNullRow])(using c: Connection): Int
+
   def upsert(unsaved: MariatestSpatialNullRow)(using c: Connection): MariatestSpatialNullRow
 
   def upsertBatch(unsaved: Iterator[MariatestSpatialNullRow])(using c: Connection): List[MariatestSpatialNullRow]
@@ -63,6 +63,15 @@ case class MariatestSpatialNullRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[MariatestSpatialNullRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.id)) {
+        map.put(row.id, row): @scala.annotation.nowarn
+        Some(row.id)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: MariatestSpatialNullRow)(using c: Connection): MariatestSpatialNullRow = {
     map.put(unsaved.id, unsaved): @scala.annotation.nowarn
     return unsaved
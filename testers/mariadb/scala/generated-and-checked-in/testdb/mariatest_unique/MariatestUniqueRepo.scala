@@ -43,6 +43,8 @@ trait MariatestUniqueRepo {
 
   def update(row: MariatestUniqueRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[MariatestUniqueRow])(using c: Connection): Int
+
   def upsert(unsaved: MariatestUniqueRow)(using c: Connection): MariatestUniqueRow
 
   def upsertBatch(unsaved: Iterator[MariatestUniqueRow])(using c: Connection): List[MariatestUniqueRow]
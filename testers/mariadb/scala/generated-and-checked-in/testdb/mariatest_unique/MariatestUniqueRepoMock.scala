@@ -71,6 +71,15 @@ case class MariatestUniqueRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[MariatestUniqueRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.id)) {
+        map.put(row.id, row): @scala.annotation.nowarn
+        Some(row.id)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: MariatestUniqueRow)(using c: Connection): MariatestUniqueRow = {
     map.put(unsaved.id, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -35,6 +35,8 @@ trait OrderHistoryRepo {
 
   def update(row: OrderHistoryRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[OrderHistoryRow])(using c: Connection): Int
+
   def upsert(unsaved: OrderHistoryRow)(using c: Connection): OrderHistoryRow
 
   def upsertBatch(unsaved: Iterator[OrderHistoryRow])(using c: Connection): List[OrderHistoryRow]
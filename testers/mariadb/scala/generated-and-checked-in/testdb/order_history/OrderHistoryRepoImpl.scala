@@ -5,6 +5,7 @@
  */
 package testdb.order_history
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -23,9 +24,9 @@ class OrderHistoryRepoImpl extends OrderHistoryRepo {
   override def deleteById(historyId: OrderHistoryId)(using c: Connection): Boolean = sql"delete from `order_history` where `history_id` = ${Fragment.encode(OrderHistoryId.mariaType, historyId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(historyIds: Array[OrderHistoryId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    historyIds.foreach { id => fragments.addOne(Fragment.encode(OrderHistoryId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `order_history` where `history_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    historyIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(OrderHistoryId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `order_history` where `history_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: OrderHistoryRow)(using c: Connection): OrderHistoryRow = {
@@ -87,9 +88,9 @@ class OrderHistoryRepoImpl extends OrderHistoryRepo {
   }
 
   override def selectByIds(historyIds: Array[OrderHistoryId])(using c: Connection): List[OrderHistoryRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    historyIds.foreach { id => fragments.addOne(Fragment.encode(OrderHistoryId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `history_id`, `order_id`, `previous_status`, `new_status`, `changed_by`, `change_reason`, `metadata`, `created_at` from `order_history` where `history_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(OrderHistoryRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[OrderHistoryRow] = ListBuffer()
+    historyIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(OrderHistoryId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `history_id`, `order_id`, `previous_status`, `new_status`, `changed_by`, `change_reason`, `metadata`, `created_at` from `order_history` where `history_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(OrderHistoryRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(historyIds: Array[OrderHistoryId])(using c: Connection): Map[OrderHistoryId, OrderHistoryRow] = {
@@ -113,6 +114,8 @@ class OrderHistoryRepoImpl extends OrderHistoryRepo {
     where `history_id` = ${Fragment.encode(OrderHistoryId.mariaType, historyId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[OrderHistoryRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.orderId, f.previousStatus, f.newStatus, f.changedBy, f.changeReason, f.metadata, f.createdAt))(using c)
+
   override def upsert(unsaved: OrderHistoryRow)(using c: Connection): OrderHistoryRow = {
   sql"""INSERT INTO `order_history`(`history_id`, `order_id`, `previous_status`, `new_status`, `changed_by`, `change_reason`, `metadata`, `created_at`)
     VALUES (${Fragment.encode(OrderHistoryId.mariaType, unsaved.historyId)}, ${Fragment.encode(OrdersId.mariaType, unsaved.orderId)}, ${Fragment.encode(MariaTypes.text.nullable, unsaved.previousStatus)}, ${Fragment.encode(MariaTypes.text, unsaved.newStatus)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.changedBy)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.changeReason)}, ${Fragment.encode(MariaTypes.json.nullable, unsaved.metadata)}, ${Fragment.encode(MariaTypes.datetime, unsaved.createdAt)})
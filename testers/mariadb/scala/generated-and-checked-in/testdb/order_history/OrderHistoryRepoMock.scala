@@ -63,6 +63,15 @@ case class OrderHistoryRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[OrderHistoryRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.historyId)) {
+        map.put(row.historyId, row): @scala.annotation.nowarn
+        Some(row.historyId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: OrderHistoryRow)(using c: Connection): OrderHistoryRow = {
     map.put(unsaved.historyId, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -5,6 +5,7 @@
  */
 package testdb.orders
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -26,9 +27,9 @@ class OrdersRepoImpl extends OrdersRepo {
   override def deleteById(orderId: OrdersId)(using c: Connection): Boolean = sql"delete from `orders` where `order_id` = ${Fragment.encode(OrdersId.mariaType, orderId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(orderIds: Array[OrdersId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    orderIds.foreach { id => fragments.addOne(Fragment.encode(OrdersId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `orders` where `order_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    orderIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(OrdersId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `orders` where `order_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: OrdersRow)(using c: Connection): OrdersRow = {
@@ -142,9 +143,9 @@ class OrdersRepoImpl extends OrdersRepo {
   }
 
   override def selectByIds(orderIds: Array[OrdersId])(using c: Connection): List[OrdersRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    orderIds.foreach { id => fragments.addOne(Fragment.encode(OrdersId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `order_id`, `order_number`, `customer_id`, `order_status`, `payment_status`, `shipping_address_id`, `billing_address_id`, `subtotal`, `shipping_cost`, `tax_amount`, `discount_amount`, `total_amount`, `currency_code`, `promotion_id`, `notes`, `internal_notes`, `ip_address`, `user_agent`, `ordered_at`, `confirmed_at`, `shipped_at`, `delivered_at` from `orders` where `order_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(OrdersRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[OrdersRow] = ListBuffer()
+    orderIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(OrdersId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `order_id`, `order_number`, `customer_id`, `order_status`, `payment_status`, `shipping_address_id`, `billing_address_id`, `subtotal`, `shipping_cost`, `tax_amount`, `discount_amount`, `total_amount`, `currency_code`, `promotion_id`, `notes`, `internal_notes`, `ip_address`, `user_agent`, `ordered_at`, `confirmed_at`, `shipped_at`, `delivered_at` from `orders` where `order_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(OrdersRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(orderIds: Array[OrdersId])(using c: Connection): Map[OrdersId, OrdersRow] = {
@@ -189,6 +190,8 @@ class OrdersRepoImpl extends OrdersRepo {
     where `order_id` = ${Fragment.encode(OrdersId.mariaType, orderId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[OrdersRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.orderNumber, f.customerId, f.orderStatus, f.paymentStatus, f.shippingAddressId, f.billingAddressId, f.subtotal, f.shippingCost, f.taxAmount, f.discountAmount, f.totalAmount, f.currencyCode, f.promotionId, f.notes, f.internalNotes, f.ipAddress, f.userAgent, f.orderedAt, f.confirmedAt, f.shippedAt, f.deliveredAt))(using c)
+
   override def upsert(unsaved: OrdersRow)(using c: Connection): OrdersRow = {
   sql"""INSERT INTO `orders`(`order_id`, `order_number`, `customer_id`, `order_status`, `payment_status`, `shipping_address_id`, `billing_address_id`, `subtotal`, `shipping_cost`, `tax_amount`, `discount_amount`, `total_amount`, `currency_code`, `promotion_id`, `notes`, `internal_notes`, `ip_address`, `user_agent`, `ordered_at`, `confirmed_at`, `shipped_at`, `delivered_at`)
     VALUES (${Fragment.encode(OrdersId.mariaType, unsaved.orderId)}, ${Fragment.encode(MariaTypes.varchar, unsaved.orderNumber)}, ${Fragment.encode(CustomersId.mariaType, unsaved.customerId)}, ${Fragment.encode(MariaTypes.text, unsaved.orderStatus)}, ${Fragment.encode(MariaTypes.text, unsaved.paymentStatus)}, ${Fragment.encode(CustomerAddressesId.mariaType.nullable, unsaved.shippingAddressId)}, ${Fragment.encode(CustomerAddressesId.mariaType.nullable, unsaved.billingAddressId)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.numeric, unsaved.subtotal)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.numeric, unsaved.shippingCost)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.numeric, unsaved.taxAmount)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.numeric, unsaved.discountAmount)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.numeric, unsaved.totalAmount)}, ${Fragment.encode(MariaTypes.char_, unsaved.currencyCode)}, ${Fragment.encode(PromotionsId.mariaType.nullable, unsaved.promotionId)}, ${Fragment.encode(MariaTypes.text.nullable, unsaved.notes)}, ${Fragment.encode(MariaTypes.mediumtext.nullable, unsaved.internalNotes)}, ${Fragment.encode(MariaTypes.inet6.nullable, unsaved.ipAddress)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.userAgent)}, ${Fragment.encode(MariaTypes.datetime, unsaved.orderedAt)}, ${Fragment.encode(MariaTypes.datetime.nullable, unsaved.confirmedAt)}, ${Fragment.encode(MariaTypes.datetime.nullable, unsaved.shippedAt)}, ${Fragment.encode(MariaTypes.datetime.nullable, unsaved.deliveredAt)})
@@ -37,6 +37,8 @@ trait PaymentMethodsRepo {
 
   def update(row: PaymentMethodsRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[PaymentMethodsRow])(using c: Connection): Int
+
   def upsert(unsaved: PaymentMethodsRow)(using c: Connection): PaymentMethodsRow
 
   def upsertBatch(unsaved: Iterator[PaymentMethodsRow])(using c: Connection): List[PaymentMethodsRow]
@@ -5,6 +5,7 @@
  */
 package testdb.payment_methods
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -24,9 +25,9 @@ class PaymentMethodsRepoImpl extends PaymentMethodsRepo {
   override def deleteById(methodId: PaymentMethodsId)(using c: Connection): Boolean = sql"delete from `payment_methods` where `method_id` = ${Fragment.encode(PaymentMethodsId.mariaType, methodId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(methodIds: Array[PaymentMethodsId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    methodIds.foreach { id => fragments.addOne(Fragment.encode(PaymentMethodsId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `payment_methods` where `method_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    methodIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PaymentMethodsId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `payment_methods` where `method_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: PaymentMethodsRow)(using c: Connection): PaymentMethodsRow = {
@@ -82,9 +83,9 @@ class PaymentMethodsRepoImpl extends PaymentMethodsRepo {
   }
 
   override def selectByIds(methodIds: Array[PaymentMethodsId])(using c: Connection): List[PaymentMethodsRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    methodIds.foreach { id => fragments.addOne(Fragment.encode(PaymentMethodsId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `method_id`, `code`, `name`, `method_type`, `processor_config`, `is_active`, `sort_order` from `payment_methods` where `method_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PaymentMethodsRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[PaymentMethodsRow] = ListBuffer()
+    methodIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PaymentMethodsId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `method_id`, `code`, `name`, `method_type`, `processor_config`, `is_active`, `sort_order` from `payment_methods` where `method_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PaymentMethodsRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(methodIds: Array[PaymentMethodsId])(using c: Connection): Map[PaymentMethodsId, PaymentMethodsRow] = {
@@ -114,6 +115,8 @@ class PaymentMethodsRepoImpl extends PaymentMethodsRepo {
     where `method_id` = ${Fragment.encode(PaymentMethodsId.mariaType, methodId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[PaymentMethodsRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.code, f.name, f.methodType, f.processorConfig, f.isActive, f.sortOrder))(using c)
+
   override def upsert(unsaved: PaymentMethodsRow)(using c: Connection): PaymentMethodsRow = {
   sql"""INSERT INTO `payment_methods`(`method_id`, `code`, `name`, `method_type`, `processor_config`, `is_active`, `sort_order`)
     VALUES (${Fragment.encode(PaymentMethodsId.mariaType, unsaved.methodId)}, ${Fragment.encode(MariaTypes.varchar, unsaved.code)}, ${Fragment.encode(MariaTypes.varchar, unsaved.name)}, ${Fragment.encode(MariaTypes.text, unsaved.methodType)}, ${Fragment.encode(MariaTypes.json.nullable, unsaved.processorConfig)}, ${Fragment.encode(IsActive.mariaType, unsaved.isActive)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.tinyint, unsaved.sortOrder)})
@@ -65,6 +65,15 @@ case class PaymentMethodsRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[PaymentMethodsRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.methodId)) {
+        map.put(row.methodId, row): @scala.annotation.nowarn
+        Some(row.methodId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: PaymentMethodsRow)(using c: Connection): PaymentMethodsRow = {
     map.put(unsaved.methodId, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -35,6 +35,8 @@ trait PaymentsRepo {
 
   def update(row: PaymentsRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[PaymentsRow])(using c: Connection): Int
+
   def upsert(unsaved: PaymentsRow)(using c: Connection): PaymentsRow
 
   def upsertBatch(unsaved: Iterator[PaymentsRow])(using c: Connection): List[PaymentsRow]
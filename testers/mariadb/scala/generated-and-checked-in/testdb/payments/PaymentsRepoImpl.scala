@@ -5,6 +5,7 @@
  */
 package testdb.payments
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -25,9 +26,9 @@ class PaymentsRepoImpl extends PaymentsRepo {
   override def deleteById(paymentId: PaymentsId)(using c: Connection): Boolean = sql"delete from `payments` where `payment_id` = ${Fragment.encode(PaymentsId.mariaType, paymentId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(paymentIds: Array[PaymentsId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    paymentIds.foreach { id => fragments.addOne(Fragment.encode(PaymentsId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `payments` where `payment_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    paymentIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PaymentsId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `payments` where `payment_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: PaymentsRow)(using c: Connection): PaymentsRow = {
@@ -103,9 +104,9 @@ class PaymentsRepoImpl extends PaymentsRepo {
   }
 
   override def selectByIds(paymentIds: Array[PaymentsId])(using c: Connection): List[PaymentsRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    paymentIds.foreach { id => fragments.addOne(Fragment.encode(PaymentsId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `payment_id`, `order_id`, `method_id`, `transaction_id`, `amount`, `currency_code`, `status`, `processor_response`, `error_message`, `ip_address`, `created_at`, `processed_at` from `payments` where `payment_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PaymentsRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[PaymentsRow] = ListBuffer()
+    paymentIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PaymentsId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `payment_id`, `order_id`, `method_id`, `transaction_id`, `amount`, `currency_code`, `status`, `processor_response`, `error_message`, `ip_address`, `created_at`, `processed_at` from `payments` where `payment_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PaymentsRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(paymentIds: Array[PaymentsId])(using c: Connection): Map[PaymentsId, PaymentsRow] = {
@@ -133,6 +134,8 @@ class PaymentsRepoImpl extends PaymentsRepo {
     where `payment_id` = ${Fragment.encode(PaymentsId.mariaType, paymentId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[PaymentsRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.orderId, f.methodId, f.transactionId, f.amount, f.currencyCode, f.status, f.processorResponse, f.errorMessage, f.ipAddress, f.createdAt, f.processedAt))(using c)
+
   override def upsert(unsaved: PaymentsRow)(using c: Connection): PaymentsRow = {
   sql"""INSERT INTO `payments`(`payment_id`, `order_id`, `method_id`, `transaction_id`, `amount`, `currency_code`, `status`, `processor_response`, `error_message`, `ip_address`, `created_at`, `processed_at`)
     VALUES (${Fragment.encode(PaymentsId.mariaType, unsaved.paymentId)}, ${Fragment.encode(OrdersId.mariaType, unsaved.orderId)}, ${Fragment.encode(PaymentMethodsId.mariaType, unsaved.methodId)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.transactionId)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.numeric, unsaved.amount)}, ${Fragment.encode(MariaTypes.char_, unsaved.currencyCode)}, ${Fragment.encode(MariaTypes.text, unsaved.status)}, ${Fragment.encode(MariaTypes.json.nullable, unsaved.processorResponse)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.errorMessage)}, ${Fragment.encode(MariaTypes.inet6.nullable, unsaved.ipAddress)}, ${Fragment.encode(MariaTypes.datetime, unsaved.createdAt)}, ${Fragment.encode(MariaTypes.datetime.nullable, unsaved.processedAt)})
@@ -63,6 +63,15 @@ case class PaymentsRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[PaymentsRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.paymentId)) {
+        map.put(row.paymentId, row): @scala.annotation.nowarn
+        Some(row.paymentId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: PaymentsRow)(using c: Connection): PaymentsRow = {
     map.put(unsaved.paymentId, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -5,6 +5,7 @@
  */
 package testdb.precision_types
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
@@ -39,9 +40,9 @@ class PrecisionTypesRepoImpl extends PrecisionTypesRepo {
   override def deleteById(id: PrecisionTypesId)(using c: Connection): Boolean = sql"delete from `precision_types` where `id` = ${Fragment.encode(PrecisionTypesId.mariaType, id)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[PrecisionTypesId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `precision_types` where `id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `precision_types` where `id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: PrecisionTypesRow)(using c: Connection): PrecisionTypesRow = {
@@ -131,9 +132,9 @@ class PrecisionTypesRepoImpl extends PrecisionTypesRepo {
   }
 
   override def selectByIds(ids: Array[PrecisionTypesId])(using c: Connection): List[PrecisionTypesRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `id`, `string10`, `string20`, `string50`, `string100`, `string255`, `char10`, `decimal5_2`, `decimal10_2`, `decimal18_4`, `numeric8_2`, `numeric12_4`, `binary16`, `binary32`, `binary64`, `time0`, `time3`, `time6`, `datetime0`, `datetime3`, `datetime6`, `ts0`, `ts3`, `ts6` from `precision_types` where `id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PrecisionTypesRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[PrecisionTypesRow] = ListBuffer()
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `id`, `string10`, `string20`, `string50`, `string100`, `string255`, `char10`, `decimal5_2`, `decimal10_2`, `decimal18_4`, `numeric8_2`, `numeric12_4`, `binary16`, `binary32`, `binary64`, `time0`, `time3`, `time6`, `datetime0`, `datetime3`, `datetime6`, `ts0`, `ts3`, `ts6` from `precision_types` where `id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PrecisionTypesRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[PrecisionTypesId])(using c: Connection): Map[PrecisionTypesId, PrecisionTypesRow] = {
@@ -173,6 +174,8 @@ class PrecisionTypesRepoImpl extends PrecisionTypesRepo {
     where `id` = ${Fragment.encode(PrecisionTypesId.mariaType, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[PrecisionTypesRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.string10, f.string20, f.string50, f.string100, f.string255, f.char10, f.decimal52, f.decimal102, f.decimal184, f.numeric82, f.numeric124, f.binary16, f.binary32, f.binary64, f.time0, f.time3, f.time6, f.datetime0, f.datetime3, f.datetime6, f.ts0, f.ts3, f.ts6))(using c)
+
   override def upsert(unsaved: PrecisionTypesRow)(using c: Connection): PrecisionTypesRow = {
   sql"""INSERT INTO `precision_types`(`id`, `string10`, `string20`, `string50`, `string100`, `string255`, `char10`, `decimal5_2`, `decimal10_2`, `decimal18_4`, `numeric8_2`, `numeric12_4`, `binary16`, `binary32`, `binary64`, `time0`, `time3`, `time6`, `datetime0`, `datetime3`, `datetime6`, `ts0`, `ts3`, `ts6`)
     VALUES (${Fragment.encode(PrecisionTypesId.mariaType, unsaved.id)}, ${Fragment.encode(String10.mariaType, unsaved.string10)}, ${Fragment.encode(String20.mariaType, unsaved.string20)}, ${Fragment.encode(String50.mariaType, unsaved.string50)}, ${Fragment.encode(String100.mariaType, unsaved.string100)}, ${Fragment.encode(String255.mariaType, unsaved.string255)}, ${Fragment.encode(PaddedString10.mariaType, unsaved.char10)}, ${Fragment.encode(Decimal5_2.mariaType, unsaved.decimal52)}, ${Fragment.encode(Decimal10_2.mariaType, unsaved.decimal102)}, ${Fragment.encode(Decimal18_4.mariaType, unsaved.decimal184)}, ${Fragment.encode(Decimal8_2.mariaType, unsaved.numeric82)}, ${Fragment.encode(Decimal12_4.mariaType, unsaved.numeric124)}, ${Fragment.encode(Binary16.mariaType, unsaved.binary16)}, ${Fragment.encode(Binary32.mariaType, unsaved.binary32)}, ${Fragment.encode(Binary64.mariaType, unsaved.binary64)}, ${Fragment.encode(MariaTypes.time, unsaved.time0)}, ${Fragment.encode(LocalTime3.mariaType, unsaved.time3)}, ${Fragment.encode(LocalTime6.mariaType, unsaved.time6)}, ${Fragment.encode(MariaTypes.datetime, unsaved.datetime0)}, ${Fragment.encode(LocalDateTime3.mariaType, unsaved.datetime3)}, ${Fragment.encode(LocalDateTime6.mariaType, unsaved.datetime6)}, ${Fragment.encode(MariaTypes.timestamp, unsaved.ts0)}, ${Fragment.encode(LocalDateTime3.mariaType, unsaved.ts3)}, ${Fragment.encode(LocalDateTime6.mariaType, unsaved.ts6)})
@@ -5,6 +5,7 @@
  */
 package testdb.precision_types_null
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -40,9 +41,9 @@ class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
   override def deleteById(id: PrecisionTypesNullId)(using c: Connection): Boolean = sql"delete from `precision_types_null` where `id` = ${Fragment.encode(PrecisionTypesNullId.mariaType, id)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[PrecisionTypesNullId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesNullId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `precision_types_null` where `id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesNullId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `precision_types_null` where `id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: PrecisionTypesNullRow)(using c: Connection): PrecisionTypesNullRow = {
@@ -174,9 +175,9 @@ class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
   }
 
   override def selectByIds(ids: Array[PrecisionTypesNullId])(using c: Connection): List[PrecisionTypesNullRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesNullId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `id`, `string10`, `string20`, `string50`, `string100`, `string255`, `char10`, `decimal5_2`, `decimal10_2`, `decimal18_4`, `numeric8_2`, `numeric12_4`, `binary16`, `binary32`, `binary64`, `time0`, `time3`, `time6`, `datetime0`, `datetime3`, `datetime6`, `ts0`, `ts3`, `ts6` from `precision_types_null` where `id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PrecisionTypesNullRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[PrecisionTypesNullRow] = ListBuffer()
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesNullId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `id`, `string10`, `string20`, `string50`, `string100`, `string255`, `char10`, `decimal5_2`, `decimal10_2`, `decimal18_4`, `numeric8_2`, `numeric12_4`, `binary16`, `binary32`, `binary64`, `time0`, `time3`, `time6`, `datetime0`, `datetime3`, `datetime6`, `ts0`, `ts3`, `ts6` from `precision_types_null` where `id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PrecisionTypesNullRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[PrecisionTypesNullId])(using c: Connection): Map[PrecisionTypesNullId, PrecisionTypesNullRow] = {
@@ -216,6 +217,8 @@ class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
     where `id` = ${Fragment.encode(PrecisionTypesNullId.mariaType, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[PrecisionTypesNullRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.string10, f.string20, f.string50, f.string100, f.string255, f.char10, f.decimal52, f.decimal102, f.decimal184, f.numeric82, f.numeric124, f.binary16, f.binary32, f.binary64, f.time0, f.time3, f.time6, f.datetime0, f.datetime3, f.datetime6, f.ts0, f.ts3, f.ts6))(using c)
+
   override def upsert(unsaved: PrecisionTypesNullRow)(using c: Connection): PrecisionTypesNullRow = {
   sql"""INSERT INTO `precision_types_null`(`id`, `string10`, `string20`, `string50`, `string100`, `string255`, `char10`, `decimal5_2`, `decimal10_2`, `decimal18_4`, `numeric8_2`, `numeric12_4`, `binary16`, `binary32`, `binary64`, `time0`, `time3`, `time6`, `datetime0`, `datetime3`, `datetime6`, `ts0`, `ts3`, `ts6`)
     VALUES (${Fragment.encode(PrecisionTypesNullId.mariaType, unsaved.id)}, ${Fragment.encode(String10.mariaType.nullable, unsaved.string10)}, ${Fragment.encode(String20.mariaType.nullable, unsaved.string20)}, ${Fragment.encode(String50.mariaType.nullable, unsaved.string50)}, ${Fragment.encode(String100.mariaType.nullable, unsaved.string100)}, ${Fragment.encode(String255.mariaType.nullable, unsaved.string255)}, ${Fragment.encode(PaddedString10.mariaType.nullable, unsaved.char10)}, ${Fragment.encode(Decimal5_2.mariaType.nullable, unsaved.decimal52)}, ${Fragment.encode(Decimal10_2.mariaType.nullable, unsaved.decimal102)}, ${Fragment.encode(Decimal18_4.mariaType.nullable, unsaved.decimal184)}, ${Fragment.encode(Decimal8_2.mariaType.nullable, unsaved.numeric82)}, ${Fragment.encode(Decimal12_4.mariaType.nullable, unsaved.numeric124)}, ${Fragment.encode(Binary16.mariaType.nullable, unsaved.binary16)}, ${Fragment.encode(Binary32.mariaType.nullable, unsaved.binary32)}, ${Fragment.encode(Binary64.mariaType.nullable, unsaved.binary64)}, ${Fragment.encode(MariaTypes.time.nullable, unsaved.time0)}, ${Fragment.encode(LocalTime3.mariaType.nullable, unsaved.time3)}, ${Fragment.encode(LocalTime6.mariaType.nullable, unsaved.time6)}, ${Fragment.encode(MariaTypes.datetime.nullable, unsaved.datetime0)}, ${Fragment.encode(LocalDateTime3.mariaType.nullable, unsaved.datetime3)}, ${Fragment.encode(LocalDateTime6.mariaType.nullable, unsaved.datetime6)}, ${Fragment.encode(MariaTypes.timestamp.nullable, unsaved.ts0)}, ${Fragment.encode(LocalDateTime3.mariaType.nullable, unsaved.ts3)}, ${Fragment.encode(LocalDateTime6.mariaType.nullable, unsaved.ts6)})
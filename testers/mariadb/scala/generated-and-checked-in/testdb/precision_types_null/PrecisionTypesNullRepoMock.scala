@@ -63,6 +63,15 @@ case class PrecisionTypesNullRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[PrecisionTypesNullRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.id)) {
+        map.put(row.id, row): @scala.annotation.nowarn
+        Some(row.id)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: PrecisionTypesNullRow)(using c: Connection): PrecisionTypesNullRow = {
     map.put(unsaved.id, unsaved): @scala.annotation.nowarn
     return unsaved
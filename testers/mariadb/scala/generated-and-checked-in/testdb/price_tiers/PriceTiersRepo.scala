@@ -35,6 +35,8 @@ trait PriceTiersRepo {
 
   def update(row: PriceTiersRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[PriceTiersRow])(using c: Connection): Int
+
   def upsert(unsaved: PriceTiersRow)(using c: Connection): PriceTiersRow
 
   def upsertBatch(unsaved: Iterator[PriceTiersRow])(using c: Connection): List[PriceTiersRow]
@@ -5,6 +5,7 @@
  */
 package testdb.price_tiers
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
@@ -22,9 +23,9 @@ class PriceTiersRepoImpl extends PriceTiersRepo {
   override def deleteById(tierId: PriceTiersId)(using c: Connection): Boolean = sql"delete from `price_tiers` where `tier_id` = ${Fragment.encode(PriceTiersId.mariaType, tierId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(tierIds: Array[PriceTiersId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    tierIds.foreach { id => fragments.addOne(Fragment.encode(PriceTiersId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `price_tiers` where `tier_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    tierIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PriceTiersId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `price_tiers` where `tier_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: PriceTiersRow)(using c: Connection): PriceTiersRow = {
@@ -72,9 +73,9 @@ class PriceTiersRepoImpl extends PriceTiersRepo {
   }
 
   override def selectByIds(tierIds: Array[PriceTiersId])(using c: Connection): List[PriceTiersRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    tierIds.foreach { id => fragments.addOne(Fragment.encode(PriceTiersId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `tier_id`, `name`, `min_quantity`, `discount_type`, `discount_value` from `price_tiers` where `tier_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PriceTiersRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[PriceTiersRow] = ListBuffer()
+    tierIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PriceTiersId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `tier_id`, `name`, `min_quantity`, `discount_type`, `discount_value` from `price_tiers` where `tier_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PriceTiersRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(tierIds: Array[PriceTiersId])(using c: Connection): Map[PriceTiersId, PriceTiersRow] = {
@@ -95,6 +96,8 @@ class PriceTiersRepoImpl extends PriceTiersRepo {
     where `tier_id` = ${Fragment.encode(PriceTiersId.mariaType, tierId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[PriceTiersRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.minQuantity, f.discountType, f.discountValue))(using c)
+
   override def upsert(unsaved: PriceTiersRow)(using c: Connection): PriceTiersRow = {
   sql"""INSERT INTO `price_tiers`(`tier_id`, `name`, `min_quantity`, `discount_type`, `discount_value`)
     VALUES (${Fragment.encode(PriceTiersId.mariaType, unsaved.tierId)}, ${Fragment.encode(MariaTypes.varchar, unsaved.name)}, ${Fragment.encode(MariaTypes.intUnsigned, unsaved.minQuantity)}, ${Fragment.encode(MariaTypes.text, unsaved.discountType)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.numeric, unsaved.discountValue)})
@@ -63,6 +63,15 @@ case class PriceTiersRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[PriceTiersRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.tierId)) {
+        map.put(row.tierId, row): @scala.annotation.nowarn
+        Some(row.tierId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: PriceTiersRow)(using c: Connection): PriceTiersRow = {
     map.put(unsaved.tierId, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -35,6 +35,8 @@ trait ProductCategoriesRepo {
 
   def update(row: ProductCategoriesRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[ProductCategoriesRow])(using c: Connection): Int
+
   def upsert(unsaved: ProductCategoriesRow)(using c: Connection): ProductCategoriesRow
 
   def upsertBatch(unsaved: Iterator[ProductCategoriesRow])(using c: Connection): List[ProductCategoriesRow]
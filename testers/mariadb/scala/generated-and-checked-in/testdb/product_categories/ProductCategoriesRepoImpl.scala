@@ -5,6 +5,7 @@
  */
 package testdb.product_categories
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
 import dev.typr.foundations.scala.Fragment
@@ -24,9 +25,9 @@ class ProductCategoriesRepoImpl extends ProductCategoriesRepo {
   override def deleteById(compositeId: ProductCategoriesId)(using c: Connection): Boolean = sql"delete from `product_categories` where `product_id` = ${Fragment.encode(ProductsId.mariaType, compositeId.productId)} AND `category_id` = ${Fragment.encode(CategoriesId.mariaType, compositeId.categoryId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(compositeIds: Array[ProductCategoriesId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    compositeIds.foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(ProductsId.mariaType, id.productId), Fragment.lit(", "), Fragment.encode(CategoriesId.mariaType, id.categoryId), Fragment.lit(")"))): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `product_categories` where (`product_id`, `category_id`) in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    compositeIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(ProductsId.mariaType, id.productId), Fragment.lit(", "), Fragment.encode(CategoriesId.mariaType, id.categoryId), Fragment.lit(")"))): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `product_categories` where (`product_id`, `category_id`) in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: ProductCategoriesRow)(using c: Connection): ProductCategoriesRow = {
@@ -76,9 +77,9 @@ class ProductCategoriesRepoImpl extends ProductCategoriesRepo {
   }
 
   override def selectByIds(compositeIds: Array[ProductCategoriesId])(using c: Connection): List[ProductCategoriesRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    compositeIds.foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(ProductsId.mariaType, id.productId), Fragment.lit(", "), Fragment.encode(CategoriesId.mariaType, id.categoryId), Fragment.lit(")"))): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `product_id`, `category_id`, `is_primary`, `sort_order` from `product_categories` where (`product_id`, `category_id`) in ("), Fragment.comma(fragments), Fragment.lit(")")).query(ProductCategoriesRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[ProductCategoriesRow] = ListBuffer()
+    compositeIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(ProductsId.mariaType, id.productId), Fragment.lit(", "), Fragment.encode(CategoriesId.mariaType, id.categoryId), Fragment.lit(")"))): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `product_id`, `category_id`, `is_primary`, `sort_order` from `product_categories` where (`product_id`, `category_id`) in ("), Fragment.comma(fragments), Fragment.lit(")")).query(ProductCategoriesRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(compositeIds: Array[ProductCategoriesId])(using c: Connection): Map[ProductCategoriesId, ProductCategoriesRow] = {
@@ -97,6 +98,8 @@ class ProductCategoriesRepoImpl extends ProductCategoriesRepo {
     where `product_id` = ${Fragment.encode(ProductsId.mariaType, compositeId.productId)} AND `category_id` = ${Fragment.encode(CategoriesId.mariaType, compositeId.categoryId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[ProductCategoriesRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.isPrimary, f.sortOrder))(using c)
+
   override def upsert(unsaved: ProductCategoriesRow)(using c: Connection): ProductCategoriesRow = {
   sql"""INSERT INTO `product_categories`(`product_id`, `category_id`, `is_primary`, `sort_order`)
     VALUES (${Fragment.encode(ProductsId.mariaType, unsaved.productId)}, ${Fragment.encode(CategoriesId.mariaType, unsaved.categoryId)}, ${Fragment.encode(IsPrimary.mariaType, unsaved.isPrimary)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.smallint, unsaved.sortOrder)})
@@ -35,6 +35,8 @@ trait ProductImagesRepo {
 
   def update(row: ProductImagesRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[ProductImagesRow])(using c: Connection): Int
+
   def upsert(unsaved: ProductImagesRow)(using c: Connection): ProductImagesRow
 
   def upsertBatch(unsaved: Iterator[ProductImagesRow])(using c: Connection): List[ProductImagesRow]
@@ -5,6 +5,7 @@
  */
 package testdb.product_images
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -24,9 +25,9 @@ class ProductImagesRepoImpl extends ProductImagesRepo {
   override def deleteById(imageId: ProductImagesId)(using c: Connection): Boolean = sql"delete from `product_images` where `image_id` = ${Fragment.encode(ProductImagesId.mariaType, imageId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(imageIds: Array[ProductImagesId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    imageIds.foreach { id => fragments.addOne(Fragment.encode(ProductImagesId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `product_images` where `image_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    imageIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(ProductImagesId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `product_images` where `image_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: ProductImagesRow)(using c: Connection): ProductImagesRow = {
@@ -88,9 +89,9 @@ class ProductImagesRepoImpl extends ProductImagesRepo {
   }
 
   override def selectByIds(imageIds: Array[ProductImagesId])(using c: Connection): List[ProductImagesRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    imageIds.foreach { id => fragments.addOne(Fragment.encode(ProductImagesId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `image_id`, `product_id`, `image_url`, `thumbnail_url`, `alt_text`, `sort_order`, `is_primary`, `image_data` from `product_images` where `image_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(ProductImagesRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[ProductImagesRow] = ListBuffer()
+    imageIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(ProductImagesId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `image_id`, `product_id`, `image_url`, `thumbnail_url`, `alt_text`, `sort_order`, `is_primary`, `image_data` from `product_images` where `image_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(ProductImagesRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(imageIds: Array[ProductImagesId])(using c: Connection): Map[ProductImagesId, ProductImagesRow] = {
@@ -114,6 +115,8 @@ class ProductImagesRepoImpl extends ProductImagesRepo {
     where `image_id` = ${Fragment.encode(ProductImagesId.mariaType, imageId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[ProductImagesRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.productId, f.imageUrl, f.thumbnailUrl, f.altText, f.sortOrder, f.isPrimary, f.imageData))(using c)
+
   override def upsert(unsaved: ProductImagesRow)(using c: Connection): ProductImagesRow = {
   sql"""INSERT INTO `product_images`(`image_id`, `product_id`, `image_url`, `thumbnail_url`, `alt_text`, `sort_order`, `is_primary`, `image_data`)
     VALUES (${Fragment.encode(ProductImagesId.mariaType, unsaved.imageId)}, ${Fragment.encode(ProductsId.mariaType, unsaved.productId)}, ${Fragment.encode(MariaTypes.varchar, unsaved.imageUrl)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.thumbnailUrl)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.altText)}, ${Fragment.encode(MariaTypes.tinyintUnsigned, unsaved.sortOrder)}, ${Fragment.encode(IsPrimary.mariaType, unsaved.isPrimary)}, ${Fragment.encode(MariaTypes.longblob.nullable, unsaved.imageData)})
@@ -63,6 +63,15 @@ case class ProductImagesRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[ProductImagesRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.imageId)) {
+        map.put(row.imageId, row): @scala.annotation.nowarn
+        Some(row.imageId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: ProductImagesRow)(using c: Connection): ProductImagesRow = {
     map.put(unsaved.imageId, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -35,6 +35,8 @@ trait ProductPricesRepo {
 
   def update(row: ProductPricesRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[ProductPricesRow])(using c: Connection): Int
+
   def upsert(unsaved: ProductPricesRow)(using c: Connection): ProductPricesRow
 
   def upsertBatch(unsaved: Iterator[ProductPricesRow])(using c: Connection): List[ProductPricesRow]
@@ -5,6 +5,7 @@
  */
 package testdb.product_prices
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -25,9 +26,9 @@ class ProductPricesRepoImpl extends ProductPricesRepo {
   override def deleteById(priceId: ProductPricesId)(using c: Connection): Boolean = sql"delete from `product_prices` where `price_id` = ${Fragment.encode(ProductPricesId.mariaType, priceId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(priceIds: Array[ProductPricesId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    priceIds.foreach { id => fragments.addOne(Fragment.encode(ProductPricesId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `product_prices` where `price_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    priceIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(ProductPricesId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `product_prices` where `price_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: ProductPricesRow)(using c: Connection): ProductPricesRow = {
@@ -83,9 +84,9 @@ class ProductPricesRepoImpl extends ProductPricesRepo {
   }
 
   override def selectByIds(priceIds: Array[ProductPricesId])(using c: Connection): List[ProductPricesRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    priceIds.foreach { id => fragments.addOne(Fragment.encode(ProductPricesId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `price_id`, `product_id`, `tier_id`, `price`, `currency_code`, `valid_from`, `valid_to` from `product_prices` where `price_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(ProductPricesRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[ProductPricesRow] = ListBuffer()
+    priceIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(ProductPricesId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `price_id`, `product_id`, `tier_id`, `price`, `currency_code`, `valid_from`, `valid_to` from `product_prices` where `price_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(ProductPricesRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(priceIds: Array[ProductPricesId])(using c: Connection): Map[ProductPricesId, ProductPricesRow] = {
@@ -108,6 +109,8 @@ class ProductPricesRepoImpl extends ProductPricesRepo {
     where `price_id` = ${Fragment.encode(ProductPricesId.mariaType, priceId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[ProductPricesRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.productId, f.tierId, f.price, f.currencyCode, f.validFrom, f.validTo))(using c)
+
   override def upsert(unsaved: ProductPricesRow)(using c: Connection): ProductPricesRow = {
   sql"""INSERT INTO `product_prices`(`price_id`, `product_id`, `tier_id`, `price`, `currency_code`, `valid_from`, `valid_to`)
     VALUES (${Fragment.encode(ProductPricesId.mariaType, unsaved.priceId)}, ${Fragment.encode(ProductsId.mariaType, unsaved.productId)}, ${Fragment.encode(PriceTiersId.mariaType.nullable, unsaved.tierId)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.numeric, unsaved.price)}, ${Fragment.encode(MariaTypes.char_, unsaved.currencyCode)}, ${Fragment.encode(MariaTypes.date, unsaved.validFrom)}, ${Fragment.encode(MariaTypes.date.nullable, unsaved.validTo)})
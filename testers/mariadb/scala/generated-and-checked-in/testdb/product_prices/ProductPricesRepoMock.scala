@@ -63,6 +63,15 @@ case class ProductPricesRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[ProductPricesRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.priceId)) {
+        map.put(row.priceId, row): @scala.annotation.nowarn
+        Some(row.priceId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: ProductPricesRow)(using c: Connection): ProductPricesRow = {
     map.put(unsaved.priceId, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -37,6 +37,8 @@ trait PromotionsRepo {
 
   def update(row: PromotionsRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[PromotionsRow])(using c: Connection): Int
+
   def upsert(unsaved: PromotionsRow)(using c: Connection): PromotionsRow
 
   def upsertBatch(unsaved: Iterator[PromotionsRow])(using c: Connection): List[PromotionsRow]
@@ -5,6 +5,7 @@
  */
 package testdb.promotions
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -25,9 +26,9 @@ class PromotionsRepoImpl extends PromotionsRepo {
   override def deleteById(promotionId: PromotionsId)(using c: Connection): Boolean = sql"delete from `promotions` where `promotion_id` = ${Fragment.encode(PromotionsId.mariaType, promotionId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(promotionIds: Array[PromotionsId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    promotionIds.foreach { id => fragments.addOne(Fragment.encode(PromotionsId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `promotions` where `promotion_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    promotionIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PromotionsId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `promotions` where `promotion_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: PromotionsRow)(using c: Connection): PromotionsRow = {
@@ -113,9 +114,9 @@ class PromotionsRepoImpl extends PromotionsRepo {
   }
 
   override def selectByIds(promotionIds: Array[PromotionsId])(using c: Connection): List[PromotionsRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    promotionIds.foreach { id => fragments.addOne(Fragment.encode(PromotionsId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `promotion_id`, `code`, `name`, `description`, `discount_type`, `discount_value`, `min_order_amount`, `max_uses`, `uses_count`, `max_uses_per_customer`, `applicable_to`, `rules_json`, `valid_from`, `valid_to`, `is_active`, `created_at` from `promotions` where `promotion_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PromotionsRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[PromotionsRow] = ListBuffer()
+    promotionIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PromotionsId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `promotion_id`, `code`, `name`, `description`, `discount_type`, `discount_value`, `min_order_amount`, `max_uses`, `uses_count`, `max_uses_per_customer`, `applicable_to`, `rules_json`, `valid_from`, `valid_to`, `is_active`, `created_at` from `promotions` where `promotion_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PromotionsRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(promotionIds: Array[PromotionsId])(using c: Connection): Map[PromotionsId, PromotionsRow] = {
@@ -154,6 +155,8 @@ class PromotionsRepoImpl extends PromotionsRepo {
     where `promotion_id` = ${Fragment.encode(PromotionsId.mariaType, promotionId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[PromotionsRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.code, f.name, f.description, f.discountType, f.discountValue, f.minOrderAmount, f.maxUses, f.usesCount, f.maxUsesPerCustomer, f.applicableTo, f.rulesJson, f.validFrom, f.validTo, f.isActive, f.createdAt))(using c)
+
   override def upsert(unsaved: PromotionsRow)(using c: Connection): PromotionsRow = {
   sql"""INSERT INTO `promotions`(`promotion_id`, `code`, `name`, `description`, `discount_type`, `discount_value`, `min_order_amount`, `max_uses`, `uses_count`, `max_uses_per_customer`, `applicable_to`, `rules_json`, `valid_from`, `valid_to`, `is_active`, `created_at`)
     VALUES (${Fragment.encode(PromotionsId.mariaType, unsaved.promotionId)}, ${Fragment.encode(MariaTypes.varchar, unsaved.code)}, ${Fragment.encode(MariaTypes.varchar, unsaved.name)}, ${Fragment.encode(MariaTypes.text.nullable, unsaved.description)}, ${Fragment.encode(MariaTypes.text, unsaved.discountType)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.numeric, unsaved.discountValue)}, ${Fragment.encode(ScalaDbTypes.MariaTypes.numeric.nullable, unsaved.minOrderAmount)}, ${Fragment.encode(MariaTypes.intUnsigned.nullable, unsaved.maxUses)}, ${Fragment.encode(MariaTypes.intUnsigned, unsaved.usesCount)}, ${Fragment.encode(MariaTypes.tinyintUnsigned.nullable, unsaved.maxUsesPerCustomer)}, ${Fragment.encode(AllBrandsCategoriesCSet.mariaType.nullable, unsaved.applicableTo)}, ${Fragment.encode(MariaTypes.json.nullable, unsaved.rulesJson)}, ${Fragment.encode(MariaTypes.datetime, unsaved.validFrom)}, ${Fragment.encode(MariaTypes.datetime, unsaved.validTo)}, ${Fragment.encode(IsActive.mariaType, unsaved.isActive)}, ${Fragment.encode(MariaTypes.datetime, unsaved.createdAt)})
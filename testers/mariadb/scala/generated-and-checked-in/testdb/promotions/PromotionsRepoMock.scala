@@ -65,6 +65,15 @@ case class PromotionsRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[PromotionsRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.promotionId)) {
+        map.put(row.promotionId, row): @scala.annotation.nowarn
+        Some(row.promotionId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: PromotionsRow)(using c: Connection): PromotionsRow = {
     map.put(unsaved.promotionId, unsaved): @scala.annotation.nowarn
     return unsaved
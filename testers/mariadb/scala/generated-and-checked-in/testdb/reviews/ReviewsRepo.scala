@@ -35,6 +35,8 @@ trait ReviewsRepo {
 
   def update(row: ReviewsRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[ReviewsRow])(using c: Connection): Int
+
   def upsert(unsaved: ReviewsRow)(using c: Connection): ReviewsRow
 
   def upsertBatch(unsaved: Iterator[ReviewsRow])(using c: Connection): List[ReviewsRow]
@@ -5,6 +5,7 @@
  */
 package testdb.reviews
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -27,9 +28,9 @@ class ReviewsRepoImpl extends ReviewsRepo {
   override def deleteById(reviewId: ReviewsId)(using c: Connection): Boolean = sql"delete from `reviews` where `review_id` = ${Fragment.encode(ReviewsId.mariaType, reviewId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(reviewIds: Array[ReviewsId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    reviewIds.foreach { id => fragments.addOne(Fragment.encode(ReviewsId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `reviews` where `review_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    reviewIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(ReviewsId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `reviews` where `review_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: ReviewsRow)(using c: Connection): ReviewsRow = {
@@ -129,9 +130,9 @@ class ReviewsRepoImpl extends ReviewsRepo {
   }
 
   override def selectByIds(reviewIds: Array[ReviewsId])(using c: Connection): List[ReviewsRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    reviewIds.foreach { id => fragments.addOne(Fragment.encode(ReviewsId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `review_id`, `product_id`, `customer_id`, `order_item_id`, `rating`, `title`, `content`, `pros`, `cons`, `images`, `is_verified_purchase`, `is_approved`, `helpful_votes`, `unhelpful_votes`, `admin_response`, `responded_at`, `created_at`, `updated_at` from `reviews` where `review_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(ReviewsRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[ReviewsRow] = ListBuffer()
+    reviewIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(ReviewsId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `review_id`, `product_id`, `customer_id`, `order_item_id`, `rating`, `title`, `content`, `pros`, `cons`, `images`, `is_verified_purchase`, `is_approved`, `helpful_votes`, `unhelpful_votes`, `admin_response`, `responded_at`, `created_at`, `updated_at` from `reviews` where `review_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(ReviewsRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(reviewIds: Array[ReviewsId])(using c: Connection): Map[ReviewsId, ReviewsRow] = {
@@ -165,6 +166,8 @@ class ReviewsRepoImpl extends ReviewsRepo {
     where `review_id` = ${Fragment.encode(ReviewsId.mariaType, reviewId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[ReviewsRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.productId, f.customerId, f.orderItemId, f.rating, f.title, f.content, f.pros, f.cons, f.images, f.isVerifiedPurchase, f.isApproved, f.helpfulVotes, f.unhelpfulVotes, f.adminResponse, f.respondedAt, f.createdAt, f.updatedAt))(using c)
+
   override def upsert(unsaved: ReviewsRow)(using c: Connection): ReviewsRow = {
   sql"""INSERT INTO `reviews`(`review_id`, `product_id`, `customer_id`, `order_item_id`, `rating`, `title`, `content`, `pros`, `cons`, `images`, `is_verified_purchase`, `is_approved`, `helpful_votes`, `unhelpful_votes`, `admin_response`, `responded_at`, `created_at`, `updated_at`)
     VALUES (${Fragment.encode(ReviewsId.mariaType, unsaved.reviewId)}, ${Fragment.encode(ProductsId.mariaType, unsaved.productId)}, ${Fragment.encode(CustomersId.mariaType, unsaved.customerId)}, ${Fragment.encode(OrderItemsId.mariaType.nullable, unsaved.orderItemId)}, ${Fragment.encode(MariaTypes.tinyintUnsigned, unsaved.rating)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.title)}, ${Fragment.encode(MariaTypes.text.nullable, unsaved.content)}, ${Fragment.encode(MariaTypes.json.nullable, unsaved.pros)}, ${Fragment.encode(MariaTypes.json.nullable, unsaved.cons)}, ${Fragment.encode(MariaTypes.json.nullable, unsaved.images)}, ${Fragment.encode(IsVerifiedPurchase.mariaType, unsaved.isVerifiedPurchase)}, ${Fragment.encode(IsApproved.mariaType, unsaved.isApproved)}, ${Fragment.encode(MariaTypes.intUnsigned, unsaved.helpfulVotes)}, ${Fragment.encode(MariaTypes.intUnsigned, unsaved.unhelpfulVotes)}, ${Fragment.encode(MariaTypes.text.nullable, unsaved.adminResponse)}, ${Fragment.encode(MariaTypes.datetime.nullable, unsaved.respondedAt)}, ${Fragment.encode(MariaTypes.datetime, unsaved.createdAt)}, ${Fragment.encode(MariaTypes.datetime, unsaved.updatedAt)})
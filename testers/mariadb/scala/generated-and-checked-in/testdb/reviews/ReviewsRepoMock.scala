@@ -63,6 +63,15 @@ case class ReviewsRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[ReviewsRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.reviewId)) {
+        map.put(row.reviewId, row): @scala.annotation.nowarn
+        Some(row.reviewId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: ReviewsRow)(using c: Connection): ReviewsRow = {
     map.put(unsaved.reviewId, unsaved): @scala.annotation.nowarn
     return unsaved
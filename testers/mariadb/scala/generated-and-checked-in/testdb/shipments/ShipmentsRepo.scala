@@ -35,6 +35,8 @@ trait ShipmentsRepo {
 
   def update(row: ShipmentsRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[ShipmentsRow])(using c: Connection): Int
+
   def upsert(unsaved: ShipmentsRow)(using c: Connection): ShipmentsRow
 
   def upsertBatch(unsaved: Iterator[ShipmentsRow])(using c: Connection): List[ShipmentsRow]
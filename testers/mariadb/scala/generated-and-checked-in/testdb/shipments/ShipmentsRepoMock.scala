@@ -63,6 +63,15 @@ case class ShipmentsRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[ShipmentsRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.shipmentId)) {
+        map.put(row.shipmentId, row): @scala.annotation.nowarn
+        Some(row.shipmentId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: ShipmentsRow)(using c: Connection): ShipmentsRow = {
     map.put(unsaved.shipmentId, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -37,6 +37,8 @@ trait ShippingCarriersRepo {
 
   def update(row: ShippingCarriersRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[ShippingCarriersRow])(using c: Connection): Int
+
   def upsert(unsaved: ShippingCarriersRow)(using c: Connection): ShippingCarriersRow
 
   def upsertBatch(unsaved: Iterator[ShippingCarriersRow])(using c: Connection): List[ShippingCarriersRow]
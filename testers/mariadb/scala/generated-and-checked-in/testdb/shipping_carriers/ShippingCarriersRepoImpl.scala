@@ -5,6 +5,7 @@
  */
 package testdb.shipping_carriers
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -23,9 +24,9 @@ class ShippingCarriersRepoImpl extends ShippingCarriersRepo {
   override def deleteById(carrierId: ShippingCarriersId)(using c: Connection): Boolean = sql"delete from `shipping_carriers` where `carrier_id` = ${Fragment.encode(ShippingCarriersId.mariaType, carrierId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(carrierIds: Array[ShippingCarriersId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    carrierIds.foreach { id => fragments.addOne(Fragment.encode(ShippingCarriersId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `shipping_carriers` where `carrier_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    carrierIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(ShippingCarriersId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `shipping_carriers` where `carrier_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: ShippingCarriersRow)(using c: Connection): ShippingCarriersRow = {
@@ -79,9 +80,9 @@ class ShippingCarriersRepoImpl extends ShippingCarriersRepo {
   }
 
   override def selectByIds(carrierIds: Array[ShippingCarriersId])(using c: Connection): List[ShippingCarriersRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    carrierIds.foreach { id => fragments.addOne(Fragment.encode(ShippingCarriersId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `carrier_id`, `code`, `name`, `tracking_url_template`, `api_config`, `is_active` from `shipping_carriers` where `carrier_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(ShippingCarriersRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[ShippingCarriersRow] = ListBuffer()
+    carrierIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(ShippingCarriersId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `carrier_id`, `code`, `name`, `tracking_url_template`, `api_config`, `is_active` from `shipping_carriers` where `carrier_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(ShippingCarriersRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(carrierIds: Array[ShippingCarriersId])(using c: Connection): Map[ShippingCarriersId, ShippingCarriersRow] = {
@@ -110,6 +111,8 @@ class ShippingCarriersRepoImpl extends ShippingCarriersRepo {
     where `carrier_id` = ${Fragment.encode(ShippingCarriersId.mariaType, carrierId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[ShippingCarriersRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.code, f.name, f.trackingUrlTemplate, f.apiConfig, f.isActive))(using c)
+
   override def upsert(unsaved: ShippingCarriersRow)(using c: Connection): ShippingCarriersRow = {
   sql"""INSERT INTO `shipping_carriers`(`carrier_id`, `code`, `name`, `tracking_url_template`, `api_config`, `is_active`)
     VALUES (${Fragment.encode(ShippingCarriersId.mariaType, unsaved.carrierId)}, ${Fragment.encode(MariaTypes.varchar, unsaved.code)}, ${Fragment.encode(MariaTypes.varchar, unsaved.name)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.trackingUrlTemplate)}, ${Fragment.encode(MariaTypes.json.nullable, unsaved.apiConfig)}, ${Fragment.encode(IsActive.mariaType, unsaved.isActive)})
@@ -65,6 +65,15 @@ case class ShippingCarriersRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[ShippingCarriersRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.carrierId)) {
+        map.put(row.carrierId, row): @scala.annotation.nowarn
+        Some(row.carrierId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: ShippingCarriersRow)(using c: Connection): ShippingCarriersRow = {
     map.put(unsaved.carrierId, unsaved): @scala.annotation.nowarn
     return unsaved
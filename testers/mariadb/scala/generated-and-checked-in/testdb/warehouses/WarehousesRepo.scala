@@ -37,6 +37,8 @@ trait WarehousesRepo {
 
   def update(row: WarehousesRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[WarehousesRow])(using c: Connection): Int
+
   def upsert(unsaved: WarehousesRow)(using c: Connection): WarehousesRow
 
   def upsertBatch(unsaved: Iterator[WarehousesRow])(using c: Connection): List[WarehousesRow]
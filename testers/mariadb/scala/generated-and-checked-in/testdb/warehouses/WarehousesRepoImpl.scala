@@ -5,6 +5,7 @@
  */
 package testdb.warehouses
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.MariaTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -24,9 +25,9 @@ class WarehousesRepoImpl extends WarehousesRepo {
   override def deleteById(warehouseId: WarehousesId)(using c: Connection): Boolean = sql"delete from `warehouses` where `warehouse_id` = ${Fragment.encode(WarehousesId.mariaType, warehouseId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(warehouseIds: Array[WarehousesId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    warehouseIds.foreach { id => fragments.addOne(Fragment.encode(WarehousesId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from `warehouses` where `warehouse_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    warehouseIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(WarehousesId.mariaType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from `warehouses` where `warehouse_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: WarehousesRow)(using c: Connection): WarehousesRow = {
@@ -92,9 +93,9 @@ class WarehousesRepoImpl extends WarehousesRepo {
   }
 
   override def selectByIds(warehouseIds: Array[WarehousesId])(using c: Connection): List[WarehousesRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    warehouseIds.foreach { id => fragments.addOne(Fragment.encode(WarehousesId.mariaType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select `warehouse_id`, `code`, `name`, `address`, `location`, `service_area`, `timezone`, `is_active`, `contact_email`, `contact_phone` from `warehouses` where `warehouse_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(WarehousesRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[WarehousesRow] = ListBuffer()
+    warehouseIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(WarehousesId.mariaType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select `warehouse_id`, `code`, `name`, `address`, `location`, `service_area`, `timezone`, `is_active`, `contact_email`, `contact_phone` from `warehouses` where `warehouse_id` in ("), Fragment.comma(fragments), Fragment.lit(")")).query(WarehousesRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(warehouseIds: Array[WarehousesId])(using c: Connection): Map[WarehousesId, WarehousesRow] = {
@@ -127,6 +128,8 @@ class WarehousesRepoImpl extends WarehousesRepo {
     where `warehouse_id` = ${Fragment.encode(WarehousesId.mariaType, warehouseId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[WarehousesRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.code, f.name, f.address, f.location, f.serviceArea, f.timezone, f.isActive, f.contactEmail, f.contactPhone))(using c)
+
   override def upsert(unsaved: WarehousesRow)(using c: Connection): WarehousesRow = {
   sql"""INSERT INTO `warehouses`(`warehouse_id`, `code`, `name`, `address`, `location`, `service_area`, `timezone`, `is_active`, `contact_email`, `contact_phone`)
     VALUES (${Fragment.encode(WarehousesId.mariaType, unsaved.warehouseId)}, ${Fragment.encode(MariaTypes.char_, unsaved.code)}, ${Fragment.encode(MariaTypes.varchar, unsaved.name)}, ${Fragment.encode(MariaTypes.varchar, unsaved.address)}, ${Fragment.encode(MariaTypes.point, unsaved.location)}, ${Fragment.encode(MariaTypes.polygon.nullable, unsaved.serviceArea)}, ${Fragment.encode(MariaTypes.varchar, unsaved.timezone)}, ${Fragment.encode(IsActive.mariaType, unsaved.isActive)}, ${Fragment.encode(Email.mariaType.nullable, unsaved.contactEmail)}, ${Fragment.encode(MariaTypes.varchar.nullable, unsaved.contactPhone)})
@@ -65,6 +65,15 @@ case class WarehousesRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[WarehousesRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.warehouseId)) {
+        map.put(row.warehouseId, row): @scala.annotation.nowarn
+        Some(row.warehouseId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: WarehousesRow)(using c: Connection): WarehousesRow = {
     map.put(unsaved.warehouseId, unsaved): @scala.annotation.nowarn
     return unsaved
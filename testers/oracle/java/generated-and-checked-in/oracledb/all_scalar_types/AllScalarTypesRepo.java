@@ -39,6 +39,8 @@ public interface AllScalarTypesRepo {
 
   Boolean update(AllScalarTypesRow row, Connection c);
 
+  Integer updateBatch(Iterator<AllScalarTypesRow> rows, Connection c);
+
   void upsert(AllScalarTypesRow unsaved, Connection c);
 
   void upsertBatch(Iterator<AllScalarTypesRow> unsaved, Connection c);
@@ -8,6 +8,7 @@ package oracledb.all_scalar_types;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.OracleTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -40,17 +41,21 @@ public class AllScalarTypesRepoImpl implements AllScalarTypesRepo {
 
   @Override
   public Integer deleteByIds(AllScalarTypesId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(AllScalarTypesId.oracleType, id));
+    var count = 0;
+    for (var chunk : InList.distinctChunks(ids, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit(
+                          "delete from \"ALL_SCALAR_TYPES\" where \"ID\" in (select column_value"
+                              + " from table(cast("),
+                      Fragment.encode(OracleTypes.numberList(AllScalarTypesId.oracleType), chunk),
+                      Fragment.lit(" as SYS.ODCINUMBERLIST)))"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"ALL_SCALAR_TYPES\" where \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -185,20 +190,22 @@ public class AllScalarTypesRepoImpl implements AllScalarTypesRepo {
 
   @Override
   public List<AllScalarTypesRow> selectByIds(AllScalarTypesId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(AllScalarTypesId.oracleType, id));
+    ArrayList<AllScalarTypesRow> result = new ArrayList<>();
+    for (var chunk : InList.distinctChunks(ids, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select \"ID\", \"COL_VARCHAR2\", \"COL_NUMBER\", \"COL_DATE\","
+                          + " \"COL_TIMESTAMP\", \"COL_CLOB\", \"COL_NOT_NULL\" from"
+                          + " \"ALL_SCALAR_TYPES\" where \"ID\" in (select column_value from"
+                          + " table(cast("),
+                  Fragment.encode(OracleTypes.numberList(AllScalarTypesId.oracleType), chunk),
+                  Fragment.lit(" as SYS.ODCINUMBERLIST)))"))
+              .query(AllScalarTypesRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"ID\", \"COL_VARCHAR2\", \"COL_NUMBER\", \"COL_DATE\", \"COL_TIMESTAMP\","
-                    + " \"COL_CLOB\", \"COL_NOT_NULL\" from \"ALL_SCALAR_TYPES\" where \"ID\" in"
-                    + " ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(AllScalarTypesRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -244,6 +251,22 @@ public class AllScalarTypesRepoImpl implements AllScalarTypesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<AllScalarTypesRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.colVarchar2(),
+                    f.colNumber(),
+                    f.colDate(),
+                    f.colTimestamp(),
+                    f.colClob(),
+                    f.colNotNull()),
+            c);
+  }
+
   @Override
   public void upsert(AllScalarTypesRow unsaved, Connection c) {
     interpolate(
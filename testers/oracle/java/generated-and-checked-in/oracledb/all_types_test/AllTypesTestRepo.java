@@ -39,6 +39,8 @@ public interface AllTypesTestRepo {
 
   Boolean update(AllTypesTestRow row, Connection c);
 
+  Integer updateBatch(Iterator<AllTypesTestRow> rows, Connection c);
+
   void upsert(AllTypesTestRow unsaved, Connection c);
 
   void upsertBatch(Iterator<AllTypesTestRow> unsaved, Connection c);
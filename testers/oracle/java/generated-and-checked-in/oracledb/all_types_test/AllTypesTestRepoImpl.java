@@ -8,6 +8,7 @@ package oracledb.all_types_test;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.OracleTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -42,17 +43,21 @@ public class AllTypesTestRepoImpl implements AllTypesTestRepo {
 
   @Override
   public Integer deleteByIds(AllTypesTestId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(AllTypesTestId.oracleType, id));
+    var count = 0;
+    for (var chunk : InList.distinctChunks(ids, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit(
+                          "delete from \"ALL_TYPES_TEST\" where \"ID\" in (select column_value from"
+                              + " table(cast("),
+                      Fragment.encode(OracleTypes.numberList(AllTypesTestId.oracleType), chunk),
+                      Fragment.lit(" as SYS.ODCINUMBERLIST)))"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"ALL_TYPES_TEST\" where \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -148,19 +153,20 @@ public class AllTypesTestRepoImpl implements AllTypesTestRepo {
 
   @Override
   public List<AllTypesTestRow> selectByIds(AllTypesTestId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(AllTypesTestId.oracleType, id));
+    ArrayList<AllTypesTestRow> result = new ArrayList<>();
+    for (var chunk : InList.distinctChunks(ids, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select \"ID\", \"NAME\", \"DATA\", \"DATA_ARRAY\" from \"ALL_TYPES_TEST\""
+                          + " where \"ID\" in (select column_value from table(cast("),
+                  Fragment.encode(OracleTypes.numberList(AllTypesTestId.oracleType), chunk),
+                  Fragment.lit(" as SYS.ODCINUMBERLIST)))"))
+              .query(AllTypesTestRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"ID\", \"NAME\", \"DATA\", \"DATA_ARRAY\" from \"ALL_TYPES_TEST\" where"
-                    + " \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(AllTypesTestRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -199,6 +205,11 @@ public class AllTypesTestRepoImpl implements AllTypesTestRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<AllTypesTestRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.name(), f.data(), f.dataArray()), c);
+  }
+
   @Override
   public void upsert(AllTypesTestRow unsaved, Connection c) {
     interpolate(
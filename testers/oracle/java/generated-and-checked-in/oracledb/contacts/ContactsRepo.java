@@ -39,6 +39,8 @@ public interface ContactsRepo {
 
   Boolean update(ContactsRow row, Connection c);
 
+  Integer updateBatch(Iterator<ContactsRow> rows, Connection c);
+
   void upsert(ContactsRow unsaved, Connection c);
 
   void upsertBatch(Iterator<ContactsRow> unsaved, Connection c);
@@ -8,6 +8,7 @@ package oracledb.contacts;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.OracleTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -42,17 +43,21 @@ public class ContactsRepoImpl implements ContactsRepo {
 
   @Override
   public Integer deleteByIds(ContactsId[] contactIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : contactIds) {
-      fragments.add(Fragment.encode(ContactsId.oracleType, id));
+    var count = 0;
+    for (var chunk : InList.distinctChunks(contactIds, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit(
+                          "delete from \"CONTACTS\" where \"CONTACT_ID\" in (select column_value"
+                              + " from table(cast("),
+                      Fragment.encode(OracleTypes.numberList(ContactsId.oracleType), chunk),
+                      Fragment.lit(" as SYS.ODCINUMBERLIST)))"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"CONTACTS\" where \"CONTACT_ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -143,19 +148,20 @@ public class ContactsRepoImpl implements ContactsRepo {
 
   @Override
   public List<ContactsRow> selectByIds(ContactsId[] contactIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : contactIds) {
-      fragments.add(Fragment.encode(ContactsId.oracleType, id));
+    ArrayList<ContactsRow> result = new ArrayList<>();
+    for (var chunk : InList.distinctChunks(contactIds, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select \"CONTACT_ID\", \"NAME\", \"EMAILS\", \"TAGS\" from \"CONTACTS\""
+                          + " where \"CONTACT_ID\" in (select column_value from table(cast("),
+                  Fragment.encode(OracleTypes.numberList(ContactsId.oracleType), chunk),
+                  Fragment.lit(" as SYS.ODCINUMBERLIST)))"))
+              .query(ContactsRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"CONTACT_ID\", \"NAME\", \"EMAILS\", \"TAGS\" from \"CONTACTS\" where"
-                    + " \"CONTACT_ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(ContactsRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -190,6 +196,11 @@ public class ContactsRepoImpl implements ContactsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ContactsRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.name(), f.emails(), f.tags()), c);
+  }
+
   @Override
   public void upsert(ContactsRow unsaved, Connection c) {
     interpolate(
@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -159,6 +160,23 @@ public record ContactsRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<ContactsRow> rows, Connection c) {
+    var updated = new HashSet<ContactsId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.contactId())) {
+        map.put(row.contactId(), row);
+        updated.add(row.contactId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public void upsert(ContactsRow unsaved, Connection c) {
     map.put(unsaved.contactId(), unsaved);
@@ -8,6 +8,7 @@ package oracledb.customers;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.OracleTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -42,17 +43,21 @@ public class CustomersRepoImpl implements CustomersRepo {
 
   @Override
   public Integer deleteByIds(CustomersId[] customerIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : customerIds) {
-      fragments.add(Fragment.encode(CustomersId.oracleType, id));
+    var count = 0;
+    for (var chunk : InList.distinctChunks(customerIds, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit(
+                          "delete from \"CUSTOMERS\" where \"CUSTOMER_ID\" in (select column_value"
+                              + " from table(cast("),
+                      Fragment.encode(OracleTypes.numberList(CustomersId.oracleType), chunk),
+                      Fragment.lit(" as SYS.ODCINUMBERLIST)))"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"CUSTOMERS\" where \"CUSTOMER_ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -160,19 +165,21 @@ public class CustomersRepoImpl implements CustomersRepo {
 
   @Override
   public List<CustomersRow> selectByIds(CustomersId[] customerIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : customerIds) {
-      fragments.add(Fragment.encode(CustomersId.oracleType, id));
+    ArrayList<CustomersRow> result = new ArrayList<>();
+    for (var chunk : InList.distinctChunks(customerIds, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select \"CUSTOMER_ID\", \"NAME\", \"BILLING_ADDRESS\", \"CREDIT_LIMIT\","
+                          + " \"CREATED_AT\" from \"CUSTOMERS\" where \"CUSTOMER_ID\" in (select"
+                          + " column_value from table(cast("),
+                  Fragment.encode(OracleTypes.numberList(CustomersId.oracleType), chunk),
+                  Fragment.lit(" as SYS.ODCINUMBERLIST)))"))
+              .query(CustomersRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"CUSTOMER_ID\", \"NAME\", \"BILLING_ADDRESS\", \"CREDIT_LIMIT\","
-                    + " \"CREATED_AT\" from \"CUSTOMERS\" where \"CUSTOMER_ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(CustomersRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -210,6 +217,13 @@ public class CustomersRepoImpl implements CustomersRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<CustomersRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows, f -> List.of(f.name(), f.billingAddress(), f.creditLimit(), f.createdAt()), c);
+  }
+
   @Override
   public void upsert(CustomersRow unsaved, Connection c) {
     interpolate(
@@ -37,6 +37,8 @@ public interface DepartmentsRepo {
 
   Boolean update(DepartmentsRow row, Connection c);
 
+  Integer updateBatch(Iterator<DepartmentsRow> rows, Connection c);
+
   void upsert(DepartmentsRow unsaved, Connection c);
 
   void upsertBatch(Iterator<DepartmentsRow> unsaved, Connection c);
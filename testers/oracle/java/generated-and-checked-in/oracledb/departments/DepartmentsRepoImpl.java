@@ -8,6 +8,7 @@ package oracledb.departments;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.OracleTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -43,23 +44,32 @@ public class DepartmentsRepoImpl implements DepartmentsRepo {
 
   @Override
   public Integer deleteByIds(DepartmentsId[] compositeIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : compositeIds) {
-      fragments.add(
-          Fragment.interpolate(
-              Fragment.lit("("),
-              Fragment.encode(OracleTypes.varchar2, id.deptCode()),
-              Fragment.lit(", "),
-              Fragment.encode(OracleTypes.varchar2, id.deptRegion()),
-              Fragment.lit(")")));
+    var count = 0;
+    for (var chunk : InList.chunks(compositeIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(
+            Fragment.interpolate(
+                Fragment.lit("("),
+                Fragment.encode(OracleTypes.varchar2, id.deptCode()),
+                Fragment.lit(", "),
+                Fragment.encode(OracleTypes.varchar2, id.deptRegion()),
+                Fragment.lit(")")));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit(
+                          "delete from \"DEPARTMENTS\" where (\"DEPT_CODE\", \"DEPT_REGION\") in"
+                              + " ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"DEPARTMENTS\" where (\"DEPT_CODE\", \"DEPT_REGION\") in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -115,25 +125,31 @@ public class DepartmentsRepoImpl implements DepartmentsRepo {
 
   @Override
   public List<DepartmentsRow> selectByIds(DepartmentsId[] compositeIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : compositeIds) {
-      fragments.add(
+    ArrayList<DepartmentsRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(compositeIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(
+            Fragment.interpolate(
+                Fragment.lit("("),
+                Fragment.encode(OracleTypes.varchar2, id.deptCode()),
+                Fragment.lit(", "),
+                Fragment.encode(OracleTypes.varchar2, id.deptRegion()),
+                Fragment.lit(")")));
+      }
+      ;
+      result.addAll(
           Fragment.interpolate(
-              Fragment.lit("("),
-              Fragment.encode(OracleTypes.varchar2, id.deptCode()),
-              Fragment.lit(", "),
-              Fragment.encode(OracleTypes.varchar2, id.deptRegion()),
-              Fragment.lit(")")));
+                  Fragment.lit(
+                      "select \"DEPT_CODE\", \"DEPT_REGION\", \"DEPT_NAME\", \"BUDGET\" from"
+                          + " \"DEPARTMENTS\" where (\"DEPT_CODE\", \"DEPT_REGION\") in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(DepartmentsRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"DEPT_CODE\", \"DEPT_REGION\", \"DEPT_NAME\", \"BUDGET\" from"
-                    + " \"DEPARTMENTS\" where (\"DEPT_CODE\", \"DEPT_REGION\") in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(DepartmentsRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -169,6 +185,11 @@ public class DepartmentsRepoImpl implements DepartmentsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<DepartmentsRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.deptName(), f.budget()), c);
+  }
+
   @Override
   public void upsert(DepartmentsRow unsaved, Connection c) {
     interpolate(
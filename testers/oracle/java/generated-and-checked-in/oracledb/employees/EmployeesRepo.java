@@ -39,6 +39,8 @@ public interface EmployeesRepo {
 
   Boolean update(EmployeesRow row, Connection c);
 
+  Integer updateBatch(Iterator<EmployeesRow> rows, Connection c);
+
   void upsert(EmployeesRow unsaved, Connection c);
 
   void upsertBatch(Iterator<EmployeesRow> unsaved, Connection c);
@@ -8,6 +8,7 @@ package oracledb.employees;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.OracleTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -43,23 +44,31 @@ public class EmployeesRepoImpl implements EmployeesRepo {
 
   @Override
   public Integer deleteByIds(EmployeesId[] compositeIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : compositeIds) {
-      fragments.add(
-          Fragment.interpolate(
-              Fragment.lit("("),
-              Fragment.encode(OracleTypes.number, id.empNumber()),
-              Fragment.lit(", "),
-              Fragment.encode(OracleTypes.varchar2, id.empSuffix()),
-              Fragment.lit(")")));
+    var count = 0;
+    for (var chunk : InList.chunks(compositeIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(
+            Fragment.interpolate(
+                Fragment.lit("("),
+                Fragment.encode(OracleTypes.number, id.empNumber()),
+                Fragment.lit(", "),
+                Fragment.encode(OracleTypes.varchar2, id.empSuffix()),
+                Fragment.lit(")")));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit(
+                          "delete from \"EMPLOYEES\" where (\"EMP_NUMBER\", \"EMP_SUFFIX\") in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"EMPLOYEES\" where (\"EMP_NUMBER\", \"EMP_SUFFIX\") in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -169,26 +178,32 @@ public class EmployeesRepoImpl implements EmployeesRepo {
 
   @Override
   public List<EmployeesRow> selectByIds(EmployeesId[] compositeIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : compositeIds) {
-      fragments.add(
+    ArrayList<EmployeesRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(compositeIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(
+            Fragment.interpolate(
+                Fragment.lit("("),
+                Fragment.encode(OracleTypes.number, id.empNumber()),
+                Fragment.lit(", "),
+                Fragment.encode(OracleTypes.varchar2, id.empSuffix()),
+                Fragment.lit(")")));
+      }
+      ;
+      result.addAll(
           Fragment.interpolate(
-              Fragment.lit("("),
-              Fragment.encode(OracleTypes.number, id.empNumber()),
-              Fragment.lit(", "),
-              Fragment.encode(OracleTypes.varchar2, id.empSuffix()),
-              Fragment.lit(")")));
+                  Fragment.lit(
+                      "select \"EMP_NUMBER\", \"EMP_SUFFIX\", \"DEPT_CODE\", \"DEPT_REGION\","
+                          + " \"EMP_NAME\", \"SALARY\", \"HIRE_DATE\" from \"EMPLOYEES\" where"
+                          + " (\"EMP_NUMBER\", \"EMP_SUFFIX\") in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(EmployeesRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"EMP_NUMBER\", \"EMP_SUFFIX\", \"DEPT_CODE\", \"DEPT_REGION\","
-                    + " \"EMP_NAME\", \"SALARY\", \"HIRE_DATE\" from \"EMPLOYEES\" where"
-                    + " (\"EMP_NUMBER\", \"EMP_SUFFIX\") in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(EmployeesRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -230,6 +245,15 @@ public class EmployeesRepoImpl implements EmployeesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<EmployeesRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f -> List.of(f.deptCode(), f.deptRegion(), f.empName(), f.salary(), f.hireDate()),
+            c);
+  }
+
   @Override
   public void upsert(EmployeesRow unsaved, Connection c) {
     interpolate(
@@ -39,6 +39,8 @@ public interface PrecisionTypesRepo {
 
   Boolean update(PrecisionTypesRow row, Connection c);
 
+  Integer updateBatch(Iterator<PrecisionTypesRow> rows, Connection c);
+
   void upsert(PrecisionTypesRow unsaved, Connection c);
 
   void upsertBatch(Iterator<PrecisionTypesRow> unsaved, Connection c);
@@ -8,6 +8,7 @@ package oracledb.precision_types;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.OracleTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -55,17 +56,21 @@ public class PrecisionTypesRepoImpl implements PrecisionTypesRepo {
 
   @Override
   public Integer deleteByIds(PrecisionTypesId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(PrecisionTypesId.oracleType, id));
+    var count = 0;
+    for (var chunk : InList.distinctChunks(ids, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit(
+                          "delete from \"PRECISION_TYPES\" where \"ID\" in (select column_value"
+                              + " from table(cast("),
+                      Fragment.encode(OracleTypes.numberList(PrecisionTypesId.oracleType), chunk),
+                      Fragment.lit(" as SYS.ODCINUMBERLIST)))"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"PRECISION_TYPES\" where \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -280,21 +285,23 @@ public class PrecisionTypesRepoImpl implements PrecisionTypesRepo {
 
   @Override
   public List<PrecisionTypesRow> selectByIds(PrecisionTypesId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(PrecisionTypesId.oracleType, id));
+    ArrayList<PrecisionTypesRow> result = new ArrayList<>();
+    for (var chunk : InList.distinctChunks(ids, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select \"ID\", \"STRING10\", \"STRING20\", \"STRING50\", \"STRING100\","
+                          + " \"STRING255\", \"CHAR10\", \"NUMBER5_2\", \"NUMBER10_2\","
+                          + " \"NUMBER18_4\", \"NUMBER5_0\", \"NUMBER10_0\", \"NUMBER18_0\","
+                          + " \"TS0\", \"TS3\", \"TS6\", \"TS9\" from \"PRECISION_TYPES\" where"
+                          + " \"ID\" in (select column_value from table(cast("),
+                  Fragment.encode(OracleTypes.numberList(PrecisionTypesId.oracleType), chunk),
+                  Fragment.lit(" as SYS.ODCINUMBERLIST)))"))
+              .query(PrecisionTypesRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"ID\", \"STRING10\", \"STRING20\", \"STRING50\", \"STRING100\","
-                    + " \"STRING255\", \"CHAR10\", \"NUMBER5_2\", \"NUMBER10_2\", \"NUMBER18_4\","
-                    + " \"NUMBER5_0\", \"NUMBER10_0\", \"NUMBER18_0\", \"TS0\", \"TS3\", \"TS6\","
-                    + " \"TS9\" from \"PRECISION_TYPES\" where \"ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(PrecisionTypesRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -360,6 +367,32 @@ public class PrecisionTypesRepoImpl implements PrecisionTypesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<PrecisionTypesRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.string10(),
+                    f.string20(),
+                    f.string50(),
+                    f.string100(),
+                    f.string255(),
+                    f.char10(),
+                    f.number52(),
+                    f.number102(),
+                    f.number184(),
+                    f.number50(),
+                    f.number100(),
+                    f.number180(),
+                    f.ts0(),
+                    f.ts3(),
+                    f.ts6(),
+                    f.ts9()),
+            c);
+  }
+
   @Override
   public void upsert(PrecisionTypesRow unsaved, Connection c) {
     interpolate(
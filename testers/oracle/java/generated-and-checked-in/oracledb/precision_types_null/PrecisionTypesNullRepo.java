@@ -40,6 +40,8 @@ public interface PrecisionTypesNullRepo {
 
   Boolean update(PrecisionTypesNullRow row, Connection c);
 
+  Integer updateBatch(Iterator<PrecisionTypesNullRow> rows, Connection c);
+
   void upsert(PrecisionTypesNullRow unsaved, Connection c);
 
   void upsertBatch(Iterator<PrecisionTypesNullRow> unsaved, Connection c);
@@ -41,6 +41,8 @@ public interface ProductsRepo {
 
   Boolean update(ProductsRow row, Connection c);
 
+  Integer updateBatch(Iterator<ProductsRow> rows, Connection c);
+
   void upsert(ProductsRow unsaved, Connection c);
 
   void upsertBatch(Iterator<ProductsRow> unsaved, Connection c);
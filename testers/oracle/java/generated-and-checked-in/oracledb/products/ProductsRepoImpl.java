@@ -8,6 +8,7 @@ package oracledb.products;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.OracleTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -42,17 +43,21 @@ public class ProductsRepoImpl implements ProductsRepo {
 
   @Override
   public Integer deleteByIds(ProductsId[] productIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : productIds) {
-      fragments.add(Fragment.encode(ProductsId.oracleType, id));
+    var count = 0;
+    for (var chunk : InList.distinctChunks(productIds, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit(
+                          "delete from \"PRODUCTS\" where \"PRODUCT_ID\" in (select column_value"
+                              + " from table(cast("),
+                      Fragment.encode(OracleTypes.numberList(ProductsId.oracleType), chunk),
+                      Fragment.lit(" as SYS.ODCINUMBERLIST)))"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from \"PRODUCTS\" where \"PRODUCT_ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -147,19 +152,21 @@ public class ProductsRepoImpl implements ProductsRepo {
 
   @Override
   public List<ProductsRow> selectByIds(ProductsId[] productIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : productIds) {
-      fragments.add(Fragment.encode(ProductsId.oracleType, id));
+    ArrayList<ProductsRow> result = new ArrayList<>();
+    for (var chunk : InList.distinctChunks(productIds, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select \"PRODUCT_ID\", \"SKU\", \"NAME\", \"PRICE\", \"TAGS\" from"
+                          + " \"PRODUCTS\" where \"PRODUCT_ID\" in (select column_value from"
+                          + " table(cast("),
+                  Fragment.encode(OracleTypes.numberList(ProductsId.oracleType), chunk),
+                  Fragment.lit(" as SYS.ODCINUMBERLIST)))"))
+              .query(ProductsRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select \"PRODUCT_ID\", \"SKU\", \"NAME\", \"PRICE\", \"TAGS\" from \"PRODUCTS\""
-                    + " where \"PRODUCT_ID\" in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(ProductsRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -209,6 +216,11 @@ public class ProductsRepoImpl implements ProductsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ProductsRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.sku(), f.name(), f.price(), f.tags()), c);
+  }
+
   @Override
   public void upsert(ProductsRow unsaved, Connection c) {
     interpolate(
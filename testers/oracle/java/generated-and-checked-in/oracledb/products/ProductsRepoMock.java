@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -165,6 +166,23 @@ public record ProductsRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<ProductsRow> rows, Connection c) {
+    var updated = new HashSet<ProductsId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.productId())) {
+        map.put(row.productId(), row);
+        updated.add(row.productId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public void upsert(ProductsRow unsaved, Connection c) {
     map.put(unsaved.productId(), unsaved);
@@ -5,8 +5,12 @@ import static org.junit.Assert.*;
 import dev.typr.foundations.dsl.Bijection;
 import dev.typr.foundations.dsl.TupleExpr;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Optional;
+import java.util.Random;
+import oracledb.customers.CustomersId;
 import oracledb.customers.CustomersRepoImpl;
+import oracledb.customers.CustomersRow;
 import oracledb.customers.CustomersRowUnsaved;
 import oracledb.customtypes.Defaulted;
 import oracledb.products.ProductsRepoImpl;
@@ -198,4 +202,43 @@ public class OracleDSLTest {
           assertFalse(found.isPresent());
         });
   }
+
+  /**
+   * Test updateBatch against the database, where it writes the rows with MERGE: more rows than one
+   * statement takes, a row given twice, and a row which does not exist.
+   */
+  @Test
+  public void testUpdateBatchRoundTrip() {
+    OracleTestHelper.run(
+        c -> {
+          var testInsert = new TestInsert(new Random(0));
+          var address =
+              new AddressT(
+                  "1 Batch St",
+                  "Batchville",
+                  new CoordinatesT(new BigDecimal("1.5"), new BigDecimal("2.5")));
+          var updated = new ArrayList<CustomersRow>();
+          for (int i = 0; i < 1005; i++) {
+            updated.add(
+                customersRepo
+                    .selectById(testInsert.Customers(address).insert(c), c)
+                    .orElseThrow()
+                    .withName("Batch " + i));
+          }
+          // the first row again, in another statement than its first occurrence
+          var rows = new ArrayList<>(updated);
+          rows.add(updated.get(0).withName("Batch again"));
+          rows.add(updated.get(1).withCustomerId(new CustomersId(BigDecimal.valueOf(-1))));
+
+          assertEquals(Integer.valueOf(1005), customersRepo.updateBatch(rows.iterator(), c));
+          var ids = updated.stream().map(CustomersRow::customerId).toArray(CustomersId[]::new);
+          var byId = customersRepo.selectByIdsTracked(ids, c);
+          assertEquals("Batch again", byId.get(ids[0]).name());
+          for (int i = 1; i < ids.length; i++) {
+            assertEquals("Batch " + i, byId.get(ids[i]).name());
+          }
+          assertFalse(
+              customersRepo.selectById(new CustomersId(BigDecimal.valueOf(-1)), c).isPresent());
+        });
+  }
 }
@@ -2,6 +2,7 @@ package oracledb.customers;
 
 import static org.junit.Assert.*;
 
+import dev.typr.foundations.OracleTypes;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
@@ -175,6 +176,48 @@ public class CustomersTest {
         });
   }
 
+  @Test
+  public void testSelectAndDeleteByIdsInCollections() {
+    OracleTestHelper.run(
+        c -> {
+          AddressT address =
+              new AddressT(
+                  "Bulk St", "Bulk City", new CoordinatesT(BigDecimal.ONE, BigDecimal.ONE));
+          CustomersId first =
+              repo.insert(
+                  new CustomersRowUnsaved(
+                      "Bulk 1",
+                      address,
+                      Optional.empty(),
+                      new Defaulted.UseDefault<>(),
+                      new Defaulted.UseDefault<>()),
+                  c);
+          CustomersId second =
+              repo.insert(
+                  new CustomersRowUnsaved(
+                      "Bulk 2",
+                      address,
+                      Optional.empty(),
+                      new Defaulted.UseDefault<>(),
+                      new Defaulted.UseDefault<>()),
+                  c);
+
+          // More ids than fit in one SYS.ODCINUMBERLIST, so they are bound as two, and an id asked
+          // for in both is still selected once
+          CustomersId[] ids = new CustomersId[OracleTypes.ODCI_LIST_MAX_SIZE + 8000];
+          for (int i = 0; i < ids.length; i++) {
+            ids[i] = new CustomersId(BigDecimal.valueOf(-1 - i));
+          }
+          ids[10] = first;
+          ids[OracleTypes.ODCI_LIST_MAX_SIZE + 10] = second;
+          ids[ids.length - 1] = first;
+
+          assertEquals(2, repo.selectByIds(ids, c).size());
+          assertEquals(Integer.valueOf(2), repo.deleteByIds(ids, c));
+          assertTrue(repo.selectByIds(ids, c).isEmpty());
+        });
+  }
+
   @Test
   public void testSelectAll() {
     OracleTestHelper.run(
@@ -62,6 +62,11 @@ interface AllScalarTypesRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<AllScalarTypesRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: AllScalarTypesRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package oracledb.all_scalar_types
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.OracleTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -32,9 +33,11 @@ class AllScalarTypesRepoImpl() : AllScalarTypesRepo {
     ids: Array<AllScalarTypesId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(AllScalarTypesId.oracleType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from \"ALL_SCALAR_TYPES\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.distinctChunks(ids, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"ALL_SCALAR_TYPES\" where \"ID\" in (select column_value from table(cast("), Fragment.encode(OracleTypes.numberList(AllScalarTypesId.oracleType), chunk), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -83,9 +86,11 @@ class AllScalarTypesRepoImpl() : AllScalarTypesRepo {
     ids: Array<AllScalarTypesId>,
     c: Connection
   ): List<AllScalarTypesRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(AllScalarTypesId.oracleType, id)) }
-    return Fragment.interpolate(Fragment.lit("select \"ID\", \"COL_VARCHAR2\", \"COL_NUMBER\", \"COL_DATE\", \"COL_TIMESTAMP\", \"COL_CLOB\", \"COL_NOT_NULL\" from \"ALL_SCALAR_TYPES\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(AllScalarTypesRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<AllScalarTypesRow> = ArrayList()
+    for (chunk in InList.distinctChunks(ids, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"ID\", \"COL_VARCHAR2\", \"COL_NUMBER\", \"COL_DATE\", \"COL_TIMESTAMP\", \"COL_CLOB\", \"COL_NOT_NULL\" from \"ALL_SCALAR_TYPES\" where \"ID\" in (select column_value from table(cast("), Fragment.encode(OracleTypes.numberList(AllScalarTypesId.oracleType), chunk), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(AllScalarTypesRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -107,6 +112,11 @@ class AllScalarTypesRepoImpl() : AllScalarTypesRepo {
     return Fragment.interpolate(Fragment.lit("update \"ALL_SCALAR_TYPES\"\nset \"COL_VARCHAR2\" = "), Fragment.encode(OracleTypes.varchar2.nullable(), row.colVarchar2), Fragment.lit(",\n\"COL_NUMBER\" = "), Fragment.encode(KotlinDbTypes.OracleTypes.number.nullable(), row.colNumber), Fragment.lit(",\n\"COL_DATE\" = "), Fragment.encode(OracleTypes.date.nullable(), row.colDate), Fragment.lit(",\n\"COL_TIMESTAMP\" = "), Fragment.encode(OracleTypes.timestamp.nullable(), row.colTimestamp), Fragment.lit(",\n\"COL_CLOB\" = "), Fragment.encode(OracleTypes.clob.nullable(), row.colClob), Fragment.lit(",\n\"COL_NOT_NULL\" = "), Fragment.encode(OracleTypes.varchar2, row.colNotNull), Fragment.lit("\nwhere \"ID\" = "), Fragment.encode(AllScalarTypesId.oracleType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<AllScalarTypesRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.colVarchar2(), f.colNumber(), f.colDate(), f.colTimestamp(), f.colClob(), f.colNotNull()) }, c)
+
   override fun upsert(
     unsaved: AllScalarTypesRow,
     c: Connection
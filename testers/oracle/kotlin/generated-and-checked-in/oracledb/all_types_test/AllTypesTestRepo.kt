@@ -62,6 +62,11 @@ interface AllTypesTestRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<AllTypesTestRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: AllTypesTestRow,
     c: Connection
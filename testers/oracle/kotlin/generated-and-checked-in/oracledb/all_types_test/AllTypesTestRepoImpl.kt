@@ -5,6 +5,7 @@
  */
 package oracledb.all_types_test
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.OracleTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -33,9 +34,11 @@ class AllTypesTestRepoImpl() : AllTypesTestRepo {
     ids: Array<AllTypesTestId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(AllTypesTestId.oracleType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from \"ALL_TYPES_TEST\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.distinctChunks(ids, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"ALL_TYPES_TEST\" where \"ID\" in (select column_value from table(cast("), Fragment.encode(OracleTypes.numberList(AllTypesTestId.oracleType), chunk), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -78,9 +81,11 @@ class AllTypesTestRepoImpl() : AllTypesTestRepo {
     ids: Array<AllTypesTestId>,
     c: Connection
   ): List<AllTypesTestRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(AllTypesTestId.oracleType, id)) }
-    return Fragment.interpolate(Fragment.lit("select \"ID\", \"NAME\", \"DATA\", \"DATA_ARRAY\" from \"ALL_TYPES_TEST\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(AllTypesTestRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<AllTypesTestRow> = ArrayList()
+    for (chunk in InList.distinctChunks(ids, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"ID\", \"NAME\", \"DATA\", \"DATA_ARRAY\" from \"ALL_TYPES_TEST\" where \"ID\" in (select column_value from table(cast("), Fragment.encode(OracleTypes.numberList(AllTypesTestId.oracleType), chunk), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(AllTypesTestRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -102,6 +107,11 @@ class AllTypesTestRepoImpl() : AllTypesTestRepo {
     return Fragment.interpolate(Fragment.lit("update \"ALL_TYPES_TEST\"\nset \"NAME\" = "), Fragment.encode(OracleTypes.varchar2, row.name), Fragment.lit(",\n\"DATA\" = "), Fragment.encode(AllTypesStructNoLobs.oracleType.nullable(), row.data), Fragment.lit(",\n\"DATA_ARRAY\" = "), Fragment.encode(AllTypesStructNoLobsArray.oracleType.nullable(), row.dataArray), Fragment.lit("\nwhere \"ID\" = "), Fragment.encode(AllTypesTestId.oracleType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<AllTypesTestRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name(), f.data(), f.dataArray()) }, c)
+
   override fun upsert(
     unsaved: AllTypesTestRow,
     c: Connection
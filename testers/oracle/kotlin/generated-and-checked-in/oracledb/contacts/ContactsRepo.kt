@@ -62,6 +62,11 @@ interface ContactsRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<ContactsRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: ContactsRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package oracledb.contacts
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.OracleTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -33,9 +34,11 @@ class ContactsRepoImpl() : ContactsRepo {
     contactIds: Array<ContactsId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in contactIds) { fragments.add(Fragment.encode(ContactsId.oracleType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from \"CONTACTS\" where \"CONTACT_ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.distinctChunks(contactIds, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"CONTACTS\" where \"CONTACT_ID\" in (select column_value from table(cast("), Fragment.encode(OracleTypes.numberList(ContactsId.oracleType), chunk), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -78,9 +81,11 @@ class ContactsRepoImpl() : ContactsRepo {
     contactIds: Array<ContactsId>,
     c: Connection
   ): List<ContactsRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in contactIds) { fragments.add(Fragment.encode(ContactsId.oracleType, id)) }
-    return Fragment.interpolate(Fragment.lit("select \"CONTACT_ID\", \"NAME\", \"EMAILS\", \"TAGS\" from \"CONTACTS\" where \"CONTACT_ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ContactsRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<ContactsRow> = ArrayList()
+    for (chunk in InList.distinctChunks(contactIds, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"CONTACT_ID\", \"NAME\", \"EMAILS\", \"TAGS\" from \"CONTACTS\" where \"CONTACT_ID\" in (select column_value from table(cast("), Fragment.encode(OracleTypes.numberList(ContactsId.oracleType), chunk), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(ContactsRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -102,6 +107,11 @@ class ContactsRepoImpl() : ContactsRepo {
     return Fragment.interpolate(Fragment.lit("update \"CONTACTS\"\nset \"NAME\" = "), Fragment.encode(OracleTypes.varchar2, row.name), Fragment.lit(",\n\"EMAILS\" = "), Fragment.encode(Email.oracleType.nullable(), row.emails), Fragment.lit(",\n\"TAGS\" = "), Fragment.encode(TagVarrayT.oracleType.nullable(), row.tags), Fragment.lit("\nwhere \"CONTACT_ID\" = "), Fragment.encode(ContactsId.oracleType, contactId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<ContactsRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name(), f.emails(), f.tags()) }, c)
+
   override fun upsert(
     unsaved: ContactsRow,
     c: Connection
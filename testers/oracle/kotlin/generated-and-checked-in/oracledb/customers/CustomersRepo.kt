@@ -62,6 +62,11 @@ interface CustomersRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<CustomersRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: CustomersRow,
     c: Connection
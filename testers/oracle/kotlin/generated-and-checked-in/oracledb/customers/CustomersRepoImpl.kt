@@ -5,6 +5,7 @@
  */
 package oracledb.customers
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.OracleTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -33,9 +34,11 @@ class CustomersRepoImpl() : CustomersRepo {
     customerIds: Array<CustomersId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in customerIds) { fragments.add(Fragment.encode(CustomersId.oracleType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from \"CUSTOMERS\" where \"CUSTOMER_ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.distinctChunks(customerIds, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"CUSTOMERS\" where \"CUSTOMER_ID\" in (select column_value from table(cast("), Fragment.encode(OracleTypes.numberList(CustomersId.oracleType), chunk), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -83,9 +86,11 @@ class CustomersRepoImpl() : CustomersRepo {
     customerIds: Array<CustomersId>,
     c: Connection
   ): List<CustomersRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in customerIds) { fragments.add(Fragment.encode(CustomersId.oracleType, id)) }
-    return Fragment.interpolate(Fragment.lit("select \"CUSTOMER_ID\", \"NAME\", \"BILLING_ADDRESS\", \"CREDIT_LIMIT\", \"CREATED_AT\" from \"CUSTOMERS\" where \"CUSTOMER_ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(CustomersRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<CustomersRow> = ArrayList()
+    for (chunk in InList.distinctChunks(customerIds, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"CUSTOMER_ID\", \"NAME\", \"BILLING_ADDRESS\", \"CREDIT_LIMIT\", \"CREATED_AT\" from \"CUSTOMERS\" where \"CUSTOMER_ID\" in (select column_value from table(cast("), Fragment.encode(OracleTypes.numberList(CustomersId.oracleType), chunk), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(CustomersRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -107,6 +112,11 @@ class CustomersRepoImpl() : CustomersRepo {
     return Fragment.interpolate(Fragment.lit("update \"CUSTOMERS\"\nset \"NAME\" = "), Fragment.encode(OracleTypes.varchar2, row.name), Fragment.lit(",\n\"BILLING_ADDRESS\" = "), Fragment.encode(AddressT.oracleType, row.billingAddress), Fragment.lit(",\n\"CREDIT_LIMIT\" = "), Fragment.encode(MoneyT.oracleType.nullable(), row.creditLimit), Fragment.lit(",\n\"CREATED_AT\" = "), Fragment.encode(OracleTypes.timestamp, row.createdAt), Fragment.lit("\nwhere \"CUSTOMER_ID\" = "), Fragment.encode(CustomersId.oracleType, customerId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<CustomersRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name(), f.billingAddress(), f.creditLimit(), f.createdAt()) }, c)
+
   override fun upsert(
     unsaved: CustomersRow,
     c: Connection
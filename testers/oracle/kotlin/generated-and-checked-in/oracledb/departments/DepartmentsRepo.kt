@@ -57,6 +57,11 @@ interface DepartmentsRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<DepartmentsRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: DepartmentsRow,
     c: Connection
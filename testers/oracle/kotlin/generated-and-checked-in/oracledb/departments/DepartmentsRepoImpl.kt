@@ -5,6 +5,7 @@
  */
 package oracledb.departments
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.OracleTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -32,9 +33,13 @@ class DepartmentsRepoImpl() : DepartmentsRepo {
     compositeIds: Array<DepartmentsId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in compositeIds) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.varchar2, id.deptCode), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.deptRegion), Fragment.lit(")"))) }
-    return Fragment.interpolate(Fragment.lit("delete from \"DEPARTMENTS\" where (\"DEPT_CODE\", \"DEPT_REGION\") in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(compositeIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.varchar2, id.deptCode), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.deptRegion), Fragment.lit(")"))) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"DEPARTMENTS\" where (\"DEPT_CODE\", \"DEPT_REGION\") in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -56,9 +61,13 @@ class DepartmentsRepoImpl() : DepartmentsRepo {
     compositeIds: Array<DepartmentsId>,
     c: Connection
   ): List<DepartmentsRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in compositeIds) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.varchar2, id.deptCode), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.deptRegion), Fragment.lit(")"))) }
-    return Fragment.interpolate(Fragment.lit("select \"DEPT_CODE\", \"DEPT_REGION\", \"DEPT_NAME\", \"BUDGET\" from \"DEPARTMENTS\" where (\"DEPT_CODE\", \"DEPT_REGION\") in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(DepartmentsRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<DepartmentsRow> = ArrayList()
+    for (chunk in InList.chunks(compositeIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.varchar2, id.deptCode), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.deptRegion), Fragment.lit(")"))) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"DEPT_CODE\", \"DEPT_REGION\", \"DEPT_NAME\", \"BUDGET\" from \"DEPARTMENTS\" where (\"DEPT_CODE\", \"DEPT_REGION\") in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(DepartmentsRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -80,6 +89,11 @@ class DepartmentsRepoImpl() : DepartmentsRepo {
     return Fragment.interpolate(Fragment.lit("update \"DEPARTMENTS\"\nset \"DEPT_NAME\" = "), Fragment.encode(OracleTypes.varchar2, row.deptName), Fragment.lit(",\n\"BUDGET\" = "), Fragment.encode(MoneyT.oracleType.nullable(), row.budget), Fragment.lit("\nwhere \"DEPT_CODE\" = "), Fragment.encode(OracleTypes.varchar2, compositeId.deptCode), Fragment.lit(" AND \"DEPT_REGION\" = "), Fragment.encode(OracleTypes.varchar2, compositeId.deptRegion), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<DepartmentsRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.deptName(), f.budget()) }, c)
+
   override fun upsert(
     unsaved: DepartmentsRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package oracledb.employees
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.OracleTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -33,9 +34,13 @@ class EmployeesRepoImpl() : EmployeesRepo {
     compositeIds: Array<EmployeesId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in compositeIds) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(KotlinDbTypes.OracleTypes.number, id.empNumber), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.empSuffix), Fragment.lit(")"))) }
-    return Fragment.interpolate(Fragment.lit("delete from \"EMPLOYEES\" where (\"EMP_NUMBER\", \"EMP_SUFFIX\") in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(compositeIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(KotlinDbTypes.OracleTypes.number, id.empNumber), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.empSuffix), Fragment.lit(")"))) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"EMPLOYEES\" where (\"EMP_NUMBER\", \"EMP_SUFFIX\") in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -84,9 +89,13 @@ class EmployeesRepoImpl() : EmployeesRepo {
     compositeIds: Array<EmployeesId>,
     c: Connection
   ): List<EmployeesRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in compositeIds) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(KotlinDbTypes.OracleTypes.number, id.empNumber), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.empSuffix), Fragment.lit(")"))) }
-    return Fragment.interpolate(Fragment.lit("select \"EMP_NUMBER\", \"EMP_SUFFIX\", \"DEPT_CODE\", \"DEPT_REGION\", \"EMP_NAME\", \"SALARY\", \"HIRE_DATE\" from \"EMPLOYEES\" where (\"EMP_NUMBER\", \"EMP_SUFFIX\") in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(EmployeesRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<EmployeesRow> = ArrayList()
+    for (chunk in InList.chunks(compositeIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(KotlinDbTypes.OracleTypes.number, id.empNumber), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.empSuffix), Fragment.lit(")"))) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"EMP_NUMBER\", \"EMP_SUFFIX\", \"DEPT_CODE\", \"DEPT_REGION\", \"EMP_NAME\", \"SALARY\", \"HIRE_DATE\" from \"EMPLOYEES\" where (\"EMP_NUMBER\", \"EMP_SUFFIX\") in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(EmployeesRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -108,6 +117,11 @@ class EmployeesRepoImpl() : EmployeesRepo {
     return Fragment.interpolate(Fragment.lit("update \"EMPLOYEES\"\nset \"DEPT_CODE\" = "), Fragment.encode(OracleTypes.varchar2, row.deptCode), Fragment.lit(",\n\"DEPT_REGION\" = "), Fragment.encode(OracleTypes.varchar2, row.deptRegion), Fragment.lit(",\n\"EMP_NAME\" = "), Fragment.encode(OracleTypes.varchar2, row.empName), Fragment.lit(",\n\"SALARY\" = "), Fragment.encode(MoneyT.oracleType.nullable(), row.salary), Fragment.lit(",\n\"HIRE_DATE\" = "), Fragment.encode(OracleTypes.date, row.hireDate), Fragment.lit("\nwhere \"EMP_NUMBER\" = "), Fragment.encode(KotlinDbTypes.OracleTypes.number, compositeId.empNumber), Fragment.lit(" AND \"EMP_SUFFIX\" = "), Fragment.encode(OracleTypes.varchar2, compositeId.empSuffix), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<EmployeesRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.deptCode(), f.deptRegion(), f.empName(), f.salary(), f.hireDate()) }, c)
+
   override fun upsert(
     unsaved: EmployeesRow,
     c: Connection
@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -103,6 +104,21 @@ data class EmployeesRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<EmployeesRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<EmployeesId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.compositeId())) {
+        map[row.compositeId()] = row
+        updated.add(row.compositeId())
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: EmployeesRow,
     c: Connection
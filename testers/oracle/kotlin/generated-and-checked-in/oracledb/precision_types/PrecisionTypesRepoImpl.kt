@@ -5,6 +5,7 @@
  */
 package oracledb.precision_types
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.OracleTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -45,9 +46,11 @@ class PrecisionTypesRepoImpl() : PrecisionTypesRepo {
     ids: Array<PrecisionTypesId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(PrecisionTypesId.oracleType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from \"PRECISION_TYPES\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.distinctChunks(ids, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"PRECISION_TYPES\" where \"ID\" in (select column_value from table(cast("), Fragment.encode(OracleTypes.numberList(PrecisionTypesId.oracleType), chunk), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -116,9 +119,11 @@ class PrecisionTypesRepoImpl() : PrecisionTypesRepo {
     ids: Array<PrecisionTypesId>,
     c: Connection
   ): List<PrecisionTypesRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(PrecisionTypesId.oracleType, id)) }
-    return Fragment.interpolate(Fragment.lit("select \"ID\", \"STRING10\", \"STRING20\", \"STRING50\", \"STRING100\", \"STRING255\", \"CHAR10\", \"NUMBER5_2\", \"NUMBER10_2\", \"NUMBER18_4\", \"NUMBER5_0\", \"NUMBER10_0\", \"NUMBER18_0\", \"TS0\", \"TS3\", \"TS6\", \"TS9\" from \"PRECISION_TYPES\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(PrecisionTypesRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<PrecisionTypesRow> = ArrayList()
+    for (chunk in InList.distinctChunks(ids, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"ID\", \"STRING10\", \"STRING20\", \"STRING50\", \"STRING100\", \"STRING255\", \"CHAR10\", \"NUMBER5_2\", \"NUMBER10_2\", \"NUMBER18_4\", \"NUMBER5_0\", \"NUMBER10_0\", \"NUMBER18_0\", \"TS0\", \"TS3\", \"TS6\", \"TS9\" from \"PRECISION_TYPES\" where \"ID\" in (select column_value from table(cast("), Fragment.encode(OracleTypes.numberList(PrecisionTypesId.oracleType), chunk), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(PrecisionTypesRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -140,6 +145,11 @@ class PrecisionTypesRepoImpl() : PrecisionTypesRepo {
     return Fragment.interpolate(Fragment.lit("update \"PRECISION_TYPES\"\nset \"STRING10\" = "), Fragment.encode(NonEmptyString10.oracleType, row.string10), Fragment.lit(",\n\"STRING20\" = "), Fragment.encode(NonEmptyString20.oracleType, row.string20), Fragment.lit(",\n\"STRING50\" = "), Fragment.encode(NonEmptyString50.oracleType, row.string50), Fragment.lit(",\n\"STRING100\" = "), Fragment.encode(NonEmptyString100.oracleType, row.string100), Fragment.lit(",\n\"STRING255\" = "), Fragment.encode(NonEmptyString255.oracleType, row.string255), Fragment.lit(",\n\"CHAR10\" = "), Fragment.encode(NonEmptyPaddedString10.oracleType, row.char10), Fragment.lit(",\n\"NUMBER5_2\" = "), Fragment.encode(Decimal5_2.oracleType, row.number52), Fragment.lit(",\n\"NUMBER10_2\" = "), Fragment.encode(Decimal10_2.oracleType, row.number102), Fragment.lit(",\n\"NUMBER18_4\" = "), Fragment.encode(Decimal18_4.oracleType, row.number184), Fragment.lit(",\n\"NUMBER5_0\" = "), Fragment.encode(Int5.oracleType, row.number50), Fragment.lit(",\n\"NUMBER10_0\" = "), Fragment.encode(Int10.oracleType, row.number100), Fragment.lit(",\n\"NUMBER18_0\" = "), Fragment.encode(Int18.oracleType, row.number180), Fragment.lit(",\n\"TS0\" = "), Fragment.encode(OracleTypes.timestamp, row.ts0), Fragment.lit(",\n\"TS3\" = "), Fragment.encode(LocalDateTime3.oracleType, row.ts3), Fragment.lit(",\n\"TS6\" = "), Fragment.encode(LocalDateTime6.oracleType, row.ts6), Fragment.lit(",\n\"TS9\" = "), Fragment.encode(LocalDateTime9.oracleType, row.ts9), Fragment.lit("\nwhere \"ID\" = "), Fragment.encode(PrecisionTypesId.oracleType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<PrecisionTypesRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.string10(), f.string20(), f.string50(), f.string100(), f.string255(), f.char10(), f.number52(), f.number102(), f.number184(), f.number50(), f.number100(), f.number180(), f.ts0(), f.ts3(), f.ts6(), f.ts9()) }, c)
+
   override fun upsert(
     unsaved: PrecisionTypesRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package oracledb.precision_types_null
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.OracleTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -46,9 +47,11 @@ class PrecisionTypesNullRepoImpl() : PrecisionTypesNullRepo {
     ids: Array<PrecisionTypesNullId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(PrecisionTypesNullId.oracleType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from \"PRECISION_TYPES_NULL\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.distinctChunks(ids, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"PRECISION_TYPES_NULL\" where \"ID\" in (select column_value from table(cast("), Fragment.encode(OracleTypes.numberList(PrecisionTypesNullId.oracleType), chunk), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -117,9 +120,11 @@ class PrecisionTypesNullRepoImpl() : PrecisionTypesNullRepo {
     ids: Array<PrecisionTypesNullId>,
     c: Connection
   ): List<PrecisionTypesNullRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(PrecisionTypesNullId.oracleType, id)) }
-    return Fragment.interpolate(Fragment.lit("select \"ID\", \"STRING10\", \"STRING20\", \"STRING50\", \"STRING100\", \"STRING255\", \"CHAR10\", \"NUMBER5_2\", \"NUMBER10_2\", \"NUMBER18_4\", \"NUMBER5_0\", \"NUMBER10_0\", \"NUMBER18_0\", \"TS0\", \"TS3\", \"TS6\", \"TS9\" from \"PRECISION_TYPES_NULL\" where \"ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(PrecisionTypesNullRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<PrecisionTypesNullRow> = ArrayList()
+    for (chunk in InList.distinctChunks(ids, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"ID\", \"STRING10\", \"STRING20\", \"STRING50\", \"STRING100\", \"STRING255\", \"CHAR10\", \"NUMBER5_2\", \"NUMBER10_2\", \"NUMBER18_4\", \"NUMBER5_0\", \"NUMBER10_0\", \"NUMBER18_0\", \"TS0\", \"TS3\", \"TS6\", \"TS9\" from \"PRECISION_TYPES_NULL\" where \"ID\" in (select column_value from table(cast("), Fragment.encode(OracleTypes.numberList(PrecisionTypesNullId.oracleType), chunk), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(PrecisionTypesNullRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -141,6 +146,11 @@ class PrecisionTypesNullRepoImpl() : PrecisionTypesNullRepo {
     return Fragment.interpolate(Fragment.lit("update \"PRECISION_TYPES_NULL\"\nset \"STRING10\" = "), Fragment.encode(NonEmptyString10.oracleType.nullable(), row.string10), Fragment.lit(",\n\"STRING20\" = "), Fragment.encode(NonEmptyString20.oracleType.nullable(), row.string20), Fragment.lit(",\n\"STRING50\" = "), Fragment.encode(NonEmptyString50.oracleType.nullable(), row.string50), Fragment.lit(",\n\"STRING100\" = "), Fragment.encode(NonEmptyString100.oracleType.nullable(), row.string100), Fragment.lit(",\n\"STRING255\" = "), Fragment.encode(NonEmptyString255.oracleType.nullable(), row.string255), Fragment.lit(",\n\"CHAR10\" = "), Fragment.encode(NonEmptyPaddedString10.oracleType.nullable(), row.char10), Fragment.lit(",\n\"NUMBER5_2\" = "), Fragment.encode(Decimal5_2.oracleType.nullable(), row.number52), Fragment.lit(",\n\"NUMBER10_2\" = "), Fragment.encode(Decimal10_2.oracleType.nullable(), row.number102), Fragment.lit(",\n\"NUMBER18_4\" = "), Fragment.encode(Decimal18_4.oracleType.nullable(), row.number184), Fragment.lit(",\n\"NUMBER5_0\" = "), Fragment.encode(Int5.oracleType.nullable(), row.number50), Fragment.lit(",\n\"NUMBER10_0\" = "), Fragment.encode(Int10.oracleType.nullable(), row.number100), Fragment.lit(",\n\"NUMBER18_0\" = "), Fragment.encode(Int18.oracleType.nullable(), row.number180), Fragment.lit(",\n\"TS0\" = "), Fragment.encode(OracleTypes.timestamp.nullable(), row.ts0), Fragment.lit(",\n\"TS3\" = "), Fragment.encode(LocalDateTime3.oracleType.nullable(), row.ts3), Fragment.lit(",\n\"TS6\" = "), Fragment.encode(LocalDateTime6.oracleType.nullable(), row.ts6), Fragment.lit(",\n\"TS9\" = "), Fragment.encode(LocalDateTime9.oracleType.nullable(), row.ts9), Fragment.lit("\nwhere \"ID\" = "), Fragment.encode(PrecisionTypesNullId.oracleType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<PrecisionTypesNullRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.string10(), f.string20(), f.string50(), f.string100(), f.string255(), f.char10(), f.number52(), f.number102(), f.number184(), f.number50(), f.number100(), f.number180(), f.ts0(), f.ts3(), f.ts6(), f.ts9()) }, c)
+
   override fun upsert(
     unsaved: PrecisionTypesNullRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package oracledb.products
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.OracleTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -33,9 +34,11 @@ class ProductsRepoImpl() : ProductsRepo {
     productIds: Array<ProductsId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in productIds) { fragments.add(Fragment.encode(ProductsId.oracleType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from \"PRODUCTS\" where \"PRODUCT_ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.distinctChunks(productIds, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      count = count + Fragment.interpolate(Fragment.lit("delete from \"PRODUCTS\" where \"PRODUCT_ID\" in (select column_value from table(cast("), Fragment.encode(OracleTypes.numberList(ProductsId.oracleType), chunk), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -80,9 +83,11 @@ class ProductsRepoImpl() : ProductsRepo {
     productIds: Array<ProductsId>,
     c: Connection
   ): List<ProductsRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in productIds) { fragments.add(Fragment.encode(ProductsId.oracleType, id)) }
-    return Fragment.interpolate(Fragment.lit("select \"PRODUCT_ID\", \"SKU\", \"NAME\", \"PRICE\", \"TAGS\" from \"PRODUCTS\" where \"PRODUCT_ID\" in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ProductsRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<ProductsRow> = ArrayList()
+    for (chunk in InList.distinctChunks(productIds, OracleTypes.ODCI_LIST_MAX_SIZE)) {
+      result.addAll(Fragment.interpolate(Fragment.lit("select \"PRODUCT_ID\", \"SKU\", \"NAME\", \"PRICE\", \"TAGS\" from \"PRODUCTS\" where \"PRODUCT_ID\" in (select column_value from table(cast("), Fragment.encode(OracleTypes.numberList(ProductsId.oracleType), chunk), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(ProductsRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -109,6 +114,11 @@ class ProductsRepoImpl() : ProductsRepo {
     return Fragment.interpolate(Fragment.lit("update \"PRODUCTS\"\nset \"SKU\" = "), Fragment.encode(OracleTypes.varchar2, row.sku), Fragment.lit(",\n\"NAME\" = "), Fragment.encode(OracleTypes.varchar2, row.name), Fragment.lit(",\n\"PRICE\" = "), Fragment.encode(MoneyT.oracleType, row.price), Fragment.lit(",\n\"TAGS\" = "), Fragment.encode(TagVarrayT.oracleType.nullable(), row.tags), Fragment.lit("\nwhere \"PRODUCT_ID\" = "), Fragment.encode(ProductsId.oracleType, productId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<ProductsRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.sku(), f.name(), f.price(), f.tags()) }, c)
+
   override fun upsert(
     unsaved: ProductsRow,
     c: Connection
@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -108,6 +109,21 @@ data class ProductsRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<ProductsRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<ProductsId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.productId)) {
+        map[row.productId] = row
+        updated.add(row.productId)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: ProductsRow,
     c: Connection
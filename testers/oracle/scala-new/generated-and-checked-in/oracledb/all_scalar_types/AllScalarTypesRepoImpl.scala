@@ -15,6 +15,7 @@ import dev.typr.foundations.scala.SelectBuilder
 import dev.typr.foundations.scala.UpdateBuilder
 import java.sql.Connection
 import scala.collection.mutable.ListBuffer
+import scala.jdk.CollectionConverters.SeqHasAsJava
 import dev.typr.foundations.scala.Fragment.sql
 
 class AllScalarTypesRepoImpl extends AllScalarTypesRepo {
@@ -23,9 +24,9 @@ class AllScalarTypesRepoImpl extends AllScalarTypesRepo {
   override def deleteById(id: AllScalarTypesId)(using c: Connection): Boolean = sql"""delete from "ALL_SCALAR_TYPES" where "ID" = ${Fragment.encode(AllScalarTypesId.oracleType, id)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[AllScalarTypesId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(AllScalarTypesId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "ALL_SCALAR_TYPES" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => count = count + Fragment.interpolate(Fragment.lit("""delete from "ALL_SCALAR_TYPES" where "ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(AllScalarTypesId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: AllScalarTypesRow)(using c: Connection): AllScalarTypesRow = {
@@ -77,9 +78,9 @@ class AllScalarTypesRepoImpl extends AllScalarTypesRepo {
   }
 
   override def selectByIds(ids: Array[AllScalarTypesId])(using c: Connection): List[AllScalarTypesRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(AllScalarTypesId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "ID", "COL_VARCHAR2", "COL_NUMBER", "COL_DATE", "COL_TIMESTAMP", "COL_CLOB", "COL_NOT_NULL" from "ALL_SCALAR_TYPES" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(AllScalarTypesRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[AllScalarTypesRow] = ListBuffer()
+    ids.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => result.addAll(Fragment.interpolate(Fragment.lit("""select "ID", "COL_VARCHAR2", "COL_NUMBER", "COL_DATE", "COL_TIMESTAMP", "COL_CLOB", "COL_NOT_NULL" from "ALL_SCALAR_TYPES" where "ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(AllScalarTypesId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(AllScalarTypesRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[AllScalarTypesId])(using c: Connection): Map[AllScalarTypesId, AllScalarTypesRow] = {
@@ -102,6 +103,8 @@ class AllScalarTypesRepoImpl extends AllScalarTypesRepo {
     where "ID" = ${Fragment.encode(AllScalarTypesId.oracleType, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[AllScalarTypesRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.colVarchar2, f.colNumber, f.colDate, f.colTimestamp, f.colClob, f.colNotNull))(using c)
+
   override def upsert(unsaved: AllScalarTypesRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "ALL_SCALAR_TYPES" t
     USING (SELECT ${Fragment.encode(AllScalarTypesId.oracleType, unsaved.id)}, ${Fragment.encode(OracleTypes.varchar2.nullable, unsaved.colVarchar2)}, ${Fragment.encode(ScalaDbTypes.OracleTypes.number.nullable, unsaved.colNumber)}, ${Fragment.encode(OracleTypes.date.nullable, unsaved.colDate)}, ${Fragment.encode(OracleTypes.timestamp.nullable, unsaved.colTimestamp)}, ${Fragment.encode(OracleTypes.clob.nullable, unsaved.colClob)}, ${Fragment.encode(OracleTypes.varchar2, unsaved.colNotNull)} FROM DUAL) s
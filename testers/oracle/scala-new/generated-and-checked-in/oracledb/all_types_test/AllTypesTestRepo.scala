@@ -35,6 +35,8 @@ trait AllTypesTestRepo {
 
   def update(row: AllTypesTestRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[AllTypesTestRow])(using c: Connection): Int
+
   def upsert(unsaved: AllTypesTestRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: Iterator[AllTypesTestRow])(using c: Connection): Unit
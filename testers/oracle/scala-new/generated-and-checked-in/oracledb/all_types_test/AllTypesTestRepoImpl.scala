@@ -16,6 +16,7 @@ import java.sql.Connection
 import oracledb.AllTypesStructNoLobs
 import oracledb.AllTypesStructNoLobsArray
 import scala.collection.mutable.ListBuffer
+import scala.jdk.CollectionConverters.SeqHasAsJava
 import dev.typr.foundations.scala.Fragment.sql
 
 class AllTypesTestRepoImpl extends AllTypesTestRepo {
@@ -24,9 +25,9 @@ class AllTypesTestRepoImpl extends AllTypesTestRepo {
   override def deleteById(id: AllTypesTestId)(using c: Connection): Boolean = sql"""delete from "ALL_TYPES_TEST" where "ID" = ${Fragment.encode(AllTypesTestId.oracleType, id)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[AllTypesTestId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(AllTypesTestId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "ALL_TYPES_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => count = count + Fragment.interpolate(Fragment.lit("""delete from "ALL_TYPES_TEST" where "ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(AllTypesTestId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: AllTypesTestRow)(using c: Connection): AllTypesTestId = {
@@ -72,9 +73,9 @@ class AllTypesTestRepoImpl extends AllTypesTestRepo {
   }
 
   override def selectByIds(ids: Array[AllTypesTestId])(using c: Connection): List[AllTypesTestRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(AllTypesTestId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "ID", "NAME", "DATA", "DATA_ARRAY" from "ALL_TYPES_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(AllTypesTestRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[AllTypesTestRow] = ListBuffer()
+    ids.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => result.addAll(Fragment.interpolate(Fragment.lit("""select "ID", "NAME", "DATA", "DATA_ARRAY" from "ALL_TYPES_TEST" where "ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(AllTypesTestId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(AllTypesTestRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[AllTypesTestId])(using c: Connection): Map[AllTypesTestId, AllTypesTestRow] = {
@@ -94,6 +95,8 @@ class AllTypesTestRepoImpl extends AllTypesTestRepo {
     where "ID" = ${Fragment.encode(AllTypesTestId.oracleType, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[AllTypesTestRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.data, f.dataArray))(using c)
+
   override def upsert(unsaved: AllTypesTestRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "ALL_TYPES_TEST" t
     USING (SELECT ${Fragment.encode(AllTypesTestId.oracleType, unsaved.id)}, ${Fragment.encode(OracleTypes.varchar2, unsaved.name)}, ${Fragment.encode(AllTypesStructNoLobs.oracleType.nullable, unsaved.data)}, ${Fragment.encode(AllTypesStructNoLobsArray.oracleType.nullable, unsaved.dataArray)} FROM DUAL) s
@@ -35,6 +35,8 @@ trait ContactsRepo {
 
   def update(row: ContactsRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[ContactsRow])(using c: Connection): Int
+
   def upsert(unsaved: ContactsRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: Iterator[ContactsRow])(using c: Connection): Unit
@@ -16,6 +16,7 @@ import java.sql.Connection
 import oracledb.TagVarrayT
 import oracledb.userdefined.Email
 import scala.collection.mutable.ListBuffer
+import scala.jdk.CollectionConverters.SeqHasAsJava
 import dev.typr.foundations.scala.Fragment.sql
 
 class ContactsRepoImpl extends ContactsRepo {
@@ -24,9 +25,9 @@ class ContactsRepoImpl extends ContactsRepo {
   override def deleteById(contactId: ContactsId)(using c: Connection): Boolean = sql"""delete from "CONTACTS" where "CONTACT_ID" = ${Fragment.encode(ContactsId.oracleType, contactId)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(contactIds: Array[ContactsId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    contactIds.foreach { id => fragments.addOne(Fragment.encode(ContactsId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "CONTACTS" where "CONTACT_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    contactIds.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => count = count + Fragment.interpolate(Fragment.lit("""delete from "CONTACTS" where "CONTACT_ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(ContactsId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: ContactsRow)(using c: Connection): ContactsId = {
@@ -72,9 +73,9 @@ class ContactsRepoImpl extends ContactsRepo {
   }
 
   override def selectByIds(contactIds: Array[ContactsId])(using c: Connection): List[ContactsRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    contactIds.foreach { id => fragments.addOne(Fragment.encode(ContactsId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "CONTACT_ID", "NAME", "EMAILS", "TAGS" from "CONTACTS" where "CONTACT_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(ContactsRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[ContactsRow] = ListBuffer()
+    contactIds.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => result.addAll(Fragment.interpolate(Fragment.lit("""select "CONTACT_ID", "NAME", "EMAILS", "TAGS" from "CONTACTS" where "CONTACT_ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(ContactsId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(ContactsRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(contactIds: Array[ContactsId])(using c: Connection): Map[ContactsId, ContactsRow] = {
@@ -94,6 +95,8 @@ class ContactsRepoImpl extends ContactsRepo {
     where "CONTACT_ID" = ${Fragment.encode(ContactsId.oracleType, contactId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[ContactsRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.emails, f.tags))(using c)
+
   override def upsert(unsaved: ContactsRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "CONTACTS" t
     USING (SELECT ${Fragment.encode(ContactsId.oracleType, unsaved.contactId)}, ${Fragment.encode(OracleTypes.varchar2, unsaved.name)}, ${Fragment.encode(Email.oracleType.nullable, unsaved.emails)}, ${Fragment.encode(TagVarrayT.oracleType.nullable, unsaved.tags)} FROM DUAL) s
@@ -63,6 +63,15 @@ case class ContactsRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[ContactsRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.contactId)) {
+        map.put(row.contactId, row): @scala.annotation.nowarn
+        Some(row.contactId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: ContactsRow)(using c: Connection): Unit = map.put(unsaved.contactId, unsaved): @scala.annotation.nowarn
 
   override def upsertBatch(unsaved: Iterator[ContactsRow])(using c: Connection): Unit = {
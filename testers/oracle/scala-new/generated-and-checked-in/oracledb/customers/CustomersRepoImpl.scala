@@ -16,6 +16,7 @@ import java.sql.Connection
 import oracledb.AddressT
 import oracledb.MoneyT
 import scala.collection.mutable.ListBuffer
+import scala.jdk.CollectionConverters.SeqHasAsJava
 import dev.typr.foundations.scala.Fragment.sql
 
 class CustomersRepoImpl extends CustomersRepo {
@@ -24,9 +25,9 @@ class CustomersRepoImpl extends CustomersRepo {
   override def deleteById(customerId: CustomersId)(using c: Connection): Boolean = sql"""delete from "CUSTOMERS" where "CUSTOMER_ID" = ${Fragment.encode(CustomersId.oracleType, customerId)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(customerIds: Array[CustomersId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    customerIds.foreach { id => fragments.addOne(Fragment.encode(CustomersId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "CUSTOMERS" where "CUSTOMER_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    customerIds.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => count = count + Fragment.interpolate(Fragment.lit("""delete from "CUSTOMERS" where "CUSTOMER_ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(CustomersId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: CustomersRow)(using c: Connection): CustomersId = {
@@ -76,9 +77,9 @@ class CustomersRepoImpl extends CustomersRepo {
   }
 
   override def selectByIds(customerIds: Array[CustomersId])(using c: Connection): List[CustomersRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    customerIds.foreach { id => fragments.addOne(Fragment.encode(CustomersId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "CUSTOMER_ID", "NAME", "BILLING_ADDRESS", "CREDIT_LIMIT", "CREATED_AT" from "CUSTOMERS" where "CUSTOMER_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(CustomersRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[CustomersRow] = ListBuffer()
+    customerIds.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => result.addAll(Fragment.interpolate(Fragment.lit("""select "CUSTOMER_ID", "NAME", "BILLING_ADDRESS", "CREDIT_LIMIT", "CREATED_AT" from "CUSTOMERS" where "CUSTOMER_ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(CustomersId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(CustomersRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(customerIds: Array[CustomersId])(using c: Connection): Map[CustomersId, CustomersRow] = {
@@ -99,6 +100,8 @@ class CustomersRepoImpl extends CustomersRepo {
     where "CUSTOMER_ID" = ${Fragment.encode(CustomersId.oracleType, customerId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[CustomersRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.billingAddress, f.creditLimit, f.createdAt))(using c)
+
   override def upsert(unsaved: CustomersRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "CUSTOMERS" t
     USING (SELECT ${Fragment.encode(CustomersId.oracleType, unsaved.customerId)}, ${Fragment.encode(OracleTypes.varchar2, unsaved.name)}, ${Fragment.encode(AddressT.oracleType, unsaved.billingAddress)}, ${Fragment.encode(MoneyT.oracleType.nullable, unsaved.creditLimit)}, ${Fragment.encode(OracleTypes.timestamp, unsaved.createdAt)} FROM DUAL) s
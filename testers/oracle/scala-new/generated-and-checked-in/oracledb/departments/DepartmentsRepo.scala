@@ -33,6 +33,8 @@ trait DepartmentsRepo {
 
   def update(row: DepartmentsRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[DepartmentsRow])(using c: Connection): Int
+
   def upsert(unsaved: DepartmentsRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: Iterator[DepartmentsRow])(using c: Connection): Unit
@@ -5,6 +5,7 @@
  */
 package oracledb.departments
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.OracleTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -23,9 +24,9 @@ class DepartmentsRepoImpl extends DepartmentsRepo {
   override def deleteById(compositeId: DepartmentsId)(using c: Connection): Boolean = sql"""delete from "DEPARTMENTS" where "DEPT_CODE" = ${Fragment.encode(OracleTypes.varchar2, compositeId.deptCode)} AND "DEPT_REGION" = ${Fragment.encode(OracleTypes.varchar2, compositeId.deptRegion)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(compositeIds: Array[DepartmentsId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    compositeIds.foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.varchar2, id.deptCode), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.deptRegion), Fragment.lit(")"))): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "DEPARTMENTS" where ("DEPT_CODE", "DEPT_REGION") in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    compositeIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.varchar2, id.deptCode), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.deptRegion), Fragment.lit(")"))): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("""delete from "DEPARTMENTS" where ("DEPT_CODE", "DEPT_REGION") in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: DepartmentsRow)(using c: Connection): DepartmentsId = {
@@ -50,9 +51,9 @@ class DepartmentsRepoImpl extends DepartmentsRepo {
   }
 
   override def selectByIds(compositeIds: Array[DepartmentsId])(using c: Connection): List[DepartmentsRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    compositeIds.foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.varchar2, id.deptCode), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.deptRegion), Fragment.lit(")"))): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "DEPT_CODE", "DEPT_REGION", "DEPT_NAME", "BUDGET" from "DEPARTMENTS" where ("DEPT_CODE", "DEPT_REGION") in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(DepartmentsRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[DepartmentsRow] = ListBuffer()
+    compositeIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.varchar2, id.deptCode), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.deptRegion), Fragment.lit(")"))): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("""select "DEPT_CODE", "DEPT_REGION", "DEPT_NAME", "BUDGET" from "DEPARTMENTS" where ("DEPT_CODE", "DEPT_REGION") in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(DepartmentsRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(compositeIds: Array[DepartmentsId])(using c: Connection): Map[DepartmentsId, DepartmentsRow] = {
@@ -71,6 +72,8 @@ class DepartmentsRepoImpl extends DepartmentsRepo {
     where "DEPT_CODE" = ${Fragment.encode(OracleTypes.varchar2, compositeId.deptCode)} AND "DEPT_REGION" = ${Fragment.encode(OracleTypes.varchar2, compositeId.deptRegion)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[DepartmentsRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.deptName, f.budget))(using c)
+
   override def upsert(unsaved: DepartmentsRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "DEPARTMENTS" t
     USING (SELECT ${Fragment.encode(OracleTypes.varchar2, unsaved.deptCode)}, ${Fragment.encode(OracleTypes.varchar2, unsaved.deptRegion)}, ${Fragment.encode(OracleTypes.varchar2, unsaved.deptName)}, ${Fragment.encode(MoneyT.oracleType.nullable, unsaved.budget)} FROM DUAL) s
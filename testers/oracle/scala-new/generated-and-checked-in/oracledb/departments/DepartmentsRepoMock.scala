@@ -58,6 +58,15 @@ case class DepartmentsRepoMock(map: scala.collection.mutable.Map[DepartmentsId,
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[DepartmentsRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.compositeId)) {
+        map.put(row.compositeId, row): @scala.annotation.nowarn
+        Some(row.compositeId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: DepartmentsRow)(using c: Connection): Unit = map.put(unsaved.compositeId, unsaved): @scala.annotation.nowarn
 
   override def upsertBatch(unsaved: Iterator[DepartmentsRow])(using c: Connection): Unit = {
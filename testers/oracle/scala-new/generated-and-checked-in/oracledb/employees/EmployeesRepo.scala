@@ -35,6 +35,8 @@ trait EmployeesRepo {
 
   def update(row: EmployeesRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[EmployeesRow])(using c: Connection): Int
+
   def upsert(unsaved: EmployeesRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: Iterator[EmployeesRow])(using c: Connection): Unit
@@ -5,6 +5,7 @@
  */
 package oracledb.employees
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.OracleTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -24,9 +25,9 @@ class EmployeesRepoImpl extends EmployeesRepo {
   override def deleteById(compositeId: EmployeesId)(using c: Connection): Boolean = sql"""delete from "EMPLOYEES" where "EMP_NUMBER" = ${Fragment.encode(ScalaDbTypes.OracleTypes.number, compositeId.empNumber)} AND "EMP_SUFFIX" = ${Fragment.encode(OracleTypes.varchar2, compositeId.empSuffix)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(compositeIds: Array[EmployeesId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    compositeIds.foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(ScalaDbTypes.OracleTypes.number, id.empNumber), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.empSuffix), Fragment.lit(")"))): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "EMPLOYEES" where ("EMP_NUMBER", "EMP_SUFFIX") in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    compositeIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(ScalaDbTypes.OracleTypes.number, id.empNumber), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.empSuffix), Fragment.lit(")"))): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("""delete from "EMPLOYEES" where ("EMP_NUMBER", "EMP_SUFFIX") in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: EmployeesRow)(using c: Connection): EmployeesId = {
@@ -78,9 +79,9 @@ class EmployeesRepoImpl extends EmployeesRepo {
   }
 
   override def selectByIds(compositeIds: Array[EmployeesId])(using c: Connection): List[EmployeesRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    compositeIds.foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(ScalaDbTypes.OracleTypes.number, id.empNumber), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.empSuffix), Fragment.lit(")"))): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "EMP_NUMBER", "EMP_SUFFIX", "DEPT_CODE", "DEPT_REGION", "EMP_NAME", "SALARY", "HIRE_DATE" from "EMPLOYEES" where ("EMP_NUMBER", "EMP_SUFFIX") in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(EmployeesRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[EmployeesRow] = ListBuffer()
+    compositeIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.interpolate(Fragment.lit("("), Fragment.encode(ScalaDbTypes.OracleTypes.number, id.empNumber), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.empSuffix), Fragment.lit(")"))): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("""select "EMP_NUMBER", "EMP_SUFFIX", "DEPT_CODE", "DEPT_REGION", "EMP_NAME", "SALARY", "HIRE_DATE" from "EMPLOYEES" where ("EMP_NUMBER", "EMP_SUFFIX") in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(EmployeesRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(compositeIds: Array[EmployeesId])(using c: Connection): Map[EmployeesId, EmployeesRow] = {
@@ -102,6 +103,8 @@ class EmployeesRepoImpl extends EmployeesRepo {
     where "EMP_NUMBER" = ${Fragment.encode(ScalaDbTypes.OracleTypes.number, compositeId.empNumber)} AND "EMP_SUFFIX" = ${Fragment.encode(OracleTypes.varchar2, compositeId.empSuffix)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[EmployeesRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.deptCode, f.deptRegion, f.empName, f.salary, f.hireDate))(using c)
+
   override def upsert(unsaved: EmployeesRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "EMPLOYEES" t
     USING (SELECT ${Fragment.encode(ScalaDbTypes.OracleTypes.number, unsaved.empNumber)}, ${Fragment.encode(OracleTypes.varchar2, unsaved.empSuffix)}, ${Fragment.encode(OracleTypes.varchar2, unsaved.deptCode)}, ${Fragment.encode(OracleTypes.varchar2, unsaved.deptRegion)}, ${Fragment.encode(OracleTypes.varchar2, unsaved.empName)}, ${Fragment.encode(MoneyT.oracleType.nullable, unsaved.salary)}, ${Fragment.encode(OracleTypes.date, unsaved.hireDate)} FROM DUAL) s
@@ -63,6 +63,15 @@ case class EmployeesRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[EmployeesRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.compositeId)) {
+        map.put(row.compositeId, row): @scala.annotation.nowarn
+        Some(row.compositeId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: EmployeesRow)(using c: Connection): Unit = map.put(unsaved.compositeId, unsaved): @scala.annotation.nowarn
 
   override def upsertBatch(unsaved: Iterator[EmployeesRow])(using c: Connection): Unit = {
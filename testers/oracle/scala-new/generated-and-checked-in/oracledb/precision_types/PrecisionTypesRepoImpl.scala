@@ -28,6 +28,7 @@ import oracledb.precisetypes.NonEmptyString20
 import oracledb.precisetypes.NonEmptyString255
 import oracledb.precisetypes.NonEmptyString50
 import scala.collection.mutable.ListBuffer
+import scala.jdk.CollectionConverters.SeqHasAsJava
 import dev.typr.foundations.scala.Fragment.sql
 
 class PrecisionTypesRepoImpl extends PrecisionTypesRepo {
@@ -36,9 +37,9 @@ class PrecisionTypesRepoImpl extends PrecisionTypesRepo {
   override def deleteById(id: PrecisionTypesId)(using c: Connection): Boolean = sql"""delete from "PRECISION_TYPES" where "ID" = ${Fragment.encode(PrecisionTypesId.oracleType, id)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[PrecisionTypesId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "PRECISION_TYPES" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => count = count + Fragment.interpolate(Fragment.lit("""delete from "PRECISION_TYPES" where "ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(PrecisionTypesId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: PrecisionTypesRow)(using c: Connection): PrecisionTypesRow = {
@@ -110,9 +111,9 @@ class PrecisionTypesRepoImpl extends PrecisionTypesRepo {
   }
 
   override def selectByIds(ids: Array[PrecisionTypesId])(using c: Connection): List[PrecisionTypesRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "ID", "STRING10", "STRING20", "STRING50", "STRING100", "STRING255", "CHAR10", "NUMBER5_2", "NUMBER10_2", "NUMBER18_4", "NUMBER5_0", "NUMBER10_0", "NUMBER18_0", "TS0", "TS3", "TS6", "TS9" from "PRECISION_TYPES" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(PrecisionTypesRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[PrecisionTypesRow] = ListBuffer()
+    ids.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => result.addAll(Fragment.interpolate(Fragment.lit("""select "ID", "STRING10", "STRING20", "STRING50", "STRING100", "STRING255", "CHAR10", "NUMBER5_2", "NUMBER10_2", "NUMBER18_4", "NUMBER5_0", "NUMBER10_0", "NUMBER18_0", "TS0", "TS3", "TS6", "TS9" from "PRECISION_TYPES" where "ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(PrecisionTypesId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(PrecisionTypesRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[PrecisionTypesId])(using c: Connection): Map[PrecisionTypesId, PrecisionTypesRow] = {
@@ -145,6 +146,8 @@ class PrecisionTypesRepoImpl extends PrecisionTypesRepo {
     where "ID" = ${Fragment.encode(PrecisionTypesId.oracleType, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[PrecisionTypesRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.string10, f.string20, f.string50, f.string100, f.string255, f.char10, f.number52, f.number102, f.number184, f.number50, f.number100, f.number180, f.ts0, f.ts3, f.ts6, f.ts9))(using c)
+
   override def upsert(unsaved: PrecisionTypesRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "PRECISION_TYPES" t
     USING (SELECT ${Fragment.encode(PrecisionTypesId.oracleType, unsaved.id)}, ${Fragment.encode(NonEmptyString10.oracleType, unsaved.string10)}, ${Fragment.encode(NonEmptyString20.oracleType, unsaved.string20)}, ${Fragment.encode(NonEmptyString50.oracleType, unsaved.string50)}, ${Fragment.encode(NonEmptyString100.oracleType, unsaved.string100)}, ${Fragment.encode(NonEmptyString255.oracleType, unsaved.string255)}, ${Fragment.encode(NonEmptyPaddedString10.oracleType, unsaved.char10)}, ${Fragment.encode(Decimal5_2.oracleType, unsaved.number52)}, ${Fragment.encode(Decimal10_2.oracleType, unsaved.number102)}, ${Fragment.encode(Decimal18_4.oracleType, unsaved.number184)}, ${Fragment.encode(Int5.oracleType, unsaved.number50)}, ${Fragment.encode(Int10.oracleType, unsaved.number100)}, ${Fragment.encode(Int18.oracleType, unsaved.number180)}, ${Fragment.encode(OracleTypes.timestamp, unsaved.ts0)}, ${Fragment.encode(LocalDateTime3.oracleType, unsaved.ts3)}, ${Fragment.encode(LocalDateTime6.oracleType, unsaved.ts6)}, ${Fragment.encode(LocalDateTime9.oracleType, unsaved.ts9)} FROM DUAL) s
@@ -29,6 +29,7 @@ import oracledb.precisetypes.NonEmptyString20
 import oracledb.precisetypes.NonEmptyString255
 import oracledb.precisetypes.NonEmptyString50
 import scala.collection.mutable.ListBuffer
+import scala.jdk.CollectionConverters.SeqHasAsJava
 import dev.typr.foundations.scala.Fragment.sql
 
 class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
@@ -37,9 +38,9 @@ class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
   override def deleteById(id: PrecisionTypesNullId)(using c: Connection): Boolean = sql"""delete from "PRECISION_TYPES_NULL" where "ID" = ${Fragment.encode(PrecisionTypesNullId.oracleType, id)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[PrecisionTypesNullId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesNullId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "PRECISION_TYPES_NULL" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => count = count + Fragment.interpolate(Fragment.lit("""delete from "PRECISION_TYPES_NULL" where "ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(PrecisionTypesNullId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: PrecisionTypesNullRow)(using c: Connection): PrecisionTypesNullRow = {
@@ -111,9 +112,9 @@ class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
   }
 
   override def selectByIds(ids: Array[PrecisionTypesNullId])(using c: Connection): List[PrecisionTypesNullRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesNullId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "ID", "STRING10", "STRING20", "STRING50", "STRING100", "STRING255", "CHAR10", "NUMBER5_2", "NUMBER10_2", "NUMBER18_4", "NUMBER5_0", "NUMBER10_0", "NUMBER18_0", "TS0", "TS3", "TS6", "TS9" from "PRECISION_TYPES_NULL" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(PrecisionTypesNullRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[PrecisionTypesNullRow] = ListBuffer()
+    ids.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => result.addAll(Fragment.interpolate(Fragment.lit("""select "ID", "STRING10", "STRING20", "STRING50", "STRING100", "STRING255", "CHAR10", "NUMBER5_2", "NUMBER10_2", "NUMBER18_4", "NUMBER5_0", "NUMBER10_0", "NUMBER18_0", "TS0", "TS3", "TS6", "TS9" from "PRECISION_TYPES_NULL" where "ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(PrecisionTypesNullId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(PrecisionTypesNullRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[PrecisionTypesNullId])(using c: Connection): Map[PrecisionTypesNullId, PrecisionTypesNullRow] = {
@@ -146,6 +147,8 @@ class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
     where "ID" = ${Fragment.encode(PrecisionTypesNullId.oracleType, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[PrecisionTypesNullRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.string10, f.string20, f.string50, f.string100, f.string255, f.char10, f.number52, f.number102, f.number184, f.number50, f.number100, f.number180, f.ts0, f.ts3, f.ts6, f.ts9))(using c)
+
   override def upsert(unsaved: PrecisionTypesNullRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "PRECISION_TYPES_NULL" t
     USING (SELECT ${Fragment.encode(PrecisionTypesNullId.oracleType, unsaved.id)}, ${Fragment.encode(NonEmptyString10.oracleType.nullable, unsaved.string10)}, ${Fragment.encode(NonEmptyString20.oracleType.nullable, unsaved.string20)}, ${Fragment.encode(NonEmptyString50.oracleType.nullable, unsaved.string50)}, ${Fragment.encode(NonEmptyString100.oracleType.nullable, unsaved.string100)}, ${Fragment.encode(NonEmptyString255.oracleType.nullable, unsaved.string255)}, ${Fragment.encode(NonEmptyPaddedString10.oracleType.nullable, unsaved.char10)}, ${Fragment.encode(Decimal5_2.oracleType.nullable, unsaved.number52)}, ${Fragment.encode(Decimal10_2.oracleType.nullable, unsaved.number102)}, ${Fragment.encode(Decimal18_4.oracleType.nullable, unsaved.number184)}, ${Fragment.encode(Int5.oracleType.nullable, unsaved.number50)}, ${Fragment.encode(Int10.oracleType.nullable, unsaved.number100)}, ${Fragment.encode(Int18.oracleType.nullable, unsaved.number180)}, ${Fragment.encode(OracleTypes.timestamp.nullable, unsaved.ts0)}, ${Fragment.encode(LocalDateTime3.oracleType.nullable, unsaved.ts3)}, ${Fragment.encode(LocalDateTime6.oracleType.nullable, unsaved.ts6)}, ${Fragment.encode(LocalDateTime9.oracleType.nullable, unsaved.ts9)} FROM DUAL) s
@@ -37,6 +37,8 @@ trait ProductsRepo {
 
   def update(row: ProductsRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[ProductsRow])(using c: Connection): Int
+
   def upsert(unsaved: ProductsRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: Iterator[ProductsRow])(using c: Connection): Unit
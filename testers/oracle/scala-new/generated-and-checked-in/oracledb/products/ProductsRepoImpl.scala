@@ -16,6 +16,7 @@ import java.sql.Connection
 import oracledb.MoneyT
 import oracledb.TagVarrayT
 import scala.collection.mutable.ListBuffer
+import scala.jdk.CollectionConverters.SeqHasAsJava
 import dev.typr.foundations.scala.Fragment.sql
 
 class ProductsRepoImpl extends ProductsRepo {
@@ -24,9 +25,9 @@ class ProductsRepoImpl extends ProductsRepo {
   override def deleteById(productId: ProductsId)(using c: Connection): Boolean = sql"""delete from "PRODUCTS" where "PRODUCT_ID" = ${Fragment.encode(ProductsId.oracleType, productId)}""".update().runUnchecked(c) > 0
 
   override def deleteByIds(productIds: Array[ProductsId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    productIds.foreach { id => fragments.addOne(Fragment.encode(ProductsId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "PRODUCTS" where "PRODUCT_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    productIds.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => count = count + Fragment.interpolate(Fragment.lit("""delete from "PRODUCTS" where "PRODUCT_ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(ProductsId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: ProductsRow)(using c: Connection): ProductsId = {
@@ -74,9 +75,9 @@ class ProductsRepoImpl extends ProductsRepo {
   }
 
   override def selectByIds(productIds: Array[ProductsId])(using c: Connection): List[ProductsRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    productIds.foreach { id => fragments.addOne(Fragment.encode(ProductsId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "PRODUCT_ID", "SKU", "NAME", "PRICE", "TAGS" from "PRODUCTS" where "PRODUCT_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(ProductsRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[ProductsRow] = ListBuffer()
+    productIds.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => result.addAll(Fragment.interpolate(Fragment.lit("""select "PRODUCT_ID", "SKU", "NAME", "PRICE", "TAGS" from "PRODUCTS" where "PRODUCT_ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(ProductsId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(ProductsRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(productIds: Array[ProductsId])(using c: Connection): Map[ProductsId, ProductsRow] = {
@@ -104,6 +105,8 @@ class ProductsRepoImpl extends ProductsRepo {
     where "PRODUCT_ID" = ${Fragment.encode(ProductsId.oracleType, productId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[ProductsRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.sku, f.name, f.price, f.tags))(using c)
+
   override def upsert(unsaved: ProductsRow)(using c: Connection): Unit = {
     sql"""MERGE INTO "PRODUCTS" t
     USING (SELECT ${Fragment.encode(ProductsId.oracleType, unsaved.productId)}, ${Fragment.encode(OracleTypes.varchar2, unsaved.sku)}, ${Fragment.encode(OracleTypes.varchar2, unsaved.name)}, ${Fragment.encode(MoneyT.oracleType, unsaved.price)}, ${Fragment.encode(TagVarrayT.oracleType.nullable, unsaved.tags)} FROM DUAL) s
@@ -36,6 +36,8 @@ trait AllScalarTypesRepo {
 
   def update(row: AllScalarTypesRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[AllScalarTypesRow])(using c: Connection): Integer
+
   def upsert(unsaved: AllScalarTypesRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: java.util.Iterator[AllScalarTypesRow])(using c: Connection): Unit
@@ -15,6 +15,7 @@ import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
 import java.util.Optional
+import scala.jdk.CollectionConverters.SeqHasAsJava
 import dev.typr.foundations.Fragment.interpolate
 
 class AllScalarTypesRepoImpl extends AllScalarTypesRepo {
@@ -23,9 +24,9 @@ class AllScalarTypesRepoImpl extends AllScalarTypesRepo {
   override def deleteById(id: AllScalarTypesId)(using c: Connection): java.lang.Boolean = interpolate(Fragment.lit("""delete from "ALL_SCALAR_TYPES" where "ID" = """), Fragment.encode(AllScalarTypesId.oracleType, id), Fragment.lit("")).update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[AllScalarTypesId])(using c: Connection): Integer = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    ids.foreach { id => fragments.add(Fragment.encode(AllScalarTypesId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "ALL_SCALAR_TYPES" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => count = count + Fragment.interpolate(Fragment.lit("""delete from "ALL_SCALAR_TYPES" where "ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(AllScalarTypesId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: AllScalarTypesRow)(using c: Connection): AllScalarTypesRow = {
@@ -77,9 +78,9 @@ class AllScalarTypesRepoImpl extends AllScalarTypesRepo {
   }
 
   override def selectByIds(ids: Array[AllScalarTypesId])(using c: Connection): java.util.List[AllScalarTypesRow] = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    ids.foreach { id => fragments.add(Fragment.encode(AllScalarTypesId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "ID", "COL_VARCHAR2", "COL_NUMBER", "COL_DATE", "COL_TIMESTAMP", "COL_CLOB", "COL_NOT_NULL" from "ALL_SCALAR_TYPES" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(AllScalarTypesRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ArrayList[AllScalarTypesRow] = new ArrayList()
+    ids.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => result.addAll(Fragment.interpolate(Fragment.lit("""select "ID", "COL_VARCHAR2", "COL_NUMBER", "COL_DATE", "COL_TIMESTAMP", "COL_CLOB", "COL_NOT_NULL" from "ALL_SCALAR_TYPES" where "ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(AllScalarTypesId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(AllScalarTypesRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result
   }
 
   override def selectByIdsTracked(ids: Array[AllScalarTypesId])(using c: Connection): java.util.Map[AllScalarTypesId, AllScalarTypesRow] = {
@@ -102,6 +103,8 @@ class AllScalarTypesRepoImpl extends AllScalarTypesRepo {
     where "ID" = """), Fragment.encode(AllScalarTypesId.oracleType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[AllScalarTypesRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.colVarchar2, f.colNumber, f.colDate, f.colTimestamp, f.colClob, f.colNotNull), c)
+
   override def upsert(unsaved: AllScalarTypesRow)(using c: Connection): Unit = {
     interpolate(Fragment.lit("""MERGE INTO "ALL_SCALAR_TYPES" t
     USING (SELECT """), Fragment.encode(AllScalarTypesId.oracleType, unsaved.id), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2.opt(), unsaved.colVarchar2), Fragment.lit(", "), Fragment.encode(OracleTypes.number.opt(), unsaved.colNumber), Fragment.lit(", "), Fragment.encode(OracleTypes.date.opt(), unsaved.colDate), Fragment.lit(", "), Fragment.encode(OracleTypes.timestamp.opt(), unsaved.colTimestamp), Fragment.lit(", "), Fragment.encode(OracleTypes.clob.opt(), unsaved.colClob), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, unsaved.colNotNull), Fragment.lit(""" FROM DUAL) s
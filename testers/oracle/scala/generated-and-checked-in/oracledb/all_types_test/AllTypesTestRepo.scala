@@ -36,6 +36,8 @@ trait AllTypesTestRepo {
 
   def update(row: AllTypesTestRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[AllTypesTestRow])(using c: Connection): Integer
+
   def upsert(unsaved: AllTypesTestRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: java.util.Iterator[AllTypesTestRow])(using c: Connection): Unit
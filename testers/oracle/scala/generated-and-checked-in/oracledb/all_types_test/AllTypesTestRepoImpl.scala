@@ -17,6 +17,7 @@ import java.util.HashMap
 import java.util.Optional
 import oracledb.AllTypesStructNoLobs
 import oracledb.AllTypesStructNoLobsArray
+import scala.jdk.CollectionConverters.SeqHasAsJava
 import dev.typr.foundations.Fragment.interpolate
 
 class AllTypesTestRepoImpl extends AllTypesTestRepo {
@@ -25,9 +26,9 @@ class AllTypesTestRepoImpl extends AllTypesTestRepo {
   override def deleteById(id: AllTypesTestId)(using c: Connection): java.lang.Boolean = interpolate(Fragment.lit("""delete from "ALL_TYPES_TEST" where "ID" = """), Fragment.encode(AllTypesTestId.oracleType, id), Fragment.lit("")).update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[AllTypesTestId])(using c: Connection): Integer = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    ids.foreach { id => fragments.add(Fragment.encode(AllTypesTestId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "ALL_TYPES_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => count = count + Fragment.interpolate(Fragment.lit("""delete from "ALL_TYPES_TEST" where "ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(AllTypesTestId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: AllTypesTestRow)(using c: Connection): AllTypesTestId = {
@@ -73,9 +74,9 @@ class AllTypesTestRepoImpl extends AllTypesTestRepo {
   }
 
   override def selectByIds(ids: Array[AllTypesTestId])(using c: Connection): java.util.List[AllTypesTestRow] = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    ids.foreach { id => fragments.add(Fragment.encode(AllTypesTestId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "ID", "NAME", "DATA", "DATA_ARRAY" from "ALL_TYPES_TEST" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(AllTypesTestRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ArrayList[AllTypesTestRow] = new ArrayList()
+    ids.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => result.addAll(Fragment.interpolate(Fragment.lit("""select "ID", "NAME", "DATA", "DATA_ARRAY" from "ALL_TYPES_TEST" where "ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(AllTypesTestId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(AllTypesTestRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result
   }
 
   override def selectByIdsTracked(ids: Array[AllTypesTestId])(using c: Connection): java.util.Map[AllTypesTestId, AllTypesTestRow] = {
@@ -95,6 +96,8 @@ class AllTypesTestRepoImpl extends AllTypesTestRepo {
     where "ID" = """), Fragment.encode(AllTypesTestId.oracleType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[AllTypesTestRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.name, f.data, f.dataArray), c)
+
   override def upsert(unsaved: AllTypesTestRow)(using c: Connection): Unit = {
     interpolate(Fragment.lit("""MERGE INTO "ALL_TYPES_TEST" t
     USING (SELECT """), Fragment.encode(AllTypesTestId.oracleType, unsaved.id), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, unsaved.name), Fragment.lit(", "), Fragment.encode(AllTypesStructNoLobs.oracleType.opt(), unsaved.data), Fragment.lit(", "), Fragment.encode(AllTypesStructNoLobsArray.oracleType.opt(), unsaved.dataArray), Fragment.lit(""" FROM DUAL) s
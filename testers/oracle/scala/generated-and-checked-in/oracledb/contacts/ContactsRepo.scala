@@ -36,6 +36,8 @@ trait ContactsRepo {
 
   def update(row: ContactsRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[ContactsRow])(using c: Connection): Integer
+
   def upsert(unsaved: ContactsRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: java.util.Iterator[ContactsRow])(using c: Connection): Unit
@@ -17,6 +17,7 @@ import java.util.HashMap
 import java.util.Optional
 import oracledb.TagVarrayT
 import oracledb.userdefined.Email
+import scala.jdk.CollectionConverters.SeqHasAsJava
 import dev.typr.foundations.Fragment.interpolate
 
 class ContactsRepoImpl extends ContactsRepo {
@@ -25,9 +26,9 @@ class ContactsRepoImpl extends ContactsRepo {
   override def deleteById(contactId: ContactsId)(using c: Connection): java.lang.Boolean = interpolate(Fragment.lit("""delete from "CONTACTS" where "CONTACT_ID" = """), Fragment.encode(ContactsId.oracleType, contactId), Fragment.lit("")).update().runUnchecked(c) > 0
 
   override def deleteByIds(contactIds: Array[ContactsId])(using c: Connection): Integer = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    contactIds.foreach { id => fragments.add(Fragment.encode(ContactsId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "CONTACTS" where "CONTACT_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    contactIds.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => count = count + Fragment.interpolate(Fragment.lit("""delete from "CONTACTS" where "CONTACT_ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(ContactsId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: ContactsRow)(using c: Connection): ContactsId = {
@@ -73,9 +74,9 @@ class ContactsRepoImpl extends ContactsRepo {
   }
 
   override def selectByIds(contactIds: Array[ContactsId])(using c: Connection): java.util.List[ContactsRow] = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    contactIds.foreach { id => fragments.add(Fragment.encode(ContactsId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "CONTACT_ID", "NAME", "EMAILS", "TAGS" from "CONTACTS" where "CONTACT_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(ContactsRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ArrayList[ContactsRow] = new ArrayList()
+    contactIds.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => result.addAll(Fragment.interpolate(Fragment.lit("""select "CONTACT_ID", "NAME", "EMAILS", "TAGS" from "CONTACTS" where "CONTACT_ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(ContactsId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(ContactsRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result
   }
 
   override def selectByIdsTracked(contactIds: Array[ContactsId])(using c: Connection): java.util.Map[ContactsId, ContactsRow] = {
@@ -95,6 +96,8 @@ class ContactsRepoImpl extends ContactsRepo {
     where "CONTACT_ID" = """), Fragment.encode(ContactsId.oracleType, contactId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[ContactsRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.name, f.emails, f.tags), c)
+
   override def upsert(unsaved: ContactsRow)(using c: Connection): Unit = {
     interpolate(Fragment.lit("""MERGE INTO "CONTACTS" t
     USING (SELECT """), Fragment.encode(ContactsId.oracleType, unsaved.contactId), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, unsaved.name), Fragment.lit(", "), Fragment.encode(Email.oracleType.opt(), unsaved.emails), Fragment.lit(", "), Fragment.encode(TagVarrayT.oracleType.opt(), unsaved.tags), Fragment.lit(""" FROM DUAL) s
@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -74,6 +75,18 @@ case class ContactsRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[ContactsRow])(using c: Connection): Integer = {
+    val updated = new HashSet[ContactsId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.contactId)) {
+        map.put(row.contactId, row): @scala.annotation.nowarn
+        updated.add(row.contactId): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: ContactsRow)(using c: Connection): Unit = map.put(unsaved.contactId, unsaved): @scala.annotation.nowarn
 
   override def upsertBatch(unsaved: java.util.Iterator[ContactsRow])(using c: Connection): Unit = {
@@ -36,6 +36,8 @@ trait CustomersRepo {
 
   def update(row: CustomersRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[CustomersRow])(using c: Connection): Integer
+
   def upsert(unsaved: CustomersRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: java.util.Iterator[CustomersRow])(using c: Connection): Unit
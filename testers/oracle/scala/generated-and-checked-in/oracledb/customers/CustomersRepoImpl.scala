@@ -17,6 +17,7 @@ import java.util.HashMap
 import java.util.Optional
 import oracledb.AddressT
 import oracledb.MoneyT
+import scala.jdk.CollectionConverters.SeqHasAsJava
 import dev.typr.foundations.Fragment.interpolate
 
 class CustomersRepoImpl extends CustomersRepo {
@@ -25,9 +26,9 @@ class CustomersRepoImpl extends CustomersRepo {
   override def deleteById(customerId: CustomersId)(using c: Connection): java.lang.Boolean = interpolate(Fragment.lit("""delete from "CUSTOMERS" where "CUSTOMER_ID" = """), Fragment.encode(CustomersId.oracleType, customerId), Fragment.lit("")).update().runUnchecked(c) > 0
 
   override def deleteByIds(customerIds: Array[CustomersId])(using c: Connection): Integer = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    customerIds.foreach { id => fragments.add(Fragment.encode(CustomersId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "CUSTOMERS" where "CUSTOMER_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    customerIds.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => count = count + Fragment.interpolate(Fragment.lit("""delete from "CUSTOMERS" where "CUSTOMER_ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(CustomersId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: CustomersRow)(using c: Connection): CustomersId = {
@@ -77,9 +78,9 @@ class CustomersRepoImpl extends CustomersRepo {
   }
 
   override def selectByIds(customerIds: Array[CustomersId])(using c: Connection): java.util.List[CustomersRow] = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    customerIds.foreach { id => fragments.add(Fragment.encode(CustomersId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "CUSTOMER_ID", "NAME", "BILLING_ADDRESS", "CREDIT_LIMIT", "CREATED_AT" from "CUSTOMERS" where "CUSTOMER_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(CustomersRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ArrayList[CustomersRow] = new ArrayList()
+    customerIds.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => result.addAll(Fragment.interpolate(Fragment.lit("""select "CUSTOMER_ID", "NAME", "BILLING_ADDRESS", "CREDIT_LIMIT", "CREATED_AT" from "CUSTOMERS" where "CUSTOMER_ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(CustomersId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(CustomersRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result
   }
 
   override def selectByIdsTracked(customerIds: Array[CustomersId])(using c: Connection): java.util.Map[CustomersId, CustomersRow] = {
@@ -100,6 +101,8 @@ class CustomersRepoImpl extends CustomersRepo {
     where "CUSTOMER_ID" = """), Fragment.encode(CustomersId.oracleType, customerId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[CustomersRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.name, f.billingAddress, f.creditLimit, f.createdAt), c)
+
   override def upsert(unsaved: CustomersRow)(using c: Connection): Unit = {
     interpolate(Fragment.lit("""MERGE INTO "CUSTOMERS" t
     USING (SELECT """), Fragment.encode(CustomersId.oracleType, unsaved.customerId), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, unsaved.name), Fragment.lit(", "), Fragment.encode(AddressT.oracleType, unsaved.billingAddress), Fragment.lit(", "), Fragment.encode(MoneyT.oracleType.opt(), unsaved.creditLimit), Fragment.lit(", "), Fragment.encode(OracleTypes.timestamp, unsaved.createdAt), Fragment.lit(""" FROM DUAL) s
@@ -34,6 +34,8 @@ trait DepartmentsRepo {
 
   def update(row: DepartmentsRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[DepartmentsRow])(using c: Connection): Integer
+
   def upsert(unsaved: DepartmentsRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: java.util.Iterator[DepartmentsRow])(using c: Connection): Unit
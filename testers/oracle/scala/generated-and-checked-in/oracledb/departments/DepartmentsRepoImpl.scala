@@ -6,6 +6,7 @@
 package oracledb.departments
 
 import dev.typr.foundations.Fragment
+import dev.typr.foundations.InList
 import dev.typr.foundations.OracleTypes
 import dev.typr.foundations.dsl.DeleteBuilder
 import dev.typr.foundations.dsl.Dialect
@@ -24,9 +25,9 @@ class DepartmentsRepoImpl extends DepartmentsRepo {
   override def deleteById(compositeId: DepartmentsId)(using c: Connection): java.lang.Boolean = interpolate(Fragment.lit("""delete from "DEPARTMENTS" where "DEPT_CODE" = """), Fragment.encode(OracleTypes.varchar2, compositeId.deptCode), Fragment.lit(""" AND "DEPT_REGION" = """), Fragment.encode(OracleTypes.varchar2, compositeId.deptRegion), Fragment.lit("")).update().runUnchecked(c) > 0
 
   override def deleteByIds(compositeIds: Array[DepartmentsId])(using c: Connection): Integer = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    compositeIds.foreach { id => fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.varchar2, id.deptCode), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.deptRegion), Fragment.lit(")"))): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "DEPARTMENTS" where ("DEPT_CODE", "DEPT_REGION") in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    compositeIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ArrayList[Fragment] = new ArrayList(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.varchar2, id.deptCode), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.deptRegion), Fragment.lit(")"))): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("""delete from "DEPARTMENTS" where ("DEPT_CODE", "DEPT_REGION") in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: DepartmentsRow)(using c: Connection): DepartmentsId = {
@@ -51,9 +52,9 @@ class DepartmentsRepoImpl extends DepartmentsRepo {
   }
 
   override def selectByIds(compositeIds: Array[DepartmentsId])(using c: Connection): java.util.List[DepartmentsRow] = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    compositeIds.foreach { id => fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.varchar2, id.deptCode), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.deptRegion), Fragment.lit(")"))): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "DEPT_CODE", "DEPT_REGION", "DEPT_NAME", "BUDGET" from "DEPARTMENTS" where ("DEPT_CODE", "DEPT_REGION") in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(DepartmentsRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ArrayList[DepartmentsRow] = new ArrayList()
+    compositeIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ArrayList[Fragment] = new ArrayList(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.varchar2, id.deptCode), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.deptRegion), Fragment.lit(")"))): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("""select "DEPT_CODE", "DEPT_REGION", "DEPT_NAME", "BUDGET" from "DEPARTMENTS" where ("DEPT_CODE", "DEPT_REGION") in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(DepartmentsRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result
   }
 
   override def selectByIdsTracked(compositeIds: Array[DepartmentsId])(using c: Connection): java.util.Map[DepartmentsId, DepartmentsRow] = {
@@ -72,6 +73,8 @@ class DepartmentsRepoImpl extends DepartmentsRepo {
     where "DEPT_CODE" = """), Fragment.encode(OracleTypes.varchar2, compositeId.deptCode), Fragment.lit(""" AND "DEPT_REGION" = """), Fragment.encode(OracleTypes.varchar2, compositeId.deptRegion), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[DepartmentsRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.deptName, f.budget), c)
+
   override def upsert(unsaved: DepartmentsRow)(using c: Connection): Unit = {
     interpolate(Fragment.lit("""MERGE INTO "DEPARTMENTS" t
     USING (SELECT """), Fragment.encode(OracleTypes.varchar2, unsaved.deptCode), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, unsaved.deptRegion), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, unsaved.deptName), Fragment.lit(", "), Fragment.encode(MoneyT.oracleType.opt(), unsaved.budget), Fragment.lit(""" FROM DUAL) s
@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -69,6 +70,18 @@ case class DepartmentsRepoMock(map: HashMap[DepartmentsId, DepartmentsRow] = new
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[DepartmentsRow])(using c: Connection): Integer = {
+    val updated = new HashSet[DepartmentsId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.compositeId)) {
+        map.put(row.compositeId, row): @scala.annotation.nowarn
+        updated.add(row.compositeId): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: DepartmentsRow)(using c: Connection): Unit = map.put(unsaved.compositeId, unsaved): @scala.annotation.nowarn
 
   override def upsertBatch(unsaved: java.util.Iterator[DepartmentsRow])(using c: Connection): Unit = {
@@ -36,6 +36,8 @@ trait EmployeesRepo {
 
   def update(row: EmployeesRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[EmployeesRow])(using c: Connection): Integer
+
   def upsert(unsaved: EmployeesRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: java.util.Iterator[EmployeesRow])(using c: Connection): Unit
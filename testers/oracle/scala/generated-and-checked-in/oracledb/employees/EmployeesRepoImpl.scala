@@ -6,6 +6,7 @@
 package oracledb.employees
 
 import dev.typr.foundations.Fragment
+import dev.typr.foundations.InList
 import dev.typr.foundations.OracleTypes
 import dev.typr.foundations.dsl.DeleteBuilder
 import dev.typr.foundations.dsl.Dialect
@@ -24,9 +25,9 @@ class EmployeesRepoImpl extends EmployeesRepo {
   override def deleteById(compositeId: EmployeesId)(using c: Connection): java.lang.Boolean = interpolate(Fragment.lit("""delete from "EMPLOYEES" where "EMP_NUMBER" = """), Fragment.encode(OracleTypes.number, compositeId.empNumber), Fragment.lit(""" AND "EMP_SUFFIX" = """), Fragment.encode(OracleTypes.varchar2, compositeId.empSuffix), Fragment.lit("")).update().runUnchecked(c) > 0
 
   override def deleteByIds(compositeIds: Array[EmployeesId])(using c: Connection): Integer = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    compositeIds.foreach { id => fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.number, id.empNumber), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.empSuffix), Fragment.lit(")"))): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "EMPLOYEES" where ("EMP_NUMBER", "EMP_SUFFIX") in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    compositeIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ArrayList[Fragment] = new ArrayList(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.number, id.empNumber), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.empSuffix), Fragment.lit(")"))): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("""delete from "EMPLOYEES" where ("EMP_NUMBER", "EMP_SUFFIX") in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: EmployeesRow)(using c: Connection): EmployeesId = {
@@ -78,9 +79,9 @@ class EmployeesRepoImpl extends EmployeesRepo {
   }
 
   override def selectByIds(compositeIds: Array[EmployeesId])(using c: Connection): java.util.List[EmployeesRow] = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    compositeIds.foreach { id => fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.number, id.empNumber), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.empSuffix), Fragment.lit(")"))): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "EMP_NUMBER", "EMP_SUFFIX", "DEPT_CODE", "DEPT_REGION", "EMP_NAME", "SALARY", "HIRE_DATE" from "EMPLOYEES" where ("EMP_NUMBER", "EMP_SUFFIX") in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(EmployeesRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ArrayList[EmployeesRow] = new ArrayList()
+    compositeIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ArrayList[Fragment] = new ArrayList(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.add(Fragment.interpolate(Fragment.lit("("), Fragment.encode(OracleTypes.number, id.empNumber), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, id.empSuffix), Fragment.lit(")"))): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("""select "EMP_NUMBER", "EMP_SUFFIX", "DEPT_CODE", "DEPT_REGION", "EMP_NAME", "SALARY", "HIRE_DATE" from "EMPLOYEES" where ("EMP_NUMBER", "EMP_SUFFIX") in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(EmployeesRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result
   }
 
   override def selectByIdsTracked(compositeIds: Array[EmployeesId])(using c: Connection): java.util.Map[EmployeesId, EmployeesRow] = {
@@ -102,6 +103,8 @@ class EmployeesRepoImpl extends EmployeesRepo {
     where "EMP_NUMBER" = """), Fragment.encode(OracleTypes.number, compositeId.empNumber), Fragment.lit(""" AND "EMP_SUFFIX" = """), Fragment.encode(OracleTypes.varchar2, compositeId.empSuffix), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[EmployeesRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.deptCode, f.deptRegion, f.empName, f.salary, f.hireDate), c)
+
   override def upsert(unsaved: EmployeesRow)(using c: Connection): Unit = {
     interpolate(Fragment.lit("""MERGE INTO "EMPLOYEES" t
     USING (SELECT """), Fragment.encode(OracleTypes.number, unsaved.empNumber), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, unsaved.empSuffix), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, unsaved.deptCode), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, unsaved.deptRegion), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, unsaved.empName), Fragment.lit(", "), Fragment.encode(MoneyT.oracleType.opt(), unsaved.salary), Fragment.lit(", "), Fragment.encode(OracleTypes.date, unsaved.hireDate), Fragment.lit(""" FROM DUAL) s
@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -74,6 +75,18 @@ case class EmployeesRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[EmployeesRow])(using c: Connection): Integer = {
+    val updated = new HashSet[EmployeesId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.compositeId)) {
+        map.put(row.compositeId, row): @scala.annotation.nowarn
+        updated.add(row.compositeId): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: EmployeesRow)(using c: Connection): Unit = map.put(unsaved.compositeId, unsaved): @scala.annotation.nowarn
 
   override def upsertBatch(unsaved: java.util.Iterator[EmployeesRow])(using c: Connection): Unit = {
@@ -36,6 +36,8 @@ trait PrecisionTypesRepo {
 
   def update(row: PrecisionTypesRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[PrecisionTypesRow])(using c: Connection): Integer
+
   def upsert(unsaved: PrecisionTypesRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: java.util.Iterator[PrecisionTypesRow])(using c: Connection): Unit
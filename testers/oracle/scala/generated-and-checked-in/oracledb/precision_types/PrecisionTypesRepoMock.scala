@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -74,6 +75,18 @@ case class PrecisionTypesRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[PrecisionTypesRow])(using c: Connection): Integer = {
+    val updated = new HashSet[PrecisionTypesId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.id)) {
+        map.put(row.id, row): @scala.annotation.nowarn
+        updated.add(row.id): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: PrecisionTypesRow)(using c: Connection): Unit = map.put(unsaved.id, unsaved): @scala.annotation.nowarn
 
   override def upsertBatch(unsaved: java.util.Iterator[PrecisionTypesRow])(using c: Connection): Unit = {
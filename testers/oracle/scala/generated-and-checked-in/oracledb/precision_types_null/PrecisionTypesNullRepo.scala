@@ -36,6 +36,8 @@ trait PrecisionTypesNullRepo {
 
   def update(row: PrecisionTypesNullRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[PrecisionTypesNullRow])(using c: Connection): Integer
+
   def upsert(unsaved: PrecisionTypesNullRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: java.util.Iterator[PrecisionTypesNullRow])(using c: Connection): Unit
@@ -30,6 +30,7 @@ import oracledb.precisetypes.NonEmptyString100
 import oracledb.precisetypes.NonEmptyString20
 import oracledb.precisetypes.NonEmptyString255
 import oracledb.precisetypes.NonEmptyString50
+import scala.jdk.CollectionConverters.SeqHasAsJava
 import dev.typr.foundations.Fragment.interpolate
 
 class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
@@ -38,9 +39,9 @@ class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
   override def deleteById(id: PrecisionTypesNullId)(using c: Connection): java.lang.Boolean = interpolate(Fragment.lit("""delete from "PRECISION_TYPES_NULL" where "ID" = """), Fragment.encode(PrecisionTypesNullId.oracleType, id), Fragment.lit("")).update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[PrecisionTypesNullId])(using c: Connection): Integer = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    ids.foreach { id => fragments.add(Fragment.encode(PrecisionTypesNullId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "PRECISION_TYPES_NULL" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => count = count + Fragment.interpolate(Fragment.lit("""delete from "PRECISION_TYPES_NULL" where "ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(PrecisionTypesNullId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: PrecisionTypesNullRow)(using c: Connection): PrecisionTypesNullRow = {
@@ -112,9 +113,9 @@ class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
   }
 
   override def selectByIds(ids: Array[PrecisionTypesNullId])(using c: Connection): java.util.List[PrecisionTypesNullRow] = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    ids.foreach { id => fragments.add(Fragment.encode(PrecisionTypesNullId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "ID", "STRING10", "STRING20", "STRING50", "STRING100", "STRING255", "CHAR10", "NUMBER5_2", "NUMBER10_2", "NUMBER18_4", "NUMBER5_0", "NUMBER10_0", "NUMBER18_0", "TS0", "TS3", "TS6", "TS9" from "PRECISION_TYPES_NULL" where "ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(PrecisionTypesNullRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ArrayList[PrecisionTypesNullRow] = new ArrayList()
+    ids.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => result.addAll(Fragment.interpolate(Fragment.lit("""select "ID", "STRING10", "STRING20", "STRING50", "STRING100", "STRING255", "CHAR10", "NUMBER5_2", "NUMBER10_2", "NUMBER18_4", "NUMBER5_0", "NUMBER10_0", "NUMBER18_0", "TS0", "TS3", "TS6", "TS9" from "PRECISION_TYPES_NULL" where "ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(PrecisionTypesNullId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(PrecisionTypesNullRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result
   }
 
   override def selectByIdsTracked(ids: Array[PrecisionTypesNullId])(using c: Connection): java.util.Map[PrecisionTypesNullId, PrecisionTypesNullRow] = {
@@ -147,6 +148,8 @@ class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
     where "ID" = """), Fragment.encode(PrecisionTypesNullId.oracleType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[PrecisionTypesNullRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.string10, f.string20, f.string50, f.string100, f.string255, f.char10, f.number52, f.number102, f.number184, f.number50, f.number100, f.number180, f.ts0, f.ts3, f.ts6, f.ts9), c)
+
   override def upsert(unsaved: PrecisionTypesNullRow)(using c: Connection): Unit = {
     interpolate(Fragment.lit("""MERGE INTO "PRECISION_TYPES_NULL" t
     USING (SELECT """), Fragment.encode(PrecisionTypesNullId.oracleType, unsaved.id), Fragment.lit(", "), Fragment.encode(NonEmptyString10.oracleType.opt(), unsaved.string10), Fragment.lit(", "), Fragment.encode(NonEmptyString20.oracleType.opt(), unsaved.string20), Fragment.lit(", "), Fragment.encode(NonEmptyString50.oracleType.opt(), unsaved.string50), Fragment.lit(", "), Fragment.encode(NonEmptyString100.oracleType.opt(), unsaved.string100), Fragment.lit(", "), Fragment.encode(NonEmptyString255.oracleType.opt(), unsaved.string255), Fragment.lit(", "), Fragment.encode(NonEmptyPaddedString10.oracleType.opt(), unsaved.char10), Fragment.lit(", "), Fragment.encode(Decimal5_2.oracleType.opt(), unsaved.number52), Fragment.lit(", "), Fragment.encode(Decimal10_2.oracleType.opt(), unsaved.number102), Fragment.lit(", "), Fragment.encode(Decimal18_4.oracleType.opt(), unsaved.number184), Fragment.lit(", "), Fragment.encode(Int5.oracleType.opt(), unsaved.number50), Fragment.lit(", "), Fragment.encode(Int10.oracleType.opt(), unsaved.number100), Fragment.lit(", "), Fragment.encode(Int18.oracleType.opt(), unsaved.number180), Fragment.lit(", "), Fragment.encode(OracleTypes.timestamp.opt(), unsaved.ts0), Fragment.lit(", "), Fragment.encode(LocalDateTime3.oracleType.opt(), unsaved.ts3), Fragment.lit(", "), Fragment.encode(LocalDateTime6.oracleType.opt(), unsaved.ts6), Fragment.lit(", "), Fragment.encode(LocalDateTime9.oracleType.opt(), unsaved.ts9), Fragment.lit(""" FROM DUAL) s
@@ -38,6 +38,8 @@ trait ProductsRepo {
 
   def update(row: ProductsRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[ProductsRow])(using c: Connection): Integer
+
   def upsert(unsaved: ProductsRow)(using c: Connection): Unit
 
   def upsertBatch(unsaved: java.util.Iterator[ProductsRow])(using c: Connection): Unit
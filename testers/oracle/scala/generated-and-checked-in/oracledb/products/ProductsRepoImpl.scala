@@ -17,6 +17,7 @@ import java.util.HashMap
 import java.util.Optional
 import oracledb.MoneyT
 import oracledb.TagVarrayT
+import scala.jdk.CollectionConverters.SeqHasAsJava
 import dev.typr.foundations.Fragment.interpolate
 
 class ProductsRepoImpl extends ProductsRepo {
@@ -25,9 +26,9 @@ class ProductsRepoImpl extends ProductsRepo {
   override def deleteById(productId: ProductsId)(using c: Connection): java.lang.Boolean = interpolate(Fragment.lit("""delete from "PRODUCTS" where "PRODUCT_ID" = """), Fragment.encode(ProductsId.oracleType, productId), Fragment.lit("")).update().runUnchecked(c) > 0
 
   override def deleteByIds(productIds: Array[ProductsId])(using c: Connection): Integer = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    productIds.foreach { id => fragments.add(Fragment.encode(ProductsId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""delete from "PRODUCTS" where "PRODUCT_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    productIds.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => count = count + Fragment.interpolate(Fragment.lit("""delete from "PRODUCTS" where "PRODUCT_ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(ProductsId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: ProductsRow)(using c: Connection): ProductsId = {
@@ -75,9 +76,9 @@ class ProductsRepoImpl extends ProductsRepo {
   }
 
   override def selectByIds(productIds: Array[ProductsId])(using c: Connection): java.util.List[ProductsRow] = {
-    val fragments: ArrayList[Fragment] = new ArrayList()
-    productIds.foreach { id => fragments.add(Fragment.encode(ProductsId.oracleType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("""select "PRODUCT_ID", "SKU", "NAME", "PRICE", "TAGS" from "PRODUCTS" where "PRODUCT_ID" in ("""), Fragment.comma(fragments), Fragment.lit(")")).query(ProductsRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ArrayList[ProductsRow] = new ArrayList()
+    productIds.distinct.grouped(OracleTypes.ODCI_LIST_MAX_SIZE).foreach { chunk => result.addAll(Fragment.interpolate(Fragment.lit("""select "PRODUCT_ID", "SKU", "NAME", "PRICE", "TAGS" from "PRODUCTS" where "PRODUCT_ID" in (select column_value from table(cast("""), Fragment.encode(OracleTypes.numberList(ProductsId.oracleType), chunk.toList.asJava), Fragment.lit(" as SYS.ODCINUMBERLIST)))")).query(ProductsRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result
   }
 
   override def selectByIdsTracked(productIds: Array[ProductsId])(using c: Connection): java.util.Map[ProductsId, ProductsRow] = {
@@ -105,6 +106,8 @@ class ProductsRepoImpl extends ProductsRepo {
     where "PRODUCT_ID" = """), Fragment.encode(ProductsId.oracleType, productId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[ProductsRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.sku, f.name, f.price, f.tags), c)
+
   override def upsert(unsaved: ProductsRow)(using c: Connection): Unit = {
     interpolate(Fragment.lit("""MERGE INTO "PRODUCTS" t
     USING (SELECT """), Fragment.encode(ProductsId.oracleType, unsaved.productId), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, unsaved.sku), Fragment.lit(", "), Fragment.encode(OracleTypes.varchar2, unsaved.name), Fragment.lit(", "), Fragment.encode(MoneyT.oracleType, unsaved.price), Fragment.lit(", "), Fragment.encode(TagVarrayT.oracleType.opt(), unsaved.tags), Fragment.lit(""" FROM DUAL) s
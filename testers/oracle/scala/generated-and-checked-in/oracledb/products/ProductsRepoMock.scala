@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -76,6 +77,18 @@ case class ProductsRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[ProductsRow])(using c: Connection): Integer = {
+    val updated = new HashSet[ProductsId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.productId)) {
+        map.put(row.productId, row): @scala.annotation.nowarn
+        updated.add(row.productId): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: ProductsRow)(using c: Connection): Unit = map.put(unsaved.productId, unsaved): @scala.annotation.nowarn
 
   override def upsertBatch(unsaved: java.util.Iterator[ProductsRow])(using c: Connection): Unit = {
@@ -45,6 +45,8 @@ public interface DepartmentRepo {
 
   Boolean update(DepartmentRow row, Connection c);
 
+  Integer updateBatch(Iterator<DepartmentRow> rows, Connection c);
+
   DepartmentRow upsert(DepartmentRow unsaved, Connection c);
 
   List<DepartmentRow> upsertBatch(Iterator<DepartmentRow> unsaved, Connection c);
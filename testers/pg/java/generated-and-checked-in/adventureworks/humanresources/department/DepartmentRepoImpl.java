@@ -224,6 +224,11 @@ public class DepartmentRepoImpl implements DepartmentRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<DepartmentRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.name(), f.groupname(), f.modifieddate()), c);
+  }
+
   @Override
   public DepartmentRow upsert(DepartmentRow unsaved, Connection c) {
     return interpolate(
@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -190,6 +191,23 @@ public record DepartmentRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<DepartmentRow> rows, Connection c) {
+    var updated = new HashSet<DepartmentId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.departmentid())) {
+        map.put(row.departmentid(), row);
+        updated.add(row.departmentid());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public DepartmentRow upsert(DepartmentRow unsaved, Connection c) {
     map.put(unsaved.departmentid(), unsaved);
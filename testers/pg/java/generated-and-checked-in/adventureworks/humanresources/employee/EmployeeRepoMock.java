@@ -18,6 +18,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -191,6 +192,23 @@ public record EmployeeRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<EmployeeRow> rows, Connection c) {
+    var updated = new HashSet<BusinessentityId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.businessentityid())) {
+        map.put(row.businessentityid(), row);
+        updated.add(row.businessentityid());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public EmployeeRow upsert(EmployeeRow unsaved, Connection c) {
     map.put(unsaved.businessentityid(), unsaved);
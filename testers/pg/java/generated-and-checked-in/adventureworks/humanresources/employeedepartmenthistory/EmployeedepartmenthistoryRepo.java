@@ -49,6 +49,8 @@ public interface EmployeedepartmenthistoryRepo {
 
   Boolean update(EmployeedepartmenthistoryRow row, Connection c);
 
+  Integer updateBatch(Iterator<EmployeedepartmenthistoryRow> rows, Connection c);
+
   EmployeedepartmenthistoryRow upsert(EmployeedepartmenthistoryRow unsaved, Connection c);
 
   List<EmployeedepartmenthistoryRow> upsertBatch(
@@ -311,6 +311,11 @@ public class EmployeedepartmenthistoryRepoImpl implements Employeedepartmenthist
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<EmployeedepartmenthistoryRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.enddate(), f.modifieddate()), c);
+  }
+
   @Override
   public EmployeedepartmenthistoryRow upsert(EmployeedepartmenthistoryRow unsaved, Connection c) {
     return interpolate(
@@ -44,6 +44,8 @@ public interface ShiftRepo {
 
   Boolean update(ShiftRow row, Connection c);
 
+  Integer updateBatch(Iterator<ShiftRow> rows, Connection c);
+
   ShiftRow upsert(ShiftRow unsaved, Connection c);
 
   List<ShiftRow> upsertBatch(Iterator<ShiftRow> unsaved, Connection c);
@@ -231,6 +231,12 @@ public class ShiftRepoImpl implements ShiftRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ShiftRow> rows, Connection c) {
+    return update()
+        .updateMany(rows, f -> List.of(f.name(), f.starttime(), f.endtime(), f.modifieddate()), c);
+  }
+
   @Override
   public ShiftRow upsert(ShiftRow unsaved, Connection c) {
     return interpolate(
@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -186,6 +187,23 @@ public record ShiftRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<ShiftRow> rows, Connection c) {
+    var updated = new HashSet<ShiftId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.shiftid())) {
+        map.put(row.shiftid(), row);
+        updated.add(row.shiftid());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public ShiftRow upsert(ShiftRow unsaved, Connection c) {
     map.put(unsaved.shiftid(), unsaved);
@@ -44,6 +44,8 @@ public interface AddressRepo {
 
   Boolean update(AddressRow row, Connection c);
 
+  Integer updateBatch(Iterator<AddressRow> rows, Connection c);
+
   AddressRow upsert(AddressRow unsaved, Connection c);
 
   List<AddressRow> upsertBatch(Iterator<AddressRow> unsaved, Connection c);
@@ -277,6 +277,24 @@ public class AddressRepoImpl implements AddressRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<AddressRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.addressline1(),
+                    f.addressline2(),
+                    f.city(),
+                    f.stateprovinceid(),
+                    f.postalcode(),
+                    f.spatiallocation(),
+                    f.rowguid(),
+                    f.modifieddate()),
+            c);
+  }
+
   @Override
   public AddressRow upsert(AddressRow unsaved, Connection c) {
     return interpolate(
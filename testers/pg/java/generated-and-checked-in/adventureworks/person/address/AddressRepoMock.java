@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -188,6 +189,23 @@ public record AddressRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<AddressRow> rows, Connection c) {
+    var updated = new HashSet<AddressId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.addressid())) {
+        map.put(row.addressid(), row);
+        updated.add(row.addressid());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public AddressRow upsert(AddressRow unsaved, Connection c) {
     map.put(unsaved.addressid(), unsaved);
@@ -46,6 +46,8 @@ public interface AddresstypeRepo {
 
   Boolean update(AddresstypeRow row, Connection c);
 
+  Integer updateBatch(Iterator<AddresstypeRow> rows, Connection c);
+
   AddresstypeRow upsert(AddresstypeRow unsaved, Connection c);
 
   List<AddresstypeRow> upsertBatch(Iterator<AddresstypeRow> unsaved, Connection c);
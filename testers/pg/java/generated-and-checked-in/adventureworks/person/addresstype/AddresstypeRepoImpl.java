@@ -229,6 +229,11 @@ public class AddresstypeRepoImpl implements AddresstypeRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<AddresstypeRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.name(), f.rowguid(), f.modifieddate()), c);
+  }
+
   @Override
   public AddresstypeRow upsert(AddresstypeRow unsaved, Connection c) {
     return interpolate(
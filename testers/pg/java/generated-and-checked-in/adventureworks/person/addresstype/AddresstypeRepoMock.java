@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -191,6 +192,23 @@ public record AddresstypeRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<AddresstypeRow> rows, Connection c) {
+    var updated = new HashSet<AddresstypeId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.addresstypeid())) {
+        map.put(row.addresstypeid(), row);
+        updated.add(row.addresstypeid());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public AddresstypeRow upsert(AddresstypeRow unsaved, Connection c) {
     map.put(unsaved.addresstypeid(), unsaved);
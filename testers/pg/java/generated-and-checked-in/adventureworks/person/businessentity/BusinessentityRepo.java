@@ -46,6 +46,8 @@ public interface BusinessentityRepo {
 
   Boolean update(BusinessentityRow row, Connection c);
 
+  Integer updateBatch(Iterator<BusinessentityRow> rows, Connection c);
+
   BusinessentityRow upsert(BusinessentityRow unsaved, Connection c);
 
   List<BusinessentityRow> upsertBatch(Iterator<BusinessentityRow> unsaved, Connection c);
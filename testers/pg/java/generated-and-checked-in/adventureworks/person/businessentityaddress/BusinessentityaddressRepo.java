@@ -46,6 +46,8 @@ public interface BusinessentityaddressRepo {
 
   Boolean update(BusinessentityaddressRow row, Connection c);
 
+  Integer updateBatch(Iterator<BusinessentityaddressRow> rows, Connection c);
+
   BusinessentityaddressRow upsert(BusinessentityaddressRow unsaved, Connection c);
 
   List<BusinessentityaddressRow> upsertBatch(
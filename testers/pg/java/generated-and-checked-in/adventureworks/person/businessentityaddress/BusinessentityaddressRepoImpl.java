@@ -292,6 +292,11 @@ public class BusinessentityaddressRepoImpl implements BusinessentityaddressRepo
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<BusinessentityaddressRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.rowguid(), f.modifieddate()), c);
+  }
+
   @Override
   public BusinessentityaddressRow upsert(BusinessentityaddressRow unsaved, Connection c) {
     return interpolate(
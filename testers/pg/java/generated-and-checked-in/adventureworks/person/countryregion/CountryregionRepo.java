@@ -46,6 +46,8 @@ public interface CountryregionRepo {
 
   Boolean update(CountryregionRow row, Connection c);
 
+  Integer updateBatch(Iterator<CountryregionRow> rows, Connection c);
+
   CountryregionRow upsert(CountryregionRow unsaved, Connection c);
 
   List<CountryregionRow> upsertBatch(Iterator<CountryregionRow> unsaved, Connection c);
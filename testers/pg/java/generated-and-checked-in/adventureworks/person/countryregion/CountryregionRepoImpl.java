@@ -211,6 +211,11 @@ public class CountryregionRepoImpl implements CountryregionRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<CountryregionRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.name(), f.modifieddate()), c);
+  }
+
   @Override
   public CountryregionRow upsert(CountryregionRow unsaved, Connection c) {
     return interpolate(
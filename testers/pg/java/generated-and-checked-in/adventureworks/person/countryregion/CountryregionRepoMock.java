@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -192,6 +193,23 @@ public record CountryregionRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<CountryregionRow> rows, Connection c) {
+    var updated = new HashSet<CountryregionId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.countryregioncode())) {
+        map.put(row.countryregioncode(), row);
+        updated.add(row.countryregioncode());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public CountryregionRow upsert(CountryregionRow unsaved, Connection c) {
     map.put(unsaved.countryregioncode(), unsaved);
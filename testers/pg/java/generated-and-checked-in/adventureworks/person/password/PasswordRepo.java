@@ -47,6 +47,8 @@ public interface PasswordRepo {
 
   Boolean update(PasswordRow row, Connection c);
 
+  Integer updateBatch(Iterator<PasswordRow> rows, Connection c);
+
   PasswordRow upsert(PasswordRow unsaved, Connection c);
 
   List<PasswordRow> upsertBatch(Iterator<PasswordRow> unsaved, Connection c);
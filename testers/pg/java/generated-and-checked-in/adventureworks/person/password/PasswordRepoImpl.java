@@ -236,6 +236,15 @@ public class PasswordRepoImpl implements PasswordRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<PasswordRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f -> List.of(f.passwordhash(), f.passwordsalt(), f.rowguid(), f.modifieddate()),
+            c);
+  }
+
   @Override
   public PasswordRow upsert(PasswordRow unsaved, Connection c) {
     return interpolate(
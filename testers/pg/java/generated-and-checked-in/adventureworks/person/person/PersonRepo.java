@@ -46,6 +46,8 @@ public interface PersonRepo {
 
   Boolean update(PersonRow row, Connection c);
 
+  Integer updateBatch(Iterator<PersonRow> rows, Connection c);
+
   PersonRow upsert(PersonRow unsaved, Connection c);
 
   List<PersonRow> upsertBatch(Iterator<PersonRow> unsaved, Connection c);
@@ -325,6 +325,28 @@ public class PersonRepoImpl implements PersonRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<PersonRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.persontype(),
+                    f.namestyle(),
+                    f.title(),
+                    f.firstname(),
+                    f.middlename(),
+                    f.lastname(),
+                    f.suffix(),
+                    f.emailpromotion(),
+                    f.additionalcontactinfo(),
+                    f.demographics(),
+                    f.rowguid(),
+                    f.modifieddate()),
+            c);
+  }
+
   @Override
   public PersonRow upsert(PersonRow unsaved, Connection c) {
     return interpolate(
@@ -46,6 +46,8 @@ public interface StateprovinceRepo {
 
   Boolean update(StateprovinceRow row, Connection c);
 
+  Integer updateBatch(Iterator<StateprovinceRow> rows, Connection c);
+
   StateprovinceRow upsert(StateprovinceRow unsaved, Connection c);
 
   List<StateprovinceRow> upsertBatch(Iterator<StateprovinceRow> unsaved, Connection c);
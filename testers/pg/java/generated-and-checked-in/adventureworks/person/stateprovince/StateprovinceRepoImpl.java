@@ -289,6 +289,23 @@ public class StateprovinceRepoImpl implements StateprovinceRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<StateprovinceRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.stateprovincecode(),
+                    f.countryregioncode(),
+                    f.isonlystateprovinceflag(),
+                    f.name(),
+                    f.territoryid(),
+                    f.rowguid(),
+                    f.modifieddate()),
+            c);
+  }
+
   @Override
   public StateprovinceRow upsert(StateprovinceRow unsaved, Connection c) {
     return interpolate(
@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -191,6 +192,23 @@ public record StateprovinceRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<StateprovinceRow> rows, Connection c) {
+    var updated = new HashSet<StateprovinceId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.stateprovinceid())) {
+        map.put(row.stateprovinceid(), row);
+        updated.add(row.stateprovinceid());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public StateprovinceRow upsert(StateprovinceRow unsaved, Connection c) {
     map.put(unsaved.stateprovinceid(), unsaved);
@@ -44,6 +44,8 @@ public interface ProductRepo {
 
   Boolean update(ProductRow row, Connection c);
 
+  Integer updateBatch(Iterator<ProductRow> rows, Connection c);
+
   ProductRow upsert(ProductRow unsaved, Connection c);
 
   List<ProductRow> upsertBatch(Iterator<ProductRow> unsaved, Connection c);
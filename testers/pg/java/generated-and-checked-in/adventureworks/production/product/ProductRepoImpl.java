@@ -457,6 +457,40 @@ public class ProductRepoImpl implements ProductRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ProductRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.name(),
+                    f.productnumber(),
+                    f.makeflag(),
+                    f.finishedgoodsflag(),
+                    f.color(),
+                    f.safetystocklevel(),
+                    f.reorderpoint(),
+                    f.standardcost(),
+                    f.listprice(),
+                    f.size(),
+                    f.sizeunitmeasurecode(),
+                    f.weightunitmeasurecode(),
+                    f.weight(),
+                    f.daystomanufacture(),
+                    f.productline(),
+                    f.class_(),
+                    f.style(),
+                    f.productsubcategoryid(),
+                    f.productmodelid(),
+                    f.sellstartdate(),
+                    f.sellenddate(),
+                    f.discontinueddate(),
+                    f.rowguid(),
+                    f.modifieddate()),
+            c);
+  }
+
   @Override
   public ProductRow upsert(ProductRow unsaved, Connection c) {
     return interpolate(
@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -188,6 +189,23 @@ public record ProductRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<ProductRow> rows, Connection c) {
+    var updated = new HashSet<ProductId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.productid())) {
+        map.put(row.productid(), row);
+        updated.add(row.productid());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public ProductRow upsert(ProductRow unsaved, Connection c) {
     map.put(unsaved.productid(), unsaved);
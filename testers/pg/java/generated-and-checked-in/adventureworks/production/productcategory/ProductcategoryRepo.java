@@ -46,6 +46,8 @@ public interface ProductcategoryRepo {
 
   Boolean update(ProductcategoryRow row, Connection c);
 
+  Integer updateBatch(Iterator<ProductcategoryRow> rows, Connection c);
+
   ProductcategoryRow upsert(ProductcategoryRow unsaved, Connection c);
 
   List<ProductcategoryRow> upsertBatch(Iterator<ProductcategoryRow> unsaved, Connection c);
@@ -238,6 +238,11 @@ public class ProductcategoryRepoImpl implements ProductcategoryRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ProductcategoryRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.name(), f.rowguid(), f.modifieddate()), c);
+  }
+
   @Override
   public ProductcategoryRow upsert(ProductcategoryRow unsaved, Connection c) {
     return interpolate(
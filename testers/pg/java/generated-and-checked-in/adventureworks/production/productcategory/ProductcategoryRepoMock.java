@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -195,6 +196,23 @@ public record ProductcategoryRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<ProductcategoryRow> rows, Connection c) {
+    var updated = new HashSet<ProductcategoryId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.productcategoryid())) {
+        map.put(row.productcategoryid(), row);
+        updated.add(row.productcategoryid());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public ProductcategoryRow upsert(ProductcategoryRow unsaved, Connection c) {
     map.put(unsaved.productcategoryid(), unsaved);
@@ -46,6 +46,8 @@ public interface ProductcosthistoryRepo {
 
   Boolean update(ProductcosthistoryRow row, Connection c);
 
+  Integer updateBatch(Iterator<ProductcosthistoryRow> rows, Connection c);
+
   ProductcosthistoryRow upsert(ProductcosthistoryRow unsaved, Connection c);
 
   List<ProductcosthistoryRow> upsertBatch(Iterator<ProductcosthistoryRow> unsaved, Connection c);
@@ -267,6 +267,12 @@ public class ProductcosthistoryRepoImpl implements ProductcosthistoryRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ProductcosthistoryRow> rows, Connection c) {
+    return update()
+        .updateMany(rows, f -> List.of(f.enddate(), f.standardcost(), f.modifieddate()), c);
+  }
+
   @Override
   public ProductcosthistoryRow upsert(ProductcosthistoryRow unsaved, Connection c) {
     return interpolate(
@@ -46,6 +46,8 @@ public interface ProductmodelRepo {
 
   Boolean update(ProductmodelRow row, Connection c);
 
+  Integer updateBatch(Iterator<ProductmodelRow> rows, Connection c);
+
   ProductmodelRow upsert(ProductmodelRow unsaved, Connection c);
 
   List<ProductmodelRow> upsertBatch(Iterator<ProductmodelRow> unsaved, Connection c);
@@ -255,6 +255,21 @@ public class ProductmodelRepoImpl implements ProductmodelRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ProductmodelRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.name(),
+                    f.catalogdescription(),
+                    f.instructions(),
+                    f.rowguid(),
+                    f.modifieddate()),
+            c);
+  }
+
   @Override
   public ProductmodelRow upsert(ProductmodelRow unsaved, Connection c) {
     return interpolate(
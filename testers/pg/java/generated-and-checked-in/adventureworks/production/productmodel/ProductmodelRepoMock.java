@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -191,6 +192,23 @@ public record ProductmodelRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<ProductmodelRow> rows, Connection c) {
+    var updated = new HashSet<ProductmodelId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.productmodelid())) {
+        map.put(row.productmodelid(), row);
+        updated.add(row.productmodelid());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public ProductmodelRow upsert(ProductmodelRow unsaved, Connection c) {
     map.put(unsaved.productmodelid(), unsaved);
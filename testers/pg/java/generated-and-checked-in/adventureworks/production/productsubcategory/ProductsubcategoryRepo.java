@@ -48,6 +48,8 @@ public interface ProductsubcategoryRepo {
 
   Boolean update(ProductsubcategoryRow row, Connection c);
 
+  Integer updateBatch(Iterator<ProductsubcategoryRow> rows, Connection c);
+
   ProductsubcategoryRow upsert(ProductsubcategoryRow unsaved, Connection c);
 
   List<ProductsubcategoryRow> upsertBatch(Iterator<ProductsubcategoryRow> unsaved, Connection c);
@@ -258,6 +258,13 @@ public class ProductsubcategoryRepoImpl implements ProductsubcategoryRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ProductsubcategoryRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows, f -> List.of(f.productcategoryid(), f.name(), f.rowguid(), f.modifieddate()), c);
+  }
+
   @Override
   public ProductsubcategoryRow upsert(ProductsubcategoryRow unsaved, Connection c) {
     return interpolate(
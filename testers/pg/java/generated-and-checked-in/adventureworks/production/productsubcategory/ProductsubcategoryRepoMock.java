@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -198,6 +199,23 @@ public record ProductsubcategoryRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<ProductsubcategoryRow> rows, Connection c) {
+    var updated = new HashSet<ProductsubcategoryId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.productsubcategoryid())) {
+        map.put(row.productsubcategoryid(), row);
+        updated.add(row.productsubcategoryid());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public ProductsubcategoryRow upsert(ProductsubcategoryRow unsaved, Connection c) {
     map.put(unsaved.productsubcategoryid(), unsaved);
@@ -46,6 +46,8 @@ public interface UnitmeasureRepo {
 
   Boolean update(UnitmeasureRow row, Connection c);
 
+  Integer updateBatch(Iterator<UnitmeasureRow> rows, Connection c);
+
   UnitmeasureRow upsert(UnitmeasureRow unsaved, Connection c);
 
   List<UnitmeasureRow> upsertBatch(Iterator<UnitmeasureRow> unsaved, Connection c);
@@ -210,6 +210,11 @@ public class UnitmeasureRepoImpl implements UnitmeasureRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<UnitmeasureRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.name(), f.modifieddate()), c);
+  }
+
   @Override
   public UnitmeasureRow upsert(UnitmeasureRow unsaved, Connection c) {
     return interpolate(
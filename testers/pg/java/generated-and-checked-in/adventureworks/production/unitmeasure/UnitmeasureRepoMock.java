@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -191,6 +192,23 @@ public record UnitmeasureRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<UnitmeasureRow> rows, Connection c) {
+    var updated = new HashSet<UnitmeasureId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.unitmeasurecode())) {
+        map.put(row.unitmeasurecode(), row);
+        updated.add(row.unitmeasurecode());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public UnitmeasureRow upsert(UnitmeasureRow unsaved, Connection c) {
     map.put(unsaved.unitmeasurecode(), unsaved);
@@ -39,6 +39,8 @@ public interface FlaffRepo {
 
   Boolean update(FlaffRow row, Connection c);
 
+  Integer updateBatch(Iterator<FlaffRow> rows, Connection c);
+
   FlaffRow upsert(FlaffRow unsaved, Connection c);
 
   List<FlaffRow> upsertBatch(Iterator<FlaffRow> unsaved, Connection c);
@@ -209,6 +209,11 @@ public class FlaffRepoImpl implements FlaffRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<FlaffRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.parentspecifier()), c);
+  }
+
   @Override
   public FlaffRow upsert(FlaffRow unsaved, Connection c) {
     return interpolate(
@@ -45,6 +45,8 @@ public interface IdentityTestRepo {
 
   Boolean update(IdentityTestRow row, Connection c);
 
+  Integer updateBatch(Iterator<IdentityTestRow> rows, Connection c);
+
   IdentityTestRow upsert(IdentityTestRow unsaved, Connection c);
 
   List<IdentityTestRow> upsertBatch(Iterator<IdentityTestRow> unsaved, Connection c);
@@ -193,6 +193,11 @@ public class IdentityTestRepoImpl implements IdentityTestRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<IdentityTestRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.defaultGenerated()), c);
+  }
+
   @Override
   public IdentityTestRow upsert(IdentityTestRow unsaved, Connection c) {
     return interpolate(
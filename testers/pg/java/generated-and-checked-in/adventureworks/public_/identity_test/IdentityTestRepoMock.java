@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -188,6 +189,23 @@ public record IdentityTestRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<IdentityTestRow> rows, Connection c) {
+    var updated = new HashSet<IdentityTestId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.name())) {
+        map.put(row.name(), row);
+        updated.add(row.name());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public IdentityTestRow upsert(IdentityTestRow unsaved, Connection c) {
     map.put(unsaved.name(), unsaved);
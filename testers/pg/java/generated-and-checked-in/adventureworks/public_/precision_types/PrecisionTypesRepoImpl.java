@@ -418,6 +418,40 @@ public class PrecisionTypesRepoImpl implements PrecisionTypesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<PrecisionTypesRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.string10(),
+                    f.string20(),
+                    f.string50(),
+                    f.string100(),
+                    f.string255(),
+                    f.bpchar3(),
+                    f.bpchar10(),
+                    f.decimal52(),
+                    f.decimal102(),
+                    f.decimal184(),
+                    f.numeric82(),
+                    f.numeric124(),
+                    f.timestamp0(),
+                    f.timestamp3(),
+                    f.timestamp6(),
+                    f.timestamptz0(),
+                    f.timestamptz3(),
+                    f.timestamptz6(),
+                    f.time0(),
+                    f.time3(),
+                    f.time6(),
+                    f.timetz0(),
+                    f.timetz3(),
+                    f.timetz6()),
+            c);
+  }
+
   @Override
   public PrecisionTypesRow upsert(PrecisionTypesRow unsaved, Connection c) {
     return interpolate(
@@ -46,6 +46,8 @@ public interface PrecisionTypesNullRepo {
 
   Boolean update(PrecisionTypesNullRow row, Connection c);
 
+  Integer updateBatch(Iterator<PrecisionTypesNullRow> rows, Connection c);
+
   PrecisionTypesNullRow upsert(PrecisionTypesNullRow unsaved, Connection c);
 
   List<PrecisionTypesNullRow> upsertBatch(Iterator<PrecisionTypesNullRow> unsaved, Connection c);
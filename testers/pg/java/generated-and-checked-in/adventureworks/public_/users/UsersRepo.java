@@ -47,6 +47,8 @@ public interface UsersRepo {
 
   Boolean update(UsersRow row, Connection c);
 
+  Integer updateBatch(Iterator<UsersRow> rows, Connection c);
+
   UsersRow upsert(UsersRow unsaved, Connection c);
 
   List<UsersRow> upsertBatch(Iterator<UsersRow> unsaved, Connection c);
@@ -248,6 +248,17 @@ public class UsersRepoImpl implements UsersRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<UsersRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.name(), f.lastName(), f.email(), f.password(), f.createdAt(), f.verifiedOn()),
+            c);
+  }
+
   @Override
   public UsersRow upsert(UsersRow unsaved, Connection c) {
     return interpolate(
@@ -18,6 +18,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -193,6 +194,23 @@ public record UsersRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<UsersRow> rows, Connection c) {
+    var updated = new HashSet<UsersId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.userId())) {
+        map.put(row.userId(), row);
+        updated.add(row.userId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public UsersRow upsert(UsersRow unsaved, Connection c) {
     map.put(unsaved.userId(), unsaved);
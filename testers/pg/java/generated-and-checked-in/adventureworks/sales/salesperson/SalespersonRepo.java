@@ -47,6 +47,8 @@ public interface SalespersonRepo {
 
   Boolean update(SalespersonRow row, Connection c);
 
+  Integer updateBatch(Iterator<SalespersonRow> rows, Connection c);
+
   SalespersonRow upsert(SalespersonRow unsaved, Connection c);
 
   List<SalespersonRow> upsertBatch(Iterator<SalespersonRow> unsaved, Connection c);
@@ -306,6 +306,24 @@ public class SalespersonRepoImpl implements SalespersonRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<SalespersonRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.territoryid(),
+                    f.salesquota(),
+                    f.bonus(),
+                    f.commissionpct(),
+                    f.salesytd(),
+                    f.saleslastyear(),
+                    f.rowguid(),
+                    f.modifieddate()),
+            c);
+  }
+
   @Override
   public SalespersonRow upsert(SalespersonRow unsaved, Connection c) {
     return interpolate(
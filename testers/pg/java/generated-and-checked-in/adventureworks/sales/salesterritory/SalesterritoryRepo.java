@@ -46,6 +46,8 @@ public interface SalesterritoryRepo {
 
   Boolean update(SalesterritoryRow row, Connection c);
 
+  Integer updateBatch(Iterator<SalesterritoryRow> rows, Connection c);
+
   SalesterritoryRow upsert(SalesterritoryRow unsaved, Connection c);
 
   List<SalesterritoryRow> upsertBatch(Iterator<SalesterritoryRow> unsaved, Connection c);
@@ -317,6 +317,25 @@ public class SalesterritoryRepoImpl implements SalesterritoryRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<SalesterritoryRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.name(),
+                    f.countryregioncode(),
+                    f.group(),
+                    f.salesytd(),
+                    f.saleslastyear(),
+                    f.costytd(),
+                    f.costlastyear(),
+                    f.rowguid(),
+                    f.modifieddate()),
+            c);
+  }
+
   @Override
   public SalesterritoryRow upsert(SalesterritoryRow unsaved, Connection c) {
     return interpolate(
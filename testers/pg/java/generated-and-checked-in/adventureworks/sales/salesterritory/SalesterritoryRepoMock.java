@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -192,6 +193,23 @@ public record SalesterritoryRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<SalesterritoryRow> rows, Connection c) {
+    var updated = new HashSet<SalesterritoryId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.territoryid())) {
+        map.put(row.territoryid(), row);
+        updated.add(row.territoryid());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public SalesterritoryRow upsert(SalesterritoryRow unsaved, Connection c) {
     map.put(unsaved.territoryid(), unsaved);
@@ -3,19 +3,29 @@ package adventureworks;
 import static org.junit.Assert.*;
 
 import adventureworks.humanresources.employee.EmployeeRepoImpl;
+import adventureworks.person.businessentity.BusinessentityId;
 import adventureworks.person.businessentity.BusinessentityRepoImpl;
 import adventureworks.person.emailaddress.EmailaddressRepoImpl;
+import adventureworks.person.person.PersonFields;
 import adventureworks.person.person.PersonRepoImpl;
+import adventureworks.person.person.PersonRow;
 import adventureworks.public_.Name;
 import adventureworks.sales.salesperson.SalespersonRepoImpl;
 import adventureworks.userdefined.FirstName;
 import adventureworks.userdefined.LastName;
 import adventureworks.userdefined.MiddleName;
+import dev.typr.foundations.Fragment;
+import dev.typr.foundations.Transactor;
+import dev.typr.foundations.Tuple;
 import dev.typr.foundations.dsl.Bijection;
+import dev.typr.foundations.dsl.Dialect;
+import dev.typr.foundations.dsl.SelectBuilder;
 import dev.typr.foundations.dsl.SqlExpr;
 import dev.typr.foundations.dsl.TupleExpr;
+import dev.typr.foundations.dsl.UpdateBuilder;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.Test;
@@ -312,6 +322,61 @@ public class DSLTest extends SnapshotTest {
         });
   }
 
+  /** Test prefetchOn, which loads child rows with a second query instead of a subquery. */
+  @Test
+  public void prefetchOnLoadsChildRows() {
+    WithConnection.run(
+        c -> {
+          var testInsert = new TestInsert(new java.util.Random(0), new DomainInsertImpl());
+
+          // Create two persons, one with two emails and one without
+          var withEmails =
+              testInsert
+                  .personPerson(
+                      testInsert.personBusinessentity().insert(c).businessentityid(), "EM")
+                  .with(row -> row.withFirstname(new FirstName(new Name("Bob"))))
+                  .insert(c);
+          var withoutEmails =
+              testInsert
+                  .personPerson(
+                      testInsert.personBusinessentity().insert(c).businessentityid(), "EM")
+                  .with(row -> row.withFirstname(new FirstName(new Name("NoEmail"))))
+                  .insert(c);
+          testInsert
+              .personEmailaddress(withEmails.businessentityid())
+              .with(row -> row.withEmailaddress(Optional.of("bob@work.com")))
+              .insert(c);
+          testInsert
+              .personEmailaddress(withEmails.businessentityid())
+              .with(row -> row.withEmailaddress(Optional.of("bob@home.com")))
+              .insert(c);
+
+          // chunkSize(1) forces one child query per parent key
+          var results =
+              personRepoImpl
+                  .select()
+                  .where(
+                      p ->
+                          p.businessentityid()
+                              .in(withEmails.businessentityid(), withoutEmails.businessentityid()))
+                  .orderBy(p -> p.businessentityid().asc())
+                  .prefetchOn(
+                      emailaddressRepoImpl.select(),
+                      p -> p.businessentityid(),
+                      e -> e.businessentityid())
+                  .chunkSize(1)
+                  .toList(c);
+
+          assertEquals(2, results.size());
+          assertEquals(withEmails, results.get(0)._1());
+          var emailStrings =
+              results.get(0)._2().stream().map(e -> e.emailaddress().orElse("")).sorted().toList();
+          assertEquals(List.of("bob@home.com", "bob@work.com"), emailStrings);
+          assertEquals(withoutEmails, results.get(1)._1());
+          assertTrue(results.get(1)._2().isEmpty());
+        });
+  }
+
   /**
    * Test combining multisetOn with nested tuple projections. Projects parent as nested tuple
    * (firstname, lastname) and aggregates child emails.
@@ -668,6 +733,103 @@ public class DSLTest extends SnapshotTest {
         });
   }
 
+  /**
+   * Test that a left join on the primary key of a table none of whose columns are selected is left
+   * out of the SQL. It cannot add or remove rows.
+   */
+  @Test
+  public void leftJoinNotProjectedIsDropped() {
+    WithConnection.run(
+        c -> {
+          var testInsert = new TestInsert(new java.util.Random(0), new DomainInsertImpl());
+
+          var be = testInsert.personBusinessentity().insert(c);
+          var person =
+              testInsert
+                  .personPerson(be.businessentityid(), "EM")
+                  .with(row -> row.withFirstname(new FirstName(new Name("Unjoined"))))
+                  .insert(c);
+
+          var query =
+              personRepoImpl
+                  .select()
+                  .where(p -> p.businessentityid().isEqual(person.businessentityid()))
+                  .leftJoinOn(
+                      employeeRepoImpl.select(),
+                      pe -> pe._1().businessentityid().isEqual(pe._2().businessentityid()))
+                  .map(pe -> pe._1().firstname().tupleWith(pe._1().lastname()));
+
+          compareFragment("leftJoinNotProjectedIsDropped", query.sql());
+
+          var results = query.toList(c);
+          assertEquals(1, results.size());
+          assertEquals(new FirstName(new Name("Unjoined")), results.get(0)._1());
+        });
+  }
+
+  /** A prepared query is rendered once and executed with different parameter values. */
+  @Test
+  public void preparedSelectBindsParameters() {
+    WithConnection.run(
+        c -> {
+          var testInsert = new TestInsert(new java.util.Random(0), new DomainInsertImpl());
+
+          var be1 = testInsert.personBusinessentity().insert(c);
+          testInsert
+              .personPerson(be1.businessentityid(), "EM")
+              .with(row -> row.withFirstname(new FirstName(new Name("First"))))
+              .insert(c);
+          var be2 = testInsert.personBusinessentity().insert(c);
+          testInsert
+              .personPerson(be2.businessentityid(), "EM")
+              .with(row -> row.withFirstname(new FirstName(new Name("Second"))))
+              .insert(c);
+
+          var id = new SqlExpr.Param<>("id", BusinessentityId.pgType);
+          var byId =
+              personRepoImpl
+                  .select()
+                  .where(p -> p.businessentityid().isEqual(id))
+                  .where(p -> p.persontype().isEqual("EM"))
+                  .prepare(id);
+
+          compareFragment("preparedSelect", Optional.of(byId.sql(be1.businessentityid())));
+
+          var first = byId.toList(c, be1.businessentityid());
+          assertEquals(1, first.size());
+          assertEquals(new FirstName(new Name("First")), first.get(0).firstname());
+
+          try (var statement = byId.open(c)) {
+            var second = statement.toList(be2.businessentityid());
+            assertEquals(1, second.size());
+            assertEquals(new FirstName(new Name("Second")), second.get(0).firstname());
+            assertEquals(1, statement.toList(be1.businessentityid()).size());
+          }
+
+          // Parameters are told apart by identity, not by name and type
+          var other = new SqlExpr.Param<>("id", BusinessentityId.pgType);
+          var byEither =
+              personRepoImpl
+                  .select()
+                  .where(
+                      p ->
+                          p.businessentityid()
+                              .isEqual(id)
+                              .or(p.businessentityid().isEqual(other), Bijection.asBool()))
+                  .prepare(id, other);
+          assertEquals(
+              2,
+              byEither.toList(c, Tuple.of(be1.businessentityid(), be2.businessentityid())).size());
+          assertThrows(
+              IllegalArgumentException.class,
+              () ->
+                  personRepoImpl
+                      .select()
+                      .where(p -> p.businessentityid().isEqual(id))
+                      .prepare(id, id));
+        });
+  }
+
   /** Test comparison operators with literal values. */
   @Test
   public void comparisonOperatorsWithLiterals() {
@@ -787,6 +949,40 @@ public class DSLTest extends SnapshotTest {
         });
   }
 
+  /** Test that a long IN list is bound as one array parameter. */
+  @Test
+  public void inLongListBindsArray() {
+    WithConnection.run(
+        c -> {
+          var testInsert = new TestInsert(new java.util.Random(0), new DomainInsertImpl());
+          var be1 = testInsert.personBusinessentity().insert(c);
+          testInsert.personPerson(be1.businessentityid(), "EM").insert(c);
+          var be2 = testInsert.personBusinessentity().insert(c);
+          testInsert.personPerson(be2.businessentityid(), "EM").insert(c);
+
+          // Two existing ids among ids which do not exist, past SqlExpr.In.ARRAY_BIND_THRESHOLD
+          var ids = new BusinessentityId[SqlExpr.In.ARRAY_BIND_THRESHOLD + 8];
+          for (int i = 0; i < ids.length; i++) {
+            ids[i] = new BusinessentityId(-1 - i);
+          }
+          ids[3] = be1.businessentityid();
+          ids[30] = be2.businessentityid();
+
+          var query =
+              personRepoImpl
+                  .select()
+                  .where(p -> p.businessentityid().in(ids))
+                  .orderBy(p -> p.businessentityid().asc());
+
+          compareFragment("inLongListBindsArray", query.sql());
+
+          var results = query.toList(c);
+          assertEquals(2, results.size());
+          assertEquals(be1.businessentityid(), results.get(0).businessentityid());
+          assertEquals(be2.businessentityid(), results.get(1).businessentityid());
+        });
+  }
+
   /** Test coalesce for null handling with non-nullable field. */
   @Test
   public void coalesceReturnsFirstNonNull() {
@@ -1121,6 +1317,157 @@ public class DSLTest extends SnapshotTest {
         });
   }
 
+  /** A query of a cached shape binds its own constants. */
+  @Test
+  public void renderCacheBindsNewConstants() {
+    WithConnection.run(
+        c -> {
+          var testInsert = new TestInsert(new java.util.Random(0), new DomainInsertImpl());
+          var ids = new java.util.ArrayList<BusinessentityId>();
+          for (String name : List.of("CacheA", "CacheB")) {
+            var be = testInsert.personBusinessentity().insert(c);
+            testInsert
+                .personPerson(be.businessentityid(), "EM")
+                .with(row -> row.withLastname(new LastName(new Name(name))))
+                .insert(c);
+            ids.add(be.businessentityid());
+          }
+
+          var queryA =
+              personRepoImpl
+                  .select()
+                  .where(p -> p.lastname().isEqual(new LastName(new Name("CacheA"))));
+          var queryB =
+              personRepoImpl
+                  .select()
+                  .where(p -> p.lastname().isEqual(new LastName(new Name("CacheB"))));
+
+          assertEquals(queryA.sql().get().render(), queryB.sql().get().render());
+          assertEquals(ids.get(0), queryA.toList(c).get(0).businessentityid());
+          assertEquals(ids.get(1), queryB.toList(c).get(0).businessentityid());
+          assertEquals(ids.get(0), queryA.toList(c).get(0).businessentityid());
+        });
+  }
+
+  /** LIMIT and OFFSET are parameters, so pages of a query share one statement. */
+  @Test
+  public void renderCacheBindsLimitAndOffset() {
+    WithConnection.run(
+        c -> {
+          var testInsert = new TestInsert(new java.util.Random(0), new DomainInsertImpl());
+          for (int i = 0; i < 5; i++) {
+            var be = testInsert.personBusinessentity().insert(c);
+            testInsert
+                .personPerson(be.businessentityid(), "EM")
+                .with(row -> row.withLastname(new LastName(new Name("CachePage"))))
+                .insert(c);
+          }
+
+          var pages = new java.util.ArrayList<String>();
+          for (int[] page : new int[][] {{2, 0}, {3, 1}, {2, 4}}) {
+            var query =
+                personRepoImpl
+                    .select()
+                    .where(p -> p.lastname().isEqual(new LastName(new Name("CachePage"))))
+                    .orderBy(p -> p.businessentityid().asc())
+                    .limit(page[0])
+                    .offset(page[1]);
+            pages.add(query.sql().get().render());
+            assertEquals(Math.min(page[0], 5 - page[1]), query.toList(c).size());
+          }
+          assertEquals(1, pages.stream().distinct().count());
+        });
+  }
+
+  /** Projections which render the same SQL still read their own row types. */
+  @Test
+  public void renderCacheKeepsProjectionsApart() {
+    WithConnection.run(
+        c -> {
+          var testInsert = new TestInsert(new java.util.Random(0), new DomainInsertImpl());
+          var be = testInsert.personBusinessentity().insert(c);
+          testInsert
+              .personPerson(be.businessentityid(), "EM")
+              .with(
+                  row ->
+                      row.withFirstname(new FirstName(new Name("Ada")))
+                          .withLastname(new LastName(new Name("Lovelace"))))
+              .insert(c);
+
+          var wrapped =
+              personRepoImpl
+                  .select()
+                  .where(p -> p.businessentityid().isEqual(be.businessentityid()))
+                  .map(p -> p.firstname().tupleWith(p.lastname()));
+          var unwrapped =
+              personRepoImpl
+                  .select()
+                  .where(p -> p.businessentityid().isEqual(be.businessentityid()))
+                  .map(p -> p.firstname().underlying(FirstName.bijection).tupleWith(p.lastname()));
+          var swapped =
+              personRepoImpl
+                  .select()
+                  .where(p -> p.businessentityid().isEqual(be.businessentityid()))
+                  .map(p -> p.lastname().tupleWith(p.firstname()));
+
+          assertEquals(new FirstName(new Name("Ada")), wrapped.toList(c).get(0)._1());
+          assertEquals(new Name("Ada"), unwrapped.toList(c).get(0)._1());
+          assertEquals(new FirstName(new Name("Ada")), wrapped.toList(c).get(0)._1());
+          assertEquals(new LastName(new Name("Lovelace")), swapped.toList(c).get(0)._1());
+        });
+  }
+
+  /**
+   * The render cache keeps the most recently used shapes: a shape is evicted once enough other
+   * shapes have been rendered, and new shapes are still cached after that. A statement served from
+   * the cache is built from the cached SQL text, so its text is the same String instance.
+   */
+  @Test
+  public void renderCacheEvictsLeastRecentlyUsedShapes() {
+    var cached = cachedText(1);
+    assertSame(cached, cachedText(2));
+
+    // More shapes than the cache holds (RenderCache.MAX_SHAPES is 1024): IN lists up to the array
+    // bind threshold, each with a different number of extra conditions
+    for (int size = 1; size <= SqlExpr.In.ARRAY_BIND_THRESHOLD; size++) {
+      var ids = new BusinessentityId[size];
+      for (int i = 0; i < size; i++) {
+        ids[i] = new BusinessentityId(i);
+      }
+      var query = personRepoImpl.select().where(p -> p.businessentityid().in(ids));
+      for (int conditions = 0; conditions < 40; conditions++) {
+        query = query.where(p -> p.persontype().isEqual("EM"));
+        query.sql();
+      }
+    }
+
+    var evicted = cachedText(3);
+    assertNotSame(cached, evicted);
+    assertSame(evicted, cachedText(4));
+  }
+
+  /** The first SQL chunk of a query of one shape, rendered twice so it comes from the cache. */
+  private String cachedText(int id) {
+    cachedQuery(id).sql();
+    Fragment sql = cachedQuery(id).sql().get();
+    while (!(sql instanceof Fragment.Literal)) {
+      sql =
+          switch (sql) {
+            case Fragment.Concat concat -> concat.frags().get(0);
+            case Fragment.Append append -> append.a();
+            default -> throw new IllegalStateException("Unexpected fragment " + sql);
+          };
+    }
+    return ((Fragment.Literal) sql).value();
+  }
+
+  private SelectBuilder<PersonFields, PersonRow> cachedQuery(int id) {
+    return personRepoImpl
+        .select()
+        .where(p -> p.businessentityid().isEqual(new BusinessentityId(id)))
+        .orderBy(p -> p.lastname().desc());
+  }
+
   /** Test count aggregation. */
   @Test
   public void countReturnsNumberOfRows() {
@@ -1159,6 +1506,118 @@ public class DSLTest extends SnapshotTest {
 
           long filteredCount = filteredQuery.count(c);
           assertEquals(1, filteredCount);
+
+          // The count leaves out the sort, the multiset subquery and the unused left join
+          var multisetQuery =
+              personRepoImpl
+                  .select()
+                  .where(p -> p.lastname().isEqual(new LastName(new Name("TestCount"))))
+                  .join(businessentityRepoImpl.select())
+                  .leftOn(
+                      p_be -> p_be._1().businessentityid().isEqual(p_be._2().businessentityid()))
+                  .orderBy(p_be -> p_be._1().firstname().desc())
+                  .multisetOn(
+                      emailaddressRepoImpl.select(),
+                      p_e -> p_e._1()._1().businessentityid().isEqual(p_e._2().businessentityid()));
+          assertEquals(multisetQuery.toList(c).size(), multisetQuery.count(c));
+          assertEquals(3, query.limit(5).count(c));
+          assertEquals(2, query.orderBy(p -> p.firstname().asc()).offset(1).count(c));
+          assertTrue(personRepoImpl.select().estimateCount(c) >= 0);
+
+          // An aggregating projection has one row, however many rows it aggregates
+          var aggregated = query.map(p -> SqlExpr.count().tupleWith(SqlExpr.max(p.firstname())));
+          assertEquals(1, aggregated.toList(c).size());
+          assertEquals(1, aggregated.count(c));
+        });
+  }
+
+  /** Test stream, forEach and fold, which read rows without collecting them into a list. */
+  @Test
+  public void streamForEachAndFoldReadRowsLazily() {
+    WithConnection.run(
+        c -> {
+          var testInsert = new TestInsert(new java.util.Random(0), new DomainInsertImpl());
+
+          for (int i = 0; i < 5; i++) {
+            final int idx = i;
+            var be = testInsert.personBusinessentity().insert(c);
+            testInsert
+                .personPerson(be.businessentityid(), "EM")
+                .with(
+                    row ->
+                        row.withFirstname(new FirstName(new Name("Stream" + idx)))
+                            .withLastname(new LastName(new Name("TestStream"))))
+                .insert(c);
+          }
+
+          var query =
+              personRepoImpl
+                  .select()
+                  .where(p -> p.lastname().isEqual(new LastName(new Name("TestStream"))))
+                  .join(businessentityRepoImpl.select())
+                  .on(p_be -> p_be._1().businessentityid().isEqual(p_be._2().businessentityid()))
+                  .orderBy(p_be -> p_be._1().firstname().asc());
+
+          // A fetch size smaller than the result is read in several round trips
+          try (var rows = query.stream(c, 2)) {
+            var firstNames = rows.map(p_be -> p_be._1().firstname().value().value()).toList();
+            assertEquals(
+                List.of("Stream0", "Stream1", "Stream2", "Stream3", "Stream4"), firstNames);
+          }
+
+          var seen = new java.util.ArrayList<String>();
+          query.forEach(c, p_be -> seen.add(p_be._1().firstname().value().value()));
+          assertEquals(5, seen.size());
+          assertEquals("Stream0", seen.get(0));
+
+          int count = query.fold(c, 0, (acc, p_be) -> acc + 1);
+          assertEquals(query.toList(c).size(), count);
+        });
+  }
+
+  /** Test scan, which reads a query page by page with keyset pagination. */
+  @Test
+  public void scanReadsAllPagesWithKeysetPagination() {
+    WithConnection.run(
+        c -> {
+          var testInsert = new TestInsert(new java.util.Random(0), new DomainInsertImpl());
+
+          for (int i = 0; i < 5; i++) {
+            final int idx = i;
+            var be = testInsert.personBusinessentity().insert(c);
+            testInsert
+                .personPerson(be.businessentityid(), "EM")
+                .with(
+                    row ->
+                        row.withFirstname(new FirstName(new Name("Scan" + (idx % 2))))
+                            .withLastname(new LastName(new Name("TestScan"))))
+                .insert(c);
+          }
+
+          // Run every page on the test connection, so the uncommitted rows are visible
+          var tx =
+              new Transactor(
+                  () -> c, new Transactor.Strategy(conn -> {}, conn -> {}, t -> {}, conn -> {}));
+          var query =
+              personRepoImpl
+                  .select()
+                  .where(p -> p.lastname().isEqual(new LastName(new Name("TestScan"))));
+
+          var byId = query.scan(tx, List.of(p -> p.businessentityid().asc()), 2).toList();
+          assertEquals(5, byId.size());
+          for (int i = 1; i < byId.size(); i++) {
+            assertTrue(
+                byId.get(i - 1).businessentityid().value()
+                    < byId.get(i).businessentityid().value());
+          }
+
+          // Two keys, where the first one alone does not identify a row
+          var byNameAndId =
+              query
+                  .scan(tx, List.of(p -> p.firstname().asc(), p -> p.businessentityid().asc()), 2)
+                  .map(p -> p.firstname().value().value())
+                  .toList();
+          assertEquals(List.of("Scan0", "Scan0", "Scan0", "Scan1", "Scan1"), byNameAndId);
         });
   }
 
@@ -1670,4 +2129,139 @@ public class DSLTest extends SnapshotTest {
           assertEquals(Long.valueOf(2), scResult._1()._2());
         });
   }
+
+  /** Test writing many rows, each with its own values, through updateBatch and updateMany. */
+  @Test
+  public void updateBatchWritesEachRowsOwnValues() {
+    WithConnection.run(
+        c -> {
+          var testInsert = new TestInsert(new java.util.Random(0), new DomainInsertImpl());
+          var renamed = new java.util.ArrayList<PersonRow>();
+          for (int i = 0; i < 3; i++) {
+            var be = testInsert.personBusinessentity().insert(c);
+            var person = testInsert.personPerson(be.businessentityid(), "SC").insert(c);
+            renamed.add(person.withFirstname(new FirstName(new Name("Batch" + i))));
+          }
+
+          assertEquals(Integer.valueOf(3), personRepoImpl.updateBatch(renamed.iterator(), c));
+          for (int i = 0; i < 3; i++) {
+            var row = personRepoImpl.selectById(renamed.get(i).businessentityid(), c).orElseThrow();
+            assertEquals(new FirstName(new Name("Batch" + i)), row.firstname());
+          }
+
+          // Only the given fields are written, and the WHERE clause applies to every row
+          var relabeled =
+              renamed.stream()
+                  .map(row -> row.withLastname(new LastName(new Name("Relabeled"))))
+                  .toList();
+          var first = relabeled.get(0).businessentityid();
+          var updated =
+              personRepoImpl
+                  .update()
+                  .where(p -> p.businessentityid().isEqual(first))
+                  .updateMany(relabeled.iterator(), p -> List.of(p.lastname()), c);
+          assertEquals(1, updated);
+          assertEquals(
+              new LastName(new Name("Relabeled")),
+              personRepoImpl.selectById(first, c).orElseThrow().lastname());
+          assertNotEquals(
+              new LastName(new Name("Relabeled")),
+              personRepoImpl
+                  .selectById(relabeled.get(1).businessentityid(), c)
+                  .orElseThrow()
+                  .lastname());
+        });
+  }
+
+  /**
+   * Test updateBatch against the database, where it writes the rows with UPDATE ... FROM (VALUES
+   * ...): more rows than one statement takes, a row given twice, and a row which does not exist.
+   */
+  @Test
+  public void updateBatchRoundTrip() {
+    WithConnection.run(
+        c -> {
+          var testInsert = new TestInsert(new java.util.Random(0), new DomainInsertImpl());
+          var renamed = new java.util.ArrayList<PersonRow>();
+          for (int i = 0; i < 1005; i++) {
+            var be = testInsert.personBusinessentity().insert(c);
+            var person = testInsert.personPerson(be.businessentityid(), "SC").insert(c);
+            renamed.add(person.withFirstname(new FirstName(new Name("Batch" + i))));
+          }
+          // the first row again, in another statement than its first occurrence
+          var rows = new java.util.ArrayList<>(renamed);
+          rows.add(renamed.get(0).withFirstname(new FirstName(new Name("Batch again"))));
+          rows.add(renamed.get(1).withBusinessentityid(new BusinessentityId(-1)));
+
+          assertEquals(Integer.valueOf(1005), personRepoImpl.updateBatch(rows.iterator(), c));
+          var ids =
+              renamed.stream().map(PersonRow::businessentityid).toArray(BusinessentityId[]::new);
+          var byId = personRepoImpl.selectByIdsTracked(ids, c);
+          assertEquals(new FirstName(new Name("Batch again")), byId.get(ids[0]).firstname());
+          for (int i = 1; i < ids.length; i++) {
+            assertEquals(new FirstName(new Name("Batch" + i)), byId.get(ids[i]).firstname());
+          }
+          assertFalse(personRepoImpl.selectById(new BusinessentityId(-1), c).isPresent());
+        });
+  }
+
+  /**
+   * Test the shape of the statement updateMany renders on each database: UPDATE ... FROM on
+   * PostgreSQL and DuckDB, a join on MariaDB, and MERGE on Oracle, SQL Server and DB2. The fields
+   * are PostgreSQL's, so are their casts; each tester runs the statement for its own database.
+   */
+  @Test
+  public void updateManyRendersPerDialect() {
+    var rows = List.of(personRow(1), personRow(2));
+    var dialects =
+        List.of(
+            Tuple.of("postgresql", Dialect.POSTGRESQL),
+            Tuple.of("duckdb", Dialect.DUCKDB),
+            Tuple.of("mariadb", Dialect.MARIADB),
+            Tuple.of("oracle", Dialect.ORACLE),
+            Tuple.of("sqlserver", Dialect.SQLSERVER),
+            Tuple.of("db2", Dialect.DB2));
+    for (var dialect : dialects) {
+      var sql =
+          UpdateBuilder.of("person", PersonFields.structure, PersonRow._rowParser, dialect._2())
+              .where(p -> p.persontype().isEqual("SC"))
+              .updateManySql(rows, p -> List.of(p.firstname(), p.modifieddate()));
+      compareFragment("updateManyRendersPerDialect-" + dialect._1(), sql);
+    }
+  }
+
+  /** Test that updateMany rejects a field both written by the rows and set by the builder. */
+  @Test
+  public void updateManyRejectsInvalidInput() {
+    var setAndWritten =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                personRepoImpl
+                    .update()
+                    .setValue(p -> p.lastname(), new LastName(new Name("Set")))
+                    .updateManySql(
+                        List.of(personRow(1)), p -> List.of(p.firstname(), p.lastname())));
+    assertTrue(setAndWritten.getMessage().contains("lastname"));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> personRepoImpl.update().updateManySql(List.of(), p -> List.of(p.firstname())));
+  }
+
+  private static PersonRow personRow(int i) {
+    return new PersonRow(
+        new BusinessentityId(i),
+        "SC",
+        new adventureworks.public_.NameStyle(false),
+        Optional.empty(),
+        new FirstName(new Name("first name " + i)),
+        Optional.empty(),
+        new LastName(new Name("last name " + i)),
+        Optional.empty(),
+        0,
+        Optional.empty(),
+        Optional.empty(),
+        UUID.randomUUID(),
+        LocalDateTime.now());
+  }
 }
@@ -0,0 +1,233 @@
+package adventureworks;
+
+import static org.junit.Assert.*;
+
+import adventureworks.humanresources.employee.EmployeeFields;
+import adventureworks.person.person.PersonFields;
+import dev.typr.foundations.dsl.Path;
+import dev.typr.foundations.dsl.SqlExpr;
+import dev.typr.foundations.dsl.internal.LogicalPlan;
+import dev.typr.foundations.dsl.internal.LogicalPlan.ColumnMeta;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Derived;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Expr;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Filter;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Join;
+import dev.typr.foundations.dsl.internal.LogicalPlan.JoinType;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Limit;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Project;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Projection;
+import dev.typr.foundations.dsl.internal.LogicalPlan.Scan;
+import dev.typr.foundations.dsl.internal.LogicalPlan.SourceId;
+import dev.typr.foundations.dsl.internal.PlanOptimizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PlanOptimizer} on plans built by hand, in the shape SelectBuilderSql builds
+ * them. DSLTest covers the SQL the optimized plans render to.
+ */
+public class PlanOptimizerTest {
+  static final PersonFields person = new PersonFields(List.of(Path.LEFT_IN_JOIN));
+  static final EmployeeFields employee = new EmployeeFields(List.of(Path.RIGHT_IN_JOIN));
+
+  static final SourceId p = new SourceId("person0");
+  static final SourceId e = new SourceId("employee0");
+
+  static final Scan personScan = new Scan(p, "person", "person", columns(person.columns()));
+  static final Scan employeeScan =
+      new Scan(e, "humanresources", "employee", columns(employee.columns()));
+
+  // Fields build new instances on every call, and plans compare them by value
+  static final SqlExpr.FieldLike<?, ?> firstname = person.firstname();
+  static final SqlExpr.FieldLike<?, ?> jobtitle = employee.jobtitle();
+
+  static final Expr onKey =
+      wrap(person.businessentityid().isEqual(employee.businessentityid()), p, e);
+  static final Expr personPredicate = wrap(person.persontype().isEqual("EM"), p);
+  static final Expr employeePredicate = wrap(employee.jobtitle().isEqual("Engineer"), e);
+
+  static List<ColumnMeta> columns(List<? extends SqlExpr.FieldLike<?, ?>> fields) {
+    List<ColumnMeta> result = new ArrayList<>();
+    for (SqlExpr.FieldLike<?, ?> field : fields) {
+      result.add(new ColumnMeta(field.column(), field, field.sqlReadCast(), field.sqlWriteCast()));
+    }
+    return result;
+  }
+
+  static Expr wrap(SqlExpr<?> expr, SourceId... sources) {
+    return new Expr.Wrapped(expr, Set.of(sources));
+  }
+
+  static Projection projection(SqlExpr.FieldLike<?, ?> field, SourceId source) {
+    return new Projection(field.column(), wrap(field, source), field.dbType());
+  }
+
+  static Expr and(Expr... exprs) {
+    return PlanOptimizer.and(List.of(exprs)).orElseThrow();
+  }
+
+  @Test
+  public void leftJoinWithProjectedColumnsIsKept() {
+    LogicalPlan plan =
+        new Project(
+            new Join(personScan, employeeScan, JoinType.LEFT, onKey),
+            List.of(projection(firstname, p), projection(jobtitle, e)));
+
+    assertEquals(plan, PlanOptimizer.optimize(plan));
+  }
+
+  /** The nullable side of a left join stays joined and filtered after the join. */
+  @Test
+  public void leftJoinReferencedInWhereIsKept() {
+    LogicalPlan plan =
+        new Project(
+            new Filter(new Join(personScan, employeeScan, JoinType.LEFT, onKey), employeePredicate),
+            List.of(projection(firstname, p)));
+
+    assertEquals(plan, PlanOptimizer.optimize(plan));
+  }
+
+  @Test
+  public void leftJoinOnThePrimaryKeyWhichIsNotUsedIsDropped() {
+    List<Projection> projections = List.of(projection(firstname, p));
+    LogicalPlan plan =
+        new Project(new Join(personScan, employeeScan, JoinType.LEFT, onKey), projections);
+
+    assertEquals(new Project(personScan, projections), PlanOptimizer.optimize(plan));
+  }
+
+  /** Joined on another column, there may be several matches per row. */
+  @Test
+  public void leftJoinNotOnThePrimaryKeyIsKept() {
+    Expr onJobTitle = wrap(employee.jobtitle().isEqual(person.persontype()), p, e);
+    LogicalPlan plan =
+        new Project(
+            new Join(personScan, employeeScan, JoinType.LEFT, onJobTitle),
+            List.of(projection(firstname, p)));
+
+    assertEquals(plan, PlanOptimizer.optimize(plan));
+  }
+
+  @Test
+  public void innerJoinIsKept() {
+    LogicalPlan plan =
+        new Project(
+            new Join(personScan, employeeScan, JoinType.INNER, onKey),
+            List.of(projection(firstname, p)));
+
+    assertEquals(plan, PlanOptimizer.optimize(plan));
+  }
+
+  @Test
+  public void predicatesOnOneTableArePushedToIt() {
+    Expr bothTables = wrap(person.businessentityid().isEqual(employee.businessentityid()), p, e);
+    List<Projection> projections = List.of(projection(firstname, p), projection(jobtitle, e));
+    LogicalPlan plan =
+        new Project(
+            new Filter(
+                new Join(personScan, employeeScan, JoinType.INNER, onKey),
+                and(personPredicate, bothTables, employeePredicate)),
+            projections);
+
+    LogicalPlan expected =
+        new Project(
+            new Filter(
+                new Join(
+                    new Filter(personScan, personPredicate),
+                    new Filter(employeeScan, employeePredicate),
+                    JoinType.INNER,
+                    onKey),
+                bothTables),
+            projections);
+    assertEquals(expected, PlanOptimizer.pushDownPredicates(plan));
+  }
+
+  /**
+   * The filter of the first table moves to WHERE, and the filter of the right side of a left join
+   * moves into its ON clause, so both tables are referenced by name.
+   */
+  @Test
+  public void filteredTablesAreFlattened() {
+    List<Projection> projections = List.of(projection(firstname, p), projection(jobtitle, e));
+    LogicalPlan plan =
+        new Project(
+            new Join(
+                new Filter(personScan, personPredicate),
+                new Filter(employeeScan, employeePredicate),
+                JoinType.LEFT,
+                onKey),
+            projections);
+
+    LogicalPlan expected =
+        new Project(
+            new Filter(
+                new Join(personScan, employeeScan, JoinType.LEFT, and(onKey, employeePredicate)),
+                personPredicate),
+            projections);
+    assertEquals(expected, PlanOptimizer.optimize(plan));
+  }
+
+  /** Filtering a limited table after the limit would return other rows. */
+  @Test
+  public void limitedTableIsNotFlattened() {
+    LogicalPlan limited =
+        new Limit(
+            new Filter(employeeScan, employeePredicate), OptionalInt.of(1), OptionalInt.empty());
+    LogicalPlan plan =
+        new Project(
+            new Filter(new Join(personScan, limited, JoinType.INNER, onKey), employeePredicate),
+            List.of(projection(firstname, p), projection(jobtitle, e)));
+
+    assertEquals(plan, PlanOptimizer.optimize(plan));
+  }
+
+  /** A grouped query is neither dropped nor filtered inside, even when joined on a key column. */
+  @Test
+  public void groupedQueryStaysOpaque() {
+    SourceId g = new SourceId("grouped0");
+    EmployeeFields grouped = new EmployeeFields(List.of(Path.of("grouped")));
+    Derived derived = new Derived(g, columns(List.of(grouped.businessentityid())));
+    Expr onGroupedKey = wrap(person.businessentityid().isEqual(grouped.businessentityid()), p, g);
+    Expr groupedPredicate = wrap(grouped.businessentityid().isNotNull(), g);
+
+    LogicalPlan unused =
+        new Project(
+            new Join(personScan, derived, JoinType.LEFT, onGroupedKey),
+            List.of(projection(firstname, p)));
+    assertEquals(unused, PlanOptimizer.optimize(unused));
+
+    LogicalPlan filtered =
+        new Project(
+            new Filter(
+                new Join(personScan, derived, JoinType.INNER, onGroupedKey), groupedPredicate),
+            List.of(projection(firstname, p)));
+    assertEquals(filtered, PlanOptimizer.optimize(filtered));
+  }
+
+  /** A join rendered as a subquery exposes its columns as alias_column, and is not looked into. */
+  @Test
+  public void compositeSubqueryStaysOpaque() {
+    SourceId c = new SourceId("composite0");
+    PersonFields inner = new PersonFields(List.of(Path.of("composite")));
+    List<ColumnMeta> compositeColumns = new ArrayList<>();
+    for (ColumnMeta column : columns(inner.columns())) {
+      compositeColumns.add(
+          new ColumnMeta(
+              "person0_" + column.name(), column.field(), column.readCast(), column.writeCast()));
+    }
+    Derived composite = new Derived(c, compositeColumns);
+    Expr onCompositeKey = wrap(inner.businessentityid().isEqual(employee.businessentityid()), c, e);
+    Expr compositePredicate = wrap(inner.persontype().isEqual("EM"), c);
+
+    LogicalPlan plan =
+        new Project(
+            new Filter(
+                new Join(composite, employeeScan, JoinType.INNER, onCompositeKey),
+                compositePredicate),
+            List.of(projection(jobtitle, e)));
+    assertEquals(plan, PlanOptimizer.optimize(plan));
+  }
+}
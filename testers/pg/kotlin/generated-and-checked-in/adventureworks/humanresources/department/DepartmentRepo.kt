@@ -75,6 +75,11 @@ interface DepartmentRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<DepartmentRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: DepartmentRow,
     c: Connection
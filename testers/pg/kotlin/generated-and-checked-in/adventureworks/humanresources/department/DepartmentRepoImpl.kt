@@ -111,6 +111,11 @@ class DepartmentRepoImpl() : DepartmentRepo {
     return Fragment.interpolate(Fragment.lit("update \"humanresources\".\"department\"\nset \"name\" = "), Fragment.encode(Name.pgType, row.name), Fragment.lit("::varchar,\n\"groupname\" = "), Fragment.encode(Name.pgType, row.groupname), Fragment.lit("::varchar,\n\"modifieddate\" = "), Fragment.encode(PgTypes.timestamp, row.modifieddate), Fragment.lit("::timestamp\nwhere \"departmentid\" = "), Fragment.encode(DepartmentId.pgType, departmentid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<DepartmentRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name(), f.groupname(), f.modifieddate()) }, c)
+
   override fun upsert(
     unsaved: DepartmentRow,
     c: Connection
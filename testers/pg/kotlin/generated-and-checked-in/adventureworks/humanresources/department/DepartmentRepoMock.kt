@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -133,6 +134,21 @@ data class DepartmentRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<DepartmentRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<DepartmentId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.departmentid)) {
+        map[row.departmentid] = row
+        updated.add(row.departmentid)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: DepartmentRow,
     c: Connection
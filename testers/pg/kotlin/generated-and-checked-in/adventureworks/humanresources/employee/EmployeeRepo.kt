@@ -76,6 +76,11 @@ interface EmployeeRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<EmployeeRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: EmployeeRow,
     c: Connection
@@ -152,6 +152,11 @@ class EmployeeRepoImpl() : EmployeeRepo {
     return Fragment.interpolate(Fragment.lit("update \"humanresources\".\"employee\"\nset \"nationalidnumber\" = "), Fragment.encode(PgTypes.text, row.nationalidnumber), Fragment.lit(",\n\"loginid\" = "), Fragment.encode(PgTypes.text, row.loginid), Fragment.lit(",\n\"jobtitle\" = "), Fragment.encode(PgTypes.text, row.jobtitle), Fragment.lit(",\n\"birthdate\" = "), Fragment.encode(PgTypes.date, row.birthdate), Fragment.lit("::date,\n\"maritalstatus\" = "), Fragment.encode(PgTypes.bpchar, row.maritalstatus), Fragment.lit("::bpchar,\n\"gender\" = "), Fragment.encode(PgTypes.bpchar, row.gender), Fragment.lit("::bpchar,\n\"hiredate\" = "), Fragment.encode(PgTypes.date, row.hiredate), Fragment.lit("::date,\n\"salariedflag\" = "), Fragment.encode(SalariedFlag.pgType, row.salariedflag), Fragment.lit("::bool,\n\"vacationhours\" = "), Fragment.encode(KotlinDbTypes.PgTypes.int2, row.vacationhours), Fragment.lit("::int2,\n\"sickleavehours\" = "), Fragment.encode(KotlinDbTypes.PgTypes.int2, row.sickleavehours), Fragment.lit("::int2,\n\"currentflag\" = "), Fragment.encode(CurrentFlag.pgType, row.currentflag), Fragment.lit("::bool,\n\"rowguid\" = "), Fragment.encode(PgTypes.uuid, row.rowguid), Fragment.lit("::uuid,\n\"modifieddate\" = "), Fragment.encode(PgTypes.timestamp, row.modifieddate), Fragment.lit("::timestamp,\n\"organizationnode\" = "), Fragment.encode(PgTypes.text.nullable(), row.organizationnode), Fragment.lit("\nwhere \"businessentityid\" = "), Fragment.encode(BusinessentityId.pgType, businessentityid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<EmployeeRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.nationalidnumber(), f.loginid(), f.jobtitle(), f.birthdate(), f.maritalstatus(), f.gender(), f.hiredate(), f.salariedflag(), f.vacationhours(), f.sickleavehours(), f.currentflag(), f.rowguid(), f.modifieddate(), f.organizationnode()) }, c)
+
   override fun upsert(
     unsaved: EmployeeRow,
     c: Connection
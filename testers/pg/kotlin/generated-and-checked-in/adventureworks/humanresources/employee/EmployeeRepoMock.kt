@@ -18,6 +18,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -134,6 +135,21 @@ data class EmployeeRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<EmployeeRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<BusinessentityId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.businessentityid)) {
+        map[row.businessentityid] = row
+        updated.add(row.businessentityid)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: EmployeeRow,
     c: Connection
@@ -75,6 +75,11 @@ interface EmployeedepartmenthistoryRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<EmployeedepartmenthistoryRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: EmployeedepartmenthistoryRow,
     c: Connection
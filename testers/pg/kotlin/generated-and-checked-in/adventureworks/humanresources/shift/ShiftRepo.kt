@@ -75,6 +75,11 @@ interface ShiftRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<ShiftRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: ShiftRow,
     c: Connection
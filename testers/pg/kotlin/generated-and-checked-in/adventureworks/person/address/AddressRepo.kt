@@ -75,6 +75,11 @@ interface AddressRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<AddressRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: AddressRow,
     c: Connection
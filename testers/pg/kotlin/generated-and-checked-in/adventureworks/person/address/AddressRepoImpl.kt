@@ -125,6 +125,11 @@ class AddressRepoImpl() : AddressRepo {
     return Fragment.interpolate(Fragment.lit("update \"person\".\"address\"\nset \"addressline1\" = "), Fragment.encode(PgTypes.text, row.addressline1), Fragment.lit(",\n\"addressline2\" = "), Fragment.encode(PgTypes.text.nullable(), row.addressline2), Fragment.lit(",\n\"city\" = "), Fragment.encode(PgTypes.text, row.city), Fragment.lit(",\n\"stateprovinceid\" = "), Fragment.encode(StateprovinceId.pgType, row.stateprovinceid), Fragment.lit("::int4,\n\"postalcode\" = "), Fragment.encode(PgTypes.text, row.postalcode), Fragment.lit(",\n\"spatiallocation\" = "), Fragment.encode(PgTypes.bytea.nullable(), row.spatiallocation), Fragment.lit("::bytea,\n\"rowguid\" = "), Fragment.encode(PgTypes.uuid, row.rowguid), Fragment.lit("::uuid,\n\"modifieddate\" = "), Fragment.encode(PgTypes.timestamp, row.modifieddate), Fragment.lit("::timestamp\nwhere \"addressid\" = "), Fragment.encode(AddressId.pgType, addressid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<AddressRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.addressline1(), f.addressline2(), f.city(), f.stateprovinceid(), f.postalcode(), f.spatiallocation(), f.rowguid(), f.modifieddate()) }, c)
+
   override fun upsert(
     unsaved: AddressRow,
     c: Connection
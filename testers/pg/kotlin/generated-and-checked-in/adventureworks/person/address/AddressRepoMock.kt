@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -133,6 +134,21 @@ data class AddressRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<AddressRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<AddressId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.addressid)) {
+        map[row.addressid] = row
+        updated.add(row.addressid)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: AddressRow,
     c: Connection
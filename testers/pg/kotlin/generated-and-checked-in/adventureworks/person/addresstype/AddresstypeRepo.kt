@@ -75,6 +75,11 @@ interface AddresstypeRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<AddresstypeRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: AddresstypeRow,
     c: Connection
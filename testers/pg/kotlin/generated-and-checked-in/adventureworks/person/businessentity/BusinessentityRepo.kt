@@ -75,6 +75,11 @@ interface BusinessentityRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<BusinessentityRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: BusinessentityRow,
     c: Connection
@@ -111,6 +111,11 @@ class BusinessentityRepoImpl() : BusinessentityRepo {
     return Fragment.interpolate(Fragment.lit("update \"person\".\"businessentity\"\nset \"rowguid\" = "), Fragment.encode(PgTypes.uuid, row.rowguid), Fragment.lit("::uuid,\n\"modifieddate\" = "), Fragment.encode(PgTypes.timestamp, row.modifieddate), Fragment.lit("::timestamp\nwhere \"businessentityid\" = "), Fragment.encode(BusinessentityId.pgType, businessentityid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<BusinessentityRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.rowguid(), f.modifieddate()) }, c)
+
   override fun upsert(
     unsaved: BusinessentityRow,
     c: Connection
@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -133,6 +134,21 @@ data class BusinessentityRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<BusinessentityRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<BusinessentityId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.businessentityid)) {
+        map[row.businessentityid] = row
+        updated.add(row.businessentityid)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: BusinessentityRow,
     c: Connection
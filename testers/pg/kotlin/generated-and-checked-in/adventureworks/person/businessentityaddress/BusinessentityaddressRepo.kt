@@ -75,6 +75,11 @@ interface BusinessentityaddressRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<BusinessentityaddressRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: BusinessentityaddressRow,
     c: Connection
@@ -124,6 +124,11 @@ class BusinessentityaddressRepoImpl() : BusinessentityaddressRepo {
     return Fragment.interpolate(Fragment.lit("update \"person\".\"businessentityaddress\"\nset \"rowguid\" = "), Fragment.encode(PgTypes.uuid, row.rowguid), Fragment.lit("::uuid,\n\"modifieddate\" = "), Fragment.encode(PgTypes.timestamp, row.modifieddate), Fragment.lit("::timestamp\nwhere \"businessentityid\" = "), Fragment.encode(BusinessentityId.pgType, compositeId.businessentityid), Fragment.lit(" AND \"addressid\" = "), Fragment.encode(AddressId.pgType, compositeId.addressid), Fragment.lit(" AND \"addresstypeid\" = "), Fragment.encode(AddresstypeId.pgType, compositeId.addresstypeid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<BusinessentityaddressRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.rowguid(), f.modifieddate()) }, c)
+
   override fun upsert(
     unsaved: BusinessentityaddressRow,
     c: Connection
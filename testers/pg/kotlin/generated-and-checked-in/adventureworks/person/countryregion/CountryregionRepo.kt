@@ -75,6 +75,11 @@ interface CountryregionRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<CountryregionRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: CountryregionRow,
     c: Connection
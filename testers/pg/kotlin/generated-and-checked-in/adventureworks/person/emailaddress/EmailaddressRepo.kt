@@ -75,6 +75,11 @@ interface EmailaddressRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<EmailaddressRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: EmailaddressRow,
     c: Connection
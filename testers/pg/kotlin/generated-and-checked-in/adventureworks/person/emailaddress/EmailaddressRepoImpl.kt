@@ -125,6 +125,11 @@ class EmailaddressRepoImpl() : EmailaddressRepo {
     return Fragment.interpolate(Fragment.lit("update \"person\".\"emailaddress\"\nset \"emailaddress\" = "), Fragment.encode(PgTypes.text.nullable(), row.emailaddress), Fragment.lit(",\n\"rowguid\" = "), Fragment.encode(PgTypes.uuid, row.rowguid), Fragment.lit("::uuid,\n\"modifieddate\" = "), Fragment.encode(PgTypes.timestamp, row.modifieddate), Fragment.lit("::timestamp\nwhere \"businessentityid\" = "), Fragment.encode(BusinessentityId.pgType, compositeId.businessentityid), Fragment.lit(" AND \"emailaddressid\" = "), Fragment.encode(KotlinDbTypes.PgTypes.int4, compositeId.emailaddressid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<EmailaddressRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.emailaddress(), f.rowguid(), f.modifieddate()) }, c)
+
   override fun upsert(
     unsaved: EmailaddressRow,
     c: Connection
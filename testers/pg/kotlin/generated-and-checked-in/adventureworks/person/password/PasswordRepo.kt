@@ -76,6 +76,11 @@ interface PasswordRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<PasswordRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: PasswordRow,
     c: Connection
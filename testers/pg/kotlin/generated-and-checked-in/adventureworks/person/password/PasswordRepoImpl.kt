@@ -113,6 +113,11 @@ class PasswordRepoImpl() : PasswordRepo {
     return Fragment.interpolate(Fragment.lit("update \"person\".\"password\"\nset \"passwordhash\" = "), Fragment.encode(PgTypes.text, row.passwordhash), Fragment.lit(",\n\"passwordsalt\" = "), Fragment.encode(PgTypes.text, row.passwordsalt), Fragment.lit(",\n\"rowguid\" = "), Fragment.encode(PgTypes.uuid, row.rowguid), Fragment.lit("::uuid,\n\"modifieddate\" = "), Fragment.encode(PgTypes.timestamp, row.modifieddate), Fragment.lit("::timestamp\nwhere \"businessentityid\" = "), Fragment.encode(BusinessentityId.pgType, businessentityid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<PasswordRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.passwordhash(), f.passwordsalt(), f.rowguid(), f.modifieddate()) }, c)
+
   override fun upsert(
     unsaved: PasswordRow,
     c: Connection
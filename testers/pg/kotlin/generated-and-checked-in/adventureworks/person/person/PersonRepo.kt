@@ -76,6 +76,11 @@ interface PersonRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<PersonRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: PersonRow,
     c: Connection
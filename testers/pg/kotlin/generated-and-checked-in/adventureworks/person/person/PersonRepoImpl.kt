@@ -141,6 +141,11 @@ class PersonRepoImpl() : PersonRepo {
     return Fragment.interpolate(Fragment.lit("update \"person\".\"person\"\nset \"persontype\" = "), Fragment.encode(PgTypes.bpchar, row.persontype), Fragment.lit("::bpchar,\n\"namestyle\" = "), Fragment.encode(NameStyle.pgType, row.namestyle), Fragment.lit("::bool,\n\"title\" = "), Fragment.encode(PgTypes.text.nullable(), row.title), Fragment.lit(",\n\"firstname\" = "), Fragment.encode(FirstName.pgType, row.firstname), Fragment.lit("::varchar,\n\"middlename\" = "), Fragment.encode(MiddleName.pgType.nullable(), row.middlename), Fragment.lit("::varchar,\n\"lastname\" = "), Fragment.encode(LastName.pgType, row.lastname), Fragment.lit("::varchar,\n\"suffix\" = "), Fragment.encode(PgTypes.text.nullable(), row.suffix), Fragment.lit(",\n\"emailpromotion\" = "), Fragment.encode(KotlinDbTypes.PgTypes.int4, row.emailpromotion), Fragment.lit("::int4,\n\"additionalcontactinfo\" = "), Fragment.encode(PgTypes.xml.nullable(), row.additionalcontactinfo), Fragment.lit("::xml,\n\"demographics\" = "), Fragment.encode(PgTypes.xml.nullable(), row.demographics), Fragment.lit("::xml,\n\"rowguid\" = "), Fragment.encode(PgTypes.uuid, row.rowguid), Fragment.lit("::uuid,\n\"modifieddate\" = "), Fragment.encode(PgTypes.timestamp, row.modifieddate), Fragment.lit("::timestamp\nwhere \"businessentityid\" = "), Fragment.encode(BusinessentityId.pgType, businessentityid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<PersonRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.persontype(), f.namestyle(), f.title(), f.firstname(), f.middlename(), f.lastname(), f.suffix(), f.emailpromotion(), f.additionalcontactinfo(), f.demographics(), f.rowguid(), f.modifieddate()) }, c)
+
   override fun upsert(
     unsaved: PersonRow,
     c: Connection
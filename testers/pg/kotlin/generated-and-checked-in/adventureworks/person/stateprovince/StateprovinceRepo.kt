@@ -75,6 +75,11 @@ interface StateprovinceRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<StateprovinceRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: StateprovinceRow,
     c: Connection
@@ -128,6 +128,11 @@ class StateprovinceRepoImpl() : StateprovinceRepo {
     return Fragment.interpolate(Fragment.lit("update \"person\".\"stateprovince\"\nset \"stateprovincecode\" = "), Fragment.encode(PgTypes.bpchar, row.stateprovincecode), Fragment.lit("::bpchar,\n\"countryregioncode\" = "), Fragment.encode(CountryregionId.pgType, row.countryregioncode), Fragment.lit(",\n\"isonlystateprovinceflag\" = "), Fragment.encode(Flag.pgType, row.isonlystateprovinceflag), Fragment.lit("::bool,\n\"name\" = "), Fragment.encode(Name.pgType, row.name), Fragment.lit("::varchar,\n\"territoryid\" = "), Fragment.encode(SalesterritoryId.pgType, row.territoryid), Fragment.lit("::int4,\n\"rowguid\" = "), Fragment.encode(PgTypes.uuid, row.rowguid), Fragment.lit("::uuid,\n\"modifieddate\" = "), Fragment.encode(PgTypes.timestamp, row.modifieddate), Fragment.lit("::timestamp\nwhere \"stateprovinceid\" = "), Fragment.encode(StateprovinceId.pgType, stateprovinceid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<StateprovinceRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.stateprovincecode(), f.countryregioncode(), f.isonlystateprovinceflag(), f.name(), f.territoryid(), f.rowguid(), f.modifieddate()) }, c)
+
   override fun upsert(
     unsaved: StateprovinceRow,
     c: Connection
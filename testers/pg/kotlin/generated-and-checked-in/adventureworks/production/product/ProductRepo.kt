@@ -75,6 +75,11 @@ interface ProductRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<ProductRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: ProductRow,
     c: Connection
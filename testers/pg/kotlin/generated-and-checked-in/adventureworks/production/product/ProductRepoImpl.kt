@@ -168,6 +168,11 @@ class ProductRepoImpl() : ProductRepo {
     return Fragment.interpolate(Fragment.lit("update \"production\".\"product\"\nset \"name\" = "), Fragment.encode(Name.pgType, row.name), Fragment.lit("::varchar,\n\"productnumber\" = "), Fragment.encode(PgTypes.text, row.productnumber), Fragment.lit(",\n\"makeflag\" = "), Fragment.encode(Flag.pgType, row.makeflag), Fragment.lit("::bool,\n\"finishedgoodsflag\" = "), Fragment.encode(Flag.pgType, row.finishedgoodsflag), Fragment.lit("::bool,\n\"color\" = "), Fragment.encode(PgTypes.text.nullable(), row.color), Fragment.lit(",\n\"safetystocklevel\" = "), Fragment.encode(KotlinDbTypes.PgTypes.int2, row.safetystocklevel), Fragment.lit("::int2,\n\"reorderpoint\" = "), Fragment.encode(KotlinDbTypes.PgTypes.int2, row.reorderpoint), Fragment.lit("::int2,\n\"standardcost\" = "), Fragment.encode(PgTypes.numeric, row.standardcost), Fragment.lit("::numeric,\n\"listprice\" = "), Fragment.encode(PgTypes.numeric, row.listprice), Fragment.lit("::numeric,\n\"size\" = "), Fragment.encode(PgTypes.text.nullable(), row.size), Fragment.lit(",\n\"sizeunitmeasurecode\" = "), Fragment.encode(UnitmeasureId.pgType.nullable(), row.sizeunitmeasurecode), Fragment.lit("::bpchar,\n\"weightunitmeasurecode\" = "), Fragment.encode(UnitmeasureId.pgType.nullable(), row.weightunitmeasurecode), Fragment.lit("::bpchar,\n\"weight\" = "), Fragment.encode(PgTypes.numeric.nullable(), row.weight), Fragment.lit("::numeric,\n\"daystomanufacture\" = "), Fragment.encode(KotlinDbTypes.PgTypes.int4, row.daystomanufacture), Fragment.lit("::int4,\n\"productline\" = "), Fragment.encode(PgTypes.bpchar.nullable(), row.productline), Fragment.lit("::bpchar,\n\"class\" = "), Fragment.encode(PgTypes.bpchar.nullable(), row.`class`), Fragment.lit("::bpchar,\n\"style\" = "), Fragment.encode(PgTypes.bpchar.nullable(), row.style), Fragment.lit("::bpchar,\n\"productsubcategoryid\" = "), Fragment.encode(ProductsubcategoryId.pgType.nullable(), row.productsubcategoryid), Fragment.lit("::int4,\n\"productmodelid\" = "), Fragment.encode(ProductmodelId.pgType.nullable(), row.productmodelid), Fragment.lit("::int4,\n\"sellstartdate\" = "), Fragment.encode(PgTypes.timestamp, row.sellstartdate), Fragment.lit("::timestamp,\n\"sellenddate\" = "), Fragment.encode(PgTypes.timestamp.nullable(), row.sellenddate), Fragment.lit("::timestamp,\n\"discontinueddate\" = "), Fragment.encode(PgTypes.timestamp.nullable(), row.discontinueddate), Fragment.lit("::timestamp,\n\"rowguid\" = "), Fragment.encode(PgTypes.uuid, row.rowguid), Fragment.lit("::uuid,\n\"modifieddate\" = "), Fragment.encode(PgTypes.timestamp, row.modifieddate), Fragment.lit("::timestamp\nwhere \"productid\" = "), Fragment.encode(ProductId.pgType, productid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<ProductRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name(), f.productnumber(), f.makeflag(), f.finishedgoodsflag(), f.color(), f.safetystocklevel(), f.reorderpoint(), f.standardcost(), f.listprice(), f.size(), f.sizeunitmeasurecode(), f.weightunitmeasurecode(), f.weight(), f.daystomanufacture(), f.productline(), f.`class`(), f.style(), f.productsubcategoryid(), f.productmodelid(), f.sellstartdate(), f.sellenddate(), f.discontinueddate(), f.rowguid(), f.modifieddate()) }, c)
+
   override fun upsert(
     unsaved: ProductRow,
     c: Connection
@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -133,6 +134,21 @@ data class ProductRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<ProductRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<ProductId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.productid)) {
+        map[row.productid] = row
+        updated.add(row.productid)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: ProductRow,
     c: Connection
@@ -75,6 +75,11 @@ interface ProductcategoryRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<ProductcategoryRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: ProductcategoryRow,
     c: Connection
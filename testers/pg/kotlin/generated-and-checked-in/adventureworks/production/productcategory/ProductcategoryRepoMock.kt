@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -133,6 +134,21 @@ data class ProductcategoryRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<ProductcategoryRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<ProductcategoryId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.productcategoryid)) {
+        map[row.productcategoryid] = row
+        updated.add(row.productcategoryid)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: ProductcategoryRow,
     c: Connection
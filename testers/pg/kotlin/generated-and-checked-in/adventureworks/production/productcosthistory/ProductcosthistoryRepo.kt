@@ -75,6 +75,11 @@ interface ProductcosthistoryRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<ProductcosthistoryRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: ProductcosthistoryRow,
     c: Connection
@@ -119,6 +119,11 @@ class ProductcosthistoryRepoImpl() : ProductcosthistoryRepo {
     return Fragment.interpolate(Fragment.lit("update \"production\".\"productcosthistory\"\nset \"enddate\" = "), Fragment.encode(PgTypes.timestamp.nullable(), row.enddate), Fragment.lit("::timestamp,\n\"standardcost\" = "), Fragment.encode(PgTypes.numeric, row.standardcost), Fragment.lit("::numeric,\n\"modifieddate\" = "), Fragment.encode(PgTypes.timestamp, row.modifieddate), Fragment.lit("::timestamp\nwhere \"productid\" = "), Fragment.encode(ProductId.pgType, compositeId.productid), Fragment.lit(" AND \"startdate\" = "), Fragment.encode(PgTypes.timestamp, compositeId.startdate), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<ProductcosthistoryRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.enddate(), f.standardcost(), f.modifieddate()) }, c)
+
   override fun upsert(
     unsaved: ProductcosthistoryRow,
     c: Connection
@@ -75,6 +75,11 @@ interface ProductmodelRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<ProductmodelRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: ProductmodelRow,
     c: Connection
@@ -119,6 +119,11 @@ class ProductmodelRepoImpl() : ProductmodelRepo {
     return Fragment.interpolate(Fragment.lit("update \"production\".\"productmodel\"\nset \"name\" = "), Fragment.encode(Name.pgType, row.name), Fragment.lit("::varchar,\n\"catalogdescription\" = "), Fragment.encode(PgTypes.xml.nullable(), row.catalogdescription), Fragment.lit("::xml,\n\"instructions\" = "), Fragment.encode(PgTypes.xml.nullable(), row.instructions), Fragment.lit("::xml,\n\"rowguid\" = "), Fragment.encode(PgTypes.uuid, row.rowguid), Fragment.lit("::uuid,\n\"modifieddate\" = "), Fragment.encode(PgTypes.timestamp, row.modifieddate), Fragment.lit("::timestamp\nwhere \"productmodelid\" = "), Fragment.encode(ProductmodelId.pgType, productmodelid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<ProductmodelRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name(), f.catalogdescription(), f.instructions(), f.rowguid(), f.modifieddate()) }, c)
+
   override fun upsert(
     unsaved: ProductmodelRow,
     c: Connection
@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -133,6 +134,21 @@ data class ProductmodelRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<ProductmodelRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<ProductmodelId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.productmodelid)) {
+        map[row.productmodelid] = row
+        updated.add(row.productmodelid)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: ProductmodelRow,
     c: Connection
@@ -75,6 +75,11 @@ interface ProductsubcategoryRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<ProductsubcategoryRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: ProductsubcategoryRow,
     c: Connection
@@ -117,6 +117,11 @@ class ProductsubcategoryRepoImpl() : ProductsubcategoryRepo {
     return Fragment.interpolate(Fragment.lit("update \"production\".\"productsubcategory\"\nset \"productcategoryid\" = "), Fragment.encode(ProductcategoryId.pgType, row.productcategoryid), Fragment.lit("::int4,\n\"name\" = "), Fragment.encode(Name.pgType, row.name), Fragment.lit("::varchar,\n\"rowguid\" = "), Fragment.encode(PgTypes.uuid, row.rowguid), Fragment.lit("::uuid,\n\"modifieddate\" = "), Fragment.encode(PgTypes.timestamp, row.modifieddate), Fragment.lit("::timestamp\nwhere \"productsubcategoryid\" = "), Fragment.encode(ProductsubcategoryId.pgType, productsubcategoryid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<ProductsubcategoryRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.productcategoryid(), f.name(), f.rowguid(), f.modifieddate()) }, c)
+
   override fun upsert(
     unsaved: ProductsubcategoryRow,
     c: Connection
@@ -75,6 +75,11 @@ interface UnitmeasureRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<UnitmeasureRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: UnitmeasureRow,
     c: Connection
@@ -63,6 +63,11 @@ interface FlaffRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<FlaffRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: FlaffRow,
     c: Connection
@@ -75,6 +75,11 @@ interface IdentityTestRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<IdentityTestRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: IdentityTestRow,
     c: Connection
@@ -103,6 +103,11 @@ class IdentityTestRepoImpl() : IdentityTestRepo {
     return Fragment.interpolate(Fragment.lit("update \"public\".\"identity-test\"\nset \"default_generated\" = "), Fragment.encode(KotlinDbTypes.PgTypes.int4, row.defaultGenerated), Fragment.lit("::int4\nwhere \"name\" = "), Fragment.encode(IdentityTestId.pgType, name), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<IdentityTestRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.defaultGenerated()) }, c)
+
   override fun upsert(
     unsaved: IdentityTestRow,
     c: Connection
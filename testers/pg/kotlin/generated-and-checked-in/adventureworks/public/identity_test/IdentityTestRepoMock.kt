@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -133,6 +134,21 @@ data class IdentityTestRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<IdentityTestRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<IdentityTestId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.name)) {
+        map[row.name] = row
+        updated.add(row.name)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: IdentityTestRow,
     c: Connection
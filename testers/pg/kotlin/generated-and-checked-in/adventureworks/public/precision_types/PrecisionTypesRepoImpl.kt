@@ -156,6 +156,11 @@ class PrecisionTypesRepoImpl() : PrecisionTypesRepo {
     return Fragment.interpolate(Fragment.lit("update \"public\".\"precision_types\"\nset \"string10\" = "), Fragment.encode(String10.pgType, row.string10), Fragment.lit(",\n\"string20\" = "), Fragment.encode(String20.pgType, row.string20), Fragment.lit(",\n\"string50\" = "), Fragment.encode(String50.pgType, row.string50), Fragment.lit(",\n\"string100\" = "), Fragment.encode(String100.pgType, row.string100), Fragment.lit(",\n\"string255\" = "), Fragment.encode(String255.pgType, row.string255), Fragment.lit(",\n\"bpchar3\" = "), Fragment.encode(PaddedString3.pgType, row.bpchar3), Fragment.lit("::bpchar,\n\"bpchar10\" = "), Fragment.encode(PaddedString10.pgType, row.bpchar10), Fragment.lit("::bpchar,\n\"decimal5_2\" = "), Fragment.encode(PgTypes.numeric, row.decimal52), Fragment.lit("::numeric,\n\"decimal10_2\" = "), Fragment.encode(PgTypes.numeric, row.decimal102), Fragment.lit("::numeric,\n\"decimal18_4\" = "), Fragment.encode(PgTypes.numeric, row.decimal184), Fragment.lit("::numeric,\n\"numeric8_2\" = "), Fragment.encode(PgTypes.numeric, row.numeric82), Fragment.lit("::numeric,\n\"numeric12_4\" = "), Fragment.encode(PgTypes.numeric, row.numeric124), Fragment.lit("::numeric,\n\"timestamp0\" = "), Fragment.encode(PgTypes.timestamp, row.timestamp0), Fragment.lit("::timestamp,\n\"timestamp3\" = "), Fragment.encode(PgTypes.timestamp, row.timestamp3), Fragment.lit("::timestamp,\n\"timestamp6\" = "), Fragment.encode(PgTypes.timestamp, row.timestamp6), Fragment.lit("::timestamp,\n\"timestamptz0\" = "), Fragment.encode(PgTypes.timestamptz, row.timestamptz0), Fragment.lit("::timestamptz,\n\"timestamptz3\" = "), Fragment.encode(PgTypes.timestamptz, row.timestamptz3), Fragment.lit("::timestamptz,\n\"timestamptz6\" = "), Fragment.encode(PgTypes.timestamptz, row.timestamptz6), Fragment.lit("::timestamptz,\n\"time0\" = "), Fragment.encode(PgTypes.time, row.time0), Fragment.lit("::time,\n\"time3\" = "), Fragment.encode(PgTypes.time, row.time3), Fragment.lit("::time,\n\"time6\" = "), Fragment.encode(PgTypes.time, row.time6), Fragment.lit("::time,\n\"timetz0\" = "), Fragment.encode(PgTypes.timetz, row.timetz0), Fragment.lit("::timetz,\n\"timetz3\" = "), Fragment.encode(PgTypes.timetz, row.timetz3), Fragment.lit("::timetz,\n\"timetz6\" = "), Fragment.encode(PgTypes.timetz, row.timetz6), Fragment.lit("::timetz\nwhere \"id\" = "), Fragment.encode(PrecisionTypesId.pgType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<PrecisionTypesRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.string10(), f.string20(), f.string50(), f.string100(), f.string255(), f.bpchar3(), f.bpchar10(), f.decimal52(), f.decimal102(), f.decimal184(), f.numeric82(), f.numeric124(), f.timestamp0(), f.timestamp3(), f.timestamp6(), f.timestamptz0(), f.timestamptz3(), f.timestamptz6(), f.time0(), f.time3(), f.time6(), f.timetz0(), f.timetz3(), f.timetz6()) }, c)
+
   override fun upsert(
     unsaved: PrecisionTypesRow,
     c: Connection
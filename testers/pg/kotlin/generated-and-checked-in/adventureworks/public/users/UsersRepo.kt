@@ -81,6 +81,11 @@ interface UsersRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<UsersRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: UsersRow,
     c: Connection
@@ -120,6 +120,11 @@ class UsersRepoImpl() : UsersRepo {
     return Fragment.interpolate(Fragment.lit("update \"public\".\"users\"\nset \"name\" = "), Fragment.encode(PgTypes.text, row.name), Fragment.lit(",\n\"last_name\" = "), Fragment.encode(PgTypes.text.nullable(), row.lastName), Fragment.lit(",\n\"email\" = "), Fragment.encode(PgTypes.unknown, row.email), Fragment.lit("::citext,\n\"password\" = "), Fragment.encode(PgTypes.text, row.password), Fragment.lit(",\n\"created_at\" = "), Fragment.encode(PgTypes.timestamptz, row.createdAt), Fragment.lit("::timestamptz,\n\"verified_on\" = "), Fragment.encode(PgTypes.timestamptz.nullable(), row.verifiedOn), Fragment.lit("::timestamptz\nwhere \"user_id\" = "), Fragment.encode(UsersId.pgType, userId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<UsersRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name(), f.lastName(), f.email(), f.password(), f.createdAt(), f.verifiedOn()) }, c)
+
   override fun upsert(
     unsaved: UsersRow,
     c: Connection
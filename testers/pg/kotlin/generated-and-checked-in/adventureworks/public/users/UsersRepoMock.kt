@@ -18,6 +18,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -139,6 +140,21 @@ data class UsersRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<UsersRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<UsersId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.userId)) {
+        map[row.userId] = row
+        updated.add(row.userId)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: UsersRow,
     c: Connection
@@ -76,6 +76,11 @@ interface SalespersonRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<SalespersonRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: SalespersonRow,
     c: Connection
@@ -75,6 +75,11 @@ interface SalesterritoryRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<SalesterritoryRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: SalesterritoryRow,
     c: Connection
@@ -73,4 +73,32 @@ class DSLTest {
             SnapshotTest.compareFragment("DSLTest", "doubled", doubled.sql())
         }
     }
+
+    @Test
+    fun streamForEachAndFoldReadRowsLazily() {
+        WithConnection.run { c ->
+            val ids = (1..3).map { i ->
+                val businessentityRow = testInsert.personBusinessentity(c = c)
+                testInsert.personPerson(
+                    businessentityid = businessentityRow.businessentityid,
+                    persontype = "EM",
+                    firstname = FirstName(Name("Stream$i")),
+                    c = c
+                )
+                businessentityRow.businessentityid
+            }
+            val query = personRepoImpl.select()
+                .where { it.businessentityid().among(ids) }
+                .orderBy { it.businessentityid().asc() }
+
+            val streamed = query.stream(c, 2).use { rows -> rows.map { it.businessentityid }.toList() }
+            assertEquals(ids, streamed)
+
+            val visited = mutableListOf<FirstName>()
+            query.forEach(c) { visited.add(it.firstname) }
+            assertEquals((1..3).map { FirstName(Name("Stream$it")) }, visited)
+
+            assertEquals(3, query.fold(c, 0) { acc, _ -> acc + 1 })
+        }
+    }
 }
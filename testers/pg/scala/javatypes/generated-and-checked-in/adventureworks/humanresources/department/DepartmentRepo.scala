@@ -47,6 +47,8 @@ trait DepartmentRepo {
 
   def update(row: DepartmentRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[DepartmentRow])(using c: Connection): Integer
+
   def upsert(unsaved: DepartmentRow)(using c: Connection): DepartmentRow
 
   def upsertBatch(unsaved: java.util.Iterator[DepartmentRow])(using c: Connection): java.util.List[DepartmentRow]
@@ -112,6 +112,8 @@ class DepartmentRepoImpl extends DepartmentRepo {
     where "departmentid" = """), Fragment.encode(DepartmentId.pgType, departmentid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[DepartmentRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.name, f.groupname, f.modifieddate), c)
+
   override def upsert(unsaved: DepartmentRow)(using c: Connection): DepartmentRow = {
   interpolate(Fragment.lit("""insert into "humanresources"."department"("departmentid", "name", "groupname", "modifieddate")
     values ("""), Fragment.encode(DepartmentId.pgType, unsaved.departmentid), Fragment.lit("::int4, "), Fragment.encode(Name.pgType, unsaved.name), Fragment.lit("::varchar, "), Fragment.encode(Name.pgType, unsaved.groupname), Fragment.lit("::varchar, "), Fragment.encode(PgTypes.timestamp, unsaved.modifieddate), Fragment.lit("""::timestamp)
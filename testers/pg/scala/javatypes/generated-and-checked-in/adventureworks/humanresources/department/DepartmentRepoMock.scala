@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -102,6 +103,18 @@ case class DepartmentRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[DepartmentRow])(using c: Connection): Integer = {
+    val updated = new HashSet[DepartmentId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.departmentid)) {
+        map.put(row.departmentid, row): @scala.annotation.nowarn
+        updated.add(row.departmentid): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: DepartmentRow)(using c: Connection): DepartmentRow = {
     map.put(unsaved.departmentid, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -48,6 +48,8 @@ trait EmployeeRepo {
 
   def update(row: EmployeeRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[EmployeeRow])(using c: Connection): Integer
+
   def upsert(unsaved: EmployeeRow)(using c: Connection): EmployeeRow
 
   def upsertBatch(unsaved: java.util.Iterator[EmployeeRow])(using c: Connection): java.util.List[EmployeeRow]
@@ -157,6 +157,8 @@ class EmployeeRepoImpl extends EmployeeRepo {
     where "businessentityid" = """), Fragment.encode(BusinessentityId.pgType, businessentityid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[EmployeeRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.nationalidnumber, f.loginid, f.jobtitle, f.birthdate, f.maritalstatus, f.gender, f.hiredate, f.salariedflag, f.vacationhours, f.sickleavehours, f.currentflag, f.rowguid, f.modifieddate, f.organizationnode), c)
+
   override def upsert(unsaved: EmployeeRow)(using c: Connection): EmployeeRow = {
   interpolate(Fragment.lit("""insert into "humanresources"."employee"("businessentityid", "nationalidnumber", "loginid", "jobtitle", "birthdate", "maritalstatus", "gender", "hiredate", "salariedflag", "vacationhours", "sickleavehours", "currentflag", "rowguid", "modifieddate", "organizationnode")
     values ("""), Fragment.encode(BusinessentityId.pgType, unsaved.businessentityid), Fragment.lit("::int4, "), Fragment.encode(PgTypes.text, unsaved.nationalidnumber), Fragment.lit(", "), Fragment.encode(PgTypes.text, unsaved.loginid), Fragment.lit(", "), Fragment.encode(PgTypes.text, unsaved.jobtitle), Fragment.lit(", "), Fragment.encode(PgTypes.date, unsaved.birthdate), Fragment.lit("::date, "), Fragment.encode(PgTypes.bpchar, unsaved.maritalstatus), Fragment.lit("::bpchar, "), Fragment.encode(PgTypes.bpchar, unsaved.gender), Fragment.lit("::bpchar, "), Fragment.encode(PgTypes.date, unsaved.hiredate), Fragment.lit("::date, "), Fragment.encode(SalariedFlag.pgType, unsaved.salariedflag), Fragment.lit("::bool, "), Fragment.encode(PgTypes.int2, unsaved.vacationhours), Fragment.lit("::int2, "), Fragment.encode(PgTypes.int2, unsaved.sickleavehours), Fragment.lit("::int2, "), Fragment.encode(CurrentFlag.pgType, unsaved.currentflag), Fragment.lit("::bool, "), Fragment.encode(PgTypes.uuid, unsaved.rowguid), Fragment.lit("::uuid, "), Fragment.encode(PgTypes.timestamp, unsaved.modifieddate), Fragment.lit("::timestamp, "), Fragment.encode(PgTypes.text.opt(), unsaved.organizationnode), Fragment.lit(""")
@@ -19,6 +19,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -103,6 +104,18 @@ case class EmployeeRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[EmployeeRow])(using c: Connection): Integer = {
+    val updated = new HashSet[BusinessentityId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.businessentityid)) {
+        map.put(row.businessentityid, row): @scala.annotation.nowarn
+        updated.add(row.businessentityid): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: EmployeeRow)(using c: Connection): EmployeeRow = {
     map.put(unsaved.businessentityid, unsaved): @scala.annotation.nowarn
     return unsaved
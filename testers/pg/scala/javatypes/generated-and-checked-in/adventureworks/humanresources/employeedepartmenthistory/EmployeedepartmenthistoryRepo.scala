@@ -47,6 +47,8 @@ trait EmployeedepartmenthistoryRepo {
 
   def update(row: EmployeedepartmenthistoryRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[EmployeedepartmenthistoryRow])(using c: Connection): Integer
+
   def upsert(unsaved: EmployeedepartmenthistoryRow)(using c: Connection): EmployeedepartmenthistoryRow
 
   def upsertBatch(unsaved: java.util.Iterator[EmployeedepartmenthistoryRow])(using c: Connection): java.util.List[EmployeedepartmenthistoryRow]
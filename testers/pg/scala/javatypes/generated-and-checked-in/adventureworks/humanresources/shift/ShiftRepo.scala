@@ -47,6 +47,8 @@ trait ShiftRepo {
 
   def update(row: ShiftRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[ShiftRow])(using c: Connection): Integer
+
   def upsert(unsaved: ShiftRow)(using c: Connection): ShiftRow
 
   def upsertBatch(unsaved: java.util.Iterator[ShiftRow])(using c: Connection): java.util.List[ShiftRow]
@@ -115,6 +115,8 @@ class ShiftRepoImpl extends ShiftRepo {
     where "shiftid" = """), Fragment.encode(ShiftId.pgType, shiftid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[ShiftRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.name, f.starttime, f.endtime, f.modifieddate), c)
+
   override def upsert(unsaved: ShiftRow)(using c: Connection): ShiftRow = {
   interpolate(Fragment.lit("""insert into "humanresources"."shift"("shiftid", "name", "starttime", "endtime", "modifieddate")
     values ("""), Fragment.encode(ShiftId.pgType, unsaved.shiftid), Fragment.lit("::int4, "), Fragment.encode(Name.pgType, unsaved.name), Fragment.lit("::varchar, "), Fragment.encode(PgTypes.time, unsaved.starttime), Fragment.lit("::time, "), Fragment.encode(PgTypes.time, unsaved.endtime), Fragment.lit("::time, "), Fragment.encode(PgTypes.timestamp, unsaved.modifieddate), Fragment.lit("""::timestamp)
@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -102,6 +103,18 @@ case class ShiftRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[ShiftRow])(using c: Connection): Integer = {
+    val updated = new HashSet[ShiftId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.shiftid)) {
+        map.put(row.shiftid, row): @scala.annotation.nowarn
+        updated.add(row.shiftid): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: ShiftRow)(using c: Connection): ShiftRow = {
     map.put(unsaved.shiftid, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -47,6 +47,8 @@ trait AddressRepo {
 
   def update(row: AddressRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[AddressRow])(using c: Connection): Integer
+
   def upsert(unsaved: AddressRow)(using c: Connection): AddressRow
 
   def upsertBatch(unsaved: java.util.Iterator[AddressRow])(using c: Connection): java.util.List[AddressRow]
@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -102,6 +103,18 @@ case class AddressRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[AddressRow])(using c: Connection): Integer = {
+    val updated = new HashSet[AddressId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.addressid)) {
+        map.put(row.addressid, row): @scala.annotation.nowarn
+        updated.add(row.addressid): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: AddressRow)(using c: Connection): AddressRow = {
     map.put(unsaved.addressid, unsaved): @scala.annotation.nowarn
     return unsaved
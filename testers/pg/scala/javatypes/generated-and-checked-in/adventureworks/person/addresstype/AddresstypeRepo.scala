@@ -47,6 +47,8 @@ trait AddresstypeRepo {
 
   def update(row: AddresstypeRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[AddresstypeRow])(using c: Connection): Integer
+
   def upsert(unsaved: AddresstypeRow)(using c: Connection): AddresstypeRow
 
   def upsertBatch(unsaved: java.util.Iterator[AddresstypeRow])(using c: Connection): java.util.List[AddresstypeRow]
@@ -114,6 +114,8 @@ class AddresstypeRepoImpl extends AddresstypeRepo {
     where "addresstypeid" = """), Fragment.encode(AddresstypeId.pgType, addresstypeid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[AddresstypeRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.name, f.rowguid, f.modifieddate), c)
+
   override def upsert(unsaved: AddresstypeRow)(using c: Connection): AddresstypeRow = {
   interpolate(Fragment.lit("""insert into "person"."addresstype"("addresstypeid", "name", "rowguid", "modifieddate")
     values ("""), Fragment.encode(AddresstypeId.pgType, unsaved.addresstypeid), Fragment.lit("::int4, "), Fragment.encode(Name.pgType, unsaved.name), Fragment.lit("::varchar, "), Fragment.encode(PgTypes.uuid, unsaved.rowguid), Fragment.lit("::uuid, "), Fragment.encode(PgTypes.timestamp, unsaved.modifieddate), Fragment.lit("""::timestamp)
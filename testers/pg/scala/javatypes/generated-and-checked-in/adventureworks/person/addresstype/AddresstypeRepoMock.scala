@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -102,6 +103,18 @@ case class AddresstypeRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[AddresstypeRow])(using c: Connection): Integer = {
+    val updated = new HashSet[AddresstypeId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.addresstypeid)) {
+        map.put(row.addresstypeid, row): @scala.annotation.nowarn
+        updated.add(row.addresstypeid): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: AddresstypeRow)(using c: Connection): AddresstypeRow = {
     map.put(unsaved.addresstypeid, unsaved): @scala.annotation.nowarn
     return unsaved
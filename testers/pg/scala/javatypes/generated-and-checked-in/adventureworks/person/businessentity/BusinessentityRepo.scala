@@ -47,6 +47,8 @@ trait BusinessentityRepo {
 
   def update(row: BusinessentityRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[BusinessentityRow])(using c: Connection): Integer
+
   def upsert(unsaved: BusinessentityRow)(using c: Connection): BusinessentityRow
 
   def upsertBatch(unsaved: java.util.Iterator[BusinessentityRow])(using c: Connection): java.util.List[BusinessentityRow]
@@ -112,6 +112,8 @@ class BusinessentityRepoImpl extends BusinessentityRepo {
     where "businessentityid" = """), Fragment.encode(BusinessentityId.pgType, businessentityid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[BusinessentityRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.rowguid, f.modifieddate), c)
+
   override def upsert(unsaved: BusinessentityRow)(using c: Connection): BusinessentityRow = {
   interpolate(Fragment.lit("""insert into "person"."businessentity"("businessentityid", "rowguid", "modifieddate")
     values ("""), Fragment.encode(BusinessentityId.pgType, unsaved.businessentityid), Fragment.lit("::int4, "), Fragment.encode(PgTypes.uuid, unsaved.rowguid), Fragment.lit("::uuid, "), Fragment.encode(PgTypes.timestamp, unsaved.modifieddate), Fragment.lit("""::timestamp)
@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -102,6 +103,18 @@ case class BusinessentityRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[BusinessentityRow])(using c: Connection): Integer = {
+    val updated = new HashSet[BusinessentityId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.businessentityid)) {
+        map.put(row.businessentityid, row): @scala.annotation.nowarn
+        updated.add(row.businessentityid): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: BusinessentityRow)(using c: Connection): BusinessentityRow = {
     map.put(unsaved.businessentityid, unsaved): @scala.annotation.nowarn
     return unsaved
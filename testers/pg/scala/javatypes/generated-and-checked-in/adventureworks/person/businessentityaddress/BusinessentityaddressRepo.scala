@@ -47,6 +47,8 @@ trait BusinessentityaddressRepo {
 
   def update(row: BusinessentityaddressRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[BusinessentityaddressRow])(using c: Connection): Integer
+
   def upsert(unsaved: BusinessentityaddressRow)(using c: Connection): BusinessentityaddressRow
 
   def upsertBatch(unsaved: java.util.Iterator[BusinessentityaddressRow])(using c: Connection): java.util.List[BusinessentityaddressRow]
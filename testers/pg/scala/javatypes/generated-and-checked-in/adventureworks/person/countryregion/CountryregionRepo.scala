@@ -47,6 +47,8 @@ trait CountryregionRepo {
 
   def update(row: CountryregionRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[CountryregionRow])(using c: Connection): Integer
+
   def upsert(unsaved: CountryregionRow)(using c: Connection): CountryregionRow
 
   def upsertBatch(unsaved: java.util.Iterator[CountryregionRow])(using c: Connection): java.util.List[CountryregionRow]
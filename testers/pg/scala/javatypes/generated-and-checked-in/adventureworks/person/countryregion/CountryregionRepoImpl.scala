@@ -107,6 +107,8 @@ class CountryregionRepoImpl extends CountryregionRepo {
     where "countryregioncode" = """), Fragment.encode(CountryregionId.pgType, countryregioncode), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[CountryregionRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.name, f.modifieddate), c)
+
   override def upsert(unsaved: CountryregionRow)(using c: Connection): CountryregionRow = {
   interpolate(Fragment.lit("""insert into "person"."countryregion"("countryregioncode", "name", "modifieddate")
     values ("""), Fragment.encode(CountryregionId.pgType, unsaved.countryregioncode), Fragment.lit(", "), Fragment.encode(Name.pgType, unsaved.name), Fragment.lit("::varchar, "), Fragment.encode(PgTypes.timestamp, unsaved.modifieddate), Fragment.lit("""::timestamp)
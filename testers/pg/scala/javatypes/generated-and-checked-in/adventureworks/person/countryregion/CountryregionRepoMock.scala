@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -102,6 +103,18 @@ case class CountryregionRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[CountryregionRow])(using c: Connection): Integer = {
+    val updated = new HashSet[CountryregionId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.countryregioncode)) {
+        map.put(row.countryregioncode, row): @scala.annotation.nowarn
+        updated.add(row.countryregioncode): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: CountryregionRow)(using c: Connection): CountryregionRow = {
     map.put(unsaved.countryregioncode, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -47,6 +47,8 @@ trait EmailaddressRepo {
 
   def update(row: EmailaddressRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[EmailaddressRow])(using c: Connection): Integer
+
   def upsert(unsaved: EmailaddressRow)(using c: Connection): EmailaddressRow
 
   def upsertBatch(unsaved: java.util.Iterator[EmailaddressRow])(using c: Connection): java.util.List[EmailaddressRow]
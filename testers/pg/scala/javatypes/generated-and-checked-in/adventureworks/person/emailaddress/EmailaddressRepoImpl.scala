@@ -122,6 +122,8 @@ class EmailaddressRepoImpl extends EmailaddressRepo {
     where "businessentityid" = """), Fragment.encode(BusinessentityId.pgType, compositeId.businessentityid), Fragment.lit(""" AND "emailaddressid" = """), Fragment.encode(PgTypes.int4, compositeId.emailaddressid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[EmailaddressRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.emailaddress, f.rowguid, f.modifieddate), c)
+
   override def upsert(unsaved: EmailaddressRow)(using c: Connection): EmailaddressRow = {
   interpolate(Fragment.lit("""insert into "person"."emailaddress"("businessentityid", "emailaddressid", "emailaddress", "rowguid", "modifieddate")
     values ("""), Fragment.encode(BusinessentityId.pgType, unsaved.businessentityid), Fragment.lit("::int4, "), Fragment.encode(PgTypes.int4, unsaved.emailaddressid), Fragment.lit("::int4, "), Fragment.encode(PgTypes.text.opt(), unsaved.emailaddress), Fragment.lit(", "), Fragment.encode(PgTypes.uuid, unsaved.rowguid), Fragment.lit("::uuid, "), Fragment.encode(PgTypes.timestamp, unsaved.modifieddate), Fragment.lit("""::timestamp)
@@ -48,6 +48,8 @@ trait PasswordRepo {
 
   def update(row: PasswordRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[PasswordRow])(using c: Connection): Integer
+
   def upsert(unsaved: PasswordRow)(using c: Connection): PasswordRow
 
   def upsertBatch(unsaved: java.util.Iterator[PasswordRow])(using c: Connection): java.util.List[PasswordRow]
@@ -115,6 +115,8 @@ class PasswordRepoImpl extends PasswordRepo {
     where "businessentityid" = """), Fragment.encode(BusinessentityId.pgType, businessentityid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[PasswordRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.passwordhash, f.passwordsalt, f.rowguid, f.modifieddate), c)
+
   override def upsert(unsaved: PasswordRow)(using c: Connection): PasswordRow = {
   interpolate(Fragment.lit("""insert into "person"."password"("businessentityid", "passwordhash", "passwordsalt", "rowguid", "modifieddate")
     values ("""), Fragment.encode(BusinessentityId.pgType, unsaved.businessentityid), Fragment.lit("::int4, "), Fragment.encode(PgTypes.text, unsaved.passwordhash), Fragment.lit(", "), Fragment.encode(PgTypes.text, unsaved.passwordsalt), Fragment.lit(", "), Fragment.encode(PgTypes.uuid, unsaved.rowguid), Fragment.lit("::uuid, "), Fragment.encode(PgTypes.timestamp, unsaved.modifieddate), Fragment.lit("""::timestamp)
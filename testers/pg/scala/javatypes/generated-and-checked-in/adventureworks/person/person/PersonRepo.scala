@@ -48,6 +48,8 @@ trait PersonRepo {
 
   def update(row: PersonRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[PersonRow])(using c: Connection): Integer
+
   def upsert(unsaved: PersonRow)(using c: Connection): PersonRow
 
   def upsertBatch(unsaved: java.util.Iterator[PersonRow])(using c: Connection): java.util.List[PersonRow]
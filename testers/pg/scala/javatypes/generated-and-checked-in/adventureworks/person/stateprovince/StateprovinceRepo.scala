@@ -47,6 +47,8 @@ trait StateprovinceRepo {
 
   def update(row: StateprovinceRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[StateprovinceRow])(using c: Connection): Integer
+
   def upsert(unsaved: StateprovinceRow)(using c: Connection): StateprovinceRow
 
   def upsertBatch(unsaved: java.util.Iterator[StateprovinceRow])(using c: Connection): java.util.List[StateprovinceRow]
@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -102,6 +103,18 @@ case class StateprovinceRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[StateprovinceRow])(using c: Connection): Integer = {
+    val updated = new HashSet[StateprovinceId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.stateprovinceid)) {
+        map.put(row.stateprovinceid, row): @scala.annotation.nowarn
+        updated.add(row.stateprovinceid): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: StateprovinceRow)(using c: Connection): StateprovinceRow = {
     map.put(unsaved.stateprovinceid, unsaved): @scala.annotation.nowarn
     return unsaved
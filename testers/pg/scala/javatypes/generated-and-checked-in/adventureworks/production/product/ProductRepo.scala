@@ -47,6 +47,8 @@ trait ProductRepo {
 
   def update(row: ProductRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[ProductRow])(using c: Connection): Integer
+
   def upsert(unsaved: ProductRow)(using c: Connection): ProductRow
 
   def upsertBatch(unsaved: java.util.Iterator[ProductRow])(using c: Connection): java.util.List[ProductRow]
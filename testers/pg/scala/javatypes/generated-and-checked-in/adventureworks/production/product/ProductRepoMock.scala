@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -102,6 +103,18 @@ case class ProductRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[ProductRow])(using c: Connection): Integer = {
+    val updated = new HashSet[ProductId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.productid)) {
+        map.put(row.productid, row): @scala.annotation.nowarn
+        updated.add(row.productid): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: ProductRow)(using c: Connection): ProductRow = {
     map.put(unsaved.productid, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -47,6 +47,8 @@ trait ProductcategoryRepo {
 
   def update(row: ProductcategoryRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[ProductcategoryRow])(using c: Connection): Integer
+
   def upsert(unsaved: ProductcategoryRow)(using c: Connection): ProductcategoryRow
 
   def upsertBatch(unsaved: java.util.Iterator[ProductcategoryRow])(using c: Connection): java.util.List[ProductcategoryRow]
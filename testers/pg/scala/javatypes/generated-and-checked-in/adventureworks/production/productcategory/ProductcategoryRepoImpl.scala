@@ -114,6 +114,8 @@ class ProductcategoryRepoImpl extends ProductcategoryRepo {
     where "productcategoryid" = """), Fragment.encode(ProductcategoryId.pgType, productcategoryid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[ProductcategoryRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.name, f.rowguid, f.modifieddate), c)
+
   override def upsert(unsaved: ProductcategoryRow)(using c: Connection): ProductcategoryRow = {
   interpolate(Fragment.lit("""insert into "production"."productcategory"("productcategoryid", "name", "rowguid", "modifieddate")
     values ("""), Fragment.encode(ProductcategoryId.pgType, unsaved.productcategoryid), Fragment.lit("::int4, "), Fragment.encode(Name.pgType, unsaved.name), Fragment.lit("::varchar, "), Fragment.encode(PgTypes.uuid, unsaved.rowguid), Fragment.lit("::uuid, "), Fragment.encode(PgTypes.timestamp, unsaved.modifieddate), Fragment.lit("""::timestamp)
@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -102,6 +103,18 @@ case class ProductcategoryRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[ProductcategoryRow])(using c: Connection): Integer = {
+    val updated = new HashSet[ProductcategoryId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.productcategoryid)) {
+        map.put(row.productcategoryid, row): @scala.annotation.nowarn
+        updated.add(row.productcategoryid): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: ProductcategoryRow)(using c: Connection): ProductcategoryRow = {
     map.put(unsaved.productcategoryid, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -47,6 +47,8 @@ trait ProductcosthistoryRepo {
 
   def update(row: ProductcosthistoryRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[ProductcosthistoryRow])(using c: Connection): Integer
+
   def upsert(unsaved: ProductcosthistoryRow)(using c: Connection): ProductcosthistoryRow
 
   def upsertBatch(unsaved: java.util.Iterator[ProductcosthistoryRow])(using c: Connection): java.util.List[ProductcosthistoryRow]
@@ -119,6 +119,8 @@ class ProductcosthistoryRepoImpl extends ProductcosthistoryRepo {
     where "productid" = """), Fragment.encode(ProductId.pgType, compositeId.productid), Fragment.lit(""" AND "startdate" = """), Fragment.encode(PgTypes.timestamp, compositeId.startdate), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[ProductcosthistoryRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.enddate, f.standardcost, f.modifieddate), c)
+
   override def upsert(unsaved: ProductcosthistoryRow)(using c: Connection): ProductcosthistoryRow = {
   interpolate(Fragment.lit("""insert into "production"."productcosthistory"("productid", "startdate", "enddate", "standardcost", "modifieddate")
     values ("""), Fragment.encode(ProductId.pgType, unsaved.productid), Fragment.lit("::int4, "), Fragment.encode(PgTypes.timestamp, unsaved.startdate), Fragment.lit("::timestamp, "), Fragment.encode(PgTypes.timestamp.opt(), unsaved.enddate), Fragment.lit("::timestamp, "), Fragment.encode(PgTypes.numeric, unsaved.standardcost), Fragment.lit("::numeric, "), Fragment.encode(PgTypes.timestamp, unsaved.modifieddate), Fragment.lit("""::timestamp)
@@ -47,6 +47,8 @@ trait ProductmodelRepo {
 
   def update(row: ProductmodelRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[ProductmodelRow])(using c: Connection): Integer
+
   def upsert(unsaved: ProductmodelRow)(using c: Connection): ProductmodelRow
 
   def upsertBatch(unsaved: java.util.Iterator[ProductmodelRow])(using c: Connection): java.util.List[ProductmodelRow]
@@ -120,6 +120,8 @@ class ProductmodelRepoImpl extends ProductmodelRepo {
     where "productmodelid" = """), Fragment.encode(ProductmodelId.pgType, productmodelid), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[ProductmodelRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.name, f.catalogdescription, f.instructions, f.rowguid, f.modifieddate), c)
+
   override def upsert(unsaved: ProductmodelRow)(using c: Connection): ProductmodelRow = {
   interpolate(Fragment.lit("""insert into "production"."productmodel"("productmodelid", "name", "catalogdescription", "instructions", "rowguid", "modifieddate")
     values ("""), Fragment.encode(ProductmodelId.pgType, unsaved.productmodelid), Fragment.lit("::int4, "), Fragment.encode(Name.pgType, unsaved.name), Fragment.lit("::varchar, "), Fragment.encode(PgTypes.xml.opt(), unsaved.catalogdescription), Fragment.lit("::xml, "), Fragment.encode(PgTypes.xml.opt(), unsaved.instructions), Fragment.lit("::xml, "), Fragment.encode(PgTypes.uuid, unsaved.rowguid), Fragment.lit("::uuid, "), Fragment.encode(PgTypes.timestamp, unsaved.modifieddate), Fragment.lit("""::timestamp)
@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -102,6 +103,18 @@ case class ProductmodelRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[ProductmodelRow])(using c: Connection): Integer = {
+    val updated = new HashSet[ProductmodelId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.productmodelid)) {
+        map.put(row.productmodelid, row): @scala.annotation.nowarn
+        updated.add(row.productmodelid): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: ProductmodelRow)(using c: Connection): ProductmodelRow = {
     map.put(unsaved.productmodelid, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -47,6 +47,8 @@ trait ProductsubcategoryRepo {
 
   def update(row: ProductsubcategoryRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[ProductsubcategoryRow])(using c: Connection): Integer
+
   def upsert(unsaved: ProductsubcategoryRow)(using c: Connection): ProductsubcategoryRow
 
   def upsertBatch(unsaved: java.util.Iterator[ProductsubcategoryRow])(using c: Connection): java.util.List[ProductsubcategoryRow]
@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -102,6 +103,18 @@ case class ProductsubcategoryRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[ProductsubcategoryRow])(using c: Connection): Integer = {
+    val updated = new HashSet[ProductsubcategoryId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.productsubcategoryid)) {
+        map.put(row.productsubcategoryid, row): @scala.annotation.nowarn
+        updated.add(row.productsubcategoryid): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: ProductsubcategoryRow)(using c: Connection): ProductsubcategoryRow = {
     map.put(unsaved.productsubcategoryid, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -47,6 +47,8 @@ trait UnitmeasureRepo {
 
   def update(row: UnitmeasureRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[UnitmeasureRow])(using c: Connection): Integer
+
   def upsert(unsaved: UnitmeasureRow)(using c: Connection): UnitmeasureRow
 
   def upsertBatch(unsaved: java.util.Iterator[UnitmeasureRow])(using c: Connection): java.util.List[UnitmeasureRow]
@@ -107,6 +107,8 @@ class UnitmeasureRepoImpl extends UnitmeasureRepo {
     where "unitmeasurecode" = """), Fragment.encode(UnitmeasureId.pgType, unitmeasurecode), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[UnitmeasureRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.name, f.modifieddate), c)
+
   override def upsert(unsaved: UnitmeasureRow)(using c: Connection): UnitmeasureRow = {
   interpolate(Fragment.lit("""insert into "production"."unitmeasure"("unitmeasurecode", "name", "modifieddate")
     values ("""), Fragment.encode(UnitmeasureId.pgType, unsaved.unitmeasurecode), Fragment.lit("::bpchar, "), Fragment.encode(Name.pgType, unsaved.name), Fragment.lit("::varchar, "), Fragment.encode(PgTypes.timestamp, unsaved.modifieddate), Fragment.lit("""::timestamp)
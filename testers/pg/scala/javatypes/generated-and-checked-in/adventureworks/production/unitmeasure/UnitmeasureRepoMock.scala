@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -102,6 +103,18 @@ case class UnitmeasureRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[UnitmeasureRow])(using c: Connection): Integer = {
+    val updated = new HashSet[UnitmeasureId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.unitmeasurecode)) {
+        map.put(row.unitmeasurecode, row): @scala.annotation.nowarn
+        updated.add(row.unitmeasurecode): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: UnitmeasureRow)(using c: Connection): UnitmeasureRow = {
     map.put(unsaved.unitmeasurecode, unsaved): @scala.annotation.nowarn
     return unsaved
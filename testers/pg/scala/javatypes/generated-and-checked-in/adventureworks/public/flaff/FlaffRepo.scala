@@ -39,6 +39,8 @@ trait FlaffRepo {
 
   def update(row: FlaffRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[FlaffRow])(using c: Connection): Integer
+
   def upsert(unsaved: FlaffRow)(using c: Connection): FlaffRow
 
   def upsertBatch(unsaved: java.util.Iterator[FlaffRow])(using c: Connection): java.util.List[FlaffRow]
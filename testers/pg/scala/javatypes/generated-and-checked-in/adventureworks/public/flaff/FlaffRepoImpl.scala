@@ -89,6 +89,8 @@ class FlaffRepoImpl extends FlaffRepo {
     where "code" = """), Fragment.encode(ShortText.pgType, compositeId.code), Fragment.lit(""" AND "another_code" = """), Fragment.encode(PgTypes.text, compositeId.anotherCode), Fragment.lit(""" AND "some_number" = """), Fragment.encode(PgTypes.int4, compositeId.someNumber), Fragment.lit(""" AND "specifier" = """), Fragment.encode(ShortText.pgType, compositeId.specifier), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[FlaffRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.parentspecifier), c)
+
   override def upsert(unsaved: FlaffRow)(using c: Connection): FlaffRow = {
   interpolate(Fragment.lit("""insert into "public"."flaff"("code", "another_code", "some_number", "specifier", "parentspecifier")
     values ("""), Fragment.encode(ShortText.pgType, unsaved.code), Fragment.lit("::text, "), Fragment.encode(PgTypes.text, unsaved.anotherCode), Fragment.lit(", "), Fragment.encode(PgTypes.int4, unsaved.someNumber), Fragment.lit("::int4, "), Fragment.encode(ShortText.pgType, unsaved.specifier), Fragment.lit("::text, "), Fragment.encode(ShortText.pgType.opt(), unsaved.parentspecifier), Fragment.lit("""::text)
@@ -47,6 +47,8 @@ trait IdentityTestRepo {
 
   def update(row: IdentityTestRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[IdentityTestRow])(using c: Connection): Integer
+
   def upsert(unsaved: IdentityTestRow)(using c: Connection): IdentityTestRow
 
   def upsertBatch(unsaved: java.util.Iterator[IdentityTestRow])(using c: Connection): java.util.List[IdentityTestRow]
@@ -103,6 +103,8 @@ class IdentityTestRepoImpl extends IdentityTestRepo {
     where "name" = """), Fragment.encode(IdentityTestId.pgType, name), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[IdentityTestRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.defaultGenerated), c)
+
   override def upsert(unsaved: IdentityTestRow)(using c: Connection): IdentityTestRow = {
   interpolate(Fragment.lit("""insert into "public"."identity-test"("default_generated", "name")
     values ("""), Fragment.encode(PgTypes.int4, unsaved.defaultGenerated), Fragment.lit("::int4, "), Fragment.encode(IdentityTestId.pgType, unsaved.name), Fragment.lit(""")
@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -102,6 +103,18 @@ case class IdentityTestRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[IdentityTestRow])(using c: Connection): Integer = {
+    val updated = new HashSet[IdentityTestId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.name)) {
+        map.put(row.name, row): @scala.annotation.nowarn
+        updated.add(row.name): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: IdentityTestRow)(using c: Connection): IdentityTestRow = {
     map.put(unsaved.name, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -47,6 +47,8 @@ trait PrecisionTypesRepo {
 
   def update(row: PrecisionTypesRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[PrecisionTypesRow])(using c: Connection): Integer
+
   def upsert(unsaved: PrecisionTypesRow)(using c: Connection): PrecisionTypesRow
 
   def upsertBatch(unsaved: java.util.Iterator[PrecisionTypesRow])(using c: Connection): java.util.List[PrecisionTypesRow]
@@ -179,6 +179,8 @@ class PrecisionTypesRepoImpl extends PrecisionTypesRepo {
     where "id" = """), Fragment.encode(PrecisionTypesId.pgType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[PrecisionTypesRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.string10, f.string20, f.string50, f.string100, f.string255, f.bpchar3, f.bpchar10, f.decimal52, f.decimal102, f.decimal184, f.numeric82, f.numeric124, f.timestamp0, f.timestamp3, f.timestamp6, f.timestamptz0, f.timestamptz3, f.timestamptz6, f.time0, f.time3, f.time6, f.timetz0, f.timetz3, f.timetz6), c)
+
   override def upsert(unsaved: PrecisionTypesRow)(using c: Connection): PrecisionTypesRow = {
   interpolate(Fragment.lit("""insert into "public"."precision_types"("id", "string10", "string20", "string50", "string100", "string255", "bpchar3", "bpchar10", "decimal5_2", "decimal10_2", "decimal18_4", "numeric8_2", "numeric12_4", "timestamp0", "timestamp3", "timestamp6", "timestamptz0", "timestamptz3", "timestamptz6", "time0", "time3", "time6", "timetz0", "timetz3", "timetz6")
     values ("""), Fragment.encode(PrecisionTypesId.pgType, unsaved.id), Fragment.lit("::int4, "), Fragment.encode(String10.pgType, unsaved.string10), Fragment.lit(", "), Fragment.encode(String20.pgType, unsaved.string20), Fragment.lit(", "), Fragment.encode(String50.pgType, unsaved.string50), Fragment.lit(", "), Fragment.encode(String100.pgType, unsaved.string100), Fragment.lit(", "), Fragment.encode(String255.pgType, unsaved.string255), Fragment.lit(", "), Fragment.encode(PaddedString3.pgType, unsaved.bpchar3), Fragment.lit("::bpchar, "), Fragment.encode(PaddedString10.pgType, unsaved.bpchar10), Fragment.lit("::bpchar, "), Fragment.encode(PgTypes.numeric, unsaved.decimal52), Fragment.lit("::numeric, "), Fragment.encode(PgTypes.numeric, unsaved.decimal102), Fragment.lit("::numeric, "), Fragment.encode(PgTypes.numeric, unsaved.decimal184), Fragment.lit("::numeric, "), Fragment.encode(PgTypes.numeric, unsaved.numeric82), Fragment.lit("::numeric, "), Fragment.encode(PgTypes.numeric, unsaved.numeric124), Fragment.lit("::numeric, "), Fragment.encode(PgTypes.timestamp, unsaved.timestamp0), Fragment.lit("::timestamp, "), Fragment.encode(PgTypes.timestamp, unsaved.timestamp3), Fragment.lit("::timestamp, "), Fragment.encode(PgTypes.timestamp, unsaved.timestamp6), Fragment.lit("::timestamp, "), Fragment.encode(PgTypes.timestamptz, unsaved.timestamptz0), Fragment.lit("::timestamptz, "), Fragment.encode(PgTypes.timestamptz, unsaved.timestamptz3), Fragment.lit("::timestamptz, "), Fragment.encode(PgTypes.timestamptz, unsaved.timestamptz6), Fragment.lit("::timestamptz, "), Fragment.encode(PgTypes.time, unsaved.time0), Fragment.lit("::time, "), Fragment.encode(PgTypes.time, unsaved.time3), Fragment.lit("::time, "), Fragment.encode(PgTypes.time, unsaved.time6), Fragment.lit("::time, "), Fragment.encode(PgTypes.timetz, unsaved.timetz0), Fragment.lit("::timetz, "), Fragment.encode(PgTypes.timetz, unsaved.timetz3), Fragment.lit("::timetz, "), Fragment.encode(PgTypes.timetz, unsaved.timetz6), Fragment.lit("""::timetz)
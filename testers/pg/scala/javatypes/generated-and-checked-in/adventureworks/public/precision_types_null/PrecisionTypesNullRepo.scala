@@ -47,6 +47,8 @@ trait PrecisionTypesNullRepo {
 
   def update(row: PrecisionTypesNullRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[PrecisionTypesNullRow])(using c: Connection): Integer
+
   def upsert(unsaved: PrecisionTypesNullRow)(using c: Connection): PrecisionTypesNullRow
 
   def upsertBatch(unsaved: java.util.Iterator[PrecisionTypesNullRow])(using c: Connection): java.util.List[PrecisionTypesNullRow]
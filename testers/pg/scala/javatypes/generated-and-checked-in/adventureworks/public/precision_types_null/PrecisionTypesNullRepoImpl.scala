@@ -179,6 +179,8 @@ class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
     where "id" = """), Fragment.encode(PrecisionTypesNullId.pgType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[PrecisionTypesNullRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.string10, f.string20, f.string50, f.string100, f.string255, f.bpchar3, f.bpchar10, f.decimal52, f.decimal102, f.decimal184, f.numeric82, f.numeric124, f.timestamp0, f.timestamp3, f.timestamp6, f.timestamptz0, f.timestamptz3, f.timestamptz6, f.time0, f.time3, f.time6, f.timetz0, f.timetz3, f.timetz6), c)
+
   override def upsert(unsaved: PrecisionTypesNullRow)(using c: Connection): PrecisionTypesNullRow = {
   interpolate(Fragment.lit("""insert into "public"."precision_types_null"("id", "string10", "string20", "string50", "string100", "string255", "bpchar3", "bpchar10", "decimal5_2", "decimal10_2", "decimal18_4", "numeric8_2", "numeric12_4", "timestamp0", "timestamp3", "timestamp6", "timestamptz0", "timestamptz3", "timestamptz6", "time0", "time3", "time6", "timetz0", "timetz3", "timetz6")
     values ("""), Fragment.encode(PrecisionTypesNullId.pgType, unsaved.id), Fragment.lit("::int4, "), Fragment.encode(String10.pgType.opt(), unsaved.string10), Fragment.lit(", "), Fragment.encode(String20.pgType.opt(), unsaved.string20), Fragment.lit(", "), Fragment.encode(String50.pgType.opt(), unsaved.string50), Fragment.lit(", "), Fragment.encode(String100.pgType.opt(), unsaved.string100), Fragment.lit(", "), Fragment.encode(String255.pgType.opt(), unsaved.string255), Fragment.lit(", "), Fragment.encode(PaddedString3.pgType.opt(), unsaved.bpchar3), Fragment.lit("::bpchar, "), Fragment.encode(PaddedString10.pgType.opt(), unsaved.bpchar10), Fragment.lit("::bpchar, "), Fragment.encode(PgTypes.numeric.opt(), unsaved.decimal52), Fragment.lit("::numeric, "), Fragment.encode(PgTypes.numeric.opt(), unsaved.decimal102), Fragment.lit("::numeric, "), Fragment.encode(PgTypes.numeric.opt(), unsaved.decimal184), Fragment.lit("::numeric, "), Fragment.encode(PgTypes.numeric.opt(), unsaved.numeric82), Fragment.lit("::numeric, "), Fragment.encode(PgTypes.numeric.opt(), unsaved.numeric124), Fragment.lit("::numeric, "), Fragment.encode(PgTypes.timestamp.opt(), unsaved.timestamp0), Fragment.lit("::timestamp, "), Fragment.encode(PgTypes.timestamp.opt(), unsaved.timestamp3), Fragment.lit("::timestamp, "), Fragment.encode(PgTypes.timestamp.opt(), unsaved.timestamp6), Fragment.lit("::timestamp, "), Fragment.encode(PgTypes.timestamptz.opt(), unsaved.timestamptz0), Fragment.lit("::timestamptz, "), Fragment.encode(PgTypes.timestamptz.opt(), unsaved.timestamptz3), Fragment.lit("::timestamptz, "), Fragment.encode(PgTypes.timestamptz.opt(), unsaved.timestamptz6), Fragment.lit("::timestamptz, "), Fragment.encode(PgTypes.time.opt(), unsaved.time0), Fragment.lit("::time, "), Fragment.encode(PgTypes.time.opt(), unsaved.time3), Fragment.lit("::time, "), Fragment.encode(PgTypes.time.opt(), unsaved.time6), Fragment.lit("::time, "), Fragment.encode(PgTypes.timetz.opt(), unsaved.timetz0), Fragment.lit("::timetz, "), Fragment.encode(PgTypes.timetz.opt(), unsaved.timetz3), Fragment.lit("::timetz, "), Fragment.encode(PgTypes.timetz.opt(), unsaved.timetz6), Fragment.lit("""::timetz)
@@ -50,6 +50,8 @@ trait UsersRepo {
 
   def update(row: UsersRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[UsersRow])(using c: Connection): Integer
+
   def upsert(unsaved: UsersRow)(using c: Connection): UsersRow
 
   def upsertBatch(unsaved: java.util.Iterator[UsersRow])(using c: Connection): java.util.List[UsersRow]
@@ -126,6 +126,8 @@ class UsersRepoImpl extends UsersRepo {
     where "user_id" = """), Fragment.encode(UsersId.pgType, userId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: java.util.Iterator[UsersRow])(using c: Connection): Integer = update.updateMany(rows, f => java.util.List.of(f.name, f.lastName, f.email, f.password, f.createdAt, f.verifiedOn), c)
+
   override def upsert(unsaved: UsersRow)(using c: Connection): UsersRow = {
   interpolate(Fragment.lit("""insert into "public"."users"("user_id", "name", "last_name", "email", "password", "created_at", "verified_on")
     values ("""), Fragment.encode(UsersId.pgType, unsaved.userId), Fragment.lit("::uuid, "), Fragment.encode(PgTypes.text, unsaved.name), Fragment.lit(", "), Fragment.encode(PgTypes.text.opt(), unsaved.lastName), Fragment.lit(", "), Fragment.encode(PgTypes.unknown, unsaved.email), Fragment.lit("::citext, "), Fragment.encode(PgTypes.text, unsaved.password), Fragment.lit(", "), Fragment.encode(PgTypes.timestamptz, unsaved.createdAt), Fragment.lit("::timestamptz, "), Fragment.encode(PgTypes.timestamptz.opt(), unsaved.verifiedOn), Fragment.lit("""::timestamptz)
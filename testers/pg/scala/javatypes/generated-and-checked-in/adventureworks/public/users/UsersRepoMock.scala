@@ -19,6 +19,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -105,6 +106,18 @@ case class UsersRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[UsersRow])(using c: Connection): Integer = {
+    val updated = new HashSet[UsersId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.userId)) {
+        map.put(row.userId, row): @scala.annotation.nowarn
+        updated.add(row.userId): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: UsersRow)(using c: Connection): UsersRow = {
     map.put(unsaved.userId, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -48,6 +48,8 @@ trait SalespersonRepo {
 
   def update(row: SalespersonRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[SalespersonRow])(using c: Connection): Integer
+
   def upsert(unsaved: SalespersonRow)(using c: Connection): SalespersonRow
 
   def upsertBatch(unsaved: java.util.Iterator[SalespersonRow])(using c: Connection): java.util.List[SalespersonRow]
@@ -47,6 +47,8 @@ trait SalesterritoryRepo {
 
   def update(row: SalesterritoryRow)(using c: Connection): java.lang.Boolean
 
+  def updateBatch(rows: java.util.Iterator[SalesterritoryRow])(using c: Connection): Integer
+
   def upsert(unsaved: SalesterritoryRow)(using c: Connection): SalesterritoryRow
 
   def upsertBatch(unsaved: java.util.Iterator[SalesterritoryRow])(using c: Connection): java.util.List[SalesterritoryRow]
@@ -18,6 +18,7 @@ import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
 import java.util.HashMap
+import java.util.HashSet
 import java.util.Optional
 import java.util.function.Function
 import java.util.stream.Collectors
@@ -102,6 +103,18 @@ case class SalesterritoryRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: java.util.Iterator[SalesterritoryRow])(using c: Connection): Integer = {
+    val updated = new HashSet[SalesterritoryId]()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.territoryid)) {
+        map.put(row.territoryid, row): @scala.annotation.nowarn
+        updated.add(row.territoryid): @scala.annotation.nowarn
+      }
+    }
+    return updated.size()
+  }
+
   override def upsert(unsaved: SalesterritoryRow)(using c: Connection): SalesterritoryRow = {
     map.put(unsaved.territoryid, unsaved): @scala.annotation.nowarn
     return unsaved
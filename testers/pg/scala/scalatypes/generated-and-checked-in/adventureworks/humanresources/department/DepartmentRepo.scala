@@ -46,6 +46,8 @@ trait DepartmentRepo {
 
   def update(row: DepartmentRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[DepartmentRow])(using c: Connection): Int
+
   def upsert(unsaved: DepartmentRow)(using c: Connection): DepartmentRow
 
   def upsertBatch(unsaved: Iterator[DepartmentRow])(using c: Connection): List[DepartmentRow]
@@ -111,6 +111,8 @@ class DepartmentRepoImpl extends DepartmentRepo {
     where "departmentid" = ${Fragment.encode(DepartmentId.pgType, departmentid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[DepartmentRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.groupname, f.modifieddate))(using c)
+
   override def upsert(unsaved: DepartmentRow)(using c: Connection): DepartmentRow = {
   sql"""insert into "humanresources"."department"("departmentid", "name", "groupname", "modifieddate")
     values (${Fragment.encode(DepartmentId.pgType, unsaved.departmentid)}::int4, ${Fragment.encode(Name.pgType, unsaved.name)}::varchar, ${Fragment.encode(Name.pgType, unsaved.groupname)}::varchar, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
@@ -85,6 +85,15 @@ case class DepartmentRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[DepartmentRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.departmentid)) {
+        map.put(row.departmentid, row): @scala.annotation.nowarn
+        Some(row.departmentid)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: DepartmentRow)(using c: Connection): DepartmentRow = {
     map.put(unsaved.departmentid, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -47,6 +47,8 @@ trait EmployeeRepo {
 
   def update(row: EmployeeRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[EmployeeRow])(using c: Connection): Int
+
   def upsert(unsaved: EmployeeRow)(using c: Connection): EmployeeRow
 
   def upsertBatch(unsaved: Iterator[EmployeeRow])(using c: Connection): List[EmployeeRow]
@@ -158,6 +158,8 @@ class EmployeeRepoImpl extends EmployeeRepo {
     where "businessentityid" = ${Fragment.encode(BusinessentityId.pgType, businessentityid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[EmployeeRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.nationalidnumber, f.loginid, f.jobtitle, f.birthdate, f.maritalstatus, f.gender, f.hiredate, f.salariedflag, f.vacationhours, f.sickleavehours, f.currentflag, f.rowguid, f.modifieddate, f.organizationnode))(using c)
+
   override def upsert(unsaved: EmployeeRow)(using c: Connection): EmployeeRow = {
   sql"""insert into "humanresources"."employee"("businessentityid", "nationalidnumber", "loginid", "jobtitle", "birthdate", "maritalstatus", "gender", "hiredate", "salariedflag", "vacationhours", "sickleavehours", "currentflag", "rowguid", "modifieddate", "organizationnode")
     values (${Fragment.encode(BusinessentityId.pgType, unsaved.businessentityid)}::int4, ${Fragment.encode(PgTypes.text, unsaved.nationalidnumber)}, ${Fragment.encode(PgTypes.text, unsaved.loginid)}, ${Fragment.encode(PgTypes.text, unsaved.jobtitle)}, ${Fragment.encode(PgTypes.date, unsaved.birthdate)}::date, ${Fragment.encode(PgTypes.bpchar, unsaved.maritalstatus)}::bpchar, ${Fragment.encode(PgTypes.bpchar, unsaved.gender)}::bpchar, ${Fragment.encode(PgTypes.date, unsaved.hiredate)}::date, ${Fragment.encode(SalariedFlag.pgType, unsaved.salariedflag)}::bool, ${Fragment.encode(ScalaDbTypes.PgTypes.int2, unsaved.vacationhours)}::int2, ${Fragment.encode(ScalaDbTypes.PgTypes.int2, unsaved.sickleavehours)}::int2, ${Fragment.encode(CurrentFlag.pgType, unsaved.currentflag)}::bool, ${Fragment.encode(PgTypes.uuid, unsaved.rowguid)}::uuid, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp, ${Fragment.encode(PgTypes.text.nullable, unsaved.organizationnode)})
@@ -86,6 +86,15 @@ case class EmployeeRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[EmployeeRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.businessentityid)) {
+        map.put(row.businessentityid, row): @scala.annotation.nowarn
+        Some(row.businessentityid)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: EmployeeRow)(using c: Connection): EmployeeRow = {
     map.put(unsaved.businessentityid, unsaved): @scala.annotation.nowarn
     return unsaved
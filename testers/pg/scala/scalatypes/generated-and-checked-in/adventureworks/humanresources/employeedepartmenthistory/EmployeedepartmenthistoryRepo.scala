@@ -46,6 +46,8 @@ trait EmployeedepartmenthistoryRepo {
 
   def update(row: EmployeedepartmenthistoryRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[EmployeedepartmenthistoryRow])(using c: Connection): Int
+
   def upsert(unsaved: EmployeedepartmenthistoryRow)(using c: Connection): EmployeedepartmenthistoryRow
 
   def upsertBatch(unsaved: Iterator[EmployeedepartmenthistoryRow])(using c: Connection): List[EmployeedepartmenthistoryRow]
@@ -126,6 +126,8 @@ class EmployeedepartmenthistoryRepoImpl extends EmployeedepartmenthistoryRepo {
     where "businessentityid" = ${Fragment.encode(BusinessentityId.pgType, compositeId.businessentityid)} AND "startdate" = ${Fragment.encode(PgTypes.date, compositeId.startdate)} AND "departmentid" = ${Fragment.encode(DepartmentId.pgType, compositeId.departmentid)} AND "shiftid" = ${Fragment.encode(ShiftId.pgType, compositeId.shiftid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[EmployeedepartmenthistoryRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.enddate, f.modifieddate))(using c)
+
   override def upsert(unsaved: EmployeedepartmenthistoryRow)(using c: Connection): EmployeedepartmenthistoryRow = {
   sql"""insert into "humanresources"."employeedepartmenthistory"("businessentityid", "departmentid", "shiftid", "startdate", "enddate", "modifieddate")
     values (${Fragment.encode(BusinessentityId.pgType, unsaved.businessentityid)}::int4, ${Fragment.encode(DepartmentId.pgType, unsaved.departmentid)}::int2, ${Fragment.encode(ShiftId.pgType, unsaved.shiftid)}::int2, ${Fragment.encode(PgTypes.date, unsaved.startdate)}::date, ${Fragment.encode(PgTypes.date.nullable, unsaved.enddate)}::date, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
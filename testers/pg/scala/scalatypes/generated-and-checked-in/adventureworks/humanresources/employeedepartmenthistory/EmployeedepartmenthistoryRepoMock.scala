@@ -85,6 +85,15 @@ case class EmployeedepartmenthistoryRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[EmployeedepartmenthistoryRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.compositeId)) {
+        map.put(row.compositeId, row): @scala.annotation.nowarn
+        Some(row.compositeId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: EmployeedepartmenthistoryRow)(using c: Connection): EmployeedepartmenthistoryRow = {
     map.put(unsaved.compositeId, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -46,6 +46,8 @@ trait ShiftRepo {
 
   def update(row: ShiftRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[ShiftRow])(using c: Connection): Int
+
   def upsert(unsaved: ShiftRow)(using c: Connection): ShiftRow
 
   def upsertBatch(unsaved: Iterator[ShiftRow])(using c: Connection): List[ShiftRow]
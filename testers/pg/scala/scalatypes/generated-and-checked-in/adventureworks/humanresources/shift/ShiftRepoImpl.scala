@@ -114,6 +114,8 @@ class ShiftRepoImpl extends ShiftRepo {
     where "shiftid" = ${Fragment.encode(ShiftId.pgType, shiftid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[ShiftRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.starttime, f.endtime, f.modifieddate))(using c)
+
   override def upsert(unsaved: ShiftRow)(using c: Connection): ShiftRow = {
   sql"""insert into "humanresources"."shift"("shiftid", "name", "starttime", "endtime", "modifieddate")
     values (${Fragment.encode(ShiftId.pgType, unsaved.shiftid)}::int4, ${Fragment.encode(Name.pgType, unsaved.name)}::varchar, ${Fragment.encode(PgTypes.time, unsaved.starttime)}::time, ${Fragment.encode(PgTypes.time, unsaved.endtime)}::time, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
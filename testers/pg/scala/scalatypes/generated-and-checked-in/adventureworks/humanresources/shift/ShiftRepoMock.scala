@@ -85,6 +85,15 @@ case class ShiftRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[ShiftRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.shiftid)) {
+        map.put(row.shiftid, row): @scala.annotation.nowarn
+        Some(row.shiftid)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: ShiftRow)(using c: Connection): ShiftRow = {
     map.put(unsaved.shiftid, unsaved): @scala.annotation.nowarn
     return unsaved
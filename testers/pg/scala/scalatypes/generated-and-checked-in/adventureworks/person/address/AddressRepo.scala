@@ -46,6 +46,8 @@ trait AddressRepo {
 
   def update(row: AddressRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[AddressRow])(using c: Connection): Int
+
   def upsert(unsaved: AddressRow)(using c: Connection): AddressRow
 
   def upsertBatch(unsaved: Iterator[AddressRow])(using c: Connection): List[AddressRow]
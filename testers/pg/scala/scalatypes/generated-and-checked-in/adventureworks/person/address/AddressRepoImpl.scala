@@ -129,6 +129,8 @@ class AddressRepoImpl extends AddressRepo {
     where "addressid" = ${Fragment.encode(AddressId.pgType, addressid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[AddressRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.addressline1, f.addressline2, f.city, f.stateprovinceid, f.postalcode, f.spatiallocation, f.rowguid, f.modifieddate))(using c)
+
   override def upsert(unsaved: AddressRow)(using c: Connection): AddressRow = {
   sql"""insert into "person"."address"("addressid", "addressline1", "addressline2", "city", "stateprovinceid", "postalcode", "spatiallocation", "rowguid", "modifieddate")
     values (${Fragment.encode(AddressId.pgType, unsaved.addressid)}::int4, ${Fragment.encode(PgTypes.text, unsaved.addressline1)}, ${Fragment.encode(PgTypes.text.nullable, unsaved.addressline2)}, ${Fragment.encode(PgTypes.text, unsaved.city)}, ${Fragment.encode(StateprovinceId.pgType, unsaved.stateprovinceid)}::int4, ${Fragment.encode(PgTypes.text, unsaved.postalcode)}, ${Fragment.encode(PgTypes.bytea.nullable, unsaved.spatiallocation)}::bytea, ${Fragment.encode(PgTypes.uuid, unsaved.rowguid)}::uuid, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
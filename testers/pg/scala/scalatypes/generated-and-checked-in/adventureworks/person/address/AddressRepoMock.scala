@@ -85,6 +85,15 @@ case class AddressRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[AddressRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.addressid)) {
+        map.put(row.addressid, row): @scala.annotation.nowarn
+        Some(row.addressid)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: AddressRow)(using c: Connection): AddressRow = {
     map.put(unsaved.addressid, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -46,6 +46,8 @@ trait AddresstypeRepo {
 
   def update(row: AddresstypeRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[AddresstypeRow])(using c: Connection): Int
+
   def upsert(unsaved: AddresstypeRow)(using c: Connection): AddresstypeRow
 
   def upsertBatch(unsaved: Iterator[AddresstypeRow])(using c: Connection): List[AddresstypeRow]
@@ -113,6 +113,8 @@ class AddresstypeRepoImpl extends AddresstypeRepo {
     where "addresstypeid" = ${Fragment.encode(AddresstypeId.pgType, addresstypeid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[AddresstypeRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.rowguid, f.modifieddate))(using c)
+
   override def upsert(unsaved: AddresstypeRow)(using c: Connection): AddresstypeRow = {
   sql"""insert into "person"."addresstype"("addresstypeid", "name", "rowguid", "modifieddate")
     values (${Fragment.encode(AddresstypeId.pgType, unsaved.addresstypeid)}::int4, ${Fragment.encode(Name.pgType, unsaved.name)}::varchar, ${Fragment.encode(PgTypes.uuid, unsaved.rowguid)}::uuid, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
@@ -85,6 +85,15 @@ case class AddresstypeRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[AddresstypeRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.addresstypeid)) {
+        map.put(row.addresstypeid, row): @scala.annotation.nowarn
+        Some(row.addresstypeid)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: AddresstypeRow)(using c: Connection): AddresstypeRow = {
     map.put(unsaved.addresstypeid, unsaved): @scala.annotation.nowarn
     return unsaved
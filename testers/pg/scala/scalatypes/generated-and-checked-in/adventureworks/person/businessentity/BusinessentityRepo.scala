@@ -46,6 +46,8 @@ trait BusinessentityRepo {
 
   def update(row: BusinessentityRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[BusinessentityRow])(using c: Connection): Int
+
   def upsert(unsaved: BusinessentityRow)(using c: Connection): BusinessentityRow
 
   def upsertBatch(unsaved: Iterator[BusinessentityRow])(using c: Connection): List[BusinessentityRow]
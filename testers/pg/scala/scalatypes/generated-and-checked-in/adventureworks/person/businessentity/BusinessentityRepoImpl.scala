@@ -111,6 +111,8 @@ class BusinessentityRepoImpl extends BusinessentityRepo {
     where "businessentityid" = ${Fragment.encode(BusinessentityId.pgType, businessentityid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[BusinessentityRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.rowguid, f.modifieddate))(using c)
+
   override def upsert(unsaved: BusinessentityRow)(using c: Connection): BusinessentityRow = {
   sql"""insert into "person"."businessentity"("businessentityid", "rowguid", "modifieddate")
     values (${Fragment.encode(BusinessentityId.pgType, unsaved.businessentityid)}::int4, ${Fragment.encode(PgTypes.uuid, unsaved.rowguid)}::uuid, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
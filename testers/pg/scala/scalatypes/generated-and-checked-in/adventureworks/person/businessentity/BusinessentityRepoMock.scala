@@ -85,6 +85,15 @@ case class BusinessentityRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[BusinessentityRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.businessentityid)) {
+        map.put(row.businessentityid, row): @scala.annotation.nowarn
+        Some(row.businessentityid)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: BusinessentityRow)(using c: Connection): BusinessentityRow = {
     map.put(unsaved.businessentityid, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -46,6 +46,8 @@ trait BusinessentityaddressRepo {
 
   def update(row: BusinessentityaddressRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[BusinessentityaddressRow])(using c: Connection): Int
+
   def upsert(unsaved: BusinessentityaddressRow)(using c: Connection): BusinessentityaddressRow
 
   def upsertBatch(unsaved: Iterator[BusinessentityaddressRow])(using c: Connection): List[BusinessentityaddressRow]
@@ -122,6 +122,8 @@ class BusinessentityaddressRepoImpl extends BusinessentityaddressRepo {
     where "businessentityid" = ${Fragment.encode(BusinessentityId.pgType, compositeId.businessentityid)} AND "addressid" = ${Fragment.encode(AddressId.pgType, compositeId.addressid)} AND "addresstypeid" = ${Fragment.encode(AddresstypeId.pgType, compositeId.addresstypeid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[BusinessentityaddressRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.rowguid, f.modifieddate))(using c)
+
   override def upsert(unsaved: BusinessentityaddressRow)(using c: Connection): BusinessentityaddressRow = {
   sql"""insert into "person"."businessentityaddress"("businessentityid", "addressid", "addresstypeid", "rowguid", "modifieddate")
     values (${Fragment.encode(BusinessentityId.pgType, unsaved.businessentityid)}::int4, ${Fragment.encode(AddressId.pgType, unsaved.addressid)}::int4, ${Fragment.encode(AddresstypeId.pgType, unsaved.addresstypeid)}::int4, ${Fragment.encode(PgTypes.uuid, unsaved.rowguid)}::uuid, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
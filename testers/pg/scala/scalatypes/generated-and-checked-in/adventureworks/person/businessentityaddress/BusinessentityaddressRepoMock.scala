@@ -85,6 +85,15 @@ case class BusinessentityaddressRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[BusinessentityaddressRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.compositeId)) {
+        map.put(row.compositeId, row): @scala.annotation.nowarn
+        Some(row.compositeId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: BusinessentityaddressRow)(using c: Connection): BusinessentityaddressRow = {
     map.put(unsaved.compositeId, unsaved): @scala.annotation.nowarn
     return unsaved
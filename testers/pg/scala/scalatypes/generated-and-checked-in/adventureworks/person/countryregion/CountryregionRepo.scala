@@ -46,6 +46,8 @@ trait CountryregionRepo {
 
   def update(row: CountryregionRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[CountryregionRow])(using c: Connection): Int
+
   def upsert(unsaved: CountryregionRow)(using c: Connection): CountryregionRow
 
   def upsertBatch(unsaved: Iterator[CountryregionRow])(using c: Connection): List[CountryregionRow]
@@ -106,6 +106,8 @@ class CountryregionRepoImpl extends CountryregionRepo {
     where "countryregioncode" = ${Fragment.encode(CountryregionId.pgType, countryregioncode)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[CountryregionRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.modifieddate))(using c)
+
   override def upsert(unsaved: CountryregionRow)(using c: Connection): CountryregionRow = {
   sql"""insert into "person"."countryregion"("countryregioncode", "name", "modifieddate")
     values (${Fragment.encode(CountryregionId.pgType, unsaved.countryregioncode)}, ${Fragment.encode(Name.pgType, unsaved.name)}::varchar, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
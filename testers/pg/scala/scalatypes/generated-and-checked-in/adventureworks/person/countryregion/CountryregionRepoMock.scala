@@ -85,6 +85,15 @@ case class CountryregionRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[CountryregionRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.countryregioncode)) {
+        map.put(row.countryregioncode, row): @scala.annotation.nowarn
+        Some(row.countryregioncode)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: CountryregionRow)(using c: Connection): CountryregionRow = {
     map.put(unsaved.countryregioncode, unsaved): @scala.annotation.nowarn
     return unsaved
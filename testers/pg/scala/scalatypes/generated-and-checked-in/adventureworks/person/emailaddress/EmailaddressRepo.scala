@@ -46,6 +46,8 @@ trait EmailaddressRepo {
 
   def update(row: EmailaddressRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[EmailaddressRow])(using c: Connection): Int
+
   def upsert(unsaved: EmailaddressRow)(using c: Connection): EmailaddressRow
 
   def upsertBatch(unsaved: Iterator[EmailaddressRow])(using c: Connection): List[EmailaddressRow]
@@ -123,6 +123,8 @@ class EmailaddressRepoImpl extends EmailaddressRepo {
     where "businessentityid" = ${Fragment.encode(BusinessentityId.pgType, compositeId.businessentityid)} AND "emailaddressid" = ${Fragment.encode(ScalaDbTypes.PgTypes.int4, compositeId.emailaddressid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[EmailaddressRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.emailaddress, f.rowguid, f.modifieddate))(using c)
+
   override def upsert(unsaved: EmailaddressRow)(using c: Connection): EmailaddressRow = {
   sql"""insert into "person"."emailaddress"("businessentityid", "emailaddressid", "emailaddress", "rowguid", "modifieddate")
     values (${Fragment.encode(BusinessentityId.pgType, unsaved.businessentityid)}::int4, ${Fragment.encode(ScalaDbTypes.PgTypes.int4, unsaved.emailaddressid)}::int4, ${Fragment.encode(PgTypes.text.nullable, unsaved.emailaddress)}, ${Fragment.encode(PgTypes.uuid, unsaved.rowguid)}::uuid, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
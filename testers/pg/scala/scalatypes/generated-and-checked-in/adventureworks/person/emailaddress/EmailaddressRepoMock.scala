@@ -85,6 +85,15 @@ case class EmailaddressRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[EmailaddressRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.compositeId)) {
+        map.put(row.compositeId, row): @scala.annotation.nowarn
+        Some(row.compositeId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: EmailaddressRow)(using c: Connection): EmailaddressRow = {
     map.put(unsaved.compositeId, unsaved): @scala.annotation.nowarn
     return unsaved
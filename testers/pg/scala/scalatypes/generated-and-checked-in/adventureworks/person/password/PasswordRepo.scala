@@ -47,6 +47,8 @@ trait PasswordRepo {
 
   def update(row: PasswordRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[PasswordRow])(using c: Connection): Int
+
   def upsert(unsaved: PasswordRow)(using c: Connection): PasswordRow
 
   def upsertBatch(unsaved: Iterator[PasswordRow])(using c: Connection): List[PasswordRow]
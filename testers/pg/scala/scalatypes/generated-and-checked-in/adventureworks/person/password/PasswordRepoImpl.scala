@@ -114,6 +114,8 @@ class PasswordRepoImpl extends PasswordRepo {
     where "businessentityid" = ${Fragment.encode(BusinessentityId.pgType, businessentityid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[PasswordRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.passwordhash, f.passwordsalt, f.rowguid, f.modifieddate))(using c)
+
   override def upsert(unsaved: PasswordRow)(using c: Connection): PasswordRow = {
   sql"""insert into "person"."password"("businessentityid", "passwordhash", "passwordsalt", "rowguid", "modifieddate")
     values (${Fragment.encode(BusinessentityId.pgType, unsaved.businessentityid)}::int4, ${Fragment.encode(PgTypes.text, unsaved.passwordhash)}, ${Fragment.encode(PgTypes.text, unsaved.passwordsalt)}, ${Fragment.encode(PgTypes.uuid, unsaved.rowguid)}::uuid, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
@@ -47,6 +47,8 @@ trait PersonRepo {
 
   def update(row: PersonRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[PersonRow])(using c: Connection): Int
+
   def upsert(unsaved: PersonRow)(using c: Connection): PersonRow
 
   def upsertBatch(unsaved: Iterator[PersonRow])(using c: Connection): List[PersonRow]
@@ -148,6 +148,8 @@ class PersonRepoImpl extends PersonRepo {
     where "businessentityid" = ${Fragment.encode(BusinessentityId.pgType, businessentityid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[PersonRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.persontype, f.namestyle, f.title, f.firstname, f.middlename, f.lastname, f.suffix, f.emailpromotion, f.additionalcontactinfo, f.demographics, f.rowguid, f.modifieddate))(using c)
+
   override def upsert(unsaved: PersonRow)(using c: Connection): PersonRow = {
   sql"""insert into "person"."person"("businessentityid", "persontype", "namestyle", "title", "firstname", "middlename", "lastname", "suffix", "emailpromotion", "additionalcontactinfo", "demographics", "rowguid", "modifieddate")
     values (${Fragment.encode(BusinessentityId.pgType, unsaved.businessentityid)}::int4, ${Fragment.encode(PgTypes.bpchar, unsaved.persontype)}::bpchar, ${Fragment.encode(NameStyle.pgType, unsaved.namestyle)}::bool, ${Fragment.encode(PgTypes.text.nullable, unsaved.title)}, ${Fragment.encode(FirstName.pgType, unsaved.firstname)}::varchar, ${Fragment.encode(MiddleName.pgType.nullable, unsaved.middlename)}::varchar, ${Fragment.encode(LastName.pgType, unsaved.lastname)}::varchar, ${Fragment.encode(PgTypes.text.nullable, unsaved.suffix)}, ${Fragment.encode(ScalaDbTypes.PgTypes.int4, unsaved.emailpromotion)}::int4, ${Fragment.encode(PgTypes.xml.nullable, unsaved.additionalcontactinfo)}::xml, ${Fragment.encode(PgTypes.xml.nullable, unsaved.demographics)}::xml, ${Fragment.encode(PgTypes.uuid, unsaved.rowguid)}::uuid, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
@@ -46,6 +46,8 @@ trait StateprovinceRepo {
 
   def update(row: StateprovinceRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[StateprovinceRow])(using c: Connection): Int
+
   def upsert(unsaved: StateprovinceRow)(using c: Connection): StateprovinceRow
 
   def upsertBatch(unsaved: Iterator[StateprovinceRow])(using c: Connection): List[StateprovinceRow]
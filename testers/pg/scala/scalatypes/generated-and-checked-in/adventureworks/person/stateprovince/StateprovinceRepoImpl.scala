@@ -130,6 +130,8 @@ class StateprovinceRepoImpl extends StateprovinceRepo {
     where "stateprovinceid" = ${Fragment.encode(StateprovinceId.pgType, stateprovinceid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[StateprovinceRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.stateprovincecode, f.countryregioncode, f.isonlystateprovinceflag, f.name, f.territoryid, f.rowguid, f.modifieddate))(using c)
+
   override def upsert(unsaved: StateprovinceRow)(using c: Connection): StateprovinceRow = {
   sql"""insert into "person"."stateprovince"("stateprovinceid", "stateprovincecode", "countryregioncode", "isonlystateprovinceflag", "name", "territoryid", "rowguid", "modifieddate")
     values (${Fragment.encode(StateprovinceId.pgType, unsaved.stateprovinceid)}::int4, ${Fragment.encode(PgTypes.bpchar, unsaved.stateprovincecode)}::bpchar, ${Fragment.encode(CountryregionId.pgType, unsaved.countryregioncode)}, ${Fragment.encode(Flag.pgType, unsaved.isonlystateprovinceflag)}::bool, ${Fragment.encode(Name.pgType, unsaved.name)}::varchar, ${Fragment.encode(SalesterritoryId.pgType, unsaved.territoryid)}::int4, ${Fragment.encode(PgTypes.uuid, unsaved.rowguid)}::uuid, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
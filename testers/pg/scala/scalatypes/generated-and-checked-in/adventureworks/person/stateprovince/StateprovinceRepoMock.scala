@@ -85,6 +85,15 @@ case class StateprovinceRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[StateprovinceRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.stateprovinceid)) {
+        map.put(row.stateprovinceid, row): @scala.annotation.nowarn
+        Some(row.stateprovinceid)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: StateprovinceRow)(using c: Connection): StateprovinceRow = {
     map.put(unsaved.stateprovinceid, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -46,6 +46,8 @@ trait ProductRepo {
 
   def update(row: ProductRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[ProductRow])(using c: Connection): Int
+
   def upsert(unsaved: ProductRow)(using c: Connection): ProductRow
 
   def upsertBatch(unsaved: Iterator[ProductRow])(using c: Connection): List[ProductRow]
@@ -186,6 +186,8 @@ class ProductRepoImpl extends ProductRepo {
     where "productid" = ${Fragment.encode(ProductId.pgType, productid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[ProductRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.productnumber, f.makeflag, f.finishedgoodsflag, f.color, f.safetystocklevel, f.reorderpoint, f.standardcost, f.listprice, f.size, f.sizeunitmeasurecode, f.weightunitmeasurecode, f.weight, f.daystomanufacture, f.productline, f.`class`, f.style, f.productsubcategoryid, f.productmodelid, f.sellstartdate, f.sellenddate, f.discontinueddate, f.rowguid, f.modifieddate))(using c)
+
   override def upsert(unsaved: ProductRow)(using c: Connection): ProductRow = {
   sql"""insert into "production"."product"("productid", "name", "productnumber", "makeflag", "finishedgoodsflag", "color", "safetystocklevel", "reorderpoint", "standardcost", "listprice", "size", "sizeunitmeasurecode", "weightunitmeasurecode", "weight", "daystomanufacture", "productline", "class", "style", "productsubcategoryid", "productmodelid", "sellstartdate", "sellenddate", "discontinueddate", "rowguid", "modifieddate")
     values (${Fragment.encode(ProductId.pgType, unsaved.productid)}::int4, ${Fragment.encode(Name.pgType, unsaved.name)}::varchar, ${Fragment.encode(PgTypes.text, unsaved.productnumber)}, ${Fragment.encode(Flag.pgType, unsaved.makeflag)}::bool, ${Fragment.encode(Flag.pgType, unsaved.finishedgoodsflag)}::bool, ${Fragment.encode(PgTypes.text.nullable, unsaved.color)}, ${Fragment.encode(ScalaDbTypes.PgTypes.int2, unsaved.safetystocklevel)}::int2, ${Fragment.encode(ScalaDbTypes.PgTypes.int2, unsaved.reorderpoint)}::int2, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric, unsaved.standardcost)}::numeric, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric, unsaved.listprice)}::numeric, ${Fragment.encode(PgTypes.text.nullable, unsaved.size)}, ${Fragment.encode(UnitmeasureId.pgType.nullable, unsaved.sizeunitmeasurecode)}::bpchar, ${Fragment.encode(UnitmeasureId.pgType.nullable, unsaved.weightunitmeasurecode)}::bpchar, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric.nullable, unsaved.weight)}::numeric, ${Fragment.encode(ScalaDbTypes.PgTypes.int4, unsaved.daystomanufacture)}::int4, ${Fragment.encode(PgTypes.bpchar.nullable, unsaved.productline)}::bpchar, ${Fragment.encode(PgTypes.bpchar.nullable, unsaved.`class`)}::bpchar, ${Fragment.encode(PgTypes.bpchar.nullable, unsaved.style)}::bpchar, ${Fragment.encode(ProductsubcategoryId.pgType.nullable, unsaved.productsubcategoryid)}::int4, ${Fragment.encode(ProductmodelId.pgType.nullable, unsaved.productmodelid)}::int4, ${Fragment.encode(PgTypes.timestamp, unsaved.sellstartdate)}::timestamp, ${Fragment.encode(PgTypes.timestamp.nullable, unsaved.sellenddate)}::timestamp, ${Fragment.encode(PgTypes.timestamp.nullable, unsaved.discontinueddate)}::timestamp, ${Fragment.encode(PgTypes.uuid, unsaved.rowguid)}::uuid, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
@@ -85,6 +85,15 @@ case class ProductRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[ProductRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.productid)) {
+        map.put(row.productid, row): @scala.annotation.nowarn
+        Some(row.productid)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: ProductRow)(using c: Connection): ProductRow = {
     map.put(unsaved.productid, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -46,6 +46,8 @@ trait ProductcategoryRepo {
 
   def update(row: ProductcategoryRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[ProductcategoryRow])(using c: Connection): Int
+
   def upsert(unsaved: ProductcategoryRow)(using c: Connection): ProductcategoryRow
 
   def upsertBatch(unsaved: Iterator[ProductcategoryRow])(using c: Connection): List[ProductcategoryRow]
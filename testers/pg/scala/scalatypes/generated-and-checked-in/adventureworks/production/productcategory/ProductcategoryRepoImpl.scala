@@ -113,6 +113,8 @@ class ProductcategoryRepoImpl extends ProductcategoryRepo {
     where "productcategoryid" = ${Fragment.encode(ProductcategoryId.pgType, productcategoryid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[ProductcategoryRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.rowguid, f.modifieddate))(using c)
+
   override def upsert(unsaved: ProductcategoryRow)(using c: Connection): ProductcategoryRow = {
   sql"""insert into "production"."productcategory"("productcategoryid", "name", "rowguid", "modifieddate")
     values (${Fragment.encode(ProductcategoryId.pgType, unsaved.productcategoryid)}::int4, ${Fragment.encode(Name.pgType, unsaved.name)}::varchar, ${Fragment.encode(PgTypes.uuid, unsaved.rowguid)}::uuid, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
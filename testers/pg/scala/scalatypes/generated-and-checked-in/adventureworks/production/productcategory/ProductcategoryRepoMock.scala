@@ -85,6 +85,15 @@ case class ProductcategoryRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[ProductcategoryRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.productcategoryid)) {
+        map.put(row.productcategoryid, row): @scala.annotation.nowarn
+        Some(row.productcategoryid)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: ProductcategoryRow)(using c: Connection): ProductcategoryRow = {
     map.put(unsaved.productcategoryid, unsaved): @scala.annotation.nowarn
     return unsaved
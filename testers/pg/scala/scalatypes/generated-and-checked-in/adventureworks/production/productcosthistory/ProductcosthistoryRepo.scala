@@ -46,6 +46,8 @@ trait ProductcosthistoryRepo {
 
   def update(row: ProductcosthistoryRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[ProductcosthistoryRow])(using c: Connection): Int
+
   def upsert(unsaved: ProductcosthistoryRow)(using c: Connection): ProductcosthistoryRow
 
   def upsertBatch(unsaved: Iterator[ProductcosthistoryRow])(using c: Connection): List[ProductcosthistoryRow]
@@ -120,6 +120,8 @@ class ProductcosthistoryRepoImpl extends ProductcosthistoryRepo {
     where "productid" = ${Fragment.encode(ProductId.pgType, compositeId.productid)} AND "startdate" = ${Fragment.encode(PgTypes.timestamp, compositeId.startdate)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[ProductcosthistoryRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.enddate, f.standardcost, f.modifieddate))(using c)
+
   override def upsert(unsaved: ProductcosthistoryRow)(using c: Connection): ProductcosthistoryRow = {
   sql"""insert into "production"."productcosthistory"("productid", "startdate", "enddate", "standardcost", "modifieddate")
     values (${Fragment.encode(ProductId.pgType, unsaved.productid)}::int4, ${Fragment.encode(PgTypes.timestamp, unsaved.startdate)}::timestamp, ${Fragment.encode(PgTypes.timestamp.nullable, unsaved.enddate)}::timestamp, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric, unsaved.standardcost)}::numeric, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
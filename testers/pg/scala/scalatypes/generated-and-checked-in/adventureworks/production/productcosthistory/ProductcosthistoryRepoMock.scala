@@ -85,6 +85,15 @@ case class ProductcosthistoryRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[ProductcosthistoryRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.compositeId)) {
+        map.put(row.compositeId, row): @scala.annotation.nowarn
+        Some(row.compositeId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: ProductcosthistoryRow)(using c: Connection): ProductcosthistoryRow = {
     map.put(unsaved.compositeId, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -46,6 +46,8 @@ trait ProductmodelRepo {
 
   def update(row: ProductmodelRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[ProductmodelRow])(using c: Connection): Int
+
   def upsert(unsaved: ProductmodelRow)(using c: Connection): ProductmodelRow
 
   def upsertBatch(unsaved: Iterator[ProductmodelRow])(using c: Connection): List[ProductmodelRow]
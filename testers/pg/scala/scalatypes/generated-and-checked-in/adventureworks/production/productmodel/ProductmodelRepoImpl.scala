@@ -120,6 +120,8 @@ class ProductmodelRepoImpl extends ProductmodelRepo {
     where "productmodelid" = ${Fragment.encode(ProductmodelId.pgType, productmodelid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[ProductmodelRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.catalogdescription, f.instructions, f.rowguid, f.modifieddate))(using c)
+
   override def upsert(unsaved: ProductmodelRow)(using c: Connection): ProductmodelRow = {
   sql"""insert into "production"."productmodel"("productmodelid", "name", "catalogdescription", "instructions", "rowguid", "modifieddate")
     values (${Fragment.encode(ProductmodelId.pgType, unsaved.productmodelid)}::int4, ${Fragment.encode(Name.pgType, unsaved.name)}::varchar, ${Fragment.encode(PgTypes.xml.nullable, unsaved.catalogdescription)}::xml, ${Fragment.encode(PgTypes.xml.nullable, unsaved.instructions)}::xml, ${Fragment.encode(PgTypes.uuid, unsaved.rowguid)}::uuid, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
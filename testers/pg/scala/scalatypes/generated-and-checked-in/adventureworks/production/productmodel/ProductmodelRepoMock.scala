@@ -85,6 +85,15 @@ case class ProductmodelRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[ProductmodelRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.productmodelid)) {
+        map.put(row.productmodelid, row): @scala.annotation.nowarn
+        Some(row.productmodelid)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: ProductmodelRow)(using c: Connection): ProductmodelRow = {
     map.put(unsaved.productmodelid, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -46,6 +46,8 @@ trait ProductsubcategoryRepo {
 
   def update(row: ProductsubcategoryRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[ProductsubcategoryRow])(using c: Connection): Int
+
   def upsert(unsaved: ProductsubcategoryRow)(using c: Connection): ProductsubcategoryRow
 
   def upsertBatch(unsaved: Iterator[ProductsubcategoryRow])(using c: Connection): List[ProductsubcategoryRow]
@@ -117,6 +117,8 @@ class ProductsubcategoryRepoImpl extends ProductsubcategoryRepo {
     where "productsubcategoryid" = ${Fragment.encode(ProductsubcategoryId.pgType, productsubcategoryid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[ProductsubcategoryRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.productcategoryid, f.name, f.rowguid, f.modifieddate))(using c)
+
   override def upsert(unsaved: ProductsubcategoryRow)(using c: Connection): ProductsubcategoryRow = {
   sql"""insert into "production"."productsubcategory"("productsubcategoryid", "productcategoryid", "name", "rowguid", "modifieddate")
     values (${Fragment.encode(ProductsubcategoryId.pgType, unsaved.productsubcategoryid)}::int4, ${Fragment.encode(ProductcategoryId.pgType, unsaved.productcategoryid)}::int4, ${Fragment.encode(Name.pgType, unsaved.name)}::varchar, ${Fragment.encode(PgTypes.uuid, unsaved.rowguid)}::uuid, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
@@ -85,6 +85,15 @@ case class ProductsubcategoryRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[ProductsubcategoryRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.productsubcategoryid)) {
+        map.put(row.productsubcategoryid, row): @scala.annotation.nowarn
+        Some(row.productsubcategoryid)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: ProductsubcategoryRow)(using c: Connection): ProductsubcategoryRow = {
     map.put(unsaved.productsubcategoryid, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -46,6 +46,8 @@ trait UnitmeasureRepo {
 
   def update(row: UnitmeasureRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[UnitmeasureRow])(using c: Connection): Int
+
   def upsert(unsaved: UnitmeasureRow)(using c: Connection): UnitmeasureRow
 
   def upsertBatch(unsaved: Iterator[UnitmeasureRow])(using c: Connection): List[UnitmeasureRow]
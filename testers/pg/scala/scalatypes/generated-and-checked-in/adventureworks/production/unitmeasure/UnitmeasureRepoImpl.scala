@@ -106,6 +106,8 @@ class UnitmeasureRepoImpl extends UnitmeasureRepo {
     where "unitmeasurecode" = ${Fragment.encode(UnitmeasureId.pgType, unitmeasurecode)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[UnitmeasureRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.modifieddate))(using c)
+
   override def upsert(unsaved: UnitmeasureRow)(using c: Connection): UnitmeasureRow = {
   sql"""insert into "production"."unitmeasure"("unitmeasurecode", "name", "modifieddate")
     values (${Fragment.encode(UnitmeasureId.pgType, unsaved.unitmeasurecode)}::bpchar, ${Fragment.encode(Name.pgType, unsaved.name)}::varchar, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
@@ -85,6 +85,15 @@ case class UnitmeasureRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[UnitmeasureRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.unitmeasurecode)) {
+        map.put(row.unitmeasurecode, row): @scala.annotation.nowarn
+        Some(row.unitmeasurecode)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: UnitmeasureRow)(using c: Connection): UnitmeasureRow = {
     map.put(unsaved.unitmeasurecode, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -38,6 +38,8 @@ trait FlaffRepo {
 
   def update(row: FlaffRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[FlaffRow])(using c: Connection): Int
+
   def upsert(unsaved: FlaffRow)(using c: Connection): FlaffRow
 
   def upsertBatch(unsaved: Iterator[FlaffRow])(using c: Connection): List[FlaffRow]
@@ -90,6 +90,8 @@ class FlaffRepoImpl extends FlaffRepo {
     where "code" = ${Fragment.encode(ShortText.pgType, compositeId.code)} AND "another_code" = ${Fragment.encode(PgTypes.text, compositeId.anotherCode)} AND "some_number" = ${Fragment.encode(ScalaDbTypes.PgTypes.int4, compositeId.someNumber)} AND "specifier" = ${Fragment.encode(ShortText.pgType, compositeId.specifier)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[FlaffRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.parentspecifier))(using c)
+
   override def upsert(unsaved: FlaffRow)(using c: Connection): FlaffRow = {
   sql"""insert into "public"."flaff"("code", "another_code", "some_number", "specifier", "parentspecifier")
     values (${Fragment.encode(ShortText.pgType, unsaved.code)}::text, ${Fragment.encode(PgTypes.text, unsaved.anotherCode)}, ${Fragment.encode(ScalaDbTypes.PgTypes.int4, unsaved.someNumber)}::int4, ${Fragment.encode(ShortText.pgType, unsaved.specifier)}::text, ${Fragment.encode(ShortText.pgType.nullable, unsaved.parentspecifier)}::text)
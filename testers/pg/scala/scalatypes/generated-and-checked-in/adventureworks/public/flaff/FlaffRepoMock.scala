@@ -68,6 +68,15 @@ case class FlaffRepoMock(map: scala.collection.mutable.Map[FlaffId, FlaffRow] =
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[FlaffRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.compositeId)) {
+        map.put(row.compositeId, row): @scala.annotation.nowarn
+        Some(row.compositeId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: FlaffRow)(using c: Connection): FlaffRow = {
     map.put(unsaved.compositeId, unsaved): @scala.annotation.nowarn
     return unsaved
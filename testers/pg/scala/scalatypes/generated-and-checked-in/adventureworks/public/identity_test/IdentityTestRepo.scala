@@ -46,6 +46,8 @@ trait IdentityTestRepo {
 
   def update(row: IdentityTestRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[IdentityTestRow])(using c: Connection): Int
+
   def upsert(unsaved: IdentityTestRow)(using c: Connection): IdentityTestRow
 
   def upsertBatch(unsaved: Iterator[IdentityTestRow])(using c: Connection): List[IdentityTestRow]
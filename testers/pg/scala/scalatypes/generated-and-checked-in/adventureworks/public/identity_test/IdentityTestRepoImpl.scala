@@ -102,6 +102,8 @@ class IdentityTestRepoImpl extends IdentityTestRepo {
     where "name" = ${Fragment.encode(IdentityTestId.pgType, name)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[IdentityTestRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.defaultGenerated))(using c)
+
   override def upsert(unsaved: IdentityTestRow)(using c: Connection): IdentityTestRow = {
   sql"""insert into "public"."identity-test"("default_generated", "name")
     values (${Fragment.encode(ScalaDbTypes.PgTypes.int4, unsaved.defaultGenerated)}::int4, ${Fragment.encode(IdentityTestId.pgType, unsaved.name)})
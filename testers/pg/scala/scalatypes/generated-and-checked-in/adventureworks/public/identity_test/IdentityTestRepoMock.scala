@@ -85,6 +85,15 @@ case class IdentityTestRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[IdentityTestRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.name)) {
+        map.put(row.name, row): @scala.annotation.nowarn
+        Some(row.name)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: IdentityTestRow)(using c: Connection): IdentityTestRow = {
     map.put(unsaved.name, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -46,6 +46,8 @@ trait PrecisionTypesRepo {
 
   def update(row: PrecisionTypesRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[PrecisionTypesRow])(using c: Connection): Int
+
   def upsert(unsaved: PrecisionTypesRow)(using c: Connection): PrecisionTypesRow
 
   def upsertBatch(unsaved: Iterator[PrecisionTypesRow])(using c: Connection): List[PrecisionTypesRow]
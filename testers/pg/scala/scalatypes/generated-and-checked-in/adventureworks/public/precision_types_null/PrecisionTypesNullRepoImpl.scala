@@ -180,6 +180,8 @@ class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
     where "id" = ${Fragment.encode(PrecisionTypesNullId.pgType, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[PrecisionTypesNullRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.string10, f.string20, f.string50, f.string100, f.string255, f.bpchar3, f.bpchar10, f.decimal52, f.decimal102, f.decimal184, f.numeric82, f.numeric124, f.timestamp0, f.timestamp3, f.timestamp6, f.timestamptz0, f.timestamptz3, f.timestamptz6, f.time0, f.time3, f.time6, f.timetz0, f.timetz3, f.timetz6))(using c)
+
   override def upsert(unsaved: PrecisionTypesNullRow)(using c: Connection): PrecisionTypesNullRow = {
   sql"""insert into "public"."precision_types_null"("id", "string10", "string20", "string50", "string100", "string255", "bpchar3", "bpchar10", "decimal5_2", "decimal10_2", "decimal18_4", "numeric8_2", "numeric12_4", "timestamp0", "timestamp3", "timestamp6", "timestamptz0", "timestamptz3", "timestamptz6", "time0", "time3", "time6", "timetz0", "timetz3", "timetz6")
     values (${Fragment.encode(PrecisionTypesNullId.pgType, unsaved.id)}::int4, ${Fragment.encode(String10.pgType.nullable, unsaved.string10)}, ${Fragment.encode(String20.pgType.nullable, unsaved.string20)}, ${Fragment.encode(String50.pgType.nullable, unsaved.string50)}, ${Fragment.encode(String100.pgType.nullable, unsaved.string100)}, ${Fragment.encode(String255.pgType.nullable, unsaved.string255)}, ${Fragment.encode(PaddedString3.pgType.nullable, unsaved.bpchar3)}::bpchar, ${Fragment.encode(PaddedString10.pgType.nullable, unsaved.bpchar10)}::bpchar, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric.nullable, unsaved.decimal52)}::numeric, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric.nullable, unsaved.decimal102)}::numeric, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric.nullable, unsaved.decimal184)}::numeric, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric.nullable, unsaved.numeric82)}::numeric, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric.nullable, unsaved.numeric124)}::numeric, ${Fragment.encode(PgTypes.timestamp.nullable, unsaved.timestamp0)}::timestamp, ${Fragment.encode(PgTypes.timestamp.nullable, unsaved.timestamp3)}::timestamp, ${Fragment.encode(PgTypes.timestamp.nullable, unsaved.timestamp6)}::timestamp, ${Fragment.encode(PgTypes.timestamptz.nullable, unsaved.timestamptz0)}::timestamptz, ${Fragment.encode(PgTypes.timestamptz.nullable, unsaved.timestamptz3)}::timestamptz, ${Fragment.encode(PgTypes.timestamptz.nullable, unsaved.timestamptz6)}::timestamptz, ${Fragment.encode(PgTypes.time.nullable, unsaved.time0)}::time, ${Fragment.encode(PgTypes.time.nullable, unsaved.time3)}::time, ${Fragment.encode(PgTypes.time.nullable, unsaved.time6)}::time, ${Fragment.encode(PgTypes.timetz.nullable, unsaved.timetz0)}::timetz, ${Fragment.encode(PgTypes.timetz.nullable, unsaved.timetz3)}::timetz, ${Fragment.encode(PgTypes.timetz.nullable, unsaved.timetz6)}::timetz)
@@ -49,6 +49,8 @@ trait UsersRepo {
 
   def update(row: UsersRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[UsersRow])(using c: Connection): Int
+
   def upsert(unsaved: UsersRow)(using c: Connection): UsersRow
 
   def upsertBatch(unsaved: Iterator[UsersRow])(using c: Connection): List[UsersRow]
@@ -126,6 +126,8 @@ class UsersRepoImpl extends UsersRepo {
     where "user_id" = ${Fragment.encode(UsersId.pgType, userId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[UsersRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.lastName, f.email, f.password, f.createdAt, f.verifiedOn))(using c)
+
   override def upsert(unsaved: UsersRow)(using c: Connection): UsersRow = {
   sql"""insert into "public"."users"("user_id", "name", "last_name", "email", "password", "created_at", "verified_on")
     values (${Fragment.encode(UsersId.pgType, unsaved.userId)}::uuid, ${Fragment.encode(PgTypes.text, unsaved.name)}, ${Fragment.encode(PgTypes.text.nullable, unsaved.lastName)}, ${Fragment.encode(PgTypes.unknown, unsaved.email)}::citext, ${Fragment.encode(PgTypes.text, unsaved.password)}, ${Fragment.encode(PgTypes.timestamptz, unsaved.createdAt)}::timestamptz, ${Fragment.encode(PgTypes.timestamptz.nullable, unsaved.verifiedOn)}::timestamptz)
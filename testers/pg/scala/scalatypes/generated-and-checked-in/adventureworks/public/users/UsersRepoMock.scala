@@ -88,6 +88,15 @@ case class UsersRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[UsersRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.userId)) {
+        map.put(row.userId, row): @scala.annotation.nowarn
+        Some(row.userId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: UsersRow)(using c: Connection): UsersRow = {
     map.put(unsaved.userId, unsaved): @scala.annotation.nowarn
     return unsaved
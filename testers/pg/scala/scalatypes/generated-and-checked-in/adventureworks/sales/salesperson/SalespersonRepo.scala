@@ -47,6 +47,8 @@ trait SalespersonRepo {
 
   def update(row: SalespersonRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[SalespersonRow])(using c: Connection): Int
+
   def upsert(unsaved: SalespersonRow)(using c: Connection): SalespersonRow
 
   def upsertBatch(unsaved: Iterator[SalespersonRow])(using c: Connection): List[SalespersonRow]
@@ -137,6 +137,8 @@ class SalespersonRepoImpl extends SalespersonRepo {
     where "businessentityid" = ${Fragment.encode(BusinessentityId.pgType, businessentityid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[SalespersonRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.territoryid, f.salesquota, f.bonus, f.commissionpct, f.salesytd, f.saleslastyear, f.rowguid, f.modifieddate))(using c)
+
   override def upsert(unsaved: SalespersonRow)(using c: Connection): SalespersonRow = {
   sql"""insert into "sales"."salesperson"("businessentityid", "territoryid", "salesquota", "bonus", "commissionpct", "salesytd", "saleslastyear", "rowguid", "modifieddate")
     values (${Fragment.encode(BusinessentityId.pgType, unsaved.businessentityid)}::int4, ${Fragment.encode(SalesterritoryId.pgType.nullable, unsaved.territoryid)}::int4, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric.nullable, unsaved.salesquota)}::numeric, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric, unsaved.bonus)}::numeric, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric, unsaved.commissionpct)}::numeric, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric, unsaved.salesytd)}::numeric, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric, unsaved.saleslastyear)}::numeric, ${Fragment.encode(PgTypes.uuid, unsaved.rowguid)}::uuid, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
@@ -46,6 +46,8 @@ trait SalesterritoryRepo {
 
   def update(row: SalesterritoryRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[SalesterritoryRow])(using c: Connection): Int
+
   def upsert(unsaved: SalesterritoryRow)(using c: Connection): SalesterritoryRow
 
   def upsertBatch(unsaved: Iterator[SalesterritoryRow])(using c: Connection): List[SalesterritoryRow]
@@ -141,6 +141,8 @@ class SalesterritoryRepoImpl extends SalesterritoryRepo {
     where "territoryid" = ${Fragment.encode(SalesterritoryId.pgType, territoryid)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[SalesterritoryRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.countryregioncode, f.group, f.salesytd, f.saleslastyear, f.costytd, f.costlastyear, f.rowguid, f.modifieddate))(using c)
+
   override def upsert(unsaved: SalesterritoryRow)(using c: Connection): SalesterritoryRow = {
   sql"""insert into "sales"."salesterritory"("territoryid", "name", "countryregioncode", "group", "salesytd", "saleslastyear", "costytd", "costlastyear", "rowguid", "modifieddate")
     values (${Fragment.encode(SalesterritoryId.pgType, unsaved.territoryid)}::int4, ${Fragment.encode(Name.pgType, unsaved.name)}::varchar, ${Fragment.encode(CountryregionId.pgType, unsaved.countryregioncode)}, ${Fragment.encode(PgTypes.text, unsaved.group)}, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric, unsaved.salesytd)}::numeric, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric, unsaved.saleslastyear)}::numeric, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric, unsaved.costytd)}::numeric, ${Fragment.encode(ScalaDbTypes.PgTypes.numeric, unsaved.costlastyear)}::numeric, ${Fragment.encode(PgTypes.uuid, unsaved.rowguid)}::uuid, ${Fragment.encode(PgTypes.timestamp, unsaved.modifieddate)}::timestamp)
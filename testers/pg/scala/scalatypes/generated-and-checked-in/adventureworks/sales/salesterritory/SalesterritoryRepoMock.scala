@@ -85,6 +85,15 @@ case class SalesterritoryRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[SalesterritoryRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.territoryid)) {
+        map.put(row.territoryid, row): @scala.annotation.nowarn
+        Some(row.territoryid)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: SalesterritoryRow)(using c: Connection): SalesterritoryRow = {
     map.put(unsaved.territoryid, unsaved): @scala.annotation.nowarn
     return unsaved
@@ -8,6 +8,7 @@ package testdb.all_scalar_types;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.SqlServerTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -41,17 +42,24 @@ public class AllScalarTypesRepoImpl implements AllScalarTypesRepo {
 
   @Override
   public Integer deleteByIds(AllScalarTypesId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(AllScalarTypesId.sqlServerType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(AllScalarTypesId.sqlServerType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from [all_scalar_types] where [id] in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from [all_scalar_types] where [id] in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -406,26 +414,33 @@ public class AllScalarTypesRepoImpl implements AllScalarTypesRepo {
 
   @Override
   public List<AllScalarTypesRow> selectByIds(AllScalarTypesId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(AllScalarTypesId.sqlServerType, id));
+    ArrayList<AllScalarTypesRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(AllScalarTypesId.sqlServerType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select [id], [col_tinyint], [col_smallint], [col_int], [col_bigint],"
+                          + " [col_decimal], [col_numeric], [col_money], [col_smallmoney],"
+                          + " [col_real], [col_float], [col_bit], [col_char], [col_varchar],"
+                          + " [col_varchar_max], [col_text], [col_nchar], [col_nvarchar],"
+                          + " [col_nvarchar_max], [col_ntext], [col_binary], [col_varbinary],"
+                          + " [col_varbinary_max], [col_image], [col_date], [col_time],"
+                          + " [col_datetime], [col_smalldatetime], [col_datetime2],"
+                          + " [col_datetimeoffset], [col_uniqueidentifier], [col_xml], [col_json],"
+                          + " [col_rowversion], [col_hierarchyid], [col_geography], [col_geometry],"
+                          + " [col_not_null] from [all_scalar_types] where [id] in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(AllScalarTypesRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select [id], [col_tinyint], [col_smallint], [col_int], [col_bigint],"
-                    + " [col_decimal], [col_numeric], [col_money], [col_smallmoney], [col_real],"
-                    + " [col_float], [col_bit], [col_char], [col_varchar], [col_varchar_max],"
-                    + " [col_text], [col_nchar], [col_nvarchar], [col_nvarchar_max], [col_ntext],"
-                    + " [col_binary], [col_varbinary], [col_varbinary_max], [col_image],"
-                    + " [col_date], [col_time], [col_datetime], [col_smalldatetime],"
-                    + " [col_datetime2], [col_datetimeoffset], [col_uniqueidentifier], [col_xml],"
-                    + " [col_json], [col_rowversion], [col_hierarchyid], [col_geography],"
-                    + " [col_geometry], [col_not_null] from [all_scalar_types] where [id] in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(AllScalarTypesRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -531,6 +546,52 @@ public class AllScalarTypesRepoImpl implements AllScalarTypesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<AllScalarTypesRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.colTinyint(),
+                    f.colSmallint(),
+                    f.colInt(),
+                    f.colBigint(),
+                    f.colDecimal(),
+                    f.colNumeric(),
+                    f.colMoney(),
+                    f.colSmallmoney(),
+                    f.colReal(),
+                    f.colFloat(),
+                    f.colBit(),
+                    f.colChar(),
+                    f.colVarchar(),
+                    f.colVarcharMax(),
+                    f.colText(),
+                    f.colNchar(),
+                    f.colNvarchar(),
+                    f.colNvarcharMax(),
+                    f.colNtext(),
+                    f.colBinary(),
+                    f.colVarbinary(),
+                    f.colVarbinaryMax(),
+                    f.colImage(),
+                    f.colDate(),
+                    f.colTime(),
+                    f.colDatetime(),
+                    f.colSmalldatetime(),
+                    f.colDatetime2(),
+                    f.colDatetimeoffset(),
+                    f.colUniqueidentifier(),
+                    f.colXml(),
+                    f.colJson(),
+                    f.colHierarchyid(),
+                    f.colGeography(),
+                    f.colGeometry(),
+                    f.colNotNull()),
+            c);
+  }
+
   @Override
   public AllScalarTypesRow upsert(AllScalarTypesRow unsaved, Connection c) {
     return interpolate(
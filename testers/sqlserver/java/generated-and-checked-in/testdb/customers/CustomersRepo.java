@@ -42,6 +42,8 @@ public interface CustomersRepo {
 
   Boolean update(CustomersRow row, Connection c);
 
+  Integer updateBatch(Iterator<CustomersRow> rows, Connection c);
+
   CustomersRow upsert(CustomersRow unsaved, Connection c);
 
   List<CustomersRow> upsertBatch(Iterator<CustomersRow> unsaved, Connection c);
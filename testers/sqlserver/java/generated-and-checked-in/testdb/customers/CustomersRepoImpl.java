@@ -8,6 +8,7 @@ package testdb.customers;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.SqlServerTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -41,17 +42,24 @@ public class CustomersRepoImpl implements CustomersRepo {
 
   @Override
   public Integer deleteByIds(CustomersId[] customerIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : customerIds) {
-      fragments.add(Fragment.encode(CustomersId.sqlServerType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(customerIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(CustomersId.sqlServerType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from [customers] where [customer_id] in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from [customers] where [customer_id] in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -139,19 +147,25 @@ public class CustomersRepoImpl implements CustomersRepo {
 
   @Override
   public List<CustomersRow> selectByIds(CustomersId[] customerIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : customerIds) {
-      fragments.add(Fragment.encode(CustomersId.sqlServerType, id));
+    ArrayList<CustomersRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(customerIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(CustomersId.sqlServerType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select [customer_id], [name], [email], [created_at] from [customers] where"
+                          + " [customer_id] in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(CustomersRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select [customer_id], [name], [email], [created_at] from [customers] where"
-                    + " [customer_id] in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(CustomersRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -200,6 +214,11 @@ public class CustomersRepoImpl implements CustomersRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<CustomersRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.name(), f.email(), f.createdAt()), c);
+  }
+
   @Override
   public CustomersRow upsert(CustomersRow unsaved, Connection c) {
     return interpolate(
@@ -8,6 +8,7 @@ package testdb.order_items;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.SqlServerTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -42,17 +43,24 @@ public class OrderItemsRepoImpl implements OrderItemsRepo {
 
   @Override
   public Integer deleteByIds(OrderItemsId[] orderItemIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : orderItemIds) {
-      fragments.add(Fragment.encode(OrderItemsId.sqlServerType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(orderItemIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(OrderItemsId.sqlServerType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from [order_items] where [order_item_id] in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from [order_items] where [order_item_id] in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -140,19 +148,25 @@ public class OrderItemsRepoImpl implements OrderItemsRepo {
 
   @Override
   public List<OrderItemsRow> selectByIds(OrderItemsId[] orderItemIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : orderItemIds) {
-      fragments.add(Fragment.encode(OrderItemsId.sqlServerType, id));
+    ArrayList<OrderItemsRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(orderItemIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(OrderItemsId.sqlServerType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select [order_item_id], [order_id], [product_id], [quantity], [price] from"
+                          + " [order_items] where [order_item_id] in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(OrderItemsRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select [order_item_id], [order_id], [product_id], [quantity], [price] from"
-                    + " [order_items] where [order_item_id] in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(OrderItemsRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -190,6 +204,12 @@ public class OrderItemsRepoImpl implements OrderItemsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<OrderItemsRow> rows, Connection c) {
+    return update()
+        .updateMany(rows, f -> List.of(f.orderId(), f.productId(), f.quantity(), f.price()), c);
+  }
+
   @Override
   public OrderItemsRow upsert(OrderItemsRow unsaved, Connection c) {
     return interpolate(
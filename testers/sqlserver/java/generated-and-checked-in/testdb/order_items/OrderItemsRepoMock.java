@@ -17,6 +17,7 @@ import dev.typr.foundations.dsl.UpdateParams;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -161,6 +162,23 @@ public record OrderItemsRepoMock(
   }
   ;
 
+  @Override
+  public Integer updateBatch(Iterator<OrderItemsRow> rows, Connection c) {
+    var updated = new HashSet<OrderItemsId>();
+    while (rows.hasNext()) {
+      var row = rows.next();
+      if (map.containsKey(row.orderItemId())) {
+        map.put(row.orderItemId(), row);
+        updated.add(row.orderItemId());
+        ;
+      }
+      ;
+    }
+    ;
+    return updated.size();
+  }
+  ;
+
   @Override
   public OrderItemsRow upsert(OrderItemsRow unsaved, Connection c) {
     map.put(unsaved.orderItemId(), unsaved);
@@ -39,6 +39,8 @@ public interface OrdersRepo {
 
   Boolean update(OrdersRow row, Connection c);
 
+  Integer updateBatch(Iterator<OrdersRow> rows, Connection c);
+
   OrdersRow upsert(OrdersRow unsaved, Connection c);
 
   List<OrdersRow> upsertBatch(Iterator<OrdersRow> unsaved, Connection c);
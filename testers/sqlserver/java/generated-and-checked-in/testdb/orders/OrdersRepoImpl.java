@@ -8,6 +8,7 @@ package testdb.orders;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.SqlServerTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -41,17 +42,24 @@ public class OrdersRepoImpl implements OrdersRepo {
 
   @Override
   public Integer deleteByIds(OrdersId[] orderIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : orderIds) {
-      fragments.add(Fragment.encode(OrdersId.sqlServerType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(orderIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(OrdersId.sqlServerType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from [orders] where [order_id] in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from [orders] where [order_id] in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -142,19 +150,25 @@ public class OrdersRepoImpl implements OrdersRepo {
 
   @Override
   public List<OrdersRow> selectByIds(OrdersId[] orderIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : orderIds) {
-      fragments.add(Fragment.encode(OrdersId.sqlServerType, id));
+    ArrayList<OrdersRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(orderIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(OrdersId.sqlServerType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select [order_id], [customer_id], [order_date], [total_amount] from [orders]"
+                          + " where [order_id] in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(OrdersRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select [order_id], [customer_id], [order_date], [total_amount] from [orders] where"
-                    + " [order_id] in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(OrdersRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -189,6 +203,12 @@ public class OrdersRepoImpl implements OrdersRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<OrdersRow> rows, Connection c) {
+    return update()
+        .updateMany(rows, f -> List.of(f.customerId(), f.orderDate(), f.totalAmount()), c);
+  }
+
   @Override
   public OrdersRow upsert(OrdersRow unsaved, Connection c) {
     return interpolate(
@@ -8,6 +8,7 @@ package testdb.precision_types;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.SqlServerTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -59,17 +60,24 @@ public class PrecisionTypesRepoImpl implements PrecisionTypesRepo {
 
   @Override
   public Integer deleteByIds(PrecisionTypesId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(PrecisionTypesId.sqlServerType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PrecisionTypesId.sqlServerType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from [precision_types] where [id] in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from [precision_types] where [id] in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -313,23 +321,29 @@ public class PrecisionTypesRepoImpl implements PrecisionTypesRepo {
 
   @Override
   public List<PrecisionTypesRow> selectByIds(PrecisionTypesId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(PrecisionTypesId.sqlServerType, id));
+    ArrayList<PrecisionTypesRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PrecisionTypesId.sqlServerType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select [id], [string10], [string20], [string50], [string100], [string255],"
+                          + " [nstring10], [nstring50], [nstring255], [char10], [nchar10],"
+                          + " [decimal5_2], [decimal10_2], [decimal18_4], [numeric8_2],"
+                          + " [numeric12_4], [binary10], [binary32], [time0], [time3], [time7],"
+                          + " [datetime2_0], [datetime2_3], [datetime2_7], [dto0], [dto3], [dto7]"
+                          + " from [precision_types] where [id] in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(PrecisionTypesRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select [id], [string10], [string20], [string50], [string100], [string255],"
-                    + " [nstring10], [nstring50], [nstring255], [char10], [nchar10], [decimal5_2],"
-                    + " [decimal10_2], [decimal18_4], [numeric8_2], [numeric12_4], [binary10],"
-                    + " [binary32], [time0], [time3], [time7], [datetime2_0], [datetime2_3],"
-                    + " [datetime2_7], [dto0], [dto3], [dto7] from [precision_types] where [id] in"
-                    + " ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(PrecisionTypesRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -415,6 +429,42 @@ public class PrecisionTypesRepoImpl implements PrecisionTypesRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<PrecisionTypesRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.string10(),
+                    f.string20(),
+                    f.string50(),
+                    f.string100(),
+                    f.string255(),
+                    f.nstring10(),
+                    f.nstring50(),
+                    f.nstring255(),
+                    f.char10(),
+                    f.nchar10(),
+                    f.decimal52(),
+                    f.decimal102(),
+                    f.decimal184(),
+                    f.numeric82(),
+                    f.numeric124(),
+                    f.binary10(),
+                    f.binary32(),
+                    f.time0(),
+                    f.time3(),
+                    f.time7(),
+                    f.datetime20(),
+                    f.datetime23(),
+                    f.datetime27(),
+                    f.dto0(),
+                    f.dto3(),
+                    f.dto7()),
+            c);
+  }
+
   @Override
   public PrecisionTypesRow upsert(PrecisionTypesRow unsaved, Connection c) {
     return interpolate(
@@ -8,6 +8,7 @@ package testdb.precision_types_null;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.SqlServerTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -60,17 +61,24 @@ public class PrecisionTypesNullRepoImpl implements PrecisionTypesNullRepo {
 
   @Override
   public Integer deleteByIds(PrecisionTypesNullId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(PrecisionTypesNullId.sqlServerType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PrecisionTypesNullId.sqlServerType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from [precision_types_null] where [id] in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from [precision_types_null] where [id] in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -335,23 +343,29 @@ public class PrecisionTypesNullRepoImpl implements PrecisionTypesNullRepo {
 
   @Override
   public List<PrecisionTypesNullRow> selectByIds(PrecisionTypesNullId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(PrecisionTypesNullId.sqlServerType, id));
+    ArrayList<PrecisionTypesNullRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(PrecisionTypesNullId.sqlServerType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select [id], [string10], [string20], [string50], [string100], [string255],"
+                          + " [nstring10], [nstring50], [nstring255], [char10], [nchar10],"
+                          + " [decimal5_2], [decimal10_2], [decimal18_4], [numeric8_2],"
+                          + " [numeric12_4], [binary10], [binary32], [time0], [time3], [time7],"
+                          + " [datetime2_0], [datetime2_3], [datetime2_7], [dto0], [dto3], [dto7]"
+                          + " from [precision_types_null] where [id] in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(PrecisionTypesNullRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select [id], [string10], [string20], [string50], [string100], [string255],"
-                    + " [nstring10], [nstring50], [nstring255], [char10], [nchar10], [decimal5_2],"
-                    + " [decimal10_2], [decimal18_4], [numeric8_2], [numeric12_4], [binary10],"
-                    + " [binary32], [time0], [time3], [time7], [datetime2_0], [datetime2_3],"
-                    + " [datetime2_7], [dto0], [dto3], [dto7] from [precision_types_null] where"
-                    + " [id] in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(PrecisionTypesNullRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -437,6 +451,42 @@ public class PrecisionTypesNullRepoImpl implements PrecisionTypesNullRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<PrecisionTypesNullRow> rows, Connection c) {
+    return update()
+        .updateMany(
+            rows,
+            f ->
+                List.of(
+                    f.string10(),
+                    f.string20(),
+                    f.string50(),
+                    f.string100(),
+                    f.string255(),
+                    f.nstring10(),
+                    f.nstring50(),
+                    f.nstring255(),
+                    f.char10(),
+                    f.nchar10(),
+                    f.decimal52(),
+                    f.decimal102(),
+                    f.decimal184(),
+                    f.numeric82(),
+                    f.numeric124(),
+                    f.binary10(),
+                    f.binary32(),
+                    f.time0(),
+                    f.time3(),
+                    f.time7(),
+                    f.datetime20(),
+                    f.datetime23(),
+                    f.datetime27(),
+                    f.dto0(),
+                    f.dto3(),
+                    f.dto7()),
+            c);
+  }
+
   @Override
   public PrecisionTypesNullRow upsert(PrecisionTypesNullRow unsaved, Connection c) {
     return interpolate(
@@ -8,6 +8,7 @@ package testdb.products;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.SqlServerTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -40,17 +41,24 @@ public class ProductsRepoImpl implements ProductsRepo {
 
   @Override
   public Integer deleteByIds(ProductsId[] productIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : productIds) {
-      fragments.add(Fragment.encode(ProductsId.sqlServerType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(productIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(ProductsId.sqlServerType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from [products] where [product_id] in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from [products] where [product_id] in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -132,19 +140,25 @@ public class ProductsRepoImpl implements ProductsRepo {
 
   @Override
   public List<ProductsRow> selectByIds(ProductsId[] productIds, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : productIds) {
-      fragments.add(Fragment.encode(ProductsId.sqlServerType, id));
+    ArrayList<ProductsRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(productIds)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(ProductsId.sqlServerType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select [product_id], [name], [price], [description] from [products] where"
+                          + " [product_id] in ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(ProductsRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select [product_id], [name], [price], [description] from [products] where"
-                    + " [product_id] in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(ProductsRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -179,6 +193,11 @@ public class ProductsRepoImpl implements ProductsRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<ProductsRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.name(), f.price(), f.description()), c);
+  }
+
   @Override
   public ProductsRow upsert(ProductsRow unsaved, Connection c) {
     return interpolate(
@@ -39,6 +39,8 @@ public interface TestConnectionRepo {
 
   Boolean update(TestConnectionRow row, Connection c);
 
+  Integer updateBatch(Iterator<TestConnectionRow> rows, Connection c);
+
   TestConnectionRow upsert(TestConnectionRow unsaved, Connection c);
 
   List<TestConnectionRow> upsertBatch(Iterator<TestConnectionRow> unsaved, Connection c);
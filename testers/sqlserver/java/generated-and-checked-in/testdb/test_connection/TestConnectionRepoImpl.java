@@ -8,6 +8,7 @@ package testdb.test_connection;
 import static dev.typr.foundations.Fragment.interpolate;
 
 import dev.typr.foundations.Fragment;
+import dev.typr.foundations.InList;
 import dev.typr.foundations.SqlServerTypes;
 import dev.typr.foundations.dsl.DeleteBuilder;
 import dev.typr.foundations.dsl.Dialect;
@@ -40,17 +41,24 @@ public class TestConnectionRepoImpl implements TestConnectionRepo {
 
   @Override
   public Integer deleteByIds(TestConnectionId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(TestConnectionId.sqlServerType, id));
+    var count = 0;
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(TestConnectionId.sqlServerType, id));
+      }
+      ;
+      count =
+          count
+              + Fragment.interpolate(
+                      Fragment.lit("delete from [test_connection] where [id] in ("),
+                      Fragment.comma(fragments),
+                      Fragment.lit(")"))
+                  .update()
+                  .runUnchecked(c);
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit("delete from [test_connection] where [id] in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .update()
-        .runUnchecked(c);
+    return count;
   }
 
   @Override
@@ -130,18 +138,25 @@ public class TestConnectionRepoImpl implements TestConnectionRepo {
 
   @Override
   public List<TestConnectionRow> selectByIds(TestConnectionId[] ids, Connection c) {
-    ArrayList<Fragment> fragments = new ArrayList<>();
-    for (var id : ids) {
-      fragments.add(Fragment.encode(TestConnectionId.sqlServerType, id));
+    ArrayList<TestConnectionRow> result = new ArrayList<>();
+    for (var chunk : InList.chunks(ids)) {
+      ArrayList<Fragment> fragments = new ArrayList<>();
+      for (var id : chunk) {
+        fragments.add(Fragment.encode(TestConnectionId.sqlServerType, id));
+      }
+      ;
+      result.addAll(
+          Fragment.interpolate(
+                  Fragment.lit(
+                      "select [id], [message], [created_at] from [test_connection] where [id] in"
+                          + " ("),
+                  Fragment.comma(fragments),
+                  Fragment.lit(")"))
+              .query(TestConnectionRow._rowParser.all())
+              .runUnchecked(c));
     }
     ;
-    return Fragment.interpolate(
-            Fragment.lit(
-                "select [id], [message], [created_at] from [test_connection] where [id] in ("),
-            Fragment.comma(fragments),
-            Fragment.lit(")"))
-        .query(TestConnectionRow._rowParser.all())
-        .runUnchecked(c);
+    return result;
   }
 
   @Override
@@ -179,6 +194,11 @@ public class TestConnectionRepoImpl implements TestConnectionRepo {
         > 0;
   }
 
+  @Override
+  public Integer updateBatch(Iterator<TestConnectionRow> rows, Connection c) {
+    return update().updateMany(rows, f -> List.of(f.message(), f.createdAt()), c);
+  }
+
   @Override
   public TestConnectionRow upsert(TestConnectionRow unsaved, Connection c) {
     return interpolate(
@@ -4,6 +4,7 @@ import static org.junit.Assert.*;
 
 import dev.typr.foundations.dsl.Bijection;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Random;
 import org.junit.Test;
 import testdb.customers.*;
@@ -221,4 +222,33 @@ public class DSLTest {
           assertEquals(2, results.size());
         });
   }
+
+  /**
+   * Test updateBatch against the database, where it writes the rows with UPDATE ... FROM ... JOIN
+   * (VALUES ...): more rows than one statement takes, a row given twice, and a row which does not
+   * exist.
+   */
+  @Test
+  public void testUpdateBatchRoundTrip() {
+    SqlServerTestHelper.run(
+        c -> {
+          var updated = new ArrayList<CustomersRow>();
+          for (int i = 0; i < 1005; i++) {
+            updated.add(testInsert.Customers().insert(c).withName("Batch " + i));
+          }
+          // the first row again, in another statement than its first occurrence
+          var rows = new ArrayList<>(updated);
+          rows.add(updated.get(0).withName("Batch again"));
+          rows.add(updated.get(1).withCustomerId(new CustomersId(-1)));
+
+          assertEquals(Integer.valueOf(1005), customersRepo.updateBatch(rows.iterator(), c));
+          var ids = updated.stream().map(CustomersRow::customerId).toArray(CustomersId[]::new);
+          var byId = customersRepo.selectByIdsTracked(ids, c);
+          assertEquals("Batch again", byId.get(ids[0]).name());
+          for (int i = 1; i < ids.length; i++) {
+            assertEquals("Batch " + i, byId.get(ids[i]).name());
+          }
+          assertFalse(customersRepo.selectById(new CustomersId(-1), c).isPresent());
+        });
+  }
 }
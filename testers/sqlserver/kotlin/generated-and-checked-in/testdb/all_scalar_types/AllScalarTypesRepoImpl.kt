@@ -5,6 +5,7 @@
  */
 package testdb.all_scalar_types
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.SqlServerTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -32,9 +33,13 @@ class AllScalarTypesRepoImpl() : AllScalarTypesRepo {
     ids: Array<AllScalarTypesId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(AllScalarTypesId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from [all_scalar_types] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(AllScalarTypesId.sqlServerType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from [all_scalar_types] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -141,9 +146,13 @@ class AllScalarTypesRepoImpl() : AllScalarTypesRepo {
     ids: Array<AllScalarTypesId>,
     c: Connection
   ): List<AllScalarTypesRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(AllScalarTypesId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("select [id], [col_tinyint], [col_smallint], [col_int], [col_bigint], [col_decimal], [col_numeric], [col_money], [col_smallmoney], [col_real], [col_float], [col_bit], [col_char], [col_varchar], [col_varchar_max], [col_text], [col_nchar], [col_nvarchar], [col_nvarchar_max], [col_ntext], [col_binary], [col_varbinary], [col_varbinary_max], [col_image], [col_date], [col_time], [col_datetime], [col_smalldatetime], [col_datetime2], [col_datetimeoffset], [col_uniqueidentifier], [col_xml], [col_json], [col_rowversion], [col_hierarchyid], [col_geography], [col_geometry], [col_not_null] from [all_scalar_types] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(AllScalarTypesRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<AllScalarTypesRow> = ArrayList()
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(AllScalarTypesId.sqlServerType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select [id], [col_tinyint], [col_smallint], [col_int], [col_bigint], [col_decimal], [col_numeric], [col_money], [col_smallmoney], [col_real], [col_float], [col_bit], [col_char], [col_varchar], [col_varchar_max], [col_text], [col_nchar], [col_nvarchar], [col_nvarchar_max], [col_ntext], [col_binary], [col_varbinary], [col_varbinary_max], [col_image], [col_date], [col_time], [col_datetime], [col_smalldatetime], [col_datetime2], [col_datetimeoffset], [col_uniqueidentifier], [col_xml], [col_json], [col_rowversion], [col_hierarchyid], [col_geography], [col_geometry], [col_not_null] from [all_scalar_types] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(AllScalarTypesRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -165,6 +174,11 @@ class AllScalarTypesRepoImpl() : AllScalarTypesRepo {
     return Fragment.interpolate(Fragment.lit("update [all_scalar_types]\nset [col_tinyint] = "), Fragment.encode(SqlServerTypes.tinyint.nullable(), row.colTinyint), Fragment.lit(",\n[col_smallint] = "), Fragment.encode(KotlinDbTypes.SqlServerTypes.smallint.nullable(), row.colSmallint), Fragment.lit(",\n[col_int] = "), Fragment.encode(KotlinDbTypes.SqlServerTypes.int_.nullable(), row.colInt), Fragment.lit(",\n[col_bigint] = "), Fragment.encode(KotlinDbTypes.SqlServerTypes.bigint.nullable(), row.colBigint), Fragment.lit(",\n[col_decimal] = "), Fragment.encode(KotlinDbTypes.SqlServerTypes.decimal.nullable(), row.colDecimal), Fragment.lit(",\n[col_numeric] = "), Fragment.encode(KotlinDbTypes.SqlServerTypes.decimal.nullable(), row.colNumeric), Fragment.lit(",\n[col_money] = "), Fragment.encode(KotlinDbTypes.SqlServerTypes.money.nullable(), row.colMoney), Fragment.lit(",\n[col_smallmoney] = "), Fragment.encode(KotlinDbTypes.SqlServerTypes.smallmoney.nullable(), row.colSmallmoney), Fragment.lit(",\n[col_real] = "), Fragment.encode(KotlinDbTypes.SqlServerTypes.real.nullable(), row.colReal), Fragment.lit(",\n[col_float] = "), Fragment.encode(KotlinDbTypes.SqlServerTypes.float_.nullable(), row.colFloat), Fragment.lit(",\n[col_bit] = "), Fragment.encode(KotlinDbTypes.SqlServerTypes.bit.nullable(), row.colBit), Fragment.lit(",\n[col_char] = "), Fragment.encode(SqlServerTypes.char_.nullable(), row.colChar), Fragment.lit(",\n[col_varchar] = "), Fragment.encode(SqlServerTypes.varchar.nullable(), row.colVarchar), Fragment.lit(",\n[col_varchar_max] = "), Fragment.encode(SqlServerTypes.varchar.nullable(), row.colVarcharMax), Fragment.lit(",\n[col_text] = "), Fragment.encode(SqlServerTypes.text.nullable(), row.colText), Fragment.lit(",\n[col_nchar] = "), Fragment.encode(SqlServerTypes.nchar.nullable(), row.colNchar), Fragment.lit(",\n[col_nvarchar] = "), Fragment.encode(SqlServerTypes.nvarchar.nullable(), row.colNvarchar), Fragment.lit(",\n[col_nvarchar_max] = "), Fragment.encode(SqlServerTypes.nvarchar.nullable(), row.colNvarcharMax), Fragment.lit(",\n[col_ntext] = "), Fragment.encode(SqlServerTypes.ntext.nullable(), row.colNtext), Fragment.lit(",\n[col_binary] = "), Fragment.encode(SqlServerTypes.binary.nullable(), row.colBinary), Fragment.lit(",\n[col_varbinary] = "), Fragment.encode(SqlServerTypes.varbinary.nullable(), row.colVarbinary), Fragment.lit(",\n[col_varbinary_max] = "), Fragment.encode(SqlServerTypes.varbinary.nullable(), row.colVarbinaryMax), Fragment.lit(",\n[col_image] = "), Fragment.encode(SqlServerTypes.image.nullable(), row.colImage), Fragment.lit(",\n[col_date] = "), Fragment.encode(SqlServerTypes.date.nullable(), row.colDate), Fragment.lit(",\n[col_time] = "), Fragment.encode(SqlServerTypes.time.nullable(), row.colTime), Fragment.lit(",\n[col_datetime] = "), Fragment.encode(SqlServerTypes.datetime.nullable(), row.colDatetime), Fragment.lit(",\n[col_smalldatetime] = "), Fragment.encode(SqlServerTypes.smalldatetime.nullable(), row.colSmalldatetime), Fragment.lit(",\n[col_datetime2] = "), Fragment.encode(SqlServerTypes.datetime2.nullable(), row.colDatetime2), Fragment.lit(",\n[col_datetimeoffset] = "), Fragment.encode(SqlServerTypes.datetimeoffset.nullable(), row.colDatetimeoffset), Fragment.lit(",\n[col_uniqueidentifier] = "), Fragment.encode(SqlServerTypes.uniqueidentifier.nullable(), row.colUniqueidentifier), Fragment.lit(",\n[col_xml] = "), Fragment.encode(SqlServerTypes.xml.nullable(), row.colXml), Fragment.lit(",\n[col_json] = "), Fragment.encode(SqlServerTypes.json.nullable(), row.colJson), Fragment.lit(",\n[col_hierarchyid] = "), Fragment.encode(SqlServerTypes.hierarchyid.nullable(), row.colHierarchyid), Fragment.lit(",\n[col_geography] = "), Fragment.encode(SqlServerTypes.geography.nullable(), row.colGeography), Fragment.lit(",\n[col_geometry] = "), Fragment.encode(SqlServerTypes.geometry.nullable(), row.colGeometry), Fragment.lit(",\n[col_not_null] = "), Fragment.encode(SqlServerTypes.nvarchar, row.colNotNull), Fragment.lit("\nwhere [id] = "), Fragment.encode(AllScalarTypesId.sqlServerType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<AllScalarTypesRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.colTinyint(), f.colSmallint(), f.colInt(), f.colBigint(), f.colDecimal(), f.colNumeric(), f.colMoney(), f.colSmallmoney(), f.colReal(), f.colFloat(), f.colBit(), f.colChar(), f.colVarchar(), f.colVarcharMax(), f.colText(), f.colNchar(), f.colNvarchar(), f.colNvarcharMax(), f.colNtext(), f.colBinary(), f.colVarbinary(), f.colVarbinaryMax(), f.colImage(), f.colDate(), f.colTime(), f.colDatetime(), f.colSmalldatetime(), f.colDatetime2(), f.colDatetimeoffset(), f.colUniqueidentifier(), f.colXml(), f.colJson(), f.colHierarchyid(), f.colGeography(), f.colGeometry(), f.colNotNull()) }, c)
+
   override fun upsert(
     unsaved: AllScalarTypesRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.customers
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.SqlServerTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -32,9 +33,13 @@ class CustomersRepoImpl() : CustomersRepo {
     customerIds: Array<CustomersId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in customerIds) { fragments.add(Fragment.encode(CustomersId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from [customers] where [customer_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(customerIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(CustomersId.sqlServerType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from [customers] where [customer_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -75,9 +80,13 @@ class CustomersRepoImpl() : CustomersRepo {
     customerIds: Array<CustomersId>,
     c: Connection
   ): List<CustomersRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in customerIds) { fragments.add(Fragment.encode(CustomersId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("select [customer_id], [name], [email], [created_at] from [customers] where [customer_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(CustomersRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<CustomersRow> = ArrayList()
+    for (chunk in InList.chunks(customerIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(CustomersId.sqlServerType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select [customer_id], [name], [email], [created_at] from [customers] where [customer_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(CustomersRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -104,6 +113,11 @@ class CustomersRepoImpl() : CustomersRepo {
     return Fragment.interpolate(Fragment.lit("update [customers]\nset [name] = "), Fragment.encode(SqlServerTypes.nvarchar, row.name), Fragment.lit(",\n[email] = "), Fragment.encode(Email.sqlServerType, row.email), Fragment.lit(",\n[created_at] = "), Fragment.encode(SqlServerTypes.datetime2.nullable(), row.createdAt), Fragment.lit("\nwhere [customer_id] = "), Fragment.encode(CustomersId.sqlServerType, customerId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<CustomersRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name(), f.email(), f.createdAt()) }, c)
+
   override fun upsert(
     unsaved: CustomersRow,
     c: Connection
@@ -17,6 +17,7 @@ import dev.typr.foundations.kotlin.UpdateParams
 import java.lang.RuntimeException
 import java.sql.Connection
 import java.util.ArrayList
+import java.util.HashSet
 import kotlin.collections.Iterator
 import kotlin.collections.List
 import kotlin.collections.Map
@@ -109,6 +110,21 @@ data class CustomersRepoMock(
     return shouldUpdate
   }
 
+  override fun updateBatch(
+    rows: Iterator<CustomersRow>,
+    c: Connection
+  ): Int {
+    val updated = HashSet<CustomersId>()
+    while (rows.hasNext()) {
+      val row = rows.next()
+      if (map.containsKey(row.customerId)) {
+        map[row.customerId] = row
+        updated.add(row.customerId)
+      }
+    }
+    return updated.size
+  }
+
   override fun upsert(
     unsaved: CustomersRow,
     c: Connection
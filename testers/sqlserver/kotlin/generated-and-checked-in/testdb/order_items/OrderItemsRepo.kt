@@ -62,6 +62,11 @@ interface OrderItemsRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<OrderItemsRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: OrderItemsRow,
     c: Connection
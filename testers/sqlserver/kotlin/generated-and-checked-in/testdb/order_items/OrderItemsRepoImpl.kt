@@ -5,6 +5,7 @@
  */
 package testdb.order_items
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
 import dev.typr.foundations.kotlin.Fragment
@@ -32,9 +33,13 @@ class OrderItemsRepoImpl() : OrderItemsRepo {
     orderItemIds: Array<OrderItemsId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in orderItemIds) { fragments.add(Fragment.encode(OrderItemsId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from [order_items] where [order_item_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(orderItemIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(OrderItemsId.sqlServerType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from [order_items] where [order_item_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -74,9 +79,13 @@ class OrderItemsRepoImpl() : OrderItemsRepo {
     orderItemIds: Array<OrderItemsId>,
     c: Connection
   ): List<OrderItemsRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in orderItemIds) { fragments.add(Fragment.encode(OrderItemsId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("select [order_item_id], [order_id], [product_id], [quantity], [price] from [order_items] where [order_item_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(OrderItemsRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<OrderItemsRow> = ArrayList()
+    for (chunk in InList.chunks(orderItemIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(OrderItemsId.sqlServerType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select [order_item_id], [order_id], [product_id], [quantity], [price] from [order_items] where [order_item_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(OrderItemsRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -98,6 +107,11 @@ class OrderItemsRepoImpl() : OrderItemsRepo {
     return Fragment.interpolate(Fragment.lit("update [order_items]\nset [order_id] = "), Fragment.encode(OrdersId.sqlServerType, row.orderId), Fragment.lit(",\n[product_id] = "), Fragment.encode(ProductsId.sqlServerType, row.productId), Fragment.lit(",\n[quantity] = "), Fragment.encode(KotlinDbTypes.SqlServerTypes.int_, row.quantity), Fragment.lit(",\n[price] = "), Fragment.encode(KotlinDbTypes.SqlServerTypes.money, row.price), Fragment.lit("\nwhere [order_item_id] = "), Fragment.encode(OrderItemsId.sqlServerType, orderItemId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<OrderItemsRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.orderId(), f.productId(), f.quantity(), f.price()) }, c)
+
   override fun upsert(
     unsaved: OrderItemsRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.orders
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.SqlServerTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -33,9 +34,13 @@ class OrdersRepoImpl() : OrdersRepo {
     orderIds: Array<OrdersId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in orderIds) { fragments.add(Fragment.encode(OrdersId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from [orders] where [order_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(orderIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(OrdersId.sqlServerType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from [orders] where [order_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -76,9 +81,13 @@ class OrdersRepoImpl() : OrdersRepo {
     orderIds: Array<OrdersId>,
     c: Connection
   ): List<OrdersRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in orderIds) { fragments.add(Fragment.encode(OrdersId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("select [order_id], [customer_id], [order_date], [total_amount] from [orders] where [order_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(OrdersRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<OrdersRow> = ArrayList()
+    for (chunk in InList.chunks(orderIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(OrdersId.sqlServerType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select [order_id], [customer_id], [order_date], [total_amount] from [orders] where [order_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(OrdersRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -100,6 +109,11 @@ class OrdersRepoImpl() : OrdersRepo {
     return Fragment.interpolate(Fragment.lit("update [orders]\nset [customer_id] = "), Fragment.encode(CustomersId.sqlServerType, row.customerId), Fragment.lit(",\n[order_date] = "), Fragment.encode(SqlServerTypes.datetime2.nullable(), row.orderDate), Fragment.lit(",\n[total_amount] = "), Fragment.encode(KotlinDbTypes.SqlServerTypes.money, row.totalAmount), Fragment.lit("\nwhere [order_id] = "), Fragment.encode(OrdersId.sqlServerType, orderId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<OrdersRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.customerId(), f.orderDate(), f.totalAmount()) }, c)
+
   override fun upsert(
     unsaved: OrdersRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.precision_types
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.SqlServerTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -49,9 +50,13 @@ class PrecisionTypesRepoImpl() : PrecisionTypesRepo {
     ids: Array<PrecisionTypesId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(PrecisionTypesId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from [precision_types] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(PrecisionTypesId.sqlServerType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from [precision_types] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -135,9 +140,13 @@ class PrecisionTypesRepoImpl() : PrecisionTypesRepo {
     ids: Array<PrecisionTypesId>,
     c: Connection
   ): List<PrecisionTypesRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(PrecisionTypesId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("select [id], [string10], [string20], [string50], [string100], [string255], [nstring10], [nstring50], [nstring255], [char10], [nchar10], [decimal5_2], [decimal10_2], [decimal18_4], [numeric8_2], [numeric12_4], [binary10], [binary32], [time0], [time3], [time7], [datetime2_0], [datetime2_3], [datetime2_7], [dto0], [dto3], [dto7] from [precision_types] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(PrecisionTypesRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<PrecisionTypesRow> = ArrayList()
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(PrecisionTypesId.sqlServerType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select [id], [string10], [string20], [string50], [string100], [string255], [nstring10], [nstring50], [nstring255], [char10], [nchar10], [decimal5_2], [decimal10_2], [decimal18_4], [numeric8_2], [numeric12_4], [binary10], [binary32], [time0], [time3], [time7], [datetime2_0], [datetime2_3], [datetime2_7], [dto0], [dto3], [dto7] from [precision_types] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(PrecisionTypesRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -159,6 +168,11 @@ class PrecisionTypesRepoImpl() : PrecisionTypesRepo {
     return Fragment.interpolate(Fragment.lit("update [precision_types]\nset [string10] = "), Fragment.encode(String10.sqlServerType, row.string10), Fragment.lit(",\n[string20] = "), Fragment.encode(String20.sqlServerType, row.string20), Fragment.lit(",\n[string50] = "), Fragment.encode(String50.sqlServerType, row.string50), Fragment.lit(",\n[string100] = "), Fragment.encode(String100.sqlServerType, row.string100), Fragment.lit(",\n[string255] = "), Fragment.encode(String255.sqlServerType, row.string255), Fragment.lit(",\n[nstring10] = "), Fragment.encode(String10.sqlServerType, row.nstring10), Fragment.lit(",\n[nstring50] = "), Fragment.encode(String50.sqlServerType, row.nstring50), Fragment.lit(",\n[nstring255] = "), Fragment.encode(String255.sqlServerType, row.nstring255), Fragment.lit(",\n[char10] = "), Fragment.encode(PaddedString10.sqlServerType, row.char10), Fragment.lit(",\n[nchar10] = "), Fragment.encode(PaddedString10.sqlServerType, row.nchar10), Fragment.lit(",\n[decimal5_2] = "), Fragment.encode(Decimal5_2.sqlServerType, row.decimal52), Fragment.lit(",\n[decimal10_2] = "), Fragment.encode(Decimal10_2.sqlServerType, row.decimal102), Fragment.lit(",\n[decimal18_4] = "), Fragment.encode(Decimal18_4.sqlServerType, row.decimal184), Fragment.lit(",\n[numeric8_2] = "), Fragment.encode(Decimal8_2.sqlServerType, row.numeric82), Fragment.lit(",\n[numeric12_4] = "), Fragment.encode(Decimal12_4.sqlServerType, row.numeric124), Fragment.lit(",\n[binary10] = "), Fragment.encode(Binary10.sqlServerType, row.binary10), Fragment.lit(",\n[binary32] = "), Fragment.encode(Binary32.sqlServerType, row.binary32), Fragment.lit(",\n[time0] = "), Fragment.encode(SqlServerTypes.time, row.time0), Fragment.lit(",\n[time3] = "), Fragment.encode(LocalTime3.sqlServerType, row.time3), Fragment.lit(",\n[time7] = "), Fragment.encode(LocalTime7.sqlServerType, row.time7), Fragment.lit(",\n[datetime2_0] = "), Fragment.encode(SqlServerTypes.datetime2, row.datetime20), Fragment.lit(",\n[datetime2_3] = "), Fragment.encode(LocalDateTime3.sqlServerType, row.datetime23), Fragment.lit(",\n[datetime2_7] = "), Fragment.encode(LocalDateTime7.sqlServerType, row.datetime27), Fragment.lit(",\n[dto0] = "), Fragment.encode(SqlServerTypes.datetimeoffset, row.dto0), Fragment.lit(",\n[dto3] = "), Fragment.encode(OffsetDateTime3.sqlServerType, row.dto3), Fragment.lit(",\n[dto7] = "), Fragment.encode(OffsetDateTime7.sqlServerType, row.dto7), Fragment.lit("\nwhere [id] = "), Fragment.encode(PrecisionTypesId.sqlServerType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<PrecisionTypesRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.string10(), f.string20(), f.string50(), f.string100(), f.string255(), f.nstring10(), f.nstring50(), f.nstring255(), f.char10(), f.nchar10(), f.decimal52(), f.decimal102(), f.decimal184(), f.numeric82(), f.numeric124(), f.binary10(), f.binary32(), f.time0(), f.time3(), f.time7(), f.datetime20(), f.datetime23(), f.datetime27(), f.dto0(), f.dto3(), f.dto7()) }, c)
+
   override fun upsert(
     unsaved: PrecisionTypesRow,
     c: Connection
@@ -5,6 +5,7 @@
  */
 package testdb.precision_types_null
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.SqlServerTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -50,9 +51,13 @@ class PrecisionTypesNullRepoImpl() : PrecisionTypesNullRepo {
     ids: Array<PrecisionTypesNullId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(PrecisionTypesNullId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from [precision_types_null] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(PrecisionTypesNullId.sqlServerType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from [precision_types_null] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -136,9 +141,13 @@ class PrecisionTypesNullRepoImpl() : PrecisionTypesNullRepo {
     ids: Array<PrecisionTypesNullId>,
     c: Connection
   ): List<PrecisionTypesNullRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(PrecisionTypesNullId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("select [id], [string10], [string20], [string50], [string100], [string255], [nstring10], [nstring50], [nstring255], [char10], [nchar10], [decimal5_2], [decimal10_2], [decimal18_4], [numeric8_2], [numeric12_4], [binary10], [binary32], [time0], [time3], [time7], [datetime2_0], [datetime2_3], [datetime2_7], [dto0], [dto3], [dto7] from [precision_types_null] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(PrecisionTypesNullRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<PrecisionTypesNullRow> = ArrayList()
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(PrecisionTypesNullId.sqlServerType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select [id], [string10], [string20], [string50], [string100], [string255], [nstring10], [nstring50], [nstring255], [char10], [nchar10], [decimal5_2], [decimal10_2], [decimal18_4], [numeric8_2], [numeric12_4], [binary10], [binary32], [time0], [time3], [time7], [datetime2_0], [datetime2_3], [datetime2_7], [dto0], [dto3], [dto7] from [precision_types_null] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(PrecisionTypesNullRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -160,6 +169,11 @@ class PrecisionTypesNullRepoImpl() : PrecisionTypesNullRepo {
     return Fragment.interpolate(Fragment.lit("update [precision_types_null]\nset [string10] = "), Fragment.encode(String10.sqlServerType.nullable(), row.string10), Fragment.lit(",\n[string20] = "), Fragment.encode(String20.sqlServerType.nullable(), row.string20), Fragment.lit(",\n[string50] = "), Fragment.encode(String50.sqlServerType.nullable(), row.string50), Fragment.lit(",\n[string100] = "), Fragment.encode(String100.sqlServerType.nullable(), row.string100), Fragment.lit(",\n[string255] = "), Fragment.encode(String255.sqlServerType.nullable(), row.string255), Fragment.lit(",\n[nstring10] = "), Fragment.encode(String10.sqlServerType.nullable(), row.nstring10), Fragment.lit(",\n[nstring50] = "), Fragment.encode(String50.sqlServerType.nullable(), row.nstring50), Fragment.lit(",\n[nstring255] = "), Fragment.encode(String255.sqlServerType.nullable(), row.nstring255), Fragment.lit(",\n[char10] = "), Fragment.encode(PaddedString10.sqlServerType.nullable(), row.char10), Fragment.lit(",\n[nchar10] = "), Fragment.encode(PaddedString10.sqlServerType.nullable(), row.nchar10), Fragment.lit(",\n[decimal5_2] = "), Fragment.encode(Decimal5_2.sqlServerType.nullable(), row.decimal52), Fragment.lit(",\n[decimal10_2] = "), Fragment.encode(Decimal10_2.sqlServerType.nullable(), row.decimal102), Fragment.lit(",\n[decimal18_4] = "), Fragment.encode(Decimal18_4.sqlServerType.nullable(), row.decimal184), Fragment.lit(",\n[numeric8_2] = "), Fragment.encode(Decimal8_2.sqlServerType.nullable(), row.numeric82), Fragment.lit(",\n[numeric12_4] = "), Fragment.encode(Decimal12_4.sqlServerType.nullable(), row.numeric124), Fragment.lit(",\n[binary10] = "), Fragment.encode(Binary10.sqlServerType.nullable(), row.binary10), Fragment.lit(",\n[binary32] = "), Fragment.encode(Binary32.sqlServerType.nullable(), row.binary32), Fragment.lit(",\n[time0] = "), Fragment.encode(SqlServerTypes.time.nullable(), row.time0), Fragment.lit(",\n[time3] = "), Fragment.encode(LocalTime3.sqlServerType.nullable(), row.time3), Fragment.lit(",\n[time7] = "), Fragment.encode(LocalTime7.sqlServerType.nullable(), row.time7), Fragment.lit(",\n[datetime2_0] = "), Fragment.encode(SqlServerTypes.datetime2.nullable(), row.datetime20), Fragment.lit(",\n[datetime2_3] = "), Fragment.encode(LocalDateTime3.sqlServerType.nullable(), row.datetime23), Fragment.lit(",\n[datetime2_7] = "), Fragment.encode(LocalDateTime7.sqlServerType.nullable(), row.datetime27), Fragment.lit(",\n[dto0] = "), Fragment.encode(SqlServerTypes.datetimeoffset.nullable(), row.dto0), Fragment.lit(",\n[dto3] = "), Fragment.encode(OffsetDateTime3.sqlServerType.nullable(), row.dto3), Fragment.lit(",\n[dto7] = "), Fragment.encode(OffsetDateTime7.sqlServerType.nullable(), row.dto7), Fragment.lit("\nwhere [id] = "), Fragment.encode(PrecisionTypesNullId.sqlServerType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<PrecisionTypesNullRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.string10(), f.string20(), f.string50(), f.string100(), f.string255(), f.nstring10(), f.nstring50(), f.nstring255(), f.char10(), f.nchar10(), f.decimal52(), f.decimal102(), f.decimal184(), f.numeric82(), f.numeric124(), f.binary10(), f.binary32(), f.time0(), f.time3(), f.time7(), f.datetime20(), f.datetime23(), f.datetime27(), f.dto0(), f.dto3(), f.dto7()) }, c)
+
   override fun upsert(
     unsaved: PrecisionTypesNullRow,
     c: Connection
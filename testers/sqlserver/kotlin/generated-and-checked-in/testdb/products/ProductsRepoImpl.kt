@@ -5,6 +5,7 @@
  */
 package testdb.products
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.SqlServerTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -32,9 +33,13 @@ class ProductsRepoImpl() : ProductsRepo {
     productIds: Array<ProductsId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in productIds) { fragments.add(Fragment.encode(ProductsId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from [products] where [product_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(productIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(ProductsId.sqlServerType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from [products] where [product_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -72,9 +77,13 @@ class ProductsRepoImpl() : ProductsRepo {
     productIds: Array<ProductsId>,
     c: Connection
   ): List<ProductsRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in productIds) { fragments.add(Fragment.encode(ProductsId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("select [product_id], [name], [price], [description] from [products] where [product_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ProductsRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<ProductsRow> = ArrayList()
+    for (chunk in InList.chunks(productIds)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(ProductsId.sqlServerType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select [product_id], [name], [price], [description] from [products] where [product_id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(ProductsRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -96,6 +105,11 @@ class ProductsRepoImpl() : ProductsRepo {
     return Fragment.interpolate(Fragment.lit("update [products]\nset [name] = "), Fragment.encode(SqlServerTypes.nvarchar, row.name), Fragment.lit(",\n[price] = "), Fragment.encode(KotlinDbTypes.SqlServerTypes.money, row.price), Fragment.lit(",\n[description] = "), Fragment.encode(SqlServerTypes.nvarchar.nullable(), row.description), Fragment.lit("\nwhere [product_id] = "), Fragment.encode(ProductsId.sqlServerType, productId), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<ProductsRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.name(), f.price(), f.description()) }, c)
+
   override fun upsert(
     unsaved: ProductsRow,
     c: Connection
@@ -62,6 +62,11 @@ interface TestConnectionRepo {
     c: Connection
   ): Boolean
 
+  abstract fun updateBatch(
+    rows: Iterator<TestConnectionRow>,
+    c: Connection
+  ): Int
+
   abstract fun upsert(
     unsaved: TestConnectionRow,
     c: Connection
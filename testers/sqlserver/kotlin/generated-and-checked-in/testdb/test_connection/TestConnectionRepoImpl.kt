@@ -5,6 +5,7 @@
  */
 package testdb.test_connection
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.SqlServerTypes
 import dev.typr.foundations.kotlin.DeleteBuilder
 import dev.typr.foundations.kotlin.Dialect
@@ -31,9 +32,13 @@ class TestConnectionRepoImpl() : TestConnectionRepo {
     ids: Array<TestConnectionId>,
     c: Connection
   ): Int {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(TestConnectionId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("delete from [test_connection] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(TestConnectionId.sqlServerType, id)) }
+      count = count + Fragment.interpolate(Fragment.lit("delete from [test_connection] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).update().runUnchecked(c)
+    }
+    return count
   }
 
   override fun insert(
@@ -72,9 +77,13 @@ class TestConnectionRepoImpl() : TestConnectionRepo {
     ids: Array<TestConnectionId>,
     c: Connection
   ): List<TestConnectionRow> {
-    val fragments: ArrayList<Fragment> = ArrayList()
-    for (id in ids) { fragments.add(Fragment.encode(TestConnectionId.sqlServerType, id)) }
-    return Fragment.interpolate(Fragment.lit("select [id], [message], [created_at] from [test_connection] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(TestConnectionRow._rowParser.all()).runUnchecked(c)
+    val result: ArrayList<TestConnectionRow> = ArrayList()
+    for (chunk in InList.chunks(ids)) {
+      val fragments: ArrayList<Fragment> = ArrayList()
+      for (id in chunk) { fragments.add(Fragment.encode(TestConnectionId.sqlServerType, id)) }
+      result.addAll(Fragment.interpolate(Fragment.lit("select [id], [message], [created_at] from [test_connection] where [id] in ("), Fragment.comma(fragments.toMutableList()), Fragment.lit(")")).query(TestConnectionRow._rowParser.all()).runUnchecked(c))
+    }
+    return result
   }
 
   override fun selectByIdsTracked(
@@ -96,6 +105,11 @@ class TestConnectionRepoImpl() : TestConnectionRepo {
     return Fragment.interpolate(Fragment.lit("update [test_connection]\nset [message] = "), Fragment.encode(SqlServerTypes.nvarchar, row.message), Fragment.lit(",\n[created_at] = "), Fragment.encode(SqlServerTypes.datetime2.nullable(), row.createdAt), Fragment.lit("\nwhere [id] = "), Fragment.encode(TestConnectionId.sqlServerType, id), Fragment.lit("")).update().runUnchecked(c) > 0
   }
 
+  override fun updateBatch(
+    rows: Iterator<TestConnectionRow>,
+    c: Connection
+  ): Int = update().updateMany(rows, { f -> listOf(f.message(), f.createdAt()) }, c)
+
   override fun upsert(
     unsaved: TestConnectionRow,
     c: Connection
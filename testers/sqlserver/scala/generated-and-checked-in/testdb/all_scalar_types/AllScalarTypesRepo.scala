@@ -35,6 +35,8 @@ trait AllScalarTypesRepo {
 
   def update(row: AllScalarTypesRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[AllScalarTypesRow])(using c: Connection): Int
+
   def upsert(unsaved: AllScalarTypesRow)(using c: Connection): AllScalarTypesRow
 
   def upsertBatch(unsaved: Iterator[AllScalarTypesRow])(using c: Connection): List[AllScalarTypesRow]
@@ -5,6 +5,7 @@
  */
 package testdb.all_scalar_types
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.SqlServerTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -23,9 +24,9 @@ class AllScalarTypesRepoImpl extends AllScalarTypesRepo {
   override def deleteById(id: AllScalarTypesId)(using c: Connection): Boolean = sql"delete from [all_scalar_types] where [id] = ${Fragment.encode(AllScalarTypesId.sqlServerType, id)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[AllScalarTypesId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(AllScalarTypesId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from [all_scalar_types] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(AllScalarTypesId.sqlServerType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from [all_scalar_types] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: AllScalarTypesRow)(using c: Connection): AllScalarTypesRow = {
@@ -137,9 +138,9 @@ class AllScalarTypesRepoImpl extends AllScalarTypesRepo {
   }
 
   override def selectByIds(ids: Array[AllScalarTypesId])(using c: Connection): List[AllScalarTypesRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(AllScalarTypesId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select [id], [col_tinyint], [col_smallint], [col_int], [col_bigint], [col_decimal], [col_numeric], [col_money], [col_smallmoney], [col_real], [col_float], [col_bit], [col_char], [col_varchar], [col_varchar_max], [col_text], [col_nchar], [col_nvarchar], [col_nvarchar_max], [col_ntext], [col_binary], [col_varbinary], [col_varbinary_max], [col_image], [col_date], [col_time], [col_datetime], [col_smalldatetime], [col_datetime2], [col_datetimeoffset], [col_uniqueidentifier], [col_xml], [col_json], [col_rowversion], [col_hierarchyid], [col_geography], [col_geometry], [col_not_null] from [all_scalar_types] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(AllScalarTypesRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[AllScalarTypesRow] = ListBuffer()
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(AllScalarTypesId.sqlServerType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select [id], [col_tinyint], [col_smallint], [col_int], [col_bigint], [col_decimal], [col_numeric], [col_money], [col_smallmoney], [col_real], [col_float], [col_bit], [col_char], [col_varchar], [col_varchar_max], [col_text], [col_nchar], [col_nvarchar], [col_nvarchar_max], [col_ntext], [col_binary], [col_varbinary], [col_varbinary_max], [col_image], [col_date], [col_time], [col_datetime], [col_smalldatetime], [col_datetime2], [col_datetimeoffset], [col_uniqueidentifier], [col_xml], [col_json], [col_rowversion], [col_hierarchyid], [col_geography], [col_geometry], [col_not_null] from [all_scalar_types] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(AllScalarTypesRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[AllScalarTypesId])(using c: Connection): Map[AllScalarTypesId, AllScalarTypesRow] = {
@@ -192,6 +193,8 @@ class AllScalarTypesRepoImpl extends AllScalarTypesRepo {
     where [id] = ${Fragment.encode(AllScalarTypesId.sqlServerType, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[AllScalarTypesRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.colTinyint, f.colSmallint, f.colInt, f.colBigint, f.colDecimal, f.colNumeric, f.colMoney, f.colSmallmoney, f.colReal, f.colFloat, f.colBit, f.colChar, f.colVarchar, f.colVarcharMax, f.colText, f.colNchar, f.colNvarchar, f.colNvarcharMax, f.colNtext, f.colBinary, f.colVarbinary, f.colVarbinaryMax, f.colImage, f.colDate, f.colTime, f.colDatetime, f.colSmalldatetime, f.colDatetime2, f.colDatetimeoffset, f.colUniqueidentifier, f.colXml, f.colJson, f.colHierarchyid, f.colGeography, f.colGeometry, f.colNotNull))(using c)
+
   override def upsert(unsaved: AllScalarTypesRow)(using c: Connection): AllScalarTypesRow = {
   sql"""MERGE INTO [all_scalar_types] AS target
     USING (VALUES (${Fragment.encode(AllScalarTypesId.sqlServerType, unsaved.id)}, ${Fragment.encode(SqlServerTypes.tinyint.nullable, unsaved.colTinyint)}, ${Fragment.encode(ScalaDbTypes.SqlServerTypes.smallint.nullable, unsaved.colSmallint)}, ${Fragment.encode(ScalaDbTypes.SqlServerTypes.int_.nullable, unsaved.colInt)}, ${Fragment.encode(ScalaDbTypes.SqlServerTypes.bigint.nullable, unsaved.colBigint)}, ${Fragment.encode(ScalaDbTypes.SqlServerTypes.decimal.nullable, unsaved.colDecimal)}, ${Fragment.encode(ScalaDbTypes.SqlServerTypes.decimal.nullable, unsaved.colNumeric)}, ${Fragment.encode(ScalaDbTypes.SqlServerTypes.money.nullable, unsaved.colMoney)}, ${Fragment.encode(ScalaDbTypes.SqlServerTypes.smallmoney.nullable, unsaved.colSmallmoney)}, ${Fragment.encode(ScalaDbTypes.SqlServerTypes.real.nullable, unsaved.colReal)}, ${Fragment.encode(ScalaDbTypes.SqlServerTypes.float_.nullable, unsaved.colFloat)}, ${Fragment.encode(ScalaDbTypes.SqlServerTypes.bit.nullable, unsaved.colBit)}, ${Fragment.encode(SqlServerTypes.char_.nullable, unsaved.colChar)}, ${Fragment.encode(SqlServerTypes.varchar.nullable, unsaved.colVarchar)}, ${Fragment.encode(SqlServerTypes.varchar.nullable, unsaved.colVarcharMax)}, ${Fragment.encode(SqlServerTypes.text.nullable, unsaved.colText)}, ${Fragment.encode(SqlServerTypes.nchar.nullable, unsaved.colNchar)}, ${Fragment.encode(SqlServerTypes.nvarchar.nullable, unsaved.colNvarchar)}, ${Fragment.encode(SqlServerTypes.nvarchar.nullable, unsaved.colNvarcharMax)}, ${Fragment.encode(SqlServerTypes.ntext.nullable, unsaved.colNtext)}, ${Fragment.encode(SqlServerTypes.binary.nullable, unsaved.colBinary)}, ${Fragment.encode(SqlServerTypes.varbinary.nullable, unsaved.colVarbinary)}, ${Fragment.encode(SqlServerTypes.varbinary.nullable, unsaved.colVarbinaryMax)}, ${Fragment.encode(SqlServerTypes.image.nullable, unsaved.colImage)}, ${Fragment.encode(SqlServerTypes.date.nullable, unsaved.colDate)}, ${Fragment.encode(SqlServerTypes.time.nullable, unsaved.colTime)}, ${Fragment.encode(SqlServerTypes.datetime.nullable, unsaved.colDatetime)}, ${Fragment.encode(SqlServerTypes.smalldatetime.nullable, unsaved.colSmalldatetime)}, ${Fragment.encode(SqlServerTypes.datetime2.nullable, unsaved.colDatetime2)}, ${Fragment.encode(SqlServerTypes.datetimeoffset.nullable, unsaved.colDatetimeoffset)}, ${Fragment.encode(SqlServerTypes.uniqueidentifier.nullable, unsaved.colUniqueidentifier)}, ${Fragment.encode(SqlServerTypes.xml.nullable, unsaved.colXml)}, ${Fragment.encode(SqlServerTypes.json.nullable, unsaved.colJson)}, ${Fragment.encode(SqlServerTypes.rowversion, unsaved.colRowversion)}, ${Fragment.encode(SqlServerTypes.hierarchyid.nullable, unsaved.colHierarchyid)}, ${Fragment.encode(SqlServerTypes.geography.nullable, unsaved.colGeography)}, ${Fragment.encode(SqlServerTypes.geometry.nullable, unsaved.colGeometry)}, ${Fragment.encode(SqlServerTypes.nvarchar, unsaved.colNotNull)})) AS source([id], [col_tinyint], [col_smallint], [col_int], [col_bigint], [col_decimal], [col_numeric], [col_money], [col_smallmoney], [col_real], [col_float], [col_bit], [col_char], [col_varchar], [col_varchar_max], [col_text], [col_nchar], [col_nvarchar], [col_nvarchar_max], [col_ntext], [col_binary], [col_varbinary], [col_varbinary_max], [col_image], [col_date], [col_time], [col_datetime], [col_smalldatetime], [col_datetime2], [col_datetimeoffset], [col_uniqueidentifier], [col_xml], [col_json], [col_rowversion], [col_hierarchyid], [col_geography], [col_geometry], [col_not_null])
@@ -5,6 +5,7 @@
  */
 package testdb.customers
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.SqlServerTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -23,9 +24,9 @@ class CustomersRepoImpl extends CustomersRepo {
   override def deleteById(customerId: CustomersId)(using c: Connection): Boolean = sql"delete from [customers] where [customer_id] = ${Fragment.encode(CustomersId.sqlServerType, customerId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(customerIds: Array[CustomersId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    customerIds.foreach { id => fragments.addOne(Fragment.encode(CustomersId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from [customers] where [customer_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    customerIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(CustomersId.sqlServerType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from [customers] where [customer_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: CustomersRow)(using c: Connection): CustomersRow = {
@@ -71,9 +72,9 @@ class CustomersRepoImpl extends CustomersRepo {
   }
 
   override def selectByIds(customerIds: Array[CustomersId])(using c: Connection): List[CustomersRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    customerIds.foreach { id => fragments.addOne(Fragment.encode(CustomersId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select [customer_id], [name], [email], [created_at] from [customers] where [customer_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(CustomersRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[CustomersRow] = ListBuffer()
+    customerIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(CustomersId.sqlServerType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select [customer_id], [name], [email], [created_at] from [customers] where [customer_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(CustomersRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(customerIds: Array[CustomersId])(using c: Connection): Map[CustomersId, CustomersRow] = {
@@ -100,6 +101,8 @@ class CustomersRepoImpl extends CustomersRepo {
     where [customer_id] = ${Fragment.encode(CustomersId.sqlServerType, customerId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[CustomersRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.email, f.createdAt))(using c)
+
   override def upsert(unsaved: CustomersRow)(using c: Connection): CustomersRow = {
   sql"""MERGE INTO [customers] AS target
     USING (VALUES (${Fragment.encode(CustomersId.sqlServerType, unsaved.customerId)}, ${Fragment.encode(SqlServerTypes.nvarchar, unsaved.name)}, ${Fragment.encode(Email.sqlServerType, unsaved.email)}, ${Fragment.encode(SqlServerTypes.datetime2.nullable, unsaved.createdAt)})) AS source([customer_id], [name], [email], [created_at])
@@ -66,6 +66,15 @@ case class CustomersRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[CustomersRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.customerId)) {
+        map.put(row.customerId, row): @scala.annotation.nowarn
+        Some(row.customerId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: CustomersRow)(using c: Connection): CustomersRow = {
     map.put(unsaved.customerId, unsaved): @scala.annotation.nowarn
     return unsaved
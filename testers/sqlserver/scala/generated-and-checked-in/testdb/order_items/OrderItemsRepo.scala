@@ -35,6 +35,8 @@ trait OrderItemsRepo {
 
   def update(row: OrderItemsRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[OrderItemsRow])(using c: Connection): Int
+
   def upsert(unsaved: OrderItemsRow)(using c: Connection): OrderItemsRow
 
   def upsertBatch(unsaved: Iterator[OrderItemsRow])(using c: Connection): List[OrderItemsRow]
@@ -5,6 +5,7 @@
  */
 package testdb.order_items
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
 import dev.typr.foundations.scala.Fragment
@@ -23,9 +24,9 @@ class OrderItemsRepoImpl extends OrderItemsRepo {
   override def deleteById(orderItemId: OrderItemsId)(using c: Connection): Boolean = sql"delete from [order_items] where [order_item_id] = ${Fragment.encode(OrderItemsId.sqlServerType, orderItemId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(orderItemIds: Array[OrderItemsId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    orderItemIds.foreach { id => fragments.addOne(Fragment.encode(OrderItemsId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from [order_items] where [order_item_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    orderItemIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(OrderItemsId.sqlServerType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from [order_items] where [order_item_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: OrderItemsRow)(using c: Connection): OrderItemsRow = {
@@ -71,9 +72,9 @@ class OrderItemsRepoImpl extends OrderItemsRepo {
   }
 
   override def selectByIds(orderItemIds: Array[OrderItemsId])(using c: Connection): List[OrderItemsRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    orderItemIds.foreach { id => fragments.addOne(Fragment.encode(OrderItemsId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select [order_item_id], [order_id], [product_id], [quantity], [price] from [order_items] where [order_item_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(OrderItemsRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[OrderItemsRow] = ListBuffer()
+    orderItemIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(OrderItemsId.sqlServerType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select [order_item_id], [order_id], [product_id], [quantity], [price] from [order_items] where [order_item_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(OrderItemsRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(orderItemIds: Array[OrderItemsId])(using c: Connection): Map[OrderItemsId, OrderItemsRow] = {
@@ -94,6 +95,8 @@ class OrderItemsRepoImpl extends OrderItemsRepo {
     where [order_item_id] = ${Fragment.encode(OrderItemsId.sqlServerType, orderItemId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[OrderItemsRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.orderId, f.productId, f.quantity, f.price))(using c)
+
   override def upsert(unsaved: OrderItemsRow)(using c: Connection): OrderItemsRow = {
   sql"""MERGE INTO [order_items] AS target
     USING (VALUES (${Fragment.encode(OrderItemsId.sqlServerType, unsaved.orderItemId)}, ${Fragment.encode(OrdersId.sqlServerType, unsaved.orderId)}, ${Fragment.encode(ProductsId.sqlServerType, unsaved.productId)}, ${Fragment.encode(ScalaDbTypes.SqlServerTypes.int_, unsaved.quantity)}, ${Fragment.encode(ScalaDbTypes.SqlServerTypes.money, unsaved.price)})) AS source([order_item_id], [order_id], [product_id], [quantity], [price])
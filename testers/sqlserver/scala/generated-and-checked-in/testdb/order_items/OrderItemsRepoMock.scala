@@ -63,6 +63,15 @@ case class OrderItemsRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[OrderItemsRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.orderItemId)) {
+        map.put(row.orderItemId, row): @scala.annotation.nowarn
+        Some(row.orderItemId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: OrderItemsRow)(using c: Connection): OrderItemsRow = {
     map.put(unsaved.orderItemId, unsaved): @scala.annotation.nowarn
     return unsaved
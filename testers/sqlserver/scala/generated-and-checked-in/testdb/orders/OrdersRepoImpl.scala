@@ -5,6 +5,7 @@
  */
 package testdb.orders
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.SqlServerTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -24,9 +25,9 @@ class OrdersRepoImpl extends OrdersRepo {
   override def deleteById(orderId: OrdersId)(using c: Connection): Boolean = sql"delete from [orders] where [order_id] = ${Fragment.encode(OrdersId.sqlServerType, orderId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(orderIds: Array[OrdersId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    orderIds.foreach { id => fragments.addOne(Fragment.encode(OrdersId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from [orders] where [order_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    orderIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(OrdersId.sqlServerType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from [orders] where [order_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: OrdersRow)(using c: Connection): OrdersRow = {
@@ -72,9 +73,9 @@ class OrdersRepoImpl extends OrdersRepo {
   }
 
   override def selectByIds(orderIds: Array[OrdersId])(using c: Connection): List[OrdersRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    orderIds.foreach { id => fragments.addOne(Fragment.encode(OrdersId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select [order_id], [customer_id], [order_date], [total_amount] from [orders] where [order_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(OrdersRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[OrdersRow] = ListBuffer()
+    orderIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(OrdersId.sqlServerType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select [order_id], [customer_id], [order_date], [total_amount] from [orders] where [order_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(OrdersRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(orderIds: Array[OrdersId])(using c: Connection): Map[OrdersId, OrdersRow] = {
@@ -94,6 +95,8 @@ class OrdersRepoImpl extends OrdersRepo {
     where [order_id] = ${Fragment.encode(OrdersId.sqlServerType, orderId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[OrdersRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.customerId, f.orderDate, f.totalAmount))(using c)
+
   override def upsert(unsaved: OrdersRow)(using c: Connection): OrdersRow = {
   sql"""MERGE INTO [orders] AS target
     USING (VALUES (${Fragment.encode(OrdersId.sqlServerType, unsaved.orderId)}, ${Fragment.encode(CustomersId.sqlServerType, unsaved.customerId)}, ${Fragment.encode(SqlServerTypes.datetime2.nullable, unsaved.orderDate)}, ${Fragment.encode(ScalaDbTypes.SqlServerTypes.money, unsaved.totalAmount)})) AS source([order_id], [customer_id], [order_date], [total_amount])
@@ -5,6 +5,7 @@
  */
 package testdb.precision_types
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.SqlServerTypes
 import dev.typr.foundations.scala.DeleteBuilder
 import dev.typr.foundations.scala.Dialect
@@ -40,9 +41,9 @@ class PrecisionTypesRepoImpl extends PrecisionTypesRepo {
   override def deleteById(id: PrecisionTypesId)(using c: Connection): Boolean = sql"delete from [precision_types] where [id] = ${Fragment.encode(PrecisionTypesId.sqlServerType, id)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[PrecisionTypesId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from [precision_types] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesId.sqlServerType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from [precision_types] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: PrecisionTypesRow)(using c: Connection): PrecisionTypesRow = {
@@ -132,9 +133,9 @@ class PrecisionTypesRepoImpl extends PrecisionTypesRepo {
   }
 
   override def selectByIds(ids: Array[PrecisionTypesId])(using c: Connection): List[PrecisionTypesRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select [id], [string10], [string20], [string50], [string100], [string255], [nstring10], [nstring50], [nstring255], [char10], [nchar10], [decimal5_2], [decimal10_2], [decimal18_4], [numeric8_2], [numeric12_4], [binary10], [binary32], [time0], [time3], [time7], [datetime2_0], [datetime2_3], [datetime2_7], [dto0], [dto3], [dto7] from [precision_types] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PrecisionTypesRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[PrecisionTypesRow] = ListBuffer()
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesId.sqlServerType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select [id], [string10], [string20], [string50], [string100], [string255], [nstring10], [nstring50], [nstring255], [char10], [nchar10], [decimal5_2], [decimal10_2], [decimal18_4], [numeric8_2], [numeric12_4], [binary10], [binary32], [time0], [time3], [time7], [datetime2_0], [datetime2_3], [datetime2_7], [dto0], [dto3], [dto7] from [precision_types] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PrecisionTypesRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[PrecisionTypesId])(using c: Connection): Map[PrecisionTypesId, PrecisionTypesRow] = {
@@ -177,6 +178,8 @@ class PrecisionTypesRepoImpl extends PrecisionTypesRepo {
     where [id] = ${Fragment.encode(PrecisionTypesId.sqlServerType, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[PrecisionTypesRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.string10, f.string20, f.string50, f.string100, f.string255, f.nstring10, f.nstring50, f.nstring255, f.char10, f.nchar10, f.decimal52, f.decimal102, f.decimal184, f.numeric82, f.numeric124, f.binary10, f.binary32, f.time0, f.time3, f.time7, f.datetime20, f.datetime23, f.datetime27, f.dto0, f.dto3, f.dto7))(using c)
+
   override def upsert(unsaved: PrecisionTypesRow)(using c: Connection): PrecisionTypesRow = {
   sql"""MERGE INTO [precision_types] AS target
     USING (VALUES (${Fragment.encode(PrecisionTypesId.sqlServerType, unsaved.id)}, ${Fragment.encode(String10.sqlServerType, unsaved.string10)}, ${Fragment.encode(String20.sqlServerType, unsaved.string20)}, ${Fragment.encode(String50.sqlServerType, unsaved.string50)}, ${Fragment.encode(String100.sqlServerType, unsaved.string100)}, ${Fragment.encode(String255.sqlServerType, unsaved.string255)}, ${Fragment.encode(String10.sqlServerType, unsaved.nstring10)}, ${Fragment.encode(String50.sqlServerType, unsaved.nstring50)}, ${Fragment.encode(String255.sqlServerType, unsaved.nstring255)}, ${Fragment.encode(PaddedString10.sqlServerType, unsaved.char10)}, ${Fragment.encode(PaddedString10.sqlServerType, unsaved.nchar10)}, ${Fragment.encode(Decimal5_2.sqlServerType, unsaved.decimal52)}, ${Fragment.encode(Decimal10_2.sqlServerType, unsaved.decimal102)}, ${Fragment.encode(Decimal18_4.sqlServerType, unsaved.decimal184)}, ${Fragment.encode(Decimal8_2.sqlServerType, unsaved.numeric82)}, ${Fragment.encode(Decimal12_4.sqlServerType, unsaved.numeric124)}, ${Fragment.encode(Binary10.sqlServerType, unsaved.binary10)}, ${Fragment.encode(Binary32.sqlServerType, unsaved.binary32)}, ${Fragment.encode(SqlServerTypes.time, unsaved.time0)}, ${Fragment.encode(LocalTime3.sqlServerType, unsaved.time3)}, ${Fragment.encode(LocalTime7.sqlServerType, unsaved.time7)}, ${Fragment.encode(SqlServerTypes.datetime2, unsaved.datetime20)}, ${Fragment.encode(LocalDateTime3.sqlServerType, unsaved.datetime23)}, ${Fragment.encode(LocalDateTime7.sqlServerType, unsaved.datetime27)}, ${Fragment.encode(SqlServerTypes.datetimeoffset, unsaved.dto0)}, ${Fragment.encode(OffsetDateTime3.sqlServerType, unsaved.dto3)}, ${Fragment.encode(OffsetDateTime7.sqlServerType, unsaved.dto7)})) AS source([id], [string10], [string20], [string50], [string100], [string255], [nstring10], [nstring50], [nstring255], [char10], [nchar10], [decimal5_2], [decimal10_2], [decimal18_4], [numeric8_2], [numeric12_4], [binary10], [binary32], [time0], [time3], [time7], [datetime2_0], [datetime2_3], [datetime2_7], [dto0], [dto3], [dto7])
@@ -35,6 +35,8 @@ trait PrecisionTypesNullRepo {
 
   def update(row: PrecisionTypesNullRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[PrecisionTypesNullRow])(using c: Connection): Int
+
   def upsert(unsaved: PrecisionTypesNullRow)(using c: Connection): PrecisionTypesNullRow
 
   def upsertBatch(unsaved: Iterator[PrecisionTypesNullRow])(using c: Connection): List[PrecisionTypesNullRow]
@@ -5,6 +5,7 @@
  */
 package testdb.precision_types_null
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.SqlServerTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -41,9 +42,9 @@ class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
   override def deleteById(id: PrecisionTypesNullId)(using c: Connection): Boolean = sql"delete from [precision_types_null] where [id] = ${Fragment.encode(PrecisionTypesNullId.sqlServerType, id)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[PrecisionTypesNullId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesNullId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from [precision_types_null] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesNullId.sqlServerType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from [precision_types_null] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: PrecisionTypesNullRow)(using c: Connection): PrecisionTypesNullRow = {
@@ -133,9 +134,9 @@ class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
   }
 
   override def selectByIds(ids: Array[PrecisionTypesNullId])(using c: Connection): List[PrecisionTypesNullRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesNullId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select [id], [string10], [string20], [string50], [string100], [string255], [nstring10], [nstring50], [nstring255], [char10], [nchar10], [decimal5_2], [decimal10_2], [decimal18_4], [numeric8_2], [numeric12_4], [binary10], [binary32], [time0], [time3], [time7], [datetime2_0], [datetime2_3], [datetime2_7], [dto0], [dto3], [dto7] from [precision_types_null] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PrecisionTypesNullRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[PrecisionTypesNullRow] = ListBuffer()
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(PrecisionTypesNullId.sqlServerType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select [id], [string10], [string20], [string50], [string100], [string255], [nstring10], [nstring50], [nstring255], [char10], [nchar10], [decimal5_2], [decimal10_2], [decimal18_4], [numeric8_2], [numeric12_4], [binary10], [binary32], [time0], [time3], [time7], [datetime2_0], [datetime2_3], [datetime2_7], [dto0], [dto3], [dto7] from [precision_types_null] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(PrecisionTypesNullRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[PrecisionTypesNullId])(using c: Connection): Map[PrecisionTypesNullId, PrecisionTypesNullRow] = {
@@ -178,6 +179,8 @@ class PrecisionTypesNullRepoImpl extends PrecisionTypesNullRepo {
     where [id] = ${Fragment.encode(PrecisionTypesNullId.sqlServerType, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[PrecisionTypesNullRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.string10, f.string20, f.string50, f.string100, f.string255, f.nstring10, f.nstring50, f.nstring255, f.char10, f.nchar10, f.decimal52, f.decimal102, f.decimal184, f.numeric82, f.numeric124, f.binary10, f.binary32, f.time0, f.time3, f.time7, f.datetime20, f.datetime23, f.datetime27, f.dto0, f.dto3, f.dto7))(using c)
+
   override def upsert(unsaved: PrecisionTypesNullRow)(using c: Connection): PrecisionTypesNullRow = {
   sql"""MERGE INTO [precision_types_null] AS target
     USING (VALUES (${Fragment.encode(PrecisionTypesNullId.sqlServerType, unsaved.id)}, ${Fragment.encode(String10.sqlServerType.nullable, unsaved.string10)}, ${Fragment.encode(String20.sqlServerType.nullable, unsaved.string20)}, ${Fragment.encode(String50.sqlServerType.nullable, unsaved.string50)}, ${Fragment.encode(String100.sqlServerType.nullable, unsaved.string100)}, ${Fragment.encode(String255.sqlServerType.nullable, unsaved.string255)}, ${Fragment.encode(String10.sqlServerType.nullable, unsaved.nstring10)}, ${Fragment.encode(String50.sqlServerType.nullable, unsaved.nstring50)}, ${Fragment.encode(String255.sqlServerType.nullable, unsaved.nstring255)}, ${Fragment.encode(PaddedString10.sqlServerType.nullable, unsaved.char10)}, ${Fragment.encode(PaddedString10.sqlServerType.nullable, unsaved.nchar10)}, ${Fragment.encode(Decimal5_2.sqlServerType.nullable, unsaved.decimal52)}, ${Fragment.encode(Decimal10_2.sqlServerType.nullable, unsaved.decimal102)}, ${Fragment.encode(Decimal18_4.sqlServerType.nullable, unsaved.decimal184)}, ${Fragment.encode(Decimal8_2.sqlServerType.nullable, unsaved.numeric82)}, ${Fragment.encode(Decimal12_4.sqlServerType.nullable, unsaved.numeric124)}, ${Fragment.encode(Binary10.sqlServerType.nullable, unsaved.binary10)}, ${Fragment.encode(Binary32.sqlServerType.nullable, unsaved.binary32)}, ${Fragment.encode(SqlServerTypes.time.nullable, unsaved.time0)}, ${Fragment.encode(LocalTime3.sqlServerType.nullable, unsaved.time3)}, ${Fragment.encode(LocalTime7.sqlServerType.nullable, unsaved.time7)}, ${Fragment.encode(SqlServerTypes.datetime2.nullable, unsaved.datetime20)}, ${Fragment.encode(LocalDateTime3.sqlServerType.nullable, unsaved.datetime23)}, ${Fragment.encode(LocalDateTime7.sqlServerType.nullable, unsaved.datetime27)}, ${Fragment.encode(SqlServerTypes.datetimeoffset.nullable, unsaved.dto0)}, ${Fragment.encode(OffsetDateTime3.sqlServerType.nullable, unsaved.dto3)}, ${Fragment.encode(OffsetDateTime7.sqlServerType.nullable, unsaved.dto7)})) AS source([id], [string10], [string20], [string50], [string100], [string255], [nstring10], [nstring50], [nstring255], [char10], [nchar10], [decimal5_2], [decimal10_2], [decimal18_4], [numeric8_2], [numeric12_4], [binary10], [binary32], [time0], [time3], [time7], [datetime2_0], [datetime2_3], [datetime2_7], [dto0], [dto3], [dto7])
@@ -5,6 +5,7 @@
  */
 package testdb.products
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.SqlServerTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -23,9 +24,9 @@ class ProductsRepoImpl extends ProductsRepo {
   override def deleteById(productId: ProductsId)(using c: Connection): Boolean = sql"delete from [products] where [product_id] = ${Fragment.encode(ProductsId.sqlServerType, productId)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(productIds: Array[ProductsId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    productIds.foreach { id => fragments.addOne(Fragment.encode(ProductsId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from [products] where [product_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    productIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(ProductsId.sqlServerType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from [products] where [product_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: ProductsRow)(using c: Connection): ProductsRow = {
@@ -69,9 +70,9 @@ class ProductsRepoImpl extends ProductsRepo {
   }
 
   override def selectByIds(productIds: Array[ProductsId])(using c: Connection): List[ProductsRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    productIds.foreach { id => fragments.addOne(Fragment.encode(ProductsId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select [product_id], [name], [price], [description] from [products] where [product_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(ProductsRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[ProductsRow] = ListBuffer()
+    productIds.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(ProductsId.sqlServerType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select [product_id], [name], [price], [description] from [products] where [product_id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(ProductsRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(productIds: Array[ProductsId])(using c: Connection): Map[ProductsId, ProductsRow] = {
@@ -91,6 +92,8 @@ class ProductsRepoImpl extends ProductsRepo {
     where [product_id] = ${Fragment.encode(ProductsId.sqlServerType, productId)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[ProductsRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.name, f.price, f.description))(using c)
+
   override def upsert(unsaved: ProductsRow)(using c: Connection): ProductsRow = {
   sql"""MERGE INTO [products] AS target
     USING (VALUES (${Fragment.encode(ProductsId.sqlServerType, unsaved.productId)}, ${Fragment.encode(SqlServerTypes.nvarchar, unsaved.name)}, ${Fragment.encode(ScalaDbTypes.SqlServerTypes.money, unsaved.price)}, ${Fragment.encode(SqlServerTypes.nvarchar.nullable, unsaved.description)})) AS source([product_id], [name], [price], [description])
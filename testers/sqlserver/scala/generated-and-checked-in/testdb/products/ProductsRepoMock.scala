@@ -63,6 +63,15 @@ case class ProductsRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[ProductsRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.productId)) {
+        map.put(row.productId, row): @scala.annotation.nowarn
+        Some(row.productId)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: ProductsRow)(using c: Connection): ProductsRow = {
     map.put(unsaved.productId, unsaved): @scala.annotation.nowarn
     return unsaved
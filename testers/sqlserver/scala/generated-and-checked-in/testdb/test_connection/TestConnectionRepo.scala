@@ -35,6 +35,8 @@ trait TestConnectionRepo {
 
   def update(row: TestConnectionRow)(using c: Connection): Boolean
 
+  def updateBatch(rows: Iterator[TestConnectionRow])(using c: Connection): Int
+
   def upsert(unsaved: TestConnectionRow)(using c: Connection): TestConnectionRow
 
   def upsertBatch(unsaved: Iterator[TestConnectionRow])(using c: Connection): List[TestConnectionRow]
@@ -5,6 +5,7 @@
  */
 package testdb.test_connection
 
+import dev.typr.foundations.InList
 import dev.typr.foundations.SqlServerTypes
 import dev.typr.foundations.scala.DbTypeOps
 import dev.typr.foundations.scala.DeleteBuilder
@@ -22,9 +23,9 @@ class TestConnectionRepoImpl extends TestConnectionRepo {
   override def deleteById(id: TestConnectionId)(using c: Connection): Boolean = sql"delete from [test_connection] where [id] = ${Fragment.encode(TestConnectionId.sqlServerType, id)}".update().runUnchecked(c) > 0
 
   override def deleteByIds(ids: Array[TestConnectionId])(using c: Connection): Int = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(TestConnectionId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("delete from [test_connection] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c)
+    var count = 0
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(TestConnectionId.sqlServerType, id)): @scala.annotation.nowarn }; count = count + Fragment.interpolate(Fragment.lit("delete from [test_connection] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).update().runUnchecked(c) }
+    return count
   }
 
   override def insert(unsaved: TestConnectionRow)(using c: Connection): TestConnectionRow = {
@@ -68,9 +69,9 @@ class TestConnectionRepoImpl extends TestConnectionRepo {
   }
 
   override def selectByIds(ids: Array[TestConnectionId])(using c: Connection): List[TestConnectionRow] = {
-    val fragments: ListBuffer[Fragment] = ListBuffer()
-    ids.foreach { id => fragments.addOne(Fragment.encode(TestConnectionId.sqlServerType, id)): @scala.annotation.nowarn }
-    return Fragment.interpolate(Fragment.lit("select [id], [message], [created_at] from [test_connection] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(TestConnectionRow.`_rowParser`.all()).runUnchecked(c)
+    val result: ListBuffer[TestConnectionRow] = ListBuffer()
+    ids.distinct.grouped(InList.MAX_CHUNK).foreach { chunk => val fragments: ListBuffer[Fragment] = ListBuffer(); chunk.padTo(InList.bucketSize(chunk.length), chunk.last).foreach { id => fragments.addOne(Fragment.encode(TestConnectionId.sqlServerType, id)): @scala.annotation.nowarn }; result.addAll(Fragment.interpolate(Fragment.lit("select [id], [message], [created_at] from [test_connection] where [id] in ("), Fragment.comma(fragments), Fragment.lit(")")).query(TestConnectionRow.`_rowParser`.all()).runUnchecked(c)): @scala.annotation.nowarn }
+    return result.toList
   }
 
   override def selectByIdsTracked(ids: Array[TestConnectionId])(using c: Connection): Map[TestConnectionId, TestConnectionRow] = {
@@ -89,6 +90,8 @@ class TestConnectionRepoImpl extends TestConnectionRepo {
     where [id] = ${Fragment.encode(TestConnectionId.sqlServerType, id)}""".update().runUnchecked(c) > 0
   }
 
+  override def updateBatch(rows: Iterator[TestConnectionRow])(using c: Connection): Int = update.updateMany(rows, f => List(f.message, f.createdAt))(using c)
+
   override def upsert(unsaved: TestConnectionRow)(using c: Connection): TestConnectionRow = {
   sql"""MERGE INTO [test_connection] AS target
     USING (VALUES (${Fragment.encode(TestConnectionId.sqlServerType, unsaved.id)}, ${Fragment.encode(SqlServerTypes.nvarchar, unsaved.message)}, ${Fragment.encode(SqlServerTypes.datetime2.nullable, unsaved.createdAt)})) AS source([id], [message], [created_at])
@@ -63,6 +63,15 @@ case class TestConnectionRepoMock(
     return shouldUpdate
   }
 
+  override def updateBatch(rows: Iterator[TestConnectionRow])(using c: Connection): Int = {
+    rows.flatMap { row =>
+      if (map.contains(row.id)) {
+        map.put(row.id, row): @scala.annotation.nowarn
+        Some(row.id)
+      } else None
+    }.toSet.size
+  }
+
   override def upsert(unsaved: TestConnectionRow)(using c: Connection): TestConnectionRow = {
     map.put(unsaved.id, unsaved): @scala.annotation.nowarn
     return unsaved
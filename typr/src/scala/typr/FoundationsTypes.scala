@@ -79,6 +79,7 @@ object FoundationsTypes {
   val streamingInsert: Qualified = Qualified("dev.typr.foundations.streamingInsert")
   val Inserter: Qualified = Qualified("dev.typr.foundations.Inserter")
   val DbText: Qualified = Qualified("dev.typr.foundations.DbText")
+  val InList: Qualified = Qualified("dev.typr.foundations.InList")
 
   def RowParsersFunctionN(n: Int): Qualified = Qualified(s"dev.typr.foundations.RowParsers.Function$n")
 
@@ -83,4 +83,10 @@ trait MutableListSupport {
 
   /** Add an element to the mutable list */
   def add(list: jvm.Code, element: jvm.Code): jvm.Code
+
+  /** Add all elements of a list of `ListType` to the mutable list */
+  def addAll(list: jvm.Code, elements: jvm.Code): jvm.Code
+
+  /** The mutable list as a `ListType` */
+  def toList(list: jvm.Code): jvm.Code
 }
@@ -166,5 +166,11 @@ object TypeSupportJava extends TypeSupport {
 
     def add(list: jvm.Code, element: jvm.Code): jvm.Code =
       jvm.IgnoreResult(code"$list.add($element)")
+
+    def addAll(list: jvm.Code, elements: jvm.Code): jvm.Code =
+      jvm.IgnoreResult(code"$list.addAll($elements)")
+
+    def toList(list: jvm.Code): jvm.Code =
+      list
   }
 }
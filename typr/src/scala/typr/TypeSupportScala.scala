@@ -171,5 +171,11 @@ object TypeSupportScala extends TypeSupport {
 
     def add(list: jvm.Code, element: jvm.Code): jvm.Code =
       jvm.IgnoreResult(code"$list.addOne($element)")
+
+    def addAll(list: jvm.Code, elements: jvm.Code): jvm.Code =
+      jvm.IgnoreResult(code"$list.addAll($elements)")
+
+    def toList(list: jvm.Code): jvm.Code =
+      code"$list.toList"
   }
 }
@@ -49,6 +49,7 @@ object TypesJava {
   val Integer: Qualified = Qualified("java.lang.Integer")
   val Iterator: Qualified = Qualified("java.util.Iterator")
   val HashMap: Qualified = Qualified("java.util.HashMap")
+  val HashSet: Qualified = Qualified("java.util.HashSet")
   val List: Qualified = Qualified("java.util.List")
   val LocalDate: Qualified = Qualified("java.time.LocalDate")
   val LocalDateTime: Qualified = Qualified("java.time.LocalDateTime")
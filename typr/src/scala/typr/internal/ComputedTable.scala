@@ -195,6 +195,12 @@ case class ComputedTable(
           id <- maybeId
           writeableColumnsNotId <- writeableColumnsNotId
         } yield RepoMethod.Update(dbTable.name, cols, id, jvm.Param(jvm.Ident("row"), names.RowName), writeableColumnsNotId),
+        for {
+          id <- maybeId
+          fieldsName <- names.FieldsName
+          writeableColumnsNotId <- writeableColumnsNotId
+          _ <- if (options.dbLib.exists(_.supportsUpdateBatch)) Some(()) else None // weird syntax because of scala 2.13
+        } yield RepoMethod.UpdateBatch(dbTable.name, id, fieldsName, names.RowName, writeableColumnsNotId),
         for {
           writeableColumnsWithId <- writeableColumnsWithId
         } yield {
@@ -125,6 +125,14 @@ object RepoMethod {
       writeableColumnsNotId: NonEmptyList[ComputedColumn]
   ) extends Mutator("update", 1)
 
+  case class UpdateBatch(
+      relName: db.RelationName,
+      id: IdComputed,
+      fieldsType: jvm.Type,
+      rowType: jvm.Type,
+      writeableColumnsNotId: NonEmptyList[ComputedColumn]
+  ) extends Mutator("updateBatch")
+
   case class Upsert(
       relName: db.RelationName,
       cols: NonEmptyList[ComputedColumn],
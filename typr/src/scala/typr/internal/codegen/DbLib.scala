@@ -27,6 +27,10 @@ trait DbLib {
     */
   def needsConstAsForCompositeIn: Boolean
 
+  /** Whether this DbLib generates updateBatch, which writes many rows through the DSL's UpdateBuilder.updateMany. Legacy DSLs don't have it.
+    */
+  def supportsUpdateBatch: Boolean
+
   /** Generate a composite IN expression for checking if a tuple of fields is in a list of IDs. For new DSLs: uses In with Rows and Tuples For legacy DSLs: uses CompositeIn with TuplePart
     *
     * @param idsExpr
@@ -207,7 +207,7 @@ class DbLibAnorm(pkg: jvm.QIdent, inlineImplicits: Boolean, default: ComputedDef
 
   val c = jvm.Param(jvm.Ident("c"), TypesJava.Connection)
 
-  override def repoSig(repoMethod: RepoMethod): Right[Nothing, jvm.Method] = {
+  override def repoSig(repoMethod: RepoMethod): Either[DbLib.NotImplementedFor, jvm.Method] = {
     def sig(
         params: List[jvm.Param[jvm.Type]],
         implicitParams: List[jvm.Param[jvm.Type]],
@@ -249,6 +249,8 @@ class DbLibAnorm(pkg: jvm.QIdent, inlineImplicits: Boolean, default: ComputedDef
         sig(params = List(id.param, varargs), implicitParams = List(c), returnType = TypesScala.Boolean)
       case RepoMethod.Update(_, _, _, param, _) =>
         sig(params = List(param), implicitParams = List(c), returnType = TypesScala.Option.of(param.tpe))
+      case RepoMethod.UpdateBatch(_, _, _, _, _) =>
+        Left(DbLib.NotImplementedFor(repoMethod, "anorm"))
       case RepoMethod.Insert(_, _, _, unsavedParam, _, returningStrategy) =>
         sig(params = List(unsavedParam), implicitParams = List(c), returnType = returningStrategy.returnType)
       case RepoMethod.InsertStreaming(_, rowType, _) =>
@@ -629,6 +631,9 @@ class DbLibAnorm(pkg: jvm.QIdent, inlineImplicits: Boolean, default: ComputedDef
             jvm.Body.Expr(code"$sql.executeUpdate()")
         }
 
+      case RepoMethod.UpdateBatch(_, _, _, _, _) =>
+        // not generated, see supportsUpdateBatch
+        jvm.Body.Expr(code"???")
       case RepoMethod.SqlFile(sqlScript) =>
         val renderedScript: jvm.Code = sqlScript.sqlFile.decomposedSql.renderCode { (paramAtIndex: Int) =>
           val param = sqlScript.params.find(_.indices.contains(paramAtIndex)).get
@@ -765,6 +770,9 @@ class DbLibAnorm(pkg: jvm.QIdent, inlineImplicits: Boolean, default: ComputedDef
         jvm.Body.Expr(code"map.remove(${id.paramName}).isDefined")
       case RepoMethod.DeleteByIds(_, _, idsParam) =>
         jvm.Body.Expr(code"${idsParam.name}.map(id => map.remove(id)).count(_.isDefined)")
+      case RepoMethod.UpdateBatch(_, _, _, _, _) =>
+        // not generated, see supportsUpdateBatch
+        jvm.Body.Expr(code"???")
       case RepoMethod.SqlFile(_) =>
         // should not happen (tm)
         jvm.Body.Expr(code"???")
@@ -78,7 +78,7 @@ class DbLibDoobie(pkg: jvm.QIdent, inlineImplicits: Boolean, default: ComputedDe
 
   val batchSize = jvm.Param(Nil, jvm.Comments.Empty, jvm.Ident("batchSize"), TypesScala.Int, Some(code"10000"))
 
-  override def repoSig(repoMethod: RepoMethod): Right[Nothing, jvm.Method] = {
+  override def repoSig(repoMethod: RepoMethod): Either[DbLib.NotImplementedFor, jvm.Method] = {
     def sig(params: List[jvm.Param[jvm.Type]], returnType: jvm.Type) = Right(
       jvm.Method(
         Nil,
@@ -115,6 +115,8 @@ class DbLibDoobie(pkg: jvm.QIdent, inlineImplicits: Boolean, default: ComputedDe
         sig(params = List(id.param, varargs), returnType = ConnectionIO.of(TypesScala.Boolean))
       case RepoMethod.Update(_, _, _, param, _) =>
         sig(params = List(param), returnType = ConnectionIO.of(TypesScala.Option.of(param.tpe)))
+      case RepoMethod.UpdateBatch(_, _, _, _, _) =>
+        Left(DbLib.NotImplementedFor(repoMethod, "doobie"))
       case RepoMethod.Insert(_, _, _, unsavedParam, _, returningStrategy) =>
         sig(params = List(unsavedParam), returnType = ConnectionIO.of(returningStrategy.returnType))
       case RepoMethod.InsertUnsaved(_, _, _, unsavedParam, _, _, returningStrategy) =>
@@ -454,6 +456,9 @@ class DbLibDoobie(pkg: jvm.QIdent, inlineImplicits: Boolean, default: ComputedDe
             jvm.Body.Expr(code"$sql.update.run")
         }
 
+      case RepoMethod.UpdateBatch(_, _, _, _, _) =>
+        // not generated, see supportsUpdateBatch
+        jvm.Body.Expr(code"???")
       case RepoMethod.SqlFile(sqlScript) =>
         val renderedScript: jvm.Code = sqlScript.sqlFile.decomposedSql.renderCode { (paramAtIndex: Int) =>
           val param = sqlScript.params.find(_.indices.contains(paramAtIndex)).get
@@ -602,6 +607,9 @@ class DbLibDoobie(pkg: jvm.QIdent, inlineImplicits: Boolean, default: ComputedDe
         jvm.Body.Expr(code"$delayCIO(map.remove(${id.paramName}).isDefined)")
       case RepoMethod.DeleteByIds(_, _, idsParam) =>
         jvm.Body.Expr(code"$delayCIO(${idsParam.name}.map(id => map.remove(id)).count(_.isDefined))")
+      case RepoMethod.UpdateBatch(_, _, _, _, _) =>
+        // not generated, see supportsUpdateBatch
+        jvm.Body.Expr(code"???")
       case RepoMethod.SqlFile(_) =>
         // should not happen (tm)
         jvm.Body.Expr(code"???")
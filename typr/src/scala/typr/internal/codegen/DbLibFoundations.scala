@@ -205,6 +205,9 @@ class DbLibFoundations(
   /** DbLibFoundations does not need constAs expressions for generateCompositeIn */
   override def needsConstAsForCompositeIn: Boolean = false
 
+  /** updateBatch delegates to UpdateBuilder.updateMany, which every foundations DSL has */
+  override def supportsUpdateBatch: Boolean = true
+
   /** Generate a composite IN expression using TupleExpr.of(...).among(...) pattern. ID types implement Tuple interface, so they can be passed directly to among(). Renders as: TupleExpr.of(field1,
     * field2).among(compositeIds)
     */
@@ -339,141 +342,36 @@ class DbLibFoundations(
             )
         }
 
-      case DbType.MariaDB =>
-        id match {
-          case x: IdComputed.Unary =>
-            // MariaDB: Build IN clause with individual values
-            val colName = adapter.quoteIdent(x.col.dbName.value)
-            val idIdent = jvm.Ident("id")
-            val fragments = jvm.Ident("fragments")
-            val encodeId = code"$Fragment.encode(${lookupType(x)}, $idIdent)"
-            val addStmt = lang.typeSupport.MutableListOps.add(fragments.code, encodeId)
-            jvm.Body.Stmts(
-              List(
-                jvm.LocalVar(fragments, Some(lang.typeSupport.MutableListOps.tpe.of(Fragment)), lang.typeSupport.MutableListOps.empty),
-                lang.arrayForEach(idsParam.name.code, idIdent, jvm.Body.Expr(addStmt)),
-                jvm.Return(
-                  code"""$Fragment.interpolate($Fragment.lit(${jvm.StrLit(
-                      s"select $colNamesStr from $qRelNameStr where $colName in ("
-                    )}), $Fragment.comma(${collectionForComma(fragments.code)}), $Fragment.lit(${jvm.StrLit(s")")})).query(${resultSetParserFor(rowType, "all")})$queryAllRunUnchecked"""
-                )
-              )
-            )
-
-          case x: IdComputed.Composite =>
-            // MariaDB: (col1, col2) IN ((val1, val2), (val3, val4), ...)
-            val colNamesJoined = x.cols.toList.map(c => adapter.quoteIdent(c.dbCol.name.value)).mkString(", ")
-            val idIdent = jvm.Ident("id")
-            val fragments = jvm.Ident("fragments")
-            val encodedCols = x.cols.toList.map(c => code"$Fragment.encode(${lookupType(c)}, ${lang.prop(idIdent.code, c.name)})")
-            val commaLit = code"$Fragment.lit(${jvm.StrLit(", ")})"
-            val openParen = code"$Fragment.lit(${jvm.StrLit("(")})"
-            val closeParen = code"$Fragment.lit(${jvm.StrLit(")")})"
-            val tupleArgs = encodedCols.flatMap(e => List(commaLit, e)).drop(1)
-            val tupleExpr = code"$Fragment.interpolate($openParen, ${tupleArgs.mkCode(", ")}, $closeParen)"
-            val addStmt = lang.typeSupport.MutableListOps.add(fragments.code, tupleExpr)
-            jvm.Body.Stmts(
-              List(
-                jvm.LocalVar(fragments, Some(lang.typeSupport.MutableListOps.tpe.of(Fragment)), lang.typeSupport.MutableListOps.empty),
-                lang.arrayForEach(idsParam.name.code, idIdent, jvm.Body.Expr(addStmt)),
-                jvm.Return(
-                  code"""$Fragment.interpolate($Fragment.lit(${jvm.StrLit(
-                      s"select $colNamesStr from $qRelNameStr where ($colNamesJoined) in ("
-                    )}), $Fragment.comma(${collectionForComma(fragments.code)}), $Fragment.lit(${jvm.StrLit(")")})).query(${resultSetParserFor(rowType, "all")})$queryAllRunUnchecked"""
-                )
-              )
-            )
-        }
-
-      case DbType.Oracle =>
-        // Oracle: Use same approach as MariaDB (IN clause)
-        id match {
-          case x: IdComputed.Unary =>
-            val colName = adapter.quoteIdent(x.col.dbName.value)
-            val idIdent = jvm.Ident("id")
-            val fragments = jvm.Ident("fragments")
-            val encodeId = code"$Fragment.encode(${lookupType(x)}, $idIdent)"
-            val addStmt = lang.typeSupport.MutableListOps.add(fragments.code, encodeId)
-            jvm.Body.Stmts(
-              List(
-                jvm.LocalVar(fragments, Some(lang.typeSupport.MutableListOps.tpe.of(Fragment)), lang.typeSupport.MutableListOps.empty),
-                lang.arrayForEach(idsParam.name.code, idIdent, jvm.Body.Expr(addStmt)),
-                jvm.Return(
-                  code"""$Fragment.interpolate($Fragment.lit(${jvm.StrLit(
-                      s"select $colNamesStr from $qRelNameStr where $colName in ("
-                    )}), $Fragment.comma(${collectionForComma(fragments.code)}), $Fragment.lit(${jvm.StrLit(s")")})).query(${resultSetParserFor(rowType, "all")})$queryAllRunUnchecked"""
-                )
-              )
-            )
-
-          case x: IdComputed.Composite =>
-            val colNamesJoined = x.cols.toList.map(c => adapter.quoteIdent(c.dbCol.name.value)).mkString(", ")
-            val idIdent = jvm.Ident("id")
-            val fragments = jvm.Ident("fragments")
-            val encodedCols = x.cols.toList.map(c => code"$Fragment.encode(${lookupType(c)}, ${lang.prop(idIdent.code, c.name)})")
-            val commaLit = code"$Fragment.lit(${jvm.StrLit(", ")})"
-            val openParen = code"$Fragment.lit(${jvm.StrLit("(")})"
-            val closeParen = code"$Fragment.lit(${jvm.StrLit(")")})"
-            val tupleArgs = encodedCols.flatMap(e => List(commaLit, e)).drop(1)
-            val tupleExpr = code"$Fragment.interpolate($openParen, ${tupleArgs.mkCode(", ")}, $closeParen)"
-            val addStmt = lang.typeSupport.MutableListOps.add(fragments.code, tupleExpr)
-            jvm.Body.Stmts(
-              List(
-                jvm.LocalVar(fragments, Some(lang.typeSupport.MutableListOps.tpe.of(Fragment)), lang.typeSupport.MutableListOps.empty),
-                lang.arrayForEach(idsParam.name.code, idIdent, jvm.Body.Expr(addStmt)),
-                jvm.Return(
-                  code"""$Fragment.interpolate($Fragment.lit(${jvm.StrLit(
-                      s"select $colNamesStr from $qRelNameStr where ($colNamesJoined) in ("
-                    )}), $Fragment.comma(${collectionForComma(fragments.code)}), $Fragment.lit(${jvm.StrLit(")")})).query(${resultSetParserFor(rowType, "all")})$queryAllRunUnchecked"""
-                )
-              )
-            )
-        }
-
-      case DbType.SqlServer | DbType.DB2 =>
-        // SQL Server and DB2 don't support arrays, use same approach as MariaDB with IN clause
-        id match {
-          case x: IdComputed.Unary =>
-            val colName = adapter.quoteIdent(x.col.dbName.value)
-            val idIdent = jvm.Ident("id")
-            val fragments = jvm.Ident("fragments")
-            val encodeId = code"$Fragment.encode(${lookupType(x)}, $idIdent)"
-            val addStmt = lang.typeSupport.MutableListOps.add(fragments.code, encodeId)
-            jvm.Body.Stmts(
-              List(
-                jvm.LocalVar(fragments, Some(lang.typeSupport.MutableListOps.tpe.of(Fragment)), lang.typeSupport.MutableListOps.empty),
-                lang.arrayForEach(idsParam.name.code, idIdent, jvm.Body.Expr(addStmt)),
-                jvm.Return(
-                  code"""$Fragment.interpolate($Fragment.lit(${jvm.StrLit(
-                      s"select $colNamesStr from $qRelNameStr where $colName in ("
-                    )}), $Fragment.comma(${collectionForComma(fragments.code)}), $Fragment.lit(${jvm.StrLit(s")")})).query(${resultSetParserFor(rowType, "all")})$queryAllRunUnchecked"""
-                )
-              )
-            )
+      case DbType.Oracle if oracleIdList(id).isDefined =>
+        // The ids are bound as one collection per chunk, see oracleIdList
+        val result = jvm.Ident("result")
+        val selectChunk = (sql: jvm.Code) =>
+          lang.typeSupport.MutableListOps.addAll(result.code, code"$sql.query(${resultSetParserFor(rowType, "all")})$queryAllRunUnchecked")
+        jvm.Body.Stmts(
+          List(
+            jvm.LocalVar(result, Some(lang.typeSupport.MutableListOps.tpe.of(rowType)), lang.typeSupport.MutableListOps.empty),
+            forEachOracleIdListChunk(oracleIdList(id).get, idsParam, s"select $colNamesStr from $qRelNameStr", selectChunk),
+            jvm.Return(lang.typeSupport.MutableListOps.toList(result.code))
+          )
+        )
 
-          case x: IdComputed.Composite =>
-            val colNamesJoined = x.cols.toList.map(c => adapter.quoteIdent(c.dbCol.name.value)).mkString(", ")
-            val idIdent = jvm.Ident("id")
-            val fragments = jvm.Ident("fragments")
-            val encodedCols = x.cols.toList.map(c => code"$Fragment.encode(${lookupType(c)}, ${lang.prop(idIdent.code, c.name)})")
-            val commaLit = code"$Fragment.lit(${jvm.StrLit(", ")})"
-            val openParen = code"$Fragment.lit(${jvm.StrLit("(")})"
-            val closeParen = code"$Fragment.lit(${jvm.StrLit(")")})"
-            val tupleArgs = encodedCols.flatMap(e => List(commaLit, e)).drop(1)
-            val tupleExpr = code"$Fragment.interpolate($openParen, ${tupleArgs.mkCode(", ")}, $closeParen)"
-            val addStmt = lang.typeSupport.MutableListOps.add(fragments.code, tupleExpr)
-            jvm.Body.Stmts(
-              List(
-                jvm.LocalVar(fragments, Some(lang.typeSupport.MutableListOps.tpe.of(Fragment)), lang.typeSupport.MutableListOps.empty),
-                lang.arrayForEach(idsParam.name.code, idIdent, jvm.Body.Expr(addStmt)),
-                jvm.Return(
-                  code"""$Fragment.interpolate($Fragment.lit(${jvm.StrLit(
-                      s"select $colNamesStr from $qRelNameStr where ($colNamesJoined) in ("
-                    )}), $Fragment.comma(${collectionForComma(fragments.code)}), $Fragment.lit(${jvm.StrLit(")")})).query(${resultSetParserFor(rowType, "all")})$queryAllRunUnchecked"""
-                )
-              )
-            )
-        }
+      case DbType.MariaDB | DbType.Oracle | DbType.SqlServer | DbType.DB2 =>
+        // No array parameters: one IN list per chunk of ids, see forEachInListChunk
+        val result = jvm.Ident("result")
+        val selectChunk = (inList: jvm.Code) =>
+          lang.typeSupport.MutableListOps.addAll(
+            result.code,
+            code"""$Fragment.interpolate($Fragment.lit(${jvm.StrLit(
+                s"select $colNamesStr from $qRelNameStr where ${inListColumns(id)} in ("
+              )}), $inList, $Fragment.lit(${jvm.StrLit(")")})).query(${resultSetParserFor(rowType, "all")})$queryAllRunUnchecked"""
+          )
+        jvm.Body.Stmts(
+          List(
+            jvm.LocalVar(result, Some(lang.typeSupport.MutableListOps.tpe.of(rowType)), lang.typeSupport.MutableListOps.empty),
+            forEachInListChunk(id, idsParam, selectChunk),
+            jvm.Return(lang.typeSupport.MutableListOps.toList(result.code))
+          )
+        )
     }
   }
 
@@ -598,145 +496,124 @@ class DbLibFoundations(
             )
         }
 
-      case DbType.MariaDB =>
-        id match {
-          case x: IdComputed.Unary =>
-            // MariaDB: Build IN clause with individual values
-            val colName = adapter.quoteIdent(x.col.dbName.value)
-            val idIdent = jvm.Ident("id")
-            val fragments = jvm.Ident("fragments")
-            val encodeId = code"$Fragment.encode(${lookupType(x)}, $idIdent)"
-            val addStmt = lang.typeSupport.MutableListOps.add(fragments.code, encodeId)
-            jvm.Body.Stmts(
-              List(
-                jvm.LocalVar(fragments, Some(lang.typeSupport.MutableListOps.tpe.of(Fragment)), lang.typeSupport.MutableListOps.empty),
-                lang.arrayForEach(idsParam.name.code, idIdent, jvm.Body.Expr(addStmt)),
-                jvm.Return(
-                  code"""$Fragment.interpolate($Fragment.lit(${jvm.StrLit(s"delete from $qRelNameStr where $colName in (")}), $Fragment.comma(${collectionForComma(
-                      fragments.code
-                    )}), $Fragment.lit(${jvm
-                      .StrLit(s")")})).update().runUnchecked(c)"""
-                )
-              )
-            )
+      case DbType.Oracle if oracleIdList(id).isDefined =>
+        // The ids are bound as one collection per chunk, see oracleIdList
+        val count = jvm.Ident("count")
+        val deleteChunk = (sql: jvm.Code) => code"$count = $count + $sql.update().runUnchecked(c)"
+        jvm.Body.Stmts(
+          List(
+            code"var $count = 0",
+            forEachOracleIdListChunk(oracleIdList(id).get, idsParam, s"delete from $qRelNameStr", deleteChunk),
+            jvm.Return(count.code)
+          )
+        )
 
-          case x: IdComputed.Composite =>
-            // MariaDB: (col1, col2) IN ((val1, val2), (val3, val4), ...)
-            val colNamesJoined = x.cols.toList.map(c => adapter.quoteIdent(c.dbCol.name.value)).mkString(", ")
-            val idIdent = jvm.Ident("id")
-            val fragments = jvm.Ident("fragments")
-            val encodedCols = x.cols.toList.map(c => code"$Fragment.encode(${lookupType(c)}, ${lang.prop(idIdent.code, c.name)})")
-            val commaLit = code"$Fragment.lit(${jvm.StrLit(", ")})"
-            val openParen = code"$Fragment.lit(${jvm.StrLit("(")})"
-            val closeParen = code"$Fragment.lit(${jvm.StrLit(")")})"
-            val tupleArgs = encodedCols.flatMap(e => List(commaLit, e)).drop(1)
-            val tupleExpr = code"$Fragment.interpolate($openParen, ${tupleArgs.mkCode(", ")}, $closeParen)"
-            val addStmt = lang.typeSupport.MutableListOps.add(fragments.code, tupleExpr)
-            jvm.Body.Stmts(
-              List(
-                jvm.LocalVar(fragments, Some(lang.typeSupport.MutableListOps.tpe.of(Fragment)), lang.typeSupport.MutableListOps.empty),
-                lang.arrayForEach(idsParam.name.code, idIdent, jvm.Body.Expr(addStmt)),
-                jvm.Return(
-                  code"""$Fragment.interpolate($Fragment.lit(${jvm.StrLit(
-                      s"delete from $qRelNameStr where ($colNamesJoined) in ("
-                    )}), $Fragment.comma(${collectionForComma(fragments.code)}), $Fragment.lit(${jvm.StrLit(")")})).update().runUnchecked(c)"""
-                )
-              )
-            )
-        }
+      case DbType.MariaDB | DbType.Oracle | DbType.SqlServer | DbType.DB2 =>
+        // No array parameters: one IN list per chunk of ids, see forEachInListChunk
+        val count = jvm.Ident("count")
+        val deleteChunk = (inList: jvm.Code) =>
+          code"""$count = $count + $Fragment.interpolate($Fragment.lit(${jvm.StrLit(
+              s"delete from $qRelNameStr where ${inListColumns(id)} in ("
+            )}), $inList, $Fragment.lit(${jvm.StrLit(")")})).update().runUnchecked(c)"""
+        jvm.Body.Stmts(
+          List(
+            code"var $count = 0",
+            forEachInListChunk(id, idsParam, deleteChunk),
+            jvm.Return(count.code)
+          )
+        )
+    }
+  }
 
-      case DbType.Oracle =>
-        // Oracle: Use same approach as MariaDB (IN clause)
-        id match {
-          case x: IdComputed.Unary =>
-            val colName = adapter.quoteIdent(x.col.dbName.value)
-            val idIdent = jvm.Ident("id")
-            val fragments = jvm.Ident("fragments")
-            val encodeId = code"$Fragment.encode(${lookupType(x)}, $idIdent)"
-            val addStmt = lang.typeSupport.MutableListOps.add(fragments.code, encodeId)
-            jvm.Body.Stmts(
-              List(
-                jvm.LocalVar(fragments, Some(lang.typeSupport.MutableListOps.tpe.of(Fragment)), lang.typeSupport.MutableListOps.empty),
-                lang.arrayForEach(idsParam.name.code, idIdent, jvm.Body.Expr(addStmt)),
-                jvm.Return(
-                  code"""$Fragment.interpolate($Fragment.lit(${jvm.StrLit(s"delete from $qRelNameStr where $colName in (")}), $Fragment.comma(${collectionForComma(
-                      fragments.code
-                    )}), $Fragment.lit(${jvm
-                      .StrLit(s")")})).update().runUnchecked(c)"""
-                )
-              )
-            )
+  /** The columns an IN list of ids is matched against: `col`, or `(col1, col2)` for a composite id */
+  private def inListColumns(id: IdComputed): String =
+    id match {
+      case x: IdComputed.Unary     => adapter.quoteIdent(x.col.dbName.value)
+      case x: IdComputed.Composite => x.cols.toList.map(c => adapter.quoteIdent(c.dbCol.name.value)).mkString("(", ", ", ")")
+    }
 
-          case x: IdComputed.Composite =>
-            val colNamesJoined = x.cols.toList.map(c => adapter.quoteIdent(c.dbCol.name.value)).mkString(", ")
-            val idIdent = jvm.Ident("id")
-            val fragments = jvm.Ident("fragments")
-            val encodedCols = x.cols.toList.map(c => code"$Fragment.encode(${lookupType(c)}, ${lang.prop(idIdent.code, c.name)})")
-            val commaLit = code"$Fragment.lit(${jvm.StrLit(", ")})"
-            val openParen = code"$Fragment.lit(${jvm.StrLit("(")})"
-            val closeParen = code"$Fragment.lit(${jvm.StrLit(")")})"
-            val tupleArgs = encodedCols.flatMap(e => List(commaLit, e)).drop(1)
-            val tupleExpr = code"$Fragment.interpolate($openParen, ${tupleArgs.mkCode(", ")}, $closeParen)"
-            val addStmt = lang.typeSupport.MutableListOps.add(fragments.code, tupleExpr)
-            jvm.Body.Stmts(
-              List(
-                jvm.LocalVar(fragments, Some(lang.typeSupport.MutableListOps.tpe.of(Fragment)), lang.typeSupport.MutableListOps.empty),
-                lang.arrayForEach(idsParam.name.code, idIdent, jvm.Body.Expr(addStmt)),
-                jvm.Return(
-                  code"""$Fragment.interpolate($Fragment.lit(${jvm.StrLit(
-                      s"delete from $qRelNameStr where ($colNamesJoined) in ("
-                    )}), $Fragment.comma(${collectionForComma(fragments.code)}), $Fragment.lit(${jvm.StrLit(")")})).update().runUnchecked(c)"""
-                )
-              )
-            )
+  /** Oracle's built-in collection type for ids of a single NUMBER or VARCHAR2 column, with the `OracleTypes` method which binds a list as one.
+    *
+    * Such ids are bound as one parameter, `col in (select column_value from table(cast(? as SYS.ODCINUMBERLIST)))`, so the SQL is the same
+    * for any number of ids and needs no types of its own in the schema. The collections hold at most `OracleTypes.ODCI_LIST_MAX_SIZE` ids, so
+    * longer lists take one statement per chunk of that many distinct ids.
+    */
+  private def oracleIdList(id: IdComputed): Option[(IdComputed.Unary, String, String)] =
+    id match {
+      case x: IdComputed.Unary =>
+        x.col.dbCol.tpe match {
+          case db.OracleType.Number(_, _) => Some((x, "numberList", "SYS.ODCINUMBERLIST"))
+          case db.OracleType.Varchar2(_)  => Some((x, "varchar2List", "SYS.ODCIVARCHAR2LIST"))
+          case _                          => None
         }
+      case _: IdComputed.Composite => None
+    }
 
-      case DbType.SqlServer | DbType.DB2 =>
-        // SQL Server and DB2 don't support arrays, use same approach as MariaDB with IN clause
-        id match {
-          case x: IdComputed.Unary =>
-            val colName = adapter.quoteIdent(x.col.dbName.value)
-            val idIdent = jvm.Ident("id")
-            val fragments = jvm.Ident("fragments")
-            val encodeId = code"$Fragment.encode(${lookupType(x)}, $idIdent)"
-            val addStmt = lang.typeSupport.MutableListOps.add(fragments.code, encodeId)
-            jvm.Body.Stmts(
-              List(
-                jvm.LocalVar(fragments, Some(lang.typeSupport.MutableListOps.tpe.of(Fragment)), lang.typeSupport.MutableListOps.empty),
-                lang.arrayForEach(idsParam.name.code, idIdent, jvm.Body.Expr(addStmt)),
-                jvm.Return(
-                  code"""$Fragment.interpolate($Fragment.lit(${jvm.StrLit(s"delete from $qRelNameStr where $colName in (")}), $Fragment.comma(${collectionForComma(
-                      fragments.code
-                    )}), $Fragment.lit(${jvm
-                      .StrLit(s")")})).update().runUnchecked(c)"""
-                )
-              )
-            )
+  /** Runs `statement` restricted to the ids once per chunk of at most `OracleTypes.ODCI_LIST_MAX_SIZE` distinct ids, each chunk bound as one
+    * Oracle collection, see oracleIdList
+    */
+  private def forEachOracleIdListChunk(
+      idList: (IdComputed.Unary, String, String),
+      idsParam: jvm.Param[jvm.Type],
+      statement: String,
+      run: jvm.Code => jvm.Code
+  ): jvm.Code = {
+    val (x, listMethod, collectionType) = idList
+    val chunk = jvm.Ident("chunk")
+    val maxSize = code"${adapter.Types}.ODCI_LIST_MAX_SIZE"
+    // Scala groups the array itself, as for forEachInListChunk
+    val (chunks, ids) = lang match {
+      case _: LangScala =>
+        val seqHasAsJava = jvm.Type.Qualified("scala.jdk.CollectionConverters.SeqHasAsJava")
+        (code"${idsParam.name}.distinct.grouped($maxSize)", code"${jvm.Import(seqHasAsJava, isStatic = false)}$chunk.toList.asJava")
+      case _ =>
+        (code"${FoundationsTypes.InList}.distinctChunks(${idsParam.name}, $maxSize)", chunk.code)
+    }
+    val sql = code"""$Fragment.interpolate($Fragment.lit(${jvm.StrLit(
+        s"$statement where ${adapter.quoteIdent(x.col.dbName.value)} in (select column_value from table(cast("
+      )}), $Fragment.encode(${adapter.Types}.$listMethod(${lookupType(x)}), $ids), $Fragment.lit(${jvm.StrLit(s" as $collectionType)))")}))"""
+    lang.arrayForEach(chunks, chunk, jvm.Body.Stmts(List(run(sql))))
+  }
 
-          case x: IdComputed.Composite =>
-            val colNamesJoined = x.cols.toList.map(c => adapter.quoteIdent(c.dbCol.name.value)).mkString(", ")
-            val idIdent = jvm.Ident("id")
-            val fragments = jvm.Ident("fragments")
-            val encodedCols = x.cols.toList.map(c => code"$Fragment.encode(${lookupType(c)}, ${lang.prop(idIdent.code, c.name)})")
-            val commaLit = code"$Fragment.lit(${jvm.StrLit(", ")})"
-            val openParen = code"$Fragment.lit(${jvm.StrLit("(")})"
-            val closeParen = code"$Fragment.lit(${jvm.StrLit(")")})"
-            val tupleArgs = encodedCols.flatMap(e => List(commaLit, e)).drop(1)
-            val tupleExpr = code"$Fragment.interpolate($openParen, ${tupleArgs.mkCode(", ")}, $closeParen)"
-            val addStmt = lang.typeSupport.MutableListOps.add(fragments.code, tupleExpr)
-            jvm.Body.Stmts(
-              List(
-                jvm.LocalVar(fragments, Some(lang.typeSupport.MutableListOps.tpe.of(Fragment)), lang.typeSupport.MutableListOps.empty),
-                lang.arrayForEach(idsParam.name.code, idIdent, jvm.Body.Expr(addStmt)),
-                jvm.Return(
-                  code"""$Fragment.interpolate($Fragment.lit(${jvm.StrLit(
-                      s"delete from $qRelNameStr where ($colNamesJoined) in ("
-                    )}), $Fragment.comma(${collectionForComma(fragments.code)}), $Fragment.lit(${jvm.StrLit(")")})).update().runUnchecked(c)"""
-                )
-              )
-            )
-        }
+  /** For databases without array parameters, where an IN list has one parameter per id (a `(val1, val2)` tuple for a composite id).
+    *
+    * Runs `statement` once per chunk of distinct ids, given the IN list of the chunk. Chunks are at most `InList.MAX_CHUNK` ids, padded to
+    * `InList.bucketSize` by repeating the last id, so the SQL is the same for lists of similar lengths and the statement caches are hit.
+    */
+  private def forEachInListChunk(id: IdComputed, idsParam: jvm.Param[jvm.Type], statement: jvm.Code => jvm.Code): jvm.Code = {
+    val InList = FoundationsTypes.InList
+    val chunk = jvm.Ident("chunk")
+    val idIdent = jvm.Ident("id")
+    val fragments = jvm.Ident("fragments")
+    val encodedId = id match {
+      case x: IdComputed.Unary =>
+        code"$Fragment.encode(${lookupType(x)}, $idIdent)"
+      case x: IdComputed.Composite =>
+        val encodedCols = x.cols.toList.map(c => code"$Fragment.encode(${lookupType(c)}, ${lang.prop(idIdent.code, c.name)})")
+        val commaLit = code"$Fragment.lit(${jvm.StrLit(", ")})"
+        val openParen = code"$Fragment.lit(${jvm.StrLit("(")})"
+        val closeParen = code"$Fragment.lit(${jvm.StrLit(")")})"
+        val tupleArgs = encodedCols.flatMap(e => List(commaLit, e)).drop(1)
+        code"$Fragment.interpolate($openParen, ${tupleArgs.mkCode(", ")}, $closeParen)"
     }
+    // Scala sees the generic array of InList.chunks as Array[T & Object], which value class ids are not
+    val (chunks, paddedChunk) = lang match {
+      case _: LangScala =>
+        (code"${idsParam.name}.distinct.grouped($InList.MAX_CHUNK)", code"$chunk.padTo($InList.bucketSize($chunk.length), $chunk.last)")
+      case _ =>
+        (code"$InList.chunks(${idsParam.name})", chunk.code)
+    }
+    lang.arrayForEach(
+      chunks,
+      chunk,
+      jvm.Body.Stmts(
+        List(
+          jvm.LocalVar(fragments, Some(lang.typeSupport.MutableListOps.tpe.of(Fragment)), lang.typeSupport.MutableListOps.empty),
+          lang.arrayForEach(paddedChunk, idIdent, jvm.Body.Expr(lang.typeSupport.MutableListOps.add(fragments.code, encodedId))),
+          statement(code"$Fragment.comma(${collectionForComma(fragments.code)})")
+        )
+      )
+    )
   }
 
   override def repoSig(repoMethod: RepoMethod): Right[Nothing, jvm.Method] = {
@@ -781,6 +658,9 @@ class DbLibFoundations(
         sig(params = List(id.param, varargs), implicitParams = List(c), returnType = lang.Boolean)
       case RepoMethod.Update(_, _, _, param, _) =>
         sig(params = List(param), implicitParams = List(c), returnType = lang.Boolean)
+      case RepoMethod.UpdateBatch(_, _, _, rowType, _) =>
+        val rows = jvm.Param(jvm.Ident("rows"), lang.IteratorType.of(rowType))
+        sig(params = List(rows), implicitParams = List(c), returnType = lang.Int)
       case RepoMethod.Insert(_, _, _, unsavedParam, _, returningStrategy) =>
         sig(params = List(unsavedParam), implicitParams = List(c), returnType = returningStrategy.returnType)
       case RepoMethod.InsertStreaming(_, rowType, _) =>
@@ -966,6 +846,18 @@ class DbLibFoundations(
             jvm.Return(code"$sql.update().runUnchecked(c) > 0")
           )
         )
+      case RepoMethod.UpdateBatch(_, _, _, _, writeableColumnsNotId) =>
+        val f = jvm.Ident("f")
+        val fields = jvm.Lambda(f, lang.ListType.create(writeableColumnsNotId.toList.map(col => lang.nullaryMethodCall(f.code, col.name))))
+        val updateManyCall = lang match {
+          case _: LangScala => code"update.updateMany"
+          case _            => code"update().updateMany"
+        }
+        // The Java DSL takes the connection as a plain argument, also when called from Scala
+        val call =
+          if (lang.dsl == DslQualifiedNames.Scala) jvm.Call.withImplicits(updateManyCall, List(jvm.Arg.Pos(code"rows"), jvm.Arg.Pos(fields.code)), List(jvm.Arg.Pos(c.name.code)))
+          else jvm.Call.withImplicits(updateManyCall, List(jvm.Arg.Pos(code"rows"), jvm.Arg.Pos(fields.code), jvm.Arg.Pos(c.name.code)), Nil)
+        jvm.Body.Expr(call.code)
 
       case RepoMethod.Insert(relName, cols, _, unsavedParam, writeableColumnsWithId, returningStrategy) =>
         val rowType = returningStrategy.returnType
@@ -1095,6 +987,9 @@ class DbLibFoundations(
 
         upsertStrategy match {
           case UpsertStrategy.NotSupported =>
+            // Oracle merges one row per batch entry rather than a collection of rows: the built-in collections (see oracleIdList)
+            // hold a single NUMBER or VARCHAR2, and a collection of rows needs an object type and a table type created in the schema.
+            // The batch is still sent in one round trip.
             val sql = SQL {
               adapter.upsertSql(
                 tableName = quotedRelName(relName),
@@ -1530,6 +1425,40 @@ class DbLibFoundations(
             jvm.Return(shouldUpdateVar)
           )
         )
+      case RepoMethod.UpdateBatch(_, localId, _, _, _) =>
+        val rowVar = jvm.Ident("row")
+        val rowIdAccess = idAccessOnRow(rowVar.code, localId)
+        // Like the database, count the rows which exist, whether or not they change, and a row given
+        // more than once only once
+        if (usesScalaTypes) {
+          jvm.Body.Expr(
+            code"""|rows.flatMap { $rowVar =>
+                   |  if (${lang.MapOps.contains(mapCode, rowIdAccess)}) {
+                   |    ${lang.MapOps.putVoid(mapCode, rowIdAccess, rowVar.code)}
+                   |    Some($rowIdAccess)
+                   |  } else None
+                   |}.toSet.size""".stripMargin
+          )
+        } else {
+          val updatedVar = jvm.Ident("updated")
+          val ifBody = code"""|${lang.MapOps.putVoid(mapCode, rowIdAccess, rowVar.code)}${lang.`;`}
+                              |${jvm.IgnoreResult(code"$updatedVar.add($rowIdAccess)").code}${lang.`;`}""".stripMargin
+          val whileBody: List[jvm.Code] = List(
+            jvm.LocalVar(rowVar, None, code"rows.next()").code,
+            jvm.If(lang.MapOps.contains(mapCode, rowIdAccess), ifBody).code
+          )
+          val updatedSize = lang match {
+            case _: LangKotlin => code"$updatedVar.size"
+            case _             => code"$updatedVar.size()"
+          }
+          jvm.Body.Stmts(
+            List(
+              jvm.LocalVar(updatedVar, None, jvm.New(TypesJava.HashSet.of(localId.tpe), Nil).code).code,
+              jvm.While(code"rows.hasNext()", whileBody).code,
+              jvm.Return(updatedSize)
+            )
+          )
+        }
       case RepoMethod.Insert(_, _, _, unsavedParam, _, returningStrategy) =>
         val unsavedIdAccess = idAccess(unsavedParam.name.code)
         val throwStmt = jvm.Throw(TypesJava.RuntimeException.construct(lang.s(code"id ${rt(unsavedIdAccess)} already exists")))
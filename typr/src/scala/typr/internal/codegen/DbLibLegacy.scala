@@ -11,6 +11,9 @@ trait DbLibLegacy extends DbLib {
   /** Legacy DSLs need constAs expressions for generateCompositeIn */
   override def needsConstAsForCompositeIn: Boolean = true
 
+  /** Legacy DSLs have no UpdateBuilder.updateMany */
+  override def supportsUpdateBatch: Boolean = false
+
   private val CompositeIn = jvm.Type.Qualified("typr.dsl.SqlExpr.CompositeIn")
   private val CompositeTuplePart = jvm.Type.Qualified("typr.dsl.SqlExpr.CompositeIn.TuplePart")
 
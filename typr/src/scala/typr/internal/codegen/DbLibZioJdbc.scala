@@ -234,6 +234,8 @@ class DbLibZioJdbc(pkg: jvm.QIdent, inlineImplicits: Boolean, dslEnabled: Boolea
         sig(params = List(id.param, varargs), returnType = ZIO.of(ZConnection, Throwable, TypesScala.Boolean))
       case RepoMethod.Update(_, _, _, param, _) =>
         sig(params = List(param), returnType = ZIO.of(ZConnection, Throwable, TypesScala.Option.of(param.tpe)))
+      case RepoMethod.UpdateBatch(_, _, _, _, _) =>
+        Left(DbLib.NotImplementedFor(repoMethod, "zio-jdbc"))
       case RepoMethod.Insert(_, _, _, unsavedParam, _, returningStrategy) =>
         sig(params = List(unsavedParam), returnType = ZIO.of(ZConnection, Throwable, returningStrategy.returnType))
       case RepoMethod.InsertUnsaved(_, _, _, unsavedParam, _, _, returningStrategy) =>
@@ -523,6 +525,9 @@ class DbLibZioJdbc(pkg: jvm.QIdent, inlineImplicits: Boolean, dslEnabled: Boolea
             jvm.Body.Expr(code"$sql.delete")
         }
 
+      case RepoMethod.UpdateBatch(_, _, _, _, _) =>
+        // not generated, see supportsUpdateBatch
+        jvm.Body.Expr(code"???")
       case RepoMethod.SqlFile(sqlScript) =>
         val renderedScript: jvm.Code = sqlScript.sqlFile.decomposedSql.renderCode { (paramAtIndex: Int) =>
           val param = sqlScript.params.find(_.indices.contains(paramAtIndex)).get
@@ -668,6 +673,9 @@ class DbLibZioJdbc(pkg: jvm.QIdent, inlineImplicits: Boolean, dslEnabled: Boolea
                |    acc + 1
                |  }
                |}.runLast.map(_.getOrElse(0L))""".stripMargin)
+      case RepoMethod.UpdateBatch(_, _, _, _, _) =>
+        // not generated, see supportsUpdateBatch
+        jvm.Body.Expr(code"???")
       case RepoMethod.SqlFile(_) =>
         // should not happen (tm)
         jvm.Body.Expr(code"???")
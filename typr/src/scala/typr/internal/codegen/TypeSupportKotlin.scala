@@ -183,5 +183,11 @@ object TypeSupportKotlin extends TypeSupport {
 
     def add(list: jvm.Code, element: jvm.Code): jvm.Code =
       code"$list.add($element)"
+
+    def addAll(list: jvm.Code, elements: jvm.Code): jvm.Code =
+      code"$list.addAll($elements)"
+
+    def toList(list: jvm.Code): jvm.Code =
+      list
   }
 }